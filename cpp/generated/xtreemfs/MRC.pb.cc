@@ -181,6 +181,21 @@ const ::google::protobuf::internal::GeneratedMessageReflection*
 const ::google::protobuf::Descriptor* xtreemfs_get_file_credentialsRequest_descriptor_ = NULL;
 const ::google::protobuf::internal::GeneratedMessageReflection*
   xtreemfs_get_file_credentialsRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_create_filesRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_create_filesRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_stat_filesRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_stat_filesRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_unlink_filesRequest_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_unlink_filesRequest_reflection_ = NULL;
+const ::google::protobuf::Descriptor* BatchResult_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  BatchResult_reflection_ = NULL;
+const ::google::protobuf::Descriptor* xtreemfs_batchResponse_descriptor_ = NULL;
+const ::google::protobuf::internal::GeneratedMessageReflection*
+  xtreemfs_batchResponse_reflection_ = NULL;
 const ::google::protobuf::EnumDescriptor* Setattrs_descriptor_ = NULL;
 const ::google::protobuf::EnumDescriptor* XATTR_FLAGS_descriptor_ = NULL;
 const ::google::protobuf::EnumDescriptor* ACCESS_FLAGS_descriptor_ = NULL;
@@ -1098,6 +1113,92 @@ void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto() {
       ::google::protobuf::DescriptorPool::generated_pool(),
       ::google::protobuf::MessageFactory::generated_factory(),
       sizeof(xtreemfs_get_file_credentialsRequest));
+  xtreemfs_create_filesRequest_descriptor_ = file->message_type(53);
+  static const int xtreemfs_create_filesRequest_offsets_[6] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, volume_name_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, path_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, names_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, mode_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, attributes_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, coordinates_),
+  };
+  xtreemfs_create_filesRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_create_filesRequest_descriptor_,
+      xtreemfs_create_filesRequest::default_instance_,
+      xtreemfs_create_filesRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_create_filesRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_create_filesRequest));
+  xtreemfs_stat_filesRequest_descriptor_ = file->message_type(54);
+  static const int xtreemfs_stat_filesRequest_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_stat_filesRequest, volume_name_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_stat_filesRequest, paths_),
+  };
+  xtreemfs_stat_filesRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_stat_filesRequest_descriptor_,
+      xtreemfs_stat_filesRequest::default_instance_,
+      xtreemfs_stat_filesRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_stat_filesRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_stat_filesRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_stat_filesRequest));
+  xtreemfs_unlink_filesRequest_descriptor_ = file->message_type(55);
+  static const int xtreemfs_unlink_filesRequest_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_unlink_filesRequest, volume_name_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_unlink_filesRequest, paths_),
+  };
+  xtreemfs_unlink_filesRequest_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_unlink_filesRequest_descriptor_,
+      xtreemfs_unlink_filesRequest::default_instance_,
+      xtreemfs_unlink_filesRequest_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_unlink_filesRequest, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_unlink_filesRequest, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_unlink_filesRequest));
+  BatchResult_descriptor_ = file->message_type(56);
+  static const int BatchResult_offsets_[4] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BatchResult, posix_errno_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BatchResult, error_message_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BatchResult, stbuf_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BatchResult, creds_),
+  };
+  BatchResult_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      BatchResult_descriptor_,
+      BatchResult::default_instance_,
+      BatchResult_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BatchResult, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(BatchResult, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(BatchResult));
+  xtreemfs_batchResponse_descriptor_ = file->message_type(57);
+  static const int xtreemfs_batchResponse_offsets_[2] = {
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_batchResponse, results_),
+    GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_batchResponse, timestamp_s_),
+  };
+  xtreemfs_batchResponse_reflection_ =
+    new ::google::protobuf::internal::GeneratedMessageReflection(
+      xtreemfs_batchResponse_descriptor_,
+      xtreemfs_batchResponse::default_instance_,
+      xtreemfs_batchResponse_offsets_,
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_batchResponse, _has_bits_[0]),
+      GOOGLE_PROTOBUF_GENERATED_MESSAGE_FIELD_OFFSET(xtreemfs_batchResponse, _unknown_fields_),
+      -1,
+      ::google::protobuf::DescriptorPool::generated_pool(),
+      ::google::protobuf::MessageFactory::generated_factory(),
+      sizeof(xtreemfs_batchResponse));
   Setattrs_descriptor_ = file->enum_type(0);
   XATTR_FLAGS_descriptor_ = file->enum_type(1);
   ACCESS_FLAGS_descriptor_ = file->enum_type(2);
@@ -1219,6 +1320,16 @@ void protobuf_RegisterTypes(const ::std::string&) {
     xtreemfs_set_read_only_xattrResponse_descriptor_, &xtreemfs_set_read_only_xattrResponse::default_instance());
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
     xtreemfs_get_file_credentialsRequest_descriptor_, &xtreemfs_get_file_credentialsRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_create_filesRequest_descriptor_, &xtreemfs_create_filesRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_stat_filesRequest_descriptor_, &xtreemfs_stat_filesRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_unlink_filesRequest_descriptor_, &xtreemfs_unlink_filesRequest::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    BatchResult_descriptor_, &BatchResult::default_instance());
+  ::google::protobuf::MessageFactory::InternalRegisterGeneratedMessage(
+    xtreemfs_batchResponse_descriptor_, &xtreemfs_batchResponse::default_instance());
 }
 
 }  // namespace
@@ -1330,6 +1441,16 @@ void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto() {
   delete xtreemfs_set_read_only_xattrResponse_reflection_;
   delete xtreemfs_get_file_credentialsRequest::default_instance_;
   delete xtreemfs_get_file_credentialsRequest_reflection_;
+  delete xtreemfs_create_filesRequest::default_instance_;
+  delete xtreemfs_create_filesRequest_reflection_;
+  delete xtreemfs_stat_filesRequest::default_instance_;
+  delete xtreemfs_stat_filesRequest_reflection_;
+  delete xtreemfs_unlink_filesRequest::default_instance_;
+  delete xtreemfs_unlink_filesRequest_reflection_;
+  delete BatchResult::default_instance_;
+  delete BatchResult_reflection_;
+  delete xtreemfs_batchResponse::default_instance_;
+  delete xtreemfs_batchResponse_reflection_;
 }
 
 void protobuf_AddDesc_xtreemfs_2fMRC_2eproto() {
@@ -1469,119 +1590,142 @@ void protobuf_AddDesc_xtreemfs_2fMRC_2eproto() {
     "le_id\030\001 \002(\t\022\r\n\005value\030\002 \002(\010\"7\n$xtreemfs_s"
     "et_read_only_xattrResponse\022\017\n\007was_set\030\001 "
     "\002(\010\"7\n$xtreemfs_get_file_credentialsRequ"
-    "est\022\017\n\007file_id\030\001 \002(\t*\242\001\n\010Setattrs\022\020\n\014SET"
-    "ATTR_MODE\020\001\022\017\n\013SETATTR_UID\020\002\022\017\n\013SETATTR_"
-    "GID\020\004\022\020\n\014SETATTR_SIZE\020\010\022\021\n\rSETATTR_ATIME"
-    "\020\020\022\021\n\rSETATTR_MTIME\020 \022\021\n\rSETATTR_CTIME\020@"
-    "\022\027\n\022SETATTR_ATTRIBUTES\020\200\001*>\n\013XATTR_FLAGS"
-    "\022\026\n\022XATTR_FLAGS_CREATE\020\001\022\027\n\023XATTR_FLAGS_"
-    "REPLACE\020\002*j\n\014ACCESS_FLAGS\022\025\n\021ACCESS_FLAG"
-    "S_F_OK\020\000\022\025\n\021ACCESS_FLAGS_X_OK\020\001\022\025\n\021ACCES"
-    "S_FLAGS_W_OK\020\002\022\025\n\021ACCESS_FLAGS_R_OK\020\0042\203 "
-    "\n\nMRCService\022S\n\010fsetattr\022\037.xtreemfs.pbrp"
-    "c.fsetattrRequest\032\035.xtreemfs.pbrpc.empty"
-    "Response\"\007\215\265\030\002\000\000\000\022@\n\tftruncate\022\024.xtreemf"
-    "s.pbrpc.XCap\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030\003"
-    "\000\000\000\022S\n\007getattr\022\036.xtreemfs.pbrpc.getattrR"
-    "equest\032\037.xtreemfs.pbrpc.getattrResponse\""
-    "\007\215\265\030\004\000\000\000\022V\n\010getxattr\022\037.xtreemfs.pbrpc.ge"
-    "txattrRequest\032 .xtreemfs.pbrpc.getxattrR"
-    "esponse\"\007\215\265\030\005\000\000\000\022O\n\004link\022\033.xtreemfs.pbrp"
-    "c.linkRequest\032!.xtreemfs.pbrpc.timestamp"
-    "Response\"\007\215\265\030\006\000\000\000\022Y\n\tlistxattr\022 .xtreemf"
-    "s.pbrpc.listxattrRequest\032!.xtreemfs.pbrp"
-    "c.listxattrResponse\"\007\215\265\030\007\000\000\000\022Q\n\005mkdir\022\034."
-    "xtreemfs.pbrpc.mkdirRequest\032!.xtreemfs.p"
-    "brpc.timestampResponse\"\007\215\265\030\010\000\000\000\022J\n\004open\022"
-    "\033.xtreemfs.pbrpc.openRequest\032\034.xtreemfs."
-    "pbrpc.openResponse\"\007\215\265\030\t\000\000\000\022T\n\007readdir\022\036"
-    ".xtreemfs.pbrpc.readdirRequest\032 .xtreemf"
-    "s.pbrpc.DirectoryEntries\"\007\215\265\030\n\000\000\000\022V\n\010rea"
-    "dlink\022\037.xtreemfs.pbrpc.readlinkRequest\032 "
-    ".xtreemfs.pbrpc.readlinkResponse\"\007\215\265\030\013\000\000"
-    "\000\022]\n\013removexattr\022\".xtreemfs.pbrpc.remove"
-    "xattrRequest\032!.xtreemfs.pbrpc.timestampR"
-    "esponse\"\007\215\265\030\014\000\000\000\022P\n\006rename\022\035.xtreemfs.pb"
-    "rpc.renameRequest\032\036.xtreemfs.pbrpc.renam"
-    "eResponse\"\007\215\265\030\r\000\000\000\022Q\n\005rmdir\022\034.xtreemfs.p"
-    "brpc.rmdirRequest\032!.xtreemfs.pbrpc.times"
-    "tampResponse\"\007\215\265\030\016\000\000\000\022U\n\007setattr\022\036.xtree"
-    "mfs.pbrpc.setattrRequest\032!.xtreemfs.pbrp"
-    "c.timestampResponse\"\007\215\265\030\017\000\000\000\022W\n\010setxattr"
-    "\022\037.xtreemfs.pbrpc.setxattrRequest\032!.xtre"
-    "emfs.pbrpc.timestampResponse\"\007\215\265\030\020\000\000\000\022K\n"
-    "\007statvfs\022\036.xtreemfs.pbrpc.statvfsRequest"
-    "\032\027.xtreemfs.pbrpc.StatVFS\"\007\215\265\030\021\000\000\000\022U\n\007sy"
-    "mlink\022\036.xtreemfs.pbrpc.symlinkRequest\032!."
-    "xtreemfs.pbrpc.timestampResponse\"\007\215\265\030\022\000\000"
-    "\000\022P\n\006unlink\022\035.xtreemfs.pbrpc.unlinkReque"
-    "st\032\036.xtreemfs.pbrpc.unlinkResponse\"\007\215\265\030\023"
-    "\000\000\000\022O\n\006access\022\035.xtreemfs.pbrpc.accessReq"
-    "uest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030"
-    "\024\000\000\000\022[\n\023xtreemfs_checkpoint\022\034.xtreemfs.p"
-    "brpc.emptyRequest\032\035.xtreemfs.pbrpc.empty"
-    "Response\"\007\215\265\030\036\000\000\000\022\214\001\n\032xtreemfs_check_fil"
-    "e_exists\0221.xtreemfs.pbrpc.xtreemfs_check"
-    "_file_existsRequest\0322.xtreemfs.pbrpc.xtr"
-    "eemfs_check_file_existsResponse\"\007\215\265\030\037\000\000\000"
-    "\022w\n\026xtreemfs_dump_database\0225.xtreemfs.pb"
-    "rpc.xtreemfs_dump_restore_databaseReques"
-    "t\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030 \000\000"
-    "\000\022\214\001\n\032xtreemfs_get_suitable_osds\0221.xtree"
-    "mfs.pbrpc.xtreemfs_get_suitable_osdsRequ"
-    "est\0322.xtreemfs.pbrpc.xtreemfs_get_suitab"
-    "le_osdsResponse\"\007\215\265\030!\000\000\000\022`\n\027xtreemfs_int"
-    "ernal_debug\022\035.xtreemfs.pbrpc.stringMessa"
-    "ge\032\035.xtreemfs.pbrpc.stringMessage\"\007\215\265\030\"\000"
-    "\000\000\022n\n\020xtreemfs_listdir\022\'.xtreemfs.pbrpc."
-    "xtreemfs_listdirRequest\032(.xtreemfs.pbrpc"
-    ".xtreemfs_listdirResponse\"\007\215\265\030#\000\000\000\022P\n\016xt"
-    "reemfs_lsvol\022\034.xtreemfs.pbrpc.emptyReque"
-    "st\032\027.xtreemfs.pbrpc.Volumes\"\007\215\265\030$\000\000\000\022P\n\016"
-    "xtreemfs_mkvol\022\026.xtreemfs.pbrpc.Volume\032\035"
-    ".xtreemfs.pbrpc.emptyResponse\"\007\215\265\030/\000\000\000\022P"
-    "\n\031xtreemfs_renew_capability\022\024.xtreemfs.p"
-    "brpc.XCap\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030%\000\000\000"
-    "\022f\n\036xtreemfs_replication_to_master\022\034.xtr"
-    "eemfs.pbrpc.emptyRequest\032\035.xtreemfs.pbrp"
-    "c.emptyResponse\"\007\215\265\030&\000\000\000\022k\n\024xtreemfs_rep"
-    "lica_add\022+.xtreemfs.pbrpc.xtreemfs_repli"
-    "ca_addRequest\032\035.xtreemfs.pbrpc.emptyResp"
-    "onse\"\007\215\265\030\'\000\000\000\022h\n\025xtreemfs_replica_list\022,"
-    ".xtreemfs.pbrpc.xtreemfs_replica_listReq"
-    "uest\032\030.xtreemfs.pbrpc.Replicas\"\007\215\265\030(\000\000\000\022"
-    "s\n\027xtreemfs_replica_remove\022..xtreemfs.pb"
-    "rpc.xtreemfs_replica_removeRequest\032\037.xtr"
-    "eemfs.pbrpc.FileCredentials\"\007\215\265\030)\000\000\000\022z\n\031"
-    "xtreemfs_restore_database\0225.xtreemfs.pbr"
-    "pc.xtreemfs_dump_restore_databaseRequest"
-    "\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030*\000\000\000"
-    "\022m\n\025xtreemfs_restore_file\022,.xtreemfs.pbr"
-    "pc.xtreemfs_restore_fileRequest\032\035.xtreem"
-    "fs.pbrpc.emptyResponse\"\007\215\265\030+\000\000\000\022_\n\016xtree"
-    "mfs_rmvol\022%.xtreemfs.pbrpc.xtreemfs_rmvo"
-    "lRequest\032\035.xtreemfs.pbrpc.emptyResponse\""
-    "\007\215\265\030,\000\000\000\022Y\n\021xtreemfs_shutdown\022\034.xtreemfs"
-    ".pbrpc.emptyRequest\032\035.xtreemfs.pbrpc.emp"
-    "tyResponse\"\007\215\265\030-\000\000\000\022y\n\031xtreemfs_update_f"
-    "ile_size\0220.xtreemfs.pbrpc.xtreemfs_updat"
-    "e_file_sizeRequest\032!.xtreemfs.pbrpc.time"
-    "stampResponse\"\007\215\265\030.\000\000\000\022\244\001\n\"xtreemfs_set_"
-    "replica_update_policy\0229.xtreemfs.pbrpc.x"
-    "treemfs_set_replica_update_policyRequest"
-    "\032:.xtreemfs.pbrpc.xtreemfs_set_replica_u"
-    "pdate_policyResponse\"\007\215\265\0300\000\000\000\022\222\001\n\034xtreem"
-    "fs_set_read_only_xattr\0223.xtreemfs.pbrpc."
-    "xtreemfs_set_read_only_xattrRequest\0324.xt"
-    "reemfs.pbrpc.xtreemfs_set_read_only_xatt"
-    "rResponse\"\007\215\265\0301\000\000\000\022\177\n\035xtreemfs_get_file_"
-    "credentials\0224.xtreemfs.pbrpc.xtreemfs_ge"
-    "t_file_credentialsRequest\032\037.xtreemfs.pbr"
-    "pc.FileCredentials\"\007\215\265\0302\000\000\000\022e\n\024xtreemfs_"
-    "get_xlocset\022+.xtreemfs.pbrpc.xtreemfs_ge"
-    "t_xlocsetRequest\032\027.xtreemfs.pbrpc.XLocSe"
-    "t\"\007\215\265\0303\000\000\000\032\007\225\265\030!N\000\000B(\n&org.xtreemfs.pbrp"
-    "c.generatedinterfaces", 9581);
+    "est\022\017\n\007file_id\030\001 \002(\t\"\253\001\n\034xtreemfs_create"
+    "_filesRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004pa"
+    "th\030\002 \002(\t\022\r\n\005names\030\003 \003(\t\022\014\n\004mode\030\004 \002(\007\022\022\n"
+    "\nattributes\030\005 \002(\007\0227\n\013coordinates\030\006 \001(\0132\""
+    ".xtreemfs.pbrpc.VivaldiCoordinates\"@\n\032xt"
+    "reemfs_stat_filesRequest\022\023\n\013volume_name\030"
+    "\001 \002(\t\022\r\n\005paths\030\002 \003(\t\"B\n\034xtreemfs_unlink_"
+    "filesRequest\022\023\n\013volume_name\030\001 \002(\t\022\r\n\005pat"
+    "hs\030\002 \003(\t\"\216\001\n\013BatchResult\022\023\n\013posix_errno\030"
+    "\001 \001(\007\022\025\n\rerror_message\030\002 \001(\t\022#\n\005stbuf\030\003 "
+    "\001(\0132\024.xtreemfs.pbrpc.Stat\022.\n\005creds\030\004 \001(\013"
+    "2\037.xtreemfs.pbrpc.FileCredentials\"[\n\026xtr"
+    "eemfs_batchResponse\022,\n\007results\030\001 \003(\0132\033.x"
+    "treemfs.pbrpc.BatchResult\022\023\n\013timestamp_s"
+    "\030\002 \002(\007*\242\001\n\010Setattrs\022\020\n\014SETATTR_MODE\020\001\022\017\n"
+    "\013SETATTR_UID\020\002\022\017\n\013SETATTR_GID\020\004\022\020\n\014SETAT"
+    "TR_SIZE\020\010\022\021\n\rSETATTR_ATIME\020\020\022\021\n\rSETATTR_"
+    "MTIME\020 \022\021\n\rSETATTR_CTIME\020@\022\027\n\022SETATTR_AT"
+    "TRIBUTES\020\200\001*>\n\013XATTR_FLAGS\022\026\n\022XATTR_FLAG"
+    "S_CREATE\020\001\022\027\n\023XATTR_FLAGS_REPLACE\020\002*j\n\014A"
+    "CCESS_FLAGS\022\025\n\021ACCESS_FLAGS_F_OK\020\000\022\025\n\021AC"
+    "CESS_FLAGS_X_OK\020\001\022\025\n\021ACCESS_FLAGS_W_OK\020\002"
+    "\022\025\n\021ACCESS_FLAGS_R_OK\020\0042\347\"\n\nMRCService\022S"
+    "\n\010fsetattr\022\037.xtreemfs.pbrpc.fsetattrRequ"
+    "est\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\002"
+    "\000\000\000\022@\n\tftruncate\022\024.xtreemfs.pbrpc.XCap\032\024"
+    ".xtreemfs.pbrpc.XCap\"\007\215\265\030\003\000\000\000\022S\n\007getattr"
+    "\022\036.xtreemfs.pbrpc.getattrRequest\032\037.xtree"
+    "mfs.pbrpc.getattrResponse\"\007\215\265\030\004\000\000\000\022V\n\010ge"
+    "txattr\022\037.xtreemfs.pbrpc.getxattrRequest\032"
+    " .xtreemfs.pbrpc.getxattrResponse\"\007\215\265\030\005\000"
+    "\000\000\022O\n\004link\022\033.xtreemfs.pbrpc.linkRequest\032"
+    "!.xtreemfs.pbrpc.timestampResponse\"\007\215\265\030\006"
+    "\000\000\000\022Y\n\tlistxattr\022 .xtreemfs.pbrpc.listxa"
+    "ttrRequest\032!.xtreemfs.pbrpc.listxattrRes"
+    "ponse\"\007\215\265\030\007\000\000\000\022Q\n\005mkdir\022\034.xtreemfs.pbrpc"
+    ".mkdirRequest\032!.xtreemfs.pbrpc.timestamp"
+    "Response\"\007\215\265\030\010\000\000\000\022J\n\004open\022\033.xtreemfs.pbr"
+    "pc.openRequest\032\034.xtreemfs.pbrpc.openResp"
+    "onse\"\007\215\265\030\t\000\000\000\022T\n\007readdir\022\036.xtreemfs.pbrp"
+    "c.readdirRequest\032 .xtreemfs.pbrpc.Direct"
+    "oryEntries\"\007\215\265\030\n\000\000\000\022V\n\010readlink\022\037.xtreem"
+    "fs.pbrpc.readlinkRequest\032 .xtreemfs.pbrp"
+    "c.readlinkResponse\"\007\215\265\030\013\000\000\000\022]\n\013removexat"
+    "tr\022\".xtreemfs.pbrpc.removexattrRequest\032!"
+    ".xtreemfs.pbrpc.timestampResponse\"\007\215\265\030\014\000"
+    "\000\000\022P\n\006rename\022\035.xtreemfs.pbrpc.renameRequ"
+    "est\032\036.xtreemfs.pbrpc.renameResponse\"\007\215\265\030"
+    "\r\000\000\000\022Q\n\005rmdir\022\034.xtreemfs.pbrpc.rmdirRequ"
+    "est\032!.xtreemfs.pbrpc.timestampResponse\"\007"
+    "\215\265\030\016\000\000\000\022U\n\007setattr\022\036.xtreemfs.pbrpc.seta"
+    "ttrRequest\032!.xtreemfs.pbrpc.timestampRes"
+    "ponse\"\007\215\265\030\017\000\000\000\022W\n\010setxattr\022\037.xtreemfs.pb"
+    "rpc.setxattrRequest\032!.xtreemfs.pbrpc.tim"
+    "estampResponse\"\007\215\265\030\020\000\000\000\022K\n\007statvfs\022\036.xtr"
+    "eemfs.pbrpc.statvfsRequest\032\027.xtreemfs.pb"
+    "rpc.StatVFS\"\007\215\265\030\021\000\000\000\022U\n\007symlink\022\036.xtreem"
+    "fs.pbrpc.symlinkRequest\032!.xtreemfs.pbrpc"
+    ".timestampResponse\"\007\215\265\030\022\000\000\000\022P\n\006unlink\022\035."
+    "xtreemfs.pbrpc.unlinkRequest\032\036.xtreemfs."
+    "pbrpc.unlinkResponse\"\007\215\265\030\023\000\000\000\022O\n\006access\022"
+    "\035.xtreemfs.pbrpc.accessRequest\032\035.xtreemf"
+    "s.pbrpc.emptyResponse\"\007\215\265\030\024\000\000\000\022[\n\023xtreem"
+    "fs_checkpoint\022\034.xtreemfs.pbrpc.emptyRequ"
+    "est\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\036"
+    "\000\000\000\022\214\001\n\032xtreemfs_check_file_exists\0221.xtr"
+    "eemfs.pbrpc.xtreemfs_check_file_existsRe"
+    "quest\0322.xtreemfs.pbrpc.xtreemfs_check_fi"
+    "le_existsResponse\"\007\215\265\030\037\000\000\000\022w\n\026xtreemfs_d"
+    "ump_database\0225.xtreemfs.pbrpc.xtreemfs_d"
+    "ump_restore_databaseRequest\032\035.xtreemfs.p"
+    "brpc.emptyResponse\"\007\215\265\030 \000\000\000\022\214\001\n\032xtreemfs"
+    "_get_suitable_osds\0221.xtreemfs.pbrpc.xtre"
+    "emfs_get_suitable_osdsRequest\0322.xtreemfs"
+    ".pbrpc.xtreemfs_get_suitable_osdsRespons"
+    "e\"\007\215\265\030!\000\000\000\022`\n\027xtreemfs_internal_debug\022\035."
+    "xtreemfs.pbrpc.stringMessage\032\035.xtreemfs."
+    "pbrpc.stringMessage\"\007\215\265\030\"\000\000\000\022n\n\020xtreemfs"
+    "_listdir\022\'.xtreemfs.pbrpc.xtreemfs_listd"
+    "irRequest\032(.xtreemfs.pbrpc.xtreemfs_list"
+    "dirResponse\"\007\215\265\030#\000\000\000\022P\n\016xtreemfs_lsvol\022\034"
+    ".xtreemfs.pbrpc.emptyRequest\032\027.xtreemfs."
+    "pbrpc.Volumes\"\007\215\265\030$\000\000\000\022P\n\016xtreemfs_mkvol"
+    "\022\026.xtreemfs.pbrpc.Volume\032\035.xtreemfs.pbrp"
+    "c.emptyResponse\"\007\215\265\030/\000\000\000\022P\n\031xtreemfs_ren"
+    "ew_capability\022\024.xtreemfs.pbrpc.XCap\032\024.xt"
+    "reemfs.pbrpc.XCap\"\007\215\265\030%\000\000\000\022f\n\036xtreemfs_r"
+    "eplication_to_master\022\034.xtreemfs.pbrpc.em"
+    "ptyRequest\032\035.xtreemfs.pbrpc.emptyRespons"
+    "e\"\007\215\265\030&\000\000\000\022k\n\024xtreemfs_replica_add\022+.xtr"
+    "eemfs.pbrpc.xtreemfs_replica_addRequest\032"
+    "\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\'\000\000\000\022"
+    "h\n\025xtreemfs_replica_list\022,.xtreemfs.pbrp"
+    "c.xtreemfs_replica_listRequest\032\030.xtreemf"
+    "s.pbrpc.Replicas\"\007\215\265\030(\000\000\000\022s\n\027xtreemfs_re"
+    "plica_remove\022..xtreemfs.pbrpc.xtreemfs_r"
+    "eplica_removeRequest\032\037.xtreemfs.pbrpc.Fi"
+    "leCredentials\"\007\215\265\030)\000\000\000\022z\n\031xtreemfs_resto"
+    "re_database\0225.xtreemfs.pbrpc.xtreemfs_du"
+    "mp_restore_databaseRequest\032\035.xtreemfs.pb"
+    "rpc.emptyResponse\"\007\215\265\030*\000\000\000\022m\n\025xtreemfs_r"
+    "estore_file\022,.xtreemfs.pbrpc.xtreemfs_re"
+    "store_fileRequest\032\035.xtreemfs.pbrpc.empty"
+    "Response\"\007\215\265\030+\000\000\000\022_\n\016xtreemfs_rmvol\022%.xt"
+    "reemfs.pbrpc.xtreemfs_rmvolRequest\032\035.xtr"
+    "eemfs.pbrpc.emptyResponse\"\007\215\265\030,\000\000\000\022Y\n\021xt"
+    "reemfs_shutdown\022\034.xtreemfs.pbrpc.emptyRe"
+    "quest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265"
+    "\030-\000\000\000\022y\n\031xtreemfs_update_file_size\0220.xtr"
+    "eemfs.pbrpc.xtreemfs_update_file_sizeReq"
+    "uest\032!.xtreemfs.pbrpc.timestampResponse\""
+    "\007\215\265\030.\000\000\000\022\244\001\n\"xtreemfs_set_replica_update"
+    "_policy\0229.xtreemfs.pbrpc.xtreemfs_set_re"
+    "plica_update_policyRequest\032:.xtreemfs.pb"
+    "rpc.xtreemfs_set_replica_update_policyRe"
+    "sponse\"\007\215\265\0300\000\000\000\022\222\001\n\034xtreemfs_set_read_on"
+    "ly_xattr\0223.xtreemfs.pbrpc.xtreemfs_set_r"
+    "ead_only_xattrRequest\0324.xtreemfs.pbrpc.x"
+    "treemfs_set_read_only_xattrResponse\"\007\215\265\030"
+    "1\000\000\000\022\177\n\035xtreemfs_get_file_credentials\0224."
+    "xtreemfs.pbrpc.xtreemfs_get_file_credent"
+    "ialsRequest\032\037.xtreemfs.pbrpc.FileCredent"
+    "ials\"\007\215\265\0302\000\000\000\022e\n\024xtreemfs_get_xlocset\022+."
+    "xtreemfs.pbrpc.xtreemfs_get_xlocsetReque"
+    "st\032\027.xtreemfs.pbrpc.XLocSet\"\007\215\265\0303\000\000\000\022v\n\025"
+    "xtreemfs_create_files\022,.xtreemfs.pbrpc.x"
+    "treemfs_create_filesRequest\032&.xtreemfs.p"
+    "brpc.xtreemfs_batchResponse\"\007\215\265\0304\000\000\000\022r\n\023"
+    "xtreemfs_stat_files\022*.xtreemfs.pbrpc.xtr"
+    "eemfs_stat_filesRequest\032&.xtreemfs.pbrpc"
+    ".xtreemfs_batchResponse\"\007\215\265\0305\000\000\000\022v\n\025xtre"
+    "emfs_unlink_files\022,.xtreemfs.pbrpc.xtree"
+    "mfs_unlink_filesRequest\032&.xtreemfs.pbrpc"
+    ".xtreemfs_batchResponse\"\007\215\265\0306\000\000\000\032\007\225\265\030!N\000"
+    "\000B(\n&org.xtreemfs.pbrpc.generatedinterfa"
+    "ces", 10483);
   ::google::protobuf::MessageFactory::InternalRegisterGeneratedFile(
     "xtreemfs/MRC.proto", &protobuf_RegisterTypes);
   Stat::default_instance_ = new Stat();
@@ -1637,6 +1781,11 @@ void protobuf_AddDesc_xtreemfs_2fMRC_2eproto() {
   xtreemfs_set_read_only_xattrRequest::default_instance_ = new xtreemfs_set_read_only_xattrRequest();
   xtreemfs_set_read_only_xattrResponse::default_instance_ = new xtreemfs_set_read_only_xattrResponse();
   xtreemfs_get_file_credentialsRequest::default_instance_ = new xtreemfs_get_file_credentialsRequest();
+  xtreemfs_create_filesRequest::default_instance_ = new xtreemfs_create_filesRequest();
+  xtreemfs_stat_filesRequest::default_instance_ = new xtreemfs_stat_filesRequest();
+  xtreemfs_unlink_filesRequest::default_instance_ = new xtreemfs_unlink_filesRequest();
+  BatchResult::default_instance_ = new BatchResult();
+  xtreemfs_batchResponse::default_instance_ = new xtreemfs_batchResponse();
   Stat::default_instance_->InitAsDefaultInstance();
   DirectoryEntry::default_instance_->InitAsDefaultInstance();
   DirectoryEntries::default_instance_->InitAsDefaultInstance();
@@ -1690,6 +1839,11 @@ void protobuf_AddDesc_xtreemfs_2fMRC_2eproto() {
   xtreemfs_set_read_only_xattrRequest::default_instance_->InitAsDefaultInstance();
   xtreemfs_set_read_only_xattrResponse::default_instance_->InitAsDefaultInstance();
   xtreemfs_get_file_credentialsRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_create_filesRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_stat_filesRequest::default_instance_->InitAsDefaultInstance();
+  xtreemfs_unlink_filesRequest::default_instance_->InitAsDefaultInstance();
+  BatchResult::default_instance_->InitAsDefaultInstance();
+  xtreemfs_batchResponse::default_instance_->InitAsDefaultInstance();
   ::google::protobuf::internal::OnShutdown(&protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto);
 }
 
@@ -18732,6 +18886,1619 @@ void xtreemfs_get_file_credentialsRequest::Swap(xtreemfs_get_file_credentialsReq
 }
 
 
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_create_filesRequest::kVolumeNameFieldNumber;
+const int xtreemfs_create_filesRequest::kPathFieldNumber;
+const int xtreemfs_create_filesRequest::kNamesFieldNumber;
+const int xtreemfs_create_filesRequest::kModeFieldNumber;
+const int xtreemfs_create_filesRequest::kAttributesFieldNumber;
+const int xtreemfs_create_filesRequest::kCoordinatesFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_create_filesRequest::xtreemfs_create_filesRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_create_filesRequest::InitAsDefaultInstance() {
+  coordinates_ = const_cast< ::xtreemfs::pbrpc::VivaldiCoordinates*>(&::xtreemfs::pbrpc::VivaldiCoordinates::default_instance());
+}
+
+xtreemfs_create_filesRequest::xtreemfs_create_filesRequest(const xtreemfs_create_filesRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_create_filesRequest::SharedCtor() {
+  _cached_size_ = 0;
+  volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  mode_ = 0u;
+  attributes_ = 0u;
+  coordinates_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_create_filesRequest::~xtreemfs_create_filesRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_create_filesRequest::SharedDtor() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
+  }
+  if (this != default_instance_) {
+    delete coordinates_;
+  }
+}
+
+void xtreemfs_create_filesRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_create_filesRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_create_filesRequest_descriptor_;
+}
+
+const xtreemfs_create_filesRequest& xtreemfs_create_filesRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_create_filesRequest* xtreemfs_create_filesRequest::default_instance_ = NULL;
+
+xtreemfs_create_filesRequest* xtreemfs_create_filesRequest::New() const {
+  return new xtreemfs_create_filesRequest;
+}
+
+void xtreemfs_create_filesRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_volume_name()) {
+      if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+        volume_name_->clear();
+      }
+    }
+    if (has_path()) {
+      if (path_ != &::google::protobuf::internal::kEmptyString) {
+        path_->clear();
+      }
+    }
+    mode_ = 0u;
+    attributes_ = 0u;
+    if (has_coordinates()) {
+      if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
+    }
+  }
+  names_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_create_filesRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string volume_name = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_volume_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->volume_name().data(), this->volume_name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_path;
+        break;
+      }
+
+      // required string path = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_path:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_path()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->path().data(), this->path().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_names;
+        break;
+      }
+
+      // repeated string names = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_names:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_names()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->names(this->names_size() - 1).data(),
+            this->names(this->names_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_names;
+        if (input->ExpectTag(37)) goto parse_mode;
+        break;
+      }
+
+      // required fixed32 mode = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_mode:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &mode_)));
+          set_has_mode();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(45)) goto parse_attributes;
+        break;
+      }
+
+      // required fixed32 attributes = 5;
+      case 5: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_attributes:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &attributes_)));
+          set_has_attributes();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(50)) goto parse_coordinates;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;
+      case 6: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_coordinates:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_coordinates()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_create_filesRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->volume_name(), output);
+  }
+
+  // required string path = 2;
+  if (has_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->path().data(), this->path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->path(), output);
+  }
+
+  // repeated string names = 3;
+  for (int i = 0; i < this->names_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->names(i).data(), this->names(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      3, this->names(i), output);
+  }
+
+  // required fixed32 mode = 4;
+  if (has_mode()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(4, this->mode(), output);
+  }
+
+  // required fixed32 attributes = 5;
+  if (has_attributes()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(5, this->attributes(), output);
+  }
+
+  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;
+  if (has_coordinates()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      6, this->coordinates(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_create_filesRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->volume_name(), target);
+  }
+
+  // required string path = 2;
+  if (has_path()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->path().data(), this->path().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->path(), target);
+  }
+
+  // repeated string names = 3;
+  for (int i = 0; i < this->names_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->names(i).data(), this->names(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(3, this->names(i), target);
+  }
+
+  // required fixed32 mode = 4;
+  if (has_mode()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(4, this->mode(), target);
+  }
+
+  // required fixed32 attributes = 5;
+  if (has_attributes()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(5, this->attributes(), target);
+  }
+
+  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;
+  if (has_coordinates()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        6, this->coordinates(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_create_filesRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string volume_name = 1;
+    if (has_volume_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->volume_name());
+    }
+
+    // required string path = 2;
+    if (has_path()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->path());
+    }
+
+    // required fixed32 mode = 4;
+    if (has_mode()) {
+      total_size += 1 + 4;
+    }
+
+    // required fixed32 attributes = 5;
+    if (has_attributes()) {
+      total_size += 1 + 4;
+    }
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;
+    if (has_coordinates()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->coordinates());
+    }
+
+  }
+  // repeated string names = 3;
+  total_size += 1 * this->names_size();
+  for (int i = 0; i < this->names_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->names(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_create_filesRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_create_filesRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_create_filesRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_create_filesRequest::MergeFrom(const xtreemfs_create_filesRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  names_.MergeFrom(from.names_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_volume_name()) {
+      set_volume_name(from.volume_name());
+    }
+    if (from.has_path()) {
+      set_path(from.path());
+    }
+    if (from.has_mode()) {
+      set_mode(from.mode());
+    }
+    if (from.has_attributes()) {
+      set_attributes(from.attributes());
+    }
+    if (from.has_coordinates()) {
+      mutable_coordinates()->::xtreemfs::pbrpc::VivaldiCoordinates::MergeFrom(from.coordinates());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_create_filesRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_create_filesRequest::CopyFrom(const xtreemfs_create_filesRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_create_filesRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x0000001b) != 0x0000001b) return false;
+
+  if (has_coordinates()) {
+    if (!this->coordinates().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_create_filesRequest::Swap(xtreemfs_create_filesRequest* other) {
+  if (other != this) {
+    std::swap(volume_name_, other->volume_name_);
+    std::swap(path_, other->path_);
+    names_.Swap(&other->names_);
+    std::swap(mode_, other->mode_);
+    std::swap(attributes_, other->attributes_);
+    std::swap(coordinates_, other->coordinates_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_create_filesRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_create_filesRequest_descriptor_;
+  metadata.reflection = xtreemfs_create_filesRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_stat_filesRequest::kVolumeNameFieldNumber;
+const int xtreemfs_stat_filesRequest::kPathsFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_stat_filesRequest::xtreemfs_stat_filesRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_stat_filesRequest::InitAsDefaultInstance() {
+}
+
+xtreemfs_stat_filesRequest::xtreemfs_stat_filesRequest(const xtreemfs_stat_filesRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_stat_filesRequest::SharedCtor() {
+  _cached_size_ = 0;
+  volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_stat_filesRequest::~xtreemfs_stat_filesRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_stat_filesRequest::SharedDtor() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_stat_filesRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_stat_filesRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_stat_filesRequest_descriptor_;
+}
+
+const xtreemfs_stat_filesRequest& xtreemfs_stat_filesRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_stat_filesRequest* xtreemfs_stat_filesRequest::default_instance_ = NULL;
+
+xtreemfs_stat_filesRequest* xtreemfs_stat_filesRequest::New() const {
+  return new xtreemfs_stat_filesRequest;
+}
+
+void xtreemfs_stat_filesRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_volume_name()) {
+      if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+        volume_name_->clear();
+      }
+    }
+  }
+  paths_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_stat_filesRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string volume_name = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_volume_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->volume_name().data(), this->volume_name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_paths;
+        break;
+      }
+
+      // repeated string paths = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_paths:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_paths()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->paths(this->paths_size() - 1).data(),
+            this->paths(this->paths_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_paths;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_stat_filesRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->volume_name(), output);
+  }
+
+  // repeated string paths = 2;
+  for (int i = 0; i < this->paths_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->paths(i).data(), this->paths(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->paths(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_stat_filesRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->volume_name(), target);
+  }
+
+  // repeated string paths = 2;
+  for (int i = 0; i < this->paths_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->paths(i).data(), this->paths(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(2, this->paths(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_stat_filesRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string volume_name = 1;
+    if (has_volume_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->volume_name());
+    }
+
+  }
+  // repeated string paths = 2;
+  total_size += 1 * this->paths_size();
+  for (int i = 0; i < this->paths_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->paths(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_stat_filesRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_stat_filesRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_stat_filesRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_stat_filesRequest::MergeFrom(const xtreemfs_stat_filesRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  paths_.MergeFrom(from.paths_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_volume_name()) {
+      set_volume_name(from.volume_name());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_stat_filesRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_stat_filesRequest::CopyFrom(const xtreemfs_stat_filesRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_stat_filesRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void xtreemfs_stat_filesRequest::Swap(xtreemfs_stat_filesRequest* other) {
+  if (other != this) {
+    std::swap(volume_name_, other->volume_name_);
+    paths_.Swap(&other->paths_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_stat_filesRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_stat_filesRequest_descriptor_;
+  metadata.reflection = xtreemfs_stat_filesRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_unlink_filesRequest::kVolumeNameFieldNumber;
+const int xtreemfs_unlink_filesRequest::kPathsFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_unlink_filesRequest::xtreemfs_unlink_filesRequest()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_unlink_filesRequest::InitAsDefaultInstance() {
+}
+
+xtreemfs_unlink_filesRequest::xtreemfs_unlink_filesRequest(const xtreemfs_unlink_filesRequest& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_unlink_filesRequest::SharedCtor() {
+  _cached_size_ = 0;
+  volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_unlink_filesRequest::~xtreemfs_unlink_filesRequest() {
+  SharedDtor();
+}
+
+void xtreemfs_unlink_filesRequest::SharedDtor() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_unlink_filesRequest::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_unlink_filesRequest::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_unlink_filesRequest_descriptor_;
+}
+
+const xtreemfs_unlink_filesRequest& xtreemfs_unlink_filesRequest::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_unlink_filesRequest* xtreemfs_unlink_filesRequest::default_instance_ = NULL;
+
+xtreemfs_unlink_filesRequest* xtreemfs_unlink_filesRequest::New() const {
+  return new xtreemfs_unlink_filesRequest;
+}
+
+void xtreemfs_unlink_filesRequest::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (has_volume_name()) {
+      if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+        volume_name_->clear();
+      }
+    }
+  }
+  paths_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_unlink_filesRequest::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // required string volume_name = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_volume_name()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->volume_name().data(), this->volume_name().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_paths;
+        break;
+      }
+
+      // repeated string paths = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_paths:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->add_paths()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->paths(this->paths_size() - 1).data(),
+            this->paths(this->paths_size() - 1).length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_paths;
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_unlink_filesRequest::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      1, this->volume_name(), output);
+  }
+
+  // repeated string paths = 2;
+  for (int i = 0; i < this->paths_size(); i++) {
+  ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+    this->paths(i).data(), this->paths(i).length(),
+    ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->paths(i), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_unlink_filesRequest::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // required string volume_name = 1;
+  if (has_volume_name()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->volume_name().data(), this->volume_name().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        1, this->volume_name(), target);
+  }
+
+  // repeated string paths = 2;
+  for (int i = 0; i < this->paths_size(); i++) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->paths(i).data(), this->paths(i).length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteStringToArray(2, this->paths(i), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_unlink_filesRequest::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // required string volume_name = 1;
+    if (has_volume_name()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->volume_name());
+    }
+
+  }
+  // repeated string paths = 2;
+  total_size += 1 * this->paths_size();
+  for (int i = 0; i < this->paths_size(); i++) {
+    total_size += ::google::protobuf::internal::WireFormatLite::StringSize(
+      this->paths(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_unlink_filesRequest::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_unlink_filesRequest* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_unlink_filesRequest*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_unlink_filesRequest::MergeFrom(const xtreemfs_unlink_filesRequest& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  paths_.MergeFrom(from.paths_);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_volume_name()) {
+      set_volume_name(from.volume_name());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_unlink_filesRequest::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_unlink_filesRequest::CopyFrom(const xtreemfs_unlink_filesRequest& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_unlink_filesRequest::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000001) != 0x00000001) return false;
+
+  return true;
+}
+
+void xtreemfs_unlink_filesRequest::Swap(xtreemfs_unlink_filesRequest* other) {
+  if (other != this) {
+    std::swap(volume_name_, other->volume_name_);
+    paths_.Swap(&other->paths_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_unlink_filesRequest::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_unlink_filesRequest_descriptor_;
+  metadata.reflection = xtreemfs_unlink_filesRequest_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int BatchResult::kPosixErrnoFieldNumber;
+const int BatchResult::kErrorMessageFieldNumber;
+const int BatchResult::kStbufFieldNumber;
+const int BatchResult::kCredsFieldNumber;
+#endif  // !_MSC_VER
+
+BatchResult::BatchResult()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void BatchResult::InitAsDefaultInstance() {
+  stbuf_ = const_cast< ::xtreemfs::pbrpc::Stat*>(&::xtreemfs::pbrpc::Stat::default_instance());
+  creds_ = const_cast< ::xtreemfs::pbrpc::FileCredentials*>(&::xtreemfs::pbrpc::FileCredentials::default_instance());
+}
+
+BatchResult::BatchResult(const BatchResult& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void BatchResult::SharedCtor() {
+  _cached_size_ = 0;
+  posix_errno_ = 0u;
+  error_message_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  stbuf_ = NULL;
+  creds_ = NULL;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+BatchResult::~BatchResult() {
+  SharedDtor();
+}
+
+void BatchResult::SharedDtor() {
+  if (error_message_ != &::google::protobuf::internal::kEmptyString) {
+    delete error_message_;
+  }
+  if (this != default_instance_) {
+    delete stbuf_;
+    delete creds_;
+  }
+}
+
+void BatchResult::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* BatchResult::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return BatchResult_descriptor_;
+}
+
+const BatchResult& BatchResult::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+BatchResult* BatchResult::default_instance_ = NULL;
+
+BatchResult* BatchResult::New() const {
+  return new BatchResult;
+}
+
+void BatchResult::Clear() {
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    posix_errno_ = 0u;
+    if (has_error_message()) {
+      if (error_message_ != &::google::protobuf::internal::kEmptyString) {
+        error_message_->clear();
+      }
+    }
+    if (has_stbuf()) {
+      if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
+    }
+    if (has_creds()) {
+      if (creds_ != NULL) creds_->::xtreemfs::pbrpc::FileCredentials::Clear();
+    }
+  }
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool BatchResult::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // optional fixed32 posix_errno = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &posix_errno_)));
+          set_has_posix_errno();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(18)) goto parse_error_message;
+        break;
+      }
+
+      // optional string error_message = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_error_message:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadString(
+                input, this->mutable_error_message()));
+          ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+            this->error_message().data(), this->error_message().length(),
+            ::google::protobuf::internal::WireFormat::PARSE);
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(26)) goto parse_stbuf;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.Stat stbuf = 3;
+      case 3: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_stbuf:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_stbuf()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(34)) goto parse_creds;
+        break;
+      }
+
+      // optional .xtreemfs.pbrpc.FileCredentials creds = 4;
+      case 4: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_creds:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+               input, mutable_creds()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void BatchResult::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // optional fixed32 posix_errno = 1;
+  if (has_posix_errno()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(1, this->posix_errno(), output);
+  }
+
+  // optional string error_message = 2;
+  if (has_error_message()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->error_message().data(), this->error_message().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    ::google::protobuf::internal::WireFormatLite::WriteString(
+      2, this->error_message(), output);
+  }
+
+  // optional .xtreemfs.pbrpc.Stat stbuf = 3;
+  if (has_stbuf()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      3, this->stbuf(), output);
+  }
+
+  // optional .xtreemfs.pbrpc.FileCredentials creds = 4;
+  if (has_creds()) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      4, this->creds(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* BatchResult::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // optional fixed32 posix_errno = 1;
+  if (has_posix_errno()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(1, this->posix_errno(), target);
+  }
+
+  // optional string error_message = 2;
+  if (has_error_message()) {
+    ::google::protobuf::internal::WireFormat::VerifyUTF8String(
+      this->error_message().data(), this->error_message().length(),
+      ::google::protobuf::internal::WireFormat::SERIALIZE);
+    target =
+      ::google::protobuf::internal::WireFormatLite::WriteStringToArray(
+        2, this->error_message(), target);
+  }
+
+  // optional .xtreemfs.pbrpc.Stat stbuf = 3;
+  if (has_stbuf()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        3, this->stbuf(), target);
+  }
+
+  // optional .xtreemfs.pbrpc.FileCredentials creds = 4;
+  if (has_creds()) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        4, this->creds(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int BatchResult::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    // optional fixed32 posix_errno = 1;
+    if (has_posix_errno()) {
+      total_size += 1 + 4;
+    }
+
+    // optional string error_message = 2;
+    if (has_error_message()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::StringSize(
+          this->error_message());
+    }
+
+    // optional .xtreemfs.pbrpc.Stat stbuf = 3;
+    if (has_stbuf()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->stbuf());
+    }
+
+    // optional .xtreemfs.pbrpc.FileCredentials creds = 4;
+    if (has_creds()) {
+      total_size += 1 +
+        ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+          this->creds());
+    }
+
+  }
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void BatchResult::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const BatchResult* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const BatchResult*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void BatchResult::MergeFrom(const BatchResult& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  if (from._has_bits_[0 / 32] & (0xffu << (0 % 32))) {
+    if (from.has_posix_errno()) {
+      set_posix_errno(from.posix_errno());
+    }
+    if (from.has_error_message()) {
+      set_error_message(from.error_message());
+    }
+    if (from.has_stbuf()) {
+      mutable_stbuf()->::xtreemfs::pbrpc::Stat::MergeFrom(from.stbuf());
+    }
+    if (from.has_creds()) {
+      mutable_creds()->::xtreemfs::pbrpc::FileCredentials::MergeFrom(from.creds());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void BatchResult::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void BatchResult::CopyFrom(const BatchResult& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool BatchResult::IsInitialized() const {
+
+  if (has_stbuf()) {
+    if (!this->stbuf().IsInitialized()) return false;
+  }
+  if (has_creds()) {
+    if (!this->creds().IsInitialized()) return false;
+  }
+  return true;
+}
+
+void BatchResult::Swap(BatchResult* other) {
+  if (other != this) {
+    std::swap(posix_errno_, other->posix_errno_);
+    std::swap(error_message_, other->error_message_);
+    std::swap(stbuf_, other->stbuf_);
+    std::swap(creds_, other->creds_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata BatchResult::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = BatchResult_descriptor_;
+  metadata.reflection = BatchResult_reflection_;
+  return metadata;
+}
+
+
+// ===================================================================
+
+#ifndef _MSC_VER
+const int xtreemfs_batchResponse::kResultsFieldNumber;
+const int xtreemfs_batchResponse::kTimestampSFieldNumber;
+#endif  // !_MSC_VER
+
+xtreemfs_batchResponse::xtreemfs_batchResponse()
+  : ::google::protobuf::Message() {
+  SharedCtor();
+}
+
+void xtreemfs_batchResponse::InitAsDefaultInstance() {
+}
+
+xtreemfs_batchResponse::xtreemfs_batchResponse(const xtreemfs_batchResponse& from)
+  : ::google::protobuf::Message() {
+  SharedCtor();
+  MergeFrom(from);
+}
+
+void xtreemfs_batchResponse::SharedCtor() {
+  _cached_size_ = 0;
+  timestamp_s_ = 0u;
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+}
+
+xtreemfs_batchResponse::~xtreemfs_batchResponse() {
+  SharedDtor();
+}
+
+void xtreemfs_batchResponse::SharedDtor() {
+  if (this != default_instance_) {
+  }
+}
+
+void xtreemfs_batchResponse::SetCachedSize(int size) const {
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+}
+const ::google::protobuf::Descriptor* xtreemfs_batchResponse::descriptor() {
+  protobuf_AssignDescriptorsOnce();
+  return xtreemfs_batchResponse_descriptor_;
+}
+
+const xtreemfs_batchResponse& xtreemfs_batchResponse::default_instance() {
+  if (default_instance_ == NULL) protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  return *default_instance_;
+}
+
+xtreemfs_batchResponse* xtreemfs_batchResponse::default_instance_ = NULL;
+
+xtreemfs_batchResponse* xtreemfs_batchResponse::New() const {
+  return new xtreemfs_batchResponse;
+}
+
+void xtreemfs_batchResponse::Clear() {
+  if (_has_bits_[1 / 32] & (0xffu << (1 % 32))) {
+    timestamp_s_ = 0u;
+  }
+  results_.Clear();
+  ::memset(_has_bits_, 0, sizeof(_has_bits_));
+  mutable_unknown_fields()->Clear();
+}
+
+bool xtreemfs_batchResponse::MergePartialFromCodedStream(
+    ::google::protobuf::io::CodedInputStream* input) {
+#define DO_(EXPRESSION) if (!(EXPRESSION)) return false
+  ::google::protobuf::uint32 tag;
+  while ((tag = input->ReadTag()) != 0) {
+    switch (::google::protobuf::internal::WireFormatLite::GetTagFieldNumber(tag)) {
+      // repeated .xtreemfs.pbrpc.BatchResult results = 1;
+      case 1: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_LENGTH_DELIMITED) {
+         parse_results:
+          DO_(::google::protobuf::internal::WireFormatLite::ReadMessageNoVirtual(
+                input, add_results()));
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectTag(10)) goto parse_results;
+        if (input->ExpectTag(21)) goto parse_timestamp_s;
+        break;
+      }
+
+      // required fixed32 timestamp_s = 2;
+      case 2: {
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_FIXED32) {
+         parse_timestamp_s:
+          DO_((::google::protobuf::internal::WireFormatLite::ReadPrimitive<
+                   ::google::protobuf::uint32, ::google::protobuf::internal::WireFormatLite::TYPE_FIXED32>(
+                 input, &timestamp_s_)));
+          set_has_timestamp_s();
+        } else {
+          goto handle_uninterpreted;
+        }
+        if (input->ExpectAtEnd()) return true;
+        break;
+      }
+
+      default: {
+      handle_uninterpreted:
+        if (::google::protobuf::internal::WireFormatLite::GetTagWireType(tag) ==
+            ::google::protobuf::internal::WireFormatLite::WIRETYPE_END_GROUP) {
+          return true;
+        }
+        DO_(::google::protobuf::internal::WireFormat::SkipField(
+              input, tag, mutable_unknown_fields()));
+        break;
+      }
+    }
+  }
+  return true;
+#undef DO_
+}
+
+void xtreemfs_batchResponse::SerializeWithCachedSizes(
+    ::google::protobuf::io::CodedOutputStream* output) const {
+  // repeated .xtreemfs.pbrpc.BatchResult results = 1;
+  for (int i = 0; i < this->results_size(); i++) {
+    ::google::protobuf::internal::WireFormatLite::WriteMessageMaybeToArray(
+      1, this->results(i), output);
+  }
+
+  // required fixed32 timestamp_s = 2;
+  if (has_timestamp_s()) {
+    ::google::protobuf::internal::WireFormatLite::WriteFixed32(2, this->timestamp_s(), output);
+  }
+
+  if (!unknown_fields().empty()) {
+    ::google::protobuf::internal::WireFormat::SerializeUnknownFields(
+        unknown_fields(), output);
+  }
+}
+
+::google::protobuf::uint8* xtreemfs_batchResponse::SerializeWithCachedSizesToArray(
+    ::google::protobuf::uint8* target) const {
+  // repeated .xtreemfs.pbrpc.BatchResult results = 1;
+  for (int i = 0; i < this->results_size(); i++) {
+    target = ::google::protobuf::internal::WireFormatLite::
+      WriteMessageNoVirtualToArray(
+        1, this->results(i), target);
+  }
+
+  // required fixed32 timestamp_s = 2;
+  if (has_timestamp_s()) {
+    target = ::google::protobuf::internal::WireFormatLite::WriteFixed32ToArray(2, this->timestamp_s(), target);
+  }
+
+  if (!unknown_fields().empty()) {
+    target = ::google::protobuf::internal::WireFormat::SerializeUnknownFieldsToArray(
+        unknown_fields(), target);
+  }
+  return target;
+}
+
+int xtreemfs_batchResponse::ByteSize() const {
+  int total_size = 0;
+
+  if (_has_bits_[1 / 32] & (0xffu << (1 % 32))) {
+    // required fixed32 timestamp_s = 2;
+    if (has_timestamp_s()) {
+      total_size += 1 + 4;
+    }
+
+  }
+  // repeated .xtreemfs.pbrpc.BatchResult results = 1;
+  total_size += 1 * this->results_size();
+  for (int i = 0; i < this->results_size(); i++) {
+    total_size +=
+      ::google::protobuf::internal::WireFormatLite::MessageSizeNoVirtual(
+        this->results(i));
+  }
+
+  if (!unknown_fields().empty()) {
+    total_size +=
+      ::google::protobuf::internal::WireFormat::ComputeUnknownFieldsSize(
+        unknown_fields());
+  }
+  GOOGLE_SAFE_CONCURRENT_WRITES_BEGIN();
+  _cached_size_ = total_size;
+  GOOGLE_SAFE_CONCURRENT_WRITES_END();
+  return total_size;
+}
+
+void xtreemfs_batchResponse::MergeFrom(const ::google::protobuf::Message& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  const xtreemfs_batchResponse* source =
+    ::google::protobuf::internal::dynamic_cast_if_available<const xtreemfs_batchResponse*>(
+      &from);
+  if (source == NULL) {
+    ::google::protobuf::internal::ReflectionOps::Merge(from, this);
+  } else {
+    MergeFrom(*source);
+  }
+}
+
+void xtreemfs_batchResponse::MergeFrom(const xtreemfs_batchResponse& from) {
+  GOOGLE_CHECK_NE(&from, this);
+  results_.MergeFrom(from.results_);
+  if (from._has_bits_[1 / 32] & (0xffu << (1 % 32))) {
+    if (from.has_timestamp_s()) {
+      set_timestamp_s(from.timestamp_s());
+    }
+  }
+  mutable_unknown_fields()->MergeFrom(from.unknown_fields());
+}
+
+void xtreemfs_batchResponse::CopyFrom(const ::google::protobuf::Message& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+void xtreemfs_batchResponse::CopyFrom(const xtreemfs_batchResponse& from) {
+  if (&from == this) return;
+  Clear();
+  MergeFrom(from);
+}
+
+bool xtreemfs_batchResponse::IsInitialized() const {
+  if ((_has_bits_[0] & 0x00000002) != 0x00000002) return false;
+
+  for (int i = 0; i < results_size(); i++) {
+    if (!this->results(i).IsInitialized()) return false;
+  }
+  return true;
+}
+
+void xtreemfs_batchResponse::Swap(xtreemfs_batchResponse* other) {
+  if (other != this) {
+    results_.Swap(&other->results_);
+    std::swap(timestamp_s_, other->timestamp_s_);
+    std::swap(_has_bits_[0], other->_has_bits_[0]);
+    _unknown_fields_.Swap(&other->_unknown_fields_);
+    std::swap(_cached_size_, other->_cached_size_);
+  }
+}
+
+::google::protobuf::Metadata xtreemfs_batchResponse::GetMetadata() const {
+  protobuf_AssignDescriptorsOnce();
+  ::google::protobuf::Metadata metadata;
+  metadata.descriptor = xtreemfs_batchResponse_descriptor_;
+  metadata.reflection = xtreemfs_batchResponse_reflection_;
+  return metadata;
+}
+
+
 // @@protoc_insertion_point(namespace_scope)
 
 }  // namespace pbrpc
@@ -91,6 +91,11 @@ class xtreemfs_set_replica_update_policyResponse;
 class xtreemfs_set_read_only_xattrRequest;
 class xtreemfs_set_read_only_xattrResponse;
 class xtreemfs_get_file_credentialsRequest;
+class xtreemfs_create_filesRequest;
+class xtreemfs_stat_filesRequest;
+class xtreemfs_unlink_filesRequest;
+class BatchResult;
+class xtreemfs_batchResponse;
 
 enum xtreemfs_check_file_existsResponse_FILE_STATE {
   xtreemfs_check_file_existsResponse_FILE_STATE_DELETED = 0,
@@ -6137,6 +6142,581 @@ class xtreemfs_get_file_credentialsRequest : public ::google::protobuf::Message
   void InitAsDefaultInstance();
   static xtreemfs_get_file_credentialsRequest* default_instance_;
 };
+// -------------------------------------------------------------------
+
+class xtreemfs_create_filesRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_create_filesRequest();
+  virtual ~xtreemfs_create_filesRequest();
+
+  xtreemfs_create_filesRequest(const xtreemfs_create_filesRequest& from);
+
+  inline xtreemfs_create_filesRequest& operator=(const xtreemfs_create_filesRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_create_filesRequest& default_instance();
+
+  void Swap(xtreemfs_create_filesRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_create_filesRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_create_filesRequest& from);
+  void MergeFrom(const xtreemfs_create_filesRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string volume_name = 1;
+  inline bool has_volume_name() const;
+  inline void clear_volume_name();
+  static const int kVolumeNameFieldNumber = 1;
+  inline const ::std::string& volume_name() const;
+  inline void set_volume_name(const ::std::string& value);
+  inline void set_volume_name(const char* value);
+  inline void set_volume_name(const char* value, size_t size);
+  inline ::std::string* mutable_volume_name();
+  inline ::std::string* release_volume_name();
+  inline void set_allocated_volume_name(::std::string* volume_name);
+
+  // required string path = 2;
+  inline bool has_path() const;
+  inline void clear_path();
+  static const int kPathFieldNumber = 2;
+  inline const ::std::string& path() const;
+  inline void set_path(const ::std::string& value);
+  inline void set_path(const char* value);
+  inline void set_path(const char* value, size_t size);
+  inline ::std::string* mutable_path();
+  inline ::std::string* release_path();
+  inline void set_allocated_path(::std::string* path);
+
+  // repeated string names = 3;
+  inline int names_size() const;
+  inline void clear_names();
+  static const int kNamesFieldNumber = 3;
+  inline const ::std::string& names(int index) const;
+  inline ::std::string* mutable_names(int index);
+  inline void set_names(int index, const ::std::string& value);
+  inline void set_names(int index, const char* value);
+  inline void set_names(int index, const char* value, size_t size);
+  inline ::std::string* add_names();
+  inline void add_names(const ::std::string& value);
+  inline void add_names(const char* value);
+  inline void add_names(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& names() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_names();
+
+  // required fixed32 mode = 4;
+  inline bool has_mode() const;
+  inline void clear_mode();
+  static const int kModeFieldNumber = 4;
+  inline ::google::protobuf::uint32 mode() const;
+  inline void set_mode(::google::protobuf::uint32 value);
+
+  // required fixed32 attributes = 5;
+  inline bool has_attributes() const;
+  inline void clear_attributes();
+  static const int kAttributesFieldNumber = 5;
+  inline ::google::protobuf::uint32 attributes() const;
+  inline void set_attributes(::google::protobuf::uint32 value);
+
+  // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;
+  inline bool has_coordinates() const;
+  inline void clear_coordinates();
+  static const int kCoordinatesFieldNumber = 6;
+  inline const ::xtreemfs::pbrpc::VivaldiCoordinates& coordinates() const;
+  inline ::xtreemfs::pbrpc::VivaldiCoordinates* mutable_coordinates();
+  inline ::xtreemfs::pbrpc::VivaldiCoordinates* release_coordinates();
+  inline void set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_create_filesRequest)
+ private:
+  inline void set_has_volume_name();
+  inline void clear_has_volume_name();
+  inline void set_has_path();
+  inline void clear_has_path();
+  inline void set_has_mode();
+  inline void clear_has_mode();
+  inline void set_has_attributes();
+  inline void clear_has_attributes();
+  inline void set_has_coordinates();
+  inline void clear_has_coordinates();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* volume_name_;
+  ::std::string* path_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> names_;
+  ::google::protobuf::uint32 mode_;
+  ::google::protobuf::uint32 attributes_;
+  ::xtreemfs::pbrpc::VivaldiCoordinates* coordinates_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(6 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_create_filesRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_stat_filesRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_stat_filesRequest();
+  virtual ~xtreemfs_stat_filesRequest();
+
+  xtreemfs_stat_filesRequest(const xtreemfs_stat_filesRequest& from);
+
+  inline xtreemfs_stat_filesRequest& operator=(const xtreemfs_stat_filesRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_stat_filesRequest& default_instance();
+
+  void Swap(xtreemfs_stat_filesRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_stat_filesRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_stat_filesRequest& from);
+  void MergeFrom(const xtreemfs_stat_filesRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string volume_name = 1;
+  inline bool has_volume_name() const;
+  inline void clear_volume_name();
+  static const int kVolumeNameFieldNumber = 1;
+  inline const ::std::string& volume_name() const;
+  inline void set_volume_name(const ::std::string& value);
+  inline void set_volume_name(const char* value);
+  inline void set_volume_name(const char* value, size_t size);
+  inline ::std::string* mutable_volume_name();
+  inline ::std::string* release_volume_name();
+  inline void set_allocated_volume_name(::std::string* volume_name);
+
+  // repeated string paths = 2;
+  inline int paths_size() const;
+  inline void clear_paths();
+  static const int kPathsFieldNumber = 2;
+  inline const ::std::string& paths(int index) const;
+  inline ::std::string* mutable_paths(int index);
+  inline void set_paths(int index, const ::std::string& value);
+  inline void set_paths(int index, const char* value);
+  inline void set_paths(int index, const char* value, size_t size);
+  inline ::std::string* add_paths();
+  inline void add_paths(const ::std::string& value);
+  inline void add_paths(const char* value);
+  inline void add_paths(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& paths() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_paths();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_stat_filesRequest)
+ private:
+  inline void set_has_volume_name();
+  inline void clear_has_volume_name();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* volume_name_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> paths_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_stat_filesRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_unlink_filesRequest : public ::google::protobuf::Message {
+ public:
+  xtreemfs_unlink_filesRequest();
+  virtual ~xtreemfs_unlink_filesRequest();
+
+  xtreemfs_unlink_filesRequest(const xtreemfs_unlink_filesRequest& from);
+
+  inline xtreemfs_unlink_filesRequest& operator=(const xtreemfs_unlink_filesRequest& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_unlink_filesRequest& default_instance();
+
+  void Swap(xtreemfs_unlink_filesRequest* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_unlink_filesRequest* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_unlink_filesRequest& from);
+  void MergeFrom(const xtreemfs_unlink_filesRequest& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // required string volume_name = 1;
+  inline bool has_volume_name() const;
+  inline void clear_volume_name();
+  static const int kVolumeNameFieldNumber = 1;
+  inline const ::std::string& volume_name() const;
+  inline void set_volume_name(const ::std::string& value);
+  inline void set_volume_name(const char* value);
+  inline void set_volume_name(const char* value, size_t size);
+  inline ::std::string* mutable_volume_name();
+  inline ::std::string* release_volume_name();
+  inline void set_allocated_volume_name(::std::string* volume_name);
+
+  // repeated string paths = 2;
+  inline int paths_size() const;
+  inline void clear_paths();
+  static const int kPathsFieldNumber = 2;
+  inline const ::std::string& paths(int index) const;
+  inline ::std::string* mutable_paths(int index);
+  inline void set_paths(int index, const ::std::string& value);
+  inline void set_paths(int index, const char* value);
+  inline void set_paths(int index, const char* value, size_t size);
+  inline ::std::string* add_paths();
+  inline void add_paths(const ::std::string& value);
+  inline void add_paths(const char* value);
+  inline void add_paths(const char* value, size_t size);
+  inline const ::google::protobuf::RepeatedPtrField< ::std::string>& paths() const;
+  inline ::google::protobuf::RepeatedPtrField< ::std::string>* mutable_paths();
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_unlink_filesRequest)
+ private:
+  inline void set_has_volume_name();
+  inline void clear_has_volume_name();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* volume_name_;
+  ::google::protobuf::RepeatedPtrField< ::std::string> paths_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_unlink_filesRequest* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class BatchResult : public ::google::protobuf::Message {
+ public:
+  BatchResult();
+  virtual ~BatchResult();
+
+  BatchResult(const BatchResult& from);
+
+  inline BatchResult& operator=(const BatchResult& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const BatchResult& default_instance();
+
+  void Swap(BatchResult* other);
+
+  // implements Message ----------------------------------------------
+
+  BatchResult* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const BatchResult& from);
+  void MergeFrom(const BatchResult& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // optional fixed32 posix_errno = 1;
+  inline bool has_posix_errno() const;
+  inline void clear_posix_errno();
+  static const int kPosixErrnoFieldNumber = 1;
+  inline ::google::protobuf::uint32 posix_errno() const;
+  inline void set_posix_errno(::google::protobuf::uint32 value);
+
+  // optional string error_message = 2;
+  inline bool has_error_message() const;
+  inline void clear_error_message();
+  static const int kErrorMessageFieldNumber = 2;
+  inline const ::std::string& error_message() const;
+  inline void set_error_message(const ::std::string& value);
+  inline void set_error_message(const char* value);
+  inline void set_error_message(const char* value, size_t size);
+  inline ::std::string* mutable_error_message();
+  inline ::std::string* release_error_message();
+  inline void set_allocated_error_message(::std::string* error_message);
+
+  // optional .xtreemfs.pbrpc.Stat stbuf = 3;
+  inline bool has_stbuf() const;
+  inline void clear_stbuf();
+  static const int kStbufFieldNumber = 3;
+  inline const ::xtreemfs::pbrpc::Stat& stbuf() const;
+  inline ::xtreemfs::pbrpc::Stat* mutable_stbuf();
+  inline ::xtreemfs::pbrpc::Stat* release_stbuf();
+  inline void set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf);
+
+  // optional .xtreemfs.pbrpc.FileCredentials creds = 4;
+  inline bool has_creds() const;
+  inline void clear_creds();
+  static const int kCredsFieldNumber = 4;
+  inline const ::xtreemfs::pbrpc::FileCredentials& creds() const;
+  inline ::xtreemfs::pbrpc::FileCredentials* mutable_creds();
+  inline ::xtreemfs::pbrpc::FileCredentials* release_creds();
+  inline void set_allocated_creds(::xtreemfs::pbrpc::FileCredentials* creds);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.BatchResult)
+ private:
+  inline void set_has_posix_errno();
+  inline void clear_has_posix_errno();
+  inline void set_has_error_message();
+  inline void clear_has_error_message();
+  inline void set_has_stbuf();
+  inline void clear_has_stbuf();
+  inline void set_has_creds();
+  inline void clear_has_creds();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::std::string* error_message_;
+  ::xtreemfs::pbrpc::Stat* stbuf_;
+  ::xtreemfs::pbrpc::FileCredentials* creds_;
+  ::google::protobuf::uint32 posix_errno_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(4 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static BatchResult* default_instance_;
+};
+// -------------------------------------------------------------------
+
+class xtreemfs_batchResponse : public ::google::protobuf::Message {
+ public:
+  xtreemfs_batchResponse();
+  virtual ~xtreemfs_batchResponse();
+
+  xtreemfs_batchResponse(const xtreemfs_batchResponse& from);
+
+  inline xtreemfs_batchResponse& operator=(const xtreemfs_batchResponse& from) {
+    CopyFrom(from);
+    return *this;
+  }
+
+  inline const ::google::protobuf::UnknownFieldSet& unknown_fields() const {
+    return _unknown_fields_;
+  }
+
+  inline ::google::protobuf::UnknownFieldSet* mutable_unknown_fields() {
+    return &_unknown_fields_;
+  }
+
+  static const ::google::protobuf::Descriptor* descriptor();
+  static const xtreemfs_batchResponse& default_instance();
+
+  void Swap(xtreemfs_batchResponse* other);
+
+  // implements Message ----------------------------------------------
+
+  xtreemfs_batchResponse* New() const;
+  void CopyFrom(const ::google::protobuf::Message& from);
+  void MergeFrom(const ::google::protobuf::Message& from);
+  void CopyFrom(const xtreemfs_batchResponse& from);
+  void MergeFrom(const xtreemfs_batchResponse& from);
+  void Clear();
+  bool IsInitialized() const;
+
+  int ByteSize() const;
+  bool MergePartialFromCodedStream(
+      ::google::protobuf::io::CodedInputStream* input);
+  void SerializeWithCachedSizes(
+      ::google::protobuf::io::CodedOutputStream* output) const;
+  ::google::protobuf::uint8* SerializeWithCachedSizesToArray(::google::protobuf::uint8* output) const;
+  int GetCachedSize() const { return _cached_size_; }
+  private:
+  void SharedCtor();
+  void SharedDtor();
+  void SetCachedSize(int size) const;
+  public:
+
+  ::google::protobuf::Metadata GetMetadata() const;
+
+  // nested types ----------------------------------------------------
+
+  // accessors -------------------------------------------------------
+
+  // repeated .xtreemfs.pbrpc.BatchResult results = 1;
+  inline int results_size() const;
+  inline void clear_results();
+  static const int kResultsFieldNumber = 1;
+  inline const ::xtreemfs::pbrpc::BatchResult& results(int index) const;
+  inline ::xtreemfs::pbrpc::BatchResult* mutable_results(int index);
+  inline ::xtreemfs::pbrpc::BatchResult* add_results();
+  inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::BatchResult >&
+      results() const;
+  inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::BatchResult >*
+      mutable_results();
+
+  // required fixed32 timestamp_s = 2;
+  inline bool has_timestamp_s() const;
+  inline void clear_timestamp_s();
+  static const int kTimestampSFieldNumber = 2;
+  inline ::google::protobuf::uint32 timestamp_s() const;
+  inline void set_timestamp_s(::google::protobuf::uint32 value);
+
+  // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_batchResponse)
+ private:
+  inline void set_has_timestamp_s();
+  inline void clear_has_timestamp_s();
+
+  ::google::protobuf::UnknownFieldSet _unknown_fields_;
+
+  ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::BatchResult > results_;
+  ::google::protobuf::uint32 timestamp_s_;
+
+  mutable int _cached_size_;
+  ::google::protobuf::uint32 _has_bits_[(2 + 31) / 32];
+
+  friend void  protobuf_AddDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_AssignDesc_xtreemfs_2fMRC_2eproto();
+  friend void protobuf_ShutdownFile_xtreemfs_2fMRC_2eproto();
+
+  void InitAsDefaultInstance();
+  static xtreemfs_batchResponse* default_instance_;
+};
 // ===================================================================
 
 
@@ -11345,63 +11925,271 @@ inline void symlinkRequest::set_allocated_link_path(::std::string* link_path) {
     set_has_link_path();
     link_path_ = link_path;
   } else {
-    clear_has_link_path();
-    link_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_link_path();
+    link_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// unlinkRequest
+
+// required string volume_name = 1;
+inline bool unlinkRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void unlinkRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void unlinkRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void unlinkRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
+  }
+  clear_has_volume_name();
+}
+inline const ::std::string& unlinkRequest::volume_name() const {
+  return *volume_name_;
+}
+inline void unlinkRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
+}
+inline void unlinkRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
+}
+inline void unlinkRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* unlinkRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  return volume_name_;
+}
+inline ::std::string* unlinkRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void unlinkRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
+  } else {
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string path = 2;
+inline bool unlinkRequest::has_path() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void unlinkRequest::set_has_path() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void unlinkRequest::clear_has_path() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void unlinkRequest::clear_path() {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    path_->clear();
+  }
+  clear_has_path();
+}
+inline const ::std::string& unlinkRequest::path() const {
+  return *path_;
+}
+inline void unlinkRequest::set_path(const ::std::string& value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(value);
+}
+inline void unlinkRequest::set_path(const char* value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(value);
+}
+inline void unlinkRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* unlinkRequest::mutable_path() {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  return path_;
+}
+inline ::std::string* unlinkRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void unlinkRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
+  }
+  if (path) {
+    set_has_path();
+    path_ = path;
+  } else {
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// -------------------------------------------------------------------
+
+// unlinkResponse
+
+// required fixed32 timestamp_s = 1;
+inline bool unlinkResponse::has_timestamp_s() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void unlinkResponse::set_has_timestamp_s() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void unlinkResponse::clear_has_timestamp_s() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void unlinkResponse::clear_timestamp_s() {
+  timestamp_s_ = 0u;
+  clear_has_timestamp_s();
+}
+inline ::google::protobuf::uint32 unlinkResponse::timestamp_s() const {
+  return timestamp_s_;
+}
+inline void unlinkResponse::set_timestamp_s(::google::protobuf::uint32 value) {
+  set_has_timestamp_s();
+  timestamp_s_ = value;
+}
+
+// optional .xtreemfs.pbrpc.FileCredentials creds = 2;
+inline bool unlinkResponse::has_creds() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void unlinkResponse::set_has_creds() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void unlinkResponse::clear_has_creds() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void unlinkResponse::clear_creds() {
+  if (creds_ != NULL) creds_->::xtreemfs::pbrpc::FileCredentials::Clear();
+  clear_has_creds();
+}
+inline const ::xtreemfs::pbrpc::FileCredentials& unlinkResponse::creds() const {
+  return creds_ != NULL ? *creds_ : *default_instance_->creds_;
+}
+inline ::xtreemfs::pbrpc::FileCredentials* unlinkResponse::mutable_creds() {
+  set_has_creds();
+  if (creds_ == NULL) creds_ = new ::xtreemfs::pbrpc::FileCredentials;
+  return creds_;
+}
+inline ::xtreemfs::pbrpc::FileCredentials* unlinkResponse::release_creds() {
+  clear_has_creds();
+  ::xtreemfs::pbrpc::FileCredentials* temp = creds_;
+  creds_ = NULL;
+  return temp;
+}
+inline void unlinkResponse::set_allocated_creds(::xtreemfs::pbrpc::FileCredentials* creds) {
+  delete creds_;
+  creds_ = creds;
+  if (creds) {
+    set_has_creds();
+  } else {
+    clear_has_creds();
   }
 }
 
 // -------------------------------------------------------------------
 
-// unlinkRequest
+// accessRequest
 
 // required string volume_name = 1;
-inline bool unlinkRequest::has_volume_name() const {
+inline bool accessRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void unlinkRequest::set_has_volume_name() {
+inline void accessRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void unlinkRequest::clear_has_volume_name() {
+inline void accessRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void unlinkRequest::clear_volume_name() {
+inline void accessRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& unlinkRequest::volume_name() const {
+inline const ::std::string& accessRequest::volume_name() const {
   return *volume_name_;
 }
-inline void unlinkRequest::set_volume_name(const ::std::string& value) {
+inline void accessRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void unlinkRequest::set_volume_name(const char* value) {
+inline void accessRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void unlinkRequest::set_volume_name(const char* value, size_t size) {
+inline void accessRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* unlinkRequest::mutable_volume_name() {
+inline ::std::string* accessRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* unlinkRequest::release_volume_name() {
+inline ::std::string* accessRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -11411,7 +12199,7 @@ inline ::std::string* unlinkRequest::release_volume_name() {
     return temp;
   }
 }
-inline void unlinkRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void accessRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -11425,261 +12213,534 @@ inline void unlinkRequest::set_allocated_volume_name(::std::string* volume_name)
 }
 
 // required string path = 2;
-inline bool unlinkRequest::has_path() const {
+inline bool accessRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void unlinkRequest::set_has_path() {
+inline void accessRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void unlinkRequest::clear_has_path() {
+inline void accessRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void unlinkRequest::clear_path() {
+inline void accessRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& unlinkRequest::path() const {
+inline const ::std::string& accessRequest::path() const {
   return *path_;
 }
-inline void unlinkRequest::set_path(const ::std::string& value) {
+inline void accessRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void unlinkRequest::set_path(const char* value) {
+inline void accessRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void unlinkRequest::set_path(const char* value, size_t size) {
+inline void accessRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* accessRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
-  path_->assign(reinterpret_cast<const char*>(value), size);
+  return path_;
+}
+inline ::std::string* accessRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void accessRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
+  }
+  if (path) {
+    set_has_path();
+    path_ = path;
+  } else {
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required fixed32 flags = 3;
+inline bool accessRequest::has_flags() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void accessRequest::set_has_flags() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void accessRequest::clear_has_flags() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void accessRequest::clear_flags() {
+  flags_ = 0u;
+  clear_has_flags();
+}
+inline ::google::protobuf::uint32 accessRequest::flags() const {
+  return flags_;
+}
+inline void accessRequest::set_flags(::google::protobuf::uint32 value) {
+  set_has_flags();
+  flags_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_check_file_existsRequest
+
+// required string volume_id = 1;
+inline bool xtreemfs_check_file_existsRequest::has_volume_id() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_check_file_existsRequest::set_has_volume_id() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_check_file_existsRequest::clear_has_volume_id() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_check_file_existsRequest::clear_volume_id() {
+  if (volume_id_ != &::google::protobuf::internal::kEmptyString) {
+    volume_id_->clear();
+  }
+  clear_has_volume_id();
+}
+inline const ::std::string& xtreemfs_check_file_existsRequest::volume_id() const {
+  return *volume_id_;
+}
+inline void xtreemfs_check_file_existsRequest::set_volume_id(const ::std::string& value) {
+  set_has_volume_id();
+  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
+    volume_id_ = new ::std::string;
+  }
+  volume_id_->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::set_volume_id(const char* value) {
+  set_has_volume_id();
+  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
+    volume_id_ = new ::std::string;
+  }
+  volume_id_->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::set_volume_id(const char* value, size_t size) {
+  set_has_volume_id();
+  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
+    volume_id_ = new ::std::string;
+  }
+  volume_id_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_check_file_existsRequest::mutable_volume_id() {
+  set_has_volume_id();
+  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
+    volume_id_ = new ::std::string;
+  }
+  return volume_id_;
+}
+inline ::std::string* xtreemfs_check_file_existsRequest::release_volume_id() {
+  clear_has_volume_id();
+  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = volume_id_;
+    volume_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void xtreemfs_check_file_existsRequest::set_allocated_volume_id(::std::string* volume_id) {
+  if (volume_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_id_;
+  }
+  if (volume_id) {
+    set_has_volume_id();
+    volume_id_ = volume_id;
+  } else {
+    clear_has_volume_id();
+    volume_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// repeated string file_ids = 2;
+inline int xtreemfs_check_file_existsRequest::file_ids_size() const {
+  return file_ids_.size();
+}
+inline void xtreemfs_check_file_existsRequest::clear_file_ids() {
+  file_ids_.Clear();
+}
+inline const ::std::string& xtreemfs_check_file_existsRequest::file_ids(int index) const {
+  return file_ids_.Get(index);
+}
+inline ::std::string* xtreemfs_check_file_existsRequest::mutable_file_ids(int index) {
+  return file_ids_.Mutable(index);
+}
+inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const ::std::string& value) {
+  file_ids_.Mutable(index)->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const char* value) {
+  file_ids_.Mutable(index)->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const char* value, size_t size) {
+  file_ids_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_check_file_existsRequest::add_file_ids() {
+  return file_ids_.Add();
+}
+inline void xtreemfs_check_file_existsRequest::add_file_ids(const ::std::string& value) {
+  file_ids_.Add()->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::add_file_ids(const char* value) {
+  file_ids_.Add()->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::add_file_ids(const char* value, size_t size) {
+  file_ids_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+xtreemfs_check_file_existsRequest::file_ids() const {
+  return file_ids_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+xtreemfs_check_file_existsRequest::mutable_file_ids() {
+  return &file_ids_;
+}
+
+// required string osd_uuid = 3;
+inline bool xtreemfs_check_file_existsRequest::has_osd_uuid() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void xtreemfs_check_file_existsRequest::set_has_osd_uuid() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void xtreemfs_check_file_existsRequest::clear_has_osd_uuid() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void xtreemfs_check_file_existsRequest::clear_osd_uuid() {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_->clear();
+  }
+  clear_has_osd_uuid();
+}
+inline const ::std::string& xtreemfs_check_file_existsRequest::osd_uuid() const {
+  return *osd_uuid_;
+}
+inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const ::std::string& value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
+  }
+  osd_uuid_->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const char* value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
+  }
+  osd_uuid_->assign(value);
+}
+inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const char* value, size_t size) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
+  }
+  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* unlinkRequest::mutable_path() {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline ::std::string* xtreemfs_check_file_existsRequest::mutable_osd_uuid() {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  return path_;
+  return osd_uuid_;
 }
-inline ::std::string* unlinkRequest::release_path() {
-  clear_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_check_file_existsRequest::release_osd_uuid() {
+  clear_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = path_;
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = osd_uuid_;
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void unlinkRequest::set_allocated_path(::std::string* path) {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
+inline void xtreemfs_check_file_existsRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    delete osd_uuid_;
   }
-  if (path) {
-    set_has_path();
-    path_ = path;
+  if (osd_uuid) {
+    set_has_osd_uuid();
+    osd_uuid_ = osd_uuid;
   } else {
-    clear_has_path();
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_osd_uuid();
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
 // -------------------------------------------------------------------
 
-// unlinkResponse
+// xtreemfs_check_file_existsResponse
 
-// required fixed32 timestamp_s = 1;
-inline bool unlinkResponse::has_timestamp_s() const {
+// required bool volume_exists = 1;
+inline bool xtreemfs_check_file_existsResponse::has_volume_exists() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void unlinkResponse::set_has_timestamp_s() {
+inline void xtreemfs_check_file_existsResponse::set_has_volume_exists() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void unlinkResponse::clear_has_timestamp_s() {
+inline void xtreemfs_check_file_existsResponse::clear_has_volume_exists() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void unlinkResponse::clear_timestamp_s() {
-  timestamp_s_ = 0u;
-  clear_has_timestamp_s();
+inline void xtreemfs_check_file_existsResponse::clear_volume_exists() {
+  volume_exists_ = false;
+  clear_has_volume_exists();
 }
-inline ::google::protobuf::uint32 unlinkResponse::timestamp_s() const {
-  return timestamp_s_;
+inline bool xtreemfs_check_file_existsResponse::volume_exists() const {
+  return volume_exists_;
 }
-inline void unlinkResponse::set_timestamp_s(::google::protobuf::uint32 value) {
-  set_has_timestamp_s();
-  timestamp_s_ = value;
+inline void xtreemfs_check_file_existsResponse::set_volume_exists(bool value) {
+  set_has_volume_exists();
+  volume_exists_ = value;
 }
 
-// optional .xtreemfs.pbrpc.FileCredentials creds = 2;
-inline bool unlinkResponse::has_creds() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// repeated .xtreemfs.pbrpc.xtreemfs_check_file_existsResponse.FILE_STATE file_states = 2 [packed = true];
+inline int xtreemfs_check_file_existsResponse::file_states_size() const {
+  return file_states_.size();
 }
-inline void unlinkResponse::set_has_creds() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_check_file_existsResponse::clear_file_states() {
+  file_states_.Clear();
 }
-inline void unlinkResponse::clear_has_creds() {
-  _has_bits_[0] &= ~0x00000002u;
+inline ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE xtreemfs_check_file_existsResponse::file_states(int index) const {
+  return static_cast< ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE >(file_states_.Get(index));
 }
-inline void unlinkResponse::clear_creds() {
-  if (creds_ != NULL) creds_->::xtreemfs::pbrpc::FileCredentials::Clear();
-  clear_has_creds();
+inline void xtreemfs_check_file_existsResponse::set_file_states(int index, ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE value) {
+  assert(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE_IsValid(value));
+  file_states_.Set(index, value);
 }
-inline const ::xtreemfs::pbrpc::FileCredentials& unlinkResponse::creds() const {
-  return creds_ != NULL ? *creds_ : *default_instance_->creds_;
+inline void xtreemfs_check_file_existsResponse::add_file_states(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE value) {
+  assert(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE_IsValid(value));
+  file_states_.Add(value);
 }
-inline ::xtreemfs::pbrpc::FileCredentials* unlinkResponse::mutable_creds() {
-  set_has_creds();
-  if (creds_ == NULL) creds_ = new ::xtreemfs::pbrpc::FileCredentials;
-  return creds_;
+inline const ::google::protobuf::RepeatedField<int>&
+xtreemfs_check_file_existsResponse::file_states() const {
+  return file_states_;
 }
-inline ::xtreemfs::pbrpc::FileCredentials* unlinkResponse::release_creds() {
-  clear_has_creds();
-  ::xtreemfs::pbrpc::FileCredentials* temp = creds_;
-  creds_ = NULL;
-  return temp;
+inline ::google::protobuf::RepeatedField<int>*
+xtreemfs_check_file_existsResponse::mutable_file_states() {
+  return &file_states_;
 }
-inline void unlinkResponse::set_allocated_creds(::xtreemfs::pbrpc::FileCredentials* creds) {
-  delete creds_;
-  creds_ = creds;
-  if (creds) {
-    set_has_creds();
+
+// -------------------------------------------------------------------
+
+// xtreemfs_dump_restore_databaseRequest
+
+// required string dump_file = 1;
+inline bool xtreemfs_dump_restore_databaseRequest::has_dump_file() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_dump_restore_databaseRequest::set_has_dump_file() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_dump_restore_databaseRequest::clear_has_dump_file() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_dump_restore_databaseRequest::clear_dump_file() {
+  if (dump_file_ != &::google::protobuf::internal::kEmptyString) {
+    dump_file_->clear();
+  }
+  clear_has_dump_file();
+}
+inline const ::std::string& xtreemfs_dump_restore_databaseRequest::dump_file() const {
+  return *dump_file_;
+}
+inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const ::std::string& value) {
+  set_has_dump_file();
+  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
+    dump_file_ = new ::std::string;
+  }
+  dump_file_->assign(value);
+}
+inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const char* value) {
+  set_has_dump_file();
+  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
+    dump_file_ = new ::std::string;
+  }
+  dump_file_->assign(value);
+}
+inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const char* value, size_t size) {
+  set_has_dump_file();
+  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
+    dump_file_ = new ::std::string;
+  }
+  dump_file_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_dump_restore_databaseRequest::mutable_dump_file() {
+  set_has_dump_file();
+  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
+    dump_file_ = new ::std::string;
+  }
+  return dump_file_;
+}
+inline ::std::string* xtreemfs_dump_restore_databaseRequest::release_dump_file() {
+  clear_has_dump_file();
+  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
   } else {
-    clear_has_creds();
+    ::std::string* temp = dump_file_;
+    dump_file_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void xtreemfs_dump_restore_databaseRequest::set_allocated_dump_file(::std::string* dump_file) {
+  if (dump_file_ != &::google::protobuf::internal::kEmptyString) {
+    delete dump_file_;
+  }
+  if (dump_file) {
+    set_has_dump_file();
+    dump_file_ = dump_file;
+  } else {
+    clear_has_dump_file();
+    dump_file_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
 // -------------------------------------------------------------------
 
-// accessRequest
+// xtreemfs_get_suitable_osdsRequest
 
-// required string volume_name = 1;
-inline bool accessRequest::has_volume_name() const {
+// optional string file_id = 1;
+inline bool xtreemfs_get_suitable_osdsRequest::has_file_id() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void accessRequest::set_has_volume_name() {
+inline void xtreemfs_get_suitable_osdsRequest::set_has_file_id() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void accessRequest::clear_has_volume_name() {
+inline void xtreemfs_get_suitable_osdsRequest::clear_has_file_id() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void accessRequest::clear_volume_name() {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    volume_name_->clear();
+inline void xtreemfs_get_suitable_osdsRequest::clear_file_id() {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    file_id_->clear();
   }
-  clear_has_volume_name();
+  clear_has_file_id();
 }
-inline const ::std::string& accessRequest::volume_name() const {
-  return *volume_name_;
+inline const ::std::string& xtreemfs_get_suitable_osdsRequest::file_id() const {
+  return *file_id_;
 }
-inline void accessRequest::set_volume_name(const ::std::string& value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const ::std::string& value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  volume_name_->assign(value);
+  file_id_->assign(value);
 }
-inline void accessRequest::set_volume_name(const char* value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const char* value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  volume_name_->assign(value);
+  file_id_->assign(value);
 }
-inline void accessRequest::set_volume_name(const char* value, size_t size) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const char* value, size_t size) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  volume_name_->assign(reinterpret_cast<const char*>(value), size);
+  file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* accessRequest::mutable_volume_name() {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_file_id() {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  return volume_name_;
+  return file_id_;
 }
-inline ::std::string* accessRequest::release_volume_name() {
-  clear_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_file_id() {
+  clear_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = volume_name_;
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = file_id_;
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void accessRequest::set_allocated_volume_name(::std::string* volume_name) {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    delete volume_name_;
+inline void xtreemfs_get_suitable_osdsRequest::set_allocated_file_id(::std::string* file_id) {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_id_;
   }
-  if (volume_name) {
-    set_has_volume_name();
-    volume_name_ = volume_name;
+  if (file_id) {
+    set_has_file_id();
+    file_id_ = file_id;
   } else {
-    clear_has_volume_name();
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_file_id();
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required string path = 2;
-inline bool accessRequest::has_path() const {
+// optional string path = 3;
+inline bool xtreemfs_get_suitable_osdsRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void accessRequest::set_has_path() {
+inline void xtreemfs_get_suitable_osdsRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void accessRequest::clear_has_path() {
+inline void xtreemfs_get_suitable_osdsRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void accessRequest::clear_path() {
+inline void xtreemfs_get_suitable_osdsRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& accessRequest::path() const {
+inline const ::std::string& xtreemfs_get_suitable_osdsRequest::path() const {
   return *path_;
 }
-inline void accessRequest::set_path(const ::std::string& value) {
+inline void xtreemfs_get_suitable_osdsRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void accessRequest::set_path(const char* value) {
+inline void xtreemfs_get_suitable_osdsRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void accessRequest::set_path(const char* value, size_t size) {
+inline void xtreemfs_get_suitable_osdsRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* accessRequest::mutable_path() {
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* accessRequest::release_path() {
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -11689,7 +12750,7 @@ inline ::std::string* accessRequest::release_path() {
     return temp;
   }
 }
-inline void accessRequest::set_allocated_path(::std::string* path) {
+inline void xtreemfs_get_suitable_osdsRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -11702,395 +12763,420 @@ inline void accessRequest::set_allocated_path(::std::string* path) {
   }
 }
 
-// required fixed32 flags = 3;
-inline bool accessRequest::has_flags() const {
+// optional string volume_name = 4;
+inline bool xtreemfs_get_suitable_osdsRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void accessRequest::set_has_flags() {
+inline void xtreemfs_get_suitable_osdsRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void accessRequest::clear_has_flags() {
+inline void xtreemfs_get_suitable_osdsRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void accessRequest::clear_flags() {
-  flags_ = 0u;
-  clear_has_flags();
-}
-inline ::google::protobuf::uint32 accessRequest::flags() const {
-  return flags_;
-}
-inline void accessRequest::set_flags(::google::protobuf::uint32 value) {
-  set_has_flags();
-  flags_ = value;
-}
-
-// -------------------------------------------------------------------
-
-// xtreemfs_check_file_existsRequest
-
-// required string volume_id = 1;
-inline bool xtreemfs_check_file_existsRequest::has_volume_id() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
-}
-inline void xtreemfs_check_file_existsRequest::set_has_volume_id() {
-  _has_bits_[0] |= 0x00000001u;
-}
-inline void xtreemfs_check_file_existsRequest::clear_has_volume_id() {
-  _has_bits_[0] &= ~0x00000001u;
-}
-inline void xtreemfs_check_file_existsRequest::clear_volume_id() {
-  if (volume_id_ != &::google::protobuf::internal::kEmptyString) {
-    volume_id_->clear();
+inline void xtreemfs_get_suitable_osdsRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
   }
-  clear_has_volume_id();
+  clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_check_file_existsRequest::volume_id() const {
-  return *volume_id_;
+inline const ::std::string& xtreemfs_get_suitable_osdsRequest::volume_name() const {
+  return *volume_name_;
 }
-inline void xtreemfs_check_file_existsRequest::set_volume_id(const ::std::string& value) {
-  set_has_volume_id();
-  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
-    volume_id_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  volume_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::set_volume_id(const char* value) {
-  set_has_volume_id();
-  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
-    volume_id_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  volume_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::set_volume_id(const char* value, size_t size) {
-  set_has_volume_id();
-  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
-    volume_id_ = new ::std::string;
+inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  volume_id_->assign(reinterpret_cast<const char*>(value), size);
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_check_file_existsRequest::mutable_volume_id() {
-  set_has_volume_id();
-  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
-    volume_id_ = new ::std::string;
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  return volume_id_;
+  return volume_name_;
 }
-inline ::std::string* xtreemfs_check_file_existsRequest::release_volume_id() {
-  clear_has_volume_id();
-  if (volume_id_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = volume_id_;
-    volume_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_check_file_existsRequest::set_allocated_volume_id(::std::string* volume_id) {
-  if (volume_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete volume_id_;
+inline void xtreemfs_get_suitable_osdsRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
   }
-  if (volume_id) {
-    set_has_volume_id();
-    volume_id_ = volume_id;
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
   } else {
-    clear_has_volume_id();
-    volume_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// repeated string file_ids = 2;
-inline int xtreemfs_check_file_existsRequest::file_ids_size() const {
-  return file_ids_.size();
+// required fixed32 num_osds = 2;
+inline bool xtreemfs_get_suitable_osdsRequest::has_num_osds() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
 }
-inline void xtreemfs_check_file_existsRequest::clear_file_ids() {
-  file_ids_.Clear();
+inline void xtreemfs_get_suitable_osdsRequest::set_has_num_osds() {
+  _has_bits_[0] |= 0x00000008u;
 }
-inline const ::std::string& xtreemfs_check_file_existsRequest::file_ids(int index) const {
-  return file_ids_.Get(index);
+inline void xtreemfs_get_suitable_osdsRequest::clear_has_num_osds() {
+  _has_bits_[0] &= ~0x00000008u;
 }
-inline ::std::string* xtreemfs_check_file_existsRequest::mutable_file_ids(int index) {
-  return file_ids_.Mutable(index);
+inline void xtreemfs_get_suitable_osdsRequest::clear_num_osds() {
+  num_osds_ = 0u;
+  clear_has_num_osds();
 }
-inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const ::std::string& value) {
-  file_ids_.Mutable(index)->assign(value);
+inline ::google::protobuf::uint32 xtreemfs_get_suitable_osdsRequest::num_osds() const {
+  return num_osds_;
 }
-inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const char* value) {
-  file_ids_.Mutable(index)->assign(value);
+inline void xtreemfs_get_suitable_osdsRequest::set_num_osds(::google::protobuf::uint32 value) {
+  set_has_num_osds();
+  num_osds_ = value;
 }
-inline void xtreemfs_check_file_existsRequest::set_file_ids(int index, const char* value, size_t size) {
-  file_ids_.Mutable(index)->assign(
+
+// -------------------------------------------------------------------
+
+// xtreemfs_get_suitable_osdsResponse
+
+// repeated string osd_uuids = 1;
+inline int xtreemfs_get_suitable_osdsResponse::osd_uuids_size() const {
+  return osd_uuids_.size();
+}
+inline void xtreemfs_get_suitable_osdsResponse::clear_osd_uuids() {
+  osd_uuids_.Clear();
+}
+inline const ::std::string& xtreemfs_get_suitable_osdsResponse::osd_uuids(int index) const {
+  return osd_uuids_.Get(index);
+}
+inline ::std::string* xtreemfs_get_suitable_osdsResponse::mutable_osd_uuids(int index) {
+  return osd_uuids_.Mutable(index);
+}
+inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const ::std::string& value) {
+  osd_uuids_.Mutable(index)->assign(value);
+}
+inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const char* value) {
+  osd_uuids_.Mutable(index)->assign(value);
+}
+inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const char* value, size_t size) {
+  osd_uuids_.Mutable(index)->assign(
     reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_check_file_existsRequest::add_file_ids() {
-  return file_ids_.Add();
+inline ::std::string* xtreemfs_get_suitable_osdsResponse::add_osd_uuids() {
+  return osd_uuids_.Add();
 }
-inline void xtreemfs_check_file_existsRequest::add_file_ids(const ::std::string& value) {
-  file_ids_.Add()->assign(value);
+inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const ::std::string& value) {
+  osd_uuids_.Add()->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::add_file_ids(const char* value) {
-  file_ids_.Add()->assign(value);
+inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const char* value) {
+  osd_uuids_.Add()->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::add_file_ids(const char* value, size_t size) {
-  file_ids_.Add()->assign(reinterpret_cast<const char*>(value), size);
+inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const char* value, size_t size) {
+  osd_uuids_.Add()->assign(reinterpret_cast<const char*>(value), size);
 }
 inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
-xtreemfs_check_file_existsRequest::file_ids() const {
-  return file_ids_;
+xtreemfs_get_suitable_osdsResponse::osd_uuids() const {
+  return osd_uuids_;
 }
 inline ::google::protobuf::RepeatedPtrField< ::std::string>*
-xtreemfs_check_file_existsRequest::mutable_file_ids() {
-  return &file_ids_;
+xtreemfs_get_suitable_osdsResponse::mutable_osd_uuids() {
+  return &osd_uuids_;
+}
+
+// -------------------------------------------------------------------
+
+// timestampResponse
+
+// required fixed32 timestamp_s = 1;
+inline bool timestampResponse::has_timestamp_s() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void timestampResponse::set_has_timestamp_s() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void timestampResponse::clear_has_timestamp_s() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void timestampResponse::clear_timestamp_s() {
+  timestamp_s_ = 0u;
+  clear_has_timestamp_s();
 }
+inline ::google::protobuf::uint32 timestampResponse::timestamp_s() const {
+  return timestamp_s_;
+}
+inline void timestampResponse::set_timestamp_s(::google::protobuf::uint32 value) {
+  set_has_timestamp_s();
+  timestamp_s_ = value;
+}
+
+// -------------------------------------------------------------------
 
-// required string osd_uuid = 3;
-inline bool xtreemfs_check_file_existsRequest::has_osd_uuid() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
+// stringMessage
+
+// required string a_string = 1;
+inline bool stringMessage::has_a_string() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_check_file_existsRequest::set_has_osd_uuid() {
-  _has_bits_[0] |= 0x00000004u;
+inline void stringMessage::set_has_a_string() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_check_file_existsRequest::clear_has_osd_uuid() {
-  _has_bits_[0] &= ~0x00000004u;
+inline void stringMessage::clear_has_a_string() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_check_file_existsRequest::clear_osd_uuid() {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_->clear();
+inline void stringMessage::clear_a_string() {
+  if (a_string_ != &::google::protobuf::internal::kEmptyString) {
+    a_string_->clear();
   }
-  clear_has_osd_uuid();
+  clear_has_a_string();
 }
-inline const ::std::string& xtreemfs_check_file_existsRequest::osd_uuid() const {
-  return *osd_uuid_;
+inline const ::std::string& stringMessage::a_string() const {
+  return *a_string_;
 }
-inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const ::std::string& value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void stringMessage::set_a_string(const ::std::string& value) {
+  set_has_a_string();
+  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
+    a_string_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  a_string_->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const char* value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void stringMessage::set_a_string(const char* value) {
+  set_has_a_string();
+  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
+    a_string_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  a_string_->assign(value);
 }
-inline void xtreemfs_check_file_existsRequest::set_osd_uuid(const char* value, size_t size) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void stringMessage::set_a_string(const char* value, size_t size) {
+  set_has_a_string();
+  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
+    a_string_ = new ::std::string;
   }
-  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
+  a_string_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_check_file_existsRequest::mutable_osd_uuid() {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline ::std::string* stringMessage::mutable_a_string() {
+  set_has_a_string();
+  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
+    a_string_ = new ::std::string;
   }
-  return osd_uuid_;
+  return a_string_;
 }
-inline ::std::string* xtreemfs_check_file_existsRequest::release_osd_uuid() {
-  clear_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* stringMessage::release_a_string() {
+  clear_has_a_string();
+  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = osd_uuid_;
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = a_string_;
+    a_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_check_file_existsRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    delete osd_uuid_;
+inline void stringMessage::set_allocated_a_string(::std::string* a_string) {
+  if (a_string_ != &::google::protobuf::internal::kEmptyString) {
+    delete a_string_;
   }
-  if (osd_uuid) {
-    set_has_osd_uuid();
-    osd_uuid_ = osd_uuid;
+  if (a_string) {
+    set_has_a_string();
+    a_string_ = a_string;
   } else {
-    clear_has_osd_uuid();
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_a_string();
+    a_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_check_file_existsResponse
+// xtreemfs_listdirRequest
 
-// required bool volume_exists = 1;
-inline bool xtreemfs_check_file_existsResponse::has_volume_exists() const {
+// required string path = 1;
+inline bool xtreemfs_listdirRequest::has_path() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_check_file_existsResponse::set_has_volume_exists() {
+inline void xtreemfs_listdirRequest::set_has_path() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_check_file_existsResponse::clear_has_volume_exists() {
+inline void xtreemfs_listdirRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_check_file_existsResponse::clear_volume_exists() {
-  volume_exists_ = false;
-  clear_has_volume_exists();
-}
-inline bool xtreemfs_check_file_existsResponse::volume_exists() const {
-  return volume_exists_;
-}
-inline void xtreemfs_check_file_existsResponse::set_volume_exists(bool value) {
-  set_has_volume_exists();
-  volume_exists_ = value;
+inline void xtreemfs_listdirRequest::clear_path() {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    path_->clear();
+  }
+  clear_has_path();
 }
-
-// repeated .xtreemfs.pbrpc.xtreemfs_check_file_existsResponse.FILE_STATE file_states = 2 [packed = true];
-inline int xtreemfs_check_file_existsResponse::file_states_size() const {
-  return file_states_.size();
+inline const ::std::string& xtreemfs_listdirRequest::path() const {
+  return *path_;
 }
-inline void xtreemfs_check_file_existsResponse::clear_file_states() {
-  file_states_.Clear();
+inline void xtreemfs_listdirRequest::set_path(const ::std::string& value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(value);
 }
-inline ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE xtreemfs_check_file_existsResponse::file_states(int index) const {
-  return static_cast< ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE >(file_states_.Get(index));
+inline void xtreemfs_listdirRequest::set_path(const char* value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(value);
 }
-inline void xtreemfs_check_file_existsResponse::set_file_states(int index, ::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE value) {
-  assert(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE_IsValid(value));
-  file_states_.Set(index, value);
+inline void xtreemfs_listdirRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline void xtreemfs_check_file_existsResponse::add_file_states(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE value) {
-  assert(::xtreemfs::pbrpc::xtreemfs_check_file_existsResponse_FILE_STATE_IsValid(value));
-  file_states_.Add(value);
+inline ::std::string* xtreemfs_listdirRequest::mutable_path() {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  return path_;
 }
-inline const ::google::protobuf::RepeatedField<int>&
-xtreemfs_check_file_existsResponse::file_states() const {
-  return file_states_;
+inline ::std::string* xtreemfs_listdirRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
 }
-inline ::google::protobuf::RepeatedField<int>*
-xtreemfs_check_file_existsResponse::mutable_file_states() {
-  return &file_states_;
+inline void xtreemfs_listdirRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
+  }
+  if (path) {
+    set_has_path();
+    path_ = path;
+  } else {
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_dump_restore_databaseRequest
+// xtreemfs_listdirResponse
 
-// required string dump_file = 1;
-inline bool xtreemfs_dump_restore_databaseRequest::has_dump_file() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// repeated string names = 1;
+inline int xtreemfs_listdirResponse::names_size() const {
+  return names_.size();
 }
-inline void xtreemfs_dump_restore_databaseRequest::set_has_dump_file() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_listdirResponse::clear_names() {
+  names_.Clear();
 }
-inline void xtreemfs_dump_restore_databaseRequest::clear_has_dump_file() {
-  _has_bits_[0] &= ~0x00000001u;
+inline const ::std::string& xtreemfs_listdirResponse::names(int index) const {
+  return names_.Get(index);
 }
-inline void xtreemfs_dump_restore_databaseRequest::clear_dump_file() {
-  if (dump_file_ != &::google::protobuf::internal::kEmptyString) {
-    dump_file_->clear();
-  }
-  clear_has_dump_file();
+inline ::std::string* xtreemfs_listdirResponse::mutable_names(int index) {
+  return names_.Mutable(index);
 }
-inline const ::std::string& xtreemfs_dump_restore_databaseRequest::dump_file() const {
-  return *dump_file_;
+inline void xtreemfs_listdirResponse::set_names(int index, const ::std::string& value) {
+  names_.Mutable(index)->assign(value);
 }
-inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const ::std::string& value) {
-  set_has_dump_file();
-  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
-    dump_file_ = new ::std::string;
-  }
-  dump_file_->assign(value);
+inline void xtreemfs_listdirResponse::set_names(int index, const char* value) {
+  names_.Mutable(index)->assign(value);
 }
-inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const char* value) {
-  set_has_dump_file();
-  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
-    dump_file_ = new ::std::string;
-  }
-  dump_file_->assign(value);
+inline void xtreemfs_listdirResponse::set_names(int index, const char* value, size_t size) {
+  names_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
 }
-inline void xtreemfs_dump_restore_databaseRequest::set_dump_file(const char* value, size_t size) {
-  set_has_dump_file();
-  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
-    dump_file_ = new ::std::string;
-  }
-  dump_file_->assign(reinterpret_cast<const char*>(value), size);
+inline ::std::string* xtreemfs_listdirResponse::add_names() {
+  return names_.Add();
 }
-inline ::std::string* xtreemfs_dump_restore_databaseRequest::mutable_dump_file() {
-  set_has_dump_file();
-  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
-    dump_file_ = new ::std::string;
-  }
-  return dump_file_;
+inline void xtreemfs_listdirResponse::add_names(const ::std::string& value) {
+  names_.Add()->assign(value);
 }
-inline ::std::string* xtreemfs_dump_restore_databaseRequest::release_dump_file() {
-  clear_has_dump_file();
-  if (dump_file_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = dump_file_;
-    dump_file_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
+inline void xtreemfs_listdirResponse::add_names(const char* value) {
+  names_.Add()->assign(value);
 }
-inline void xtreemfs_dump_restore_databaseRequest::set_allocated_dump_file(::std::string* dump_file) {
-  if (dump_file_ != &::google::protobuf::internal::kEmptyString) {
-    delete dump_file_;
-  }
-  if (dump_file) {
-    set_has_dump_file();
-    dump_file_ = dump_file;
-  } else {
-    clear_has_dump_file();
-    dump_file_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
+inline void xtreemfs_listdirResponse::add_names(const char* value, size_t size) {
+  names_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+xtreemfs_listdirResponse::names() const {
+  return names_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+xtreemfs_listdirResponse::mutable_names() {
+  return &names_;
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_get_suitable_osdsRequest
+// xtreemfs_replica_addRequest
 
 // optional string file_id = 1;
-inline bool xtreemfs_get_suitable_osdsRequest::has_file_id() const {
+inline bool xtreemfs_replica_addRequest::has_file_id() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_has_file_id() {
+inline void xtreemfs_replica_addRequest::set_has_file_id() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_has_file_id() {
+inline void xtreemfs_replica_addRequest::clear_has_file_id() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_file_id() {
+inline void xtreemfs_replica_addRequest::clear_file_id() {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     file_id_->clear();
   }
   clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_get_suitable_osdsRequest::file_id() const {
+inline const ::std::string& xtreemfs_replica_addRequest::file_id() const {
   return *file_id_;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const ::std::string& value) {
+inline void xtreemfs_replica_addRequest::set_file_id(const ::std::string& value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const char* value) {
+inline void xtreemfs_replica_addRequest::set_file_id(const char* value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_file_id(const char* value, size_t size) {
+inline void xtreemfs_replica_addRequest::set_file_id(const char* value, size_t size) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_file_id() {
+inline ::std::string* xtreemfs_replica_addRequest::mutable_file_id() {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   return file_id_;
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_file_id() {
+inline ::std::string* xtreemfs_replica_addRequest::release_file_id() {
   clear_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12100,7 +13186,7 @@ inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_file_id() {
     return temp;
   }
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_allocated_file_id(::std::string* file_id) {
+inline void xtreemfs_replica_addRequest::set_allocated_file_id(::std::string* file_id) {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     delete file_id_;
   }
@@ -12114,53 +13200,53 @@ inline void xtreemfs_get_suitable_osdsRequest::set_allocated_file_id(::std::stri
 }
 
 // optional string path = 3;
-inline bool xtreemfs_get_suitable_osdsRequest::has_path() const {
+inline bool xtreemfs_replica_addRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_has_path() {
+inline void xtreemfs_replica_addRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_has_path() {
+inline void xtreemfs_replica_addRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_path() {
+inline void xtreemfs_replica_addRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& xtreemfs_get_suitable_osdsRequest::path() const {
+inline const ::std::string& xtreemfs_replica_addRequest::path() const {
   return *path_;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_path(const ::std::string& value) {
+inline void xtreemfs_replica_addRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_path(const char* value) {
+inline void xtreemfs_replica_addRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_path(const char* value, size_t size) {
+inline void xtreemfs_replica_addRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_path() {
+inline ::std::string* xtreemfs_replica_addRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_path() {
+inline ::std::string* xtreemfs_replica_addRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12170,7 +13256,7 @@ inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_path() {
     return temp;
   }
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_allocated_path(::std::string* path) {
+inline void xtreemfs_replica_addRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -12184,53 +13270,53 @@ inline void xtreemfs_get_suitable_osdsRequest::set_allocated_path(::std::string*
 }
 
 // optional string volume_name = 4;
-inline bool xtreemfs_get_suitable_osdsRequest::has_volume_name() const {
+inline bool xtreemfs_replica_addRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_has_volume_name() {
+inline void xtreemfs_replica_addRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_has_volume_name() {
+inline void xtreemfs_replica_addRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_volume_name() {
+inline void xtreemfs_replica_addRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_get_suitable_osdsRequest::volume_name() const {
+inline const ::std::string& xtreemfs_replica_addRequest::volume_name() const {
   return *volume_name_;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const ::std::string& value) {
+inline void xtreemfs_replica_addRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const char* value) {
+inline void xtreemfs_replica_addRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_volume_name(const char* value, size_t size) {
+inline void xtreemfs_replica_addRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::mutable_volume_name() {
+inline ::std::string* xtreemfs_replica_addRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_volume_name() {
+inline ::std::string* xtreemfs_replica_addRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12240,7 +13326,7 @@ inline ::std::string* xtreemfs_get_suitable_osdsRequest::release_volume_name() {
     return temp;
   }
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void xtreemfs_replica_addRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -12253,228 +13339,166 @@ inline void xtreemfs_get_suitable_osdsRequest::set_allocated_volume_name(::std::
   }
 }
 
-// required fixed32 num_osds = 2;
-inline bool xtreemfs_get_suitable_osdsRequest::has_num_osds() const {
+// required .xtreemfs.pbrpc.Replica new_replica = 2;
+inline bool xtreemfs_replica_addRequest::has_new_replica() const {
   return (_has_bits_[0] & 0x00000008u) != 0;
 }
-inline void xtreemfs_get_suitable_osdsRequest::set_has_num_osds() {
+inline void xtreemfs_replica_addRequest::set_has_new_replica() {
   _has_bits_[0] |= 0x00000008u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_has_num_osds() {
+inline void xtreemfs_replica_addRequest::clear_has_new_replica() {
   _has_bits_[0] &= ~0x00000008u;
 }
-inline void xtreemfs_get_suitable_osdsRequest::clear_num_osds() {
-  num_osds_ = 0u;
-  clear_has_num_osds();
-}
-inline ::google::protobuf::uint32 xtreemfs_get_suitable_osdsRequest::num_osds() const {
-  return num_osds_;
-}
-inline void xtreemfs_get_suitable_osdsRequest::set_num_osds(::google::protobuf::uint32 value) {
-  set_has_num_osds();
-  num_osds_ = value;
-}
-
-// -------------------------------------------------------------------
-
-// xtreemfs_get_suitable_osdsResponse
-
-// repeated string osd_uuids = 1;
-inline int xtreemfs_get_suitable_osdsResponse::osd_uuids_size() const {
-  return osd_uuids_.size();
-}
-inline void xtreemfs_get_suitable_osdsResponse::clear_osd_uuids() {
-  osd_uuids_.Clear();
-}
-inline const ::std::string& xtreemfs_get_suitable_osdsResponse::osd_uuids(int index) const {
-  return osd_uuids_.Get(index);
-}
-inline ::std::string* xtreemfs_get_suitable_osdsResponse::mutable_osd_uuids(int index) {
-  return osd_uuids_.Mutable(index);
-}
-inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const ::std::string& value) {
-  osd_uuids_.Mutable(index)->assign(value);
-}
-inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const char* value) {
-  osd_uuids_.Mutable(index)->assign(value);
-}
-inline void xtreemfs_get_suitable_osdsResponse::set_osd_uuids(int index, const char* value, size_t size) {
-  osd_uuids_.Mutable(index)->assign(
-    reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* xtreemfs_get_suitable_osdsResponse::add_osd_uuids() {
-  return osd_uuids_.Add();
-}
-inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const ::std::string& value) {
-  osd_uuids_.Add()->assign(value);
-}
-inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const char* value) {
-  osd_uuids_.Add()->assign(value);
-}
-inline void xtreemfs_get_suitable_osdsResponse::add_osd_uuids(const char* value, size_t size) {
-  osd_uuids_.Add()->assign(reinterpret_cast<const char*>(value), size);
-}
-inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
-xtreemfs_get_suitable_osdsResponse::osd_uuids() const {
-  return osd_uuids_;
-}
-inline ::google::protobuf::RepeatedPtrField< ::std::string>*
-xtreemfs_get_suitable_osdsResponse::mutable_osd_uuids() {
-  return &osd_uuids_;
-}
-
-// -------------------------------------------------------------------
-
-// timestampResponse
-
-// required fixed32 timestamp_s = 1;
-inline bool timestampResponse::has_timestamp_s() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
-}
-inline void timestampResponse::set_has_timestamp_s() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_replica_addRequest::clear_new_replica() {
+  if (new_replica_ != NULL) new_replica_->::xtreemfs::pbrpc::Replica::Clear();
+  clear_has_new_replica();
 }
-inline void timestampResponse::clear_has_timestamp_s() {
-  _has_bits_[0] &= ~0x00000001u;
+inline const ::xtreemfs::pbrpc::Replica& xtreemfs_replica_addRequest::new_replica() const {
+  return new_replica_ != NULL ? *new_replica_ : *default_instance_->new_replica_;
 }
-inline void timestampResponse::clear_timestamp_s() {
-  timestamp_s_ = 0u;
-  clear_has_timestamp_s();
+inline ::xtreemfs::pbrpc::Replica* xtreemfs_replica_addRequest::mutable_new_replica() {
+  set_has_new_replica();
+  if (new_replica_ == NULL) new_replica_ = new ::xtreemfs::pbrpc::Replica;
+  return new_replica_;
 }
-inline ::google::protobuf::uint32 timestampResponse::timestamp_s() const {
-  return timestamp_s_;
+inline ::xtreemfs::pbrpc::Replica* xtreemfs_replica_addRequest::release_new_replica() {
+  clear_has_new_replica();
+  ::xtreemfs::pbrpc::Replica* temp = new_replica_;
+  new_replica_ = NULL;
+  return temp;
 }
-inline void timestampResponse::set_timestamp_s(::google::protobuf::uint32 value) {
-  set_has_timestamp_s();
-  timestamp_s_ = value;
+inline void xtreemfs_replica_addRequest::set_allocated_new_replica(::xtreemfs::pbrpc::Replica* new_replica) {
+  delete new_replica_;
+  new_replica_ = new_replica;
+  if (new_replica) {
+    set_has_new_replica();
+  } else {
+    clear_has_new_replica();
+  }
 }
 
 // -------------------------------------------------------------------
 
-// stringMessage
+// xtreemfs_replica_listRequest
 
-// required string a_string = 1;
-inline bool stringMessage::has_a_string() const {
+// optional string file_id = 1;
+inline bool xtreemfs_replica_listRequest::has_file_id() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void stringMessage::set_has_a_string() {
+inline void xtreemfs_replica_listRequest::set_has_file_id() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void stringMessage::clear_has_a_string() {
+inline void xtreemfs_replica_listRequest::clear_has_file_id() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void stringMessage::clear_a_string() {
-  if (a_string_ != &::google::protobuf::internal::kEmptyString) {
-    a_string_->clear();
+inline void xtreemfs_replica_listRequest::clear_file_id() {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    file_id_->clear();
   }
-  clear_has_a_string();
+  clear_has_file_id();
 }
-inline const ::std::string& stringMessage::a_string() const {
-  return *a_string_;
+inline const ::std::string& xtreemfs_replica_listRequest::file_id() const {
+  return *file_id_;
 }
-inline void stringMessage::set_a_string(const ::std::string& value) {
-  set_has_a_string();
-  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
-    a_string_ = new ::std::string;
+inline void xtreemfs_replica_listRequest::set_file_id(const ::std::string& value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  a_string_->assign(value);
+  file_id_->assign(value);
 }
-inline void stringMessage::set_a_string(const char* value) {
-  set_has_a_string();
-  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
-    a_string_ = new ::std::string;
+inline void xtreemfs_replica_listRequest::set_file_id(const char* value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  a_string_->assign(value);
+  file_id_->assign(value);
 }
-inline void stringMessage::set_a_string(const char* value, size_t size) {
-  set_has_a_string();
-  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
-    a_string_ = new ::std::string;
+inline void xtreemfs_replica_listRequest::set_file_id(const char* value, size_t size) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  a_string_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* stringMessage::mutable_a_string() {
-  set_has_a_string();
-  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
-    a_string_ = new ::std::string;
+  file_id_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_replica_listRequest::mutable_file_id() {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  return a_string_;
+  return file_id_;
 }
-inline ::std::string* stringMessage::release_a_string() {
-  clear_has_a_string();
-  if (a_string_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_replica_listRequest::release_file_id() {
+  clear_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = a_string_;
-    a_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = file_id_;
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void stringMessage::set_allocated_a_string(::std::string* a_string) {
-  if (a_string_ != &::google::protobuf::internal::kEmptyString) {
-    delete a_string_;
+inline void xtreemfs_replica_listRequest::set_allocated_file_id(::std::string* file_id) {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_id_;
   }
-  if (a_string) {
-    set_has_a_string();
-    a_string_ = a_string;
+  if (file_id) {
+    set_has_file_id();
+    file_id_ = file_id;
   } else {
-    clear_has_a_string();
-    a_string_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_file_id();
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// -------------------------------------------------------------------
-
-// xtreemfs_listdirRequest
-
-// required string path = 1;
-inline bool xtreemfs_listdirRequest::has_path() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// optional string path = 2;
+inline bool xtreemfs_replica_listRequest::has_path() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_listdirRequest::set_has_path() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_replica_listRequest::set_has_path() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_listdirRequest::clear_has_path() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void xtreemfs_replica_listRequest::clear_has_path() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_listdirRequest::clear_path() {
+inline void xtreemfs_replica_listRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& xtreemfs_listdirRequest::path() const {
+inline const ::std::string& xtreemfs_replica_listRequest::path() const {
   return *path_;
 }
-inline void xtreemfs_listdirRequest::set_path(const ::std::string& value) {
+inline void xtreemfs_replica_listRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_listdirRequest::set_path(const char* value) {
+inline void xtreemfs_replica_listRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_listdirRequest::set_path(const char* value, size_t size) {
+inline void xtreemfs_replica_listRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_listdirRequest::mutable_path() {
+inline ::std::string* xtreemfs_replica_listRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* xtreemfs_listdirRequest::release_path() {
+inline ::std::string* xtreemfs_replica_listRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12484,7 +13508,7 @@ inline ::std::string* xtreemfs_listdirRequest::release_path() {
     return temp;
   }
 }
-inline void xtreemfs_listdirRequest::set_allocated_path(::std::string* path) {
+inline void xtreemfs_replica_listRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -12497,106 +13521,128 @@ inline void xtreemfs_listdirRequest::set_allocated_path(::std::string* path) {
   }
 }
 
-// -------------------------------------------------------------------
-
-// xtreemfs_listdirResponse
-
-// repeated string names = 1;
-inline int xtreemfs_listdirResponse::names_size() const {
-  return names_.size();
-}
-inline void xtreemfs_listdirResponse::clear_names() {
-  names_.Clear();
-}
-inline const ::std::string& xtreemfs_listdirResponse::names(int index) const {
-  return names_.Get(index);
+// optional string volume_name = 3;
+inline bool xtreemfs_replica_listRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline ::std::string* xtreemfs_listdirResponse::mutable_names(int index) {
-  return names_.Mutable(index);
+inline void xtreemfs_replica_listRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_listdirResponse::set_names(int index, const ::std::string& value) {
-  names_.Mutable(index)->assign(value);
+inline void xtreemfs_replica_listRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_listdirResponse::set_names(int index, const char* value) {
-  names_.Mutable(index)->assign(value);
+inline void xtreemfs_replica_listRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
+  }
+  clear_has_volume_name();
 }
-inline void xtreemfs_listdirResponse::set_names(int index, const char* value, size_t size) {
-  names_.Mutable(index)->assign(
-    reinterpret_cast<const char*>(value), size);
+inline const ::std::string& xtreemfs_replica_listRequest::volume_name() const {
+  return *volume_name_;
 }
-inline ::std::string* xtreemfs_listdirResponse::add_names() {
-  return names_.Add();
+inline void xtreemfs_replica_listRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
 }
-inline void xtreemfs_listdirResponse::add_names(const ::std::string& value) {
-  names_.Add()->assign(value);
+inline void xtreemfs_replica_listRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(value);
 }
-inline void xtreemfs_listdirResponse::add_names(const char* value) {
-  names_.Add()->assign(value);
+inline void xtreemfs_replica_listRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline void xtreemfs_listdirResponse::add_names(const char* value, size_t size) {
-  names_.Add()->assign(reinterpret_cast<const char*>(value), size);
+inline ::std::string* xtreemfs_replica_listRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
+  }
+  return volume_name_;
 }
-inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
-xtreemfs_listdirResponse::names() const {
-  return names_;
+inline ::std::string* xtreemfs_replica_listRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
 }
-inline ::google::protobuf::RepeatedPtrField< ::std::string>*
-xtreemfs_listdirResponse::mutable_names() {
-  return &names_;
+inline void xtreemfs_replica_listRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
+  }
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
+  } else {
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_replica_addRequest
+// xtreemfs_get_xlocsetRequest
 
 // optional string file_id = 1;
-inline bool xtreemfs_replica_addRequest::has_file_id() const {
+inline bool xtreemfs_get_xlocsetRequest::has_file_id() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_replica_addRequest::set_has_file_id() {
+inline void xtreemfs_get_xlocsetRequest::set_has_file_id() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_replica_addRequest::clear_has_file_id() {
+inline void xtreemfs_get_xlocsetRequest::clear_has_file_id() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_replica_addRequest::clear_file_id() {
+inline void xtreemfs_get_xlocsetRequest::clear_file_id() {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     file_id_->clear();
   }
   clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_replica_addRequest::file_id() const {
+inline const ::std::string& xtreemfs_get_xlocsetRequest::file_id() const {
   return *file_id_;
 }
-inline void xtreemfs_replica_addRequest::set_file_id(const ::std::string& value) {
+inline void xtreemfs_get_xlocsetRequest::set_file_id(const ::std::string& value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_file_id(const char* value) {
+inline void xtreemfs_get_xlocsetRequest::set_file_id(const char* value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_file_id(const char* value, size_t size) {
+inline void xtreemfs_get_xlocsetRequest::set_file_id(const char* value, size_t size) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_addRequest::mutable_file_id() {
+inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_file_id() {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   return file_id_;
 }
-inline ::std::string* xtreemfs_replica_addRequest::release_file_id() {
+inline ::std::string* xtreemfs_get_xlocsetRequest::release_file_id() {
   clear_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12606,7 +13652,7 @@ inline ::std::string* xtreemfs_replica_addRequest::release_file_id() {
     return temp;
   }
 }
-inline void xtreemfs_replica_addRequest::set_allocated_file_id(::std::string* file_id) {
+inline void xtreemfs_get_xlocsetRequest::set_allocated_file_id(::std::string* file_id) {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     delete file_id_;
   }
@@ -12619,54 +13665,54 @@ inline void xtreemfs_replica_addRequest::set_allocated_file_id(::std::string* fi
   }
 }
 
-// optional string path = 3;
-inline bool xtreemfs_replica_addRequest::has_path() const {
+// optional string path = 2;
+inline bool xtreemfs_get_xlocsetRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_replica_addRequest::set_has_path() {
+inline void xtreemfs_get_xlocsetRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_replica_addRequest::clear_has_path() {
+inline void xtreemfs_get_xlocsetRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_replica_addRequest::clear_path() {
+inline void xtreemfs_get_xlocsetRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& xtreemfs_replica_addRequest::path() const {
+inline const ::std::string& xtreemfs_get_xlocsetRequest::path() const {
   return *path_;
 }
-inline void xtreemfs_replica_addRequest::set_path(const ::std::string& value) {
+inline void xtreemfs_get_xlocsetRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_path(const char* value) {
+inline void xtreemfs_get_xlocsetRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_path(const char* value, size_t size) {
+inline void xtreemfs_get_xlocsetRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_addRequest::mutable_path() {
+inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* xtreemfs_replica_addRequest::release_path() {
+inline ::std::string* xtreemfs_get_xlocsetRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12676,7 +13722,7 @@ inline ::std::string* xtreemfs_replica_addRequest::release_path() {
     return temp;
   }
 }
-inline void xtreemfs_replica_addRequest::set_allocated_path(::std::string* path) {
+inline void xtreemfs_get_xlocsetRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -12689,54 +13735,54 @@ inline void xtreemfs_replica_addRequest::set_allocated_path(::std::string* path)
   }
 }
 
-// optional string volume_name = 4;
-inline bool xtreemfs_replica_addRequest::has_volume_name() const {
+// optional string volume_name = 3;
+inline bool xtreemfs_get_xlocsetRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_replica_addRequest::set_has_volume_name() {
+inline void xtreemfs_get_xlocsetRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_replica_addRequest::clear_has_volume_name() {
+inline void xtreemfs_get_xlocsetRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_replica_addRequest::clear_volume_name() {
+inline void xtreemfs_get_xlocsetRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_replica_addRequest::volume_name() const {
+inline const ::std::string& xtreemfs_get_xlocsetRequest::volume_name() const {
   return *volume_name_;
 }
-inline void xtreemfs_replica_addRequest::set_volume_name(const ::std::string& value) {
+inline void xtreemfs_get_xlocsetRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_volume_name(const char* value) {
+inline void xtreemfs_get_xlocsetRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_replica_addRequest::set_volume_name(const char* value, size_t size) {
+inline void xtreemfs_get_xlocsetRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_addRequest::mutable_volume_name() {
+inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* xtreemfs_replica_addRequest::release_volume_name() {
+inline ::std::string* xtreemfs_get_xlocsetRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12746,7 +13792,7 @@ inline ::std::string* xtreemfs_replica_addRequest::release_volume_name() {
     return temp;
   }
 }
-inline void xtreemfs_replica_addRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void xtreemfs_get_xlocsetRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -12759,96 +13805,96 @@ inline void xtreemfs_replica_addRequest::set_allocated_volume_name(::std::string
   }
 }
 
-// required .xtreemfs.pbrpc.Replica new_replica = 2;
-inline bool xtreemfs_replica_addRequest::has_new_replica() const {
+// optional .xtreemfs.pbrpc.XCap xcap = 4;
+inline bool xtreemfs_get_xlocsetRequest::has_xcap() const {
   return (_has_bits_[0] & 0x00000008u) != 0;
 }
-inline void xtreemfs_replica_addRequest::set_has_new_replica() {
+inline void xtreemfs_get_xlocsetRequest::set_has_xcap() {
   _has_bits_[0] |= 0x00000008u;
 }
-inline void xtreemfs_replica_addRequest::clear_has_new_replica() {
+inline void xtreemfs_get_xlocsetRequest::clear_has_xcap() {
   _has_bits_[0] &= ~0x00000008u;
 }
-inline void xtreemfs_replica_addRequest::clear_new_replica() {
-  if (new_replica_ != NULL) new_replica_->::xtreemfs::pbrpc::Replica::Clear();
-  clear_has_new_replica();
-}
-inline const ::xtreemfs::pbrpc::Replica& xtreemfs_replica_addRequest::new_replica() const {
-  return new_replica_ != NULL ? *new_replica_ : *default_instance_->new_replica_;
+inline void xtreemfs_get_xlocsetRequest::clear_xcap() {
+  if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
+  clear_has_xcap();
 }
-inline ::xtreemfs::pbrpc::Replica* xtreemfs_replica_addRequest::mutable_new_replica() {
-  set_has_new_replica();
-  if (new_replica_ == NULL) new_replica_ = new ::xtreemfs::pbrpc::Replica;
-  return new_replica_;
+inline const ::xtreemfs::pbrpc::XCap& xtreemfs_get_xlocsetRequest::xcap() const {
+  return xcap_ != NULL ? *xcap_ : *default_instance_->xcap_;
 }
-inline ::xtreemfs::pbrpc::Replica* xtreemfs_replica_addRequest::release_new_replica() {
-  clear_has_new_replica();
-  ::xtreemfs::pbrpc::Replica* temp = new_replica_;
-  new_replica_ = NULL;
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_get_xlocsetRequest::mutable_xcap() {
+  set_has_xcap();
+  if (xcap_ == NULL) xcap_ = new ::xtreemfs::pbrpc::XCap;
+  return xcap_;
+}
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_get_xlocsetRequest::release_xcap() {
+  clear_has_xcap();
+  ::xtreemfs::pbrpc::XCap* temp = xcap_;
+  xcap_ = NULL;
   return temp;
 }
-inline void xtreemfs_replica_addRequest::set_allocated_new_replica(::xtreemfs::pbrpc::Replica* new_replica) {
-  delete new_replica_;
-  new_replica_ = new_replica;
-  if (new_replica) {
-    set_has_new_replica();
+inline void xtreemfs_get_xlocsetRequest::set_allocated_xcap(::xtreemfs::pbrpc::XCap* xcap) {
+  delete xcap_;
+  xcap_ = xcap;
+  if (xcap) {
+    set_has_xcap();
   } else {
-    clear_has_new_replica();
+    clear_has_xcap();
   }
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_replica_listRequest
+// xtreemfs_replica_removeRequest
 
 // optional string file_id = 1;
-inline bool xtreemfs_replica_listRequest::has_file_id() const {
+inline bool xtreemfs_replica_removeRequest::has_file_id() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_replica_listRequest::set_has_file_id() {
+inline void xtreemfs_replica_removeRequest::set_has_file_id() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_replica_listRequest::clear_has_file_id() {
+inline void xtreemfs_replica_removeRequest::clear_has_file_id() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_replica_listRequest::clear_file_id() {
+inline void xtreemfs_replica_removeRequest::clear_file_id() {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     file_id_->clear();
   }
   clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_replica_listRequest::file_id() const {
+inline const ::std::string& xtreemfs_replica_removeRequest::file_id() const {
   return *file_id_;
 }
-inline void xtreemfs_replica_listRequest::set_file_id(const ::std::string& value) {
+inline void xtreemfs_replica_removeRequest::set_file_id(const ::std::string& value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_file_id(const char* value) {
+inline void xtreemfs_replica_removeRequest::set_file_id(const char* value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_file_id(const char* value, size_t size) {
+inline void xtreemfs_replica_removeRequest::set_file_id(const char* value, size_t size) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_listRequest::mutable_file_id() {
+inline ::std::string* xtreemfs_replica_removeRequest::mutable_file_id() {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   return file_id_;
 }
-inline ::std::string* xtreemfs_replica_listRequest::release_file_id() {
+inline ::std::string* xtreemfs_replica_removeRequest::release_file_id() {
   clear_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12858,7 +13904,7 @@ inline ::std::string* xtreemfs_replica_listRequest::release_file_id() {
     return temp;
   }
 }
-inline void xtreemfs_replica_listRequest::set_allocated_file_id(::std::string* file_id) {
+inline void xtreemfs_replica_removeRequest::set_allocated_file_id(::std::string* file_id) {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     delete file_id_;
   }
@@ -12871,54 +13917,54 @@ inline void xtreemfs_replica_listRequest::set_allocated_file_id(::std::string* f
   }
 }
 
-// optional string path = 2;
-inline bool xtreemfs_replica_listRequest::has_path() const {
+// optional string path = 3;
+inline bool xtreemfs_replica_removeRequest::has_path() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_replica_listRequest::set_has_path() {
+inline void xtreemfs_replica_removeRequest::set_has_path() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_replica_listRequest::clear_has_path() {
+inline void xtreemfs_replica_removeRequest::clear_has_path() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_replica_listRequest::clear_path() {
+inline void xtreemfs_replica_removeRequest::clear_path() {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     path_->clear();
   }
   clear_has_path();
 }
-inline const ::std::string& xtreemfs_replica_listRequest::path() const {
+inline const ::std::string& xtreemfs_replica_removeRequest::path() const {
   return *path_;
 }
-inline void xtreemfs_replica_listRequest::set_path(const ::std::string& value) {
+inline void xtreemfs_replica_removeRequest::set_path(const ::std::string& value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_path(const char* value) {
+inline void xtreemfs_replica_removeRequest::set_path(const char* value) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_path(const char* value, size_t size) {
+inline void xtreemfs_replica_removeRequest::set_path(const char* value, size_t size) {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   path_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_listRequest::mutable_path() {
+inline ::std::string* xtreemfs_replica_removeRequest::mutable_path() {
   set_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     path_ = new ::std::string;
   }
   return path_;
 }
-inline ::std::string* xtreemfs_replica_listRequest::release_path() {
+inline ::std::string* xtreemfs_replica_removeRequest::release_path() {
   clear_has_path();
   if (path_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12928,7 +13974,7 @@ inline ::std::string* xtreemfs_replica_listRequest::release_path() {
     return temp;
   }
 }
-inline void xtreemfs_replica_listRequest::set_allocated_path(::std::string* path) {
+inline void xtreemfs_replica_removeRequest::set_allocated_path(::std::string* path) {
   if (path_ != &::google::protobuf::internal::kEmptyString) {
     delete path_;
   }
@@ -12941,54 +13987,54 @@ inline void xtreemfs_replica_listRequest::set_allocated_path(::std::string* path
   }
 }
 
-// optional string volume_name = 3;
-inline bool xtreemfs_replica_listRequest::has_volume_name() const {
+// optional string volume_name = 4;
+inline bool xtreemfs_replica_removeRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_replica_listRequest::set_has_volume_name() {
+inline void xtreemfs_replica_removeRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_replica_listRequest::clear_has_volume_name() {
+inline void xtreemfs_replica_removeRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_replica_listRequest::clear_volume_name() {
+inline void xtreemfs_replica_removeRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_replica_listRequest::volume_name() const {
+inline const ::std::string& xtreemfs_replica_removeRequest::volume_name() const {
   return *volume_name_;
 }
-inline void xtreemfs_replica_listRequest::set_volume_name(const ::std::string& value) {
+inline void xtreemfs_replica_removeRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_volume_name(const char* value) {
+inline void xtreemfs_replica_removeRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_replica_listRequest::set_volume_name(const char* value, size_t size) {
+inline void xtreemfs_replica_removeRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_listRequest::mutable_volume_name() {
+inline ::std::string* xtreemfs_replica_removeRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* xtreemfs_replica_listRequest::release_volume_name() {
+inline ::std::string* xtreemfs_replica_removeRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -12998,7 +14044,7 @@ inline ::std::string* xtreemfs_replica_listRequest::release_volume_name() {
     return temp;
   }
 }
-inline void xtreemfs_replica_listRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void xtreemfs_replica_removeRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -13011,58 +14057,198 @@ inline void xtreemfs_replica_listRequest::set_allocated_volume_name(::std::strin
   }
 }
 
+// required string osd_uuid = 2;
+inline bool xtreemfs_replica_removeRequest::has_osd_uuid() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void xtreemfs_replica_removeRequest::set_has_osd_uuid() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void xtreemfs_replica_removeRequest::clear_has_osd_uuid() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void xtreemfs_replica_removeRequest::clear_osd_uuid() {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_->clear();
+  }
+  clear_has_osd_uuid();
+}
+inline const ::std::string& xtreemfs_replica_removeRequest::osd_uuid() const {
+  return *osd_uuid_;
+}
+inline void xtreemfs_replica_removeRequest::set_osd_uuid(const ::std::string& value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
+  }
+  osd_uuid_->assign(value);
+}
+inline void xtreemfs_replica_removeRequest::set_osd_uuid(const char* value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
+  }
+  osd_uuid_->assign(value);
+}
+inline void xtreemfs_replica_removeRequest::set_osd_uuid(const char* value, size_t size) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
+  }
+  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_replica_removeRequest::mutable_osd_uuid() {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
+  }
+  return osd_uuid_;
+}
+inline ::std::string* xtreemfs_replica_removeRequest::release_osd_uuid() {
+  clear_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = osd_uuid_;
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void xtreemfs_replica_removeRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    delete osd_uuid_;
+  }
+  if (osd_uuid) {
+    set_has_osd_uuid();
+    osd_uuid_ = osd_uuid;
+  } else {
+    clear_has_osd_uuid();
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
 // -------------------------------------------------------------------
 
-// xtreemfs_get_xlocsetRequest
+// xtreemfs_restore_fileRequest
 
-// optional string file_id = 1;
-inline bool xtreemfs_get_xlocsetRequest::has_file_id() const {
+// required string file_path = 1;
+inline bool xtreemfs_restore_fileRequest::has_file_path() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_get_xlocsetRequest::set_has_file_id() {
+inline void xtreemfs_restore_fileRequest::set_has_file_path() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_has_file_id() {
+inline void xtreemfs_restore_fileRequest::clear_has_file_path() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_file_id() {
+inline void xtreemfs_restore_fileRequest::clear_file_path() {
+  if (file_path_ != &::google::protobuf::internal::kEmptyString) {
+    file_path_->clear();
+  }
+  clear_has_file_path();
+}
+inline const ::std::string& xtreemfs_restore_fileRequest::file_path() const {
+  return *file_path_;
+}
+inline void xtreemfs_restore_fileRequest::set_file_path(const ::std::string& value) {
+  set_has_file_path();
+  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
+    file_path_ = new ::std::string;
+  }
+  file_path_->assign(value);
+}
+inline void xtreemfs_restore_fileRequest::set_file_path(const char* value) {
+  set_has_file_path();
+  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
+    file_path_ = new ::std::string;
+  }
+  file_path_->assign(value);
+}
+inline void xtreemfs_restore_fileRequest::set_file_path(const char* value, size_t size) {
+  set_has_file_path();
+  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
+    file_path_ = new ::std::string;
+  }
+  file_path_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_restore_fileRequest::mutable_file_path() {
+  set_has_file_path();
+  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
+    file_path_ = new ::std::string;
+  }
+  return file_path_;
+}
+inline ::std::string* xtreemfs_restore_fileRequest::release_file_path() {
+  clear_has_file_path();
+  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
+  } else {
+    ::std::string* temp = file_path_;
+    file_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void xtreemfs_restore_fileRequest::set_allocated_file_path(::std::string* file_path) {
+  if (file_path_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_path_;
+  }
+  if (file_path) {
+    set_has_file_path();
+    file_path_ = file_path;
+  } else {
+    clear_has_file_path();
+    file_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// required string file_id = 2;
+inline bool xtreemfs_restore_fileRequest::has_file_id() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void xtreemfs_restore_fileRequest::set_has_file_id() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void xtreemfs_restore_fileRequest::clear_has_file_id() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void xtreemfs_restore_fileRequest::clear_file_id() {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     file_id_->clear();
   }
   clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_get_xlocsetRequest::file_id() const {
+inline const ::std::string& xtreemfs_restore_fileRequest::file_id() const {
   return *file_id_;
 }
-inline void xtreemfs_get_xlocsetRequest::set_file_id(const ::std::string& value) {
+inline void xtreemfs_restore_fileRequest::set_file_id(const ::std::string& value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_file_id(const char* value) {
+inline void xtreemfs_restore_fileRequest::set_file_id(const char* value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_file_id(const char* value, size_t size) {
+inline void xtreemfs_restore_fileRequest::set_file_id(const char* value, size_t size) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_file_id() {
+inline ::std::string* xtreemfs_restore_fileRequest::mutable_file_id() {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   return file_id_;
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::release_file_id() {
+inline ::std::string* xtreemfs_restore_fileRequest::release_file_id() {
   clear_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -13072,7 +14258,7 @@ inline ::std::string* xtreemfs_get_xlocsetRequest::release_file_id() {
     return temp;
   }
 }
-inline void xtreemfs_get_xlocsetRequest::set_allocated_file_id(::std::string* file_id) {
+inline void xtreemfs_restore_fileRequest::set_allocated_file_id(::std::string* file_id) {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     delete file_id_;
   }
@@ -13085,124 +14271,172 @@ inline void xtreemfs_get_xlocsetRequest::set_allocated_file_id(::std::string* fi
   }
 }
 
-// optional string path = 2;
-inline bool xtreemfs_get_xlocsetRequest::has_path() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// required fixed64 file_size = 3;
+inline bool xtreemfs_restore_fileRequest::has_file_size() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
 }
-inline void xtreemfs_get_xlocsetRequest::set_has_path() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_restore_fileRequest::set_has_file_size() {
+  _has_bits_[0] |= 0x00000004u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_has_path() {
-  _has_bits_[0] &= ~0x00000002u;
+inline void xtreemfs_restore_fileRequest::clear_has_file_size() {
+  _has_bits_[0] &= ~0x00000004u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_path() {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    path_->clear();
+inline void xtreemfs_restore_fileRequest::clear_file_size() {
+  file_size_ = GOOGLE_ULONGLONG(0);
+  clear_has_file_size();
+}
+inline ::google::protobuf::uint64 xtreemfs_restore_fileRequest::file_size() const {
+  return file_size_;
+}
+inline void xtreemfs_restore_fileRequest::set_file_size(::google::protobuf::uint64 value) {
+  set_has_file_size();
+  file_size_ = value;
+}
+
+// required string osd_uuid = 4;
+inline bool xtreemfs_restore_fileRequest::has_osd_uuid() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void xtreemfs_restore_fileRequest::set_has_osd_uuid() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void xtreemfs_restore_fileRequest::clear_has_osd_uuid() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void xtreemfs_restore_fileRequest::clear_osd_uuid() {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_->clear();
   }
-  clear_has_path();
+  clear_has_osd_uuid();
 }
-inline const ::std::string& xtreemfs_get_xlocsetRequest::path() const {
-  return *path_;
+inline const ::std::string& xtreemfs_restore_fileRequest::osd_uuid() const {
+  return *osd_uuid_;
 }
-inline void xtreemfs_get_xlocsetRequest::set_path(const ::std::string& value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void xtreemfs_restore_fileRequest::set_osd_uuid(const ::std::string& value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  path_->assign(value);
+  osd_uuid_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_path(const char* value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void xtreemfs_restore_fileRequest::set_osd_uuid(const char* value) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  path_->assign(value);
+  osd_uuid_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_path(const char* value, size_t size) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline void xtreemfs_restore_fileRequest::set_osd_uuid(const char* value, size_t size) {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  path_->assign(reinterpret_cast<const char*>(value), size);
+  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_path() {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
+inline ::std::string* xtreemfs_restore_fileRequest::mutable_osd_uuid() {
+  set_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+    osd_uuid_ = new ::std::string;
   }
-  return path_;
+  return osd_uuid_;
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::release_path() {
-  clear_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_restore_fileRequest::release_osd_uuid() {
+  clear_has_osd_uuid();
+  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = path_;
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = osd_uuid_;
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_get_xlocsetRequest::set_allocated_path(::std::string* path) {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
+inline void xtreemfs_restore_fileRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
+  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
+    delete osd_uuid_;
   }
-  if (path) {
-    set_has_path();
-    path_ = path;
+  if (osd_uuid) {
+    set_has_osd_uuid();
+    osd_uuid_ = osd_uuid;
   } else {
-    clear_has_path();
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_osd_uuid();
+    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// optional string volume_name = 3;
-inline bool xtreemfs_get_xlocsetRequest::has_volume_name() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
+// required fixed32 stripe_size = 5;
+inline bool xtreemfs_restore_fileRequest::has_stripe_size() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
 }
-inline void xtreemfs_get_xlocsetRequest::set_has_volume_name() {
-  _has_bits_[0] |= 0x00000004u;
+inline void xtreemfs_restore_fileRequest::set_has_stripe_size() {
+  _has_bits_[0] |= 0x00000010u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_has_volume_name() {
-  _has_bits_[0] &= ~0x00000004u;
+inline void xtreemfs_restore_fileRequest::clear_has_stripe_size() {
+  _has_bits_[0] &= ~0x00000010u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_volume_name() {
+inline void xtreemfs_restore_fileRequest::clear_stripe_size() {
+  stripe_size_ = 0u;
+  clear_has_stripe_size();
+}
+inline ::google::protobuf::uint32 xtreemfs_restore_fileRequest::stripe_size() const {
+  return stripe_size_;
+}
+inline void xtreemfs_restore_fileRequest::set_stripe_size(::google::protobuf::uint32 value) {
+  set_has_stripe_size();
+  stripe_size_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_rmvolRequest
+
+// required string volume_name = 1;
+inline bool xtreemfs_rmvolRequest::has_volume_name() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_rmvolRequest::set_has_volume_name() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_rmvolRequest::clear_has_volume_name() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_rmvolRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_get_xlocsetRequest::volume_name() const {
+inline const ::std::string& xtreemfs_rmvolRequest::volume_name() const {
   return *volume_name_;
 }
-inline void xtreemfs_get_xlocsetRequest::set_volume_name(const ::std::string& value) {
+inline void xtreemfs_rmvolRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_volume_name(const char* value) {
+inline void xtreemfs_rmvolRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_get_xlocsetRequest::set_volume_name(const char* value, size_t size) {
+inline void xtreemfs_rmvolRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::mutable_volume_name() {
+inline ::std::string* xtreemfs_rmvolRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* xtreemfs_get_xlocsetRequest::release_volume_name() {
+inline ::std::string* xtreemfs_rmvolRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -13212,7 +14446,7 @@ inline ::std::string* xtreemfs_get_xlocsetRequest::release_volume_name() {
     return temp;
   }
 }
-inline void xtreemfs_get_xlocsetRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void xtreemfs_rmvolRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -13225,96 +14459,198 @@ inline void xtreemfs_get_xlocsetRequest::set_allocated_volume_name(::std::string
   }
 }
 
-// optional .xtreemfs.pbrpc.XCap xcap = 4;
-inline bool xtreemfs_get_xlocsetRequest::has_xcap() const {
+// -------------------------------------------------------------------
+
+// xtreemfs_update_file_sizeRequest
+
+// required .xtreemfs.pbrpc.XCap xcap = 1;
+inline bool xtreemfs_update_file_sizeRequest::has_xcap() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_update_file_sizeRequest::set_has_xcap() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_has_xcap() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_xcap() {
+  if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
+  clear_has_xcap();
+}
+inline const ::xtreemfs::pbrpc::XCap& xtreemfs_update_file_sizeRequest::xcap() const {
+  return xcap_ != NULL ? *xcap_ : *default_instance_->xcap_;
+}
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_update_file_sizeRequest::mutable_xcap() {
+  set_has_xcap();
+  if (xcap_ == NULL) xcap_ = new ::xtreemfs::pbrpc::XCap;
+  return xcap_;
+}
+inline ::xtreemfs::pbrpc::XCap* xtreemfs_update_file_sizeRequest::release_xcap() {
+  clear_has_xcap();
+  ::xtreemfs::pbrpc::XCap* temp = xcap_;
+  xcap_ = NULL;
+  return temp;
+}
+inline void xtreemfs_update_file_sizeRequest::set_allocated_xcap(::xtreemfs::pbrpc::XCap* xcap) {
+  delete xcap_;
+  xcap_ = xcap;
+  if (xcap) {
+    set_has_xcap();
+  } else {
+    clear_has_xcap();
+  }
+}
+
+// required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
+inline bool xtreemfs_update_file_sizeRequest::has_osd_write_response() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void xtreemfs_update_file_sizeRequest::set_has_osd_write_response() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_has_osd_write_response() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_osd_write_response() {
+  if (osd_write_response_ != NULL) osd_write_response_->::xtreemfs::pbrpc::OSDWriteResponse::Clear();
+  clear_has_osd_write_response();
+}
+inline const ::xtreemfs::pbrpc::OSDWriteResponse& xtreemfs_update_file_sizeRequest::osd_write_response() const {
+  return osd_write_response_ != NULL ? *osd_write_response_ : *default_instance_->osd_write_response_;
+}
+inline ::xtreemfs::pbrpc::OSDWriteResponse* xtreemfs_update_file_sizeRequest::mutable_osd_write_response() {
+  set_has_osd_write_response();
+  if (osd_write_response_ == NULL) osd_write_response_ = new ::xtreemfs::pbrpc::OSDWriteResponse;
+  return osd_write_response_;
+}
+inline ::xtreemfs::pbrpc::OSDWriteResponse* xtreemfs_update_file_sizeRequest::release_osd_write_response() {
+  clear_has_osd_write_response();
+  ::xtreemfs::pbrpc::OSDWriteResponse* temp = osd_write_response_;
+  osd_write_response_ = NULL;
+  return temp;
+}
+inline void xtreemfs_update_file_sizeRequest::set_allocated_osd_write_response(::xtreemfs::pbrpc::OSDWriteResponse* osd_write_response) {
+  delete osd_write_response_;
+  osd_write_response_ = osd_write_response;
+  if (osd_write_response) {
+    set_has_osd_write_response();
+  } else {
+    clear_has_osd_write_response();
+  }
+}
+
+// optional bool close_file = 3;
+inline bool xtreemfs_update_file_sizeRequest::has_close_file() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void xtreemfs_update_file_sizeRequest::set_has_close_file() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_has_close_file() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void xtreemfs_update_file_sizeRequest::clear_close_file() {
+  close_file_ = false;
+  clear_has_close_file();
+}
+inline bool xtreemfs_update_file_sizeRequest::close_file() const {
+  return close_file_;
+}
+inline void xtreemfs_update_file_sizeRequest::set_close_file(bool value) {
+  set_has_close_file();
+  close_file_ = value;
+}
+
+// optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
+inline bool xtreemfs_update_file_sizeRequest::has_coordinates() const {
   return (_has_bits_[0] & 0x00000008u) != 0;
 }
-inline void xtreemfs_get_xlocsetRequest::set_has_xcap() {
+inline void xtreemfs_update_file_sizeRequest::set_has_coordinates() {
   _has_bits_[0] |= 0x00000008u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_has_xcap() {
+inline void xtreemfs_update_file_sizeRequest::clear_has_coordinates() {
   _has_bits_[0] &= ~0x00000008u;
 }
-inline void xtreemfs_get_xlocsetRequest::clear_xcap() {
-  if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
-  clear_has_xcap();
+inline void xtreemfs_update_file_sizeRequest::clear_coordinates() {
+  if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
+  clear_has_coordinates();
 }
-inline const ::xtreemfs::pbrpc::XCap& xtreemfs_get_xlocsetRequest::xcap() const {
-  return xcap_ != NULL ? *xcap_ : *default_instance_->xcap_;
+inline const ::xtreemfs::pbrpc::VivaldiCoordinates& xtreemfs_update_file_sizeRequest::coordinates() const {
+  return coordinates_ != NULL ? *coordinates_ : *default_instance_->coordinates_;
 }
-inline ::xtreemfs::pbrpc::XCap* xtreemfs_get_xlocsetRequest::mutable_xcap() {
-  set_has_xcap();
-  if (xcap_ == NULL) xcap_ = new ::xtreemfs::pbrpc::XCap;
-  return xcap_;
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_update_file_sizeRequest::mutable_coordinates() {
+  set_has_coordinates();
+  if (coordinates_ == NULL) coordinates_ = new ::xtreemfs::pbrpc::VivaldiCoordinates;
+  return coordinates_;
 }
-inline ::xtreemfs::pbrpc::XCap* xtreemfs_get_xlocsetRequest::release_xcap() {
-  clear_has_xcap();
-  ::xtreemfs::pbrpc::XCap* temp = xcap_;
-  xcap_ = NULL;
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_update_file_sizeRequest::release_coordinates() {
+  clear_has_coordinates();
+  ::xtreemfs::pbrpc::VivaldiCoordinates* temp = coordinates_;
+  coordinates_ = NULL;
   return temp;
 }
-inline void xtreemfs_get_xlocsetRequest::set_allocated_xcap(::xtreemfs::pbrpc::XCap* xcap) {
-  delete xcap_;
-  xcap_ = xcap;
-  if (xcap) {
-    set_has_xcap();
+inline void xtreemfs_update_file_sizeRequest::set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates) {
+  delete coordinates_;
+  coordinates_ = coordinates;
+  if (coordinates) {
+    set_has_coordinates();
   } else {
-    clear_has_xcap();
+    clear_has_coordinates();
   }
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_replica_removeRequest
+// xtreemfs_set_replica_update_policyRequest
 
-// optional string file_id = 1;
-inline bool xtreemfs_replica_removeRequest::has_file_id() const {
+// required string file_id = 1;
+inline bool xtreemfs_set_replica_update_policyRequest::has_file_id() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_replica_removeRequest::set_has_file_id() {
+inline void xtreemfs_set_replica_update_policyRequest::set_has_file_id() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_replica_removeRequest::clear_has_file_id() {
+inline void xtreemfs_set_replica_update_policyRequest::clear_has_file_id() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_replica_removeRequest::clear_file_id() {
+inline void xtreemfs_set_replica_update_policyRequest::clear_file_id() {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     file_id_->clear();
   }
   clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_replica_removeRequest::file_id() const {
+inline const ::std::string& xtreemfs_set_replica_update_policyRequest::file_id() const {
   return *file_id_;
 }
-inline void xtreemfs_replica_removeRequest::set_file_id(const ::std::string& value) {
+inline void xtreemfs_set_replica_update_policyRequest::set_file_id(const ::std::string& value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_file_id(const char* value) {
+inline void xtreemfs_set_replica_update_policyRequest::set_file_id(const char* value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_file_id(const char* value, size_t size) {
+inline void xtreemfs_set_replica_update_policyRequest::set_file_id(const char* value, size_t size) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_removeRequest::mutable_file_id() {
+inline ::std::string* xtreemfs_set_replica_update_policyRequest::mutable_file_id() {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   return file_id_;
 }
-inline ::std::string* xtreemfs_replica_removeRequest::release_file_id() {
+inline ::std::string* xtreemfs_set_replica_update_policyRequest::release_file_id() {
   clear_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -13324,7 +14660,7 @@ inline ::std::string* xtreemfs_replica_removeRequest::release_file_id() {
     return temp;
   }
 }
-inline void xtreemfs_replica_removeRequest::set_allocated_file_id(::std::string* file_id) {
+inline void xtreemfs_set_replica_update_policyRequest::set_allocated_file_id(::std::string* file_id) {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     delete file_id_;
   }
@@ -13337,338 +14673,202 @@ inline void xtreemfs_replica_removeRequest::set_allocated_file_id(::std::string*
   }
 }
 
-// optional string path = 3;
-inline bool xtreemfs_replica_removeRequest::has_path() const {
+// required string update_policy = 2;
+inline bool xtreemfs_set_replica_update_policyRequest::has_update_policy() const {
   return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_replica_removeRequest::set_has_path() {
+inline void xtreemfs_set_replica_update_policyRequest::set_has_update_policy() {
   _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_replica_removeRequest::clear_has_path() {
+inline void xtreemfs_set_replica_update_policyRequest::clear_has_update_policy() {
   _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_replica_removeRequest::clear_path() {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    path_->clear();
-  }
-  clear_has_path();
-}
-inline const ::std::string& xtreemfs_replica_removeRequest::path() const {
-  return *path_;
-}
-inline void xtreemfs_replica_removeRequest::set_path(const ::std::string& value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  path_->assign(value);
-}
-inline void xtreemfs_replica_removeRequest::set_path(const char* value) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  path_->assign(value);
-}
-inline void xtreemfs_replica_removeRequest::set_path(const char* value, size_t size) {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  path_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* xtreemfs_replica_removeRequest::mutable_path() {
-  set_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    path_ = new ::std::string;
-  }
-  return path_;
-}
-inline ::std::string* xtreemfs_replica_removeRequest::release_path() {
-  clear_has_path();
-  if (path_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = path_;
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
-}
-inline void xtreemfs_replica_removeRequest::set_allocated_path(::std::string* path) {
-  if (path_ != &::google::protobuf::internal::kEmptyString) {
-    delete path_;
-  }
-  if (path) {
-    set_has_path();
-    path_ = path;
-  } else {
-    clear_has_path();
-    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
-}
-
-// optional string volume_name = 4;
-inline bool xtreemfs_replica_removeRequest::has_volume_name() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
-}
-inline void xtreemfs_replica_removeRequest::set_has_volume_name() {
-  _has_bits_[0] |= 0x00000004u;
-}
-inline void xtreemfs_replica_removeRequest::clear_has_volume_name() {
-  _has_bits_[0] &= ~0x00000004u;
-}
-inline void xtreemfs_replica_removeRequest::clear_volume_name() {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    volume_name_->clear();
-  }
-  clear_has_volume_name();
-}
-inline const ::std::string& xtreemfs_replica_removeRequest::volume_name() const {
-  return *volume_name_;
-}
-inline void xtreemfs_replica_removeRequest::set_volume_name(const ::std::string& value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
-  }
-  volume_name_->assign(value);
-}
-inline void xtreemfs_replica_removeRequest::set_volume_name(const char* value) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
-  }
-  volume_name_->assign(value);
-}
-inline void xtreemfs_replica_removeRequest::set_volume_name(const char* value, size_t size) {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
-  }
-  volume_name_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* xtreemfs_replica_removeRequest::mutable_volume_name() {
-  set_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    volume_name_ = new ::std::string;
-  }
-  return volume_name_;
-}
-inline ::std::string* xtreemfs_replica_removeRequest::release_volume_name() {
-  clear_has_volume_name();
-  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = volume_name_;
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
-}
-inline void xtreemfs_replica_removeRequest::set_allocated_volume_name(::std::string* volume_name) {
-  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
-    delete volume_name_;
-  }
-  if (volume_name) {
-    set_has_volume_name();
-    volume_name_ = volume_name;
-  } else {
-    clear_has_volume_name();
-    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
-}
-
-// required string osd_uuid = 2;
-inline bool xtreemfs_replica_removeRequest::has_osd_uuid() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
-}
-inline void xtreemfs_replica_removeRequest::set_has_osd_uuid() {
-  _has_bits_[0] |= 0x00000008u;
-}
-inline void xtreemfs_replica_removeRequest::clear_has_osd_uuid() {
-  _has_bits_[0] &= ~0x00000008u;
-}
-inline void xtreemfs_replica_removeRequest::clear_osd_uuid() {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_->clear();
+inline void xtreemfs_set_replica_update_policyRequest::clear_update_policy() {
+  if (update_policy_ != &::google::protobuf::internal::kEmptyString) {
+    update_policy_->clear();
   }
-  clear_has_osd_uuid();
+  clear_has_update_policy();
 }
-inline const ::std::string& xtreemfs_replica_removeRequest::osd_uuid() const {
-  return *osd_uuid_;
+inline const ::std::string& xtreemfs_set_replica_update_policyRequest::update_policy() const {
+  return *update_policy_;
 }
-inline void xtreemfs_replica_removeRequest::set_osd_uuid(const ::std::string& value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_set_replica_update_policyRequest::set_update_policy(const ::std::string& value) {
+  set_has_update_policy();
+  if (update_policy_ == &::google::protobuf::internal::kEmptyString) {
+    update_policy_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  update_policy_->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_osd_uuid(const char* value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_set_replica_update_policyRequest::set_update_policy(const char* value) {
+  set_has_update_policy();
+  if (update_policy_ == &::google::protobuf::internal::kEmptyString) {
+    update_policy_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  update_policy_->assign(value);
 }
-inline void xtreemfs_replica_removeRequest::set_osd_uuid(const char* value, size_t size) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_set_replica_update_policyRequest::set_update_policy(const char* value, size_t size) {
+  set_has_update_policy();
+  if (update_policy_ == &::google::protobuf::internal::kEmptyString) {
+    update_policy_ = new ::std::string;
   }
-  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
+  update_policy_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_replica_removeRequest::mutable_osd_uuid() {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline ::std::string* xtreemfs_set_replica_update_policyRequest::mutable_update_policy() {
+  set_has_update_policy();
+  if (update_policy_ == &::google::protobuf::internal::kEmptyString) {
+    update_policy_ = new ::std::string;
   }
-  return osd_uuid_;
+  return update_policy_;
 }
-inline ::std::string* xtreemfs_replica_removeRequest::release_osd_uuid() {
-  clear_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_set_replica_update_policyRequest::release_update_policy() {
+  clear_has_update_policy();
+  if (update_policy_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = osd_uuid_;
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = update_policy_;
+    update_policy_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_replica_removeRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    delete osd_uuid_;
+inline void xtreemfs_set_replica_update_policyRequest::set_allocated_update_policy(::std::string* update_policy) {
+  if (update_policy_ != &::google::protobuf::internal::kEmptyString) {
+    delete update_policy_;
   }
-  if (osd_uuid) {
-    set_has_osd_uuid();
-    osd_uuid_ = osd_uuid;
+  if (update_policy) {
+    set_has_update_policy();
+    update_policy_ = update_policy;
   } else {
-    clear_has_osd_uuid();
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_update_policy();
+    update_policy_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_restore_fileRequest
+// xtreemfs_set_replica_update_policyResponse
 
-// required string file_path = 1;
-inline bool xtreemfs_restore_fileRequest::has_file_path() const {
+// required string old_update_policy = 1;
+inline bool xtreemfs_set_replica_update_policyResponse::has_old_update_policy() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_restore_fileRequest::set_has_file_path() {
+inline void xtreemfs_set_replica_update_policyResponse::set_has_old_update_policy() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_restore_fileRequest::clear_has_file_path() {
+inline void xtreemfs_set_replica_update_policyResponse::clear_has_old_update_policy() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_restore_fileRequest::clear_file_path() {
-  if (file_path_ != &::google::protobuf::internal::kEmptyString) {
-    file_path_->clear();
+inline void xtreemfs_set_replica_update_policyResponse::clear_old_update_policy() {
+  if (old_update_policy_ != &::google::protobuf::internal::kEmptyString) {
+    old_update_policy_->clear();
   }
-  clear_has_file_path();
+  clear_has_old_update_policy();
 }
-inline const ::std::string& xtreemfs_restore_fileRequest::file_path() const {
-  return *file_path_;
+inline const ::std::string& xtreemfs_set_replica_update_policyResponse::old_update_policy() const {
+  return *old_update_policy_;
 }
-inline void xtreemfs_restore_fileRequest::set_file_path(const ::std::string& value) {
-  set_has_file_path();
-  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
-    file_path_ = new ::std::string;
+inline void xtreemfs_set_replica_update_policyResponse::set_old_update_policy(const ::std::string& value) {
+  set_has_old_update_policy();
+  if (old_update_policy_ == &::google::protobuf::internal::kEmptyString) {
+    old_update_policy_ = new ::std::string;
   }
-  file_path_->assign(value);
+  old_update_policy_->assign(value);
 }
-inline void xtreemfs_restore_fileRequest::set_file_path(const char* value) {
-  set_has_file_path();
-  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
-    file_path_ = new ::std::string;
+inline void xtreemfs_set_replica_update_policyResponse::set_old_update_policy(const char* value) {
+  set_has_old_update_policy();
+  if (old_update_policy_ == &::google::protobuf::internal::kEmptyString) {
+    old_update_policy_ = new ::std::string;
   }
-  file_path_->assign(value);
+  old_update_policy_->assign(value);
 }
-inline void xtreemfs_restore_fileRequest::set_file_path(const char* value, size_t size) {
-  set_has_file_path();
-  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
-    file_path_ = new ::std::string;
+inline void xtreemfs_set_replica_update_policyResponse::set_old_update_policy(const char* value, size_t size) {
+  set_has_old_update_policy();
+  if (old_update_policy_ == &::google::protobuf::internal::kEmptyString) {
+    old_update_policy_ = new ::std::string;
   }
-  file_path_->assign(reinterpret_cast<const char*>(value), size);
+  old_update_policy_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_restore_fileRequest::mutable_file_path() {
-  set_has_file_path();
-  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
-    file_path_ = new ::std::string;
+inline ::std::string* xtreemfs_set_replica_update_policyResponse::mutable_old_update_policy() {
+  set_has_old_update_policy();
+  if (old_update_policy_ == &::google::protobuf::internal::kEmptyString) {
+    old_update_policy_ = new ::std::string;
   }
-  return file_path_;
+  return old_update_policy_;
 }
-inline ::std::string* xtreemfs_restore_fileRequest::release_file_path() {
-  clear_has_file_path();
-  if (file_path_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_set_replica_update_policyResponse::release_old_update_policy() {
+  clear_has_old_update_policy();
+  if (old_update_policy_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = file_path_;
-    file_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = old_update_policy_;
+    old_update_policy_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_restore_fileRequest::set_allocated_file_path(::std::string* file_path) {
-  if (file_path_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_path_;
+inline void xtreemfs_set_replica_update_policyResponse::set_allocated_old_update_policy(::std::string* old_update_policy) {
+  if (old_update_policy_ != &::google::protobuf::internal::kEmptyString) {
+    delete old_update_policy_;
   }
-  if (file_path) {
-    set_has_file_path();
-    file_path_ = file_path;
+  if (old_update_policy) {
+    set_has_old_update_policy();
+    old_update_policy_ = old_update_policy;
   } else {
-    clear_has_file_path();
-    file_path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_old_update_policy();
+    old_update_policy_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required string file_id = 2;
-inline bool xtreemfs_restore_fileRequest::has_file_id() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// -------------------------------------------------------------------
+
+// xtreemfs_set_read_only_xattrRequest
+
+// required string file_id = 1;
+inline bool xtreemfs_set_read_only_xattrRequest::has_file_id() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_restore_fileRequest::set_has_file_id() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_set_read_only_xattrRequest::set_has_file_id() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_restore_fileRequest::clear_has_file_id() {
-  _has_bits_[0] &= ~0x00000002u;
+inline void xtreemfs_set_read_only_xattrRequest::clear_has_file_id() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_restore_fileRequest::clear_file_id() {
+inline void xtreemfs_set_read_only_xattrRequest::clear_file_id() {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     file_id_->clear();
   }
   clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_restore_fileRequest::file_id() const {
+inline const ::std::string& xtreemfs_set_read_only_xattrRequest::file_id() const {
   return *file_id_;
 }
-inline void xtreemfs_restore_fileRequest::set_file_id(const ::std::string& value) {
+inline void xtreemfs_set_read_only_xattrRequest::set_file_id(const ::std::string& value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_restore_fileRequest::set_file_id(const char* value) {
+inline void xtreemfs_set_read_only_xattrRequest::set_file_id(const char* value) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(value);
 }
-inline void xtreemfs_restore_fileRequest::set_file_id(const char* value, size_t size) {
+inline void xtreemfs_set_read_only_xattrRequest::set_file_id(const char* value, size_t size) {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_restore_fileRequest::mutable_file_id() {
+inline ::std::string* xtreemfs_set_read_only_xattrRequest::mutable_file_id() {
   set_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     file_id_ = new ::std::string;
   }
   return file_id_;
 }
-inline ::std::string* xtreemfs_restore_fileRequest::release_file_id() {
+inline ::std::string* xtreemfs_set_read_only_xattrRequest::release_file_id() {
   clear_has_file_id();
   if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -13678,7 +14878,7 @@ inline ::std::string* xtreemfs_restore_fileRequest::release_file_id() {
     return temp;
   }
 }
-inline void xtreemfs_restore_fileRequest::set_allocated_file_id(::std::string* file_id) {
+inline void xtreemfs_set_read_only_xattrRequest::set_allocated_file_id(::std::string* file_id) {
   if (file_id_ != &::google::protobuf::internal::kEmptyString) {
     delete file_id_;
   }
@@ -13691,172 +14891,180 @@ inline void xtreemfs_restore_fileRequest::set_allocated_file_id(::std::string* f
   }
 }
 
-// required fixed64 file_size = 3;
-inline bool xtreemfs_restore_fileRequest::has_file_size() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
+// required bool value = 2;
+inline bool xtreemfs_set_read_only_xattrRequest::has_value() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_restore_fileRequest::set_has_file_size() {
-  _has_bits_[0] |= 0x00000004u;
+inline void xtreemfs_set_read_only_xattrRequest::set_has_value() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_restore_fileRequest::clear_has_file_size() {
-  _has_bits_[0] &= ~0x00000004u;
+inline void xtreemfs_set_read_only_xattrRequest::clear_has_value() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_restore_fileRequest::clear_file_size() {
-  file_size_ = GOOGLE_ULONGLONG(0);
-  clear_has_file_size();
+inline void xtreemfs_set_read_only_xattrRequest::clear_value() {
+  value_ = false;
+  clear_has_value();
 }
-inline ::google::protobuf::uint64 xtreemfs_restore_fileRequest::file_size() const {
-  return file_size_;
+inline bool xtreemfs_set_read_only_xattrRequest::value() const {
+  return value_;
 }
-inline void xtreemfs_restore_fileRequest::set_file_size(::google::protobuf::uint64 value) {
-  set_has_file_size();
-  file_size_ = value;
+inline void xtreemfs_set_read_only_xattrRequest::set_value(bool value) {
+  set_has_value();
+  value_ = value;
 }
 
-// required string osd_uuid = 4;
-inline bool xtreemfs_restore_fileRequest::has_osd_uuid() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
+// -------------------------------------------------------------------
+
+// xtreemfs_set_read_only_xattrResponse
+
+// required bool was_set = 1;
+inline bool xtreemfs_set_read_only_xattrResponse::has_was_set() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_restore_fileRequest::set_has_osd_uuid() {
-  _has_bits_[0] |= 0x00000008u;
+inline void xtreemfs_set_read_only_xattrResponse::set_has_was_set() {
+  _has_bits_[0] |= 0x00000001u;
+}
+inline void xtreemfs_set_read_only_xattrResponse::clear_has_was_set() {
+  _has_bits_[0] &= ~0x00000001u;
+}
+inline void xtreemfs_set_read_only_xattrResponse::clear_was_set() {
+  was_set_ = false;
+  clear_has_was_set();
+}
+inline bool xtreemfs_set_read_only_xattrResponse::was_set() const {
+  return was_set_;
+}
+inline void xtreemfs_set_read_only_xattrResponse::set_was_set(bool value) {
+  set_has_was_set();
+  was_set_ = value;
+}
+
+// -------------------------------------------------------------------
+
+// xtreemfs_get_file_credentialsRequest
+
+// required string file_id = 1;
+inline bool xtreemfs_get_file_credentialsRequest::has_file_id() const {
+  return (_has_bits_[0] & 0x00000001u) != 0;
+}
+inline void xtreemfs_get_file_credentialsRequest::set_has_file_id() {
+  _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_restore_fileRequest::clear_has_osd_uuid() {
-  _has_bits_[0] &= ~0x00000008u;
+inline void xtreemfs_get_file_credentialsRequest::clear_has_file_id() {
+  _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_restore_fileRequest::clear_osd_uuid() {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_->clear();
+inline void xtreemfs_get_file_credentialsRequest::clear_file_id() {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    file_id_->clear();
   }
-  clear_has_osd_uuid();
+  clear_has_file_id();
 }
-inline const ::std::string& xtreemfs_restore_fileRequest::osd_uuid() const {
-  return *osd_uuid_;
+inline const ::std::string& xtreemfs_get_file_credentialsRequest::file_id() const {
+  return *file_id_;
 }
-inline void xtreemfs_restore_fileRequest::set_osd_uuid(const ::std::string& value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_get_file_credentialsRequest::set_file_id(const ::std::string& value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  file_id_->assign(value);
 }
-inline void xtreemfs_restore_fileRequest::set_osd_uuid(const char* value) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_get_file_credentialsRequest::set_file_id(const char* value) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  osd_uuid_->assign(value);
+  file_id_->assign(value);
 }
-inline void xtreemfs_restore_fileRequest::set_osd_uuid(const char* value, size_t size) {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline void xtreemfs_get_file_credentialsRequest::set_file_id(const char* value, size_t size) {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  osd_uuid_->assign(reinterpret_cast<const char*>(value), size);
+  file_id_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_restore_fileRequest::mutable_osd_uuid() {
-  set_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
-    osd_uuid_ = new ::std::string;
+inline ::std::string* xtreemfs_get_file_credentialsRequest::mutable_file_id() {
+  set_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+    file_id_ = new ::std::string;
   }
-  return osd_uuid_;
+  return file_id_;
 }
-inline ::std::string* xtreemfs_restore_fileRequest::release_osd_uuid() {
-  clear_has_osd_uuid();
-  if (osd_uuid_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_get_file_credentialsRequest::release_file_id() {
+  clear_has_file_id();
+  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = osd_uuid_;
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = file_id_;
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_restore_fileRequest::set_allocated_osd_uuid(::std::string* osd_uuid) {
-  if (osd_uuid_ != &::google::protobuf::internal::kEmptyString) {
-    delete osd_uuid_;
+inline void xtreemfs_get_file_credentialsRequest::set_allocated_file_id(::std::string* file_id) {
+  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
+    delete file_id_;
   }
-  if (osd_uuid) {
-    set_has_osd_uuid();
-    osd_uuid_ = osd_uuid;
+  if (file_id) {
+    set_has_file_id();
+    file_id_ = file_id;
   } else {
-    clear_has_osd_uuid();
-    osd_uuid_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_file_id();
+    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required fixed32 stripe_size = 5;
-inline bool xtreemfs_restore_fileRequest::has_stripe_size() const {
-  return (_has_bits_[0] & 0x00000010u) != 0;
-}
-inline void xtreemfs_restore_fileRequest::set_has_stripe_size() {
-  _has_bits_[0] |= 0x00000010u;
-}
-inline void xtreemfs_restore_fileRequest::clear_has_stripe_size() {
-  _has_bits_[0] &= ~0x00000010u;
-}
-inline void xtreemfs_restore_fileRequest::clear_stripe_size() {
-  stripe_size_ = 0u;
-  clear_has_stripe_size();
-}
-inline ::google::protobuf::uint32 xtreemfs_restore_fileRequest::stripe_size() const {
-  return stripe_size_;
-}
-inline void xtreemfs_restore_fileRequest::set_stripe_size(::google::protobuf::uint32 value) {
-  set_has_stripe_size();
-  stripe_size_ = value;
-}
-
 // -------------------------------------------------------------------
 
-// xtreemfs_rmvolRequest
+// xtreemfs_create_filesRequest
 
 // required string volume_name = 1;
-inline bool xtreemfs_rmvolRequest::has_volume_name() const {
+inline bool xtreemfs_create_filesRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_rmvolRequest::set_has_volume_name() {
+inline void xtreemfs_create_filesRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_rmvolRequest::clear_has_volume_name() {
+inline void xtreemfs_create_filesRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_rmvolRequest::clear_volume_name() {
+inline void xtreemfs_create_filesRequest::clear_volume_name() {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     volume_name_->clear();
   }
   clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_rmvolRequest::volume_name() const {
+inline const ::std::string& xtreemfs_create_filesRequest::volume_name() const {
   return *volume_name_;
 }
-inline void xtreemfs_rmvolRequest::set_volume_name(const ::std::string& value) {
+inline void xtreemfs_create_filesRequest::set_volume_name(const ::std::string& value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_rmvolRequest::set_volume_name(const char* value) {
+inline void xtreemfs_create_filesRequest::set_volume_name(const char* value) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(value);
 }
-inline void xtreemfs_rmvolRequest::set_volume_name(const char* value, size_t size) {
+inline void xtreemfs_create_filesRequest::set_volume_name(const char* value, size_t size) {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_rmvolRequest::mutable_volume_name() {
+inline ::std::string* xtreemfs_create_filesRequest::mutable_volume_name() {
   set_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     volume_name_ = new ::std::string;
   }
   return volume_name_;
 }
-inline ::std::string* xtreemfs_rmvolRequest::release_volume_name() {
+inline ::std::string* xtreemfs_create_filesRequest::release_volume_name() {
   clear_has_volume_name();
   if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
@@ -13866,7 +15074,7 @@ inline ::std::string* xtreemfs_rmvolRequest::release_volume_name() {
     return temp;
   }
 }
-inline void xtreemfs_rmvolRequest::set_allocated_volume_name(::std::string* volume_name) {
+inline void xtreemfs_create_filesRequest::set_allocated_volume_name(::std::string* volume_name) {
   if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
     delete volume_name_;
   }
@@ -13879,137 +15087,193 @@ inline void xtreemfs_rmvolRequest::set_allocated_volume_name(::std::string* volu
   }
 }
 
-// -------------------------------------------------------------------
-
-// xtreemfs_update_file_sizeRequest
-
-// required .xtreemfs.pbrpc.XCap xcap = 1;
-inline bool xtreemfs_update_file_sizeRequest::has_xcap() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// required string path = 2;
+inline bool xtreemfs_create_filesRequest::has_path() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_update_file_sizeRequest::set_has_xcap() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_create_filesRequest::set_has_path() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_has_xcap() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void xtreemfs_create_filesRequest::clear_has_path() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_xcap() {
-  if (xcap_ != NULL) xcap_->::xtreemfs::pbrpc::XCap::Clear();
-  clear_has_xcap();
+inline void xtreemfs_create_filesRequest::clear_path() {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    path_->clear();
+  }
+  clear_has_path();
 }
-inline const ::xtreemfs::pbrpc::XCap& xtreemfs_update_file_sizeRequest::xcap() const {
-  return xcap_ != NULL ? *xcap_ : *default_instance_->xcap_;
+inline const ::std::string& xtreemfs_create_filesRequest::path() const {
+  return *path_;
 }
-inline ::xtreemfs::pbrpc::XCap* xtreemfs_update_file_sizeRequest::mutable_xcap() {
-  set_has_xcap();
-  if (xcap_ == NULL) xcap_ = new ::xtreemfs::pbrpc::XCap;
-  return xcap_;
+inline void xtreemfs_create_filesRequest::set_path(const ::std::string& value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(value);
 }
-inline ::xtreemfs::pbrpc::XCap* xtreemfs_update_file_sizeRequest::release_xcap() {
-  clear_has_xcap();
-  ::xtreemfs::pbrpc::XCap* temp = xcap_;
-  xcap_ = NULL;
-  return temp;
+inline void xtreemfs_create_filesRequest::set_path(const char* value) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(value);
 }
-inline void xtreemfs_update_file_sizeRequest::set_allocated_xcap(::xtreemfs::pbrpc::XCap* xcap) {
-  delete xcap_;
-  xcap_ = xcap;
-  if (xcap) {
-    set_has_xcap();
+inline void xtreemfs_create_filesRequest::set_path(const char* value, size_t size) {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  path_->assign(reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_create_filesRequest::mutable_path() {
+  set_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    path_ = new ::std::string;
+  }
+  return path_;
+}
+inline ::std::string* xtreemfs_create_filesRequest::release_path() {
+  clear_has_path();
+  if (path_ == &::google::protobuf::internal::kEmptyString) {
+    return NULL;
   } else {
-    clear_has_xcap();
+    ::std::string* temp = path_;
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    return temp;
+  }
+}
+inline void xtreemfs_create_filesRequest::set_allocated_path(::std::string* path) {
+  if (path_ != &::google::protobuf::internal::kEmptyString) {
+    delete path_;
+  }
+  if (path) {
+    set_has_path();
+    path_ = path;
+  } else {
+    clear_has_path();
+    path_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required .xtreemfs.pbrpc.OSDWriteResponse osd_write_response = 2;
-inline bool xtreemfs_update_file_sizeRequest::has_osd_write_response() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// repeated string names = 3;
+inline int xtreemfs_create_filesRequest::names_size() const {
+  return names_.size();
 }
-inline void xtreemfs_update_file_sizeRequest::set_has_osd_write_response() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_create_filesRequest::clear_names() {
+  names_.Clear();
 }
-inline void xtreemfs_update_file_sizeRequest::clear_has_osd_write_response() {
-  _has_bits_[0] &= ~0x00000002u;
+inline const ::std::string& xtreemfs_create_filesRequest::names(int index) const {
+  return names_.Get(index);
 }
-inline void xtreemfs_update_file_sizeRequest::clear_osd_write_response() {
-  if (osd_write_response_ != NULL) osd_write_response_->::xtreemfs::pbrpc::OSDWriteResponse::Clear();
-  clear_has_osd_write_response();
+inline ::std::string* xtreemfs_create_filesRequest::mutable_names(int index) {
+  return names_.Mutable(index);
 }
-inline const ::xtreemfs::pbrpc::OSDWriteResponse& xtreemfs_update_file_sizeRequest::osd_write_response() const {
-  return osd_write_response_ != NULL ? *osd_write_response_ : *default_instance_->osd_write_response_;
+inline void xtreemfs_create_filesRequest::set_names(int index, const ::std::string& value) {
+  names_.Mutable(index)->assign(value);
 }
-inline ::xtreemfs::pbrpc::OSDWriteResponse* xtreemfs_update_file_sizeRequest::mutable_osd_write_response() {
-  set_has_osd_write_response();
-  if (osd_write_response_ == NULL) osd_write_response_ = new ::xtreemfs::pbrpc::OSDWriteResponse;
-  return osd_write_response_;
+inline void xtreemfs_create_filesRequest::set_names(int index, const char* value) {
+  names_.Mutable(index)->assign(value);
 }
-inline ::xtreemfs::pbrpc::OSDWriteResponse* xtreemfs_update_file_sizeRequest::release_osd_write_response() {
-  clear_has_osd_write_response();
-  ::xtreemfs::pbrpc::OSDWriteResponse* temp = osd_write_response_;
-  osd_write_response_ = NULL;
-  return temp;
+inline void xtreemfs_create_filesRequest::set_names(int index, const char* value, size_t size) {
+  names_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
 }
-inline void xtreemfs_update_file_sizeRequest::set_allocated_osd_write_response(::xtreemfs::pbrpc::OSDWriteResponse* osd_write_response) {
-  delete osd_write_response_;
-  osd_write_response_ = osd_write_response;
-  if (osd_write_response) {
-    set_has_osd_write_response();
-  } else {
-    clear_has_osd_write_response();
-  }
+inline ::std::string* xtreemfs_create_filesRequest::add_names() {
+  return names_.Add();
+}
+inline void xtreemfs_create_filesRequest::add_names(const ::std::string& value) {
+  names_.Add()->assign(value);
+}
+inline void xtreemfs_create_filesRequest::add_names(const char* value) {
+  names_.Add()->assign(value);
+}
+inline void xtreemfs_create_filesRequest::add_names(const char* value, size_t size) {
+  names_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+xtreemfs_create_filesRequest::names() const {
+  return names_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+xtreemfs_create_filesRequest::mutable_names() {
+  return &names_;
+}
+
+// required fixed32 mode = 4;
+inline bool xtreemfs_create_filesRequest::has_mode() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void xtreemfs_create_filesRequest::set_has_mode() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void xtreemfs_create_filesRequest::clear_has_mode() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void xtreemfs_create_filesRequest::clear_mode() {
+  mode_ = 0u;
+  clear_has_mode();
+}
+inline ::google::protobuf::uint32 xtreemfs_create_filesRequest::mode() const {
+  return mode_;
+}
+inline void xtreemfs_create_filesRequest::set_mode(::google::protobuf::uint32 value) {
+  set_has_mode();
+  mode_ = value;
 }
 
-// optional bool close_file = 3;
-inline bool xtreemfs_update_file_sizeRequest::has_close_file() const {
-  return (_has_bits_[0] & 0x00000004u) != 0;
+// required fixed32 attributes = 5;
+inline bool xtreemfs_create_filesRequest::has_attributes() const {
+  return (_has_bits_[0] & 0x00000010u) != 0;
 }
-inline void xtreemfs_update_file_sizeRequest::set_has_close_file() {
-  _has_bits_[0] |= 0x00000004u;
+inline void xtreemfs_create_filesRequest::set_has_attributes() {
+  _has_bits_[0] |= 0x00000010u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_has_close_file() {
-  _has_bits_[0] &= ~0x00000004u;
+inline void xtreemfs_create_filesRequest::clear_has_attributes() {
+  _has_bits_[0] &= ~0x00000010u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_close_file() {
-  close_file_ = false;
-  clear_has_close_file();
+inline void xtreemfs_create_filesRequest::clear_attributes() {
+  attributes_ = 0u;
+  clear_has_attributes();
 }
-inline bool xtreemfs_update_file_sizeRequest::close_file() const {
-  return close_file_;
+inline ::google::protobuf::uint32 xtreemfs_create_filesRequest::attributes() const {
+  return attributes_;
 }
-inline void xtreemfs_update_file_sizeRequest::set_close_file(bool value) {
-  set_has_close_file();
-  close_file_ = value;
+inline void xtreemfs_create_filesRequest::set_attributes(::google::protobuf::uint32 value) {
+  set_has_attributes();
+  attributes_ = value;
 }
 
-// optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 4;
-inline bool xtreemfs_update_file_sizeRequest::has_coordinates() const {
-  return (_has_bits_[0] & 0x00000008u) != 0;
+// optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;
+inline bool xtreemfs_create_filesRequest::has_coordinates() const {
+  return (_has_bits_[0] & 0x00000020u) != 0;
 }
-inline void xtreemfs_update_file_sizeRequest::set_has_coordinates() {
-  _has_bits_[0] |= 0x00000008u;
+inline void xtreemfs_create_filesRequest::set_has_coordinates() {
+  _has_bits_[0] |= 0x00000020u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_has_coordinates() {
-  _has_bits_[0] &= ~0x00000008u;
+inline void xtreemfs_create_filesRequest::clear_has_coordinates() {
+  _has_bits_[0] &= ~0x00000020u;
 }
-inline void xtreemfs_update_file_sizeRequest::clear_coordinates() {
+inline void xtreemfs_create_filesRequest::clear_coordinates() {
   if (coordinates_ != NULL) coordinates_->::xtreemfs::pbrpc::VivaldiCoordinates::Clear();
   clear_has_coordinates();
 }
-inline const ::xtreemfs::pbrpc::VivaldiCoordinates& xtreemfs_update_file_sizeRequest::coordinates() const {
+inline const ::xtreemfs::pbrpc::VivaldiCoordinates& xtreemfs_create_filesRequest::coordinates() const {
   return coordinates_ != NULL ? *coordinates_ : *default_instance_->coordinates_;
 }
-inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_update_file_sizeRequest::mutable_coordinates() {
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_create_filesRequest::mutable_coordinates() {
   set_has_coordinates();
   if (coordinates_ == NULL) coordinates_ = new ::xtreemfs::pbrpc::VivaldiCoordinates;
   return coordinates_;
 }
-inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_update_file_sizeRequest::release_coordinates() {
+inline ::xtreemfs::pbrpc::VivaldiCoordinates* xtreemfs_create_filesRequest::release_coordinates() {
   clear_has_coordinates();
   ::xtreemfs::pbrpc::VivaldiCoordinates* temp = coordinates_;
   coordinates_ = NULL;
   return temp;
 }
-inline void xtreemfs_update_file_sizeRequest::set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates) {
+inline void xtreemfs_create_filesRequest::set_allocated_coordinates(::xtreemfs::pbrpc::VivaldiCoordinates* coordinates) {
   delete coordinates_;
   coordinates_ = coordinates;
   if (coordinates) {
@@ -14021,418 +15285,463 @@ inline void xtreemfs_update_file_sizeRequest::set_allocated_coordinates(::xtreem
 
 // -------------------------------------------------------------------
 
-// xtreemfs_set_replica_update_policyRequest
+// xtreemfs_stat_filesRequest
 
-// required string file_id = 1;
-inline bool xtreemfs_set_replica_update_policyRequest::has_file_id() const {
+// required string volume_name = 1;
+inline bool xtreemfs_stat_filesRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_set_replica_update_policyRequest::set_has_file_id() {
+inline void xtreemfs_stat_filesRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_set_replica_update_policyRequest::clear_has_file_id() {
+inline void xtreemfs_stat_filesRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_set_replica_update_policyRequest::clear_file_id() {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    file_id_->clear();
-  }
-  clear_has_file_id();
-}
-inline const ::std::string& xtreemfs_set_replica_update_policyRequest::file_id() const {
-  return *file_id_;
-}
-inline void xtreemfs_set_replica_update_policyRequest::set_file_id(const ::std::string& value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
-  }
-  file_id_->assign(value);
-}
-inline void xtreemfs_set_replica_update_policyRequest::set_file_id(const char* value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
-  }
-  file_id_->assign(value);
-}
-inline void xtreemfs_set_replica_update_policyRequest::set_file_id(const char* value, size_t size) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
-  }
-  file_id_->assign(reinterpret_cast<const char*>(value), size);
-}
-inline ::std::string* xtreemfs_set_replica_update_policyRequest::mutable_file_id() {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
-  }
-  return file_id_;
-}
-inline ::std::string* xtreemfs_set_replica_update_policyRequest::release_file_id() {
-  clear_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = file_id_;
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
-}
-inline void xtreemfs_set_replica_update_policyRequest::set_allocated_file_id(::std::string* file_id) {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_id_;
-  }
-  if (file_id) {
-    set_has_file_id();
-    file_id_ = file_id;
-  } else {
-    clear_has_file_id();
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
-}
-
-// required string update_policy = 2;
-inline bool xtreemfs_set_replica_update_policyRequest::has_update_policy() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
-}
-inline void xtreemfs_set_replica_update_policyRequest::set_has_update_policy() {
-  _has_bits_[0] |= 0x00000002u;
-}
-inline void xtreemfs_set_replica_update_policyRequest::clear_has_update_policy() {
-  _has_bits_[0] &= ~0x00000002u;
-}
-inline void xtreemfs_set_replica_update_policyRequest::clear_update_policy() {
-  if (update_policy_ != &::google::protobuf::internal::kEmptyString) {
-    update_policy_->clear();
+inline void xtreemfs_stat_filesRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
   }
-  clear_has_update_policy();
+  clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_set_replica_update_policyRequest::update_policy() const {
-  return *update_policy_;
+inline const ::std::string& xtreemfs_stat_filesRequest::volume_name() const {
+  return *volume_name_;
 }
-inline void xtreemfs_set_replica_update_policyRequest::set_update_policy(const ::std::string& value) {
-  set_has_update_policy();
-  if (update_policy_ == &::google::protobuf::internal::kEmptyString) {
-    update_policy_ = new ::std::string;
+inline void xtreemfs_stat_filesRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  update_policy_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_set_replica_update_policyRequest::set_update_policy(const char* value) {
-  set_has_update_policy();
-  if (update_policy_ == &::google::protobuf::internal::kEmptyString) {
-    update_policy_ = new ::std::string;
+inline void xtreemfs_stat_filesRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  update_policy_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_set_replica_update_policyRequest::set_update_policy(const char* value, size_t size) {
-  set_has_update_policy();
-  if (update_policy_ == &::google::protobuf::internal::kEmptyString) {
-    update_policy_ = new ::std::string;
+inline void xtreemfs_stat_filesRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  update_policy_->assign(reinterpret_cast<const char*>(value), size);
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_set_replica_update_policyRequest::mutable_update_policy() {
-  set_has_update_policy();
-  if (update_policy_ == &::google::protobuf::internal::kEmptyString) {
-    update_policy_ = new ::std::string;
+inline ::std::string* xtreemfs_stat_filesRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  return update_policy_;
+  return volume_name_;
 }
-inline ::std::string* xtreemfs_set_replica_update_policyRequest::release_update_policy() {
-  clear_has_update_policy();
-  if (update_policy_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_stat_filesRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = update_policy_;
-    update_policy_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_set_replica_update_policyRequest::set_allocated_update_policy(::std::string* update_policy) {
-  if (update_policy_ != &::google::protobuf::internal::kEmptyString) {
-    delete update_policy_;
+inline void xtreemfs_stat_filesRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
   }
-  if (update_policy) {
-    set_has_update_policy();
-    update_policy_ = update_policy;
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
   } else {
-    clear_has_update_policy();
-    update_policy_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// -------------------------------------------------------------------
-
-// xtreemfs_set_replica_update_policyResponse
-
-// required string old_update_policy = 1;
-inline bool xtreemfs_set_replica_update_policyResponse::has_old_update_policy() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// repeated string paths = 2;
+inline int xtreemfs_stat_filesRequest::paths_size() const {
+  return paths_.size();
 }
-inline void xtreemfs_set_replica_update_policyResponse::set_has_old_update_policy() {
-  _has_bits_[0] |= 0x00000001u;
+inline void xtreemfs_stat_filesRequest::clear_paths() {
+  paths_.Clear();
 }
-inline void xtreemfs_set_replica_update_policyResponse::clear_has_old_update_policy() {
-  _has_bits_[0] &= ~0x00000001u;
+inline const ::std::string& xtreemfs_stat_filesRequest::paths(int index) const {
+  return paths_.Get(index);
 }
-inline void xtreemfs_set_replica_update_policyResponse::clear_old_update_policy() {
-  if (old_update_policy_ != &::google::protobuf::internal::kEmptyString) {
-    old_update_policy_->clear();
-  }
-  clear_has_old_update_policy();
+inline ::std::string* xtreemfs_stat_filesRequest::mutable_paths(int index) {
+  return paths_.Mutable(index);
 }
-inline const ::std::string& xtreemfs_set_replica_update_policyResponse::old_update_policy() const {
-  return *old_update_policy_;
+inline void xtreemfs_stat_filesRequest::set_paths(int index, const ::std::string& value) {
+  paths_.Mutable(index)->assign(value);
 }
-inline void xtreemfs_set_replica_update_policyResponse::set_old_update_policy(const ::std::string& value) {
-  set_has_old_update_policy();
-  if (old_update_policy_ == &::google::protobuf::internal::kEmptyString) {
-    old_update_policy_ = new ::std::string;
-  }
-  old_update_policy_->assign(value);
+inline void xtreemfs_stat_filesRequest::set_paths(int index, const char* value) {
+  paths_.Mutable(index)->assign(value);
 }
-inline void xtreemfs_set_replica_update_policyResponse::set_old_update_policy(const char* value) {
-  set_has_old_update_policy();
-  if (old_update_policy_ == &::google::protobuf::internal::kEmptyString) {
-    old_update_policy_ = new ::std::string;
-  }
-  old_update_policy_->assign(value);
+inline void xtreemfs_stat_filesRequest::set_paths(int index, const char* value, size_t size) {
+  paths_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
 }
-inline void xtreemfs_set_replica_update_policyResponse::set_old_update_policy(const char* value, size_t size) {
-  set_has_old_update_policy();
-  if (old_update_policy_ == &::google::protobuf::internal::kEmptyString) {
-    old_update_policy_ = new ::std::string;
-  }
-  old_update_policy_->assign(reinterpret_cast<const char*>(value), size);
+inline ::std::string* xtreemfs_stat_filesRequest::add_paths() {
+  return paths_.Add();
 }
-inline ::std::string* xtreemfs_set_replica_update_policyResponse::mutable_old_update_policy() {
-  set_has_old_update_policy();
-  if (old_update_policy_ == &::google::protobuf::internal::kEmptyString) {
-    old_update_policy_ = new ::std::string;
-  }
-  return old_update_policy_;
+inline void xtreemfs_stat_filesRequest::add_paths(const ::std::string& value) {
+  paths_.Add()->assign(value);
 }
-inline ::std::string* xtreemfs_set_replica_update_policyResponse::release_old_update_policy() {
-  clear_has_old_update_policy();
-  if (old_update_policy_ == &::google::protobuf::internal::kEmptyString) {
-    return NULL;
-  } else {
-    ::std::string* temp = old_update_policy_;
-    old_update_policy_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-    return temp;
-  }
+inline void xtreemfs_stat_filesRequest::add_paths(const char* value) {
+  paths_.Add()->assign(value);
 }
-inline void xtreemfs_set_replica_update_policyResponse::set_allocated_old_update_policy(::std::string* old_update_policy) {
-  if (old_update_policy_ != &::google::protobuf::internal::kEmptyString) {
-    delete old_update_policy_;
-  }
-  if (old_update_policy) {
-    set_has_old_update_policy();
-    old_update_policy_ = old_update_policy;
-  } else {
-    clear_has_old_update_policy();
-    old_update_policy_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
-  }
+inline void xtreemfs_stat_filesRequest::add_paths(const char* value, size_t size) {
+  paths_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+xtreemfs_stat_filesRequest::paths() const {
+  return paths_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+xtreemfs_stat_filesRequest::mutable_paths() {
+  return &paths_;
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_set_read_only_xattrRequest
+// xtreemfs_unlink_filesRequest
 
-// required string file_id = 1;
-inline bool xtreemfs_set_read_only_xattrRequest::has_file_id() const {
+// required string volume_name = 1;
+inline bool xtreemfs_unlink_filesRequest::has_volume_name() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_set_read_only_xattrRequest::set_has_file_id() {
+inline void xtreemfs_unlink_filesRequest::set_has_volume_name() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_set_read_only_xattrRequest::clear_has_file_id() {
+inline void xtreemfs_unlink_filesRequest::clear_has_volume_name() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_set_read_only_xattrRequest::clear_file_id() {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    file_id_->clear();
+inline void xtreemfs_unlink_filesRequest::clear_volume_name() {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    volume_name_->clear();
   }
-  clear_has_file_id();
+  clear_has_volume_name();
 }
-inline const ::std::string& xtreemfs_set_read_only_xattrRequest::file_id() const {
-  return *file_id_;
+inline const ::std::string& xtreemfs_unlink_filesRequest::volume_name() const {
+  return *volume_name_;
 }
-inline void xtreemfs_set_read_only_xattrRequest::set_file_id(const ::std::string& value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void xtreemfs_unlink_filesRequest::set_volume_name(const ::std::string& value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  file_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_set_read_only_xattrRequest::set_file_id(const char* value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void xtreemfs_unlink_filesRequest::set_volume_name(const char* value) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  file_id_->assign(value);
+  volume_name_->assign(value);
 }
-inline void xtreemfs_set_read_only_xattrRequest::set_file_id(const char* value, size_t size) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void xtreemfs_unlink_filesRequest::set_volume_name(const char* value, size_t size) {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  file_id_->assign(reinterpret_cast<const char*>(value), size);
+  volume_name_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_set_read_only_xattrRequest::mutable_file_id() {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline ::std::string* xtreemfs_unlink_filesRequest::mutable_volume_name() {
+  set_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
+    volume_name_ = new ::std::string;
   }
-  return file_id_;
+  return volume_name_;
 }
-inline ::std::string* xtreemfs_set_read_only_xattrRequest::release_file_id() {
-  clear_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* xtreemfs_unlink_filesRequest::release_volume_name() {
+  clear_has_volume_name();
+  if (volume_name_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = file_id_;
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = volume_name_;
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_set_read_only_xattrRequest::set_allocated_file_id(::std::string* file_id) {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_id_;
+inline void xtreemfs_unlink_filesRequest::set_allocated_volume_name(::std::string* volume_name) {
+  if (volume_name_ != &::google::protobuf::internal::kEmptyString) {
+    delete volume_name_;
   }
-  if (file_id) {
-    set_has_file_id();
-    file_id_ = file_id;
+  if (volume_name) {
+    set_has_volume_name();
+    volume_name_ = volume_name;
   } else {
-    clear_has_file_id();
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_volume_name();
+    volume_name_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
   }
 }
 
-// required bool value = 2;
-inline bool xtreemfs_set_read_only_xattrRequest::has_value() const {
-  return (_has_bits_[0] & 0x00000002u) != 0;
+// repeated string paths = 2;
+inline int xtreemfs_unlink_filesRequest::paths_size() const {
+  return paths_.size();
 }
-inline void xtreemfs_set_read_only_xattrRequest::set_has_value() {
-  _has_bits_[0] |= 0x00000002u;
+inline void xtreemfs_unlink_filesRequest::clear_paths() {
+  paths_.Clear();
 }
-inline void xtreemfs_set_read_only_xattrRequest::clear_has_value() {
-  _has_bits_[0] &= ~0x00000002u;
+inline const ::std::string& xtreemfs_unlink_filesRequest::paths(int index) const {
+  return paths_.Get(index);
 }
-inline void xtreemfs_set_read_only_xattrRequest::clear_value() {
-  value_ = false;
-  clear_has_value();
+inline ::std::string* xtreemfs_unlink_filesRequest::mutable_paths(int index) {
+  return paths_.Mutable(index);
 }
-inline bool xtreemfs_set_read_only_xattrRequest::value() const {
-  return value_;
+inline void xtreemfs_unlink_filesRequest::set_paths(int index, const ::std::string& value) {
+  paths_.Mutable(index)->assign(value);
 }
-inline void xtreemfs_set_read_only_xattrRequest::set_value(bool value) {
-  set_has_value();
-  value_ = value;
+inline void xtreemfs_unlink_filesRequest::set_paths(int index, const char* value) {
+  paths_.Mutable(index)->assign(value);
+}
+inline void xtreemfs_unlink_filesRequest::set_paths(int index, const char* value, size_t size) {
+  paths_.Mutable(index)->assign(
+    reinterpret_cast<const char*>(value), size);
+}
+inline ::std::string* xtreemfs_unlink_filesRequest::add_paths() {
+  return paths_.Add();
+}
+inline void xtreemfs_unlink_filesRequest::add_paths(const ::std::string& value) {
+  paths_.Add()->assign(value);
+}
+inline void xtreemfs_unlink_filesRequest::add_paths(const char* value) {
+  paths_.Add()->assign(value);
+}
+inline void xtreemfs_unlink_filesRequest::add_paths(const char* value, size_t size) {
+  paths_.Add()->assign(reinterpret_cast<const char*>(value), size);
+}
+inline const ::google::protobuf::RepeatedPtrField< ::std::string>&
+xtreemfs_unlink_filesRequest::paths() const {
+  return paths_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::std::string>*
+xtreemfs_unlink_filesRequest::mutable_paths() {
+  return &paths_;
 }
 
 // -------------------------------------------------------------------
 
-// xtreemfs_set_read_only_xattrResponse
+// BatchResult
 
-// required bool was_set = 1;
-inline bool xtreemfs_set_read_only_xattrResponse::has_was_set() const {
+// optional fixed32 posix_errno = 1;
+inline bool BatchResult::has_posix_errno() const {
   return (_has_bits_[0] & 0x00000001u) != 0;
 }
-inline void xtreemfs_set_read_only_xattrResponse::set_has_was_set() {
+inline void BatchResult::set_has_posix_errno() {
   _has_bits_[0] |= 0x00000001u;
 }
-inline void xtreemfs_set_read_only_xattrResponse::clear_has_was_set() {
+inline void BatchResult::clear_has_posix_errno() {
   _has_bits_[0] &= ~0x00000001u;
 }
-inline void xtreemfs_set_read_only_xattrResponse::clear_was_set() {
-  was_set_ = false;
-  clear_has_was_set();
+inline void BatchResult::clear_posix_errno() {
+  posix_errno_ = 0u;
+  clear_has_posix_errno();
 }
-inline bool xtreemfs_set_read_only_xattrResponse::was_set() const {
-  return was_set_;
+inline ::google::protobuf::uint32 BatchResult::posix_errno() const {
+  return posix_errno_;
 }
-inline void xtreemfs_set_read_only_xattrResponse::set_was_set(bool value) {
-  set_has_was_set();
-  was_set_ = value;
+inline void BatchResult::set_posix_errno(::google::protobuf::uint32 value) {
+  set_has_posix_errno();
+  posix_errno_ = value;
 }
 
-// -------------------------------------------------------------------
-
-// xtreemfs_get_file_credentialsRequest
-
-// required string file_id = 1;
-inline bool xtreemfs_get_file_credentialsRequest::has_file_id() const {
-  return (_has_bits_[0] & 0x00000001u) != 0;
+// optional string error_message = 2;
+inline bool BatchResult::has_error_message() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
 }
-inline void xtreemfs_get_file_credentialsRequest::set_has_file_id() {
-  _has_bits_[0] |= 0x00000001u;
+inline void BatchResult::set_has_error_message() {
+  _has_bits_[0] |= 0x00000002u;
 }
-inline void xtreemfs_get_file_credentialsRequest::clear_has_file_id() {
-  _has_bits_[0] &= ~0x00000001u;
+inline void BatchResult::clear_has_error_message() {
+  _has_bits_[0] &= ~0x00000002u;
 }
-inline void xtreemfs_get_file_credentialsRequest::clear_file_id() {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    file_id_->clear();
+inline void BatchResult::clear_error_message() {
+  if (error_message_ != &::google::protobuf::internal::kEmptyString) {
+    error_message_->clear();
   }
-  clear_has_file_id();
+  clear_has_error_message();
 }
-inline const ::std::string& xtreemfs_get_file_credentialsRequest::file_id() const {
-  return *file_id_;
+inline const ::std::string& BatchResult::error_message() const {
+  return *error_message_;
 }
-inline void xtreemfs_get_file_credentialsRequest::set_file_id(const ::std::string& value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void BatchResult::set_error_message(const ::std::string& value) {
+  set_has_error_message();
+  if (error_message_ == &::google::protobuf::internal::kEmptyString) {
+    error_message_ = new ::std::string;
   }
-  file_id_->assign(value);
+  error_message_->assign(value);
 }
-inline void xtreemfs_get_file_credentialsRequest::set_file_id(const char* value) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void BatchResult::set_error_message(const char* value) {
+  set_has_error_message();
+  if (error_message_ == &::google::protobuf::internal::kEmptyString) {
+    error_message_ = new ::std::string;
   }
-  file_id_->assign(value);
+  error_message_->assign(value);
 }
-inline void xtreemfs_get_file_credentialsRequest::set_file_id(const char* value, size_t size) {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline void BatchResult::set_error_message(const char* value, size_t size) {
+  set_has_error_message();
+  if (error_message_ == &::google::protobuf::internal::kEmptyString) {
+    error_message_ = new ::std::string;
   }
-  file_id_->assign(reinterpret_cast<const char*>(value), size);
+  error_message_->assign(reinterpret_cast<const char*>(value), size);
 }
-inline ::std::string* xtreemfs_get_file_credentialsRequest::mutable_file_id() {
-  set_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
-    file_id_ = new ::std::string;
+inline ::std::string* BatchResult::mutable_error_message() {
+  set_has_error_message();
+  if (error_message_ == &::google::protobuf::internal::kEmptyString) {
+    error_message_ = new ::std::string;
   }
-  return file_id_;
+  return error_message_;
 }
-inline ::std::string* xtreemfs_get_file_credentialsRequest::release_file_id() {
-  clear_has_file_id();
-  if (file_id_ == &::google::protobuf::internal::kEmptyString) {
+inline ::std::string* BatchResult::release_error_message() {
+  clear_has_error_message();
+  if (error_message_ == &::google::protobuf::internal::kEmptyString) {
     return NULL;
   } else {
-    ::std::string* temp = file_id_;
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    ::std::string* temp = error_message_;
+    error_message_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
     return temp;
   }
 }
-inline void xtreemfs_get_file_credentialsRequest::set_allocated_file_id(::std::string* file_id) {
-  if (file_id_ != &::google::protobuf::internal::kEmptyString) {
-    delete file_id_;
+inline void BatchResult::set_allocated_error_message(::std::string* error_message) {
+  if (error_message_ != &::google::protobuf::internal::kEmptyString) {
+    delete error_message_;
   }
-  if (file_id) {
-    set_has_file_id();
-    file_id_ = file_id;
+  if (error_message) {
+    set_has_error_message();
+    error_message_ = error_message;
   } else {
-    clear_has_file_id();
-    file_id_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+    clear_has_error_message();
+    error_message_ = const_cast< ::std::string*>(&::google::protobuf::internal::kEmptyString);
+  }
+}
+
+// optional .xtreemfs.pbrpc.Stat stbuf = 3;
+inline bool BatchResult::has_stbuf() const {
+  return (_has_bits_[0] & 0x00000004u) != 0;
+}
+inline void BatchResult::set_has_stbuf() {
+  _has_bits_[0] |= 0x00000004u;
+}
+inline void BatchResult::clear_has_stbuf() {
+  _has_bits_[0] &= ~0x00000004u;
+}
+inline void BatchResult::clear_stbuf() {
+  if (stbuf_ != NULL) stbuf_->::xtreemfs::pbrpc::Stat::Clear();
+  clear_has_stbuf();
+}
+inline const ::xtreemfs::pbrpc::Stat& BatchResult::stbuf() const {
+  return stbuf_ != NULL ? *stbuf_ : *default_instance_->stbuf_;
+}
+inline ::xtreemfs::pbrpc::Stat* BatchResult::mutable_stbuf() {
+  set_has_stbuf();
+  if (stbuf_ == NULL) stbuf_ = new ::xtreemfs::pbrpc::Stat;
+  return stbuf_;
+}
+inline ::xtreemfs::pbrpc::Stat* BatchResult::release_stbuf() {
+  clear_has_stbuf();
+  ::xtreemfs::pbrpc::Stat* temp = stbuf_;
+  stbuf_ = NULL;
+  return temp;
+}
+inline void BatchResult::set_allocated_stbuf(::xtreemfs::pbrpc::Stat* stbuf) {
+  delete stbuf_;
+  stbuf_ = stbuf;
+  if (stbuf) {
+    set_has_stbuf();
+  } else {
+    clear_has_stbuf();
+  }
+}
+
+// optional .xtreemfs.pbrpc.FileCredentials creds = 4;
+inline bool BatchResult::has_creds() const {
+  return (_has_bits_[0] & 0x00000008u) != 0;
+}
+inline void BatchResult::set_has_creds() {
+  _has_bits_[0] |= 0x00000008u;
+}
+inline void BatchResult::clear_has_creds() {
+  _has_bits_[0] &= ~0x00000008u;
+}
+inline void BatchResult::clear_creds() {
+  if (creds_ != NULL) creds_->::xtreemfs::pbrpc::FileCredentials::Clear();
+  clear_has_creds();
+}
+inline const ::xtreemfs::pbrpc::FileCredentials& BatchResult::creds() const {
+  return creds_ != NULL ? *creds_ : *default_instance_->creds_;
+}
+inline ::xtreemfs::pbrpc::FileCredentials* BatchResult::mutable_creds() {
+  set_has_creds();
+  if (creds_ == NULL) creds_ = new ::xtreemfs::pbrpc::FileCredentials;
+  return creds_;
+}
+inline ::xtreemfs::pbrpc::FileCredentials* BatchResult::release_creds() {
+  clear_has_creds();
+  ::xtreemfs::pbrpc::FileCredentials* temp = creds_;
+  creds_ = NULL;
+  return temp;
+}
+inline void BatchResult::set_allocated_creds(::xtreemfs::pbrpc::FileCredentials* creds) {
+  delete creds_;
+  creds_ = creds;
+  if (creds) {
+    set_has_creds();
+  } else {
+    clear_has_creds();
   }
 }
 
+// -------------------------------------------------------------------
+
+// xtreemfs_batchResponse
+
+// repeated .xtreemfs.pbrpc.BatchResult results = 1;
+inline int xtreemfs_batchResponse::results_size() const {
+  return results_.size();
+}
+inline void xtreemfs_batchResponse::clear_results() {
+  results_.Clear();
+}
+inline const ::xtreemfs::pbrpc::BatchResult& xtreemfs_batchResponse::results(int index) const {
+  return results_.Get(index);
+}
+inline ::xtreemfs::pbrpc::BatchResult* xtreemfs_batchResponse::mutable_results(int index) {
+  return results_.Mutable(index);
+}
+inline ::xtreemfs::pbrpc::BatchResult* xtreemfs_batchResponse::add_results() {
+  return results_.Add();
+}
+inline const ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::BatchResult >&
+xtreemfs_batchResponse::results() const {
+  return results_;
+}
+inline ::google::protobuf::RepeatedPtrField< ::xtreemfs::pbrpc::BatchResult >*
+xtreemfs_batchResponse::mutable_results() {
+  return &results_;
+}
+
+// required fixed32 timestamp_s = 2;
+inline bool xtreemfs_batchResponse::has_timestamp_s() const {
+  return (_has_bits_[0] & 0x00000002u) != 0;
+}
+inline void xtreemfs_batchResponse::set_has_timestamp_s() {
+  _has_bits_[0] |= 0x00000002u;
+}
+inline void xtreemfs_batchResponse::clear_has_timestamp_s() {
+  _has_bits_[0] &= ~0x00000002u;
+}
+inline void xtreemfs_batchResponse::clear_timestamp_s() {
+  timestamp_s_ = 0u;
+  clear_has_timestamp_s();
+}
+inline ::google::protobuf::uint32 xtreemfs_batchResponse::timestamp_s() const {
+  return timestamp_s_;
+}
+inline void xtreemfs_batchResponse::set_timestamp_s(::google::protobuf::uint32 value) {
+  set_has_timestamp_s();
+  timestamp_s_ = value;
+}
+
 
 // @@protoc_insertion_point(namespace_scope)
 
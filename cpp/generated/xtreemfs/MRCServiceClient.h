@@ -973,6 +973,75 @@ namespace pbrpc {
                 return sync_cb;
             }
 
+            void xtreemfs_create_files(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_create_filesRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_batchResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 52,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_batchResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_batchResponse>* xtreemfs_create_files_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_create_filesRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_batchResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_batchResponse>();
+                client_->sendRequest(address, 20001, 52,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_batchResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
+            void xtreemfs_stat_files(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_stat_filesRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_batchResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 53,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_batchResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_batchResponse>* xtreemfs_stat_files_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_stat_filesRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_batchResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_batchResponse>();
+                client_->sendRequest(address, 20001, 53,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_batchResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
+            void xtreemfs_unlink_files(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds,
+                const xtreemfs::pbrpc::xtreemfs_unlink_filesRequest* request,
+                CallbackInterface<xtreemfs::pbrpc::xtreemfs_batchResponse> *callback, void *context = NULL) {
+                const char* data = NULL; uint32_t data_length = 0;
+                client_->sendRequest(address, 20001, 54,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_batchResponse(),
+                     context, callback);
+            }
+
+            SyncCallback<xtreemfs::pbrpc::xtreemfs_batchResponse>* xtreemfs_unlink_files_sync(const std::string &address,
+                const xtreemfs::pbrpc::Auth& auth,
+                const xtreemfs::pbrpc::UserCredentials &creds
+                , const xtreemfs::pbrpc::xtreemfs_unlink_filesRequest* request) {
+                const char* data = NULL; uint32_t data_length = 0;
+                SyncCallback<xtreemfs::pbrpc::xtreemfs_batchResponse>* sync_cb = new SyncCallback<xtreemfs::pbrpc::xtreemfs_batchResponse>();
+                client_->sendRequest(address, 20001, 54,
+                     creds, auth, request, data, data_length, new xtreemfs::pbrpc::xtreemfs_batchResponse(),
+                     NULL, sync_cb);
+                return sync_cb;
+            }
+
         private:
             Client* client_;
         };
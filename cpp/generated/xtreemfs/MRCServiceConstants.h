@@ -50,6 +50,9 @@ const uint32_t PROC_ID_XTREEMFS_SET_REPLICA_UPDATE_POLICY = 48;
 const uint32_t PROC_ID_XTREEMFS_SET_READ_ONLY_XATTR = 49;
 const uint32_t PROC_ID_XTREEMFS_GET_FILE_CREDENTIALS = 50;
 const uint32_t PROC_ID_XTREEMFS_GET_XLOCSET = 51;
+const uint32_t PROC_ID_XTREEMFS_CREATE_FILES = 52;
+const uint32_t PROC_ID_XTREEMFS_STAT_FILES = 53;
+const uint32_t PROC_ID_XTREEMFS_UNLINK_FILES = 54;
 
 }  // namespace pbrpc
 }  // namespace xtreemfs
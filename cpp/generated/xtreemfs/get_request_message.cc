@@ -255,6 +255,18 @@ google::protobuf::Message* GetMessageForProcID(uint32_t interface_id,
           return new xtreemfs::pbrpc::xtreemfs_get_xlocsetRequest();
           break;
         }
+        case 52: {
+          return new xtreemfs::pbrpc::xtreemfs_create_filesRequest();
+          break;
+        }
+        case 53: {
+          return new xtreemfs::pbrpc::xtreemfs_stat_filesRequest();
+          break;
+        }
+        case 54: {
+          return new xtreemfs::pbrpc::xtreemfs_unlink_filesRequest();
+          break;
+        }
         default: {
           return NULL;
         }
@@ -9,85 +9,166 @@
 package org.xtreemfs.foundation.buffer;
 
 import java.nio.ByteBuffer;
+import java.util.Iterator;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A concurrent pool for buffer recycling.
- * 
+ * <p>
+ * Buffers are pooled in size classes. Each thread keeps a small magazine of free buffers per class in front of
+ * the shared pool of the class, so that most allocations and releases do not touch shared state. Buffers are
+ * moved between a magazine and the shared pool in batches of half a magazine.
+ * <p>
+ * The number of direct buffers per class is limited. Once the limit is reached, buffers are allocated on the
+ * heap ("fallbacks"). If a budget for the pool is set, the limit of a class adapts to the demand: it is doubled
+ * if fallbacks occurred since the last adaptation, as long as the limits of all classes fit into the budget, and
+ * it is lowered again towards the configured limit if most of the pooled buffers remain idle for a while.
+ *
  * @author bjko
  */
 public final class BufferPool {
-    
+
     /**
-     * size of buffers for each class.
+     * default size of buffers for each class.
      */
     public static final int[]                         BUFF_SIZES        = { 8192, 65536, 131072, 524288,
         2097152                                                        };
-    
+
     /**
-     * max pool size for each class
+     * default max pool size for each class
      */
     public static final int[]                         MAX_POOL_SIZES    = { 2000, 200, 100, 10, 5 };
-    
+
+    /**
+     * max. number of buffers per class kept in the magazine of a thread
+     */
+    private static final int                          MAX_MAGAZINE_SIZE  = 16;
+
+    /**
+     * max. number of bytes per class kept in the magazine of a thread; classes with larger buffers are not
+     * cached per thread
+     */
+    private static final int                          MAX_MAGAZINE_BYTES = 1024 * 1024;
+
+    /**
+     * min. time between two adaptations of the pool size of a class
+     */
+    private static final long                         ADAPT_INTERVAL_NS  = 1000L * 1000L * 1000L;
+
+    /**
+     * number of adaptation intervals with mostly idle buffers after which the pool size of a class is lowered
+     */
+    private static final int                          SHRINK_INTERVALS   = 60;
+
+    /**
+     * the size classes of the current configuration
+     */
+    private volatile SizeClass[]                      classes;
+
+    /**
+     * max. size of all pooled buffers the pool sizes may grow to, 0 if the pool sizes are fixed
+     */
+    private volatile long                             maxPooledBytes;
+
     /**
-     * queues to store buffers in
+     * stats for requests and deletes of buffers larger than the largest class
      */
-    private final ConcurrentLinkedQueue<ByteBuffer>[] pools;
-    
+    private final AtomicLong                          unpooledRequests, unpooledDeletes;
+
     /**
-     * pool sizes to avoid counting elements on each access
+     * the magazines of the calling thread
      */
-    private final AtomicInteger[]                     poolSizes;
-    
+    private final ThreadLocal<ThreadCache>            threadCache;
+
     /**
-     * stats for num requests and creates of buffers per class
+     * the magazines of all threads, for statistics and for reclaiming the buffers of terminated threads
      */
-    private final AtomicLong[]                              requests, creates, deletes;
-    
+    private final ConcurrentLinkedQueue<ThreadCache>  threadCaches;
+
     /**
      * singleton pattern.
      */
     private static final BufferPool                   instance          = new BufferPool();
-    
+
     /**
      * if true all allocate/free operations record the stack trace. Useful to
      * find memory leaks but slow.
      */
     protected static boolean                          recordStackTraces = false;
-    
+
     /**
      * Creates a new instance of BufferPool
      */
-    @SuppressWarnings("unchecked")
     private BufferPool() {
-        
-        pools = new ConcurrentLinkedQueue[BUFF_SIZES.length];
-        
-        creates = new AtomicLong[BUFF_SIZES.length];
-        for (int i = 0; i < creates.length; i++) {
-            creates[i] = new AtomicLong();
+
+        unpooledRequests = new AtomicLong();
+        unpooledDeletes = new AtomicLong();
+        threadCache = new ThreadLocal<ThreadCache>();
+        threadCaches = new ConcurrentLinkedQueue<ThreadCache>();
+        classes = createClasses(BUFF_SIZES, MAX_POOL_SIZES);
+    }
+
+    /**
+     * Replaces the size classes of the pool. Should be called before buffers are allocated; pooled buffers of
+     * the previous configuration are released to the garbage collector, and the statistics start over. If the
+     * classes are unchanged, only the max. size of the pooled buffers is updated.
+     *
+     * @param sizes
+     *            the buffer size of each class, in ascending order
+     * @param maxPoolSizes
+     *            the initial max. number of pooled buffers of each class
+     * @param maxPooledBytes
+     *            the max. size of all pooled buffers in bytes the pool sizes may adaptively grow to; 0 if the
+     *            pool sizes are fixed
+     * @throws IllegalArgumentException
+     *             if the classes are invalid
+     */
+    public static void configure(int[] sizes, int[] maxPoolSizes, long maxPooledBytes)
+        throws IllegalArgumentException {
+
+        if (sizes.length == 0 || sizes.length != maxPoolSizes.length)
+            throw new IllegalArgumentException("one max. pool size is required for each of the "
+                + sizes.length + " buffer sizes");
+        for (int i = 0; i < sizes.length; i++) {
+            if (sizes[i] <= 0 || (i > 0 && sizes[i] <= sizes[i - 1]))
+                throw new IllegalArgumentException("buffer sizes must be positive and ascending");
+            if (maxPoolSizes[i] < 0)
+                throw new IllegalArgumentException("max. pool sizes must not be negative");
+        }
+        if (maxPooledBytes < 0)
+            throw new IllegalArgumentException("max. size of pooled buffers must not be negative");
+
+        instance.maxPooledBytes = maxPooledBytes;
+
+        // keep the pooled buffers if the classes did not change
+        final SizeClass[] cls = instance.classes;
+        boolean changed = cls.length != sizes.length;
+        for (int i = 0; i < cls.length && !changed; i++) {
+            changed = cls[i].size != sizes[i] || cls[i].initialPoolSize != maxPoolSizes[i];
         }
-        
-        requests = new AtomicLong[BUFF_SIZES.length + 1];
-        deletes = new AtomicLong[BUFF_SIZES.length + 1];
-        for (int i = 0; i < BUFF_SIZES.length + 1; i++) {
-            requests[i] = new AtomicLong();
-            deletes[i] = new AtomicLong();
+        if (!changed) {
+            return;
         }
-        
-        poolSizes = new AtomicInteger[BUFF_SIZES.length];
-        for (int i = 0; i < BUFF_SIZES.length; i++) {
-            pools[i] = new ConcurrentLinkedQueue<ByteBuffer>();
-            poolSizes[i] = new AtomicInteger(0);
+
+        instance.unpooledRequests.set(0);
+        instance.unpooledDeletes.set(0);
+        instance.classes = createClasses(sizes, maxPoolSizes);
+    }
+
+    private static SizeClass[] createClasses(int[] sizes, int[] maxPoolSizes) {
+        SizeClass[] cls = new SizeClass[sizes.length];
+        for (int i = 0; i < cls.length; i++) {
+            cls[i] = new SizeClass(sizes[i], maxPoolSizes[i]);
         }
+        return cls;
     }
-    
+
     /**
      * Get a new buffer. The Buffer is taken from the pool or created if none is
      * available or the size exceedes the largest class.
-     * 
+     *
      * @param size
      *            the buffer's size in bytes
      * @return a buffer of requested size
@@ -97,7 +178,7 @@ public final class BufferPool {
     public static ReusableBuffer allocate(int size) {
         ReusableBuffer tmp = instance.getNewBuffer(size);
         assert (tmp.refCount.get() == 1): "newly allocated buffer has invalid reference count: " + tmp.refCount.get();
-        
+
         if (recordStackTraces) {
             tmp.allocStack = "\n";
             for (StackTraceElement elem : new Exception().getStackTrace())
@@ -105,11 +186,11 @@ public final class BufferPool {
         }
         return tmp;
     }
-    
+
     /**
      * Returns a buffer to the pool, if the buffer is reusable. Other buffers
      * are ignored.
-     * 
+     *
      * @param buf
      *            the buffer to return
      */
@@ -118,207 +199,570 @@ public final class BufferPool {
             instance.returnBuffer(buf);
         }
     }
-    
+
     /**
      * Returns a buffer which has at least size bytes.
-     * 
+     *
      * @attention The returned buffer can be larger than requested!
      */
     private ReusableBuffer getNewBuffer(int size) {
-        
+
         try {
-            
-            // if there is a pooled buffer with sufficient capacity ...
-            for (int i = 0; i < BUFF_SIZES.length; i++) {
-                
-                if (size <= BUFF_SIZES[i]) {
-                    
-                    ByteBuffer buf = pools[i].poll();
-                    
-                    // if no free buffer is available in the pool ...
-                    if (buf == null) {
-                        
-                        // ... create
-                        // - a direct buffer if the pool is not full yet,
-                        // - a non-direct buffer if the pool is full
-                        // 
-                        // Thus, the first MAX_POOL_SIZES[i] buffers will be
-                        // pooled, whereas any additional buffers will be
-                        // allocated on demand and freed by the garbage
-                        // collector.
-                        
-                        buf = creates[i].get() < MAX_POOL_SIZES[i] ? ByteBuffer.allocateDirect(BUFF_SIZES[i])
-                            : ByteBuffer.allocate(BUFF_SIZES[i]);
-                        creates[i].incrementAndGet();
-                    }
 
-                    // otherwise, decrement the pool size to indicate that the
-                    // pooled buffer was handed out to the application
-                    else {
-                        poolSizes[i].decrementAndGet();
+            final SizeClass[] cls = classes;
+
+            // if there is a class with sufficient capacity ...
+            for (int i = 0; i < cls.length; i++) {
+
+                if (size <= cls[i].size) {
+
+                    // ... take a buffer from the thread's magazine, or from the
+                    // class if the magazine is empty
+                    final Magazine m = getThreadCache(cls).magazines[i];
+                    m.requests++;
+
+                    ByteBuffer buf;
+                    if (m.count > 0) {
+                        buf = m.buffers[--m.count];
+                        m.buffers[m.count] = null;
+                        m.reuses++;
+                    } else {
+                        buf = getNewBuffer(cls[i], m);
                     }
-                    
-                    requests[i].incrementAndGet();
+
                     return new ReusableBuffer(buf, size);
-                    
+
                 }
-                
+
             }
-            
+
             // ... otherwise, create an unpooled buffer
-            requests[BUFF_SIZES.length].incrementAndGet();
-            
+            unpooledRequests.incrementAndGet();
+
             ByteBuffer buf = ByteBuffer.allocate(size);
             return new ReusableBuffer(buf, size);
-            
+
         } catch (OutOfMemoryError ex) {
             System.out.println(getStatus());
             throw ex;
         }
     }
-    
+
+    /**
+     * Returns a buffer of the given class if the magazine of the calling thread is empty.
+     */
+    private ByteBuffer getNewBuffer(SizeClass c, Magazine m) {
+
+        // refill the magazine from the pool
+        ByteBuffer buf = c.poll();
+        if (buf != null) {
+            m.reuses++;
+            final int refill = m.buffers.length / 2;
+            while (m.count < refill) {
+                ByteBuffer tmp = c.poll();
+                if (tmp == null)
+                    break;
+                m.buffers[m.count++] = tmp;
+            }
+            adapt(c);
+            return buf;
+        }
+
+        adapt(c);
+
+        // if no free buffer is available in the pool, create
+        // - a direct buffer if the pool is not full yet,
+        // - a non-direct buffer if the pool is full
+        //
+        // Thus, the first maxPoolSize buffers will be pooled, whereas any
+        // additional buffers will be allocated on demand and freed by the
+        // garbage collector.
+        if (c.reserve()) {
+            try {
+                buf = ByteBuffer.allocateDirect(c.size);
+                c.creates.incrementAndGet();
+                return buf;
+            } catch (OutOfMemoryError ex) {
+                // the direct memory is exhausted; do not grow any further
+                c.numDirect.decrementAndGet();
+                c.maxPoolSize = Math.min(c.maxPoolSize, c.numDirect.get());
+            }
+        }
+
+        c.fallbacks.incrementAndGet();
+        return ByteBuffer.allocate(c.size);
+    }
+
     private void returnBuffer(ReusableBuffer buffer) {
         returnBuffer(buffer, false);
     }
-    
+
     /**
      * return a buffer to the pool
      */
     private void returnBuffer(ReusableBuffer buffer, boolean callFromView) {
-        
+
         if (!buffer.isReusable())
             return;
-        
+
         if (buffer.viewParent != null) {
-            
+
             // view buffer
             if (recordStackTraces) {
-                
+
                 if (buffer.freeStack == null)
                     buffer.freeStack = "";
                 buffer.freeStack += "\n";
-                
+
                 StackTraceElement[] stackTrace = new Exception().getStackTrace();
                 for (int i = 0; i < stackTrace.length; i++)
                     buffer.freeStack += stackTrace[i].toString() + "\n";
             }
-            
+
             assert (!buffer.returned) : "buffer was already released: " + buffer.freeStack;
             buffer.returned = true;
             returnBuffer(buffer.viewParent, true);
-            
+
         } else {
-            
+
             assert (!buffer.returned || callFromView) : "buffer was already released: " + buffer.freeStack;
-            
+
             if (recordStackTraces) {
-                
+
                 if (buffer.freeStack == null)
                     buffer.freeStack = "";
                 buffer.freeStack += "\n";
-                
+
                 StackTraceElement[] stackTrace = new Exception().getStackTrace();
                 for (int i = 0; i < stackTrace.length; i++)
                     buffer.freeStack += stackTrace[i].toString() + "\n";
             }
-            
+
             if (!callFromView) {
                 buffer.returned = true;
             }
-            
+
             if (buffer.refCount.getAndDecrement() > 1) {
                 return;
             }
-                                    
+
             ByteBuffer buf = buffer.getParent();
             buf.clear();
-            
+
             // determine the pool to which the buffer is supposed to be
             // returned
             // ...
-            for (int i = 0; i < BUFF_SIZES.length; i++) {
-                
-                if (buf.capacity() == BUFF_SIZES[i]) {
-                    
-                    // return direct buffers to the pool
-                    if (buf.isDirect()) {
-                        
-                        poolSizes[i].incrementAndGet();
-                        pools[i].add(buf);
-                        
-                        // since only direct buffers will be returned to the
-                        // pool, which have been counted on allocation, there is
-                        // no need to check the pool size here
-                        
+            final SizeClass[] cls = classes;
+            for (int i = 0; i < cls.length; i++) {
+
+                final SizeClass c = cls[i];
+                if (buf.capacity() == c.size) {
+
+                    // return direct buffers to the thread's magazine, unless
+                    // the class has more direct buffers than it may pool
+                    if (buf.isDirect() && c.numDirect.get() <= c.maxPoolSize) {
+
+                        final Magazine m = getThreadCache(cls).magazines[i];
+                        if (m.count == m.buffers.length) {
+                            // move half of a full magazine to the pool
+                            final int keep = m.buffers.length / 2;
+                            while (m.count > keep) {
+                                c.add(m.buffers[--m.count]);
+                                m.buffers[m.count] = null;
+                            }
+                        }
+
+                        if (m.count < m.buffers.length) {
+                            m.buffers[m.count++] = buf;
+                        } else {
+                            c.add(buf);
+                        }
+
                         return;
                     }
 
-                    // if the buffer is non-direct, increment the delete counter
-                    // and implicitly make the buffer subject to garbage
-                    // collection
+                    // otherwise, increment the delete counter and implicitly
+                    // make the buffer subject to garbage collection
                     else {
-                        deletes[i].incrementAndGet();
+                        if (buf.isDirect()) {
+                            c.numDirect.decrementAndGet();
+                        }
+                        c.deletes.incrementAndGet();
                         return;
                     }
-                    
+
                 }
-                
+
             }
-            
-            assert (!buf.isDirect()) : "encountered direct buffer that does not fit in any of the pools (size="
-                + buf.capacity() + "): " + buffer.freeStack;
-            
-            // if the buffer did not fit in any of the pools,
-            // increment the delete counter for the unpooled buffers
-            deletes[deletes.length - 1].incrementAndGet();
-            
+
+            // if the buffer did not fit in any of the pools (i.e. it is larger
+            // than the largest class, or the pool was reconfigured while it was
+            // in use), increment the delete counter for the unpooled buffers
+            unpooledDeletes.incrementAndGet();
+
         }
     }
-    
+
     /**
-     * Get the current pool size for a specific buffer size.
-     * 
+     * Returns the magazines of the calling thread for the given classes.
+     */
+    private ThreadCache getThreadCache(SizeClass[] cls) {
+
+        ThreadCache tc = threadCache.get();
+        if (tc == null || tc.classes != cls) {
+
+            // the magazines of a previous configuration are dropped
+            if (tc != null) {
+                threadCaches.remove(tc);
+            }
+
+            tc = new ThreadCache(Thread.currentThread(), cls);
+            threadCache.set(tc);
+            threadCaches.add(tc);
+        }
+
+        return tc;
+    }
+
+    /**
+     * Adapts the max. pool size of a class to the demand observed since the last adaptation, and reclaims the
+     * magazines of terminated threads. Does nothing if the last adaptation of the class was less than
+     * {@link #ADAPT_INTERVAL_NS} ago.
+     */
+    private void adapt(SizeClass c) {
+
+        final long now = System.nanoTime();
+        final long last = c.lastAdapt.get();
+        if (now - last < ADAPT_INTERVAL_NS || !c.lastAdapt.compareAndSet(last, now)) {
+            return;
+        }
+
+        reclaimThreadCaches();
+
+        final long fallbacks = c.fallbacks.get();
+        final long newFallbacks = fallbacks - c.lastFallbacks;
+        c.lastFallbacks = fallbacks;
+
+        final long budget = maxPooledBytes;
+        if (budget <= 0) {
+            return;
+        }
+
+        if (newFallbacks > 0) {
+
+            // grow: double the pool size, but stay within the budget
+            c.idleIntervals = 0;
+            long remaining = budget;
+            for (SizeClass other : classes) {
+                if (other != c)
+                    remaining -= (long) other.maxPoolSize * other.size;
+            }
+
+            final long max = Math.min(remaining / c.size, Math.max(2L * c.maxPoolSize, c.maxPoolSize
+                + newFallbacks));
+            if (max > c.maxPoolSize) {
+                c.maxPoolSize = (int) Math.min(max, Integer.MAX_VALUE);
+            }
+
+        } else if (c.maxPoolSize > c.initialPoolSize && c.poolSize.get() > c.maxPoolSize / 2) {
+
+            // shrink: lower the pool size if most buffers have been idle for a
+            // while, and release idle buffers beyond the new pool size
+            if (++c.idleIntervals >= SHRINK_INTERVALS) {
+                c.idleIntervals = 0;
+                c.maxPoolSize = Math.max(c.initialPoolSize, c.maxPoolSize - c.maxPoolSize / 4);
+                while (c.numDirect.get() > c.maxPoolSize && c.poll() != null) {
+                    c.numDirect.decrementAndGet();
+                    c.deletes.incrementAndGet();
+                }
+            }
+
+        } else {
+            c.idleIntervals = 0;
+        }
+    }
+
+    /**
+     * Moves the buffers and statistics of the magazines of terminated threads to the classes, and forgets the
+     * magazines of previous configurations.
+     */
+    private void reclaimThreadCaches() {
+
+        final SizeClass[] cls = classes;
+        for (Iterator<ThreadCache> it = threadCaches.iterator(); it.hasNext();) {
+
+            final ThreadCache tc = it.next();
+            if (tc.classes != cls) {
+                threadCaches.remove(tc);
+                continue;
+            }
+
+            // the thread's actions happen-before isAlive() returns false;
+            // removing the cache from the queue makes sure that it is only
+            // reclaimed once
+            if (tc.owner.isAlive() || !threadCaches.remove(tc)) {
+                continue;
+            }
+
+            for (int i = 0; i < cls.length; i++) {
+                final Magazine m = tc.magazines[i];
+                cls[i].retiredRequests.addAndGet(m.requests);
+                cls[i].retiredReuses.addAndGet(m.reuses);
+                while (m.count > 0) {
+                    cls[i].add(m.buffers[--m.count]);
+                    m.buffers[m.count] = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the current pool size for a specific buffer size, including the buffers in the magazines of all
+     * threads.
+     *
      * @throws IllegalArgumentException
      *             when bufferSize is not in the pool
      */
     public static int getPoolSize(int bufferSize) {
-        for (int i = 0; i < BUFF_SIZES.length; i++) {
-            if (BUFF_SIZES[i] == bufferSize) {
-                return instance.poolSizes[i].get();
+        final SizeClass[] cls = instance.classes;
+        for (int i = 0; i < cls.length; i++) {
+            if (cls[i].size == bufferSize) {
+                int poolSize = cls[i].poolSize.get();
+                for (ThreadCache tc : instance.threadCaches) {
+                    if (tc.classes == cls)
+                        poolSize += tc.magazines[i].count;
+                }
+                return poolSize;
             }
         }
         throw new IllegalArgumentException("Specified buffer size is not pooled. Check BufferPool configuration.");
     }
 
+    /**
+     * @return the number of buffers requested from the pool
+     */
+    public static long getNumRequests() {
+        long requests = instance.unpooledRequests.get();
+        for (long[] stats : instance.getClassStatistics())
+            requests += stats[0];
+        return requests;
+    }
+
+    /**
+     * @return the number of requests served with a pooled buffer
+     */
+    public static long getNumReuses() {
+        long reuses = 0;
+        for (long[] stats : instance.getClassStatistics())
+            reuses += stats[1];
+        return reuses;
+    }
+
+    /**
+     * @return the number of direct buffers created for the pool
+     */
+    public static long getNumCreates() {
+        long creates = 0;
+        for (SizeClass c : instance.classes)
+            creates += c.creates.get();
+        return creates;
+    }
+
+    /**
+     * @return the number of requests served with a heap buffer, because the pool of the class was exhausted or
+     *         the size exceeded the largest class
+     */
+    public static long getNumFallbacks() {
+        long fallbacks = instance.unpooledRequests.get();
+        for (SizeClass c : instance.classes)
+            fallbacks += c.fallbacks.get();
+        return fallbacks;
+    }
+
+    /**
+     * Sums up the requests and reuses of each class, including the magazines of all threads. The magazines are
+     * read without synchronization, so that the numbers may lag behind slightly.
+     *
+     * @return the requests and reuses of each class
+     */
+    private long[][] getClassStatistics() {
+        final SizeClass[] cls = classes;
+        long[][] stats = new long[cls.length][2];
+        for (int i = 0; i < cls.length; i++) {
+            stats[i][0] = cls[i].retiredRequests.get();
+            stats[i][1] = cls[i].retiredReuses.get();
+        }
+        for (ThreadCache tc : threadCaches) {
+            if (tc.classes != cls)
+                continue;
+            for (int i = 0; i < cls.length; i++) {
+                stats[i][0] += tc.magazines[i].requests;
+                stats[i][1] += tc.magazines[i].reuses;
+            }
+        }
+        return stats;
+    }
+
     /**
      * Returns a textual representation of the pool status.
-     * 
+     *
      * @return a textual representation of the pool status.
      */
     public static String getStatus() {
-        
+
+        final SizeClass[] cls = instance.classes;
+        final long[][] stats = instance.getClassStatistics();
+
         String str = "";
-        for (int i = 0; i < BUFF_SIZES.length; i++) {
+        for (int i = 0; i < cls.length; i++) {
             str += String.format(
-                "%8d:      poolSize = %5d    numRequests = %8d    creates = %8d   deletes = %8d\n",
-                BUFF_SIZES[i], instance.poolSizes[i].get(), instance.requests[i].get(), instance.creates[i]
-                        .get(), instance.deletes[i].get());
+                "%8d:      poolSize = %5d / %5d    numRequests = %8d    reuses = %8d    creates = %8d"
+                    + "   fallbacks = %8d   deletes = %8d\n", cls[i].size, getPoolSize(cls[i].size),
+                cls[i].maxPoolSize, stats[i][0], stats[i][1], cls[i].creates.get(), cls[i].fallbacks.get(),
+                cls[i].deletes.get());
         }
-        str += String.format("unpooled (> %8d)    numRequests = creates = %8d   deletes = %8d",
-            BUFF_SIZES[BUFF_SIZES.length - 1], instance.requests[instance.requests.length - 1].get(),
-            instance.deletes[instance.deletes.length - 1].get());
+        str += String.format("unpooled (> %8d)    numRequests = creates = %8d   deletes = %8d\n",
+            cls[cls.length - 1].size, instance.unpooledRequests.get(), instance.unpooledDeletes.get());
+        str += instance.maxPooledBytes > 0 ? String.format("adaptive pool sizes, max. %d MiB",
+            instance.maxPooledBytes / 1024 / 1024) : "fixed pool sizes";
         return str;
     }
-    
+
     /**
      * Specifies whether stack traces shall be recorded when allocating and
      * freeing buffers. Since recording stack traces leads to some overhead, it
      * should only be enabled for debugging purposes.
-     * 
+     *
      * @param record
      */
     public static void enableStackTraceRecording(boolean record) {
         recordStackTraces = record;
     }
-    
+
+    /**
+     * A size class with its shared pool of free direct buffers.
+     */
+    private static final class SizeClass {
+
+        final int                             size;
+
+        final int                             initialPoolSize;
+
+        /**
+         * max. number of direct buffers of the class
+         */
+        volatile int                          maxPoolSize;
+
+        /**
+         * the free buffers that are not in a magazine
+         */
+        final ConcurrentLinkedQueue<ByteBuffer> pool;
+
+        /**
+         * pool size to avoid counting elements on each access
+         */
+        final AtomicInteger                   poolSize;
+
+        /**
+         * number of direct buffers of the class that are pooled or in use
+         */
+        final AtomicInteger                   numDirect;
+
+        final AtomicLong                      creates, fallbacks, deletes;
+
+        /**
+         * requests and reuses of the magazines of terminated threads
+         */
+        final AtomicLong                      retiredRequests, retiredReuses;
+
+        final AtomicLong                      lastAdapt;
+
+        /**
+         * only accessed by the thread adapting the class
+         */
+        long                                  lastFallbacks;
+
+        int                                   idleIntervals;
+
+        SizeClass(int size, int maxPoolSize) {
+            this.size = size;
+            this.initialPoolSize = maxPoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.pool = new ConcurrentLinkedQueue<ByteBuffer>();
+            this.poolSize = new AtomicInteger();
+            this.numDirect = new AtomicInteger();
+            this.creates = new AtomicLong();
+            this.fallbacks = new AtomicLong();
+            this.deletes = new AtomicLong();
+            this.retiredRequests = new AtomicLong();
+            this.retiredReuses = new AtomicLong();
+            this.lastAdapt = new AtomicLong(System.nanoTime());
+        }
+
+        ByteBuffer poll() {
+            ByteBuffer buf = pool.poll();
+            if (buf != null)
+                poolSize.decrementAndGet();
+            return buf;
+        }
+
+        void add(ByteBuffer buf) {
+            poolSize.incrementAndGet();
+            pool.add(buf);
+        }
+
+        /**
+         * Reserves a direct buffer if the class has less than <code>maxPoolSize</code> direct buffers.
+         */
+        boolean reserve() {
+            for (;;) {
+                final int n = numDirect.get();
+                if (n >= maxPoolSize)
+                    return false;
+                if (numDirect.compareAndSet(n, n + 1))
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * The magazines of a thread, one per class.
+     */
+    private static final class ThreadCache {
+
+        final Thread      owner;
+
+        final SizeClass[] classes;
+
+        final Magazine[]  magazines;
+
+        ThreadCache(Thread owner, SizeClass[] classes) {
+            this.owner = owner;
+            this.classes = classes;
+            this.magazines = new Magazine[classes.length];
+            for (int i = 0; i < classes.length; i++) {
+                magazines[i] = new Magazine(Math.min(MAX_MAGAZINE_SIZE, MAX_MAGAZINE_BYTES / classes[i].size));
+            }
+        }
+    }
+
+    /**
+     * A stack of free buffers of one class. Only modified by the owning thread while it is alive; the
+     * statistics are read by other threads without synchronization.
+     */
+    private static final class Magazine {
+
+        final ByteBuffer[] buffers;
+
+        int                count;
+
+        long               requests;
+
+        long               reuses;
+
+        Magazine(int capacity) {
+            this.buffers = new ByteBuffer[capacity];
+        }
+    }
+
 }
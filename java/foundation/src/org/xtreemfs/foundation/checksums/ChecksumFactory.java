@@ -43,6 +43,16 @@ public class ChecksumFactory {
 	 */
 	private HashMap<String, ConcurrentLinkedQueue<ChecksumAlgorithm>> pool;
 
+	/**
+	 * Contains the instances of the checksum algorithms owned by each thread.
+	 */
+	private final ThreadLocal<HashMap<String, ChecksumAlgorithm>> threadAlgorithms = new ThreadLocal<HashMap<String, ChecksumAlgorithm>>() {
+		@Override
+		protected HashMap<String, ChecksumAlgorithm> initialValue() {
+			return new HashMap<String, ChecksumAlgorithm>();
+		}
+	};
+
 	/**
 	 * creates a new ChecksumFactory
 	 */
@@ -58,7 +68,7 @@ public class ChecksumFactory {
 	 *
 	 * @return the instance
 	 */
-	public static ChecksumFactory getInstance() {
+	public static synchronized ChecksumFactory getInstance() {
 		if (self == null) {
 			self = new ChecksumFactory();
 		}
@@ -87,6 +97,34 @@ public class ChecksumFactory {
 		}
 	}
 
+	/**
+	 * Get the instance of a specific checksum algorithm owned by the calling
+	 * thread. The instance is reset and must neither be returned to the factory
+	 * nor be passed to other threads. Unlike {@link #getAlgorithm(String)},
+	 * this does not touch a shared queue, so it suits hot paths that hash on
+	 * every request.
+	 *
+	 * @param name
+	 *            of the algorithm
+	 * @return algorithm object
+	 */
+	public ChecksumAlgorithm getThreadAlgorithm(String name)
+			throws NoSuchAlgorithmException {
+		HashMap<String, ChecksumAlgorithm> instances = threadAlgorithms.get();
+		ChecksumAlgorithm algorithm = instances.get(name);
+		if (algorithm == null) {
+			ChecksumAlgorithm prototype = algorithms.get(name);
+			if (prototype == null)
+				throw new NoSuchAlgorithmException("algorithm " + name
+						+ " not supported");
+			algorithm = prototype.clone();
+			instances.put(name, algorithm);
+		} else {
+			algorithm.reset();
+		}
+		return algorithm;
+	}
+
 	/**
 	 * Returns an instance of a specific checksum algorithm for caching.
 	 *
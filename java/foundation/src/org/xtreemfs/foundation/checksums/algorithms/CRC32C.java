@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.checksums.algorithms;
+
+import java.util.zip.Checksum;
+
+/**
+ * The CRC32C (Castagnoli) algorithm. It uses the Java internal implementation
+ * if available (Java 9 and later), which is accelerated by the CRC32
+ * instructions of the CPU. Otherwise a table-driven implementation is used.
+ */
+@SuppressWarnings("unchecked")
+public class CRC32C extends JavaChecksumAlgorithm {
+
+	private static final Class<?> JAVA_CRC32C = getJavaCRC32C();
+
+	public CRC32C() {
+		super(newChecksum(), "CRC32C");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.xtreemfs.common.checksum.ChecksumAlgorithm#clone()
+	 */
+	@Override
+	public CRC32C clone() {
+		return new CRC32C();
+	}
+
+	/**
+	 * @return <code>true</code> if the Java internal implementation is used
+	 */
+	public static boolean isIntrinsic() {
+		return JAVA_CRC32C != null;
+	}
+
+	private static Class<?> getJavaCRC32C() {
+		try {
+			return Class.forName("java.util.zip.CRC32C");
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+	}
+
+	private static Checksum newChecksum() {
+		if (JAVA_CRC32C != null) {
+			try {
+				return (Checksum) JAVA_CRC32C.getDeclaredConstructor().newInstance();
+			} catch (Exception e) {
+				// fall through to the table-driven implementation
+			}
+		}
+		return new TableCRC32C();
+	}
+
+	/**
+	 * Table-driven CRC32C, processing one byte per table lookup.
+	 */
+	static final class TableCRC32C implements Checksum {
+
+		/** reversed Castagnoli polynomial */
+		private static final int   POLYNOMIAL = 0x82F63B78;
+
+		private static final int[] TABLE      = new int[256];
+
+		static {
+			for (int i = 0; i < TABLE.length; i++) {
+				int crc = i;
+				for (int bit = 0; bit < 8; bit++) {
+					crc = ((crc & 1) != 0) ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+				}
+				TABLE[i] = crc;
+			}
+		}
+
+		private int crc = 0xFFFFFFFF;
+
+		@Override
+		public void update(int b) {
+			crc = (crc >>> 8) ^ TABLE[(crc ^ b) & 0xFF];
+		}
+
+		@Override
+		public void update(byte[] b, int off, int len) {
+			int c = crc;
+			for (int i = off; i < off + len; i++) {
+				c = (c >>> 8) ^ TABLE[(c ^ b[i]) & 0xFF];
+			}
+			crc = c;
+		}
+
+		@Override
+		public long getValue() {
+			return (~crc) & 0xFFFFFFFFL;
+		}
+
+		@Override
+		public void reset() {
+			crc = 0xFFFFFFFF;
+		}
+	}
+}
@@ -8,6 +8,7 @@
 
 package org.xtreemfs.foundation.checksums.algorithms;
 
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.zip.Checksum;
 
@@ -22,6 +23,12 @@ import org.xtreemfs.foundation.checksums.ChecksumAlgorithm;
  */
 abstract public class JavaChecksumAlgorithm<RealJavaAlgorithm extends Checksum>
 		implements ChecksumAlgorithm {
+	/**
+	 * size of the chunks in which direct buffers are copied to the heap, if the
+	 * real algorithm cannot hash them in place
+	 */
+	private static final int CHUNK_SIZE = 8 * 1024;
+
 	/**
 	 * the class, which really implements the selected algorithm
 	 */
@@ -29,32 +36,66 @@ abstract public class JavaChecksumAlgorithm<RealJavaAlgorithm extends Checksum>
 
 	protected String name;
 
+	/**
+	 * <code>update(ByteBuffer)</code> of the real algorithm, if its class
+	 * implements it (Java 8 and later), otherwise <code>null</code>
+	 */
+	private final Method bufferUpdate;
+
+	private final Object[] bufferUpdateArgs;
+
+	/**
+	 * reused to copy direct buffers if they cannot be hashed in place
+	 */
+	private byte[] chunk;
+
 	public JavaChecksumAlgorithm(RealJavaAlgorithm realAlgorithm, String name) {
 		super();
 		this.realAlgorithm = realAlgorithm;
 		this.name = name;
+		this.bufferUpdate = getBufferUpdate(realAlgorithm.getClass());
+		this.bufferUpdateArgs = new Object[1];
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * 
-	 * @see org.xtreemfs.common.checksum.ChecksumAlgorithm#digest(java.nio.ByteBuffer)
+	/**
+	 * Updates the checksum with the bytes between the position and the limit
+	 * of the buffer. The position of the buffer is not changed. Neither heap
+	 * nor direct buffers are copied, unless the Java runtime is too old to
+	 * hash direct buffers in place.
+	 *
+	 * @see org.xtreemfs.foundation.checksums.ChecksumAlgorithm#update(java.nio.ByteBuffer)
 	 */
 	@Override
 	public void update(ByteBuffer data) {
-		byte[] array;
+		final int position = data.position();
 
 		if (data.hasArray()) {
-			array = data.array();
+			realAlgorithm.update(data.array(), data.arrayOffset() + position,
+					data.remaining());
+		} else if (bufferUpdate != null) {
+			bufferUpdateArgs[0] = data;
+			try {
+				bufferUpdate.invoke(realAlgorithm, bufferUpdateArgs);
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			} finally {
+				bufferUpdateArgs[0] = null;
+				data.position(position);
+			}
 		} else {
-			array = new byte[data.capacity()];
-			final int oldPos = data.position();
-			data.position(0);
-			data.get(array);
-			data.position(oldPos);
+			if (chunk == null) {
+				chunk = new byte[CHUNK_SIZE];
+			}
+			try {
+				while (data.hasRemaining()) {
+					final int length = Math.min(chunk.length, data.remaining());
+					data.get(chunk, 0, length);
+					realAlgorithm.update(chunk, 0, length);
+				}
+			} finally {
+				data.position(position);
+			}
 		}
-
-		realAlgorithm.update(array, 0, array.length);
 	}
 
 	/*
@@ -96,4 +137,18 @@ abstract public class JavaChecksumAlgorithm<RealJavaAlgorithm extends Checksum>
 	 */
 	@Override
 	public abstract JavaChecksumAlgorithm<?> clone();
+
+	/**
+	 * Looks up <code>update(ByteBuffer)</code> of the given checksum class. The
+	 * default method inherited from {@link Checksum} in Java 9 and later is not
+	 * used, as it copies direct buffers to a new array on each call.
+	 */
+	private static Method getBufferUpdate(Class<?> checksumClass) {
+		try {
+			Method method = checksumClass.getMethod("update", ByteBuffer.class);
+			return (method.getDeclaringClass() == checksumClass) ? method : null;
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
 }
@@ -41,19 +41,14 @@ public class JavaHash implements StringChecksumAlgorithm {
 	 */
 	@Override
 	public void update(ByteBuffer data) {
-		byte[] array;
-
-		if (data.hasArray()) {
-			array = data.array();
-		} else {
-			array = new byte[data.capacity()];
-			final int oldPos = data.position();
-			data.position(0);
-			data.get(array);
-			data.position(oldPos);
+		// the bytes are decoded with the platform charset, as checksums stored
+		// with the objects were calculated this way; the hash of previous
+		// updates is continued
+		int h = (hash == null) ? 0 : hash.intValue();
+		for (char c : SDBM.decode(data).toCharArray()) {
+			h = 31 * h + c;
 		}
-
-		this.hash = (long)new String(array).hashCode();
+		this.hash = (long) h;
 	}
 
 	/*
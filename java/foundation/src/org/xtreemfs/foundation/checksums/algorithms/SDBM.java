@@ -40,19 +40,14 @@ public class SDBM implements StringChecksumAlgorithm {
 	 */
 	@Override
 	public void update(ByteBuffer data) {
-		byte[] array;
-
-		if (data.hasArray()) {
-			array = data.array();
-		} else {
-			array = new byte[data.capacity()];
-			final int oldPos = data.position();
-			data.position(0);
-			data.get(array);
-			data.position(oldPos);
+		// the bytes are decoded with the platform charset, as checksums stored
+		// with the objects were calculated this way; the hash of previous
+		// updates is continued
+		long h = (hash == null) ? 0 : hash;
+		for (char c : decode(data).toCharArray()) {
+			h = c + (h << 6) + (h << 16) - h;
 		}
-
-		this.hash = sdbmHash(new String(array));
+		this.hash = h;
 	}
 
 	/*
@@ -101,6 +96,22 @@ public class SDBM implements StringChecksumAlgorithm {
 		return new SDBM();
 	}
 
+	/**
+	 * Decodes the bytes between position and limit of the buffer with the
+	 * platform charset, without changing the buffer's position.
+	 * 
+	 * @param data
+	 * @return
+	 */
+	static String decode(ByteBuffer data) {
+		if (data.hasArray()) {
+			return new String(data.array(), data.arrayOffset() + data.position(), data.remaining());
+		}
+		byte[] array = new byte[data.remaining()];
+		data.duplicate().get(array);
+		return new String(array);
+	}
+
 	/**
 	 * SDBM algorithm
 	 * 
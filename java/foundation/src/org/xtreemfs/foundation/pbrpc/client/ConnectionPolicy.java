@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.pbrpc.client;
+
+/**
+ * Decides which of the connections an {@link RPCNIOSocketClient} keeps to an endpoint carries a request, if it
+ * keeps more than one.
+ * <p>
+ * Requests sent over different connections may overtake each other.
+ */
+public enum ConnectionPolicy {
+
+    /**
+     * Uses the connections one after another.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * Uses the connection with the fewest requests queued or awaiting a response.
+     */
+    LEAST_OUTSTANDING,
+
+    /**
+     * Reserves the first connection for requests without a large data payload, so that they are not blocked
+     * behind bulk transfers. Requests with large payloads use the connection with the fewest outstanding
+     * requests among the others.
+     */
+    BULK_LANE
+}
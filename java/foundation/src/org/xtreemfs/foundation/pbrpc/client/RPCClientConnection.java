@@ -10,6 +10,7 @@ package org.xtreemfs.foundation.pbrpc.client;
 
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -41,13 +42,15 @@ public class RPCClientConnection {
 
     private final List<RPCClientRequest>         sendQueue;
 
+    private final RequestTimerWheel              timerWheel;
+
     private long lastUsed;
 
     private long nextReconnectTime;
 
     private int  numConnectAttempts;
 
-    private final ByteBuffer     requestRecordMarker;
+    private final List<ByteBuffer> requestRecordMarkers;
 
     private final ByteBuffer     responseRecordMarker;
 
@@ -55,7 +58,7 @@ public class RPCClientConnection {
 
     private ByteBuffer[]         requestBuffers;
 
-    private RPCClientRequest	 pendingRequest;
+    private final List<RPCClientRequest> pendingRequests;
     
     private ReceiveState         receiveState;
 
@@ -64,13 +67,16 @@ public class RPCClientConnection {
     volatile long bytesRX, bytesTX;
     
 
-    public RPCClientConnection(InetSocketAddress endpoint) {
+    public RPCClientConnection(InetSocketAddress endpoint, int requestTimeout) {
         requests = new HashMap<Integer, RPCClientRequest>();
         lastUsed = TimeSync.getLocalSystemTime();
         numConnectAttempts = 0;
         nextReconnectTime = 0;
         sendQueue = new LinkedList<RPCClientRequest>();
-        requestRecordMarker = ByteBuffer.allocateDirect(RecordMarker.HDR_SIZE);
+        timerWheel = new RequestTimerWheel(requestTimeout, RPCNIOSocketClient.TIMEOUT_GRANULARITY, lastUsed);
+        requestRecordMarkers = new ArrayList<ByteBuffer>(1);
+        requestRecordMarkers.add(ByteBuffer.allocateDirect(RecordMarker.HDR_SIZE));
+        pendingRequests = new ArrayList<RPCClientRequest>(1);
         responseRecordMarker = ByteBuffer.allocateDirect(RecordMarker.HDR_SIZE);
         this.endpoint = endpoint;
         receiveState = ReceiveState.RECORD_MARKER;
@@ -152,12 +158,30 @@ public class RPCClientConnection {
         return sendQueue;
     }
 
+    /**
+     * @return the deadlines of the requests queued or awaiting a response. The caller must hold the connection's
+     *         lock.
+     */
+    RequestTimerWheel getTimerWheel() {
+        return timerWheel;
+    }
+
+    /**
+     * @return the number of requests queued or awaiting a response. The caller must hold the connection's lock.
+     */
+    int getNumOutstandingRequests() {
+        return sendQueue.size() + requests.size();
+    }
+
     
     /**
-     * @return the requestFragHdr
+     * @return the record marker for the index-th request gathered into the request buffers
      */
-    ByteBuffer getRequestRecordMarker() {
-        return requestRecordMarker;
+    ByteBuffer getRequestRecordMarker(int index) {
+        while (requestRecordMarkers.size() <= index) {
+            requestRecordMarkers.add(ByteBuffer.allocateDirect(RecordMarker.HDR_SIZE));
+        }
+        return requestRecordMarkers.get(index);
     }
 
     /**
@@ -191,12 +215,12 @@ public class RPCClientConnection {
         this.requestBuffers = requestBuffers;
     }
 
-    public RPCClientRequest getPendingRequest() {
-        return pendingRequest;
-    }
-    
-    public void setPendingRequest(RPCClientRequest pendingRequest) {
-    	this.pendingRequest = pendingRequest;
+    /**
+     * @return the requests gathered into the request buffers, which are removed from the send queue but not sent
+     *         completely yet. They are registered as awaiting a response already.
+     */
+    public List<RPCClientRequest> getPendingRequests() {
+        return pendingRequests;
     }
     
     /**
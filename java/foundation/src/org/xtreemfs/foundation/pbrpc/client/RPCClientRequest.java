@@ -41,6 +41,13 @@ public class RPCClientRequest<ReturnType extends Message> {
     private long              timeQueued;
     private long              bytesWritten;
 
+    /**
+     * Position of the request in the timer wheel of its connection, guarded by the lock of the connection
+     */
+    RPCClientRequest          timerPrev, timerNext;
+    int                       timerSlot = -1;
+    long                      timerDeadline;
+
 
     RPCClientRequest(Auth authHeader, UserCredentials uCreds, int callId, int interfaceId, int procId, Message message, ReusableBuffer data, RPCResponse<ReturnType> response) throws IOException {
         if (uCreds == null) {
@@ -153,6 +160,20 @@ public class RPCClientRequest<ReturnType extends Message> {
         return response;
     }
     
+    /**
+     * @return the size of the request on the wire, including its record marker
+     */
+    public int getRpcMessageSize() {
+        return RecordMarker.HDR_SIZE + hdrLen + dataLen + msgLen;
+    }
+
+    /**
+     * @return the number of bytes of the request that have been written so far
+     */
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
     public void recordBytesWritten(long bytesWritten) {
         this.bytesWritten += bytesWritten;
         if (this.bytesWritten > RecordMarker.HDR_SIZE + hdrLen + dataLen + msgLen) {
@@ -20,6 +20,7 @@ import java.nio.channels.NotYetConnectedException;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -45,6 +46,7 @@ import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
 import org.xtreemfs.foundation.pbrpc.server.RPCNIOSocketServer;
 import org.xtreemfs.foundation.pbrpc.server.RPCNIOSocketServerConnection;
 import org.xtreemfs.foundation.pbrpc.utils.ReusableBufferInputStream;
+import org.xtreemfs.foundation.pbrpc.utils.WriteCoalescing;
 import org.xtreemfs.foundation.util.OutputUtils;
 
 import com.google.protobuf.Message;
@@ -67,7 +69,7 @@ public class RPCNIOSocketClient extends LifeCycleThread {
      */
     public static final int                                   TIMEOUT_GRANULARITY = 250;
     
-    private final Map<InetSocketAddress, RPCClientConnection> connections;
+    private final Map<InetSocketAddress, Endpoint>            connections;
     
     private final int                                         requestTimeout;
     
@@ -91,6 +93,28 @@ public class RPCNIOSocketClient extends LifeCycleThread {
     
     private final SocketAddress                               localBindPoint;
 
+    /**
+     * Limits the number of queued requests gathered into one write
+     */
+    private volatile WriteCoalescing                          writeCoalescing;
+
+    /**
+     * Number of connections kept to each endpoint
+     */
+    private volatile int                                      connectionsPerEndpoint;
+
+    /**
+     * Decides which connection to an endpoint carries a request
+     */
+    private volatile ConnectionPolicy                         connectionPolicy;
+
+    /**
+     * Requests with at least this many bytes of data are bulk requests for {@link ConnectionPolicy#BULK_LANE}
+     */
+    private volatile int                                      bulkRequestSize;
+
+    public static final int                                   DEFAULT_BULK_REQUEST_SIZE = 64 * 1024;
+
 
     /**
      * on some platforms (e.g. FreeBSD 7.2 with openjdk6) Selector.select(int timeout)
@@ -137,12 +161,16 @@ public class RPCNIOSocketClient extends LifeCycleThread {
         this.sendBufferSize = sendBufferSize;
         this.receiveBufferSize = receiveBufferSize;
         this.localBindPoint = localBindPoint;
-        connections = new HashMap<InetSocketAddress, RPCClientConnection>();
+        connections = new HashMap<InetSocketAddress, Endpoint>();
+        connectionsPerEndpoint = 1;
+        connectionPolicy = ConnectionPolicy.ROUND_ROBIN;
+        bulkRequestSize = DEFAULT_BULK_REQUEST_SIZE;
         selector = Selector.open();
         this.sslOptions = sslOptions;
         quit = false;
         transactionId = new AtomicInteger((int) (Math.random() * 1e6 + 1.0));
         toBeEstablished = new ConcurrentLinkedQueue<RPCClientConnection>();
+        writeCoalescing = new WriteCoalescing();
         
         if (this.localBindPoint != null && Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.net, this,
@@ -170,15 +198,22 @@ public class RPCNIOSocketClient extends LifeCycleThread {
         // get connection
         RPCClientConnection con = null;
         synchronized (connections) {
-            con = connections.get(server);
+            Endpoint endpoint = connections.get(server);
+            if (endpoint == null) {
+                endpoint = new Endpoint(connectionsPerEndpoint);
+                connections.put(server, endpoint);
+            }
+            final int index = selectConnection(endpoint, request);
+            con = endpoint.connections[index];
             if (con == null) {
-                con = new RPCClientConnection(server);
-                connections.put(server, con);
+                con = new RPCClientConnection(server, requestTimeout);
+                endpoint.connections[index] = con;
             }
         }
         synchronized (con) {
             boolean isEmpty = con.getSendQueue().isEmpty();
             request.queued();
+            con.getTimerWheel().schedule(request, request.getTimeQueued() + requestTimeout);
             con.useConnection();
             if (highPriority)
                 con.getSendQueue().add(0, request);
@@ -204,6 +239,51 @@ public class RPCNIOSocketClient extends LifeCycleThread {
         }
     }
     
+    /**
+     * Returns the index of the connection to the endpoint that carries the request. The caller must hold the
+     * lock of "connections".
+     */
+    private int selectConnection(Endpoint endpoint, RPCClientRequest request) {
+        final int numConnections = endpoint.connections.length;
+        if (numConnections == 1) {
+            return 0;
+        }
+        switch (connectionPolicy) {
+        case LEAST_OUTSTANDING:
+            return getLeastOutstandingConnection(endpoint, 0);
+        case BULK_LANE:
+            return (request.dataLen >= bulkRequestSize) ? getLeastOutstandingConnection(endpoint, 1) : 0;
+        default:
+            final int index = endpoint.nextConnection;
+            endpoint.nextConnection = (index + 1) % numConnections;
+            return index;
+        }
+    }
+
+    /**
+     * Returns the index of the connection with the fewest outstanding requests, starting at "first". A
+     * connection that has not been created yet has no outstanding requests.
+     */
+    private int getLeastOutstandingConnection(Endpoint endpoint, int first) {
+        int index = first;
+        int min = Integer.MAX_VALUE;
+        for (int i = first; i < endpoint.connections.length; i++) {
+            final RPCClientConnection con = endpoint.connections[i];
+            if (con == null) {
+                return i;
+            }
+            final int outstanding;
+            synchronized (con) {
+                outstanding = con.getNumOutstandingRequests();
+            }
+            if (outstanding < min) {
+                min = outstanding;
+                index = i;
+            }
+        }
+        return index;
+    }
+
     @Override
     public void run() {
 	double brokenSelectAverage = TIMEOUT_GRANULARITY;
@@ -317,21 +397,26 @@ public class RPCNIOSocketClient extends LifeCycleThread {
         }            
         
         synchronized (connections) {
-            for (RPCClientConnection con : connections.values()) {
-                synchronized (con) {
-                    for (RPCClientRequest rq : con.getSendQueue()) {
-                        rq.getResponse().requestFailed("RPC cancelled due to client shutdown");
-                        rq.freeBuffers();
-                    }
-                    for (RPCClientRequest rq : con.getRequests().values()) {
-                        rq.getResponse().requestFailed("RPC cancelled due to client shutdown");
-                        rq.freeBuffers();
+            for (Endpoint endpoint : connections.values()) {
+                for (RPCClientConnection con : endpoint.connections) {
+                    if (con == null) {
+                        continue;
                     }
-                    try {
-                        if (con.getChannel() != null)
-                            con.getChannel().close();
-                    } catch (Exception ex) {
-                        ex.printStackTrace();
+                    synchronized (con) {
+                        for (RPCClientRequest rq : con.getSendQueue()) {
+                            rq.getResponse().requestFailed("RPC cancelled due to client shutdown");
+                            rq.freeBuffers();
+                        }
+                        for (RPCClientRequest rq : con.getRequests().values()) {
+                            rq.getResponse().requestFailed("RPC cancelled due to client shutdown");
+                            rq.freeBuffers();
+                        }
+                        try {
+                            if (con.getChannel() != null)
+                                con.getChannel().close();
+                        } catch (Exception ex) {
+                            ex.printStackTrace();
+                        }
                     }
                 }
             }
@@ -413,6 +498,7 @@ public class RPCNIOSocketClient extends LifeCycleThread {
                 }
                 con.connectFailed();
                 for (RPCClientRequest rq : con.getSendQueue()) {
+                    con.getTimerWheel().cancel(rq);
                     rq.getResponse().requestFailed("sending RPC failed: server '"+con.getEndpointString()+"' not reachable ("+ex+")");
                     rq.freeBuffers();
                 }
@@ -426,6 +512,7 @@ public class RPCNIOSocketClient extends LifeCycleThread {
             }
             synchronized (con) {
                 for (RPCClientRequest rq : con.getSendQueue()) {
+                    con.getTimerWheel().cancel(rq);
                     rq.getResponse().requestFailed("sending RPC failed: reconnecting to the server '"+con.getEndpointString()+"' was blocked locally to avoid flooding");
                     rq.freeBuffers();
                 }
@@ -569,7 +656,13 @@ public class RPCNIOSocketClient extends LifeCycleThread {
             final RPC.RPCHeader header = RPC.RPCHeader.parseFrom(rbis);
             BufferPool.free(receiveBuffers[0]);
 
-            RPCClientRequest rq = con.getRequest(header.getCallId());
+            RPCClientRequest rq;
+            synchronized (con) {
+                rq = con.getRequest(header.getCallId());
+                if (rq != null) {
+                    con.getTimerWheel().cancel(rq);
+                }
+            }
             if (rq == null) {
                 // Might happen when a request timed out before a response was
                 // sent.
@@ -603,22 +696,17 @@ public class RPCNIOSocketClient extends LifeCycleThread {
                     
                     while (true) {
                         ByteBuffer[] buffers = con.getRequestBuffers();
-                        RPCClientRequest send = con.getPendingRequest();
+                        final List<RPCClientRequest> batch = con.getPendingRequests();
                         if (buffers == null) {
-                            assert(send == null);
+                            assert(batch.isEmpty());
                             synchronized (con) {
                                 if (con.getSendQueue().isEmpty()) {
                                     // no more responses, stop writing...
                                     key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
                                     break;
                                 }
-                                send = con.getSendQueue().remove(0);
+                                buffers = packRequests(con);
                             }
-                            assert(send != null);
-                            con.getRequestRecordMarker().clear();
-                            buffers = send.packBuffers(con.getRequestRecordMarker());
-                            con.setRequestBuffers(buffers);
-                            con.setPendingRequest(send);
                         }
 
                         assert(buffers != null);
@@ -634,25 +722,31 @@ public class RPCNIOSocketClient extends LifeCycleThread {
                             return;
                         }
                         // Detect if the client writes outside of the fragment.
-                        send.recordBytesWritten(numBytesWritten);
+                        long remaining = numBytesWritten;
+                        for (RPCClientRequest send : batch) {
+                            final long written = Math.min(remaining, send.getRpcMessageSize() - send.getBytesWritten());
+                            send.recordBytesWritten(written);
+                            remaining -= written;
+                        }
+                        if (remaining > 0) {
+                            batch.get(batch.size() - 1).recordBytesWritten(remaining);
+                        }
 
                         if (buffers[buffers.length-1].hasRemaining()) {
                             // not enough data...
+                            removeSentRequests(con, buffers);
                             key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
                             break;
                         }
 
                         //remove from queue
                         synchronized (con) {
-                            con.addRequest(send.getRequestHeader().getCallId(), send);
-                            if (Logging.isDebug()) {
-                                Logging.logMessage(Logging.LEVEL_DEBUG, Category.net, this,
-                                    "sent request %d to %s", send.getRequestHeader().getCallId(), con.getEndpointString());
+                            for (RPCClientRequest send : batch) {
+                                sent(con, send);
                             }
+                            con.setRequestBuffers(null);
+                            batch.clear();
                         }
-                        send.checkEnoughBytesSent();
-                        con.setRequestBuffers(null);
-                        con.setPendingRequest(null);
                     }
                 }
             }
@@ -679,6 +773,90 @@ public class RPCNIOSocketClient extends LifeCycleThread {
         }
     }
     
+    /**
+     * Removes the requests of a partly written batch that have been written completely. The server may answer
+     * them, and their buffers may be freed, before the rest of the batch has been written, so they are no longer
+     * touched.
+     */
+    private void removeSentRequests(RPCClientConnection con, ByteBuffer[] buffers) {
+        final List<RPCClientRequest> batch = con.getPendingRequests();
+        int numSent = 0;
+        synchronized (con) {
+            while (numSent < batch.size()
+                && batch.get(numSent).getBytesWritten() == batch.get(numSent).getRpcMessageSize()) {
+                sent(con, batch.get(numSent));
+                numSent++;
+            }
+            if (numSent == 0) {
+                return;
+            }
+            batch.subList(0, numSent).clear();
+        }
+
+        // the buffers written completely precede the first one with remaining data
+        int first = 0;
+        while (!buffers[first].hasRemaining()) {
+            first++;
+        }
+        ByteBuffer[] remaining = new ByteBuffer[buffers.length - first];
+        System.arraycopy(buffers, first, remaining, 0, remaining.length);
+        con.setRequestBuffers(remaining);
+    }
+
+    private void sent(RPCClientConnection con, RPCClientRequest send) {
+        if (Logging.isDebug()) {
+            Logging.logMessage(Logging.LEVEL_DEBUG, Category.net, this,
+                "sent request %d to %s", send.getRequestHeader().getCallId(), con.getEndpointString());
+        }
+        send.checkEnoughBytesSent();
+    }
+
+    /**
+     * Removes the requests at the head of the connection's send queue, as far as the write coalescing policy
+     * permits, and gathers their buffers into the connection's request buffers. The requests are registered as
+     * awaiting a response before they are written, as the server may answer the first requests of a batch before
+     * the batch has been written completely. The caller must hold the connection's lock.
+     */
+    private ByteBuffer[] packRequests(RPCClientConnection con) {
+        final WriteCoalescing coalescing = writeCoalescing;
+        final List<RPCClientRequest> batch = con.getPendingRequests();
+
+        ByteBuffer[] buffers;
+        if (!coalescing.isEnabled()) {
+            RPCClientRequest send = con.getSendQueue().remove(0);
+            ByteBuffer recordMarker = con.getRequestRecordMarker(0);
+            recordMarker.clear();
+            buffers = send.packBuffers(recordMarker);
+            batch.add(send);
+        } else {
+            List<ByteBuffer> gathered = new ArrayList<ByteBuffer>();
+            int numBytes = 0;
+            while (!con.getSendQueue().isEmpty()) {
+                RPCClientRequest send = con.getSendQueue().get(0);
+                if (!coalescing.canAdd(batch.size(), numBytes, gathered.size(), send.getRpcMessageSize(),
+                    send.getBuffers().length + 1)) {
+                    break;
+                }
+                con.getSendQueue().remove(0);
+                ByteBuffer recordMarker = con.getRequestRecordMarker(batch.size());
+                recordMarker.clear();
+                for (ByteBuffer buffer : send.packBuffers(recordMarker)) {
+                    gathered.add(buffer);
+                }
+                batch.add(send);
+                numBytes += send.getRpcMessageSize();
+            }
+            buffers = gathered.toArray(new ByteBuffer[gathered.size()]);
+        }
+
+        for (RPCClientRequest send : batch) {
+            con.addRequest(send.getRequestHeader().getCallId(), send);
+        }
+        writeCoalescing.recordWrite(batch.size());
+        con.setRequestBuffers(buffers);
+        return buffers;
+    }
+
     private void connectConnection(SelectionKey key) {
         final RPCClientConnection con = (RPCClientConnection) key.attachment();
         final ChannelIO channel = con.getChannel();
@@ -719,10 +897,14 @@ public class RPCNIOSocketClient extends LifeCycleThread {
                 channel.close();
             } catch (Exception ex) {
             }
+            // the requests being written are registered as well
             cancelRq.addAll(con.getRequests().values());
             cancelRq.addAll(con.getSendQueue());
             con.getRequests().clear();
+            con.getPendingRequests().clear();
+            con.setRequestBuffers(null);
             con.getSendQueue().clear();
+            con.getTimerWheel().clear();
             con.setChannel(null);
         }
         
@@ -744,49 +926,32 @@ public class RPCNIOSocketClient extends LifeCycleThread {
         if (now >= lastCheck + TIMEOUT_GRANULARITY) {
             // check for timed out requests
             synchronized (connections) {
-                Iterator<RPCClientConnection> conIter = connections.values().iterator();
-                while (conIter.hasNext()) {
-                    final RPCClientConnection con = conIter.next();
-                    
-                    if (con.getLastUsed() < (now - connectionTimeout)) {
-                        if (Logging.isDebug()) {
-                            Logging.logMessage(Logging.LEVEL_DEBUG, Category.net, this,
-                                "removing idle connection");
-                        }
-                        try {
-                            conIter.remove();
-                            closeConnection(con.getChannel().keyFor(selector), null);
-                        } catch (Exception ex) {
+                Iterator<Endpoint> endpointIter = connections.values().iterator();
+                while (endpointIter.hasNext()) {
+                    final Endpoint endpoint = endpointIter.next();
+                    boolean inUse = false;
+                    for (int i = 0; i < endpoint.connections.length; i++) {
+                        final RPCClientConnection con = endpoint.connections[i];
+                        if (con == null) {
+                            continue;
                         }
-                    } else {
-                        // check for request timeout
-                        List<RPCClientRequest> cancelRq = new LinkedList<RPCClientRequest>();
-                        synchronized (con) {
-                            Iterator<RPCClientRequest> iter = con.getRequests().values().iterator();
-                            while (iter.hasNext()) {
-                                final RPCClientRequest rq = iter.next();
-                                if (rq.getTimeQueued() + requestTimeout < now) {
-                                    cancelRq.add(rq);
-                                    iter.remove();
-                                }
+                        if (con.getLastUsed() < (now - connectionTimeout)) {
+                            if (Logging.isDebug()) {
+                                Logging.logMessage(Logging.LEVEL_DEBUG, Category.net, this,
+                                    "removing idle connection");
                             }
-                            iter = con.getSendQueue().iterator();
-                            while (iter.hasNext()) {
-                                final RPCClientRequest rq = iter.next();
-                                if (rq.getTimeQueued() + requestTimeout < now) {
-                                    cancelRq.add(rq);
-                                    iter.remove();
-                                } else {
-                                    // requests are ordered :-)
-                                    break;
-                                }
+                            try {
+                                endpoint.connections[i] = null;
+                                closeConnection(con.getChannel().keyFor(selector), null);
+                            } catch (Exception ex) {
                             }
+                        } else {
+                            inUse = true;
+                            checkForRequestTimeouts(con, now);
                         }
-                        for (RPCClientRequest rq : cancelRq) {
-                            rq.getResponse().requestFailed("sending RPC failed: request timed out");
-                            rq.freeBuffers();
-                        }
-                        
+                    }
+                    if (!inUse) {
+                        endpointIter.remove();
                     }
                 }
                 
@@ -795,25 +960,141 @@ public class RPCNIOSocketClient extends LifeCycleThread {
         }
     }
     
+    private void checkForRequestTimeouts(RPCClientConnection con, long now) {
+        List<RPCClientRequest> cancelRq = new LinkedList<RPCClientRequest>();
+        synchronized (con) {
+            if (con.getTimerWheel().size() == 0) {
+                return;
+            }
+            List<RPCClientRequest> expired = new ArrayList<RPCClientRequest>();
+            con.getTimerWheel().expire(now, expired);
+            for (RPCClientRequest rq : expired) {
+                if (con.getPendingRequests().contains(rq)) {
+                    // requests are not cancelled while they are being written, retry with the next check
+                    con.getTimerWheel().schedule(rq, now);
+                } else if (con.getRequests().remove(rq.getRequestHeader().getCallId()) != null) {
+                    cancelRq.add(rq);
+                } else if (con.getSendQueue().remove(rq)) {
+                    // expired requests are found close to the head of the queue
+                    cancelRq.add(rq);
+                }
+            }
+        }
+        for (RPCClientRequest rq : cancelRq) {
+            rq.getResponse().requestFailed("sending RPC failed: request timed out");
+            rq.freeBuffers();
+        }
+    }
+    
     @Override
     public void shutdown() {
         this.quit = true;
         this.interrupt();
     }
 
+    /**
+     * Sets how many queued requests of a connection may be gathered into one write. By default, every request is
+     * written on its own.
+     */
+    public void setWriteCoalescing(WriteCoalescing writeCoalescing) {
+        this.writeCoalescing = writeCoalescing;
+    }
+
+    /**
+     * @return the write coalescing policy, which also counts the requests carried by each write
+     */
+    public WriteCoalescing getWriteCoalescing() {
+        return writeCoalescing;
+    }
+
     /**
      * Returns the number of bytes received and transferred from/to a server.
      * @param server
      * @return an array with the number of bytes received [0] and sent [1]
      */
     public long[] getTransferStats(InetSocketAddress server) {
-        RPCClientConnection con = null;
-         synchronized (connections) {
-             con = connections.get(server);
-         }
-        if (con == null)
-            return null;
-        else
-            return new long[]{con.bytesRX,con.bytesTX};
+        long[] stats = null;
+        synchronized (connections) {
+            Endpoint endpoint = connections.get(server);
+            if (endpoint != null) {
+                stats = new long[2];
+                for (RPCClientConnection con : endpoint.connections) {
+                    if (con != null) {
+                        stats[0] += con.bytesRX;
+                        stats[1] += con.bytesTX;
+                    }
+                }
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Sets how many connections are kept to each endpoint, and which of them carries a request. The setting
+     * applies to endpoints contacted afterwards; by default, there is a single connection per endpoint.
+     * <p>
+     * Requests sent over different connections may overtake each other.
+     */
+    public void setConnectionsPerEndpoint(int connectionsPerEndpoint, ConnectionPolicy connectionPolicy) {
+        if (connectionsPerEndpoint < 1) {
+            throw new IllegalArgumentException("at least one connection per endpoint is required");
+        }
+        this.connectionsPerEndpoint = connectionsPerEndpoint;
+        this.connectionPolicy = connectionPolicy;
+    }
+
+    public int getConnectionsPerEndpoint() {
+        return connectionsPerEndpoint;
+    }
+
+    public ConnectionPolicy getConnectionPolicy() {
+        return connectionPolicy;
+    }
+
+    /**
+     * Sets the minimum number of data bytes of requests carried by the bulk connections of
+     * {@link ConnectionPolicy#BULK_LANE}.
+     */
+    public void setBulkRequestSize(int bulkRequestSize) {
+        this.bulkRequestSize = bulkRequestSize;
+    }
+
+    public int getBulkRequestSize() {
+        return bulkRequestSize;
+    }
+
+    /**
+     * Returns the number of connections currently kept to a server.
+     */
+    public int getNumConnections(InetSocketAddress server) {
+        int numConnections = 0;
+        synchronized (connections) {
+            Endpoint endpoint = connections.get(server);
+            if (endpoint != null) {
+                for (RPCClientConnection con : endpoint.connections) {
+                    if (con != null) {
+                        numConnections++;
+                    }
+                }
+            }
+        }
+        return numConnections;
+    }
+
+    /**
+     * The connections to an endpoint. A connection is created when it is selected for the first time.
+     */
+    private static final class Endpoint {
+
+        final RPCClientConnection[] connections;
+
+        /**
+         * Index of the connection used next by {@link ConnectionPolicy#ROUND_ROBIN}
+         */
+        int                         nextConnection;
+
+        Endpoint(int numConnections) {
+            connections = new RPCClientConnection[numConnections];
+        }
     }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.pbrpc.client;
+
+import java.util.List;
+
+/**
+ * A hashed timer wheel for the deadlines of the outstanding requests of a connection.
+ * <p>
+ * The wheel has one slot per tick of {@link #tickDuration} ms. A request is linked into the slot of the tick its
+ * deadline falls into, so that scheduling and cancelling a request takes constant time, and finding the expired
+ * requests only visits the slots of the ticks that passed since the last check. Deadlines more than one rotation
+ * ahead remain in their slot until their round has come.
+ * <p>
+ * The wheel is not thread-safe; it is guarded by the lock of its connection.
+ */
+final class RequestTimerWheel {
+
+    private final RPCClientRequest[] slots;
+
+    private final int                tickDuration;
+
+    /**
+     * Tick up to which all expired requests have been removed
+     */
+    private long                     currentTick;
+
+    private int                      size;
+
+    /**
+     * @param maxTimeout
+     *            the number of slots is chosen such that deadlines up to maxTimeout ms ahead fit into one rotation
+     * @param tickDuration
+     *            duration of a tick in ms
+     * @param now
+     *            current time in ms
+     */
+    RequestTimerWheel(int maxTimeout, int tickDuration, long now) {
+        this.slots = new RPCClientRequest[maxTimeout / tickDuration + 2];
+        this.tickDuration = tickDuration;
+        this.currentTick = now / tickDuration;
+        this.size = 0;
+    }
+
+    /**
+     * Adds a request that expires once the current time is past "deadline". A request that is already scheduled
+     * is rescheduled.
+     */
+    void schedule(RPCClientRequest rq, long deadline) {
+        if (rq.timerSlot != -1) {
+            cancel(rq);
+        }
+        final int slot = (int) (Math.max(deadline / tickDuration, currentTick) % slots.length);
+        rq.timerDeadline = deadline;
+        rq.timerSlot = slot;
+        rq.timerPrev = null;
+        rq.timerNext = slots[slot];
+        if (slots[slot] != null) {
+            slots[slot].timerPrev = rq;
+        }
+        slots[slot] = rq;
+        size++;
+    }
+
+    /**
+     * Removes a request from the wheel. Does nothing if the request is not scheduled.
+     */
+    void cancel(RPCClientRequest rq) {
+        if (rq.timerSlot == -1) {
+            return;
+        }
+        if (rq.timerPrev != null) {
+            rq.timerPrev.timerNext = rq.timerNext;
+        } else {
+            slots[rq.timerSlot] = rq.timerNext;
+        }
+        if (rq.timerNext != null) {
+            rq.timerNext.timerPrev = rq.timerPrev;
+        }
+        rq.timerPrev = null;
+        rq.timerNext = null;
+        rq.timerSlot = -1;
+        size--;
+    }
+
+    /**
+     * Removes all requests whose deadline is before "now" from the wheel and adds them to "expired".
+     */
+    void expire(long now, List<RPCClientRequest> expired) {
+        final long nowTick = now / tickDuration;
+        if (size > 0) {
+            final long numTicks = Math.min(nowTick - currentTick + 1, slots.length);
+            for (long tick = currentTick; tick < currentTick + numTicks; tick++) {
+                RPCClientRequest rq = slots[(int) (tick % slots.length)];
+                while (rq != null) {
+                    final RPCClientRequest next = rq.timerNext;
+                    if (rq.timerDeadline < now) {
+                        cancel(rq);
+                        expired.add(rq);
+                    }
+                    rq = next;
+                }
+            }
+        }
+        // the slot of the current tick may still hold requests that expire later during the tick
+        currentTick = Math.max(currentTick, nowTick);
+    }
+
+    /**
+     * Removes all requests from the wheel.
+     */
+    void clear() {
+        for (int i = 0; i < slots.length; i++) {
+            RPCClientRequest rq = slots[i];
+            while (rq != null) {
+                final RPCClientRequest next = rq.timerNext;
+                rq.timerPrev = null;
+                rq.timerNext = null;
+                rq.timerSlot = -1;
+                rq = next;
+            }
+            slots[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * @return the number of scheduled requests
+     */
+    int size() {
+        return size;
+    }
+}
@@ -21,11 +21,13 @@ import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.xtreemfs.foundation.LifeCycleThread;
 import org.xtreemfs.foundation.SSLOptions;
@@ -36,9 +38,16 @@ import org.xtreemfs.foundation.logging.Logging.Category;
 import org.xtreemfs.foundation.pbrpc.channels.ChannelIO;
 import org.xtreemfs.foundation.pbrpc.channels.SSLChannelIO;
 import org.xtreemfs.foundation.pbrpc.channels.SSLHandshakeOnlyChannelIO;
+import org.xtreemfs.foundation.pbrpc.utils.WriteCoalescing;
 import org.xtreemfs.foundation.util.OutputUtils;
 
 /**
+ * Server for PBRPC connections over TCP, with or without SSL.
+ * <p>
+ * By default, a single thread accepts connections and reads requests from and writes responses to all of them.
+ * If several selector threads are configured, this thread only accepts connections and assigns them to the
+ * selector threads in a round-robin fashion; each selector thread then serves its connections with its own
+ * {@link Selector}.
  * 
  * @author bjko
  */
@@ -61,9 +70,19 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
     private final ServerSocketChannel      socket;
     
     /**
-     * Selector for server socket
+     * Selector for server socket, and for all connections if there are no selector threads
      */
     private final Selector                 selector;
+
+    /**
+     * Threads serving the connections, empty if all connections are served by this thread
+     */
+    private final SelectorThread[]         selectorThreads;
+
+    /**
+     * Index of the selector thread the next accepted connection is assigned to
+     */
+    private int                            nextSelectorThread;
     
     /**
      * If set to true thei main loop will exit upon next invocation
@@ -88,15 +107,13 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
     /**
      * Number of requests received but not answered
      */
-    private long                           pendingRequests;
+    private final AtomicLong               pendingRequests;
     
     /**
      * Port on which the server listens for incoming connections.
      */
     private final int                      bindPort;
     
-    private final List<RPCNIOSocketServerConnection>   connections;
-    
     /**
      * maximum number of pending client requests to allow
      */
@@ -108,6 +125,11 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
      */
     private final int                      clientQThreshold;
 
+    /**
+     * Limits the number of pending responses gathered into one write
+     */
+    private volatile WriteCoalescing       writeCoalescing;
+
     public static final int         DEFAULT_MAX_CLIENT_Q_LENGTH = 100;
 
     public RPCNIOSocketServer(int bindPort, InetAddress bindAddr, RPCServerRequestListener rl,
@@ -123,7 +145,22 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
     public RPCNIOSocketServer(int bindPort, InetAddress bindAddr, RPCServerRequestListener rl,
         SSLOptions sslOptions, int receiveBufferSize,
         int maxClientQLength) throws IOException {
+        this(bindPort, bindAddr, rl, sslOptions, receiveBufferSize, maxClientQLength, 1);
+    }
+
+    /**
+     * @param numSelectorThreads
+     *            number of threads serving the connections. If 1, connections are served by the thread that
+     *            accepts them.
+     */
+    public RPCNIOSocketServer(int bindPort, InetAddress bindAddr, RPCServerRequestListener rl,
+        SSLOptions sslOptions, int receiveBufferSize,
+        int maxClientQLength, int numSelectorThreads) throws IOException {
         super("PBRPCSrv@" + bindPort);
+
+        if (numSelectorThreads < 1) {
+            throw new IllegalArgumentException("at least one selector thread is required");
+        }
         
         // open server socket
         socket = ServerSocketChannel.open();
@@ -166,14 +203,20 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
         this.sslOptions = sslOptions;
         
         this.numConnections = new AtomicInteger(0);
-        
-        this.connections = new LinkedList<RPCNIOSocketServerConnection>();
+
+        this.pendingRequests = new AtomicLong(0);
+
+        this.selectorThreads = new SelectorThread[numSelectorThreads > 1 ? numSelectorThreads : 0];
+        for (int i = 0; i < selectorThreads.length; i++) {
+            selectorThreads[i] = new SelectorThread(i);
+        }
 
         this.maxClientQLength = maxClientQLength;
         this.clientQThreshold = (maxClientQLength/2 >= 0) ? maxClientQLength/2 : 0;
         if (maxClientQLength <= 1) {
             Logging.logMessage(Logging.LEVEL_WARN, this, "max client queue length is 1, pipelining is disabled.");
         }
+        this.writeCoalescing = new WriteCoalescing();
     }
     
     /**
@@ -213,7 +256,8 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
                 boolean isEmpty = connection.getPendingResponses().isEmpty();
                 connection.addPendingResponse(response);
                 if (isEmpty) {
-                    final SelectionKey key = connection.getChannel().keyFor(selector);
+                    final Selector connectionSelector = connection.getSelector();
+                    final SelectionKey key = connection.getChannel().keyFor(connectionSelector);
                     if (key != null) {
                         try {
                             key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
@@ -221,7 +265,7 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
                          // Ignore it since the timeout mechanism will deal with it.
                         }
                     }
-                    selector.wakeup();
+                    connectionSelector.wakeup();
                 }
             }
         } else {
@@ -248,57 +292,24 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
         }
         
         try {
-            while (!quit) {
-                // try to select events...
-                int numKeys = 0;
-                try {
-                    numKeys = selector.select();
-                } catch (CancelledKeyException ex) {
-                    // who cares
-                } catch (IOException ex) {
-                    Logging.logMessage(Logging.LEVEL_WARN, Category.net, this,
-                        "Exception while selecting: %s", ex.toString());
-                    continue;
-                }
-
-                if (numKeys > 0) {
-                    // fetch events
-                    Set<SelectionKey> keys = selector.selectedKeys();
-                    Iterator<SelectionKey> iter = keys.iterator();
-
-                    // process all events
-                    while (iter.hasNext()) {
-                        SelectionKey key = iter.next();
+            for (SelectorThread thread : selectorThreads) {
+                thread.start();
+            }
 
-                        // remove key from the list
-                        iter.remove();
-                        try {
+            while (!quit) {
+                selectAndProcess(selector);
+            }
 
-                            if (key.isAcceptable()) {
-                                acceptConnection(key);
-                            }
-                            if (key.isReadable()) {
-                                readConnection(key);
-                            }
-                            if (key.isWritable()) {
-                                writeConnection(key);
-                            }
-                        } catch (CancelledKeyException ex) {
-                            // nobody cares...
-                            continue;
-                        }
-                    }
-                }
+            // clear the interrupt used to wake up this thread before waiting for the selector threads
+            Thread.interrupted();
+            for (SelectorThread thread : selectorThreads) {
+                thread.shutdown();
             }
-            
-            for (RPCNIOSocketServerConnection con : connections) {
-                try {
-                    con.getChannel().close();
-                } catch (Exception ex) {
-                    ex.printStackTrace();
-                }
+            for (SelectorThread thread : selectorThreads) {
+                thread.join();
             }
-            
+            closeConnections(selector);
+
             // close socket
             selector.close();
             socket.close();
@@ -314,6 +325,106 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
         }
         
     }
+
+    /**
+     * Waits for events on the selector and processes them.
+     */
+    private void selectAndProcess(Selector selector) {
+        // try to select events...
+        int numKeys = 0;
+        try {
+            numKeys = selector.select();
+        } catch (CancelledKeyException ex) {
+            // who cares
+        } catch (IOException ex) {
+            Logging.logMessage(Logging.LEVEL_WARN, Category.net, this,
+                "Exception while selecting: %s", ex.toString());
+            return;
+        }
+
+        if (numKeys > 0) {
+            // fetch events
+            Set<SelectionKey> keys = selector.selectedKeys();
+            Iterator<SelectionKey> iter = keys.iterator();
+
+            // process all events
+            while (iter.hasNext()) {
+                SelectionKey key = iter.next();
+
+                // remove key from the list
+                iter.remove();
+                try {
+
+                    if (key.isAcceptable()) {
+                        acceptConnection(key);
+                    }
+                    if (key.isReadable()) {
+                        readConnection(key);
+                    }
+                    if (key.isWritable()) {
+                        writeConnection(key);
+                    }
+                } catch (CancelledKeyException ex) {
+                    // nobody cares...
+                    continue;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gathers the buffers of the pending responses at the head of the connection's queue, as far as the write
+     * coalescing policy permits, and sets them as the connection's send buffers. The responses stay in the queue
+     * until they have been sent.
+     */
+    private ByteBuffer[] packResponses(RPCNIOSocketServerConnection con) {
+        final WriteCoalescing coalescing = writeCoalescing;
+
+        ByteBuffer[] response;
+        int numResponses = 0;
+        int numBytes = 0;
+        if (!coalescing.isEnabled()) {
+            RPCServerResponse rq = con.getPendingResponses().peek();
+            response = rq.packBuffers(con.getSendFragHdr());
+            numResponses = 1;
+            numBytes = rq.getRpcMessageSize();
+        } else {
+            List<ByteBuffer> buffers = new ArrayList<ByteBuffer>();
+            for (RPCServerResponse rq : con.getPendingResponses()) {
+                if (!coalescing.canAdd(numResponses, numBytes, buffers.size(), rq.getRpcMessageSize(),
+                    rq.getBuffers().length)) {
+                    break;
+                }
+                for (ByteBuffer buffer : rq.packBuffers(con.getSendFragHdr())) {
+                    buffers.add(buffer);
+                }
+                numResponses++;
+                numBytes += rq.getRpcMessageSize();
+            }
+            response = buffers.toArray(new ByteBuffer[buffers.size()]);
+        }
+
+        con.setSendBuffers(response);
+        con.setNumSendResponses(numResponses);
+        con.setExpectedRecordSize(numBytes);
+        return response;
+    }
+
+    /**
+     * Closes all connections registered with the selector.
+     */
+    private void closeConnections(Selector selector) {
+        for (SelectionKey key : selector.keys()) {
+            // cancelled keys belong to connections that have already been closed
+            if (key.isValid() && key.attachment() instanceof RPCNIOSocketServerConnection) {
+                try {
+                    ((RPCNIOSocketServerConnection) key.attachment()).getChannel().close();
+                } catch (Exception ex) {
+                    ex.printStackTrace();
+                }
+            }
+        }
+    }
     
     /**
      * read data from a readable connection
@@ -457,7 +568,7 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
                         if (Logging.isDebug())
                             Logging.logMessage(Logging.LEVEL_DEBUG, Category.net, this,
                                 "request received");
-                        pendingRequests++;
+                        pendingRequests.incrementAndGet();
                         if (!receiveRequest(key, rq, con)) {
                             closeConnection(key);
                             return;
@@ -518,16 +629,13 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
                         ByteBuffer[] response = con.getSendBuffers();
                         if (response == null) {
                             synchronized (con) {
-                                RPCServerResponse rq = con.getPendingResponses().peek();
-                                if (rq == null) {
+                                if (con.getPendingResponses().isEmpty()) {
                                     // no more responses, stop writing...
                                     con.setSendBuffers(null);
                                     key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
                                     break;
                                 }
-                                response = rq.packBuffers(con.getSendFragHdr());
-                                con.setSendBuffers(response);
-                                con.setExpectedRecordSize(rq.getRpcMessageSize());
+                                response = packResponses(con);
                             }
                         }
 
@@ -562,17 +670,22 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
                         }
                         con.checkEnoughBytesSent();
                         // finished sending fragment
-                        // clean up :-) request finished
-                        pendingRequests--;
-                        RPCServerResponse rq = con.getPendingResponses().poll();
-                        if (Logging.isDebug()) {
-                            Logging.logMessage(Logging.LEVEL_DEBUG, Category.net, this,
-                                "sent response for %s", rq.toString());
+                        // clean up :-) requests finished
+                        final int numResponses = con.getNumSendResponses();
+                        writeCoalescing.recordWrite(numResponses);
+                        int numRq = 0;
+                        for (int i = 0; i < numResponses; i++) {
+                            pendingRequests.decrementAndGet();
+                            RPCServerResponse rq = con.getPendingResponses().poll();
+                            if (Logging.isDebug()) {
+                                Logging.logMessage(Logging.LEVEL_DEBUG, Category.net, this,
+                                    "sent response for %s", rq.toString());
+                            }
+                            rq.freeBuffers();
+                            numRq = con.getOpenRequests().decrementAndGet();
                         }
-                        rq.freeBuffers();
                         con.setSendBuffers(null);
                         con.getSendFragHdr().clear();
-                        int numRq = con.getOpenRequests().decrementAndGet();
 
                         if ((key.interestOps() & SelectionKey.OP_READ) == 0) {
                             if (numRq < clientQThreshold) {
@@ -658,7 +771,6 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
         
         // remove the connection from the selector and close socket
         try {
-            connections.remove(con);
             con.setConnectionClosed(true);
             key.cancel();
             channel.close();
@@ -706,13 +818,18 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
             // and configure it to be non blocking
             // IMPORTANT!
             client.configureBlocking(false);
-            client.register(selector, SelectionKey.OP_READ, con);
             client.socket().setTcpNoDelay(true);
+
+            if (selectorThreads.length == 0) {
+                con.setSelector(selector);
+                client.register(selector, SelectionKey.OP_READ, con);
+            } else {
+                selectorThreads[nextSelectorThread].addConnection(con);
+                nextSelectorThread = (nextSelectorThread + 1) % selectorThreads.length;
+            }
             
             numConnections.incrementAndGet();
             
-            this.connections.add(con);
-            
             if (Logging.isDebug()) {
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.net, this, "connect from client at %s",
                     client.socket().getRemoteSocketAddress().toString());
@@ -773,7 +890,26 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
     }
     
     public long getPendingRequests() {
-        return this.pendingRequests;
+        return this.pendingRequests.get();
+    }
+
+    public int getNumSelectorThreads() {
+        return Math.max(selectorThreads.length, 1);
+    }
+
+    /**
+     * Sets how many pending responses of a connection may be gathered into one write. By default, every response
+     * is written on its own.
+     */
+    public void setWriteCoalescing(WriteCoalescing writeCoalescing) {
+        this.writeCoalescing = writeCoalescing;
+    }
+
+    /**
+     * @return the write coalescing policy, which also counts the responses carried by each write
+     */
+    public WriteCoalescing getWriteCoalescing() {
+        return writeCoalescing;
     }
     
     /**
@@ -784,4 +920,72 @@ public class RPCNIOSocketServer extends LifeCycleThread implements RPCServerInte
     public void updateRequestDispatcher(RPCServerRequestListener rl) {
         this.receiver = rl;
     }
+
+    /**
+     * Serves the connections assigned to it by the accepting thread, with its own selector.
+     */
+    private final class SelectorThread extends Thread {
+
+        private final Selector                                        selector;
+
+        /**
+         * Connections assigned to this thread that have not been registered with its selector yet. A channel is
+         * registered by the thread owning the selector, since a registration blocks while the selector is
+         * selecting.
+         */
+        private final ConcurrentLinkedQueue<RPCNIOSocketServerConnection> newConnections;
+
+        private volatile boolean                                      quit;
+
+        SelectorThread(int index) throws IOException {
+            super("PBRPCSrv@" + bindPort + "-" + index);
+            this.selector = Selector.open();
+            this.newConnections = new ConcurrentLinkedQueue<RPCNIOSocketServerConnection>();
+        }
+
+        void addConnection(RPCNIOSocketServerConnection con) {
+            con.setSelector(selector);
+            newConnections.add(con);
+            selector.wakeup();
+        }
+
+        void shutdown() {
+            quit = true;
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!quit) {
+                    registerNewConnections();
+                    selectAndProcess(selector);
+                }
+
+                registerNewConnections();
+                closeConnections(selector);
+                selector.close();
+            } catch (Throwable thr) {
+                Logging.logMessage(Logging.LEVEL_ERROR, Category.net, this, "PBRPC Server %d selector thread %s CRASHED!",
+                    bindPort, getName());
+                notifyCrashed(thr);
+            }
+        }
+
+        private void registerNewConnections() {
+            RPCNIOSocketServerConnection con;
+            while ((con = newConnections.poll()) != null) {
+                try {
+                    con.getChannel().register(selector, SelectionKey.OP_READ, con);
+                } catch (ClosedChannelException ex) {
+                    if (Logging.isInfo()) {
+                        Logging.logMessage(Logging.LEVEL_INFO, Category.net, RPCNIOSocketServer.this,
+                            "client closed connection during accept");
+                    }
+                    numConnections.decrementAndGet();
+                    con.freeBuffers();
+                }
+            }
+        }
+    }
 }
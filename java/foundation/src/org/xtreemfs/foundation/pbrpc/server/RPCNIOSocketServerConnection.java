@@ -10,6 +10,7 @@ package org.xtreemfs.foundation.pbrpc.server;
 
 import java.net.SocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.Selector;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -49,6 +50,8 @@ public class RPCNIOSocketServerConnection implements RPCServerConnectionInterfac
 
     private ByteBuffer[]        sendBuffers;
 
+    private int                 numSendResponses;
+
     private volatile boolean    connectionClosed;
 
     private SocketAddress       clientAddress;
@@ -59,6 +62,8 @@ public class RPCNIOSocketServerConnection implements RPCServerConnectionInterfac
     
     private int                 expectedRecordSize;
 
+    private volatile Selector   selector;
+
     public RPCNIOSocketServerConnection(RPCServerInterface server, ChannelIO channel) {
         assert(server != null);
         assert(channel != null);
@@ -193,6 +198,34 @@ public class RPCNIOSocketServerConnection implements RPCServerConnectionInterfac
         this.sendBuffers = send;
     }
 
+    /**
+     * @return the number of pending responses gathered in the send buffers
+     */
+    int getNumSendResponses() {
+        return numSendResponses;
+    }
+
+    /**
+     * @param numSendResponses the number of pending responses gathered in the send buffers
+     */
+    void setNumSendResponses(int numSendResponses) {
+        this.numSendResponses = numSendResponses;
+    }
+
+
+    /**
+     * @return the selector the connection is registered with
+     */
+    Selector getSelector() {
+        return selector;
+    }
+
+    /**
+     * @param selector the selector the connection is registered with
+     */
+    void setSelector(Selector selector) {
+        this.selector = selector;
+    }
 
     /**
      * @return the clientAddress
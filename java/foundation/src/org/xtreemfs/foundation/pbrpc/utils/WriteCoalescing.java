@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.foundation.pbrpc.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Limits how many of the RPC messages queued on a connection are gathered into a single write, and counts how
+ * many messages each write carried.
+ * <p>
+ * A write always contains at least one message. Further messages are added as long as the number of messages,
+ * the number of bytes and the number of buffers of the write stay within the limits. With a limit of one
+ * message per write, every message is written on its own.
+ */
+public class WriteCoalescing {
+
+    /**
+     * Maximum number of buffers passed to a single gathering write (IOV_MAX on Linux).
+     */
+    public static final int MAX_BUFFERS_PER_WRITE       = 1024;
+
+    public static final int DEFAULT_MAX_BYTES_PER_WRITE = 256 * 1024;
+
+    /**
+     * Number of buckets of the batch size histogram. Bucket 0 counts writes of one message, bucket i writes of
+     * 2^(i-1)+1 to 2^i messages. The last bucket counts all larger writes.
+     */
+    public static final int NUM_BUCKETS                 = 11;
+
+    private final int             maxMessagesPerWrite;
+
+    private final int             maxBytesPerWrite;
+
+    private final AtomicLong      numWrites;
+
+    private final AtomicLong      numMessages;
+
+    private final AtomicLongArray batchSizes;
+
+    /**
+     * Creates a policy that writes every message on its own.
+     */
+    public WriteCoalescing() {
+        this(1, DEFAULT_MAX_BYTES_PER_WRITE);
+    }
+
+    /**
+     * @param maxMessagesPerWrite
+     *            maximum number of messages gathered into one write, at least 1
+     * @param maxBytesPerWrite
+     *            further messages are only added to a write if it does not exceed this number of bytes
+     */
+    public WriteCoalescing(int maxMessagesPerWrite, int maxBytesPerWrite) {
+        if (maxMessagesPerWrite < 1) {
+            throw new IllegalArgumentException("maxMessagesPerWrite must be at least 1");
+        }
+        if (maxBytesPerWrite < 1) {
+            throw new IllegalArgumentException("maxBytesPerWrite must be at least 1");
+        }
+        this.maxMessagesPerWrite = maxMessagesPerWrite;
+        this.maxBytesPerWrite = maxBytesPerWrite;
+        this.numWrites = new AtomicLong();
+        this.numMessages = new AtomicLong();
+        this.batchSizes = new AtomicLongArray(NUM_BUCKETS);
+    }
+
+    /**
+     * Checks whether a message can be added to a write.
+     *
+     * @param numMessages
+     *            number of messages already gathered into the write
+     * @param numBytes
+     *            number of bytes already gathered into the write
+     * @param numBuffers
+     *            number of buffers already gathered into the write
+     * @param messageBytes
+     *            size of the message in bytes
+     * @param messageBuffers
+     *            number of buffers of the message
+     * @return true, if the message may be added
+     */
+    public boolean canAdd(int numMessages, long numBytes, int numBuffers, int messageBytes, int messageBuffers) {
+        if (numMessages == 0) {
+            return true;
+        }
+        return numMessages < maxMessagesPerWrite && numBytes + messageBytes <= maxBytesPerWrite
+            && numBuffers + messageBuffers <= MAX_BUFFERS_PER_WRITE;
+    }
+
+    /**
+     * Records a completed write.
+     *
+     * @param messages
+     *            number of messages carried by the write
+     */
+    public void recordWrite(int messages) {
+        numWrites.incrementAndGet();
+        numMessages.addAndGet(messages);
+        int bucket = 0;
+        while (bucket < NUM_BUCKETS - 1 && (1 << bucket) < messages) {
+            bucket++;
+        }
+        batchSizes.incrementAndGet(bucket);
+    }
+
+    public boolean isEnabled() {
+        return maxMessagesPerWrite > 1;
+    }
+
+    public int getMaxMessagesPerWrite() {
+        return maxMessagesPerWrite;
+    }
+
+    public int getMaxBytesPerWrite() {
+        return maxBytesPerWrite;
+    }
+
+    /**
+     * @return the number of completed writes
+     */
+    public long getNumWrites() {
+        return numWrites.get();
+    }
+
+    /**
+     * @return the number of messages carried by all completed writes
+     */
+    public long getNumMessages() {
+        return numMessages.get();
+    }
+
+    /**
+     * @return the number of completed writes per batch size bucket, see {@link #NUM_BUCKETS}
+     */
+    public long[] getBatchSizeHistogram() {
+        long[] histogram = new long[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            histogram[i] = batchSizes.get(i);
+        }
+        return histogram;
+    }
+
+    @Override
+    public String toString() {
+        long writes = getNumWrites();
+        return String.format("%d writes, %d messages, %.2f messages/write", writes, getNumMessages(),
+            writes == 0 ? 0.0 : (double) getNumMessages() / writes);
+    }
+}
@@ -100,6 +100,107 @@ public class BufferPoolTest {
                 BufferPool.getPoolSize(TEST_BUFFER_SIZE));
     }
 
+    @Test
+    public final void testStatistics() {
+        long requests = BufferPool.getNumRequests();
+        long reuses = BufferPool.getNumReuses();
+
+        // make sure that a buffer is pooled
+        BufferPool.free(BufferPool.allocate(TEST_BUFFER_SIZE));
+        ReusableBuffer buf = BufferPool.allocate(TEST_BUFFER_SIZE);
+        BufferPool.free(buf);
+
+        assertEquals(requests + 2, BufferPool.getNumRequests());
+        assertTrue(BufferPool.getNumReuses() >= reuses + 1);
+
+        // buffers larger than the largest class are served from the heap
+        long fallbacks = BufferPool.getNumFallbacks();
+        buf = BufferPool.allocate(BufferPool.BUFF_SIZES[BufferPool.BUFF_SIZES.length - 1] + 1);
+        assertFalse(buf.getParent().isDirect());
+        BufferPool.free(buf);
+        assertEquals(fallbacks + 1, BufferPool.getNumFallbacks());
+        assertEquals(requests + 3, BufferPool.getNumRequests());
+    }
+
+    @Test
+    public final void testBuffersPooledByOtherThreads() throws Exception {
+        int currentPoolSize = BufferPool.getPoolSize(TEST_BUFFER_SIZE);
+
+        // the buffers end up in the magazine of the other thread, but are counted as pooled
+        final ReusableBuffer[] bufs = new ReusableBuffer[3];
+        for (int i = 0; i < bufs.length; i++)
+            bufs[i] = BufferPool.allocate(TEST_BUFFER_SIZE);
+        int allocatedPoolSize = BufferPool.getPoolSize(TEST_BUFFER_SIZE);
+
+        Thread t = new Thread() {
+            public void run() {
+                for (ReusableBuffer buf : bufs)
+                    BufferPool.free(buf);
+            }
+        };
+        t.start();
+        t.join();
+
+        assertEquals(allocatedPoolSize + bufs.length, BufferPool.getPoolSize(TEST_BUFFER_SIZE));
+        assertTrue(BufferPool.getPoolSize(TEST_BUFFER_SIZE) >= currentPoolSize);
+    }
+
+    @Test
+    public final void testAdaptivePoolSize() throws Exception {
+        try {
+            BufferPool.configure(new int[] { 4096 }, new int[] { 2 }, 1024 * 1024);
+            assertEquals(0, BufferPool.getPoolSize(4096));
+
+            // the third buffer exceeds the pool size and is allocated on the heap
+            ReusableBuffer[] bufs = new ReusableBuffer[3];
+            for (int i = 0; i < bufs.length; i++)
+                bufs[i] = BufferPool.allocate(4096);
+            assertTrue(bufs[0].getParent().isDirect());
+            assertTrue(bufs[1].getParent().isDirect());
+            assertFalse(bufs[2].getParent().isDirect());
+            assertEquals(1, BufferPool.getNumFallbacks());
+            assertEquals(2, BufferPool.getNumCreates());
+
+            // after the adaptation interval, the pool grows
+            Thread.sleep(1100);
+            ReusableBuffer buf = BufferPool.allocate(4096);
+            assertTrue(buf.getParent().isDirect());
+            assertEquals(1, BufferPool.getNumFallbacks());
+
+            // heap buffers are not pooled
+            BufferPool.free(buf);
+            for (ReusableBuffer b : bufs)
+                BufferPool.free(b);
+            assertEquals(3, BufferPool.getPoolSize(4096));
+            assertEquals(4, BufferPool.getNumRequests());
+
+            // buffer sizes that are not configured any longer
+            try {
+                BufferPool.getPoolSize(TEST_BUFFER_SIZE);
+                fail();
+            } catch (IllegalArgumentException exc) {
+                // expected
+            }
+        } finally {
+            BufferPool.configure(BufferPool.BUFF_SIZES, BufferPool.MAX_POOL_SIZES, 0);
+        }
+    }
+
+    @Test
+    public final void testConfigureRejectsInvalidClasses() {
+        int[][][] invalid = { { {}, {} }, { { 4096, 8192 }, { 10 } }, { { 8192, 4096 }, { 10, 10 } },
+                { { 4096 }, { -1 } } };
+        for (int[][] classes : invalid) {
+            try {
+                BufferPool.configure(classes[0], classes[1], 0);
+                fail();
+            } catch (IllegalArgumentException exc) {
+                // expected
+            }
+        }
+        assertTrue(BufferPool.getPoolSize(TEST_BUFFER_SIZE) >= 0);
+    }
+
     private void assertThatAssertionsAreEnabled() {
         boolean assertOn = false;
         // *assigns* true if assertions are on.
@@ -9,9 +9,11 @@
 package org.xtreemfs.test.foundation.checksums;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.nio.ByteBuffer;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.Random;
 import java.util.concurrent.Callable;
@@ -93,6 +95,107 @@ public class ChecksumFactoryTest {
         assertEquals(javaValue, xtreemfsValue);
     }
 
+    /**
+     * tests, if only the bytes between position and limit are hashed, regardless of the kind of buffer, and if the
+     * position is left unchanged
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testBufferViews() throws Exception {
+        byte[] bytes = data.array();
+        final int offset = 1000;
+        final int length = 64 * 1024 + 17;
+
+        for (String name : new String[] { "Adler32", "CRC32", "CRC32C" }) {
+            ChecksumAlgorithm algorithm = factory.getAlgorithm(name);
+
+            algorithm.update(ByteBuffer.wrap(Arrays.copyOfRange(bytes, offset, offset + length)));
+            long expected = algorithm.getValue();
+
+            ByteBuffer heap = ByteBuffer.wrap(bytes, offset, length);
+            algorithm.update(heap);
+            assertEquals(name, expected, algorithm.getValue());
+            assertEquals(offset, heap.position());
+
+            ByteBuffer whole = ByteBuffer.wrap(bytes);
+            whole.position(offset);
+            ByteBuffer slice = whole.slice();
+            slice.limit(length);
+            algorithm.update(slice);
+            assertEquals(name, expected, algorithm.getValue());
+
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+            direct.put(bytes).position(offset).limit(offset + length);
+            algorithm.update(direct);
+            assertEquals(name, expected, algorithm.getValue());
+            assertEquals(offset, direct.position());
+
+            // two updates equal one update of the concatenated data
+            direct.limit(offset + 100);
+            algorithm.update(direct);
+            direct.limit(offset + length).position(offset + 100);
+            algorithm.update(direct);
+            assertEquals(name, expected, algorithm.getValue());
+
+            factory.returnAlgorithm(algorithm);
+        }
+    }
+
+    /**
+     * tests the CRC32C algorithm with the check values of RFC 3720
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testCRC32C() throws Exception {
+        ChecksumAlgorithm algorithm = factory.getAlgorithm("CRC32C");
+
+        algorithm.update(ByteBuffer.wrap("123456789".getBytes("US-ASCII")));
+        assertEquals(0xE3069283L, algorithm.getValue());
+
+        algorithm.update(ByteBuffer.allocateDirect(32));
+        assertEquals(0x8A9136AAL, algorithm.getValue());
+
+        byte[] ones = new byte[32];
+        Arrays.fill(ones, (byte) 0xFF);
+        algorithm.update(ByteBuffer.wrap(ones));
+        assertEquals(0x62A8AB43L, algorithm.getValue());
+    }
+
+    /**
+     * tests, if each thread gets an instance of its own, which is reused and reset
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testThreadAlgorithm() throws Exception {
+        final ChecksumAlgorithm algorithm = factory.getThreadAlgorithm("CRC32C");
+        algorithm.update(data);
+        assertEquals(computeXtreemfsChecksum("CRC32C", true), algorithm.getValue());
+
+        // the instance is reset when it is handed out again
+        algorithm.update(data);
+        assertSame(algorithm, factory.getThreadAlgorithm("CRC32C"));
+        assertEquals(0L, algorithm.getValue());
+
+        Callable<Long> computation = new Callable<Long>() {
+            @Override
+            public Long call() throws Exception {
+                ChecksumAlgorithm own = factory.getThreadAlgorithm("CRC32C");
+                return (own == algorithm) ? 0L : 1L;
+            }
+        };
+        for (Future<Long> result : useMultipleThreads(2, computation)) {
+            assertEquals(Long.valueOf(1), result.get());
+        }
+    }
+
+    @Test(expected = NoSuchAlgorithmException.class)
+    public void testUnknownThreadAlgorithm() throws Exception {
+        factory.getThreadAlgorithm("unknown");
+    }
+
     // /**
     // * tests the internal java message digest algorithms
     // * @throws Exception
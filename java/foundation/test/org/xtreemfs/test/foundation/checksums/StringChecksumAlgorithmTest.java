@@ -11,11 +11,13 @@ package org.xtreemfs.test.foundation.checksums;
 import static org.junit.Assert.assertEquals;
 
 import java.nio.ByteBuffer;
+import java.util.Random;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.xtreemfs.foundation.checksums.StringChecksumAlgorithm;
+import org.xtreemfs.foundation.checksums.algorithms.JavaHash;
 import org.xtreemfs.foundation.checksums.algorithms.SDBM;
 import org.xtreemfs.foundation.logging.Logging;
 
@@ -68,4 +70,40 @@ public class StringChecksumAlgorithmTest {
 
         assertEquals(stringValue, bufferValue);
     }
+
+    /**
+     * tests, if Java-Hash and SDBM yield the values stored with existing objects, i.e. the hash of the bytes decoded
+     * with the platform charset, for heap and direct buffers
+     * 
+     * @throws Exception
+     */
+    @Test
+    public void testKnownValues() throws Exception {
+        StringChecksumAlgorithm javaHash = new JavaHash();
+        StringChecksumAlgorithm sdbm = new SDBM();
+
+        javaHash.update(ByteBuffer.wrap("123456789".getBytes("US-ASCII")));
+        assertEquals(-1867378635L, javaHash.getValue());
+        sdbm.update(ByteBuffer.wrap("123456789".getBytes("US-ASCII")));
+        assertEquals(-423809061568352203L, sdbm.getValue());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(64);
+        direct.put("The quick brown fox jumps over the lazy dog".getBytes("US-ASCII")).flip();
+        javaHash.update(direct);
+        assertEquals(-609428141L, javaHash.getValue());
+        sdbm.update(direct);
+        assertEquals(5076848107273548147L, sdbm.getValue());
+        assertEquals(0, direct.position());
+
+        // arbitrary bytes hash like the string they decode to
+        byte[] bytes = new byte[4096];
+        new Random(42).nextBytes(bytes);
+        final String decoded = new String(bytes);
+        javaHash.update(ByteBuffer.wrap(bytes));
+        assertEquals((long) decoded.hashCode(), javaHash.getValue());
+        sdbm.digest(decoded);
+        long expected = sdbm.getValue();
+        sdbm.update(ByteBuffer.wrap(bytes));
+        assertEquals(expected, sdbm.getValue());
+    }
 }
@@ -12,6 +12,7 @@ import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.junit.Test;
 import org.xtreemfs.foundation.pbrpc.Schemes;
 import java.net.InetSocketAddress;
+import org.xtreemfs.foundation.pbrpc.client.ConnectionPolicy;
 import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
 import org.xtreemfs.foundation.pbrpc.client.RPCNIOSocketClient;
 import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
@@ -22,6 +23,8 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.xtreemfs.foundation.SSLOptions;
@@ -35,6 +38,7 @@ import org.xtreemfs.foundation.pbrpc.server.RPCNIOSocketServer;
 import org.xtreemfs.foundation.pbrpc.server.RPCServerRequest;
 import org.xtreemfs.foundation.pbrpc.server.RPCServerRequestListener;
 import org.xtreemfs.foundation.pbrpc.utils.ReusableBufferInputStream;
+import org.xtreemfs.foundation.pbrpc.utils.WriteCoalescing;
 import org.xtreemfs.foundation.util.OutputUtils;
 
 import static org.junit.Assert.*;
@@ -221,6 +225,54 @@ public class PBRPCClientServerTest {
 
     }
 
+    @Test
+    public void testSelectorThreads() throws Exception {
+        ResponseCreator creator = new ResponseCreator() {
+            @Override
+            public void answer(RPCServerRequest rq, PingRequest pRq) throws Exception {
+                Ping.PingResponse.PingResult result = Ping.PingResponse.PingResult.newBuilder().setText(pRq.getText()).build();
+                Ping.PingResponse resp = Ping.PingResponse.newBuilder().setResult(result).build();
+
+                ReusableBuffer data = null;
+                if (rq.getData() != null) {
+                    data = rq.getData().createViewBuffer();
+                    data.limit(data.capacity());
+                    data.position(data.capacity());
+                }
+
+                rq.sendResponse(resp, data);
+            }
+        };
+
+        TestExecutor exec = new TestExecutor() {
+
+            @Override
+            public void execTest(RPCNIOSocketClient client) throws Exception {
+                PingServiceClient psClient = new PingServiceClient(client,null);
+                RPC.UserCredentials userCred = RPC.UserCredentials.newBuilder().setUsername("test").addGroups("tester").build();
+
+                for (int i = 0; i < 20; i++) {
+                    byte[] arr = new byte[1000 * i];
+                    for (int j = 0; j < arr.length; j++)
+                        arr[j] = (byte) i;
+
+                    RPCResponse<PingResponse> response = psClient.doPing(new InetSocketAddress("localhost", TEST_PORT), RPCAuthentication.authNone, userCred, "ping " + i, false, arr.length == 0 ? null : ReusableBuffer.wrap(arr));
+                    assertEquals("ping " + i, response.get().getResult().getText());
+                    ReusableBuffer recdata = response.getData();
+                    assertEquals(arr.length, recdata == null ? 0 : recdata.remaining());
+                    while (recdata != null && recdata.hasRemaining()) {
+                        assertEquals((byte) i, recdata.get());
+                    }
+                    response.freeBuffers();
+                }
+            }
+        };
+        // more connections than selector threads
+        for (String scheme: schemes)
+            runTest(scheme, creator, exec, 3, 7);
+
+    }
+
     @Test
     public void testTimeout() throws Exception {
         ResponseCreator creator = new ResponseCreator() {
@@ -254,8 +306,265 @@ public class PBRPCClientServerTest {
 
     }
 
+    @Test
+    public void testTimeoutOfSomeRequests() throws Exception {
+        ResponseCreator creator = new ResponseCreator() {
+            @Override
+            public void answer(RPCServerRequest rq, PingRequest pRq) throws Exception {
+                // answer every second request only
+                if (Integer.parseInt(pRq.getText()) % 2 == 0) {
+                    Ping.PingResponse.PingResult result = Ping.PingResponse.PingResult.newBuilder().setText(pRq.getText()).build();
+                    rq.sendResponse(Ping.PingResponse.newBuilder().setResult(result).build(), null);
+                }
+            }
+        };
+
+        TestExecutor exec = new TestExecutor() {
+
+            @Override
+            public void execTest(RPCNIOSocketClient client) throws Exception {
+                PingServiceClient psClient = new PingServiceClient(client,null);
+
+                RPC.UserCredentials userCred = RPC.UserCredentials.newBuilder().setUsername("test").addGroups("tester").build();
+                List<RPCResponse<PingResponse>> responses = new ArrayList<RPCResponse<PingResponse>>();
+                for (int i = 0; i < 20; i++) {
+                    responses.add(psClient.doPing(new InetSocketAddress("localhost", TEST_PORT), RPCAuthentication.authNone, userCred, Integer.toString(i), false, null));
+                }
+
+                for (int i = 0; i < 20; i++) {
+                    RPCResponse<PingResponse> response = responses.get(i);
+                    if (i % 2 == 0) {
+                        assertEquals(Integer.toString(i), response.get().getResult().getText());
+                    } else {
+                        try {
+                            response.get();
+                            fail("expected error response");
+                        } catch (IOException ex) {
+                        }
+                    }
+                    response.freeBuffers();
+                }
+            }
+        };
+        for (String scheme: schemes)
+            runTest(scheme, creator, exec);
+
+    }
+
+    @Test
+    public void testWriteCoalescing() throws Exception {
+        ResponseCreator creator = new ResponseCreator() {
+            @Override
+            public void answer(RPCServerRequest rq, PingRequest pRq) throws Exception {
+                Ping.PingResponse.PingResult result = Ping.PingResponse.PingResult.newBuilder().setText(pRq.getText()).build();
+                Ping.PingResponse resp = Ping.PingResponse.newBuilder().setResult(result).build();
+
+                ReusableBuffer data = null;
+                if (rq.getData() != null) {
+                    data = rq.getData().createViewBuffer();
+                    data.limit(data.capacity());
+                    data.position(data.capacity());
+                }
+
+                rq.sendResponse(resp, data);
+            }
+        };
+
+        final int numRequests = 100;
+        TestExecutor exec = new TestExecutor() {
+
+            @Override
+            public void execTest(RPCNIOSocketClient client) throws Exception {
+                PingServiceClient psClient = new PingServiceClient(client,null);
+                RPC.UserCredentials userCred = RPC.UserCredentials.newBuilder().setUsername("test").addGroups("tester").build();
+                // send all requests before waiting for the first response, so that they queue up
+                List<RPCResponse<PingResponse>> responses = new ArrayList<RPCResponse<PingResponse>>();
+                for (int i = 0; i < numRequests; i++) {
+                    byte[] arr = new byte[(i % 10) * 1000];
+                    for (int j = 0; j < arr.length; j++)
+                        arr[j] = (byte) i;
+                    responses.add(psClient.doPing(new InetSocketAddress("localhost", TEST_PORT), RPCAuthentication.authNone, userCred, "ping " + i, false, arr.length == 0 ? null : ReusableBuffer.wrap(arr)));
+                }
+                for (int i = 0; i < numRequests; i++) {
+                    RPCResponse<PingResponse> response = responses.get(i);
+                    assertEquals("ping " + i, response.get().getResult().getText());
+                    ReusableBuffer recdata = response.getData();
+                    assertEquals((i % 10) * 1000, recdata == null ? 0 : recdata.remaining());
+                    while (recdata != null && recdata.hasRemaining()) {
+                        assertEquals((byte) i, recdata.get());
+                    }
+                    response.freeBuffers();
+                }
+            }
+        };
+        for (String scheme: schemes) {
+            // the byte limit is smaller than some of the requests, which are then written on their own
+            WriteCoalescing serverCoalescing = new WriteCoalescing(8, 4096);
+            WriteCoalescing clientCoalescing = new WriteCoalescing(8, 4096);
+            runTest(scheme, creator, exec, 1, 1, serverCoalescing, clientCoalescing);
+
+            assertEquals(numRequests, serverCoalescing.getNumMessages());
+            assertEquals(numRequests, clientCoalescing.getNumMessages());
+            long[] histogram = clientCoalescing.getBatchSizeHistogram();
+            long numWrites = 0;
+            for (int i = 0; i < histogram.length; i++)
+                numWrites += histogram[i];
+            assertEquals(clientCoalescing.getNumWrites(), numWrites);
+            // no write carries more than 8 messages
+            for (int i = 4; i < histogram.length; i++)
+                assertEquals(0, histogram[i]);
+        }
+    }
+
+    @Test
+    public void testWriteCoalescingPartialWrites() throws Exception {
+        ResponseCreator creator = new ResponseCreator() {
+            @Override
+            public void answer(RPCServerRequest rq, PingRequest pRq) throws Exception {
+                Ping.PingResponse.PingResult result = Ping.PingResponse.PingResult.newBuilder().setText(pRq.getText()).build();
+                rq.sendResponse(Ping.PingResponse.newBuilder().setResult(result).build(), null);
+            }
+        };
+
+        // with a small send buffer, batches of large requests are written in several steps, and the server
+        // answers the first requests of a batch before the others have been written
+        final int numRequests = 500;
+        RPCNIOSocketServer server = getServer(creator, null, 1);
+        RPCNIOSocketClient client = new RPCNIOSocketClient(null, 10000, 5*60*1000, 8 * 1024, -1, null, "partialWrites");
+        WriteCoalescing clientCoalescing = new WriteCoalescing(64, 4 * 1024 * 1024);
+        client.setWriteCoalescing(clientCoalescing);
+        try {
+            server.start();
+            server.waitForStartup();
+            client.start();
+            client.waitForStartup();
+
+            PingServiceClient psClient = new PingServiceClient(client,null);
+            RPC.UserCredentials userCred = RPC.UserCredentials.newBuilder().setUsername("test").addGroups("tester").build();
+            List<RPCResponse<PingResponse>> responses = new ArrayList<RPCResponse<PingResponse>>();
+            for (int i = 0; i < numRequests; i++) {
+                byte[] arr = new byte[64 * 1024];
+                for (int j = 0; j < arr.length; j++)
+                    arr[j] = (byte) i;
+                responses.add(psClient.doPing(new InetSocketAddress("localhost", TEST_PORT), RPCAuthentication.authNone, userCred, "ping " + i, false, ReusableBuffer.wrap(arr)));
+            }
+            for (int i = 0; i < numRequests; i++) {
+                RPCResponse<PingResponse> response = responses.get(i);
+                assertEquals("ping " + i, response.get().getResult().getText());
+                response.freeBuffers();
+            }
+            assertEquals(numRequests, clientCoalescing.getNumMessages());
+            assertTrue(clientCoalescing.getNumWrites() < numRequests);
+        } finally {
+            client.shutdown();
+            client.waitForShutdown();
+            server.shutdown();
+            server.waitForShutdown();
+        }
+    }
+
+    @Test
+    public void testConnectionsPerEndpoint() throws Exception {
+        ResponseCreator creator = new ResponseCreator() {
+            @Override
+            public void answer(RPCServerRequest rq, PingRequest pRq) throws Exception {
+                Ping.PingResponse.PingResult result = Ping.PingResponse.PingResult.newBuilder().setText(pRq.getText()).build();
+                Ping.PingResponse resp = Ping.PingResponse.newBuilder().setResult(result).build();
+
+                ReusableBuffer data = null;
+                if (rq.getData() != null) {
+                    data = rq.getData().createViewBuffer();
+                    data.limit(data.capacity());
+                    data.position(data.capacity());
+                }
+
+                rq.sendResponse(resp, data);
+            }
+        };
+
+        for (String scheme: schemes) {
+            for (final ConnectionPolicy policy : ConnectionPolicy.values()) {
+                TestExecutor exec = new TestExecutor() {
+
+                    @Override
+                    public void execTest(RPCNIOSocketClient client) throws Exception {
+                        client.setConnectionsPerEndpoint(3, policy);
+                        PingServiceClient psClient = new PingServiceClient(client,null);
+                        RPC.UserCredentials userCred = RPC.UserCredentials.newBuilder().setUsername("test").addGroups("tester").build();
+                        InetSocketAddress server = new InetSocketAddress("localhost", TEST_PORT);
+
+                        switch (policy) {
+                        case ROUND_ROBIN: {
+                            for (int i = 0; i < 6; i++)
+                                ping(psClient, server, userCred, i, 100);
+                            assertEquals(3, client.getNumConnections(server));
+                            break;
+                        }
+                        case LEAST_OUTSTANDING: {
+                            // none of the requests is answered before all have been sent, since the connections
+                            // are still being established
+                            List<RPCResponse<PingResponse>> responses = new ArrayList<RPCResponse<PingResponse>>();
+                            for (int i = 0; i < 6; i++)
+                                responses.add(psClient.doPing(server, RPCAuthentication.authNone, userCred, "ping " + i, false, null));
+                            assertEquals(3, client.getNumConnections(server));
+                            for (int i = 0; i < 6; i++) {
+                                assertEquals("ping " + i, responses.get(i).get().getResult().getText());
+                                responses.get(i).freeBuffers();
+                            }
+                            break;
+                        }
+                        case BULK_LANE: {
+                            // small requests share the first connection, bulk requests use the others
+                            for (int i = 0; i < 3; i++)
+                                ping(psClient, server, userCred, i, 100);
+                            assertEquals(1, client.getNumConnections(server));
+                            ping(psClient, server, userCred, 3, RPCNIOSocketClient.DEFAULT_BULK_REQUEST_SIZE);
+                            assertEquals(2, client.getNumConnections(server));
+                            for (int i = 4; i < 7; i++)
+                                ping(psClient, server, userCred, i, 100);
+                            assertEquals(2, client.getNumConnections(server));
+                            break;
+                        }
+                        }
+                    }
+                };
+                runTest(scheme, creator, exec);
+            }
+        }
+    }
+
+    private static void ping(PingServiceClient psClient, InetSocketAddress server, RPC.UserCredentials userCred,
+        int i, int dataSize) throws Exception {
+        byte[] arr = new byte[dataSize];
+        for (int j = 0; j < arr.length; j++)
+            arr[j] = (byte) i;
+        RPCResponse<PingResponse> response = psClient.doPing(server, RPCAuthentication.authNone, userCred, "ping " + i, false, ReusableBuffer.wrap(arr));
+        assertEquals("ping " + i, response.get().getResult().getText());
+        ReusableBuffer recdata = response.getData();
+        assertEquals(dataSize, recdata.remaining());
+        while (recdata.hasRemaining()) {
+            assertEquals((byte) i, recdata.get());
+        }
+        response.freeBuffers();
+    }
+
     public void runTest(String pbrpcScheme, ResponseCreator creator, TestExecutor exec) throws Exception {
-        RPCNIOSocketClient client = null;
+        runTest(pbrpcScheme, creator, exec, 1, 1);
+    }
+
+    public void runTest(String pbrpcScheme, ResponseCreator creator, final TestExecutor exec, int numSelectorThreads,
+        int numClients) throws Exception {
+        runTest(pbrpcScheme, creator, exec, numSelectorThreads, numClients, null, null);
+    }
+
+    /**
+     * Runs the test with "numClients" clients concurrently, each with its own connection to a server with
+     * "numSelectorThreads" selector threads. If given, the write coalescing policies are set on the server and
+     * on the clients.
+     */
+    public void runTest(String pbrpcScheme, ResponseCreator creator, final TestExecutor exec, int numSelectorThreads,
+        int numClients, WriteCoalescing serverCoalescing, WriteCoalescing clientCoalescing) throws Exception {
+        List<RPCNIOSocketClient> clients = new ArrayList<RPCNIOSocketClient>();
         RPCNIOSocketServer server = null;
 
         // System.out.println("loading ssl context");
@@ -274,20 +583,51 @@ public class PBRPCClientServerTest {
 
         try {
 
-            server = getServer(creator,srvSSL);
+            server = getServer(creator,srvSSL,numSelectorThreads);
+            if (serverCoalescing != null)
+                server.setWriteCoalescing(serverCoalescing);
 
             server.start();
             server.waitForStartup();
 
-            client = new RPCNIOSocketClient(clientSSL, 5000, 5*60*1000, "runTest");
-            client.start();
-            client.waitForStartup();
+            for (int i = 0; i < numClients; i++) {
+                RPCNIOSocketClient client = new RPCNIOSocketClient(clientSSL, 5000, 5*60*1000, "runTest" + i);
+                if (clientCoalescing != null)
+                    client.setWriteCoalescing(clientCoalescing);
+                clients.add(client);
+                client.start();
+                client.waitForStartup();
+            }
 
-            exec.execTest(client);
+            if (numClients == 1) {
+                exec.execTest(clients.get(0));
+            } else {
+                final List<Throwable> errors = new ArrayList<Throwable>();
+                List<Thread> threads = new ArrayList<Thread>();
+                for (final RPCNIOSocketClient client : clients) {
+                    Thread t = new Thread() {
+                        public void run() {
+                            try {
+                                exec.execTest(client);
+                            } catch (Throwable th) {
+                                synchronized (errors) {
+                                    errors.add(th);
+                                }
+                            }
+                        }
+                    };
+                    threads.add(t);
+                    t.start();
+                }
+                for (Thread t : threads)
+                    t.join();
+                if (!errors.isEmpty())
+                    throw new Exception(errors.get(0));
+            }
 
         } finally {
             //clean up
-            if (client != null) {
+            for (RPCNIOSocketClient client : clients) {
                 client.shutdown();
                 client.waitForShutdown();
             }
@@ -298,7 +638,7 @@ public class PBRPCClientServerTest {
         }
     }
     
-    private RPCNIOSocketServer getServer(final ResponseCreator creator, SSLOptions sslOpt) throws IOException {
+    private RPCNIOSocketServer getServer(final ResponseCreator creator, SSLOptions sslOpt, int numSelectorThreads) throws IOException {
         return new RPCNIOSocketServer(TEST_PORT, null, new RPCServerRequestListener() {
 
                 @Override
@@ -316,7 +656,7 @@ public class PBRPCClientServerTest {
 
                     }
                 }
-            }, sslOpt);
+            }, sslOpt, -1, RPCNIOSocketServer.DEFAULT_MAX_CLIENT_Q_LENGTH, numSelectorThreads);
     }
 
     private SSLOptions createSSLOptions(String keyStoreName, String ksPassphrase,
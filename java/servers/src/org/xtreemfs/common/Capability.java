@@ -8,12 +8,7 @@
 
 package org.xtreemfs.common;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
-
 import org.xtreemfs.foundation.TimeSync;
-import org.xtreemfs.foundation.logging.Logging;
-import org.xtreemfs.foundation.util.OutputUtils;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SnapConfig;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap;
 
@@ -41,6 +36,12 @@ import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap;
  */
 public class Capability {
     
+    /** signature scheme of all releases so far, kept for clusters with OSDs that only verify this scheme */
+    public static final String SIGNATURE_MD5         = CapabilitySignature.MD5;
+    
+    /** HMAC-SHA256 signature scheme */
+    public static final String SIGNATURE_HMAC_SHA256 = CapabilitySignature.HMAC_SHA256;
+    
     private XCap         xcap;
     
     private final String sharedSecret;
@@ -66,13 +67,30 @@ public class Capability {
      */
     public Capability(String fileId, int accessMode, int validity, long expires, String clientIdentity,
         int epochNo, boolean replicateOnClose, SnapConfig snapConfig, long snapTimestamp, String sharedSecret) {
+        this(fileId, accessMode, validity, expires, clientIdentity, epochNo, replicateOnClose, snapConfig,
+                snapTimestamp, sharedSecret, SIGNATURE_MD5);
+    }
+    
+    /**
+     * Creates a capability from a given set of data, signed with the given
+     * signature scheme. OSDs verify capabilities of both schemes, independent
+     * of the scheme they are configured with.
+     * 
+     * @param signatureScheme
+     *            {@link #SIGNATURE_MD5} or {@link #SIGNATURE_HMAC_SHA256}
+     * @see #Capability(String, int, int, long, String, int, boolean,
+     *      SnapConfig, long, String)
+     */
+    public Capability(String fileId, int accessMode, int validity, long expires, String clientIdentity,
+        int epochNo, boolean replicateOnClose, SnapConfig snapConfig, long snapTimestamp, String sharedSecret,
+        String signatureScheme) {
         
         this.sharedSecret = sharedSecret;
 
         XCap.Builder builder = XCap.newBuilder().setAccessMode(accessMode).setClientIdentity(clientIdentity).setExpireTimeS(expires).setExpireTimeoutS(validity).
                 setFileId(fileId).setReplicateOnClose(replicateOnClose).setTruncateEpoch(epochNo).setSnapConfig(snapConfig).setSnapTimestamp(snapTimestamp);
         
-        final String sig = calcSignature(builder);
+        final String sig = calcSignature(builder, signatureScheme);
         builder.setServerSignature(sig);
         xcap = builder.build();
     }
@@ -150,7 +168,7 @@ public class Capability {
      *         otherwise
      */
     public boolean hasValidSignature() {
-        return xcap.getServerSignature().equals(calcSignature(xcap.toBuilder()));
+        return CapabilitySignature.verify(xcap, sharedSecret);
     }
     
     public boolean isReplicateOnClose() {
@@ -174,28 +192,22 @@ public class Capability {
         return xcap.toString();
     }
     
-    protected String calcSignature(XCap.Builder builder) {
+    /**
+     * @return <code>true</code> if capabilities can be signed with the given
+     *         scheme
+     */
+    public static boolean isSupportedSignatureScheme(String signatureScheme) {
+        return CapabilitySignature.isSupported(signatureScheme);
+    }
+    
+    protected String calcSignature(XCap.Builder builder, String signatureScheme) {
         
         // right now, we use a shared secret between MRC and OSDs
         // as soon as we have a Public Key Infrastructure, signatures
         // will be generated and checked by means of asymmetric encryption
         // techniques
         
-        String plainText = builder.getFileId() + Integer.toString(builder.getAccessMode())
-            + Long.toString(builder.getExpireTimeS()) + Long.toString(builder.getTruncateEpoch())
-            + Long.toString(builder.getSnapConfig().getNumber()) + Long.toString(builder.getSnapTimestamp())
-            + sharedSecret;
-        
-        try {
-            MessageDigest md5 = MessageDigest.getInstance("MD5");
-            md5.update(plainText.getBytes());
-            byte[] digest = md5.digest();
-            
-            return OutputUtils.byteArrayToHexString(digest);
-        } catch (NoSuchAlgorithmException exc) {
-            Logging.logError(Logging.LEVEL_ERROR, this, exc);
-            return null;
-        }
+        return CapabilitySignature.sign(builder, sharedSecret, signatureScheme);
     }
     
 }
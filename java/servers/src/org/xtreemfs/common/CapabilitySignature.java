@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.common;
+
+import java.io.UnsupportedEncodingException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.util.OutputUtils;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCapOrBuilder;
+
+/**
+ * Calculates and verifies the signatures of capabilities.
+ * <p>
+ * Two schemes are supported. {@link #MD5} signs the concatenated decimal representation of the capability's fields
+ * and the shared secret, as all releases did so far. {@link #HMAC_SHA256} signs a binary encoding of the fields
+ * with the shared secret as key; its signatures carry the prefix {@value #HMAC_SHA256_PREFIX}, so that both
+ * schemes can be verified side by side in mixed-version clusters.
+ * <p>
+ * The digests, MACs and buffers are kept per thread, so that verifying a signature neither allocates memory nor
+ * synchronizes with other threads.
+ */
+final class CapabilitySignature {
+
+    /** name of the MD5 scheme */
+    public static final String                MD5                = "MD5";
+
+    /** name of the HMAC-SHA256 scheme */
+    public static final String                HMAC_SHA256        = "HMAC-SHA256";
+
+    static final String                       HMAC_SHA256_PREFIX = "HS256:";
+
+    private static final ThreadLocal<Context> contexts           = new ThreadLocal<Context>() {
+        @Override
+        protected Context initialValue() {
+            return new Context();
+        }
+    };
+
+    private CapabilitySignature() {
+    }
+
+    /**
+     * @return <code>true</code> if the given scheme is supported
+     */
+    static boolean isSupported(String scheme) {
+        return MD5.equalsIgnoreCase(scheme) || HMAC_SHA256.equalsIgnoreCase(scheme);
+    }
+
+    /**
+     * Calculates the signature of a capability.
+     *
+     * @return the signature, or <code>null</code> if the scheme is not available
+     */
+    static String sign(XCapOrBuilder xcap, String sharedSecret, String scheme) {
+        final Context ctx = contexts.get();
+        final byte[] digest;
+        final String prefix;
+        if (HMAC_SHA256.equalsIgnoreCase(scheme)) {
+            digest = ctx.hmacSHA256(xcap, sharedSecret);
+            prefix = HMAC_SHA256_PREFIX;
+        } else {
+            digest = ctx.md5(xcap, sharedSecret);
+            prefix = "";
+        }
+        if (digest == null) {
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder(prefix.length() + 2 * digest.length);
+        sb.append(prefix);
+        for (byte b : digest) {
+            sb.append(OutputUtils.trHex[(b >> 4) & 0x0F]);
+            sb.append(OutputUtils.trHex[b & 0x0F]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Checks the signature of a capability. The scheme is derived from the signature.
+     */
+    static boolean verify(XCapOrBuilder xcap, String sharedSecret) {
+        final String signature = xcap.getServerSignature();
+        final Context ctx = contexts.get();
+        if (signature.startsWith(HMAC_SHA256_PREFIX)) {
+            return equalsHex(ctx.hmacSHA256(xcap, sharedSecret), signature, HMAC_SHA256_PREFIX.length());
+        } else {
+            return equalsHex(ctx.md5(xcap, sharedSecret), signature, 0);
+        }
+    }
+
+    /**
+     * Compares a digest with its hexadecimal representation in a string, in a time independent of the position of
+     * the first difference.
+     */
+    private static boolean equalsHex(byte[] digest, String hex, int offset) {
+        if (digest == null || hex.length() - offset != 2 * digest.length) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < digest.length; i++) {
+            diff |= hex.charAt(offset + 2 * i) ^ OutputUtils.trHex[(digest[i] >> 4) & 0x0F];
+            diff |= hex.charAt(offset + 2 * i + 1) ^ OutputUtils.trHex[digest[i] & 0x0F];
+        }
+        return diff == 0;
+    }
+
+    /**
+     * The digests and buffers of a thread.
+     */
+    private static final class Context {
+
+        private MessageDigest md5;
+
+        private Mac           hmac;
+
+        /** the secret {@link #hmac} is initialized with */
+        private String        hmacSecret;
+
+        private final byte[]  md5Digest  = new byte[16];
+
+        private final byte[]  hmacDigest = new byte[32];
+
+        private byte[]        buf        = new byte[256];
+
+        private int           len;
+
+        byte[] md5(XCapOrBuilder xcap, String sharedSecret) {
+            try {
+                if (md5 == null) {
+                    md5 = MessageDigest.getInstance("MD5");
+                }
+
+                len = 0;
+                boolean ascii = appendAscii(xcap.getFileId());
+                if (ascii) {
+                    appendDecimal(xcap.getAccessMode());
+                    appendDecimal(xcap.getExpireTimeS());
+                    appendDecimal(xcap.getTruncateEpoch());
+                    appendDecimal(xcap.getSnapConfig().getNumber());
+                    appendDecimal(xcap.getSnapTimestamp());
+                    ascii = appendAscii(sharedSecret);
+                }
+                if (ascii) {
+                    md5.update(buf, 0, len);
+                } else {
+                    // non-ASCII characters are encoded with the platform's charset, as all releases did so far
+                    String plainText = xcap.getFileId() + Integer.toString(xcap.getAccessMode())
+                            + Long.toString(xcap.getExpireTimeS()) + Long.toString(xcap.getTruncateEpoch())
+                            + Long.toString(xcap.getSnapConfig().getNumber())
+                            + Long.toString(xcap.getSnapTimestamp()) + sharedSecret;
+                    md5.update(plainText.getBytes());
+                }
+                md5.digest(md5Digest, 0, md5Digest.length);
+                return md5Digest;
+            } catch (GeneralSecurityException exc) {
+                Logging.logError(Logging.LEVEL_ERROR, CapabilitySignature.class, exc);
+                return null;
+            }
+        }
+
+        byte[] hmacSHA256(XCapOrBuilder xcap, String sharedSecret) {
+            try {
+                if (hmac == null) {
+                    hmac = Mac.getInstance("HmacSHA256");
+                }
+                if (!sharedSecret.equals(hmacSecret)) {
+                    hmac.init(new SecretKeySpec(sharedSecret.getBytes("UTF-8"), "HmacSHA256"));
+                    hmacSecret = sharedSecret;
+                }
+
+                len = 0;
+                if (!appendAscii(xcap.getFileId())) {
+                    len = 0;
+                    appendBytes(xcap.getFileId().getBytes("UTF-8"));
+                }
+                // the file ID is terminated, as it is the only field of variable length
+                appendByte(0);
+                appendLong(xcap.getAccessMode());
+                appendLong(xcap.getExpireTimeS());
+                appendLong(xcap.getTruncateEpoch());
+                appendLong(xcap.getSnapConfig().getNumber());
+                appendLong(xcap.getSnapTimestamp());
+
+                hmac.update(buf, 0, len);
+                hmac.doFinal(hmacDigest, 0);
+                return hmacDigest;
+            } catch (GeneralSecurityException exc) {
+                Logging.logError(Logging.LEVEL_ERROR, CapabilitySignature.class, exc);
+                return null;
+            } catch (UnsupportedEncodingException exc) {
+                Logging.logError(Logging.LEVEL_ERROR, CapabilitySignature.class, exc);
+                return null;
+            }
+        }
+
+        /**
+         * Appends the characters of the string as single bytes.
+         *
+         * @return <code>false</code> if the string contains non-ASCII characters; the buffer is undefined then
+         */
+        private boolean appendAscii(String s) {
+            ensureCapacity(s.length());
+            for (int i = 0; i < s.length(); i++) {
+                final char c = s.charAt(i);
+                if (c >= 0x80) {
+                    return false;
+                }
+                buf[len++] = (byte) c;
+            }
+            return true;
+        }
+
+        private void appendDecimal(long value) {
+            if (value == Long.MIN_VALUE) {
+                appendAscii(Long.toString(value));
+                return;
+            }
+            ensureCapacity(20);
+            if (value < 0) {
+                buf[len++] = '-';
+                value = -value;
+            }
+            final int start = len;
+            do {
+                buf[len++] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value != 0);
+            // the digits were appended in reverse order
+            for (int i = start, j = len - 1; i < j; i++, j--) {
+                final byte tmp = buf[i];
+                buf[i] = buf[j];
+                buf[j] = tmp;
+            }
+        }
+
+        private void appendLong(long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buf[len++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void appendByte(int value) {
+            ensureCapacity(1);
+            buf[len++] = (byte) value;
+        }
+
+        private void appendBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buf, len, bytes.length);
+            len += bytes.length;
+        }
+
+        private void ensureCapacity(int n) {
+            if (len + n > buf.length) {
+                byte[] newBuf = new byte[Math.max(2 * buf.length, len + n)];
+                System.arraycopy(buf, 0, newBuf, 0, len);
+                buf = newBuf;
+            }
+        }
+    }
+}
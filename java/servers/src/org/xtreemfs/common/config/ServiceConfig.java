@@ -96,6 +96,8 @@ public class ServiceConfig extends Config {
         AUTHENTICATION_PROVIDER("authentication_provider", null, String.class, true),
         CAPABILITY_SECRET("capability_secret", null, String.class, true),
         CAPABILITY_TIMEOUT("capability_timeout", 600, Integer.class, false),
+        /** Scheme the MRC signs capabilities with: MD5, or HMAC-SHA256 once all OSDs are able to verify it. */
+        CAPABILITY_SIGNATURE("capability_signature", "MD5", String.class, false),
         RENEW_TIMED_OUT_CAPS("renew_to_caps", false, Boolean.class, false),
 
         /*
@@ -105,16 +107,36 @@ public class ServiceConfig extends Config {
         REPORT_FREE_SPACE("report_free_space", null, Boolean.class, true),
         CHECKSUM_ENABLED("checksums.enabled", false, Boolean.class, false),
         CHECKSUM_PROVIDER("checksums.algorithm", null, String.class, false),
+        /** Size in KiB of the blocks with a checksum of their own, 0 for one checksum per object. */
+        CHECKSUM_BLOCK_SIZE("checksums.block_size_kb", 0, Integer.class, false),
         STORAGE_LAYOUT("storage_layout", "HashStorageLayout", String.class, false),
         IGNORE_CAPABILITIES("ignore_capabilities", false, Boolean.class, false),
+        /** Max. number of verified capabilities the OSD keeps to skip verifying their signatures again. 0 disables the cache. */
+        CAPABILITY_CACHE_SIZE("capability_cache_size", 10000, Integer.class, false),
         /** Maximum assumed drift between two server clocks. If the drift is higher, the system may not function properly. */
         FLEASE_DMAX_MS("flease.dmax_ms", 1000, Integer.class, false),
         FLEASE_LEASE_TIMEOUT_MS("flease.lease_timeout_ms", 14000, Integer.class, false),
         /** Message timeout. Maximum allowed in-transit time for a Flease message. */
         FLEASE_MESSAGE_TO_MS("flease.message_to_ms", 500, Integer.class, false),
         FLEASE_RETRIES("flease.retries", 3, Integer.class, false),
+        /** Initial and min. number of objects a replica RESET fetches from other replicas at the same time. */
+        RWR_FETCH_MIN_OBJECTS_IN_FLIGHT("rwr.fetch.min_objects_in_flight", 10, Integer.class, false),
+        /** Max. number of objects in flight during a replica RESET; the window adapts to the available bandwidth. */
+        RWR_FETCH_MAX_OBJECTS_IN_FLIGHT("rwr.fetch.max_objects_in_flight", 64, Integer.class, false),
+        /** Max. rate in MiB/s at which replica RESETs fetch objects from other replicas. 0 means unlimited. */
+        RWR_FETCH_MAX_RATE("rwr.fetch.max_rate_mb", 0, Integer.class, false),
+        /** Number of threads deleting the objects of deleted files in the background. */
+        DELETION_THREADS("deletion.threads", 1, Integer.class, false),
+        /** Max. number of object files deleted per second by all deletion threads. 0 means unlimited. */
+        DELETION_MAX_RATE("deletion.max_objects_per_s", 0, Integer.class, false),
         SOCKET_SEND_BUFFER_SIZE("socket.send_buffer_size", -1, Integer.class, false),
         SOCKET_RECEIVE_BUFFER_SIZE("socket.recv_buffer_size", -1, Integer.class, false),
+        /** Number of threads serving the client connections of the RPC server. 1 serves them on the accepting thread. */
+        SOCKET_SELECTOR_THREADS("socket.selector_threads", 1, Integer.class, false),
+        /** Maximum number of queued RPC messages of a connection gathered into one write. 1 disables coalescing. */
+        SOCKET_WRITE_COALESCING_MAX_MESSAGES("socket.write_coalescing.max_messages", 1, Integer.class, false),
+        /** Further messages are only gathered into a write as long as it does not exceed this number of bytes. */
+        SOCKET_WRITE_COALESCING_MAX_BYTES("socket.write_coalescing.max_bytes", 262144, Integer.class, false),
         VIVALDI_RECALCULATION_INTERVAL_IN_MS("vivaldi.recalculation_interval_ms", 300000, Integer.class, false),
         VIVALDI_RECALCULATION_EPSILON_IN_MS("vivaldi.recalculation_epsilon_ms", 30000, Integer.class, false),
         VIVALDI_ITERATIONS_BEFORE_UPDATING("vivaldi.iterations_before_updating", 12, Integer.class, false),
@@ -122,7 +144,31 @@ public class ServiceConfig extends Config {
         VIVALDI_MAX_REQUEST_TIMEOUT_IN_MS("vivaldi.max_request_timeout_ms", 10000, Integer.class, false),
         VIVALDI_TIMER_INTERVAL_IN_MS("vivaldi.timer_interval_ms", 60000, Integer.class, false),
         STORAGE_THREADS("storage_threads", 1, Integer.class, false),
+        /** Max. number of object files kept open per storage thread. 0 disables the cache. */
+        FILE_HANDLE_CACHE_SIZE("storage.file_handle_cache_size", 128, Integer.class, false),
+        /** Max. estimated heap size of the OSD's file metadata cache in MiB. 0 means unbounded. */
+        METADATA_CACHE_SIZE("storage.metadata_cache_size", 256, Integer.class, false),
+        /** Keep a persistent index of the object files of each file to avoid directory scans. */
+        OBJECT_INDEX_ENABLED("storage.object_index", false, Boolean.class, false),
+        /** Send object data from memory-mapped object files instead of reading it into buffers first (not with SSL). */
+        MAPPED_READS("storage.mapped_reads", false, Boolean.class, false),
+        /** Durability of writes: "client" (O_SYNC as requested by the client), "async" or "sync". */
+        DURABILITY("storage.durability", "client", String.class, false),
+        /** Per-volume durability, as a comma-separated list of <volume UUID>=<client|async|sync> entries. */
+        VOLUME_DURABILITY("storage.volume_durability", "", String.class, false),
+        /** Max. time in microseconds a synchronous write is deferred to flush it with others. 0 disables group commits. */
+        GROUP_COMMIT_WINDOW_US("storage.group_commit_window_us", 0, Integer.class, false),
+        /** Comma-separated buffer sizes of the buffer pool's size classes. Empty for the built-in classes. */
+        BUFFER_POOL_SIZES("buffer_pool.sizes", "", String.class, false),
+        /** Comma-separated initial max. number of pooled buffers of each size class. */
+        BUFFER_POOL_MAX_POOL_SIZES("buffer_pool.max_pool_sizes", "", String.class, false),
+        /** Max. size in MiB the pooled buffers may grow to with the demand. 0 keeps the pool sizes fixed. */
+        BUFFER_POOL_MAX_SIZE("buffer_pool.max_size_mb", 256, Integer.class, false),
         HEALTH_CHECK("health_check", "", String.class, false),
+        /** Number of MRC threads executing read-only metadata operations in parallel. 0 executes all operations on one thread. */
+        PROCESSING_READ_THREADS("processing.read_threads", 0, Integer.class, false),
+        /** Max. number of directory entries and file IDs per volume kept in the MRC's metadata cache. 0 disables the cache. */
+        MRC_METADATA_CACHE_SIZE("metadata_cache_size", 10000, Integer.class, false),
 
         /*
          * Benchmark specific configuration parameter
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import java.io.IOException;
+
+/**
+ * Receives the result of an asynchronous operation of a {@link Volume} or {@link FileHandle}.
+ *
+ * The methods are called by the thread that completes the operation. This is usually the network thread or the
+ * retry timer thread of the volume, or the calling thread if the operation could be completed right away (e.g.
+ * from the metadata cache). Implementations must therefore return quickly and must not call blocking methods of
+ * libxtreemfs.
+ */
+public interface AsyncCallback<T> {
+
+    /**
+     * Called once the operation did succeed.
+     *
+     * @param result
+     *            The result of the operation.
+     */
+    public void completed(T result);
+
+    /**
+     * Called once the operation did finally fail, i.e. after all retries.
+     *
+     * @param error
+     *            The error, e.g. a {@link org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException}.
+     */
+    public void failed(IOException error);
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+
+/**
+ * The {@link Future} returned by the asynchronous operations of {@link Volume} and {@link FileHandle}. It is
+ * completed exactly once and notifies the optional {@link AsyncCallback} of the operation.
+ *
+ * Operations cannot be cancelled. {@link #get()} throws an {@link ExecutionException} whose cause is the
+ * {@link IOException} the operation did fail with.
+ */
+class AsyncResult<T> implements Future<T>, AsyncCallback<T> {
+
+    private final AsyncCallback<T> callback;
+
+    private boolean                done;
+
+    private T                      result;
+
+    private IOException            error;
+
+    /**
+     * @param callback
+     *            Callback to notify once the operation is completed, may be null.
+     */
+    AsyncResult(AsyncCallback<T> callback) {
+        this.callback = callback;
+    }
+
+    @Override
+    public void completed(T result) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            this.result = result;
+            done = true;
+            notifyAll();
+        }
+
+        if (callback != null) {
+            try {
+                callback.completed(result);
+            } catch (RuntimeException e) {
+                Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this,
+                        "callback of an asynchronous operation did throw an exception: %s", e.toString());
+            }
+        }
+    }
+
+    @Override
+    public void failed(IOException error) {
+        synchronized (this) {
+            if (done) {
+                return;
+            }
+            this.error = error;
+            done = true;
+            notifyAll();
+        }
+
+        if (callback != null) {
+            try {
+                callback.failed(error);
+            } catch (RuntimeException e) {
+                Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this,
+                        "callback of an asynchronous operation did throw an exception: %s", e.toString());
+            }
+        }
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return false;
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return false;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    @Override
+    public synchronized T get() throws InterruptedException, ExecutionException {
+        while (!done) {
+            wait();
+        }
+        return getResult();
+    }
+
+    @Override
+    public synchronized T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+            TimeoutException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!done) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new TimeoutException();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        return getResult();
+    }
+
+    private T getResult() throws ExecutionException {
+        if (error != null) {
+            throw new ExecutionException(error);
+        }
+        return result;
+    }
+}
@@ -83,6 +83,12 @@ public class AsyncWriteHandler {
 // JCIP     @GuardedBy("this")
     private int                    waitingBlockingThreadsCount;
 
+    /**
+     * Actions registered by runWhenPendingWritesCompleted(), which are run once the state changes back to IDLE.
+     */
+// JCIP     @GuardedBy("this")
+    private List<Runnable>         idleActions;
+
     /**
      * FileInfo object to which this AsyncWriteHandler does belong. Accessed for file size updates.
      */
@@ -143,6 +149,7 @@ public class AsyncWriteHandler {
         this.maxWriteTries = maxWriteTries;
 
         writesInFlight = new ArrayList<AsyncWriteBuffer>();
+        idleActions = new ArrayList<Runnable>();
         allPendingWritesDidComplete = new Object();
         state = State.IDLE;
     }
@@ -272,6 +279,21 @@ public class AsyncWriteHandler {
         }
     }
 
+    /**
+     * Non-blocking counterpart of waitForPendingWrites(): runs "action" as soon as the state is IDLE, i.e. at
+     * once or by the thread that completes the last pending write. Unlike waitForPendingWrites(), further
+     * writes are not paused.
+     */
+    protected void runWhenPendingWritesCompleted(Runnable action) {
+        synchronized (this) {
+            if (state != State.IDLE) {
+                idleActions.add(action);
+                return;
+            }
+        }
+        action.run();
+    }
+
     /**
      * Implements callback for an async write request.
      */
@@ -305,9 +327,29 @@ public class AsyncWriteHandler {
      * reduces the number of pending bytes and takes care of state changes.
      * 
      * @remark Ownership of "writeBuffer" is transferred to the caller.
+     */
+    private void decreasePendingBytesHelper(AsyncWriteBuffer writeBuffer) {
+        List<Runnable> actions = null;
+        synchronized (this) {
+            decreasePendingBytesLocked(writeBuffer);
+            if (state == State.IDLE && !idleActions.isEmpty()) {
+                actions = idleActions;
+                idleActions = new ArrayList<Runnable>();
+            }
+        }
+
+        // Run the actions without holding the lock, as they may issue further requests.
+        if (actions != null) {
+            for (Runnable action : actions) {
+                action.run();
+            }
+        }
+    }
+
+    /**
      * @remark Requires a lock on "asyncWriteHandlerLock".
      */
-    private synchronized void decreasePendingBytesHelper(AsyncWriteBuffer writeBuffer) {
+    private void decreasePendingBytesLocked(AsyncWriteBuffer writeBuffer) {
         assert (writeBuffer != null);
 
         writesInFlight.remove(writeBuffer);
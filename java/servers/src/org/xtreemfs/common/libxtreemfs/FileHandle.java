@@ -7,6 +7,7 @@
 package org.xtreemfs.common.libxtreemfs;
 
 import java.io.IOException;
+import java.util.concurrent.Future;
 
 import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
@@ -124,6 +125,39 @@ public interface FileHandle {
     public int write(UserCredentials userCredentials, byte[] data, int dataOffset, int count,
             long offset) throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Non-blocking version of {@link #read(UserCredentials, byte[], int, int, long)}. Returns immediately; all
+     * objects are requested from the OSDs concurrently, and the number of bytes read is passed to "callback" and
+     * can be retrieved from the returned Future once all of them were received.
+     * 
+     * Failed requests are retried like by the blocking version, and if the view of the file is outdated the
+     * XLocSet is renewed and the read is started again. No thread is blocked meanwhile: retries are delayed
+     * with a timer and pending asynchronous writes are awaited by registering a completion action. The object
+     * cache is not used. "data" must not be accessed before the operation is completed.
+     * 
+     * @param callback
+     *            Notified of the result, may be null. See {@link AsyncCallback} for the calling thread.
+     */
+    public Future<Integer> readAsync(UserCredentials userCredentials, byte[] data, int dataOffset, int count,
+            long offset, AsyncCallback<Integer> callback);
+
+    /**
+     * Non-blocking version of {@link #write(UserCredentials, byte[], int, int, long)}. Returns immediately; all
+     * objects are sent to the OSDs concurrently, and the number of bytes written is passed to "callback" and
+     * can be retrieved from the returned Future once all of them were acknowledged.
+     * 
+     * Errors are handled like by {@link #readAsync(UserCredentials, byte[], int, int, long, AsyncCallback)},
+     * including the renewal of an outdated XLocSet. The write is not put into the write-back queue of
+     * asynchronous writes, but it is sent after the writes already in the queue have finished. Concurrent
+     * writes to overlapping ranges are not ordered. "data" must not be modified before the operation is
+     * completed.
+     * 
+     * @param callback
+     *            Notified of the result, may be null. See {@link AsyncCallback} for the calling thread.
+     */
+    public Future<Integer> writeAsync(UserCredentials userCredentials, byte[] data, int dataOffset, int count,
+            long offset, AsyncCallback<Integer> callback);
+
     /**
      * Flushes pending writes and file size updates (corresponds to a fsync() system call).
      * 
@@ -161,6 +195,15 @@ public interface FileHandle {
     public Stat getAttr(UserCredentials userCredentials) throws IOException, PosixErrorException,
             AddressToUUIDNotFoundException;
 
+    /**
+     * Non-blocking version of {@link #getAttr(UserCredentials)}, see
+     * {@link Volume#getAttrAsync(UserCredentials, String, AsyncCallback)}.
+     * 
+     * @param callback
+     *            Notified of the result, may be null. See {@link AsyncCallback} for the calling thread.
+     */
+    public Future<Stat> getAttrAsync(UserCredentials userCredentials, AsyncCallback<Stat> callback);
+
     /**
      * Sets a lock on the specified file region and returns the resulting Lock object.
      * 
@@ -8,9 +8,14 @@ package org.xtreemfs.common.libxtreemfs;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.TimerTask;
 import java.util.Vector;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 import org.xtreemfs.common.ReplicaUpdatePolicies;
 import org.xtreemfs.common.libxtreemfs.RPCCaller.CallGenerator;
@@ -22,6 +27,7 @@ import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
 import org.xtreemfs.common.libxtreemfs.exceptions.UUIDIteratorListIsEmpyException;
 import org.xtreemfs.common.libxtreemfs.exceptions.UUIDNotInXlocSetException;
 import org.xtreemfs.common.libxtreemfs.exceptions.XtreemFSException;
+import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -152,6 +158,18 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
 
     final private Options                           volumeOptions;
 
+    /**
+     * Offset at which a read continues the previous read of this file handle. Reads from the beginning of the file
+     * are considered sequential, too.
+     */
+    // JCIP @GuardedBy("readAheadLock")
+    private long                                    nextSequentialReadOffset;
+
+    /**
+     * Used to protect "nextSequentialReadOffset".
+     */
+    final private Object                            readAheadLock;
+
     /**
      * Auth needed for ServiceClients. Always set to AUTH_NONE by Volume.
      */
@@ -184,6 +202,9 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
 
         xcapRenewalPending = false;
         xcapRenewalPendingLock = new Object();
+
+        nextSequentialReadOffset = 0;
+        readAheadLock = new Object();
     }
 
     /**
@@ -222,6 +243,72 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         
         abstract T doOperation() throws IOException;
     }
+
+    /**
+     * Non-blocking counterpart of {@link ViewCheckedOperation}. If an attempt fails due to an outdated view, the
+     * XLocSet is renewed after the retry delay and the operation is started again.
+     */
+    private abstract class AsyncViewCheckedOperation<T> implements AsyncCallback<T> {
+
+        private final AsyncResult<T> result;
+
+        private int                  attempt;
+
+        AsyncViewCheckedOperation(AsyncResult<T> result) {
+            this.result = result;
+        }
+
+        void start() {
+            attempt++;
+            doOperation(this);
+        }
+
+        /**
+         * Executes an attempt of the operation, whose result has to be passed to "callback".
+         */
+        abstract void doOperation(AsyncCallback<T> callback);
+
+        @Override
+        public void completed(T value) {
+            result.completed(value);
+        }
+
+        @Override
+        public void failed(IOException error) {
+            int maxTries = volumeOptions.getMaxViewRenewals();
+            if (!(error instanceof InvalidViewException)) {
+                result.failed(error);
+
+            } else if (attempt == maxTries && maxTries > 0) {
+                // The request did finally fail.
+                result.failed(new InvalidViewException(error.getMessage() + " Request finally failed after "
+                        + attempt + " attempts"));
+
+            } else {
+                // Delay the xLocSet renewal and the next run of the operation.
+                try {
+                    volume.getAsyncTimer().schedule(new TimerTask() {
+                        @Override
+                        public void run() {
+                            renewXLocSetAsync(new AsyncCallback<XLocSet>() {
+                                @Override
+                                public void completed(XLocSet xLocSet) {
+                                    start();
+                                }
+
+                                @Override
+                                public void failed(IOException renewalError) {
+                                    result.failed(renewalError);
+                                }
+                            });
+                        }
+                    }, volumeOptions.getRetryDelay_s() * 1000L);
+                } catch (IllegalStateException e) {
+                    result.failed(error);
+                }
+            }
+        }
+    }
     
 
     /*
@@ -270,9 +357,6 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         }
         FileCredentials fc = fcBuilder.setXlocs(fileInfo.getXLocSet()).build();
 
-        ReusableBuffer buf = ReusableBuffer.wrap(data, dataOffset, count);
-        int receivedData = 0;
-
         if (fc.getXlocs().getReplicasCount() == 0) {
             Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, "No replica found for file %s",
                     fileInfo.getPath());
@@ -289,62 +373,483 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         Vector<ReadOperation> operations = new Vector<ReadOperation>();
         translator.translateReadRequest(count, offset, policy, operations);
 
+        ObjectCache objectCache = volume.getObjectCache();
+        if (objectCache != null) {
+            return readThroughObjectCache(objectCache, fc, policy, translator, operations, data, dataOffset, count,
+                    offset);
+        }
+        return readObjects(fc, operations, data, dataOffset, count, new int[operations.size()]);
+    }
+
+    /**
+     * Reads the objects of a read request into "data", starting at "dataOffset". The number of bytes received per
+     * object is stored in "received".
+     * 
+     * @return the total number of bytes read
+     */
+    private int readObjects(FileCredentials fc, Vector<ReadOperation> operations, byte[] data, int dataOffset,
+            int length, int[] received) throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        ReusableBuffer buf = ReusableBuffer.wrap(data, dataOffset, length);
+
+        if (operations.size() > 1 && volumeOptions.getMaxReadRequestsInFlight() > 1) {
+            return readObjectsConcurrently(fc, operations, data, dataOffset, buf, received);
+        }
+
         UUIDIterator tempUuidIteratorForStriping = new UUIDIterator();
+        int receivedData = 0;
         // Read all objects
         for (int j = 0; j < operations.size(); j++) {
-            readRequest.Builder readRqBuilder = readRequest.newBuilder();
+            received[j] = readObject(fc, operations.get(j), buf,
+                    getUUIDIteratorForRead(fc, operations.get(j), tempUuidIteratorForStriping));
+            receivedData += received[j];
+        }
+        return receivedData;
+    }
 
-            readRqBuilder.setFileCredentials(fc);
-            readRqBuilder.setFileId(fc.getXcap().getFileId());
-            readRqBuilder.setObjectNumber(operations.get(j).getObjNumber());
-            readRqBuilder.setObjectVersion(0);
-            readRqBuilder.setOffset(operations.get(j).getReqOffset());
-            readRqBuilder.setLength(operations.get(j).getReqSize());
+    /**
+     * Serves a read request from the volume's object cache. Objects that are not cached are read from the OSDs as
+     * a whole and added to the cache. If the request continues the previous read of this file handle, the objects
+     * following the request are read ahead asynchronously.
+     */
+    private int readThroughObjectCache(ObjectCache objectCache, FileCredentials fc, StripingPolicy policy,
+            StripeTranslator translator, Vector<ReadOperation> operations, byte[] data, int dataOffset, int count,
+            long offset) throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+
+        final String fileId = fc.getXcap().getFileId();
+        final long generation = fileInfo.getObjectCacheGeneration();
+        final int objectSize = policy.getStripeSize() * 1024;
+
+        boolean sequential;
+        synchronized (readAheadLock) {
+            sequential = (offset == nextSequentialReadOffset);
+            nextSequentialReadOffset = offset + count;
+        }
+        if (sequential && count > 0 && volumeOptions.getReadAheadObjects() > 0) {
+            readAhead(objectCache, fc, policy, translator, fileId, generation, (offset + count - 1) / objectSize);
+        }
+
+        // Copy cached objects, collect the others.
+        int[] received = new int[operations.size()];
+        Vector<ReadOperation> missingObjects = new Vector<ReadOperation>();
+        List<Integer> missingIndexes = new ArrayList<Integer>();
+        for (int j = 0; j < operations.size(); j++) {
+            ReadOperation operation = operations.get(j);
+            byte[] object = objectCache.get(ObjectCache.getKey(fileId, generation, operation.getObjNumber()),
+                    volumeOptions.getRequestTimeout_s() * 1000L);
+            if (object != null) {
+                received[j] = copyFromObject(object, operation, data, dataOffset);
+            } else {
+                missingObjects.add(new ReadOperation(operation.getObjNumber(), operation.getOsdOffset(), objectSize,
+                        0, missingObjects.size() * objectSize));
+                missingIndexes.add(j);
+            }
+        }
+
+        if (!missingObjects.isEmpty()) {
+            byte[] objects = new byte[missingObjects.size() * objectSize];
+            int[] receivedObjects = new int[missingObjects.size()];
+            readObjects(fc, missingObjects, objects, 0, objects.length, receivedObjects);
+
+            for (int k = 0; k < missingObjects.size(); k++) {
+                int start = missingObjects.get(k).getBufferStart();
+                byte[] object = Arrays.copyOfRange(objects, start, start + receivedObjects[k]);
+                objectCache.put(ObjectCache.getKey(fileId, generation, missingObjects.get(k).getObjNumber()),
+                        object);
+                int index = missingIndexes.get(k);
+                received[index] = copyFromObject(object, operations.get(index), data, dataOffset);
+            }
+        }
+
+        int receivedData = 0;
+        for (int j = 0; j < received.length; j++) {
+            receivedData += received[j];
+        }
+        return receivedData;
+    }
+
+    /**
+     * Copies the requested range of a cached object to the object's position in the caller's buffer.
+     * 
+     * @return the number of bytes copied
+     */
+    private int copyFromObject(byte[] object, ReadOperation operation, byte[] data, int dataOffset) {
+        int length = Math.max(0, Math.min(operation.getReqSize(), object.length - operation.getReqOffset()));
+        System.arraycopy(object, operation.getReqOffset(), data, dataOffset + operation.getBufferStart(), length);
+        return length;
+    }
+
+    /**
+     * Asynchronously reads the objects following "lastObject" into the object cache, unless they are already
+     * cached or being read. The number of objects is given by {@link Options#getReadAheadObjects()}.
+     */
+    private void readAhead(final ObjectCache objectCache, FileCredentials fc, StripingPolicy policy,
+            StripeTranslator translator, String fileId, long generation, long lastObject) {
+        final int objectSize = policy.getStripeSize() * 1024;
+
+        for (long objNo = lastObject + 1; objNo <= lastObject + volumeOptions.getReadAheadObjects(); objNo++) {
+            final String key = ObjectCache.getKey(fileId, generation, objNo);
+            if (!objectCache.reserve(key, objectSize)) {
+                continue;
+            }
+
+            Vector<ReadOperation> operations = new Vector<ReadOperation>();
+            translator.translateReadRequest(objectSize, objNo * objectSize, policy, operations);
+            final ReadOperation operation = operations.get(0);
+            try {
+                UUIDIterator uuidIterator = getUUIDIteratorForRead(fc, operation, new UUIDIterator());
+                InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(
+                        uuidResolver.uuidToAddress(uuidIterator.getUUID()), SERVICES.OSD);
+
+                RPCResponse<ObjectData> response = osdServiceClient.read(server, authBogus, userCredentialsBogus,
+                        buildReadRequest(fc, operation));
+                response.registerListener(new RPCResponseAvailableListener<ObjectData>() {
+                    @Override
+                    public void responseAvailable(RPCResponse<ObjectData> r) {
+                        ReusableBuffer payload = null;
+                        try {
+                            ObjectData objectData = r.get();
+                            payload = r.getData();
+                            int length = (payload == null) ? 0 : payload.remaining();
+                            if (length + objectData.getZeroPadding() > objectSize) {
+                                throw new IOException("received more data than requested");
+                            }
+
+                            // the remaining bytes of the array are the zero padding
+                            byte[] object = new byte[length + objectData.getZeroPadding()];
+                            if (payload != null) {
+                                payload.get(object, 0, length);
+                            }
+                            objectCache.put(key, object);
+                        } catch (Exception e) {
+                            if (Logging.isDebug()) {
+                                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc,
+                                        FileHandleImplementation.this,
+                                        "read-ahead of object %d of file %s failed: %s",
+                                        operation.getObjNumber(), fileInfo.getPath(), e.toString());
+                            }
+                            objectCache.abort(key);
+                        } finally {
+                            BufferPool.free(payload);
+                            r.freeBuffers();
+                        }
+                    }
+                });
+            } catch (IOException e) {
+                objectCache.abort(key);
+            }
+        }
+    }
+
+    /**
+     * Reads the objects of a read request concurrently. At most {@link Options#getMaxReadRequestsInFlight()}
+     * object reads are sent to the OSDs at a time, and the data of each response is copied to the object's
+     * position in the caller's buffer as soon as it arrives. Objects whose read fails are read again
+     * synchronously afterwards, which applies the usual retry and error handling.
+     */
+    private int readObjectsConcurrently(FileCredentials fc, final Vector<ReadOperation> operations,
+            final byte[] data, final int dataOffset, ReusableBuffer buf, final int[] received) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException {
+
+        final int maxInFlight = volumeOptions.getMaxReadRequestsInFlight();
+        final Semaphore inFlight = new Semaphore(maxInFlight);
+
+        // "received" holds the number of bytes received per object, -1 if the read failed.
+
+        for (int j = 0; j < operations.size(); j++) {
+            final ReadOperation operation = operations.get(j);
+            final int index = j;
+
+            inFlight.acquireUninterruptibly();
+            try {
+                UUIDIterator uuidIterator = getUUIDIteratorForRead(fc, operation, new UUIDIterator());
+                InetSocketAddress server = RPCCaller.getInetSocketAddressFromAddress(
+                        uuidResolver.uuidToAddress(uuidIterator.getUUID()), SERVICES.OSD);
+
+                RPCResponse<ObjectData> response = osdServiceClient.read(server, authBogus, userCredentialsBogus,
+                        buildReadRequest(fc, operation));
+                response.registerListener(new RPCResponseAvailableListener<ObjectData>() {
+                    @Override
+                    public void responseAvailable(RPCResponse<ObjectData> r) {
+                        ReusableBuffer payload = null;
+                        try {
+                            ObjectData objectData = r.get();
+                            payload = r.getData();
+                            int length = (payload == null) ? 0 : payload.remaining();
+                            int zeroPadding = objectData.getZeroPadding();
+                            if (length + zeroPadding > operation.getReqSize()) {
+                                throw new IOException("received more data than requested");
+                            }
+
+                            int start = dataOffset + operation.getBufferStart();
+                            if (payload != null) {
+                                payload.get(data, start, length);
+                            }
+                            // if zeropadding > 0, put zeros at the end of the object's data.
+                            Arrays.fill(data, start + length, start + length + zeroPadding, (byte) 0);
+                            received[index] = length + zeroPadding;
+                        } catch (Exception e) {
+                            if (Logging.isDebug()) {
+                                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc,
+                                        FileHandleImplementation.this,
+                                        "concurrent read of object %d of file %s failed, retrying: %s",
+                                        operation.getObjNumber(), fileInfo.getPath(), e.toString());
+                            }
+                            received[index] = -1;
+                        } finally {
+                            BufferPool.free(payload);
+                            r.freeBuffers();
+                            inFlight.release();
+                        }
+                    }
+                });
+            } catch (IOException e) {
+                received[index] = -1;
+                inFlight.release();
+            }
+        }
+
+        // Wait until all responses have been processed.
+        inFlight.acquireUninterruptibly(maxInFlight);
+
+        UUIDIterator tempUuidIteratorForStriping = new UUIDIterator();
+        int receivedData = 0;
+        for (int j = 0; j < operations.size(); j++) {
+            if (received[j] < 0) {
+                received[j] = readObject(fc, operations.get(j), buf,
+                        getUUIDIteratorForRead(fc, operations.get(j), tempUuidIteratorForStriping));
+            }
+            receivedData += received[j];
+        }
+        return receivedData;
+    }
+
+    /**
+     * Reads the data of a single object synchronously into the buffer, at the position of the object.
+     * 
+     * @return the number of bytes read
+     */
+    private int readObject(FileCredentials fc, ReadOperation operation, ReusableBuffer buf, UUIDIterator uuidIterator)
+            throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        buf.position(operation.getBufferStart());
+        // If synccall gets a buffer it fill it with data from the response.
+        ObjectData objectData = RPCCaller.<readRequest, ObjectData> syncCall(SERVICES.OSD, userCredentialsBogus,
+                authBogus, volumeOptions, uuidResolver, uuidIterator, false, buildReadRequest(fc, operation), buf,
+                new CallGenerator<readRequest, ObjectData>() {
+
+                    @Override
+                    public RPCResponse<ObjectData> executeCall(InetSocketAddress server, Auth auth,
+                            UserCredentials userCreds, readRequest callRequest) throws IOException {
+                        return osdServiceClient.read(server, auth, userCreds, callRequest);
 
-            // Differ between striping and the rest (replication, no replication).
-            UUIDIterator uuidIterator;
-            if (readRqBuilder.getFileCredentials().getXlocs().getReplicas(0).getOsdUuidsCount() > 1) {
-                // Replica is striped. Pick UUID from xlocset.
-                tempUuidIteratorForStriping.clear();
-                
-                // Replicas may have different stripe widths. However, the current Java client
-                // StripeTranslator code only supports the same stripe width as the first replica has.
-                int stripeWidthFirstReplica = fc.getXlocs().getReplicas(0).getStripingPolicy().getWidth();
-
-                for (int replicaIdx = 0; replicaIdx < fc.getXlocs().getReplicasCount(); replicaIdx++) {
-                    if (fc.getXlocs().getReplicas(replicaIdx).getStripingPolicy().getWidth() == stripeWidthFirstReplica) {
-                        tempUuidIteratorForStriping.addUUID(Helper.getOSDUUIDFromXlocSet(fc.getXlocs(),
-                                                            replicaIdx,
-                                                            operations.get(j).getOsdOffset()));
                     }
+                });
+        // if zeropadding > 0, put zeros at the end of the buffer.
+        for (int i = 0; i < objectData.getZeroPadding(); i++) {
+            buf.put((byte) 0);
+        }
+        return buf.position() - operation.getBufferStart();
+    }
+
+    private readRequest buildReadRequest(FileCredentials fc, ReadOperation operation) {
+        readRequest.Builder readRqBuilder = readRequest.newBuilder();
+
+        readRqBuilder.setFileCredentials(fc);
+        readRqBuilder.setFileId(fc.getXcap().getFileId());
+        readRqBuilder.setObjectNumber(operation.getObjNumber());
+        readRqBuilder.setObjectVersion(0);
+        readRqBuilder.setOffset(operation.getReqOffset());
+        readRqBuilder.setLength(operation.getReqSize());
+        return readRqBuilder.build();
+    }
+
+    /**
+     * Returns the iterator over the OSDs an object can be read from.
+     * 
+     * @param tempUuidIteratorForStriping
+     *            an iterator that is filled with the OSDs holding the object if the file is striped
+     */
+    private UUIDIterator getUUIDIteratorForRead(FileCredentials fc, ReadOperation operation,
+            UUIDIterator tempUuidIteratorForStriping) {
+        // Differ between striping and the rest (replication, no replication).
+        if (fc.getXlocs().getReplicas(0).getOsdUuidsCount() > 1) {
+            // Replica is striped. Pick UUID from xlocset.
+            tempUuidIteratorForStriping.clear();
+
+            // Replicas may have different stripe widths. However, the current Java client
+            // StripeTranslator code only supports the same stripe width as the first replica has.
+            int stripeWidthFirstReplica = fc.getXlocs().getReplicas(0).getStripingPolicy().getWidth();
+
+            for (int replicaIdx = 0; replicaIdx < fc.getXlocs().getReplicasCount(); replicaIdx++) {
+                if (fc.getXlocs().getReplicas(replicaIdx).getStripingPolicy().getWidth() == stripeWidthFirstReplica) {
+                    tempUuidIteratorForStriping.addUUID(Helper.getOSDUUIDFromXlocSet(fc.getXlocs(), replicaIdx,
+                            operation.getOsdOffset()));
                 }
-                
-                uuidIterator = tempUuidIteratorForStriping;
-            } else {
-                // TODO(mberlin): Enhance UUIDIterator to read from different replicas.
-                uuidIterator = osdUuidIterator;
             }
 
-            buf.position(operations.get(j).getBufferStart());
-            // If synccall gets a buffer it fill it with data from the response.
-            ObjectData objectData = RPCCaller.<readRequest, ObjectData> syncCall(SERVICES.OSD, userCredentialsBogus,
-                    authBogus, volumeOptions, uuidResolver, uuidIterator, false, readRqBuilder.build(), buf,
-                    new CallGenerator<readRequest, ObjectData>() {
+            return tempUuidIteratorForStriping;
+        } else {
+            // TODO(mberlin): Enhance UUIDIterator to read from different replicas.
+            return osdUuidIterator;
+        }
+    }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.FileHandle#readAsync(org.xtreemfs.foundation.pbrpc.generatedinterfaces.
+     * RPC.UserCredentials, byte[], int, int, long, org.xtreemfs.common.libxtreemfs.AsyncCallback)
+     */
+    @Override
+    public Future<Integer> readAsync(UserCredentials userCredentials, final byte[] data, final int dataOffset,
+            final int count, final long offset, AsyncCallback<Integer> callback) {
+        AsyncResult<Integer> result = new AsyncResult<Integer>(callback);
+        new AsyncViewCheckedOperation<Integer>(result) {
+            @Override
+            void doOperation(final AsyncCallback<Integer> attemptCallback) {
+                fileInfo.runWhenPendingAsyncWritesCompleted(new Runnable() {
+                    @Override
+                    public void run() {
+                        doReadAsync(data, dataOffset, count, offset, attemptCallback);
+                    }
+                });
+            }
+        }.start();
+        return result;
+    }
+
+    /**
+     * Sends the reads of all objects of a read request and passes the total number of bytes read to "callback"
+     * once all of them are completed.
+     */
+    private void doReadAsync(final byte[] data, final int dataOffset, int count, long offset,
+            AsyncCallback<Integer> callback) {
+        FileCredentials fc;
+        StripeTranslator translator;
+        try {
+            fc = getFileCredentialsForAsyncOperation();
+            translator = getStripeTranslator(fc.getXlocs().getReplicas(0).getStripingPolicy().getType());
+        } catch (IOException e) {
+            callback.failed(e);
+            return;
+        }
+
+        // Map offset to corresponding OSDs.
+        Vector<ReadOperation> operations = new Vector<ReadOperation>();
+        translator.translateReadRequest(count, offset, fc.getXlocs().getReplicas(0).getStripingPolicy(), operations);
+
+        final AsyncObjectOperations objectOperations = new AsyncObjectOperations(operations.size(), callback);
+        for (int j = 0; j < operations.size(); j++) {
+            final ReadOperation operation = operations.get(j);
+            final ReusableBuffer buf = ReusableBuffer.wrap(data, dataOffset + operation.getBufferStart(),
+                    operation.getReqSize());
+
+            RPCCaller.<readRequest, ObjectData> asyncCall(SERVICES.OSD, userCredentialsBogus, authBogus,
+                    volumeOptions, uuidResolver, getUUIDIteratorForRead(fc, operation, new UUIDIterator()), false,
+                    volumeOptions.getMaxTries(), buildReadRequest(fc, operation), buf,
+                    new CallGenerator<readRequest, ObjectData>() {
                         @Override
                         public RPCResponse<ObjectData> executeCall(InetSocketAddress server, Auth auth,
                                 UserCredentials userCreds, readRequest callRequest) throws IOException {
                             return osdServiceClient.read(server, auth, userCreds, callRequest);
+                        }
+                    }, volume.getAsyncTimer(), new AsyncCallback<ObjectData>() {
+                        @Override
+                        public void completed(ObjectData objectData) {
+                            int length = buf.position();
+                            int zeroPadding = objectData.getZeroPadding();
+                            if (length + zeroPadding > operation.getReqSize()) {
+                                objectOperations.failed(new IOException("received more data than requested"));
+                                return;
+                            }
 
+                            // if zeropadding > 0, put zeros at the end of the object's data.
+                            int start = dataOffset + operation.getBufferStart() + length;
+                            Arrays.fill(data, start, start + zeroPadding, (byte) 0);
+                            objectOperations.completed(length + zeroPadding);
+                        }
+
+                        @Override
+                        public void failed(IOException error) {
+                            objectOperations.failed(error);
                         }
                     });
-            // if zeropadding > 0, put zeros at the end of the buffer.
-            for (int i = 0; i < objectData.getZeroPadding(); i++) {
-                buf.put((byte) 0);
+        }
+    }
+
+    /**
+     * Tracks the object requests of an asynchronous read or write. Once all of them are completed, the sum of
+     * their sizes, or the first error, is passed to the callback.
+     */
+    private static class AsyncObjectOperations {
+
+        private final AsyncCallback<Integer> callback;
+
+        private int                          pending;
+
+        private int                          bytes;
+
+        private IOException                  error;
+
+        AsyncObjectOperations(int count, AsyncCallback<Integer> callback) {
+            this.pending = count;
+            this.callback = callback;
+            if (count == 0) {
+                callback.completed(0);
             }
-            receivedData += buf.position() - operations.get(j).getBufferStart();
         }
-        return receivedData;
+
+        void completed(int size) {
+            synchronized (this) {
+                bytes += size;
+                if (--pending > 0) {
+                    return;
+                }
+            }
+            finish();
+        }
+
+        void failed(IOException e) {
+            synchronized (this) {
+                if (error == null) {
+                    error = e;
+                }
+                if (--pending > 0) {
+                    return;
+                }
+            }
+            finish();
+        }
+
+        private void finish() {
+            if (error != null) {
+                callback.failed(error);
+            } else {
+                callback.completed(bytes);
+            }
+        }
+    }
+
+    /**
+     * Returns the credentials for an attempt of an asynchronous read or write.
+     */
+    private FileCredentials getFileCredentialsForAsyncOperation() throws PosixErrorException {
+        FileCredentials.Builder fcBuilder = FileCredentials.newBuilder();
+        synchronized (this) {
+            if (asyncWritesFailed) {
+                throw new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, "A previous asynchronous"
+                        + " write did fail. No more actions on this file handle are allowed.");
+            }
+            fcBuilder.setXcap(xcap.toBuilder());
+        }
+        FileCredentials fc = fcBuilder.setXlocs(fileInfo.getXLocSet()).build();
+
+        if (fc.getXlocs().getReplicasCount() == 0) {
+            Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, "No replica found for file %s",
+                    fileInfo.getPath());
+            throw new PosixErrorException(POSIXErrno.POSIX_ERROR_EIO, "no replica found for file: "
+                    + fileInfo.getPath());
+        }
+        return fc;
     }
 
     /*
@@ -386,7 +891,6 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
 
         fcBuilder.setXlocs(fileInfo.getXLocSet());
 
-        String globalFileId = fcBuilder.getXcap().getFileId();
         XLocSet xlocs = fcBuilder.getXlocs();
 
         if (xlocs.getReplicasCount() == 0) {
@@ -402,6 +906,10 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
 
         translator.translateWriteRequest(count, offset, stripingPolicy, buffer, operations);
 
+        // Cached objects of the file are outdated by the write; reads that overlap the write must not cache
+        // their data either, hence the cache is invalidated again once the write is done.
+        fileInfo.invalidateObjectCache();
+
         FileCredentials fileCredentials = fcBuilder.build();
 
         String osdUuid = "";
@@ -410,18 +918,7 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         if (asyncWritesEnabled) {
             // Write all objects.
             for (int j = 0; j < operations.size(); j++) {
-                request = writeRequest.newBuilder();
-                request.setFileCredentials(fileCredentials);
-                request.setFileId(globalFileId);
-
-                request.setObjectNumber(operations.get(j).getObjNumber());
-                request.setObjectVersion(0);
-                request.setOffset(operations.get(j).getReqOffset());
-                request.setLeaseTimeout(0);
-
-                ObjectData objectData = ObjectData.newBuilder().setChecksum(0).setInvalidChecksumOnOsd(false)
-                        .setZeroPadding(0).build();
-                request.setObjectData(objectData);
+                request = buildWriteRequest(fileCredentials, operations.get(j));
 
                 // Create new WriteBuffer and differ between striping and the
                 // rest (
@@ -448,18 +945,7 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         } else {
             // synchroneous write
             for (int j = 0; j < operations.size(); j++) {
-                request = writeRequest.newBuilder();
-                request.setFileCredentials(fileCredentials);
-                request.setFileId(globalFileId);
-                request.setObjectNumber(operations.get(j).getObjNumber());
-                request.setObjectVersion(0);
-                request.setOffset(operations.get(j).getReqOffset());
-                request.setLeaseTimeout(0);
-
-                ObjectData objectData = ObjectData.newBuilder().setChecksum(0).setInvalidChecksumOnOsd(false)
-                        .setZeroPadding(0).build();
-
-                request.setObjectData(objectData);
+                request = buildWriteRequest(fileCredentials, operations.get(j));
 
                 // Differ between striping and the rest (replication, no replication).
                 UUIDIterator uuidIterator;
@@ -495,9 +981,130 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
                 }
             }
         }
+        fileInfo.invalidateObjectCache();
         return count;
     }
 
+    private writeRequest.Builder buildWriteRequest(FileCredentials fc, WriteOperation operation) {
+        writeRequest.Builder request = writeRequest.newBuilder();
+        request.setFileCredentials(fc);
+        request.setFileId(fc.getXcap().getFileId());
+        request.setObjectNumber(operation.getObjNumber());
+        request.setObjectVersion(0);
+        request.setOffset(operation.getReqOffset());
+        request.setLeaseTimeout(0);
+
+        ObjectData objectData = ObjectData.newBuilder().setChecksum(0).setInvalidChecksumOnOsd(false)
+                .setZeroPadding(0).build();
+        request.setObjectData(objectData);
+        return request;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.FileHandle#writeAsync(org.xtreemfs.foundation.pbrpc.generatedinterfaces.
+     * RPC.UserCredentials, byte[], int, int, long, org.xtreemfs.common.libxtreemfs.AsyncCallback)
+     */
+    @Override
+    public Future<Integer> writeAsync(final UserCredentials userCredentials, final byte[] data,
+            final int dataOffset, final int count, final long offset, AsyncCallback<Integer> callback) {
+        AsyncResult<Integer> result = new AsyncResult<Integer>(callback);
+        new AsyncViewCheckedOperation<Integer>(result) {
+            @Override
+            void doOperation(final AsyncCallback<Integer> attemptCallback) {
+                fileInfo.runWhenPendingAsyncWritesCompleted(new Runnable() {
+                    @Override
+                    public void run() {
+                        doWriteAsync(userCredentials, data, dataOffset, count, offset, attemptCallback);
+                    }
+                });
+            }
+        }.start();
+        return result;
+    }
+
+    /**
+     * Sends the writes of all objects of a write request and passes "count" to "callback" once all of them are
+     * completed.
+     */
+    private void doWriteAsync(UserCredentials userCredentials, byte[] data, int dataOffset, final int count,
+            long offset, final AsyncCallback<Integer> callback) {
+        final FileCredentials fc;
+        StripeTranslator translator;
+        try {
+            fc = getFileCredentialsForAsyncOperation();
+            translator = getStripeTranslator(fc.getXlocs().getReplicas(0).getStripingPolicy().getType());
+        } catch (IOException e) {
+            callback.failed(e);
+            return;
+        }
+        XLocSet xlocs = fc.getXlocs();
+
+        // Map operation to stripes.
+        Vector<WriteOperation> operations = new Vector<WriteOperation>();
+        translator.translateWriteRequest(count, offset, xlocs.getReplicas(0).getStripingPolicy(),
+                ReusableBuffer.wrap(data, dataOffset, count), operations);
+
+        // As for synchronous writes, the object cache is invalidated before and after the write.
+        fileInfo.invalidateObjectCache();
+
+        final AsyncObjectOperations objectOperations = new AsyncObjectOperations(operations.size(),
+                new AsyncCallback<Integer>() {
+                    @Override
+                    public void completed(Integer bytes) {
+                        fileInfo.invalidateObjectCache();
+                        callback.completed(count);
+                    }
+
+                    @Override
+                    public void failed(IOException error) {
+                        fileInfo.invalidateObjectCache();
+                        callback.failed(error);
+                    }
+                });
+        for (int j = 0; j < operations.size(); j++) {
+            final WriteOperation operation = operations.get(j);
+
+            // Differ between striping and the rest (replication, no replication).
+            UUIDIterator uuidIterator;
+            if (xlocs.getReplicas(0).getOsdUuidsCount() > 1) {
+                // Replica is striped. Pick UUID from Xlocset. Use first and only replica.
+                uuidIterator = new UUIDIterator();
+                uuidIterator.clearAndAddUUID(Helper.getOSDUUIDFromXlocSet(xlocs, 0, operation.getOsdOffset()));
+            } else {
+                uuidIterator = osdUuidIterator;
+            }
+
+            RPCCaller.<writeRequest, OSDWriteResponse> asyncCall(SERVICES.OSD, userCredentials, authBogus,
+                    volumeOptions, uuidResolver, uuidIterator, false, volumeOptions.getMaxTries(),
+                    buildWriteRequest(fc, operation).build(), null,
+                    new CallGenerator<writeRequest, OSDWriteResponse>() {
+                        @Override
+                        public RPCResponse<OSDWriteResponse> executeCall(InetSocketAddress server, Auth authHeader,
+                                UserCredentials userCreds, writeRequest input) throws IOException {
+                            return osdServiceClient.write(server, authHeader, userCreds, input, operation
+                                    .getReqData().createViewBuffer());
+                        }
+                    }, volume.getAsyncTimer(), new AsyncCallback<OSDWriteResponse>() {
+                        @Override
+                        public void completed(OSDWriteResponse response) {
+                            // If the filesize has changed, remember OSDWriteResponse for later file size
+                            // update towards the MRC (executed by PeriodicFileSizeUpdateThread).
+                            if (response.hasSizeInBytes()) {
+                                fileInfo.tryToUpdateOSDWriteResponse(response, fc.getXcap());
+                            }
+                            objectOperations.completed(operation.getReqSize());
+                        }
+
+                        @Override
+                        public void failed(IOException error) {
+                            objectOperations.failed(error);
+                        }
+                    });
+        }
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -584,6 +1191,7 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
 
         OSDWriteResponse response = null;
 
+        fileInfo.invalidateObjectCache();
         XCap xCapCopy = getXcap();
 
         if (!updateOnlyMRC) {
@@ -617,6 +1225,9 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
 
         }
 
+        // Reads that overlapped the truncate must not cache their data.
+        fileInfo.invalidateObjectCache();
+
         // register the new OSDWriteResponse to this file's FileInfo.
         fileInfo.tryToUpdateOSDWriteResponse(response, xCapCopy);
 
@@ -637,6 +1248,17 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         return volume.getAttr(userCredentials, fileInfo.getPath());
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.FileHandle#getAttrAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC.UserCredentials, org.xtreemfs.common.libxtreemfs.AsyncCallback)
+     */
+    @Override
+    public Future<Stat> getAttrAsync(UserCredentials userCredentials, AsyncCallback<Stat> callback) {
+        return volume.getAttrAsync(userCredentials, fileInfo.getPath(), callback);
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1034,6 +1656,10 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
         synchronized (xcap) {
             // Overwrite current XCap only by a newer one (i.e. later expire time)
             if (newXCap.getExpireTimeS() > xcap.getExpireTimeS()) {
+                // The file was truncated in the meantime.
+                if (newXCap.getTruncateEpoch() != xcap.getTruncateEpoch()) {
+                    fileInfo.invalidateObjectCache();
+                }
                 xcap = newXCap;
                 if (Logging.isDebug()) {
                     Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "XCap renewed for fileId %s",
@@ -1377,4 +2003,59 @@ public class FileHandleImplementation implements FileHandle, AdminFileHandle {
             }
         }
     }
+
+    /**
+     * Renews the xLocSet asynchronously and notifies "callback" once it is renewed.<br>
+     * If another asynchronous renewal is pending, no additional renewal will be started and "callback" will be
+     * notified once the pending one finished.
+     */
+    void renewXLocSetAsync(AsyncCallback<XLocSet> callback) {
+        synchronized (fileInfo.asyncXLocSetRenewalCallbacks) {
+            fileInfo.asyncXLocSetRenewalCallbacks.add(callback);
+            if (fileInfo.asyncXLocSetRenewalCallbacks.size() > 1) {
+                return;
+            }
+        }
+
+        // The xCap is required to prevent unauthorized access to the XLocSet.
+        xtreemfs_get_xlocsetRequest request = xtreemfs_get_xlocsetRequest.newBuilder().setXcap(getXcap()).build();
+
+        RPCCaller.<xtreemfs_get_xlocsetRequest, XLocSet> asyncCall(SERVICES.MRC, userCredentialsBogus, authBogus,
+                volumeOptions, uuidResolver, mrcUuidIterator, false, 1, request, null,
+                new CallGenerator<xtreemfs_get_xlocsetRequest, XLocSet>() {
+                    @Override
+                    public RPCResponse<XLocSet> executeCall(InetSocketAddress server, Auth authHeader,
+                            UserCredentials userCreds, xtreemfs_get_xlocsetRequest input) throws IOException,
+                            PosixErrorException {
+                        return mrcServiceClient.xtreemfs_get_xlocset(server, authHeader, userCreds, input);
+                    }
+                }, volume.getAsyncTimer(), new AsyncCallback<XLocSet>() {
+                    @Override
+                    public void completed(XLocSet newXLocSet) {
+                        // A synchronous renewal may have installed a newer xLocSet in the meantime.
+                        if (fileInfo.getXLocSet().getVersion() <= newXLocSet.getVersion()) {
+                            fileInfo.updateXLocSetAndRest(newXLocSet);
+                        }
+                        for (AsyncCallback<XLocSet> callback : takeAsyncXLocSetRenewalCallbacks()) {
+                            callback.completed(newXLocSet);
+                        }
+                    }
+
+                    @Override
+                    public void failed(IOException error) {
+                        for (AsyncCallback<XLocSet> callback : takeAsyncXLocSetRenewalCallbacks()) {
+                            callback.failed(error);
+                        }
+                    }
+                });
+    }
+
+    private List<AsyncCallback<XLocSet>> takeAsyncXLocSetRenewalCallbacks() {
+        synchronized (fileInfo.asyncXLocSetRenewalCallbacks) {
+            List<AsyncCallback<XLocSet>> callbacks = new ArrayList<AsyncCallback<XLocSet>>(
+                    fileInfo.asyncXLocSetRenewalCallbacks);
+            fileInfo.asyncXLocSetRenewalCallbacks.clear();
+            return callbacks;
+        }
+    }
 }
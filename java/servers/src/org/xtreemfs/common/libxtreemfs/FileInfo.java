@@ -14,6 +14,7 @@ import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
@@ -87,6 +88,12 @@ public class FileInfo {
      */
     Object                                                  xLocSetRenewalLock;
 
+    /**
+     * Callbacks waiting for the asynchronous renewal of the xLocSet in progress, empty if there is none. Used as
+     * its own lock, as the responses of asynchronous renewals must not wait for "xLocSetRenewalLock".
+     */
+    final List<AsyncCallback<XLocSet>>                      asyncXLocSetRenewalCallbacks;
+
     /**
      * UUIDIterator which contains the UUIDs of all replicas.
      * 
@@ -95,6 +102,12 @@ public class FileInfo {
      */
     private UUIDIterator                                    osdUuidIterator;
 
+    /**
+     * Generation of the file's entries in the volume's {@link ObjectCache}. Increased whenever cached objects of
+     * the file may be outdated.
+     */
+    private final AtomicLong                                objectCacheGeneration;
+
     /**
      * List of active locks (acts as a cache). The OSD allows only one lock per (client UUID, PID) tuple.
      */
@@ -168,6 +181,7 @@ public class FileInfo {
         this.clientUuid = clientUuid;
 
         referenceCount = new AtomicInteger(0);
+        objectCacheGeneration = new AtomicLong(0);
         osdWriteResponse = null;
         osdWriteResponseStatus = FilesizeUpdateStatus.kClean;
         osdWriteResponseLock = new Object();
@@ -176,6 +190,7 @@ public class FileInfo {
         xLocSetLock = new Object();
 
         xLocSetRenewalLock = new Object();
+        asyncXLocSetRenewalCallbacks = new ArrayList<AsyncCallback<XLocSet>>();
 
         openFileHandles = new ConcurrentLinkedQueue<FileHandleImplementation>();
         activeLocks = new ConcurrentHashMap<Integer, Lock>();
@@ -212,6 +227,7 @@ public class FileInfo {
             xlocset = XLocSet.newBuilder(newXlocset).build();
             this.replicateOnClose = replicateOnClose;
         }
+        invalidateObjectCache();
 
         // Update the osdUuidIterator to reflect the changes in the xlocset.
         osdUuidIterator.clearAndAddUUIDs(Helper.getOSDUUIDsFromXlocSet(newXlocset));
@@ -224,6 +240,7 @@ public class FileInfo {
         synchronized (xLocSetLock) {
             xlocset = XLocSet.newBuilder(newXlocset).build();
         }
+        invalidateObjectCache();
 
         // Update the osdUuidIterator to reflect the changes in the xlocset.
         osdUuidIterator.clearAndAddUUIDs(Helper.getOSDUUIDsFromXlocSet(newXlocset));
@@ -606,6 +623,13 @@ public class FileInfo {
         asyncWriteHandler.waitForPendingWrites();
     }
 
+    /**
+     * Runs "action" once all pending asynchronous writes have finished, without blocking the caller.
+     */
+    protected void runWhenPendingAsyncWritesCompleted(Runnable action) {
+        asyncWriteHandler.runWhenPendingWritesCompleted(action);
+    }
+
     /**
      * Same as flushPendingFileSizeUpdate(), takes special actions if called by close().
      * 
@@ -656,6 +680,20 @@ public class FileInfo {
         }
     }
 
+    /**
+     * Returns the current generation of the file's entries in the {@link ObjectCache}.
+     */
+    protected long getObjectCacheGeneration() {
+        return objectCacheGeneration.get();
+    }
+
+    /**
+     * Invalidates all objects of the file in the {@link ObjectCache}, including objects whose read is pending.
+     */
+    protected void invalidateObjectCache() {
+        objectCacheGeneration.incrementAndGet();
+    }
+
     /**
      * Returns a new copy of xlocSet.
      */
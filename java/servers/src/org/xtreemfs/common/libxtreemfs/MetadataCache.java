@@ -7,12 +7,12 @@
 package org.xtreemfs.common.libxtreemfs;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.SortedSet;
+import java.util.Map;
 import java.util.TreeSet;
 import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.xtreemfs.foundation.logging.Logging;
@@ -26,56 +26,80 @@ import org.xtreemfs.pbrpc.generatedinterfaces.MRC.listxattrResponse;
 
 /**
  * Caches metadata for libxtreemfs.
+ * 
+ * The cache is split into segments by the hash of the path. Each segment has its own lock, so that threads
+ * working on different paths do not contend, and lookups only take the read lock of their segment. Entries
+ * are evicted per segment: the oldest entry is evicted unless it was looked up since it was added or moved,
+ * in which case it gets a second chance. Invalidating or renaming a subtree visits all segments one after
+ * another.
  */
 public class MetadataCache {
 
-    private final long                                maxNumberOfEntries;
-
-    private final long                                ttlS;
-
-    private boolean                                   enabled;
-
     /**
-     * A map containing all {@link MetadataCacheEntry} in insertion order. Also it is possible to access an
-     * entry in a hashmap like way in time O(1).
+     * Maximum number of segments the cache is split into.
      */
-    private final LinkedHashMap<String, MetadataCacheEntry> cache;
+    private static final int   MAX_SEGMENTS         = 16;
 
     /**
-     * A map sorted by the path. This is used to iterate recursively over a path when a directory is
-     * invalidated to delete all subdirectories and files belonging to the invalidated directory from the
-     * cache.
+     * Minimum capacity of a segment. Small caches use fewer segments, so that the eviction order stays close
+     * to the order of the whole cache.
      */
-    private final SortedSet<String>                         pathIndex;
+    private static final int   MIN_SEGMENT_CAPACITY = 256;
 
-    private final ReadWriteLock                             readWriteLock;
+    private final long         maxNumberOfEntries;
 
-    /**
-     * Lock that is used when writing to the "pathIndex" and "cache" together.
-     */
-    private final Lock                                      writeLock;
+    private final long         ttlS;
 
-    /**
-     * Lock that is used when reading "pathIndex" and "cache" together.
-     */
-    private final Lock                                      readLock;
+    private boolean            enabled;
+
+    private final Segment[]    segments;
 
     /**
      * MetadataCache for Stat, listxattrResponse and XAttr objects per path.
      * 
      */
     protected MetadataCache(long maxNumberOfEntries, long ttlS) {
+        this(maxNumberOfEntries, ttlS, getDefaultNumberOfSegments(maxNumberOfEntries));
+    }
+
+    /**
+     * MetadataCache for Stat, listxattrResponse and XAttr objects per path, split into "numberOfSegments"
+     * segments.
+     * 
+     * @param numberOfSegments
+     *            Number of segments, must be a power of two.
+     */
+    MetadataCache(long maxNumberOfEntries, long ttlS, int numberOfSegments) {
+        if (numberOfSegments < 1 || (numberOfSegments & (numberOfSegments - 1)) != 0) {
+            throw new IllegalArgumentException("the number of segments must be a power of two: "
+                    + numberOfSegments);
+        }
+
         this.maxNumberOfEntries = maxNumberOfEntries;
         this.ttlS = ttlS;
 
         enabled = maxNumberOfEntries > 0 ? true : false;
 
-        cache = new LinkedHashMap<String, MetadataCacheEntry>();
-        pathIndex = new TreeSet<String>();
+        segments = new Segment[numberOfSegments];
+        long segmentCapacity = (maxNumberOfEntries + numberOfSegments - 1) / numberOfSegments;
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    private static int getDefaultNumberOfSegments(long maxNumberOfEntries) {
+        int numberOfSegments = 1;
+        while (numberOfSegments < MAX_SEGMENTS
+                && maxNumberOfEntries / (numberOfSegments * 2) >= MIN_SEGMENT_CAPACITY) {
+            numberOfSegments *= 2;
+        }
+        return numberOfSegments;
+    }
 
-        readWriteLock = new ReentrantReadWriteLock();
-        writeLock = readWriteLock.writeLock();
-        readLock = readWriteLock.readLock();
+    private Segment getSegment(String path) {
+        int h = path.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (segments.length - 1)];
     }
 
     /**
@@ -89,12 +113,12 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
-            cache.remove(path);
-            pathIndex.remove(path);
+            segment.remove(path);
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -108,35 +132,33 @@ public class MetadataCache {
         if (path.isEmpty() || !enabled) {
             return;
         }
-        // collect all entries that should be removed from pathIndex to remove them at the end.
-        List<String> indicesToRemove = new ArrayList<String>();
+        // At first, delete "path" itself.
+        invalidate(path);
 
-        writeLock.lock();
-        try {
-            // At first, delete "path" from "cache" and "pathIndex"
-            cache.remove(path);
-            pathIndex.remove(path);
+        // At second, remove all entries which have "path" respectively "path+'/'" as prefix from all segments.
+        if (!path.endsWith("/")) {
+            path = path + "/";
+        }
 
-            // At second, remove all entries which have "path" respectively "path+'/'"
-            if (!path.endsWith("/")) {
-                path = path + "/";
-            }
+        for (Segment segment : segments) {
+            segment.writeLock.lock();
+            try {
+                Iterator<String> it = segment.pathIndex.tailSet(path).iterator();
+                while (it.hasNext()) {
+                    String deletePath = it.next();
+                    // if the we reach the first element which don't have "path" as
+                    // prefix we are finished.
+                    if (!deletePath.startsWith(path)) {
+                        break;
+                    }
 
-            for (String deletePath : pathIndex.tailSet(path)) {
-                // if the we reach the first element which don't have "path" as
-                // prefix we are finished.
-                if (!deletePath.startsWith(path)) {
-                    break;
+                    // else delete this element from "pathIndex" and "entries"
+                    it.remove();
+                    segment.entries.remove(deletePath);
                 }
-
-                // else delete this element from "pathIndex"and "cache"
-                cache.remove(deletePath);
-                indicesToRemove.add(deletePath);
+            } finally {
+                segment.writeLock.unlock();
             }
-            // do the removing after looping over "pathIndex" to avoid ConcurrentModificationException
-            pathIndex.removeAll(indicesToRemove);
-        } finally {
-            writeLock.unlock();
         }
     }
 
@@ -152,45 +174,61 @@ public class MetadataCache {
         if (path.isEmpty() || !enabled) {
             return;
         }
-        // Temporary TreeSet to store the new paths
-        TreeSet<String> tempPaths = new TreeSet<String>();
+        String prefix = path.endsWith("/") ? path : path + "/";
+        String newPrefix = newPath.endsWith("/") ? newPath : newPath + "/";
+
+        // At first, remove the directory itself and all entries with a prefix that matches "path"
+        // respectively "path+'/'" from all segments. As the new paths may belong to other segments, the
+        // entries are re-added afterwards.
+        List<String> renamedPaths = new ArrayList<String>();
+        List<MetadataCacheEntry> renamedEntries = new ArrayList<MetadataCacheEntry>();
 
-        writeLock.lock();
+        Segment pathSegment = getSegment(path);
+        pathSegment.writeLock.lock();
         try {
-            // At first, rename the directory itself.
-            MetadataCacheEntry entry = cache.remove(path);
-            cache.put(newPath, entry);
-
-            // Seconde, rename all entries with prefix that matches "path" respectively "path+'/'"
-            if (!path.endsWith("/"))
-                path = path + "/";
-            if (!newPath.endsWith("/"))
-                newPath = newPath + "/";
-
-            for (String renamePath : pathIndex.tailSet(path)) {
-                // if the we reach the first element which don't have "path" as
-                // prefix we are finished.
-                if (!renamePath.startsWith(path)) {
-                    break;
-                }
+            MetadataCacheEntry entry = pathSegment.remove(path);
+            if (entry != null) {
+                renamedPaths.add(newPath);
+                renamedEntries.add(entry);
+            }
+        } finally {
+            pathSegment.writeLock.unlock();
+        }
 
-                // delete object from cache and insert it with new path
-                entry = cache.remove(renamePath);
-                cache.put(renamePath.replaceFirst(path, newPath), entry);
+        for (Segment segment : segments) {
+            segment.writeLock.lock();
+            try {
+                Iterator<String> it = segment.pathIndex.tailSet(prefix).iterator();
+                while (it.hasNext()) {
+                    String renamePath = it.next();
+                    // if the we reach the first element which don't have "path" as
+                    // prefix we are finished.
+                    if (!renamePath.startsWith(prefix)) {
+                        break;
+                    }
 
-                // add the oldPath to the "tempPaths" in order to remove them later from "pathIndex"
-                // and add them with the new path
-                tempPaths.add(renamePath.replaceFirst(path, newPath));
+                    it.remove();
+                    renamedPaths.add(newPrefix + renamePath.substring(prefix.length()));
+                    renamedEntries.add(segment.entries.remove(renamePath));
+                }
+            } finally {
+                segment.writeLock.unlock();
             }
+        }
 
-            // remove all collected tempPaths to the "pathIndex" and readd them with the correct new
-            // path
-            for (String tmpPath : tempPaths) {
-                pathIndex.remove(tmpPath);
-                pathIndex.add(tmpPath.replace(path, newPath));
+        // Second, insert the entries with their new paths.
+        for (int i = 0; i < renamedPaths.size(); i++) {
+            String renamedPath = renamedPaths.get(i);
+            MetadataCacheEntry entry = renamedEntries.get(i);
+            entry.setPath(renamedPath);
+
+            Segment segment = getSegment(renamedPath);
+            segment.writeLock.lock();
+            try {
+                segment.put(renamedPath, entry);
+            } finally {
+                segment.writeLock.unlock();
             }
-        } finally {
-            writeLock.unlock();
         }
     }
 
@@ -206,15 +244,19 @@ public class MetadataCache {
             return null;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        MetadataCacheEntry expiredEntry = null;
+        long currentTimeS = System.currentTimeMillis() / 1000;
+
+        segment.readLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
             if (entry != null) { // cache hit
                 // We must never have cached a hard link.
                 assert (entry.getStat() == null || entry.getStat().getNlink() == 1);
 
-                long currentTimeS = System.currentTimeMillis() / 1000;
                 if (entry.getStatTimeoutS() >= currentTimeS) { // Stat object is still valid
+                    entry.setReferenced(true);
                     return entry.getStat();
                 } else { // Stat object is expired => delete it from cache
 
@@ -226,20 +268,21 @@ public class MetadataCache {
                     // Only delete object, if the maximum timeout of all three objects is
                     // reached.
                     if (entry.getTimeoutS() < currentTimeS) {
-                        // Free MetadataCacheEntry and delete from Index. This increases the
-                        // run time of GetStat() roughly by factor 3.
-                        cache.remove(path);
-                        pathIndex.remove(path);
+                        expiredEntry = entry;
                     }
                 }
             } else { // cache miss
                 if (Logging.isDebug()) {
                     Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                            "MetadataCache getStat miss: ", cache.size());
+                            "MetadataCache getStat miss: %s [%s]", path, segment.entries.size());
                 }
             }
         } finally {
-            writeLock.unlock();
+            segment.readLock.unlock();
+        }
+
+        if (expiredEntry != null) {
+            segment.removeExpired(path, expiredEntry, currentTimeS);
         }
         return null;
     }
@@ -257,10 +300,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
-            // remove entry if it exists in the cache
-            MetadataCacheEntry entry = cache.remove(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
             if (entry == null) { // cache miss. entry has to be created
 
                 if (Logging.isDebug()) {
@@ -268,10 +311,7 @@ public class MetadataCache {
                             "MetadataCache: registering %s", path);
                 }
                 entry = new MetadataCacheEntry();
-
-                // entry doesn't exists yet in cache => there is no entry "pathIndex" for it. We
-                // have to create one.
-                pathIndex.add(path);
+                entry.setPath(path);
             }
 
             // set net stat object and update timeouts
@@ -279,12 +319,11 @@ public class MetadataCache {
             entry.setStatTimeoutS(System.currentTimeMillis() / 1000 + ttlS);
             entry.setTimeoutS(entry.getStatTimeoutS());
 
-            // (re-)add entry to "cache"
-            evictUnmutexed(1);
-            cache.put(path, entry);
+            // (re-)add entry to the segment
+            segment.put(path, entry);
 
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -306,9 +345,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
 
             if (entry != null) {
                 if (entry.getStat() == null) {
@@ -338,11 +378,10 @@ public class MetadataCache {
                 entry.setTimeoutS(entry.getStatTimeoutS());
 
                 // readd the entry in the cache
-                cache.remove(path);
-                cache.put(path, entry);
+                segment.moveToTail(path, entry);
             }
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -361,9 +400,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
 
             if (entry != null) {
                 if (entry.getStat() == null) {
@@ -434,11 +474,10 @@ public class MetadataCache {
                 entry.setStatTimeoutS(System.currentTimeMillis() / 1000 + ttlS);
                 entry.setTimeoutS(entry.getStatTimeoutS());
 
-                cache.remove(path);
-                cache.put(path, entry);
+                segment.moveToTail(path, entry);
             }
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -455,9 +494,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
             if (entry != null) {
                 if (entry.getStat() == null) {
                     return;
@@ -474,7 +514,7 @@ public class MetadataCache {
                 }
             }
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -495,12 +535,16 @@ public class MetadataCache {
             return null;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        MetadataCacheEntry expiredEntry = null;
+        long currentTimeS = System.currentTimeMillis() / 1000;
+
+        segment.readLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
             if (entry != null && entry.getDirectoryEntries() != null) {
-                long currentTimeS = System.currentTimeMillis() / 1000;
                 if (entry.getDirectoryEntriesTimeoutS() >= currentTimeS) { // entry is valid => use it
+                    entry.setReferenced(true);
 
                     DirectoryEntries.Builder result;
 
@@ -508,14 +552,14 @@ public class MetadataCache {
                     if (offset == 0 && count >= entry.getDirectoryEntries().getEntriesCount()) {
                         if (Logging.isDebug()) {
                             Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                    "MetadataCache getDirEntries() hit: %s [%s]", path, cache.size());
+                                    "MetadataCache getDirEntries() hit: %s [%s]", path, segment.entries.size());
                         }
                         result = entry.getDirectoryEntries().toBuilder();
                     } else { // copy just the selected entries from cache
                         if (Logging.isDebug()) {
                             Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
                                     "MetadataCache getDirectoryEntries() hit (partial copy): "
-                                            + "%s [%s] offset: %s", path, cache.size(), offset);
+                                            + "%s [%s] offset: %s", path, segment.entries.size(), offset);
                         }
                         result = DirectoryEntries.newBuilder();
                         for (int i = offset; i < offset + count; i++) {
@@ -531,14 +575,19 @@ public class MetadataCache {
 
                     // Only delete object, if the maximum timeout is reached.
                     if (entry.getTimeoutS() < currentTimeS) {
-                        cache.remove(path);
-                        pathIndex.remove(path);
+                        expiredEntry = entry;
+                    } else {
+                        return null;
                     }
-                    return null;
                 }
             }
         } finally {
-            writeLock.unlock();
+            segment.readLock.unlock();
+        }
+
+        if (expiredEntry != null) {
+            segment.removeExpired(path, expiredEntry, currentTimeS);
+            return null;
         }
 
         if (Logging.isDebug()) {
@@ -559,15 +608,16 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
             if (entry != null) {
                 entry.setStat(null);
                 entry.setStatTimeoutS(0);
             }
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -587,9 +637,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
             boolean created = false;
 
             if (entry == null) { // entry does not exist, create new one
@@ -607,15 +658,12 @@ public class MetadataCache {
             entry.setTimeoutS(entry.getDirectoryEntriesTimeoutS());
 
             if (created) {
-                evictUnmutexed(1);
-                pathIndex.add(path);
-                cache.put(path, entry);
+                segment.put(path, entry);
             } else {
-                cache.remove(path);
-                cache.put(path, entry);
+                segment.moveToTail(path, entry);
             }
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -632,9 +680,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(pathToDirectory);
+        segment.writeLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(pathToDirectory);
+            MetadataCacheEntry entry = segment.entries.get(pathToDirectory);
             if (entry != null) {
                 if (entry.getDirectoryEntries() == null) {
                     return;
@@ -652,7 +701,7 @@ public class MetadataCache {
             }
 
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -667,15 +716,16 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
             if (entry != null) {
                 entry.setDirectoryEntries(null);
                 entry.setDirectoryEntriesTimeoutS(0);
             }
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -699,21 +749,25 @@ public class MetadataCache {
             return new Tupel<String, Boolean>(null, xattrsCached);
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        MetadataCacheEntry expiredEntry = null;
+        long currentTimeS = System.currentTimeMillis() / 1000;
+
+        segment.readLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
-            long currentTimeMS = System.currentTimeMillis() / 1000;
+            MetadataCacheEntry entry = segment.entries.get(path);
 
             if (entry != null && entry.getXattrs() != null) {
                 // Entry found with valid Xattrs. Check timeout Xattrs
-                if (entry.getXattrTimeoutS() >= currentTimeMS) {
+                if (entry.getXattrTimeoutS() >= currentTimeS) {
                     xattrsCached = true;
+                    entry.setReferenced(true);
 
                     for (XAttr xattr : entry.getXattrs().getXattrsList()) {
                         if (xattr.getName().equals(name)) {
                             if (Logging.isDebug()) {
                                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                        "MetadataCache getXattr() hit: %s [%s]", path, cache.size());
+                                        "MetadataCache getXattr() hit: %s [%s]", path, segment.entries.size());
                             }
                             return new Tupel<String, Boolean>(xattr.getValue(), xattrsCached);
                         }
@@ -727,21 +781,26 @@ public class MetadataCache {
                                 "MetadataCache getXattr() expired: %s", path);
                     }
                     // Only delete object if maximum timeout is reached.
-                    if (entry.getTimeoutS() < currentTimeMS) {
-                        cache.remove(path);
-                        pathIndex.remove(path);
+                    if (entry.getTimeoutS() < currentTimeS) {
+                        expiredEntry = entry;
+                    } else {
+                        return new Tupel<String, Boolean>(null, xattrsCached);
                     }
-                    return new Tupel<String, Boolean>(null, xattrsCached);
                 }
             }
 
         } finally {
-            writeLock.unlock();
+            segment.readLock.unlock();
+        }
+
+        if (expiredEntry != null) {
+            segment.removeExpired(path, expiredEntry, currentTimeS);
+            return new Tupel<String, Boolean>(null, xattrsCached);
         }
 
         if (Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                    "MetadataCache getXattr() miss: %s [%s]", path, cache.size());
+                    "MetadataCache getXattr() miss: %s [%s]", path, segment.entries.size());
         }
         return new Tupel<String, Boolean>(null, xattrsCached);
     }
@@ -762,20 +821,25 @@ public class MetadataCache {
     protected Tupel<Integer, Boolean> getXAttrSize(String path, String name) {
         boolean xattrCached = false;
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        MetadataCacheEntry expiredEntry = null;
+        long currentTimeS = System.currentTimeMillis() / 1000;
+
+        segment.readLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
-            long currentTimeS = System.currentTimeMillis() / 1000;
+            MetadataCacheEntry entry = segment.entries.get(path);
 
             if (entry != null && entry.getXattrs() != null) {
                 if (entry.getXattrTimeoutS() >= currentTimeS) { // entry is still valid
                     xattrCached = true;
+                    entry.setReferenced(true);
                     for (XAttr xattr : entry.getXattrs().getXattrsList()) {
                         if (xattr.getName().equals(name)) {
 
                             if (Logging.isDebug()) {
                                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                        "MetadataCache getXattrSize() hit: %s [%s]", path, cache.size());
+                                        "MetadataCache getXattrSize() hit: %s [%s]", path,
+                                        segment.entries.size());
                             }
                             return new Tupel<Integer, Boolean>(xattr.getValue().length(), xattrCached);
                         }
@@ -789,19 +853,22 @@ public class MetadataCache {
 
                     // only delete entry when overall timeout is expired
                     if (entry.getTimeoutS() < currentTimeS) {
-                        cache.remove(path);
-                        pathIndex.remove(path);
+                        expiredEntry = entry;
                     }
                 }
             }
 
         } finally {
-            writeLock.unlock();
+            segment.readLock.unlock();
+        }
+
+        if (expiredEntry != null) {
+            segment.removeExpired(path, expiredEntry, currentTimeS);
         }
 
         if (Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                    "MetadataCache getXattrSize() miss: %s [%s]", path, cache.size());
+                    "MetadataCache getXattrSize() miss: %s [%s]", path, segment.entries.size());
         }
         return new Tupel<Integer, Boolean>(0, xattrCached);
     }
@@ -814,40 +881,50 @@ public class MetadataCache {
      * @return {@link listxattrResponse} or null.
      */
     protected listxattrResponse getXAttrs(String path) {
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        MetadataCacheEntry expiredEntry = null;
+        long currentTimeS = System.currentTimeMillis() / 1000;
+
+        segment.readLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
-            long currentTimeS = System.currentTimeMillis() / 1000;
+            MetadataCacheEntry entry = segment.entries.get(path);
 
             if (entry != null && entry.getXattrs() != null) {
                 if (entry.getXattrTimeoutS() >= currentTimeS) { // cache entry is still valid; hit
 
                     if (Logging.isDebug()) {
                         Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                "MetadataCache getXattrs() hit: %s [%s]", path, cache.size());
+                                "MetadataCache getXattrs() hit: %s [%s]", path, segment.entries.size());
                     }
+                    entry.setReferenced(true);
                     return entry.getXattrs();
 
                 } else { // entry is expired => remove it
                     if (Logging.isDebug()) {
                         Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                                "MetadataCache getXattrs() expired: %s", path, cache.size());
+                                "MetadataCache getXattrs() expired: %s", path);
                     }
 
                     // only delete object when overall timeout is expired
                     if (entry.getTimeoutS() < currentTimeS) {
-                        cache.remove(path);
-                        pathIndex.remove(path);
+                        expiredEntry = entry;
+                    } else {
+                        return null;
                     }
-                    return null;
                 }
             }
         } finally {
-            writeLock.unlock();
+            segment.readLock.unlock();
+        }
+
+        if (expiredEntry != null) {
+            segment.removeExpired(path, expiredEntry, currentTimeS);
+            return null;
         }
+
         if (Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                    "MetadataCache getXattrs() miss %s [%s]", path, cache.size());
+                    "MetadataCache getXattrs() miss %s [%s]", path, segment.entries.size());
         }
         return null;
     }
@@ -868,10 +945,11 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
             // check if there is already an entry for "path"
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
             if (entry == null) {
                 // Don't create a new entry with an incomplete xattr list.
                 return;
@@ -910,7 +988,7 @@ public class MetadataCache {
             // Replace the existing entry in cache - do not update TTL
             entry.setXattrs(newXattrs.build());
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -929,9 +1007,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
             // create a new entry if there isn't one in cache
             if (entry == null) {
 
@@ -947,14 +1026,10 @@ public class MetadataCache {
             entry.setXattrTimeoutS(System.currentTimeMillis() / 1000 + ttlS);
             entry.setTimeoutS(entry.getXattrTimeoutS());
 
-            // we have to remove and readd the entry. If it was not in cache we are dealing with a
-            // new entry and we have to insert in "pathIndex" too
-            if (cache.remove(path) == null) {
-                pathIndex.add(path);
-            }
-            cache.put(path, entry);
+            // (re-)add the entry to the segment
+            segment.put(path, entry);
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -971,9 +1046,10 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
             if (entry == null) {
                 // there is no entry in the cache => nothing to do
                 return;
@@ -1001,7 +1077,7 @@ public class MetadataCache {
             entry.setXattrs(xattrs.build());
 
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -1016,16 +1092,17 @@ public class MetadataCache {
             return;
         }
 
-        writeLock.lock();
+        Segment segment = getSegment(path);
+        segment.writeLock.lock();
         try {
-            MetadataCacheEntry entry = cache.get(path);
+            MetadataCacheEntry entry = segment.entries.get(path);
             if (entry != null) {
                 entry.setXattrs(null);
                 entry.setXattrTimeoutS(0);
             }
 
         } finally {
-            writeLock.unlock();
+            segment.writeLock.unlock();
         }
     }
 
@@ -1035,12 +1112,16 @@ public class MetadataCache {
      * @return long
      */
     protected long size() {
-        readLock.lock();
-        try {
-            return cache.size();
-        } finally {
-            readLock.unlock();
+        long size = 0;
+        for (Segment segment : segments) {
+            segment.readLock.lock();
+            try {
+                size += segment.entries.size();
+            } finally {
+                segment.readLock.unlock();
+            }
         }
+        return size;
     }
 
     /**
@@ -1053,22 +1134,107 @@ public class MetadataCache {
     }
 
     /**
-     * Evicts first n oldest entries from cache.
-     * 
-     * @param n
-     *            Number of elements that should be evicted.
+     * A part of the cache with its own lock. All methods must be called with the write lock held.
      */
-    private void evictUnmutexed(int n) {
-        while (cache.size() > maxNumberOfEntries - n) {
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
-                        "MetadataCache evictUnmutexed: Deleting one entry from cache; "
-                                + "entries in total: %s", cache.size());
+    private static final class Segment {
+
+        /**
+         * A map containing all {@link MetadataCacheEntry} of the segment in insertion order. Also it is
+         * possible to access an entry in a hashmap like way in time O(1).
+         */
+        final LinkedHashMap<String, MetadataCacheEntry> entries;
+
+        /**
+         * A set sorted by the path. This is used to iterate recursively over a path when a directory is
+         * invalidated to delete all subdirectories and files belonging to the invalidated directory from the
+         * segment.
+         */
+        final TreeSet<String>                           pathIndex;
+
+        final Lock                                      readLock;
+
+        final Lock                                      writeLock;
+
+        private final long                              capacity;
+
+        Segment(long capacity) {
+            this.capacity = capacity;
+
+            entries = new LinkedHashMap<String, MetadataCacheEntry>();
+            pathIndex = new TreeSet<String>();
+
+            ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+            readLock = readWriteLock.readLock();
+            writeLock = readWriteLock.writeLock();
+        }
+
+        /**
+         * Adds or replaces the entry for "path" and makes it the newest entry. Evicts an entry if a new entry
+         * would exceed the capacity.
+         */
+        void put(String path, MetadataCacheEntry entry) {
+            if (entries.remove(path) == null) {
+                evict(1);
+                pathIndex.add(path);
+            }
+            entries.put(path, entry);
+        }
+
+        /**
+         * Makes "entry" the newest entry.
+         */
+        void moveToTail(String path, MetadataCacheEntry entry) {
+            entries.remove(path);
+            entries.put(path, entry);
+        }
+
+        MetadataCacheEntry remove(String path) {
+            MetadataCacheEntry entry = entries.remove(path);
+            if (entry != null) {
+                pathIndex.remove(path);
+            }
+            return entry;
+        }
+
+        /**
+         * Removes "entry" if it is still cached for "path" and its overall timeout is expired. Acquires the
+         * write lock, as it is called by lookups, which only hold the read lock.
+         */
+        void removeExpired(String path, MetadataCacheEntry entry, long currentTimeS) {
+            writeLock.lock();
+            try {
+                if (entries.get(path) == entry && entry.getTimeoutS() < currentTimeS) {
+                    remove(path);
+                }
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        /**
+         * Evicts the oldest entries until there is room for n new entries. An entry which was looked up since
+         * it became the newest entry gets a second chance and is moved to the tail instead. As every entry is
+         * moved at most once, this takes amortized constant time per evicted entry.
+         */
+        private void evict(int n) {
+            while (entries.size() > capacity - n && !entries.isEmpty()) {
+                Iterator<Map.Entry<String, MetadataCacheEntry>> it = entries.entrySet().iterator();
+                Map.Entry<String, MetadataCacheEntry> oldest = it.next();
+                it.remove();
+
+                if (oldest.getValue().isReferenced()) {
+                    oldest.getValue().setReferenced(false);
+                    entries.put(oldest.getKey(), oldest.getValue());
+                    continue;
+                }
+
+                if (Logging.isDebug()) {
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this,
+                            "MetadataCache evict: Deleting one entry from cache; entries in segment: %s",
+                            entries.size());
+                }
+                pathIndex.remove(oldest.getKey());
             }
-            // get first element of keys of the LinkedHashMap "cache".
-            String path = cache.keySet().iterator().next();
-            cache.remove(path);
-            pathIndex.remove(path);
         }
     }
 }
@@ -33,6 +33,12 @@ public class MetadataCacheEntry {
     
     private listxattrResponse xattrs;
     
+    /**
+     * Set by lookups and cleared by the eviction of the {@link MetadataCache} segment, which gives a
+     * referenced entry a second chance. Lookups only hold the read lock of the segment, hence volatile.
+     */
+    private volatile boolean referenced;
+    
     
     protected Stat getStat() {
         return stat;
@@ -97,4 +103,12 @@ public class MetadataCacheEntry {
     protected void setXattrTimeoutS(long timeout) {
         this.xattrTimeoutS = timeout;
     }
+    
+    protected boolean isReferenced() {
+        return referenced;
+    }
+    
+    protected void setReferenced(boolean referenced) {
+        this.referenced = referenced;
+    }
 }
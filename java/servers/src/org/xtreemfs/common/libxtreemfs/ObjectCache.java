@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches the data of whole objects read by the file handles of a volume. The cache is bounded by a memory budget;
+ * if it is exceeded, the least recently used objects are evicted.
+ * <p>
+ * Entries are identified by the global file ID, a generation number and the object number. The generation of a
+ * file is kept by its {@link FileInfo} and increased whenever cached data of the file may have become outdated
+ * (local writes, truncates, new XLocSets). Entries of older generations are no longer found and age out of the
+ * cache.
+ * <p>
+ * An entry can be reserved before its data is available, e.g. by an asynchronous read-ahead. Readers of a
+ * reserved entry wait until the data was put or the reservation was aborted.
+ */
+public class ObjectCache {
+
+    private static class CachedObject {
+
+        /** The object's data, or null as long as the entry is reserved. */
+        byte[] data;
+
+        /** Number of bytes accounted for this entry. */
+        int    size;
+    }
+
+    private final long                              maxSize;
+
+    /**
+     * All entries in access order, i.e. the least recently used entry comes first.
+     */
+    // JCIP @GuardedBy("this")
+    private final LinkedHashMap<String, CachedObject> entries;
+
+    // JCIP @GuardedBy("this")
+    private long                                    size;
+
+    // JCIP @GuardedBy("this")
+    private long                                    hits;
+
+    // JCIP @GuardedBy("this")
+    private long                                    misses;
+
+    /**
+     * @param maxSize
+     *            maximum number of bytes of object data held by the cache
+     */
+    public ObjectCache(long maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<String, CachedObject>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the key of an object.
+     */
+    public static String getKey(String fileId, long generation, long objectNumber) {
+        return fileId + "/" + generation + "/" + objectNumber;
+    }
+
+    /**
+     * Returns the data of an object, waiting at most "timeoutMs" if the object is reserved.
+     *
+     * @return the cached data, or null if the object is not cached. The returned array must not be modified.
+     */
+    public synchronized byte[] get(String key, long timeoutMs) {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        CachedObject entry = entries.get(key);
+        while (entry != null && entry.data == null) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                break;
+            }
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            entry = entries.get(key);
+        }
+        if (entry == null || entry.data == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return entry.data;
+    }
+
+    /**
+     * Reserves an entry for an object whose data will be put later. Other objects are evicted if necessary.
+     *
+     * @return false if the object is already cached or reserved, or if the budget does not suffice
+     */
+    public synchronized boolean reserve(String key, int expectedSize) {
+        if (entries.containsKey(key) || !makeRoom(expectedSize)) {
+            return false;
+        }
+        CachedObject entry = new CachedObject();
+        entry.size = expectedSize;
+        entries.put(key, entry);
+        size += expectedSize;
+        return true;
+    }
+
+    /**
+     * Adds the data of an object to the cache, or fills a reserved entry. The array is kept by the cache and must
+     * not be modified afterwards. Empty objects, i.e. objects beyond the end of the file, are not cached.
+     */
+    public synchronized void put(String key, byte[] data) {
+        CachedObject entry = entries.remove(key);
+        if (entry != null) {
+            size -= entry.size;
+            if (entry.data == null) {
+                notifyAll();
+            }
+        }
+        if (data.length == 0 || !makeRoom(data.length)) {
+            return;
+        }
+        entry = new CachedObject();
+        entry.data = data;
+        entry.size = data.length;
+        entries.put(key, entry);
+        size += data.length;
+    }
+
+    /**
+     * Removes the reservation of an object whose data could not be retrieved.
+     */
+    public synchronized void abort(String key) {
+        CachedObject entry = entries.get(key);
+        if (entry != null && entry.data == null) {
+            entries.remove(key);
+            size -= entry.size;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+        notifyAll();
+    }
+
+    /**
+     * Evicts the least recently used objects with data until "required" bytes fit into the budget.
+     */
+    private boolean makeRoom(int required) {
+        if (required > maxSize) {
+            return false;
+        }
+        Iterator<Map.Entry<String, CachedObject>> it = entries.entrySet().iterator();
+        while (size + required > maxSize && it.hasNext()) {
+            CachedObject entry = it.next().getValue();
+            if (entry.data != null) {
+                it.remove();
+                size -= entry.size;
+            }
+        }
+        return size + required <= maxSize;
+    }
+
+    public synchronized long getSize() {
+        return size;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized int getNumEntries() {
+        return entries.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+}
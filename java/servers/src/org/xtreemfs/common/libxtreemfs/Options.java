@@ -8,6 +8,7 @@ package org.xtreemfs.common.libxtreemfs;
 
 import org.xtreemfs.foundation.SSLOptions;
 import org.xtreemfs.foundation.VersionManagement;
+import org.xtreemfs.foundation.pbrpc.client.ConnectionPolicy;
 
 /**
  * Represents all possible options for libxtreemfs.
@@ -40,6 +41,35 @@ public class Options {
      */
     private final int  maxWriteaheadRequests = 10;
 
+    /**
+     * Maximum number of object reads issued concurrently by a read request that spans several objects. 1 reads
+     * the objects one after another. Default: 8
+     */
+    private int        maxReadRequestsInFlight = 8;
+
+    /**
+     * Maximum number of bytes of object data cached per volume. 0 disables the object cache and read-ahead.
+     * Default: 0
+     */
+    private long       objectCacheSize       = 0;
+
+    /**
+     * Number of objects read ahead asynchronously once sequential reads of a file handle are detected. Requires
+     * the object cache. 0 disables read-ahead. Default: 4
+     */
+    private int        readAheadObjects      = 4;
+
+    /**
+     * Number of connections a volume keeps to each MRC and OSD. Requests sent over different connections may
+     * overtake each other. Default: 1
+     */
+    private int        connectionsPerServer  = 1;
+
+    /**
+     * Decides which connection to a server carries a request, if there are several. Default: ROUND_ROBIN
+     */
+    private ConnectionPolicy connectionPolicy = ConnectionPolicy.ROUND_ROBIN;
+
     /**
      * Number of retrieved entries per readdir request. Default: 1024
      */
@@ -246,6 +276,46 @@ public class Options {
         return maxWriteaheadRequests;
     }
 
+    public int getMaxReadRequestsInFlight() {
+        return maxReadRequestsInFlight;
+    }
+
+    public void setMaxReadRequestsInFlight(int maxReadRequestsInFlight) {
+        this.maxReadRequestsInFlight = maxReadRequestsInFlight;
+    }
+
+    public long getObjectCacheSize() {
+        return objectCacheSize;
+    }
+
+    public void setObjectCacheSize(long objectCacheSize) {
+        this.objectCacheSize = objectCacheSize;
+    }
+
+    public int getReadAheadObjects() {
+        return readAheadObjects;
+    }
+
+    public void setReadAheadObjects(int readAheadObjects) {
+        this.readAheadObjects = readAheadObjects;
+    }
+
+    public int getConnectionsPerServer() {
+        return connectionsPerServer;
+    }
+
+    public void setConnectionsPerServer(int connectionsPerServer) {
+        this.connectionsPerServer = connectionsPerServer;
+    }
+
+    public ConnectionPolicy getConnectionPolicy() {
+        return connectionPolicy;
+    }
+
+    public void setConnectionPolicy(ConnectionPolicy connectionPolicy) {
+        this.connectionPolicy = connectionPolicy;
+    }
+
     public int getReaddirChunkSize() {
         return readdirChunkSize;
     }
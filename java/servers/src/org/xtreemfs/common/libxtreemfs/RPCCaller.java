@@ -8,11 +8,14 @@ package org.xtreemfs.common.libxtreemfs;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.util.Timer;
+import java.util.TimerTask;
 
 import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
 import org.xtreemfs.common.libxtreemfs.exceptions.InternalServerErrorException;
 import org.xtreemfs.common.libxtreemfs.exceptions.InvalidViewException;
 import org.xtreemfs.common.libxtreemfs.exceptions.PosixErrorException;
+import org.xtreemfs.common.libxtreemfs.exceptions.UUIDIteratorListIsEmpyException;
 import org.xtreemfs.common.libxtreemfs.exceptions.XtreemFSException;
 import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.buffer.ReusableBuffer;
@@ -20,6 +23,7 @@ import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
 import org.xtreemfs.foundation.pbrpc.client.PBRPCException;
 import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponseAvailableListener;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
@@ -200,6 +204,217 @@ public class RPCCaller {
         return null;
     }
 
+    /**
+     * Non-blocking counterpart of syncCall. Sends the request and returns immediately. Errors are handled like by
+     * syncCall: redirects are followed at once, communication errors and internal server errors are retried after
+     * the retry delay, which is awaited with "timer" instead of a blocked thread. "callback" is notified of the
+     * response or of the final error, mostly by the network thread or the timer thread.
+     */
+    protected static <C, R extends Message> void asyncCall(SERVICES service, UserCredentials userCreds,
+            Auth auth, Options options, UUIDResolver uuidResolver, UUIDIterator it,
+            boolean uuidIteratorHasAddresses, int maxRetries, C callRequest, ReusableBuffer buffer,
+            CallGenerator<C, R> callGen, Timer timer, AsyncCallback<R> callback) {
+        new AsyncCall<C, R>(service, userCreds, auth, options, uuidResolver, it, uuidIteratorHasAddresses,
+                maxRetries, callRequest, buffer, callGen, timer, callback).send();
+    }
+
+    protected static <C, R extends Message> void asyncCall(SERVICES service, UserCredentials userCreds,
+            Auth auth, Options options, UUIDResolver uuidResolver, UUIDIterator it,
+            boolean uuidIteratorHasAddresses, C callRequest, CallGenerator<C, R> callGen, Timer timer,
+            AsyncCallback<R> callback) {
+        asyncCall(service, userCreds, auth, options, uuidResolver, it, uuidIteratorHasAddresses,
+                options.getMaxTries(), callRequest, null, callGen, timer, callback);
+    }
+
+    /**
+     * State of a call issued by asyncCall. Each attempt registers the call as listener of its response.
+     */
+    private static class AsyncCall<C, R extends Message> implements RPCResponseAvailableListener<R> {
+
+        private final SERVICES            service;
+
+        private final UserCredentials     userCreds;
+
+        private final Auth                auth;
+
+        private final Options             options;
+
+        private final UUIDResolver        uuidResolver;
+
+        private final UUIDIterator        it;
+
+        private final boolean             uuidIteratorHasAddresses;
+
+        private final C                   callRequest;
+
+        private final ReusableBuffer      buffer;
+
+        private final CallGenerator<C, R> callGen;
+
+        private final Timer               timer;
+
+        private final AsyncCallback<R>    callback;
+
+        private int                       maxTries;
+
+        private int                       attempt;
+
+        /**
+         * The server of the current attempt.
+         */
+        private String                    uuid;
+
+        AsyncCall(SERVICES service, UserCredentials userCreds, Auth auth, Options options,
+                UUIDResolver uuidResolver, UUIDIterator it, boolean uuidIteratorHasAddresses, int maxTries,
+                C callRequest, ReusableBuffer buffer, CallGenerator<C, R> callGen, Timer timer,
+                AsyncCallback<R> callback) {
+            this.service = service;
+            this.userCreds = userCreds;
+            this.auth = auth;
+            this.options = options;
+            this.uuidResolver = uuidResolver;
+            this.it = it;
+            this.uuidIteratorHasAddresses = uuidIteratorHasAddresses;
+            this.maxTries = maxTries;
+            this.callRequest = callRequest;
+            this.buffer = buffer;
+            this.callGen = callGen;
+            this.timer = timer;
+            this.callback = callback;
+        }
+
+        /**
+         * Sends the next attempt of the call.
+         */
+        void send() {
+            attempt++;
+
+            try {
+                uuid = it.getUUID();
+            } catch (UUIDIteratorListIsEmpyException e) {
+                callback.failed(e);
+                return;
+            }
+
+            RPCResponse<R> r;
+            try {
+                InetSocketAddress server;
+                if (uuidIteratorHasAddresses) {
+                    server = getInetSocketAddressFromAddress(uuid, service);
+                } else {
+                    String address = uuidResolver.uuidToAddress(uuid);
+                    server = getInetSocketAddressFromAddress(address, service);
+                }
+                r = callGen.executeCall(server, auth, userCreds, callRequest);
+            } catch (IOException ioe) {
+                it.markUUIDAsFailed(uuid);
+                handleError(ioe, true);
+                return;
+            }
+            r.registerListener(this);
+        }
+
+        @Override
+        public void responseAvailable(RPCResponse<R> r) {
+            R response;
+            try {
+                response = r.get();
+
+                // If the buffer is not null it should be filled with data piggybacked in the RPCResponse.
+                if (r.getData() != null) {
+                    try {
+                        if (buffer != null) {
+                            if (r.getData().remaining() > buffer.remaining()) {
+                                callback.failed(new IOException("received more data than requested"));
+                                return;
+                            }
+                            buffer.put(r.getData());
+                        }
+                    } finally {
+                        BufferPool.free(r.getData());
+                    }
+                }
+            } catch (PBRPCException pbe) {
+                if (pbe.getErrorType().equals(ErrorType.REDIRECT)) {
+                    assert (pbe.getRedirectToServerUUID() != null);
+                    if (Logging.isInfo()) {
+                        Logging.logMessage(Logging.LEVEL_INFO, Category.misc, pbe,
+                                "The server %s redirected to the current master: %s at attempt: %d",
+                                uuid, pbe.getRedirectToServerUUID(), attempt);
+                    }
+                    if (maxTries != 0 && attempt == maxTries) {
+                        // This was the last retry, but we give it another chance.
+                        maxTries++;
+                    }
+                    // Do a fast retry and do not delay until next attempt.
+                    it.markUUIDAsFailed(uuid);
+                    send();
+                    return;
+                }
+
+                boolean retry = false;
+                if (pbe.getErrorType().equals(ErrorType.IO_ERROR)
+                        || pbe.getErrorType().equals(ErrorType.INTERNAL_SERVER_ERROR)) {
+                    it.markUUIDAsFailed(uuid);
+                    retry = true;
+                }
+                handleError(pbe, retry);
+                return;
+            } catch (IOException ioe) {
+                it.markUUIDAsFailed(uuid);
+                handleError(ioe, true);
+                return;
+            } catch (InterruptedException ie) {
+                // Cannot happen as the response is available.
+                callback.failed(new IOException("interrupted while retrieving the response", ie));
+                return;
+            } finally {
+                r.freeBuffers();
+            }
+
+            callback.completed(response);
+        }
+
+        /**
+         * Retries the call after the retry delay if "retry" is set and attempts are left. Otherwise, the final
+         * error is passed to the callback.
+         */
+        private void handleError(IOException responseError, boolean retry) {
+            // Log only the first retry.
+            if (attempt == 1 && maxTries != 1) {
+                String retriesLeft = (maxTries == 0) ? ("infinite") : (String.valueOf(maxTries - attempt));
+                Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, responseError,
+                        "Got no response from %s, " + "retrying (%s attemps left, waiting at least %s seconds"
+                                + " between two attemps) Error was: %s", uuid, retriesLeft,
+                        options.getRetryDelay_s(), responseError.getMessage());
+            }
+
+            if (retry && (attempt < maxTries || maxTries == 0)) {
+                try {
+                    timer.schedule(new TimerTask() {
+                        @Override
+                        public void run() {
+                            send();
+                        }
+                    }, options.getRetryDelay_s() * 1000L);
+                    return;
+                } catch (IllegalStateException e) {
+                    // The timer was cancelled as the volume is shut down.
+                }
+            }
+
+            if (responseError instanceof PBRPCException) {
+                try {
+                    handleErrorAfterMaxTriesExceeded((PBRPCException) responseError, it);
+                } catch (IOException e) {
+                    callback.failed(e);
+                }
+            } else {
+                callback.failed(responseError);
+            }
+        }
+    }
+
     /**
      * Blocks the thread for delay_s seconds and throws an exception if interrupted.
      * 
@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
 
 import org.xtreemfs.common.ReplicaUpdatePolicies;
 import org.xtreemfs.common.libxtreemfs.exceptions.AddressToUUIDNotFoundException;
@@ -21,6 +22,7 @@ import org.xtreemfs.mrc.metadata.ReplicationPolicy;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.REPL_FLAG;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replicas;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatVFS;
@@ -175,6 +177,22 @@ public interface Volume {
     public FileHandle openFile(UserCredentials userCredentials, String path, int flags, int mode)
             throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Non-blocking version of {@link #openFile(UserCredentials, String, int, int)}. Returns immediately; the
+     * file handle is passed to "callback" and can be retrieved from the returned Future once the MRC did
+     * respond. Failed attempts are retried like by the blocking version, without occupying a thread.
+     * 
+     * SYSTEM_V_FCNTL_H_O_TRUNC is not supported and fails with POSIX_ERROR_EINVAL.
+     * 
+     * @param callback
+     *            Notified of the result, may be null. See {@link AsyncCallback} for the calling thread.
+     * 
+     * @remark Ownership is NOT transferred to the caller. Instead FileHandle.close() has to be called to
+     *         destroy the object.
+     */
+    public Future<FileHandle> openFileAsync(UserCredentials userCredentials, String path, int flags, int mode,
+            AsyncCallback<FileHandle> callback);
+
     /**
      * Truncates the file to "newFileSize" bytes.
      * 
@@ -208,6 +226,16 @@ public interface Volume {
     public Stat getAttr(UserCredentials userCredentials, String path) throws IOException,
             PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Non-blocking version of {@link #getAttr(UserCredentials, String)}. Cached attributes are returned at once,
+     * otherwise they are retrieved from the MRC without occupying a thread. If the file is open, its pending
+     * asynchronous writes are awaited by registering a completion action instead of blocking.
+     * 
+     * @param callback
+     *            Notified of the result, may be null. See {@link AsyncCallback} for the calling thread.
+     */
+    public Future<Stat> getAttrAsync(UserCredentials userCredentials, String path, AsyncCallback<Stat> callback);
+
     /**
      * Sets the attributes given by "stat" and specified in "toSet".
      * 
@@ -245,6 +273,66 @@ public interface Volume {
     public void unlink(UserCredentials userCredentials, String path) throws IOException,
             PosixErrorException, AddressToUUIDNotFoundException;
 
+    /**
+     * Creates the files "names" with the modes "mode" in the directory "directory". All files are created
+     * with a single request and database update at the MRC. Errors of individual files do not prevent the
+     * creation of the others and are reported in the results.
+     * 
+     * @param userCredentials
+     *            Name and Groups of the user.
+     * @param directory
+     *            Path to the directory.
+     * @param names
+     *            Names of the new files.
+     * @param mode
+     *            Permissions of the new files.
+     * @return One result per name, in the same order. The field "posix_errno" is set for files that could
+     *         not be created.
+     * 
+     * @throws AddressToUUIDNotFoundException
+     * @throws {@link IOException}
+     * @throws PosixErrorException
+     *             If the directory cannot be accessed.
+     */
+    public List<BatchResult> createFiles(UserCredentials userCredentials, String directory, List<String> names,
+            int mode) throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
+
+    /**
+     * Retrieves the attributes of the files or directories "paths" with a single request to the MRC.
+     * 
+     * @param userCredentials
+     *            Name and Groups of the user.
+     * @param paths
+     *            Paths to the files/directories.
+     * @return One result per path, in the same order. Either the field "stbuf" or, if the attributes could
+     *         not be retrieved, the field "posix_errno" is set.
+     * 
+     * @throws AddressToUUIDNotFoundException
+     * @throws {@link IOException}
+     * @throws PosixErrorException
+     */
+    public List<BatchResult> getAttrs(UserCredentials userCredentials, List<String> paths) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException;
+
+    /**
+     * Removes the files "paths" (deletes the entries at the MRC with a single request and database update,
+     * and all objects on the OSDs). Errors of individual files do not prevent the removal of the others and
+     * are reported in the results.
+     * 
+     * @param userCredentials
+     *            Name and Groups of the user.
+     * @param paths
+     *            Paths to the files.
+     * @return One result per path, in the same order. The field "posix_errno" is set for files that could
+     *         not be removed, and for removed files whose objects could not be deleted on all OSDs.
+     * 
+     * @throws AddressToUUIDNotFoundException
+     * @throws {@link IOException}
+     * @throws PosixErrorException
+     */
+    public List<BatchResult> unlinkFiles(UserCredentials userCredentials, List<String> paths)
+            throws IOException, PosixErrorException, AddressToUUIDNotFoundException;
+
     /**
      * Rename a file or directory "path" to "newPath".
      * 
@@ -340,6 +428,16 @@ public interface Volume {
             int count, boolean namesOnly) throws IOException, PosixErrorException,
             AddressToUUIDNotFoundException;
 
+    /**
+     * Non-blocking version of {@link #readDir(UserCredentials, String, int, int, boolean)}. Large listings are
+     * requested chunk by chunk; each chunk is requested once the previous one was received.
+     * 
+     * @param callback
+     *            Notified of the result, may be null. See {@link AsyncCallback} for the calling thread.
+     */
+    public Future<DirectoryEntries> readDirAsync(UserCredentials userCredentials, String path, int offset,
+            int count, boolean namesOnly, AsyncCallback<DirectoryEntries> callback);
+
     /**
      * Returns the list of extended attributes stored for "path" (Entries may be cached).
      * 
@@ -16,7 +16,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.Timer;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
 import org.xtreemfs.common.ReplicaUpdatePolicies;
@@ -49,6 +51,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Setattrs;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
@@ -80,11 +83,15 @@ import org.xtreemfs.pbrpc.generatedinterfaces.MRC.symlinkRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.timestampResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.unlinkRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.unlinkResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_suitable_osdsRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_suitable_osdsResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_get_xlocsetRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_addRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_replica_removeRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceClient;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSD.unlink_osd_Request;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceClient;
@@ -165,6 +172,11 @@ public class VolumeImplementation implements Volume, AdminVolume {
      */
     private final MetadataCache                             metadataCache;
 
+    /**
+     * Caches the data of objects read from the OSDs, or null if disabled.
+     */
+    private final ObjectCache                               objectCache;
+
     /**
      * XCap renewal thread to renew Xcap periodically.
      */
@@ -175,6 +187,11 @@ public class VolumeImplementation implements Volume, AdminVolume {
      */
     private PeriodicFileSizeUpdateThread              fileSizeUpdateThread;
 
+    /**
+     * Timer of the asynchronous operations, which delays their retries.
+     */
+    private Timer                                     asyncTimer;
+
     /**
      * Maps a StripingPolicyType to a StripeTranslator. Should be filled with all possible StripingPolicys.
      */
@@ -204,6 +221,8 @@ public class VolumeImplementation implements Volume, AdminVolume {
         this.authBogus = RPCAuthentication.authNone;
 
         this.metadataCache = new MetadataCache(options.getMetadataCacheSize(), options.getMetadataCacheTTLs());
+        this.objectCache = (options.getObjectCacheSize() > 0) ? new ObjectCache(options.getObjectCacheSize())
+                : null;
 
         // register all stripe translators
         this.stripeTranslators = new HashMap<StripingPolicyType, StripeTranslator>();
@@ -225,6 +244,8 @@ public class VolumeImplementation implements Volume, AdminVolume {
     public void start(boolean startThreadsAsDaemons) throws IOException {
         networkClient = new RPCNIOSocketClient(sslOptions, volumeOptions.getRequestTimeout_s() * 1000,
                 volumeOptions.getLingerTimeout_s() * 1000, "Volume", startThreadsAsDaemons);
+        networkClient.setConnectionsPerEndpoint(volumeOptions.getConnectionsPerServer(),
+                volumeOptions.getConnectionPolicy());
         networkClient.start();
         try {
             networkClient.waitForStartup();
@@ -244,6 +265,8 @@ public class VolumeImplementation implements Volume, AdminVolume {
         xcapRenewalThread = new PeriodicXcapRenewalThread(this, startThreadsAsDaemons);
         xcapRenewalThread.start();
 
+        asyncTimer = new Timer("Volume async operations", startThreadsAsDaemons);
+
     }
 
     /*
@@ -251,6 +274,13 @@ public class VolumeImplementation implements Volume, AdminVolume {
      * 
      * @see org.xtreemfs.common.libxtreemfs.Volume#internalShutdown()
      */
+    /**
+     * Returns the timer of the asynchronous operations.
+     */
+    Timer getAsyncTimer() {
+        return asyncTimer;
+    }
+
     @Override
     public void internalShutdown() {
         // Stop periodic threads
@@ -264,9 +294,16 @@ public class VolumeImplementation implements Volume, AdminVolume {
             e.printStackTrace();
         }
 
+        // Pending retries of asynchronous operations are discarded.
+        asyncTimer.cancel();
+
         // There must no FileInfo left in "openFileTable".
         assert (openFileTable.size() == 0);
 
+        if (objectCache != null) {
+            objectCache.clear();
+        }
+
         // Shutdown network client.
         networkClient.shutdown();
         try {
@@ -477,28 +514,109 @@ public class VolumeImplementation implements Volume, AdminVolume {
      */
     public AdminFileHandle openFile(UserCredentials userCredentials, String path, int flags, int mode,
             int truncateNewFileSize) throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
-        boolean asyncWritesEnabled = (volumeOptions.getMaxWriteahead() > 0);
+        openRequest request = openRequest.newBuilder().setVolumeName(volumeName).setPath(path)
+                .setFlags(flags).setMode(mode).setAttributes(0).build();
+
+        openResponse response = RPCCaller.<openRequest, openResponse> syncCall(SERVICES.MRC, userCredentials,
+                authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false, request,
+                new CallGenerator<openRequest, openResponse>() {
+                    @Override
+                    public RPCResponse<openResponse> executeCall(InetSocketAddress server, Auth authHeader,
+                            UserCredentials userCreds, openRequest input) throws IOException {
+                        return mrcServiceClient.open(server, authHeader, userCreds, input);
+                    }
+                });
+
+        FileHandleImplementation fileHandle = createFileHandle(path, flags, response);
+
+        // If O_TRUNC was set, go on processing the truncate request.
+        if ((flags & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber()) > 0) {
+
+            // Update mtime and ctime of the file if O_TRUNC was set.
+            metadataCache.updateStatTime(path, response.getTimestampS(), Setattrs.SETATTR_CTIME.getNumber()
+                    | Setattrs.SETATTR_MTIME.getNumber());
 
-        if ((SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_SYNC.getNumber() & flags) > 0) {
             if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "open called with"
-                        + " O_SYNC, async writes were disabled");
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "open called with O_TRUNK.");
+            }
+
+            try {
+                fileHandle.truncatePhaseTwoAndThree(userCredentials, truncateNewFileSize, false);
+            } catch (XtreemFSException e) {
+                // Truncate did fail, close file again
+                // TODO: Ask what should happen if other exception is thrown.
+                fileHandle.close();
+                throw e;
             }
-            asyncWritesEnabled = false;
+        }
+        return fileHandle;
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#openFileAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String, int, int,
+     * org.xtreemfs.common.libxtreemfs.AsyncCallback)
+     */
+    @Override
+    public Future<FileHandle> openFileAsync(UserCredentials userCredentials, final String path, final int flags,
+            int mode, AsyncCallback<FileHandle> callback) {
+        final AsyncResult<FileHandle> result = new AsyncResult<FileHandle>(callback);
+
+        if ((flags & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber()) > 0) {
+            result.failed(new PosixErrorException(POSIXErrno.POSIX_ERROR_EINVAL,
+                    "O_TRUNC is not supported by asynchronous opens of " + path));
+            return result;
         }
 
         openRequest request = openRequest.newBuilder().setVolumeName(volumeName).setPath(path)
                 .setFlags(flags).setMode(mode).setAttributes(0).build();
 
-        openResponse response = RPCCaller.<openRequest, openResponse> syncCall(SERVICES.MRC, userCredentials,
-                authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false, request,
-                new CallGenerator<openRequest, openResponse>() {
+        RPCCaller.<openRequest, openResponse> asyncCall(SERVICES.MRC, userCredentials, authBogus, volumeOptions,
+                uuidResolver, mrcUUIDIterator, false, request, new CallGenerator<openRequest, openResponse>() {
                     @Override
                     public RPCResponse<openResponse> executeCall(InetSocketAddress server, Auth authHeader,
                             UserCredentials userCreds, openRequest input) throws IOException {
                         return mrcServiceClient.open(server, authHeader, userCreds, input);
                     }
+                }, asyncTimer,
+                new AsyncCallback<openResponse>() {
+                    @Override
+                    public void completed(openResponse response) {
+                        FileHandle fileHandle;
+                        try {
+                            fileHandle = createFileHandle(path, flags, response);
+                        } catch (PosixErrorException e) {
+                            result.failed(e);
+                            return;
+                        }
+                        result.completed(fileHandle);
+                    }
+
+                    @Override
+                    public void failed(IOException error) {
+                        result.failed(error);
+                    }
                 });
+        return result;
+    }
+
+    /**
+     * Creates the file handle for the response of an open request, and updates the metadata cache if the file
+     * was created.
+     */
+    private FileHandleImplementation createFileHandle(String path, int flags, openResponse response)
+            throws PosixErrorException {
+        boolean asyncWritesEnabled = (volumeOptions.getMaxWriteahead() > 0);
+
+        if ((SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_SYNC.getNumber() & flags) > 0) {
+            if (Logging.isDebug()) {
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "open called with"
+                        + " O_SYNC, async writes were disabled");
+            }
+            asyncWritesEnabled = false;
+        }
 
         assert (response != null);
 
@@ -533,27 +651,6 @@ public class VolumeImplementation implements Volume, AdminVolume {
             // and update cached DirectoryEntries accordingly.
             metadataCache.invalidate(parentDir);
         }
-
-        // If O_TRUNC was set, go on processing the truncate request.
-        if ((flags & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber()) > 0) {
-
-            // Update mtime and ctime of the file if O_TRUNC was set.
-            metadataCache.updateStatTime(path, response.getTimestampS(), Setattrs.SETATTR_CTIME.getNumber()
-                    | Setattrs.SETATTR_MTIME.getNumber());
-
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, Category.misc, this, "open called with O_TRUNK.");
-            }
-
-            try {
-                fileHandle.truncatePhaseTwoAndThree(userCredentials, truncateNewFileSize, false);
-            } catch (XtreemFSException e) {
-                // Truncate did fail, close file again
-                // TODO: Ask what should happen if other exception is thrown.
-                fileHandle.close();
-                throw e;
-            }
-        }
         return fileHandle;
     }
 
@@ -616,6 +713,75 @@ public class VolumeImplementation implements Volume, AdminVolume {
         return stat;
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#getAttrAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String,
+     * org.xtreemfs.common.libxtreemfs.AsyncCallback)
+     */
+    @Override
+    public Future<Stat> getAttrAsync(UserCredentials userCredentials, final String path,
+            AsyncCallback<Stat> callback) {
+        final AsyncResult<Stat> result = new AsyncResult<Stat>(callback);
+
+        // Check if Stat object is cached.
+        Stat stat = metadataCache.getStat(path);
+        if (stat != null) {
+            completeGetAttrAsync(stat, result);
+            return result;
+        }
+
+        getattrRequest request = getattrRequest.newBuilder().setVolumeName(volumeName).setPath(path)
+                .setKnownEtag(0).build();
+
+        RPCCaller.<getattrRequest, getattrResponse> asyncCall(SERVICES.MRC, userCredentials, authBogus,
+                volumeOptions, uuidResolver, mrcUUIDIterator, false, request,
+                new CallGenerator<getattrRequest, getattrResponse>() {
+                    @Override
+                    public RPCResponse<getattrResponse> executeCall(InetSocketAddress server, Auth authHeader,
+                            UserCredentials userCreds, getattrRequest input) throws IOException {
+                        return mrcServiceClient.getattr(server, authHeader, userCreds, input);
+                    }
+                }, asyncTimer, new AsyncCallback<getattrResponse>() {
+                    @Override
+                    public void completed(getattrResponse response) {
+                        Stat stat = response.getStbuf();
+                        if (stat.getNlink() > 1) { // Do not cache hardlinks
+                            metadataCache.invalidate(path);
+                        } else {
+                            metadataCache.updateStat(path, stat);
+                        }
+                        completeGetAttrAsync(stat, result);
+                    }
+
+                    @Override
+                    public void failed(IOException error) {
+                        result.failed(error);
+                    }
+                });
+        return result;
+    }
+
+    /**
+     * Like getAttr(), merges "stat" with possibly newer information of the open file once its pending
+     * asynchronous writes have finished, and completes "result".
+     */
+    private void completeGetAttrAsync(final Stat stat, final AsyncResult<Stat> result) {
+        final FileInfo fileInfo = openFileTable.get(stat.getIno()); // Ino == fileId
+        if (fileInfo == null) {
+            result.completed(stat);
+            return;
+        }
+
+        fileInfo.runWhenPendingAsyncWritesCompleted(new Runnable() {
+            @Override
+            public void run() {
+                result.completed(fileInfo.mergeStatAndOSDWriteResponse(stat));
+            }
+        });
+    }
+
     private Stat getAttrHelper(UserCredentials userCredentials, String path) throws IOException,
             PosixErrorException, AddressToUUIDNotFoundException {
         // Check if Stat object is cached.
@@ -746,6 +912,139 @@ public class VolumeImplementation implements Volume, AdminVolume {
         }
     }
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#createFiles(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String, java.util.List, int)
+     */
+    @Override
+    public List<BatchResult> createFiles(UserCredentials userCredentials, String directory, List<String> names,
+            int mode) throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        xtreemfs_create_filesRequest request = xtreemfs_create_filesRequest.newBuilder().setVolumeName(volumeName)
+                .setPath(directory).addAllNames(names).setMode(mode).setAttributes(0).build();
+
+        xtreemfs_batchResponse response = RPCCaller.<xtreemfs_create_filesRequest, xtreemfs_batchResponse> syncCall(
+                SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                request, new CallGenerator<xtreemfs_create_filesRequest, xtreemfs_batchResponse>() {
+                    @Override
+                    public RPCResponse<xtreemfs_batchResponse> executeCall(InetSocketAddress server,
+                            Auth authHeader, UserCredentials userCreds, xtreemfs_create_filesRequest input)
+                            throws IOException {
+                        return mrcServiceClient.xtreemfs_create_files(server, authHeader, userCreds, input);
+                    }
+                });
+
+        assert (response != null);
+
+        // The ctime and mtime of the directory have changed and its cached
+        // entries are outdated.
+        metadataCache.invalidate(directory);
+
+        return response.getResultsList();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#getAttrs(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.util.List)
+     */
+    @Override
+    public List<BatchResult> getAttrs(UserCredentials userCredentials, List<String> paths) throws IOException,
+            PosixErrorException, AddressToUUIDNotFoundException {
+        xtreemfs_stat_filesRequest request = xtreemfs_stat_filesRequest.newBuilder().setVolumeName(volumeName)
+                .addAllPaths(paths).build();
+
+        xtreemfs_batchResponse response = RPCCaller.<xtreemfs_stat_filesRequest, xtreemfs_batchResponse> syncCall(
+                SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                request, new CallGenerator<xtreemfs_stat_filesRequest, xtreemfs_batchResponse>() {
+                    @Override
+                    public RPCResponse<xtreemfs_batchResponse> executeCall(InetSocketAddress server,
+                            Auth authHeader, UserCredentials userCreds, xtreemfs_stat_filesRequest input)
+                            throws IOException {
+                        return mrcServiceClient.xtreemfs_stat_files(server, authHeader, userCreds, input);
+                    }
+                });
+
+        assert (response != null);
+
+        List<BatchResult> results = new ArrayList<BatchResult>(response.getResultsList());
+        for (int i = 0; i < results.size(); i++) {
+            BatchResult result = results.get(i);
+            if (result.hasStbuf()) {
+                if (result.getStbuf().getNlink() > 1) { // Do not cache hardlinks
+                    metadataCache.invalidate(paths.get(i));
+                } else {
+                    metadataCache.updateStat(paths.get(i), result.getStbuf());
+                }
+            }
+        }
+
+        return response.getResultsList();
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#unlinkFiles(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.util.List)
+     */
+    @Override
+    public List<BatchResult> unlinkFiles(UserCredentials userCredentials, List<String> paths)
+            throws IOException, PosixErrorException, AddressToUUIDNotFoundException {
+        // 1. Delete files at MRC.
+        xtreemfs_unlink_filesRequest request = xtreemfs_unlink_filesRequest.newBuilder()
+                .setVolumeName(volumeName).addAllPaths(paths).build();
+
+        xtreemfs_batchResponse response = RPCCaller.<xtreemfs_unlink_filesRequest, xtreemfs_batchResponse> syncCall(
+                SERVICES.MRC, userCredentials, authBogus, volumeOptions, uuidResolver, mrcUUIDIterator, false,
+                request, new CallGenerator<xtreemfs_unlink_filesRequest, xtreemfs_batchResponse>() {
+                    @Override
+                    public RPCResponse<xtreemfs_batchResponse> executeCall(InetSocketAddress server,
+                            Auth authHeader, UserCredentials userCreds, xtreemfs_unlink_filesRequest input)
+                            throws IOException {
+                        return mrcServiceClient.xtreemfs_unlink_files(server, authHeader, userCreds, input);
+                    }
+                });
+
+        assert (response != null);
+
+        List<BatchResult> results = new ArrayList<BatchResult>(response.getResultsList());
+        for (int i = 0; i < results.size(); i++) {
+            BatchResult result = results.get(i);
+            if (result.hasPosixErrno()) {
+                continue;
+            }
+
+            // 2. Invalidate metadata cache
+            String path = paths.get(i);
+            String parentDir = Helper.resolveParentDirectory(path);
+            metadataCache.invalidate(path);
+            metadataCache.updateStatTime(parentDir, response.getTimestampS(), Setattrs.SETATTR_CTIME.getNumber()
+                    | Setattrs.SETATTR_MTIME.getNumber());
+            metadataCache.invalidateDirEntry(parentDir, Helper.getBasename(path));
+
+            // 3. Delete objects of all replicas on the OSDs. A failure is reported in the file's result, and
+            // does not prevent the objects of the other files from being deleted.
+            if (result.hasCreds()) {
+                try {
+                    unlinkAtOsd(result.getCreds(), path);
+                } catch (IOException e) {
+                    POSIXErrno errno = (e instanceof PosixErrorException) ? ((PosixErrorException) e)
+                            .getPosixError() : POSIXErrno.POSIX_ERROR_EIO;
+                    String errorMessage = "Could not delete the objects of " + path + " on the OSDs: "
+                            + e.getMessage();
+                    Logging.logMessage(Logging.LEVEL_ERROR, Category.misc, this, errorMessage);
+                    results.set(i, result.toBuilder().setPosixErrno(errno.getNumber())
+                            .setErrorMessage(errorMessage).build());
+                }
+            }
+        }
+
+        return results;
+    }
+
     private void unlinkAtOsd(FileCredentials fc, String path) throws IOException, PosixErrorException,
             AddressToUUIDNotFoundException {
         unlink_osd_Request request = unlink_osd_Request.newBuilder().setFileCredentials(fc)
@@ -977,12 +1276,7 @@ public class VolumeImplementation implements Volume, AdminVolume {
         for (int currentOffset = offset; currentOffset < offset + count; currentOffset += volumeOptions
                 .getReaddirChunkSize()) {
 
-            int limitDirEntriesCount = (currentOffset > offset + count) ? (currentOffset - offset - count)
-                    : volumeOptions.getReaddirChunkSize();
-
-            readdirRequest request = readdirRequest.newBuilder().setPath(path).setVolumeName(volumeName)
-                    .setNamesOnly(namesOnly).setKnownEtag(0).setSeenDirectoryEntriesCount(currentOffset)
-                    .setLimitDirectoryEntriesCount(limitDirEntriesCount).build();
+            readdirRequest request = buildReaddirRequest(path, offset, count, namesOnly, currentOffset);
 
             DirectoryEntries readDirResponse = RPCCaller.<readdirRequest, DirectoryEntries> syncCall(SERVICES.MRC,
                     userCredentials,
@@ -1006,6 +1300,91 @@ public class VolumeImplementation implements Volume, AdminVolume {
             }
         }
 
+        return cacheDirEntries(path, offset, count, namesOnly, dirEntriesBuilder);
+    }
+
+    /*
+     * (non-Javadoc)
+     * 
+     * @see org.xtreemfs.common.libxtreemfs.Volume#readDirAsync(org.xtreemfs.foundation
+     * .pbrpc.generatedinterfaces.RPC .UserCredentials, java.lang.String, int, int, boolean,
+     * org.xtreemfs.common.libxtreemfs.AsyncCallback)
+     */
+    @Override
+    public Future<DirectoryEntries> readDirAsync(UserCredentials userCredentials, String path, int offset,
+            int count, boolean namesOnly, AsyncCallback<DirectoryEntries> callback) {
+        AsyncResult<DirectoryEntries> result = new AsyncResult<DirectoryEntries>(callback);
+        if (count == 0) {
+            count = Integer.MAX_VALUE - offset - 1;
+        }
+
+        // Try to get DirectoryEntries from cache
+        DirectoryEntries cached = metadataCache.getDirEntries(path, offset, count);
+        if (cached != null) {
+            result.completed(cached);
+            return result;
+        }
+
+        readDirChunkAsync(userCredentials, path, offset, count, namesOnly, offset, DirectoryEntries.newBuilder(),
+                result);
+        return result;
+    }
+
+    /**
+     * Requests the chunk of directory entries starting at "currentOffset" and, once it is received, the next
+     * one, as readDir() does in its loop.
+     */
+    private void readDirChunkAsync(final UserCredentials userCredentials, final String path, final int offset,
+            final int count, final boolean namesOnly, final int currentOffset,
+            final DirectoryEntries.Builder dirEntriesBuilder, final AsyncResult<DirectoryEntries> result) {
+        readdirRequest request = buildReaddirRequest(path, offset, count, namesOnly, currentOffset);
+
+        RPCCaller.<readdirRequest, DirectoryEntries> asyncCall(SERVICES.MRC, userCredentials, authBogus,
+                volumeOptions, uuidResolver, mrcUUIDIterator, false, request,
+                new CallGenerator<readdirRequest, DirectoryEntries>() {
+                    @Override
+                    public RPCResponse<DirectoryEntries> executeCall(InetSocketAddress server, Auth authHeader,
+                            UserCredentials userCreds, readdirRequest input) throws IOException {
+                        return mrcServiceClient.readdir(server, authHeader, userCreds, input);
+                    }
+                }, asyncTimer, new AsyncCallback<DirectoryEntries>() {
+                    @Override
+                    public void completed(DirectoryEntries readDirResponse) {
+                        dirEntriesBuilder.addAllEntries(readDirResponse.getEntriesList());
+
+                        int nextOffset = currentOffset + volumeOptions.getReaddirChunkSize();
+                        // Stop if this is the last chunk.
+                        if (dirEntriesBuilder.getEntriesCount() < nextOffset || nextOffset >= offset + count) {
+                            result.completed(cacheDirEntries(path, offset, count, namesOnly, dirEntriesBuilder));
+                        } else {
+                            readDirChunkAsync(userCredentials, path, offset, count, namesOnly, nextOffset,
+                                    dirEntriesBuilder, result);
+                        }
+                    }
+
+                    @Override
+                    public void failed(IOException error) {
+                        result.failed(error);
+                    }
+                });
+    }
+
+    private readdirRequest buildReaddirRequest(String path, int offset, int count, boolean namesOnly,
+            int currentOffset) {
+        int limitDirEntriesCount = (currentOffset > offset + count) ? (currentOffset - offset - count)
+                : volumeOptions.getReaddirChunkSize();
+
+        return readdirRequest.newBuilder().setPath(path).setVolumeName(volumeName).setNamesOnly(namesOnly)
+                .setKnownEtag(0).setSeenDirectoryEntriesCount(currentOffset)
+                .setLimitDirectoryEntriesCount(limitDirEntriesCount).build();
+    }
+
+    /**
+     * Adds the stat buffers of the listed entries and, if it is the complete directory, the listing itself to
+     * the metadata cache.
+     */
+    private DirectoryEntries cacheDirEntries(String path, int offset, int count, boolean namesOnly,
+            DirectoryEntries.Builder dirEntriesBuilder) {
         // TODO: Merge possible pending file size updates of files into
         // the stat entries of listed files.
 
@@ -1035,7 +1414,7 @@ public class VolumeImplementation implements Volume, AdminVolume {
         // condition.
         // TODO: Set an upper bound of dentries, otherwise don't cache it.
 
-        result = dirEntriesBuilder.build();
+        DirectoryEntries result = dirEntriesBuilder.build();
 
         if (!namesOnly && offset == 0 && result.getEntriesCount() < count) {
             metadataCache.updateDirEntries(path, result);
@@ -1646,6 +2025,13 @@ public class VolumeImplementation implements Volume, AdminVolume {
         return this.metadataCache;
     }
 
+    /**
+     * Returns the cache for object data, or null if it is disabled.
+     */
+    protected ObjectCache getObjectCache() {
+        return this.objectCache;
+    }
+
     /*
      * (non-Javadoc)
      * 
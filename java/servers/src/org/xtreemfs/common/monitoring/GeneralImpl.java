@@ -14,6 +14,7 @@ import org.xtreemfs.babudb.BabuDBFactory;
 import org.xtreemfs.common.HeartbeatThread;
 import org.xtreemfs.common.monitoring.StatusMonitor.ServiceTypes;
 import org.xtreemfs.common.monitoring.generatedcode.General;
+import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIRServiceConstants;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceConstants;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceConstants;
@@ -220,4 +221,24 @@ public class GeneralImpl extends General {
         throw new SnmpStatusException("Internal error. Couldn't fetch values.");
     }
     
+    @Override
+    public Long getBufferPoolRequests() throws SnmpStatusException {
+        return BufferPool.getNumRequests();
+    }
+    
+    @Override
+    public Long getBufferPoolReuses() throws SnmpStatusException {
+        return BufferPool.getNumReuses();
+    }
+    
+    @Override
+    public Long getBufferPoolCreates() throws SnmpStatusException {
+        return BufferPool.getNumCreates();
+    }
+    
+    @Override
+    public Long getBufferPoolFallbacks() throws SnmpStatusException {
+        return BufferPool.getNumFallbacks();
+    }
+    
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import javax.management.MBeanServer;
 
 import org.xtreemfs.common.monitoring.StatusMonitor.ServiceTypes;
 import org.xtreemfs.common.monitoring.generatedcode.Osd;
+import org.xtreemfs.osd.storage.MetadataCache;
 
 import com.sun.management.snmp.SnmpStatusException;
 
@@ -201,4 +202,118 @@ public class OsdImpl extends Osd {
         return NumObjsRX;
     }
 
+    @Override
+    public Long getMetadataCacheHits() throws SnmpStatusException {
+        if (!statusMonitor.getInitiatingService().equals(ServiceTypes.OSD)) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchName);
+        }
+        if (statusMonitor.getMasterOSD() != null) {
+            return getMetadataCache().getHits();
+        }
+        return -1l;
+    }
+
+    @Override
+    public Long getMetadataCacheMisses() throws SnmpStatusException {
+        if (!statusMonitor.getInitiatingService().equals(ServiceTypes.OSD)) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchName);
+        }
+        if (statusMonitor.getMasterOSD() != null) {
+            return getMetadataCache().getMisses();
+        }
+        return -1l;
+    }
+
+    @Override
+    public Long getMetadataCacheEvictions() throws SnmpStatusException {
+        if (!statusMonitor.getInitiatingService().equals(ServiceTypes.OSD)) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchName);
+        }
+        if (statusMonitor.getMasterOSD() != null) {
+            return getMetadataCache().getEvictions();
+        }
+        return -1l;
+    }
+
+    @Override
+    public Long getMetadataCacheSize() throws SnmpStatusException {
+        if (!statusMonitor.getInitiatingService().equals(ServiceTypes.OSD)) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchName);
+        }
+        if (statusMonitor.getMasterOSD() != null) {
+            return getMetadataCache().getSize();
+        }
+        return -1l;
+    }
+
+    @Override
+    public Long getMetadataLoads() throws SnmpStatusException {
+        if (!statusMonitor.getInitiatingService().equals(ServiceTypes.OSD)) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchName);
+        }
+        if (statusMonitor.getMasterOSD() != null) {
+            return getMetadataCache().getLoads();
+        }
+        return -1l;
+    }
+
+    @Override
+    public Long getMetadataLoadTime() throws SnmpStatusException {
+        if (!statusMonitor.getInitiatingService().equals(ServiceTypes.OSD)) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchName);
+        }
+        if (statusMonitor.getMasterOSD() != null) {
+            return getMetadataCache().getLoadTimeNanos() / 1000;
+        }
+        return -1l;
+    }
+
+    @Override
+    public Integer getDeletionQueueLength() throws SnmpStatusException {
+        if (!statusMonitor.getInitiatingService().equals(ServiceTypes.OSD)) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchName);
+        }
+        if (statusMonitor.getMasterOSD() != null) {
+            return statusMonitor.getMasterOSD().getDeletionStage().getDeletionQueueLength();
+        }
+        return -1;
+    }
+
+    @Override
+    public Long getNumDeletedObjectFiles() throws SnmpStatusException {
+        if (!statusMonitor.getInitiatingService().equals(ServiceTypes.OSD)) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchName);
+        }
+        if (statusMonitor.getMasterOSD() != null) {
+            return statusMonitor.getMasterOSD().getDeletionStage().getNumObjectFilesDeleted();
+        }
+        return -1l;
+    }
+
+    @Override
+    public Long getDeletionReclaimedBytes() throws SnmpStatusException {
+        if (!statusMonitor.getInitiatingService().equals(ServiceTypes.OSD)) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchName);
+        }
+        if (statusMonitor.getMasterOSD() != null) {
+            return statusMonitor.getMasterOSD().getDeletionStage().getNumBytesReclaimed();
+        }
+        return -1l;
+    }
+
+    @Override
+    public Integer getDeletionRate() throws SnmpStatusException {
+        if (!statusMonitor.getInitiatingService().equals(ServiceTypes.OSD)) {
+            throw new SnmpStatusException(SnmpStatusException.noSuchName);
+        }
+        if (statusMonitor.getMasterOSD() != null) {
+            return statusMonitor.getMasterOSD().getDeletionStage().getDeletionRate();
+        }
+        return -1;
+    }
+
+    private MetadataCache getMetadataCache() {
+        return statusMonitor.getMasterOSD().getStorageStage().getStorageLayout().getMetadataCache();
+    }
+
 }
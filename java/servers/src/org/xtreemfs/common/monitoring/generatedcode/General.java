@@ -102,6 +102,30 @@ public class General implements GeneralMBean, Serializable {
      */
     protected Long JvmUsedMemory = new Long(1);
 
+    /**
+     * Variable for storing the value of "BufferPoolRequests".
+     * The variable is identified by: "1.3.6.1.4.1.38350.1.14".
+     */
+    protected Long BufferPoolRequests = new Long(1);
+
+    /**
+     * Variable for storing the value of "BufferPoolReuses".
+     * The variable is identified by: "1.3.6.1.4.1.38350.1.15".
+     */
+    protected Long BufferPoolReuses = new Long(1);
+
+    /**
+     * Variable for storing the value of "BufferPoolCreates".
+     * The variable is identified by: "1.3.6.1.4.1.38350.1.16".
+     */
+    protected Long BufferPoolCreates = new Long(1);
+
+    /**
+     * Variable for storing the value of "BufferPoolFallbacks".
+     * The variable is identified by: "1.3.6.1.4.1.38350.1.17".
+     */
+    protected Long BufferPoolFallbacks = new Long(1);
+
 
     /**
      * Constructor for the "General" group.
@@ -209,4 +233,32 @@ public class General implements GeneralMBean, Serializable {
         return JvmUsedMemory;
     }
 
+    /**
+     * Getter for the "BufferPoolRequests" variable.
+     */
+    public Long getBufferPoolRequests() throws SnmpStatusException {
+        return BufferPoolRequests;
+    }
+
+    /**
+     * Getter for the "BufferPoolReuses" variable.
+     */
+    public Long getBufferPoolReuses() throws SnmpStatusException {
+        return BufferPoolReuses;
+    }
+
+    /**
+     * Getter for the "BufferPoolCreates" variable.
+     */
+    public Long getBufferPoolCreates() throws SnmpStatusException {
+        return BufferPoolCreates;
+    }
+
+    /**
+     * Getter for the "BufferPoolFallbacks" variable.
+     */
+    public Long getBufferPoolFallbacks() throws SnmpStatusException {
+        return BufferPoolFallbacks;
+    }
+
 }
@@ -79,4 +79,24 @@ public interface GeneralMBean {
      */
     public Long getJvmUsedMemory() throws SnmpStatusException;
 
+    /**
+     * Getter for the "BufferPoolRequests" variable.
+     */
+    public Long getBufferPoolRequests() throws SnmpStatusException;
+
+    /**
+     * Getter for the "BufferPoolReuses" variable.
+     */
+    public Long getBufferPoolReuses() throws SnmpStatusException;
+
+    /**
+     * Getter for the "BufferPoolCreates" variable.
+     */
+    public Long getBufferPoolCreates() throws SnmpStatusException;
+
+    /**
+     * Getter for the "BufferPoolFallbacks" variable.
+     */
+    public Long getBufferPoolFallbacks() throws SnmpStatusException;
+
 }
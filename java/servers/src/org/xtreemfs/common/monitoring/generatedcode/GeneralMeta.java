@@ -64,6 +64,10 @@ public class GeneralMeta extends SnmpMibGroup
             registerObject(11);
             registerObject(10);
             registerObject(1);
+            registerObject(14);
+            registerObject(15);
+            registerObject(16);
+            registerObject(17);
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e.getMessage());
         }
@@ -114,6 +118,18 @@ public class GeneralMeta extends SnmpMibGroup
             case 1:
                 return new SnmpCounter64(node.getJvmUsedMemory());
 
+            case 14:
+                return new SnmpCounter64(node.getBufferPoolRequests());
+
+            case 15:
+                return new SnmpCounter64(node.getBufferPoolReuses());
+
+            case 16:
+                return new SnmpCounter64(node.getBufferPoolCreates());
+
+            case 17:
+                return new SnmpCounter64(node.getBufferPoolFallbacks());
+
             default:
                 break;
         }
@@ -165,6 +181,18 @@ public class GeneralMeta extends SnmpMibGroup
             case 1:
                 throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
 
+            case 14:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 15:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 16:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 17:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
             default:
                 break;
         }
@@ -216,6 +244,18 @@ public class GeneralMeta extends SnmpMibGroup
             case 1:
                 throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
 
+            case 14:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 15:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 16:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 17:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
             default:
                 throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
         }
@@ -286,6 +326,10 @@ public class GeneralMeta extends SnmpMibGroup
             case 11:
             case 10:
             case 1:
+            case 14:
+            case 15:
+            case 16:
+            case 17:
                 return true;
             default:
                 break;
@@ -312,6 +356,10 @@ public class GeneralMeta extends SnmpMibGroup
             case 11:
             case 10:
             case 1:
+            case 14:
+            case 15:
+            case 16:
+            case 17:
                 return true;
             default:
                 break;
@@ -334,6 +382,10 @@ public class GeneralMeta extends SnmpMibGroup
             case 2:
             case 10:
             case 1:
+            case 14:
+            case 15:
+            case 16:
+            case 17:
                 if (pduVersion==SnmpDefinitions.snmpVersionOne) return true;
                 break;
             default:
@@ -387,6 +439,18 @@ public class GeneralMeta extends SnmpMibGroup
             case 1:
                 return "JvmUsedMemory";
 
+            case 14:
+                return "BufferPoolRequests";
+
+            case 15:
+                return "BufferPoolReuses";
+
+            case 16:
+                return "BufferPoolCreates";
+
+            case 17:
+                return "BufferPoolFallbacks";
+
             default:
                 break;
         }
@@ -97,6 +97,66 @@ public class Osd implements OsdMBean, Serializable {
     protected Integer NumOpenFiles = new Integer(1);
 
 
+    /**
+     * Variable for storing the value of "MetadataCacheHits".
+     * The variable is identified by: "1.3.6.1.4.1.38350.4.13".
+     */
+    protected Long MetadataCacheHits = new Long(1);
+
+    /**
+     * Variable for storing the value of "MetadataCacheMisses".
+     * The variable is identified by: "1.3.6.1.4.1.38350.4.14".
+     */
+    protected Long MetadataCacheMisses = new Long(1);
+
+    /**
+     * Variable for storing the value of "MetadataCacheEvictions".
+     * The variable is identified by: "1.3.6.1.4.1.38350.4.15".
+     */
+    protected Long MetadataCacheEvictions = new Long(1);
+
+    /**
+     * Variable for storing the value of "MetadataCacheSize".
+     * The variable is identified by: "1.3.6.1.4.1.38350.4.16".
+     */
+    protected Long MetadataCacheSize = new Long(1);
+
+    /**
+     * Variable for storing the value of "MetadataLoads".
+     * The variable is identified by: "1.3.6.1.4.1.38350.4.17".
+     */
+    protected Long MetadataLoads = new Long(1);
+
+    /**
+     * Variable for storing the value of "MetadataLoadTime".
+     * The variable is identified by: "1.3.6.1.4.1.38350.4.18".
+     */
+    protected Long MetadataLoadTime = new Long(1);
+
+    /**
+     * Variable for storing the value of "DeletionQueueLength".
+     * The variable is identified by: "1.3.6.1.4.1.38350.4.19".
+     */
+    protected Integer DeletionQueueLength = new Integer(1);
+
+    /**
+     * Variable for storing the value of "NumDeletedObjectFiles".
+     * The variable is identified by: "1.3.6.1.4.1.38350.4.20".
+     */
+    protected Long NumDeletedObjectFiles = new Long(1);
+
+    /**
+     * Variable for storing the value of "DeletionReclaimedBytes".
+     * The variable is identified by: "1.3.6.1.4.1.38350.4.21".
+     */
+    protected Long DeletionReclaimedBytes = new Long(1);
+
+    /**
+     * Variable for storing the value of "DeletionRate".
+     * The variable is identified by: "1.3.6.1.4.1.38350.4.22".
+     */
+    protected Integer DeletionRate = new Integer(1);
+
     /**
      * Constructor for the "Osd" group.
      * If the group contains a table, the entries created through an SNMP SET will not be registered in Java DMK.
@@ -196,4 +256,74 @@ public class Osd implements OsdMBean, Serializable {
         return NumOpenFiles;
     }
 
+    /**
+     * Getter for the "MetadataCacheHits" variable.
+     */
+    public Long getMetadataCacheHits() throws SnmpStatusException {
+        return MetadataCacheHits;
+    }
+
+    /**
+     * Getter for the "MetadataCacheMisses" variable.
+     */
+    public Long getMetadataCacheMisses() throws SnmpStatusException {
+        return MetadataCacheMisses;
+    }
+
+    /**
+     * Getter for the "MetadataCacheEvictions" variable.
+     */
+    public Long getMetadataCacheEvictions() throws SnmpStatusException {
+        return MetadataCacheEvictions;
+    }
+
+    /**
+     * Getter for the "MetadataCacheSize" variable.
+     */
+    public Long getMetadataCacheSize() throws SnmpStatusException {
+        return MetadataCacheSize;
+    }
+
+    /**
+     * Getter for the "MetadataLoads" variable.
+     */
+    public Long getMetadataLoads() throws SnmpStatusException {
+        return MetadataLoads;
+    }
+
+    /**
+     * Getter for the "MetadataLoadTime" variable.
+     */
+    public Long getMetadataLoadTime() throws SnmpStatusException {
+        return MetadataLoadTime;
+    }
+
+    /**
+     * Getter for the "DeletionQueueLength" variable.
+     */
+    public Integer getDeletionQueueLength() throws SnmpStatusException {
+        return DeletionQueueLength;
+    }
+
+    /**
+     * Getter for the "NumDeletedObjectFiles" variable.
+     */
+    public Long getNumDeletedObjectFiles() throws SnmpStatusException {
+        return NumDeletedObjectFiles;
+    }
+
+    /**
+     * Getter for the "DeletionReclaimedBytes" variable.
+     */
+    public Long getDeletionReclaimedBytes() throws SnmpStatusException {
+        return DeletionReclaimedBytes;
+    }
+
+    /**
+     * Getter for the "DeletionRate" variable.
+     */
+    public Integer getDeletionRate() throws SnmpStatusException {
+        return DeletionRate;
+    }
+
 }
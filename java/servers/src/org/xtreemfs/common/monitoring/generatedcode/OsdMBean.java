@@ -74,4 +74,54 @@ public interface OsdMBean {
      */
     public Integer getNumOpenFiles() throws SnmpStatusException;
 
+    /**
+     * Getter for the "MetadataCacheHits" variable.
+     */
+    public Long getMetadataCacheHits() throws SnmpStatusException;
+
+    /**
+     * Getter for the "MetadataCacheMisses" variable.
+     */
+    public Long getMetadataCacheMisses() throws SnmpStatusException;
+
+    /**
+     * Getter for the "MetadataCacheEvictions" variable.
+     */
+    public Long getMetadataCacheEvictions() throws SnmpStatusException;
+
+    /**
+     * Getter for the "MetadataCacheSize" variable.
+     */
+    public Long getMetadataCacheSize() throws SnmpStatusException;
+
+    /**
+     * Getter for the "MetadataLoads" variable.
+     */
+    public Long getMetadataLoads() throws SnmpStatusException;
+
+    /**
+     * Getter for the "MetadataLoadTime" variable.
+     */
+    public Long getMetadataLoadTime() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DeletionQueueLength" variable.
+     */
+    public Integer getDeletionQueueLength() throws SnmpStatusException;
+
+    /**
+     * Getter for the "NumDeletedObjectFiles" variable.
+     */
+    public Long getNumDeletedObjectFiles() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DeletionReclaimedBytes" variable.
+     */
+    public Long getDeletionReclaimedBytes() throws SnmpStatusException;
+
+    /**
+     * Getter for the "DeletionRate" variable.
+     */
+    public Integer getDeletionRate() throws SnmpStatusException;
+
 }
@@ -63,6 +63,16 @@ public class OsdMeta extends SnmpMibGroup
             registerObject(11);
             registerObject(1);
             registerObject(10);
+            registerObject(13);
+            registerObject(14);
+            registerObject(15);
+            registerObject(16);
+            registerObject(17);
+            registerObject(18);
+            registerObject(19);
+            registerObject(20);
+            registerObject(21);
+            registerObject(22);
         } catch (IllegalAccessException e) {
             throw new RuntimeException(e.getMessage());
         }
@@ -110,6 +120,36 @@ public class OsdMeta extends SnmpMibGroup
             case 10:
                 return new SnmpInt(node.getNumOpenFiles());
 
+            case 13:
+                return new SnmpCounter64(node.getMetadataCacheHits());
+
+            case 14:
+                return new SnmpCounter64(node.getMetadataCacheMisses());
+
+            case 15:
+                return new SnmpCounter64(node.getMetadataCacheEvictions());
+
+            case 16:
+                return new SnmpCounter64(node.getMetadataCacheSize());
+
+            case 17:
+                return new SnmpCounter64(node.getMetadataLoads());
+
+            case 18:
+                return new SnmpCounter64(node.getMetadataLoadTime());
+
+            case 19:
+                return new SnmpInt(node.getDeletionQueueLength());
+
+            case 20:
+                return new SnmpCounter64(node.getNumDeletedObjectFiles());
+
+            case 21:
+                return new SnmpCounter64(node.getDeletionReclaimedBytes());
+
+            case 22:
+                return new SnmpInt(node.getDeletionRate());
+
             default:
                 break;
         }
@@ -158,6 +198,36 @@ public class OsdMeta extends SnmpMibGroup
             case 10:
                 throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
 
+            case 13:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 14:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 15:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 16:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 17:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 18:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 19:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 20:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 21:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 22:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
             default:
                 break;
         }
@@ -206,6 +276,36 @@ public class OsdMeta extends SnmpMibGroup
             case 10:
                 throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
 
+            case 13:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 14:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 15:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 16:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 17:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 18:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 19:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 20:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 21:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
+            case 22:
+                throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
+
             default:
                 throw new SnmpStatusException(SnmpStatusException.snmpRspNotWritable);
         }
@@ -275,6 +375,16 @@ public class OsdMeta extends SnmpMibGroup
             case 11:
             case 1:
             case 10:
+            case 13:
+            case 14:
+            case 15:
+            case 16:
+            case 17:
+            case 18:
+            case 19:
+            case 20:
+            case 21:
+            case 22:
                 return true;
             default:
                 break;
@@ -300,6 +410,16 @@ public class OsdMeta extends SnmpMibGroup
             case 11:
             case 1:
             case 10:
+            case 13:
+            case 14:
+            case 15:
+            case 16:
+            case 17:
+            case 18:
+            case 19:
+            case 20:
+            case 21:
+            case 22:
                 return true;
             default:
                 break;
@@ -325,6 +445,12 @@ public class OsdMeta extends SnmpMibGroup
             case 2:
             case 11:
             case 1:
+            case 13:
+            case 14:
+            case 15:
+            case 16:
+            case 17:
+            case 18:
                 if (pduVersion==SnmpDefinitions.snmpVersionOne) return true;
                 break;
             default:
@@ -375,6 +501,36 @@ public class OsdMeta extends SnmpMibGroup
             case 10:
                 return "NumOpenFiles";
 
+            case 13:
+                return "MetadataCacheHits";
+
+            case 14:
+                return "MetadataCacheMisses";
+
+            case 15:
+                return "MetadataCacheEvictions";
+
+            case 16:
+                return "MetadataCacheSize";
+
+            case 17:
+                return "MetadataLoads";
+
+            case 18:
+                return "MetadataLoadTime";
+
+            case 19:
+                return "DeletionQueueLength";
+
+            case 20:
+                return "NumDeletedObjectFiles";
+
+            case 21:
+                return "DeletionReclaimedBytes";
+
+            case 22:
+                return "DeletionRate";
+
             default:
                 break;
         }
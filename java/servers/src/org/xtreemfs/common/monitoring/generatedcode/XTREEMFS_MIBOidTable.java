@@ -43,6 +43,16 @@ public class XTREEMFS_MIBOidTable extends SnmpOidTableSupport implements Seriali
         new SnmpOidRecord("numDeletedFiles", "1.3.6.1.4.1.38350.4.11", "C64"),
         new SnmpOidRecord("numObjsRX", "1.3.6.1.4.1.38350.4.1", "C64"),
         new SnmpOidRecord("numOpenFiles", "1.3.6.1.4.1.38350.4.10", "I"),
+        new SnmpOidRecord("metadataCacheHits", "1.3.6.1.4.1.38350.4.13", "C64"),
+        new SnmpOidRecord("metadataCacheMisses", "1.3.6.1.4.1.38350.4.14", "C64"),
+        new SnmpOidRecord("metadataCacheEvictions", "1.3.6.1.4.1.38350.4.15", "C64"),
+        new SnmpOidRecord("metadataCacheSize", "1.3.6.1.4.1.38350.4.16", "C64"),
+        new SnmpOidRecord("metadataLoads", "1.3.6.1.4.1.38350.4.17", "C64"),
+        new SnmpOidRecord("metadataLoadTime", "1.3.6.1.4.1.38350.4.18", "C64"),
+        new SnmpOidRecord("deletionQueueLength", "1.3.6.1.4.1.38350.4.19", "I"),
+        new SnmpOidRecord("numDeletedObjectFiles", "1.3.6.1.4.1.38350.4.20", "C64"),
+        new SnmpOidRecord("deletionReclaimedBytes", "1.3.6.1.4.1.38350.4.21", "C64"),
+        new SnmpOidRecord("deletionRate", "1.3.6.1.4.1.38350.4.22", "I"),
         new SnmpOidRecord("volumeCount", "1.3.6.1.4.1.38350.3.1", "I"),
         new SnmpOidRecord("serviceCount", "1.3.6.1.4.1.38350.2.2", "I"),
         new SnmpOidRecord("addressMappingCount", "1.3.6.1.4.1.38350.2.1", "I"),
@@ -58,5 +68,9 @@ public class XTREEMFS_MIBOidTable extends SnmpOidTableSupport implements Seriali
         new SnmpOidRecord("jvmMaxMemory", "1.3.6.1.4.1.38350.1.2", "C64"),
         new SnmpOidRecord("isRunning", "1.3.6.1.4.1.38350.1.11", "S"),
         new SnmpOidRecord("currentTime", "1.3.6.1.4.1.38350.1.10", "C64"),
-        new SnmpOidRecord("jvmUsedMemory", "1.3.6.1.4.1.38350.1.1", "C64")    };
+        new SnmpOidRecord("jvmUsedMemory", "1.3.6.1.4.1.38350.1.1", "C64"),
+        new SnmpOidRecord("bufferPoolRequests", "1.3.6.1.4.1.38350.1.14", "C64"),
+        new SnmpOidRecord("bufferPoolReuses", "1.3.6.1.4.1.38350.1.15", "C64"),
+        new SnmpOidRecord("bufferPoolCreates", "1.3.6.1.4.1.38350.1.16", "C64"),
+        new SnmpOidRecord("bufferPoolFallbacks", "1.3.6.1.4.1.38350.1.17", "C64")    };
 }
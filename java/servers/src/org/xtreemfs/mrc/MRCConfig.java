@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Properties;
 
+import org.xtreemfs.common.Capability;
 import org.xtreemfs.common.config.ServiceConfig;
 import org.xtreemfs.mrc.stages.XLocSetCoordinator;
 
@@ -52,6 +53,7 @@ public class MRCConfig extends ServiceConfig {
             Parameter.POLICY_DIR,
             Parameter.CAPABILITY_SECRET,
             Parameter.CAPABILITY_TIMEOUT,
+            Parameter.CAPABILITY_SIGNATURE,
             Parameter.ADMIN_PASSWORD,
             Parameter.RENEW_TIMED_OUT_CAPS,
             Parameter.USE_SNMP,
@@ -62,7 +64,9 @@ public class MRCConfig extends ServiceConfig {
             Parameter.FAILOVER_WAIT,
             Parameter.USE_RENEWAL_SIGNAL,
             Parameter.USE_MULTIHOMING,
-            Parameter.FLEASE_LEASE_TIMEOUT_MS
+            Parameter.FLEASE_LEASE_TIMEOUT_MS,
+            Parameter.PROCESSING_READ_THREADS,
+            Parameter.MRC_METADATA_CACHE_SIZE
             };
     /*
      * @formatter:on
@@ -117,6 +121,14 @@ public class MRCConfig extends ServiceConfig {
     public int getCapabilityTimeout() {
         return (Integer) parameter.get(Parameter.CAPABILITY_TIMEOUT);
     }
+    
+    /**
+     * @return the scheme capabilities are signed with, see {@link Capability#SIGNATURE_MD5} and
+     *         {@link Capability#SIGNATURE_HMAC_SHA256}
+     */
+    public String getCapabilitySignature() {
+        return (String) parameter.get(Parameter.CAPABILITY_SIGNATURE);
+    }
 
     /**
      * @return the renewTimedOutCaps
@@ -140,6 +152,21 @@ public class MRCConfig extends ServiceConfig {
     public void checkConfig() {
         super.checkConfig(mrcParameter);
         checkMultihomingConfiguration();
+
+        if (getProcessingReadThreads() < 0) {
+            throw new RuntimeException(new IllegalArgumentException(Parameter.PROCESSING_READ_THREADS.getPropertyString()
+                    + " must not be negative"));
+        }
+
+        if (getMetadataCacheSize() < 0) {
+            throw new RuntimeException(new IllegalArgumentException(Parameter.MRC_METADATA_CACHE_SIZE.getPropertyString()
+                    + " must not be negative"));
+        }
+
+        if (!Capability.isSupportedSignatureScheme(getCapabilitySignature())) {
+            throw new RuntimeException(new IllegalArgumentException(Parameter.CAPABILITY_SIGNATURE.getPropertyString()
+                    + " must be " + Capability.SIGNATURE_MD5 + " or " + Capability.SIGNATURE_HMAC_SHA256));
+        }
     }
 
     /**
@@ -150,4 +177,18 @@ public class MRCConfig extends ServiceConfig {
     public int getFleaseLeaseToMS() {
         return (Integer) parameter.get(Parameter.FLEASE_LEASE_TIMEOUT_MS);
     }
+
+    /**
+     * @return the number of threads executing read-only operations in parallel to the processing stage
+     */
+    public int getProcessingReadThreads() {
+        return (Integer) parameter.get(Parameter.PROCESSING_READ_THREADS);
+    }
+
+    /**
+     * @return the maximum number of directory entries and file IDs cached per volume
+     */
+    public int getMetadataCacheSize() {
+        return (Integer) parameter.get(Parameter.MRC_METADATA_CACHE_SIZE);
+    }
 }
\ No newline at end of file
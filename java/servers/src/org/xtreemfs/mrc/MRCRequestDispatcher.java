@@ -64,7 +64,9 @@ import org.xtreemfs.mrc.database.DBAccessResultListener;
 import org.xtreemfs.mrc.database.StorageManager;
 import org.xtreemfs.mrc.database.VolumeInfo;
 import org.xtreemfs.mrc.database.VolumeManager;
+import org.xtreemfs.mrc.database.babudb.BabuDBStorageManager;
 import org.xtreemfs.mrc.database.babudb.BabuDBVolumeManager;
+import org.xtreemfs.mrc.database.babudb.MetadataCache;
 import org.xtreemfs.mrc.metadata.StripingPolicy;
 import org.xtreemfs.mrc.osdselection.OSDStatusManager;
 import org.xtreemfs.mrc.stages.OnCloseReplicationThread;
@@ -213,7 +215,7 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
         xLocSetCoordinator = new XLocSetCoordinator(this);
         xLocSetCoordinator.setLifeCycleListener(this);
 
-        procStage = new ProcessingStage(this);
+        procStage = new ProcessingStage(this, config.getProcessingReadThreads());
 
         volumeManager = new BabuDBVolumeManager(this, dbConfig);
         fileAccessManager = new FileAccessManager(volumeManager, policyContainer);
@@ -712,6 +714,20 @@ public class MRCRequestDispatcher implements RPCServerRequestListener, LifeCycle
 
                     volTableBuf.append("</td></tr><tr><td class=\"subtitle\">occupied disk space:</td><td>");
                     volTableBuf.append(OutputUtils.formatBytes(v.getVolumeSize()));
+
+                    StorageManager sMan = volumeManager.getStorageManager(v.getId());
+                    MetadataCache cache = sMan instanceof BabuDBStorageManager ? ((BabuDBStorageManager) sMan)
+                            .getMetadataCache() : null;
+                    if (cache != null) {
+                        long hits = cache.getHits();
+                        long lookups = hits + cache.getMisses();
+                        volTableBuf.append("</td></tr><tr><td class=\"subtitle\">metadata cache hits:</td><td>");
+                        volTableBuf.append(hits + " / " + lookups);
+                        if (lookups > 0)
+                            volTableBuf.append(String.format(" (%.1f%%)", 100.0 * hits / lookups));
+                        volTableBuf.append(", " + cache.getSize() + " entries");
+                    }
+
                     volTableBuf.append("</td></tr></table></td></tr>");
 
                     first = false;
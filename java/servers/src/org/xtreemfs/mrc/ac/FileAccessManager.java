@@ -8,9 +8,10 @@
 
 package org.xtreemfs.mrc.ac;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -62,7 +63,7 @@ public class FileAccessManager {
     
     private final VolumeManager                volMan;
     
-    private final Map<Short, FileAccessPolicy> policies;
+    private final ConcurrentMap<Short, FileAccessPolicy> policies;
     
     private MRCPolicyContainer                 policyContainer;
     
@@ -71,7 +72,8 @@ public class FileAccessManager {
         this.volMan = volMan;
         this.policyContainer = policyContainer;
         
-        policies = new HashMap<Short, FileAccessPolicy>();
+        // read-only operations may be executed in parallel
+        policies = new ConcurrentHashMap<Short, FileAccessPolicy>();
     }
     
     public void checkSearchPermission(StorageManager sMan, PathResolver path, String userId,
@@ -153,7 +155,11 @@ public class FileAccessManager {
         if (policy == null) {
             try {
                 policy = policyContainer.getFileAccessPolicy(policyId, volMan);
-                policies.put(policyId, policy);
+                if (policy != null) {
+                    FileAccessPolicy existing = policies.putIfAbsent(policyId, policy);
+                    if (existing != null)
+                        policy = existing;
+                }
             } catch (Exception exc) {
                 Logging.logMessage(Logging.LEVEL_WARN, Category.misc, this,
                     "could not load FileAccessPolicy with ID %d", policyId);
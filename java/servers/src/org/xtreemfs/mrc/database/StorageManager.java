@@ -140,6 +140,9 @@ public interface StorageManager {
     
     public DatabaseResultSet<FileMetadata> getChildren(long parentId, int seen, int num) throws DatabaseException;
     
+    public DatabaseResultSet<FileMetadata> getChildren(long parentId, String prevName, int num)
+        throws DatabaseException;
+    
     // handling snapshots
     
     public void createSnapshot(String snapName, long parentId, String dirName, boolean recursive)
@@ -8,6 +8,12 @@
 
 package org.xtreemfs.mrc.database.babudb;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.xtreemfs.babudb.api.database.Database;
 import org.xtreemfs.babudb.api.database.DatabaseInsertGroup;
 import org.xtreemfs.babudb.api.database.DatabaseRequestListener;
@@ -25,6 +31,16 @@ public class AtomicBabuDBUpdate implements AtomicDBUpdate {
     
     private Object                          context;
     
+    private MetadataCache                   cache;
+    
+    private List<Object>                    cacheKeys;
+    
+    /**
+     * values of the volume index added to the update, so that volume-wide
+     * counters can be changed several times within a single update
+     */
+    private Map<ByteBuffer, byte[]>         volumeValues;
+    
     // private List<Object[]> updates;
     //    
     // private String dbName;
@@ -42,28 +58,83 @@ public class AtomicBabuDBUpdate implements AtomicDBUpdate {
         // this.dbName = dbName;
     }
     
+    public AtomicBabuDBUpdate(Database database, DatabaseRequestListener<Object> listener, Object context,
+        MetadataCache cache) throws BabuDBException {
+        
+        this(database, listener, context);
+        
+        this.cache = cache;
+        if (cache != null)
+            cacheKeys = new ArrayList<Object>();
+    }
+    
     @Override
     public void addUpdate(Object... update) {
         ig.addInsert((Integer) update[0], (byte[]) update[1], (byte[]) update[2]);
+        if ((Integer) update[0] == BabuDBStorageManager.VOLUME_INDEX) {
+            if (volumeValues == null)
+                volumeValues = new HashMap<ByteBuffer, byte[]>();
+            volumeValues.put(ByteBuffer.wrap((byte[]) update[1]), (byte[]) update[2]);
+        }
+        if (cache != null)
+            MetadataCache.addAffectedKey((Integer) update[0], (byte[]) update[1], cacheKeys);
         // updates.add(update);
     }
     
     @Override
     public void execute() throws DatabaseException {
+        
+        // exclude the affected metadata from caching until the update has
+        // been applied
+        final boolean invalidate = cache != null && !cacheKeys.isEmpty();
+        if (invalidate)
+            cache.beginUpdate(cacheKeys);
+        
         try {
             
             // checkDBConsistency();
             
             if (listener != null) {
-                database.insert(ig, context).registerListener(listener);
+                
+                if (invalidate)
+                    database.insert(ig, context).registerListener(new DatabaseRequestListener<Object>() {
+                        
+                        @Override
+                        public void finished(Object result, Object context) {
+                            cache.endUpdate(cacheKeys);
+                            listener.finished(result, context);
+                        }
+                        
+                        @Override
+                        public void failed(BabuDBException error, Object context) {
+                            cache.endUpdate(cacheKeys);
+                            listener.failed(error, context);
+                        }
+                    });
+                else
+                    database.insert(ig, context).registerListener(listener);
+                
             } else
-                database.insert(ig, context).get();
+                try {
+                    database.insert(ig, context).get();
+                } finally {
+                    if (invalidate)
+                        cache.endUpdate(cacheKeys);
+                }
             
         } catch (Exception exc) {
             throw new DatabaseException(exc);
         }
     }
     
+    /**
+     * Returns the value of a key of the volume index that has been added to
+     * the update, or <code>null</code> if the key has not been added.
+     */
+    byte[] getVolumeValue(byte[] key) {
+        return volumeValues == null ? null : volumeValues.get(ByteBuffer.wrap(key));
+    }
+    
     public String toString() {
         return ig.toString();
     }
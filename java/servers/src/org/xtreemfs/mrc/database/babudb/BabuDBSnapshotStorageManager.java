@@ -172,6 +172,18 @@ public class BabuDBSnapshotStorageManager implements StorageManager {
         
     }
     
+    @Override
+    public DatabaseResultSet<FileMetadata> getChildren(long parentId, String prevName, int num)
+        throws DatabaseException {
+        
+        try {
+            return BabuDBStorageHelper.getChildren(database, parentId, prevName, num);
+        } catch (Exception exc) {
+            throw new DatabaseException(exc);
+        }
+        
+    }
+    
     @Override
     public StripingPolicy getDefaultStripingPolicy(long fileId) throws DatabaseException {
         
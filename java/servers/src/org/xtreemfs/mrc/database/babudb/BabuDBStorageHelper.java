@@ -62,6 +62,25 @@ public class BabuDBStorageHelper {
             remaining = num;
         }
         
+        public ChildrenIterator(DatabaseRO database, ResultSet<byte[], byte[]> it, String prevName, int num) {
+            
+            this.database = database;
+            this.it = it;
+            
+            this.keyBufs = new byte[BufferBackedFileMetadata.NUM_BUFFERS][];
+            this.valBufs = new byte[BufferBackedFileMetadata.NUM_BUFFERS][];
+            
+            // skip the records of the 'prevName' element
+            while (it.hasNext()) {
+                next = it.next();
+                if (!getFileName(next.getKey()).equals(prevName))
+                    break;
+                next = null;
+            }
+            
+            remaining = num;
+        }
+        
         @Override
         public boolean hasNext() {
             return (next != null || it.hasNext()) && remaining > 0;
@@ -75,7 +94,7 @@ public class BabuDBStorageHelper {
                 if (next == null)
                     next = it.next();
                 
-                final String currFileName = new String(next.getKey(), 8, next.getKey().length - 9);
+                final String currFileName = getFileName(next.getKey());
                 
                 if (prevFileName != null && !prevFileName.equals(currFileName)) {
                     assert (valBufs[FileMetadata.RC_METADATA] != null) : "*** DATABASE CORRUPTED *** incomplete file metadata";
@@ -140,6 +159,10 @@ public class BabuDBStorageHelper {
             it.free();
         }
         
+        private static String getFileName(byte[] key) {
+            return new String(key, 8, key.length - 9);
+        }
+        
     }
     
     static class XAttrIterator implements DatabaseResultSet<XAttr> {
@@ -544,6 +567,24 @@ public class BabuDBStorageHelper {
         return new ChildrenIterator(database, it, from, num);
     }
     
+    /**
+     * Returns an iterator over at most <code>num</code> children of the given
+     * directory that follow the child named <code>prevName</code>. Unlike
+     * skipping a number of children, the lookup starts directly at the
+     * position of <code>prevName</code> in the index, so that a large
+     * directory can be listed chunk by chunk in linear time.
+     */
+    public static ChildrenIterator getChildren(DatabaseRO database, long parentId, String prevName, int num)
+        throws BabuDBException {
+        
+        byte[] from = BabuDBStorageHelper.createFileKey(parentId, prevName, (byte) -1);
+        byte[] to = BabuDBStorageHelper.createFilePrefixKey(parentId + 1);
+        ResultSet<byte[], byte[]> it = database.rangeLookup(BabuDBStorageManager.FILE_INDEX, from, to, null)
+                .get();
+        
+        return new ChildrenIterator(database, it, prevName, num);
+    }
+    
     public static void getNestedFiles(List<FileMetadata> files, Database database, long dirId,
         boolean recursive) throws BabuDBException {
         
@@ -110,6 +110,8 @@ public class BabuDBStorageManager implements StorageManager {
     
     private final BabuDBVolumeInfo           volume;
     
+    private final MetadataCache              cache;
+    
     /**
      * Instantiates a storage manager by loading an existing volume database.
      * 
@@ -124,6 +126,7 @@ public class BabuDBStorageManager implements StorageManager {
         this.snapMan = dbs.getSnapshotManager();
         this.database = db;
         this.vcListeners = new LinkedList<VolumeChangeListener>();
+        this.cache = null;
         
         volume = new BabuDBVolumeInfo();
         volume.init(this);
@@ -140,11 +143,30 @@ public class BabuDBStorageManager implements StorageManager {
      *            the database
      */
     public BabuDBStorageManager(DatabaseManager dbMan, SnapshotManager sMan, Database db) throws DatabaseException {
+        this(dbMan, sMan, db, 0);
+    }
+    
+    /**
+     * Instantiates a storage manager by loading an existing volume database.
+     * 
+     * @param dbMan
+     *            the database manager
+     * @param sMan
+     *            the snapshot manager
+     * @param db
+     *            the database
+     * @param cacheSize
+     *            the maximum number of directory entries and file IDs to
+     *            cache, or 0 if no metadata is supposed to be cached
+     */
+    public BabuDBStorageManager(DatabaseManager dbMan, SnapshotManager sMan, Database db, int cacheSize)
+            throws DatabaseException {
         
         this.dbMan = dbMan;
         this.snapMan = sMan;
         this.database = db;
         this.vcListeners = new LinkedList<VolumeChangeListener>();
+        this.cache = cacheSize > 0 ? new MetadataCache(cacheSize) : null;
         
         volume = new BabuDBVolumeInfo();
         volume.init(this);
@@ -167,6 +189,7 @@ public class BabuDBStorageManager implements StorageManager {
         this.snapMan = dbs.getSnapshotManager();
         this.vcListeners = new LinkedList<VolumeChangeListener>();
         this.volume = new BabuDBVolumeInfo();
+        this.cache = null;
         
         TransactionalBabuDBUpdate update = new TransactionalBabuDBUpdate(dbMan);
         update.createDatabase(volumeId, 5);
@@ -213,6 +236,8 @@ public class BabuDBStorageManager implements StorageManager {
     public void deleteDatabase() throws DatabaseException {
         try {
             dbMan.deleteDatabase(database.getName());
+            if (cache != null)
+                cache.clear();
             notifyVolumeDelete(volume.getId());
         } catch (BabuDBException exc) {
             throw new DatabaseException(exc);
@@ -230,7 +255,7 @@ public class BabuDBStorageManager implements StorageManager {
             throws DatabaseException {
         try {
             return new AtomicBabuDBUpdate(database, listener == null ? null : new BabuDBRequestListenerWrapper<Object>(
-                    listener), context);
+                    listener), context, cache);
         } catch (BabuDBException exc) {
             throw new DatabaseException(exc);
         }
@@ -378,7 +403,7 @@ public class BabuDBStorageManager implements StorageManager {
         try {
             
             // retrieve the file metadata
-            BufferBackedFileMetadata file = BabuDBStorageHelper.getMetadata(database, parentId, fileName);
+            BufferBackedFileMetadata file = lookupMetadata(parentId, fileName);
             
             // determine and set the new link count
             short newLinkCount = (short) (file.getLinkCount() - 1);
@@ -412,7 +437,7 @@ public class BabuDBStorageManager implements StorageManager {
         try {
             
             // retrieve the file metadata
-            BufferBackedFileMetadata file = BabuDBStorageHelper.getMetadata(database, parentId, fileName);
+            BufferBackedFileMetadata file = lookupMetadata(parentId, fileName);
             
             // check whether there is only one link remaining
             short newLinkCount = (short) (file.getLinkCount() - 1);
@@ -525,6 +550,18 @@ public class BabuDBStorageManager implements StorageManager {
         
     }
     
+    @Override
+    public DatabaseResultSet<FileMetadata> getChildren(long parentId, String prevName, int num)
+        throws DatabaseException {
+        
+        try {
+            return BabuDBStorageHelper.getChildren(database, parentId, prevName, num);
+        } catch (Exception exc) {
+            throw new DatabaseException(exc);
+        }
+        
+    }
+    
     @Override
     public StripingPolicy getDefaultStripingPolicy(long fileId) throws DatabaseException {
         
@@ -581,6 +618,15 @@ public class BabuDBStorageManager implements StorageManager {
         
         try {
             
+            // if the file's directory entry is cached, look it up directly
+            long stamp = 0;
+            if (cache != null) {
+                MetadataCache.Dentry dentry = cache.getInode(fileId);
+                if (dentry != null)
+                    return getMetadata(dentry.parentId, dentry.fileName);
+                stamp = cache.getStamp();
+            }
+            
             // create the key for the file ID index lookup
             byte[] key = BabuDBStorageHelper.createFileIdIndexKey(fileId, (byte) -1);
             ByteBuffer.wrap(key).putLong(fileId);
@@ -603,6 +649,9 @@ public class BabuDBStorageManager implements StorageManager {
                     long parentId = ByteBuffer.wrap(curr.getValue()).getLong();
                     String fileName = new String(curr.getValue(), 8, curr.getValue().length - 8);
                     
+                    if (cache != null)
+                        cache.putInode(fileId, parentId, fileName, stamp);
+                    
                     return getMetadata(parentId, fileName);
                 }
                 
@@ -630,7 +679,7 @@ public class BabuDBStorageManager implements StorageManager {
     public FileMetadata getMetadata(final long parentId, final String fileName) throws DatabaseException {
         
         try {
-            return BabuDBStorageHelper.getMetadata(database, parentId, fileName);
+            return lookupMetadata(parentId, fileName);
         } catch (BabuDBException exc) {
             throw new DatabaseException(exc);
         }
@@ -760,7 +809,7 @@ public class BabuDBStorageManager implements StorageManager {
             
             long parentId = 0;
             for (int i = 0; i < md.length; i++) {
-                md[i] = BabuDBStorageHelper.getMetadata(database, parentId, path.getComp(i));
+                md[i] = lookupMetadata(parentId, path.getComp(i));
                 if (md[i] == null || i < md.length - 1 && !md[i].isDirectory()) {
                     md[i] = null;
                     return md;
@@ -991,9 +1040,19 @@ public class BabuDBStorageManager implements StorageManager {
         DBAdminHelper.dumpVolume(xmlWriter, this);
     }
     
+    /**
+     * Returns the metadata cache of the volume, or <code>null</code> if
+     * caching is disabled.
+     */
+    public MetadataCache getMetadataCache() {
+        return cache;
+    }
+    
     protected void updateVolumeSize(long diff, AtomicDBUpdate update) throws DatabaseException {
         
-        long newSize = getVolumeSize() + diff;
+        // take into account size changes made earlier in the same update
+        byte[] stagedBytes = getVolumeValue(VOL_SIZE_KEY, update);
+        long newSize = (stagedBytes != null ? ByteBuffer.wrap(stagedBytes).getLong(0) : getVolumeSize()) + diff;
         
         byte[] sizeBytes = new byte[8];
         ByteBuffer.wrap(sizeBytes).putLong(0, newSize);
@@ -1046,10 +1105,42 @@ public class BabuDBStorageManager implements StorageManager {
             listener.attributeSet(volId, key, value);
     }
     
+    /**
+     * Looks up the metadata of a file in the metadata cache and, if it is not
+     * cached, in the file index.
+     */
+    private BufferBackedFileMetadata lookupMetadata(long parentId, String fileName) throws BabuDBException {
+        
+        if (cache == null)
+            return BabuDBStorageHelper.getMetadata(database, parentId, fileName);
+        
+        byte[][] valBufs = cache.getDentry(parentId, fileName);
+        if (valBufs != null) {
+            byte[][] keyBufs = new byte[][] {
+                    BabuDBStorageHelper.createFileKey(parentId, fileName, FileMetadata.FC_METADATA),
+                    BabuDBStorageHelper.createFileKey(parentId, fileName, FileMetadata.RC_METADATA) };
+            return new BufferBackedFileMetadata(keyBufs, valBufs, FILE_INDEX);
+        }
+        
+        long stamp = cache.getStamp();
+        BufferBackedFileMetadata md = BabuDBStorageHelper.getMetadata(database, parentId, fileName);
+        
+        // only cache metadata from the file index, as hard links would also
+        // have to be invalidated when the metadata in the file ID index changes
+        if (md != null && md.getIndexId() == FILE_INDEX)
+            cache.putDentry(parentId, fileName, new byte[][] { md.getFCMetadataValue().clone(),
+                    md.getRCMetadata().getValue().clone() }, stamp);
+        
+        return md;
+    }
+    
     private void updateCount(byte[] key, boolean increment, AtomicDBUpdate update) throws DatabaseException {
         
         try {
-            byte[] countBytes = BabuDBStorageHelper.getVolumeMetadata(database, key);
+            // take into account count changes made earlier in the same update
+            byte[] stagedBytes = getVolumeValue(key, update);
+            byte[] countBytes = stagedBytes != null ? stagedBytes.clone() : BabuDBStorageHelper.getVolumeMetadata(
+                database, key);
             ByteBuffer countBuf = ByteBuffer.wrap(countBytes);
             countBuf.putLong(0, countBuf.getLong() + (increment ? 1 : -1));
             
@@ -1059,6 +1150,10 @@ public class BabuDBStorageManager implements StorageManager {
         }
     }
     
+    private static byte[] getVolumeValue(byte[] key, AtomicDBUpdate update) {
+        return update instanceof AtomicBabuDBUpdate ? ((AtomicBabuDBUpdate) update).getVolumeValue(key) : null;
+    }
+    
     private void initCount(byte[] key, AtomicDBUpdate update) {
         
         byte[] countBytes = new byte[Long.SIZE / 8];
@@ -84,6 +84,8 @@ public class BabuDBVolumeManager implements VolumeManager {
     
     private final AtomicBoolean                    waitLock;
     
+    private final int                              metadataCacheSize;
+    
     public BabuDBVolumeManager(MRCRequestDispatcher master, BabuDBConfig dbconfig) {
         initialized = new AtomicBoolean(false);
         volsById = Collections.synchronizedMap(new HashMap<String, StorageManager>());
@@ -91,6 +93,10 @@ public class BabuDBVolumeManager implements VolumeManager {
         listeners = new LinkedList<VolumeChangeListener>();
         config = dbconfig;
         waitLock = new AtomicBoolean(false);
+        
+        // replicated updates bypass the storage managers and could not
+        // invalidate cached metadata
+        metadataCacheSize = dbconfig.getPlugins().size() > 0 ? 0 : master.getConfig().getMetadataCacheSize();
     }
     
     /*
@@ -517,7 +523,8 @@ public class BabuDBVolumeManager implements VolumeManager {
             if (dbEntry.getKey().equals(VERSION_DB_NAME) || dbEntry.getKey().equals(SNAP_VERSIONS_DB_NAME))
                 continue;
             
-            BabuDBStorageManager sMan = new BabuDBStorageManager(dbMan, snapMan, dbEntry.getValue());
+            BabuDBStorageManager sMan = new BabuDBStorageManager(dbMan, snapMan, dbEntry.getValue(),
+                    metadataCacheSize);
             VolumeInfo vol = sMan.getVolumeInfo();
             
             volsById.put(vol.getId(), sMan);
@@ -567,7 +574,7 @@ public class BabuDBVolumeManager implements VolumeManager {
         try {
             
             BabuDBStorageManager sMan = new BabuDBStorageManager(dbMan, database.getSnapshotManager(),
-                    dbMan.getDatabase(volumeId));
+                    dbMan.getDatabase(volumeId), metadataCacheSize);
             
             VolumeInfo vol = sMan.getVolumeInfo();
             
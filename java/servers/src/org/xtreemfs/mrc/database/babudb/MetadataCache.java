@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.database.babudb;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.xtreemfs.foundation.LRUCache;
+
+/**
+ * A bounded cache for the metadata of a volume database, which saves the index
+ * lookups needed to resolve path components and file IDs.
+ * <p>
+ * The dentry cache maps a parent directory ID and a file name to the buffers
+ * of the file's metadata in the file index. The inode cache maps a file ID to
+ * the parent directory ID and name of the file, i.e. to its dentry. Hard-linked
+ * files, whose metadata resides in the file ID index, are not cached.
+ * <p>
+ * All modifications of the database are made through {@link AtomicBabuDBUpdate}
+ * s, which invalidate the affected entries when they are executed and again
+ * when the database has applied them. Between both points, the affected
+ * entries are not cached, so that a lookup that has read the database before
+ * the update was applied cannot cache an outdated entry. For the same reason,
+ * an entry is only added if no update has been started or completed since the
+ * lookup began, as indicated by the stamp obtained before the lookup.
+ * <p>
+ * The cache is thread-safe.
+ */
+public class MetadataCache {
+
+    private final LRUCache<Dentry, byte[][]> dentries;
+
+    private final LRUCache<Long, Dentry>     inodes;
+
+    /**
+     * number of updates in progress for the entries that are currently being
+     * modified
+     */
+    private final Map<Object, Integer>       pending;
+
+    /**
+     * incremented whenever an update starts or completes
+     */
+    private long                             stamp;
+
+    private long                             hits;
+
+    private long                             misses;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxEntries
+     *            the maximum number of dentries and inodes each
+     */
+    public MetadataCache(int maxEntries) {
+        dentries = new LRUCache<Dentry, byte[][]>(maxEntries);
+        inodes = new LRUCache<Long, Dentry>(maxEntries);
+        pending = new HashMap<Object, Integer>();
+    }
+
+    /**
+     * Returns a stamp that has to be passed when adding an entry that is
+     * looked up in the database afterwards.
+     */
+    public synchronized long getStamp() {
+        return stamp;
+    }
+
+    /**
+     * Returns the buffers of the file index entries of a file, i.e. the FC and
+     * RC metadata values, or <code>null</code> if they are not cached.
+     */
+    public synchronized byte[][] getDentry(long parentId, String fileName) {
+        byte[][] valBufs = dentries.get(new Dentry(parentId, fileName));
+        count(valBufs != null);
+        return valBufs;
+    }
+
+    public synchronized void putDentry(long parentId, String fileName, byte[][] valBufs, long stamp) {
+        Dentry key = new Dentry(parentId, fileName);
+        if (stamp == this.stamp && !pending.containsKey(key))
+            dentries.put(key, valBufs);
+    }
+
+    /**
+     * Returns the parent directory ID and name of the file with the given ID,
+     * or <code>null</code> if they are not cached.
+     */
+    public synchronized Dentry getInode(long fileId) {
+        Dentry dentry = inodes.get(fileId);
+        count(dentry != null);
+        return dentry;
+    }
+
+    public synchronized void putInode(long fileId, long parentId, String fileName, long stamp) {
+        if (stamp == this.stamp && !pending.containsKey(fileId))
+            inodes.put(fileId, new Dentry(parentId, fileName));
+    }
+
+    /**
+     * Determines the cache entry affected by an update of a key of the file
+     * index or file ID index, and adds it to <code>keys</code>. Updates of
+     * other indices are ignored.
+     */
+    static void addAffectedKey(int index, byte[] key, List<Object> keys) {
+        if (index == BabuDBStorageManager.FILE_INDEX)
+            keys.add(new Dentry(ByteBuffer.wrap(key).getLong(0), new String(key, 8, key.length - 9)));
+        else if (index == BabuDBStorageManager.FILE_ID_INDEX)
+            keys.add(ByteBuffer.wrap(key).getLong(0));
+    }
+
+    /**
+     * Invalidates the given entries and excludes them from caching until
+     * {@link #endUpdate(List)} has been invoked.
+     */
+    public synchronized void beginUpdate(List<Object> keys) {
+        stamp++;
+        for (Object key : keys) {
+            Integer count = pending.get(key);
+            pending.put(key, count == null ? 1 : count + 1);
+            invalidate(key);
+        }
+    }
+
+    /**
+     * Invalidates the given entries again once the update has been applied.
+     */
+    public synchronized void endUpdate(List<Object> keys) {
+        stamp++;
+        for (Object key : keys) {
+            Integer count = pending.get(key);
+            if (count == null || count == 1)
+                pending.remove(key);
+            else
+                pending.put(key, count - 1);
+            invalidate(key);
+        }
+    }
+
+    public synchronized void clear() {
+        stamp++;
+        dentries.clear();
+        inodes.clear();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized int getSize() {
+        return dentries.size() + inodes.size();
+    }
+
+    private void invalidate(Object key) {
+        if (key instanceof Dentry)
+            dentries.remove(key);
+        else
+            inodes.remove(key);
+    }
+
+    private void count(boolean hit) {
+        if (hit)
+            hits++;
+        else
+            misses++;
+    }
+
+    /**
+     * A directory entry, given by the ID of the parent directory and the file
+     * name.
+     */
+    public static final class Dentry {
+
+        public final long   parentId;
+
+        public final String fileName;
+
+        public Dentry(long parentId, String fileName) {
+            this.parentId = parentId;
+            this.fileName = fileName;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Dentry))
+                return false;
+            Dentry other = (Dentry) obj;
+            return parentId == other.parentId && fileName.equals(other.fileName);
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) (parentId ^ (parentId >>> 32)) * 31 + fileName.hashCode();
+        }
+    }
+
+}
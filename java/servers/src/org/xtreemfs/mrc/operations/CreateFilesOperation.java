@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.operations;
+
+import java.net.InetSocketAddress;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DatabaseException;
+import org.xtreemfs.mrc.database.DatabaseException.ExceptionType;
+import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.database.VolumeInfo;
+import org.xtreemfs.mrc.database.VolumeManager;
+import org.xtreemfs.mrc.metadata.FileMetadata;
+import org.xtreemfs.mrc.metadata.ReplicationPolicy;
+import org.xtreemfs.mrc.metadata.XLocList;
+import org.xtreemfs.mrc.utils.MRCHelper;
+import org.xtreemfs.mrc.utils.Path;
+import org.xtreemfs.mrc.utils.PathResolver;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest;
+
+/**
+ * Creates several files in a directory with a single database update. Like
+ * files created with 'open' and O_CREAT, the new files are assigned replicas
+ * right away.
+ */
+public class CreateFilesOperation extends MRCOperation {
+
+    public CreateFilesOperation(MRCRequestDispatcher master) {
+        super(master);
+    }
+
+    @Override
+    public void startRequest(MRCRequest rq) throws Throwable {
+
+        // perform master redirect if necessary
+        if (master.getReplMasterUUID() != null && !master.getReplMasterUUID().equals(master.getConfig().getUUID().toString()))
+            throw new DatabaseException(ExceptionType.REDIRECT);
+
+        final xtreemfs_create_filesRequest rqArgs = (xtreemfs_create_filesRequest) rq.getRequestArgs();
+
+        final VolumeManager vMan = master.getVolumeManager();
+        final FileAccessManager faMan = master.getFileAccessManager();
+
+        validateContext(rq);
+
+        Path p = new Path(rqArgs.getVolumeName(), rqArgs.getPath());
+
+        StorageManager sMan = vMan.getStorageManagerByName(p.getComp(0));
+        PathResolver res = new PathResolver(sMan, p);
+        VolumeInfo volume = sMan.getVolumeInfo();
+
+        // check whether the path prefix is searchable
+        faMan.checkSearchPermission(sMan, res, rq.getDetails().userId, rq.getDetails().superUser, rq
+                .getDetails().groupIds);
+
+        // check whether the directory exists
+        res.checkIfFileDoesNotExist();
+
+        FileMetadata dir = res.getFile();
+        if (!dir.isDirectory())
+            throw new UserException(POSIXErrno.POSIX_ERROR_ENOTDIR, "'" + p + "' is not a directory");
+
+        // check whether the directory grants write access
+        faMan.checkPermission(FileAccessManager.O_WRONLY, sMan, dir, res.getParentDirId(), rq.getDetails().userId,
+            rq.getDetails().superUser, rq.getDetails().groupIds);
+
+        // check if volume is full
+        long volumeQuota = volume.getVolumeQuota();
+        if (volumeQuota != 0 && volumeQuota <= volume.getVolumeSize())
+            throw new UserException(POSIXErrno.POSIX_ERROR_ENOSPC, "the volume's quota is reached");
+
+        if ((rqArgs.getMode() & GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFIFO.getNumber()) != 0)
+            throw new UserException(POSIXErrno.POSIX_ERROR_EIO, "FIFOs not supported");
+
+        // retrieve the default replication policy
+        ReplicationPolicy defaultReplPolicy = sMan.getDefaultReplicationPolicy(dir.getId());
+        if (defaultReplPolicy == null)
+            defaultReplPolicy = sMan.getDefaultReplicationPolicy(1);
+
+        AtomicDBUpdate update = sMan.createAtomicDBUpdate(master, rq);
+
+        // atime, ctime, mtime
+        int time = (int) (TimeSync.getGlobalTime() / 1000);
+
+        // the file IDs are assigned consecutively, as the last file ID is
+        // only updated in the database when the update is executed
+        long nextFileId = sMan.getNextFileId();
+        long lastFileId = -1;
+
+        // names of the files created by the request, which do not exist in
+        // the database yet
+        Set<String> created = new HashSet<String>();
+
+        xtreemfs_batchResponse.Builder response = xtreemfs_batchResponse.newBuilder();
+        for (String name : rqArgs.getNamesList()) {
+
+            try {
+
+                if (name.length() == 0 || name.indexOf('/') != -1)
+                    throw new UserException(POSIXErrno.POSIX_ERROR_EINVAL, "invalid file name: '" + name + "'");
+
+                if (created.contains(name) || sMan.getMetadata(dir.getId(), name) != null)
+                    throw new UserException(POSIXErrno.POSIX_ERROR_EEXIST, "file or directory '" + name
+                        + "' exists already");
+
+                // assign the replicas before creating the metadata, so that
+                // no file is created if no OSDs are available
+                XLocList xLocList = MRCHelper.createInitialXLocList(sMan, master.getOSDStatusManager(), volume,
+                    dir.getId(), p + "/" + name, ((InetSocketAddress) rq.getRPCRequest().getSenderAddress())
+                            .getAddress(), rqArgs.getCoordinates(), null, defaultReplPolicy);
+
+                // create the metadata object
+                FileMetadata file = sMan.createFile(nextFileId, dir.getId(), name, time, time, time, rq
+                        .getDetails().userId, rq.getDetails().groupIds.get(0), rqArgs.getMode(), rqArgs
+                        .getAttributes(), 0, false, 0, 0, update);
+
+                file.setXLocList(xLocList);
+                sMan.setMetadata(file, FileMetadata.RC_METADATA, update);
+
+                created.add(name);
+                lastFileId = nextFileId++;
+
+                response.addResults(BatchResult.getDefaultInstance());
+
+            } catch (UserException exc) {
+                response.addResults(MRCHelper.createErrorResult(exc));
+            }
+        }
+
+        if (lastFileId != -1) {
+
+            // set the file ID as the last one
+            sMan.setLastFileId(lastFileId, update);
+
+            // update POSIX timestamps of the directory
+            MRCHelper.updateFileTimes(res.getParentDirId(), dir, false, true, true, sMan, time, update);
+        }
+
+        // set the response
+        rq.setResponse(response.setTimestampS(time).build());
+
+        update.execute();
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.operations;
+
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.xtreemfs.common.Capability;
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.AtomicDBUpdate;
+import org.xtreemfs.mrc.database.DatabaseException;
+import org.xtreemfs.mrc.database.DatabaseException.ExceptionType;
+import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.database.VolumeInfo;
+import org.xtreemfs.mrc.database.VolumeManager;
+import org.xtreemfs.mrc.metadata.FileMetadata;
+import org.xtreemfs.mrc.metadata.XLocList;
+import org.xtreemfs.mrc.utils.Converter;
+import org.xtreemfs.mrc.utils.MRCHelper;
+import org.xtreemfs.mrc.utils.Path;
+import org.xtreemfs.mrc.utils.PathResolver;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SnapConfig;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest;
+
+/**
+ * Removes several files of a volume with a single database update. Like
+ * 'unlink', the operation returns the credentials needed to delete the files
+ * on the OSDs. Directories cannot be removed.
+ */
+public class DeleteFilesOperation extends MRCOperation {
+
+    public DeleteFilesOperation(MRCRequestDispatcher master) {
+        super(master);
+    }
+
+    @Override
+    public void startRequest(MRCRequest rq) throws Throwable {
+
+        // perform master redirect if necessary
+        if (master.getReplMasterUUID() != null && !master.getReplMasterUUID().equals(master.getConfig().getUUID().toString()))
+            throw new DatabaseException(ExceptionType.REDIRECT);
+
+        final xtreemfs_unlink_filesRequest rqArgs = (xtreemfs_unlink_filesRequest) rq.getRequestArgs();
+
+        final VolumeManager vMan = master.getVolumeManager();
+        final FileAccessManager faMan = master.getFileAccessManager();
+
+        validateContext(rq);
+
+        final StorageManager sMan = vMan.getStorageManagerByName(rqArgs.getVolumeName());
+        final VolumeInfo volume = sMan.getVolumeInfo();
+
+        AtomicDBUpdate update = sMan.createAtomicDBUpdate(master, rq);
+
+        int time = (int) (TimeSync.getGlobalTime() / 1000);
+
+        // entries removed by the request, which still exist in the database
+        Set<String> deleted = new HashSet<String>();
+
+        // IDs of the removed files with more than one link; as the link count
+        // is only updated in the database when the update is executed, no
+        // further link of such a file can be removed by the same request
+        Set<Long> linkedFileIds = new HashSet<Long>();
+
+        // parent directories, whose timestamps have to be updated
+        Map<Long, PathResolver> parentDirs = new HashMap<Long, PathResolver>();
+
+        xtreemfs_batchResponse.Builder response = xtreemfs_batchResponse.newBuilder();
+        for (String path : rqArgs.getPathsList()) {
+
+            try {
+
+                Path p = new Path(rqArgs.getVolumeName(), path);
+                PathResolver res = new PathResolver(sMan, p);
+
+                // check whether the path prefix is searchable
+                faMan.checkSearchPermission(sMan, res, rq.getDetails().userId, rq.getDetails().superUser, rq
+                        .getDetails().groupIds);
+
+                // check whether the parent directory grants write access
+                faMan.checkPermission(FileAccessManager.O_WRONLY, sMan, res.getParentDir(), 0,
+                    rq.getDetails().userId, rq.getDetails().superUser, rq.getDetails().groupIds);
+
+                // check whether the file exists
+                res.checkIfFileDoesNotExist();
+                String entry = res.getParentDirId() + "/" + res.getFileName();
+                if (deleted.contains(entry))
+                    throw new UserException(POSIXErrno.POSIX_ERROR_ENOENT, "path '" + p + "' does not exist");
+
+                FileMetadata file = res.getFile();
+
+                // check whether the entry itself can be deleted (this is e.g.
+                // important w/ POSIX access control if the sticky bit is set)
+                faMan.checkPermission(FileAccessManager.NON_POSIX_RM_MV_IN_DIR, sMan, file, res.getParentDirId(),
+                    rq.getDetails().userId, rq.getDetails().superUser, rq.getDetails().groupIds);
+
+                if (file.isDirectory())
+                    throw new UserException(POSIXErrno.POSIX_ERROR_EISDIR, "'" + p + "' is a directory");
+
+                if (linkedFileIds.contains(file.getId()))
+                    throw new UserException(POSIXErrno.POSIX_ERROR_EAGAIN, "another link to '" + p
+                        + "' has been removed by the same request, please retry");
+
+                BatchResult.Builder result = BatchResult.newBuilder();
+
+                // unlink the file; unless there are still links to the
+                // file, retrieve X-headers for file deletion on OSDs
+                sMan.delete(res.getParentDirId(), res.getFileName(), update);
+                if (file.getLinkCount() > 1) {
+                    linkedFileIds.add(file.getId());
+                    MRCHelper.updateFileTimes(res.getParentDirId(), file, false, true, false, sMan, time, update);
+                }
+
+                else {
+
+                    // create a deletion capability for the file
+                    Capability cap = new Capability(MRCHelper.createGlobalFileId(volume, file),
+                        FileAccessManager.NON_POSIX_DELETE, master.getConfig().getCapabilityTimeout(),
+                        Integer.MAX_VALUE, ((InetSocketAddress) rq.getRPCRequest().getSenderAddress())
+                                .getAddress().getHostAddress(), file.getEpoch(), false,
+                        !volume.isSnapshotsEnabled() ? SnapConfig.SNAP_CONFIG_SNAPS_DISABLED
+                            : volume.isSnapVolume() ? SnapConfig.SNAP_CONFIG_ACCESS_SNAP
+                                : SnapConfig.SNAP_CONFIG_ACCESS_CURRENT, volume.getCreationTime(), master
+                                .getConfig().getCapabilitySecret(), master.getConfig().getCapabilitySignature());
+
+                    // set the XCapability and XLocationsList headers
+                    XLocList xloc = file.getXLocList();
+                    if (xloc != null && xloc.getReplicaCount() > 0)
+                        result.setCreds(FileCredentials.newBuilder().setXcap(cap.getXCap()).setXlocs(
+                            Converter.xLocListToXLocSet(xloc)));
+                }
+
+                deleted.add(entry);
+                if (!parentDirs.containsKey(res.getParentDirId()))
+                    parentDirs.put(res.getParentDirId(), res);
+
+                response.addResults(result);
+
+            } catch (UserException exc) {
+                response.addResults(MRCHelper.createErrorResult(exc));
+            }
+        }
+
+        // update POSIX timestamps of the parent directories
+        for (PathResolver res : parentDirs.values())
+            MRCHelper.updateFileTimes(res.getParentsParentId(), res.getParentDir(), false, true, true, sMan, time,
+                update);
+
+        // set the response
+        rq.setResponse(response.setTimestampS(time).build());
+
+        update.execute();
+    }
+
+}
@@ -281,7 +281,7 @@ public class MoveOperation extends MRCOperation {
                                 .isSnapshotsEnabled() ? SnapConfig.SNAP_CONFIG_SNAPS_DISABLED : volume
                                 .isSnapVolume() ? SnapConfig.SNAP_CONFIG_ACCESS_SNAP
                             : SnapConfig.SNAP_CONFIG_ACCESS_CURRENT, volume.getCreationTime(), master
-                                .getConfig().getCapabilitySecret());
+                                .getConfig().getCapabilitySecret(), master.getConfig().getCapabilitySignature());
                     
                     creds = FileCredentials.newBuilder().setXcap(cap.getXCap()).setXlocs(
                         Converter.xLocListToXLocSet(target.getXLocList()));
@@ -9,7 +9,6 @@
 package org.xtreemfs.mrc.operations;
 
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.xtreemfs.common.Capability;
@@ -204,73 +203,9 @@ public class OpenOperation extends MRCOperation {
         // if no replicas have been assigned yet ...
         if ((xLocList == null || xLocList.getReplicaCount() == 0) && (create || write)) {
             
-            // if the file is supposed to be read-only replicated, create a
-            // non-replicated file and defer the replication until the file is
-            // closed
-            boolean singleReplica = defaultReplPolicy == null
-                || ReplicaUpdatePolicies.REPL_UPDATE_PC_NONE.equals(defaultReplPolicy.getName())
-                || replicateOnClose;
-            
-            if (singleReplica) {
-                
-                // create a replica with the default striping policy together
-                // with a set of feasible OSDs from the OSD status manager
-                XLoc replica = MRCHelper.createReplica(null, sMan, master.getOSDStatusManager(), volume, res
-                        .getParentDirId(), p.toString(), ((InetSocketAddress) rq.getRPCRequest()
-                        .getSenderAddress()).getAddress(), rqArgs.getCoordinates(), xLocList, 0);
-                
-                // integrate the new replica in the XLoc list
-                String[] osds = new String[replica.getOSDCount()];
-                for (int j = 0; j < osds.length; j++)
-                    osds[j] = replica.getOSD(j);
-                
-                List<XLoc> repls = new ArrayList<XLoc>();
-                repls.add(replica);
-                
-                // update the XLoc list with the new replica; this is
-                // necessary to ensure that its OSDs will be included when
-                // adding further replias in the following loop iterations
-                xLocList = sMan.createXLocList(repls.toArray(new XLoc[repls.size()]),
-                    ReplicaUpdatePolicies.REPL_UPDATE_PC_NONE, 0);
-                
-            }
-
-            // otherwise, create the requested number of replicas
-            else {
-                
-                // determine the number of replicas to be added
-                int numReplicas = 1;
-                if (defaultReplPolicy != null)
-                    numReplicas = defaultReplPolicy.getFactor();
-                
-                // assign as many new replicas as needed
-                List<XLoc> repls = new ArrayList<XLoc>();
-                for (int i = 0; i < numReplicas; i++) {
-                    
-                    // create a replica with the default striping policy
-                    // together
-                    // with a set of feasible OSDs from the OSD status manager
-                    XLoc replica = MRCHelper.createReplica(null, sMan, master.getOSDStatusManager(), volume,
-                        res.getParentDirId(), p.toString(), ((InetSocketAddress) rq.getRPCRequest()
-                                .getSenderAddress()).getAddress(), rqArgs.getCoordinates(), xLocList,
-                        defaultReplPolicy != null ? defaultReplPolicy.getFlags() : 0);
-                    
-                    // integrate the new replica in the XLoc list
-                    String[] osds = new String[replica.getOSDCount()];
-                    for (int j = 0; j < osds.length; j++)
-                        osds[j] = replica.getOSD(j);
-                    
-                    repls.add(replica);
-                    
-                    // update the XLoc list with the new replica; this is
-                    // necessary to ensure that its OSDs will be included when
-                    // adding further replias in the following loop iterations
-                    xLocList = sMan.createXLocList(repls.toArray(new XLoc[repls.size()]),
-                        defaultReplPolicy != null ? defaultReplPolicy.getName()
-                            : ReplicaUpdatePolicies.REPL_UPDATE_PC_NONE, 0);
-                }
-                
-            }
+            xLocList = MRCHelper.createInitialXLocList(sMan, master.getOSDStatusManager(), volume, res
+                    .getParentDirId(), p.toString(), ((InetSocketAddress) rq.getRPCRequest().getSenderAddress())
+                    .getAddress(), rqArgs.getCoordinates(), xLocList, defaultReplPolicy);
             
             // update the file's XLoc list
             file.setXLocList(xLocList);
@@ -302,7 +237,7 @@ public class OpenOperation extends MRCOperation {
                 .isSnapshotsEnabled() ? SnapConfig.SNAP_CONFIG_SNAPS_DISABLED
             : volume.isSnapVolume() ? SnapConfig.SNAP_CONFIG_ACCESS_SNAP
                 : SnapConfig.SNAP_CONFIG_ACCESS_CURRENT, volume.getCreationTime(), master.getConfig()
-                .getCapabilitySecret());
+                .getCapabilitySecret(), master.getConfig().getCapabilitySignature());
         
         if (Logging.isDebug())
             Logging
@@ -9,7 +9,9 @@
 package org.xtreemfs.mrc.operations;
 
 import java.io.File;
+import java.util.Map;
 
+import org.xtreemfs.foundation.LRUCache;
 import org.xtreemfs.foundation.TimeSync;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
@@ -25,11 +27,9 @@ import org.xtreemfs.mrc.database.StorageManager;
 import org.xtreemfs.mrc.database.VolumeInfo;
 import org.xtreemfs.mrc.database.VolumeManager;
 import org.xtreemfs.mrc.metadata.FileMetadata;
-import org.xtreemfs.mrc.metadata.XLocList;
 import org.xtreemfs.mrc.utils.MRCHelper;
 import org.xtreemfs.mrc.utils.Path;
 import org.xtreemfs.mrc.utils.PathResolver;
-import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntry;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
@@ -41,8 +41,24 @@ import org.xtreemfs.pbrpc.generatedinterfaces.MRC.readdirRequest;
  */
 public class ReadDirAndStatOperation extends MRCOperation {
     
+    /**
+     * maximum number of directory listings in progress for which a cursor is
+     * retained
+     */
+    private static final int          MAX_CURSORS = 1024;
+    
+    /**
+     * Maps the position at which a client will continue a chunked directory
+     * listing to the name of the last entry returned before. This allows the
+     * next chunk to be looked up directly instead of skipping all entries seen
+     * so far, which makes listing a large directory quadratic. Clients only
+     * send the number of entries seen, so the cursor is kept by the MRC.
+     */
+    private final Map<String, String> cursors;
+    
     public ReadDirAndStatOperation(MRCRequestDispatcher master) {
         super(master);
+        cursors = new LRUCache<String, String>(MAX_CURSORS);
     }
     
     @Override
@@ -145,12 +161,21 @@ public class ReadDirAndStatOperation extends MRCOperation {
                 dirContent.addEntries(entry);
             }
             
-            // get all children
-            DatabaseResultSet<FileMetadata> it = sMan.getChildren(res.getFile().getId(), seenEntries - 2, numEntries
-                - dirContent.getEntriesCount());
+            // get all children, starting after the last entry of the previous
+            // chunk if it is known
+            String prevName = null;
+            if (seenEntries > 2)
+                synchronized (cursors) {
+                    prevName = cursors.remove(getCursorKey(p.getComp(0), file.getId(), newEtag, seenEntries));
+                }
+            DatabaseResultSet<FileMetadata> it = prevName != null ? sMan.getChildren(file.getId(), prevName,
+                numEntries - dirContent.getEntriesCount()) : sMan.getChildren(file.getId(), seenEntries - 2,
+                numEntries - dirContent.getEntriesCount());
+            String lastName = null;
             while (it.hasNext()) {
                 
                 FileMetadata child = it.next();
+                lastName = child.getFileName();
                 if (child.getFileName().equals("")) {
                     Logging.logMessage(Logging.LEVEL_WARN, this, "WARNING: found nested %s w/ empty name", child
                             .isDirectory() ? "directory" : "file");
@@ -165,6 +190,13 @@ public class ReadDirAndStatOperation extends MRCOperation {
             }
             it.destroy();
             
+            // if the chunk is full, remember where to continue
+            if (lastName != null && dirContent.getEntriesCount() == numEntries && numEntries != Integer.MAX_VALUE)
+                synchronized (cursors) {
+                    cursors.put(getCursorKey(p.getComp(0), file.getId(), newEtag, (long) seenEntries + numEntries),
+                        lastName);
+                }
+            
         }
         
         // set the response
@@ -173,37 +205,13 @@ public class ReadDirAndStatOperation extends MRCOperation {
         update.execute();
     }
     
+    private static String getCursorKey(String volumeName, long dirId, long etag, long position) {
+        return volumeName + "/" + dirId + "/" + etag + "/" + position;
+    }
+    
     private Stat getStat(StorageManager sMan, FileAccessManager faMan, MRCRequest rq, VolumeInfo volume,
         FileMetadata file) throws DatabaseException, MRCException {
-        
-        // FIXME: merge w/ 'stat' operation
-        
-        String linkTarget = sMan.getSoftlinkTarget(file.getId());
-        int mode = faMan.getPosixAccessMode(sMan, file, rq.getDetails().userId, rq.getDetails().groupIds);
-        mode |= linkTarget != null ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFLNK.getNumber()
-            : file.isDirectory() ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFDIR.getNumber()
-                : ((file.getPerms() & GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFIFO.getNumber()) != 0) ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFIFO
-                        .getNumber()
-                    : GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFREG.getNumber();
-        long size = linkTarget != null ? linkTarget.length() : file.isDirectory() ? 0 : file.getSize();
-        int blkSize = 0;
-        if ((linkTarget == null) && (!file.isDirectory())) {
-            XLocList xlocList = file.getXLocList();
-            if ((xlocList != null) && (xlocList.getReplicaCount() > 0))
-                blkSize = xlocList.getReplica(0).getStripingPolicy().getStripeSize() * 1024;
-        }
-        
-        final long newEtag = file.getMtime() + file.getCtime();
-        
-        Stat stat = Stat.newBuilder().setDev(volume.getId().hashCode()).setIno(file.getId()).setMode(mode)
-                .setNlink(file.getLinkCount()).setUserId(file.getOwnerId()).setGroupId(
-                    file.getOwningGroupId()).setSize(size).setAtimeNs((long) file.getAtime() * (long) 1e9)
-                .setCtimeNs((long) file.getCtime() * (long) 1e9).setMtimeNs(
-                    (long) file.getMtime() * (long) 1e9).setBlksize(blkSize).setTruncateEpoch(
-                    file.isDirectory() ? 0 : file.getEpoch()).setAttributes((int) file.getW32Attrs())
-                .setEtag(newEtag).build();
-        
-        return stat;
+        return MRCHelper.createStat(sMan, faMan, rq.getDetails().userId, rq.getDetails().groupIds, volume, file);
     }
     
     public static void main(String[] args) throws Exception {
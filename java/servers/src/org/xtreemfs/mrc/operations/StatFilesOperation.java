@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.mrc.operations;
+
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.mrc.MRCRequest;
+import org.xtreemfs.mrc.MRCRequestDispatcher;
+import org.xtreemfs.mrc.UserException;
+import org.xtreemfs.mrc.ac.FileAccessManager;
+import org.xtreemfs.mrc.database.StorageManager;
+import org.xtreemfs.mrc.database.VolumeInfo;
+import org.xtreemfs.mrc.database.VolumeManager;
+import org.xtreemfs.mrc.utils.MRCHelper;
+import org.xtreemfs.mrc.utils.Path;
+import org.xtreemfs.mrc.utils.PathResolver;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest;
+
+/**
+ * Returns the attributes of several files or directories of a volume.
+ */
+public class StatFilesOperation extends MRCOperation {
+
+    public StatFilesOperation(MRCRequestDispatcher master) {
+        super(master);
+    }
+
+    @Override
+    public void startRequest(MRCRequest rq) throws Throwable {
+
+        final xtreemfs_stat_filesRequest rqArgs = (xtreemfs_stat_filesRequest) rq.getRequestArgs();
+
+        final VolumeManager vMan = master.getVolumeManager();
+        final FileAccessManager faMan = master.getFileAccessManager();
+
+        validateContext(rq);
+
+        final StorageManager sMan = vMan.getStorageManagerByName(rqArgs.getVolumeName());
+        final VolumeInfo volume = sMan.getVolumeInfo();
+
+        xtreemfs_batchResponse.Builder response = xtreemfs_batchResponse.newBuilder();
+        for (String path : rqArgs.getPathsList()) {
+
+            try {
+
+                Path p = new Path(rqArgs.getVolumeName(), path);
+                PathResolver res = new PathResolver(sMan, p);
+
+                // check whether the path prefix is searchable
+                faMan.checkSearchPermission(sMan, res, rq.getDetails().userId, rq.getDetails().superUser, rq
+                        .getDetails().groupIds);
+
+                // check whether file exists
+                res.checkIfFileDoesNotExist();
+
+                response.addResults(BatchResult.newBuilder().setStbuf(
+                    MRCHelper.createStat(sMan, faMan, rq.getDetails().userId, rq.getDetails().groupIds, volume,
+                        res.getFile())));
+
+            } catch (UserException exc) {
+                response.addResults(MRCHelper.createErrorResult(exc));
+            }
+        }
+
+        // set the response
+        rq.setResponse(response.setTimestampS((int) (TimeSync.getGlobalTime() / 1000)).build());
+
+        finishRequest(rq);
+    }
+
+}
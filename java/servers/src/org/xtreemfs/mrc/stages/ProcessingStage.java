@@ -9,11 +9,18 @@
 package org.xtreemfs.mrc.stages;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.xtreemfs.common.auth.AuthenticationException;
 import org.xtreemfs.common.auth.UserCredentials;
+import org.xtreemfs.foundation.LifeCycleListener;
+import org.xtreemfs.foundation.LifeCycleThread;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
@@ -35,9 +42,11 @@ import org.xtreemfs.mrc.operations.AddReplicaOperation;
 import org.xtreemfs.mrc.operations.CheckFileListOperation;
 import org.xtreemfs.mrc.operations.CheckpointOperation;
 import org.xtreemfs.mrc.operations.CreateDirOperation;
+import org.xtreemfs.mrc.operations.CreateFilesOperation;
 import org.xtreemfs.mrc.operations.CreateLinkOperation;
 import org.xtreemfs.mrc.operations.CreateSymLinkOperation;
 import org.xtreemfs.mrc.operations.CreateVolumeOperation;
+import org.xtreemfs.mrc.operations.DeleteFilesOperation;
 import org.xtreemfs.mrc.operations.DeleteOperation;
 import org.xtreemfs.mrc.operations.DeleteVolumeOperation;
 import org.xtreemfs.mrc.operations.DumpDBOperation;
@@ -66,6 +75,7 @@ import org.xtreemfs.mrc.operations.SetXAttrOperation;
 import org.xtreemfs.mrc.operations.SetattrOperation;
 import org.xtreemfs.mrc.operations.ShutdownOperation;
 import org.xtreemfs.mrc.operations.StatFSOperation;
+import org.xtreemfs.mrc.operations.StatFilesOperation;
 import org.xtreemfs.mrc.operations.StatOperation;
 import org.xtreemfs.mrc.operations.TruncateOperation;
 import org.xtreemfs.mrc.operations.UpdateFileSizeOperation;
@@ -74,6 +84,9 @@ import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceConstants;
 import com.google.protobuf.Descriptors.FieldDescriptor;
 
 /**
+ * Executes the MRC operations. All operations are executed one after another on the stage's thread, except for
+ * read-only operations if read threads are configured: these are executed by the read threads in parallel to
+ * each other and to the stage's thread.
  * 
  * @author bjko
  */
@@ -87,11 +100,32 @@ public class ProcessingStage extends MRCStage {
     
     private final Map<Integer, MRCOperation> operations;
 
-    private final Map<Integer, Integer>      _opCountMap;
+    private final Map<Integer, AtomicInteger> _opCountMap;
     
     private final boolean                    statisticsEnabled         = true;
     
+    /**
+     * IDs of the operations executed by the read threads
+     */
+    private final Set<Integer>               readOnlyOperations;
+    
+    /**
+     * queue containing the requests for the read threads
+     */
+    private final BlockingQueue<StageMethod> readQ;
+    
+    private final ReadThread[]               readThreads;
+    
     public ProcessingStage(MRCRequestDispatcher master) {
+        this(master, 0);
+    }
+    
+    /**
+     * @param numReadThreads
+     *            number of threads executing read-only operations in parallel, 0 executes all operations on
+     *            the stage's thread
+     */
+    public ProcessingStage(MRCRequestDispatcher master, int numReadThreads) {
         super("ProcSt");
         this.master = master;
         
@@ -100,10 +134,27 @@ public class ProcessingStage extends MRCStage {
         
         if (statisticsEnabled) {
             // initialize operations counter
-            _opCountMap = new HashMap<Integer, Integer>();
+            _opCountMap = new HashMap<Integer, AtomicInteger>();
             for (Integer i : operations.keySet())
-                _opCountMap.put(i, 0);
+                _opCountMap.put(i, new AtomicInteger(0));
         }
+        
+        readOnlyOperations = new HashSet<Integer>();
+        readOnlyOperations.add(MRCServiceConstants.PROC_ID_GETATTR);
+        readOnlyOperations.add(MRCServiceConstants.PROC_ID_ACCESS);
+        readOnlyOperations.add(MRCServiceConstants.PROC_ID_GETXATTR);
+        readOnlyOperations.add(MRCServiceConstants.PROC_ID_LISTXATTR);
+        readOnlyOperations.add(MRCServiceConstants.PROC_ID_READLINK);
+        readOnlyOperations.add(MRCServiceConstants.PROC_ID_STATVFS);
+        readOnlyOperations.add(MRCServiceConstants.PROC_ID_XTREEMFS_STAT_FILES);
+        // readdir updates the access time of the directory
+        if (master.getConfig().isNoAtime())
+            readOnlyOperations.add(MRCServiceConstants.PROC_ID_READDIR);
+        
+        readQ = new LinkedBlockingQueue<StageMethod>();
+        readThreads = new ReadThread[numReadThreads];
+        for (int i = 0; i < numReadThreads; i++)
+            readThreads[i] = new ReadThread(i);
     }
     
     public void installOperations() {
@@ -153,10 +204,76 @@ public class ProcessingStage extends MRCStage {
         operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_SET_READ_ONLY_XATTR, new SetReadOnlyXattrOperation(master));
         operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_GET_FILE_CREDENTIALS, new GetFileCredentialsOperation(master));
         operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_GET_XLOCSET, new GetXLocSetOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_CREATE_FILES, new CreateFilesOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_STAT_FILES, new StatFilesOperation(master));
+        operations.put(MRCServiceConstants.PROC_ID_XTREEMFS_UNLINK_FILES, new DeleteFilesOperation(master));
     }
     
     public Map<Integer, Integer> get_opCountMap() {
-        return _opCountMap;
+        Map<Integer, Integer> opCounts = new HashMap<Integer, Integer>();
+        for (Entry<Integer, AtomicInteger> entry : _opCountMap.entrySet())
+            opCounts.put(entry.getKey(), entry.getValue().get());
+        return opCounts;
+    }
+    
+    /**
+     * Enqueues a request. Requests for read-only operations are executed by the read threads, if there are
+     * any.
+     */
+    @Override
+    public void enqueueOperation(MRCRequest rq, int method, MRCStageCallbackInterface callback) {
+        if (readThreads.length > 0 && method == STAGEOP_PARSE_AND_EXECUTE
+            && readOnlyOperations.contains(rq.getRPCRequest().getHeader().getRequestHeader().getProcId()))
+            readQ.add(new StageMethod(rq, method, callback));
+        else
+            super.enqueueOperation(rq, method, callback);
+    }
+    
+    @Override
+    public int getQueueLength() {
+        return super.getQueueLength() + readQ.size();
+    }
+    
+    /**
+     * @return the number of threads executing read-only operations
+     */
+    public int getNumReadThreads() {
+        return readThreads.length;
+    }
+    
+    @Override
+    public void setLifeCycleListener(LifeCycleListener listener) {
+        super.setLifeCycleListener(listener);
+        for (ReadThread th : readThreads)
+            th.setLifeCycleListener(listener);
+    }
+    
+    @Override
+    public synchronized void start() {
+        for (ReadThread th : readThreads)
+            th.start();
+        super.start();
+    }
+    
+    @Override
+    public void shutdown() {
+        for (ReadThread th : readThreads)
+            th.shutdown();
+        super.shutdown();
+    }
+    
+    @Override
+    public void waitForStartup() throws Exception {
+        for (ReadThread th : readThreads)
+            th.waitForStartup();
+        super.waitForStartup();
+    }
+    
+    @Override
+    public void waitForShutdown() throws Exception {
+        for (ReadThread th : readThreads)
+            th.waitForShutdown();
+        super.waitForShutdown();
     }
     
 //    public String getOpName(int opId) {
@@ -214,7 +331,7 @@ public class ProcessingStage extends MRCStage {
                     .toString(), op.getClass().getSimpleName());
         
         if (statisticsEnabled) {
-            _opCountMap.put(rqHeader.getProcId(), _opCountMap.get(rqHeader.getProcId()) + 1);
+            _opCountMap.get(rqHeader.getProcId()).incrementAndGet();
         }
         
         // parse request arguments
@@ -375,4 +492,48 @@ public class ProcessingStage extends MRCStage {
         rq.getRPCRequest().sendRedirect(uuid);
     }
     
+    /**
+     * Executes read-only operations from the shared read queue.
+     */
+    private final class ReadThread extends LifeCycleThread {
+        
+        private volatile boolean quit;
+        
+        ReadThread(int id) {
+            super("ProcSt-R" + id);
+        }
+        
+        public void shutdown() {
+            this.quit = true;
+            this.interrupt();
+        }
+        
+        @Override
+        public void run() {
+            
+            notifyStarted();
+            
+            while (!quit) {
+                try {
+                    final StageMethod op = readQ.take();
+                    
+                    if (Logging.isDebug())
+                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.stage, this,
+                            "processing request XID=%d method %d", op.getRq().getRPCRequest().getHeader()
+                                    .getCallId(), op.getStageMethod());
+                    
+                    processMethod(op);
+                    
+                } catch (InterruptedException ex) {
+                    break;
+                } catch (Throwable ex) {
+                    this.notifyCrashed(ex);
+                    break;
+                }
+            }
+            
+            notifyStopped();
+        }
+    }
+    
 }
@@ -464,7 +464,7 @@ public class XLocSetCoordinator extends LifeCycleThread implements DBAccessResul
         String sharedSecret = master.getConfig().getCapabilitySecret();
 
         Capability cap = new Capability(fileId, accessMode, validity, expires, clientIdentity, epochNo,
-                replicateOnClose, snapConfig, snapTimestamp, sharedSecret);
+                replicateOnClose, snapConfig, snapTimestamp, sharedSecret, master.getConfig().getCapabilitySignature());
         return cap;
     }
 
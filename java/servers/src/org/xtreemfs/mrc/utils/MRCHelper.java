@@ -52,8 +52,11 @@ import org.xtreemfs.pbrpc.generatedinterfaces.DIR.Service;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceDataMap;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceSet;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.KeyValuePair;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
 
 public class MRCHelper {
     
@@ -252,6 +255,107 @@ public class MRCHelper {
         return sMan.createXLoc(stripingPolicy, osds, replFlags);
     }
     
+    /**
+     * Creates the POSIX attributes of a file or directory, as returned by
+     * 'readdir' and compound 'stat' requests.
+     */
+    public static Stat createStat(StorageManager sMan, FileAccessManager faMan, String userId,
+            List<String> groupIds, VolumeInfo volume, FileMetadata file) throws DatabaseException, MRCException {
+        
+        String linkTarget = sMan.getSoftlinkTarget(file.getId());
+        int mode = faMan.getPosixAccessMode(sMan, file, userId, groupIds);
+        mode |= linkTarget != null ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFLNK.getNumber()
+            : file.isDirectory() ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFDIR.getNumber()
+                : ((file.getPerms() & GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFIFO.getNumber()) != 0) ? GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFIFO
+                        .getNumber()
+                    : GlobalTypes.SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFREG.getNumber();
+        long size = linkTarget != null ? linkTarget.length() : file.isDirectory() ? 0 : file.getSize();
+        int blkSize = 0;
+        if ((linkTarget == null) && (!file.isDirectory())) {
+            XLocList xlocList = file.getXLocList();
+            if ((xlocList != null) && (xlocList.getReplicaCount() > 0))
+                blkSize = xlocList.getReplica(0).getStripingPolicy().getStripeSize() * 1024;
+        }
+        
+        final long newEtag = file.getMtime() + file.getCtime();
+        
+        return Stat.newBuilder().setDev(volume.getId().hashCode()).setIno(file.getId()).setMode(mode).setNlink(
+            file.getLinkCount()).setUserId(file.getOwnerId()).setGroupId(file.getOwningGroupId()).setSize(size)
+                .setAtimeNs((long) file.getAtime() * (long) 1e9).setCtimeNs((long) file.getCtime() * (long) 1e9)
+                .setMtimeNs((long) file.getMtime() * (long) 1e9).setBlksize(blkSize).setTruncateEpoch(
+                    file.isDirectory() ? 0 : file.getEpoch()).setAttributes((int) file.getW32Attrs()).setEtag(
+                    newEtag).build();
+    }
+    
+    /**
+     * Creates the result of an entry of a compound request that failed.
+     */
+    public static BatchResult createErrorResult(UserException exc) {
+        return BatchResult.newBuilder().setPosixErrno(exc.getErrno().getNumber()).setErrorMessage(exc.getMessage())
+                .build();
+    }
+    
+    /**
+     * Creates the initial X-Locations list of a file that has no replicas yet.
+     * If the file is supposed to be read-only replicated, a single replica is
+     * created and the replication is deferred until the file is closed;
+     * otherwise, as many replicas as given by the default replication policy
+     * are created.
+     * 
+     * @param defaultReplPolicy
+     *            the default replication policy for the file, or
+     *            <code>null</code> if the file is not replicated
+     * @return the new X-Locations list
+     */
+    public static XLocList createInitialXLocList(StorageManager sMan, OSDStatusManager osdMan, VolumeInfo volume,
+            long parentDirId, String path, InetAddress clientAddress, VivaldiCoordinates clientCoordinates,
+            XLocList currentXLoc, ReplicationPolicy defaultReplPolicy) throws DatabaseException, UserException,
+            MRCException {
+        
+        XLocList xLocList = currentXLoc;
+        
+        // if the file is supposed to be read-only replicated, create a
+        // non-replicated file and defer the replication until the file is
+        // closed
+        boolean singleReplica = defaultReplPolicy == null
+            || ReplicaUpdatePolicies.REPL_UPDATE_PC_NONE.equals(defaultReplPolicy.getName())
+            || ReplicaUpdatePolicies.REPL_UPDATE_PC_RONLY.equals(defaultReplPolicy.getName());
+        
+        if (singleReplica) {
+            
+            // create a replica with the default striping policy together
+            // with a set of feasible OSDs from the OSD status manager
+            XLoc replica = createReplica(null, sMan, osdMan, volume, parentDirId, path, clientAddress,
+                clientCoordinates, xLocList, 0);
+            
+            xLocList = sMan.createXLocList(new XLoc[] { replica }, ReplicaUpdatePolicies.REPL_UPDATE_PC_NONE, 0);
+        }
+
+        // otherwise, create the requested number of replicas
+        else {
+            
+            // assign as many new replicas as needed
+            List<XLoc> repls = new ArrayList<XLoc>();
+            for (int i = 0; i < defaultReplPolicy.getFactor(); i++) {
+                
+                // create a replica with the default striping policy together
+                // with a set of feasible OSDs from the OSD status manager
+                XLoc replica = createReplica(null, sMan, osdMan, volume, parentDirId, path, clientAddress,
+                    clientCoordinates, xLocList, defaultReplPolicy.getFlags());
+                
+                repls.add(replica);
+                
+                // update the XLoc list with the new replica; this is
+                // necessary to ensure that its OSDs will be included when
+                // adding further replias in the following loop iterations
+                xLocList = sMan.createXLocList(repls.toArray(new XLoc[repls.size()]), defaultReplPolicy.getName(),
+                    0);
+            }
+        }
+        
+        return xLocList;
+    }
+    
     /**
      * Checks whether the given replica (i.e. list of OSDs) can be added to the
      * given X-Locations list without compromising consistency.
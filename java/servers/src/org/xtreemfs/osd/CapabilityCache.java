@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.xtreemfs.common.Capability;
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap;
+
+/**
+ * Capabilities whose signature was verified, shared by all threads of the OSD. A capability presented again, e.g.
+ * with each request of a client to an open file, is recognized by its signature and does not have to be verified
+ * once more. As a signature may be copied into a forged capability, a cached capability is only recognized if all
+ * its fields are equal to the presented one.
+ * <p>
+ * Entries are dropped once their capabilities have expired. If the cache is full nonetheless, arbitrary entries are
+ * dropped to make room.
+ */
+public class CapabilityCache {
+
+    private final ConcurrentHashMap<String, XCap> caps;
+
+    private final int                             maxSize;
+
+    /**
+     * @param maxSize
+     *            maximum number of cached capabilities, 0 disables the cache
+     */
+    public CapabilityCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.caps = new ConcurrentHashMap<String, XCap>();
+    }
+
+    /**
+     * @return <code>true</code> if the signature of the capability has been verified before
+     */
+    public boolean isVerified(Capability cap) {
+        final XCap cached = caps.get(cap.getSignature());
+        return cached != null && cached.equals(cap.getXCap());
+    }
+
+    /**
+     * Adds a capability whose signature has been verified.
+     */
+    public void put(Capability cap) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        if (caps.size() >= maxSize) {
+            purgeExpired();
+            // keep a tenth of the cache free, so that a cache full of valid capabilities is not swept on each put
+            final int target = maxSize - Math.max(1, maxSize / 10);
+            Iterator<String> it = caps.keySet().iterator();
+            while (caps.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        caps.put(cap.getSignature(), cap.getXCap());
+    }
+
+    /**
+     * Removes all expired capabilities.
+     */
+    public void purgeExpired() {
+        final long nowS = TimeSync.getGlobalTime() / 1000;
+        Iterator<XCap> it = caps.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().getExpireTimeS() < nowS) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the number of cached capabilities
+     */
+    public int getSize() {
+        return caps.size();
+    }
+}
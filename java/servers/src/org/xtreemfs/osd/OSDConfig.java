@@ -15,6 +15,8 @@ import java.util.Map.Entry;
 import java.util.Properties;
 
 import org.xtreemfs.common.config.ServiceConfig;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.osd.storage.DurabilityPolicy;
 
 /**
  * 
@@ -50,20 +52,30 @@ public class OSDConfig extends ServiceConfig {
             Parameter.GEO_COORDINATES,
             Parameter.CHECKSUM_ENABLED,
             Parameter.CHECKSUM_PROVIDER,
+            Parameter.CHECKSUM_BLOCK_SIZE,
             Parameter.ADMIN_PASSWORD,
             Parameter.WAIT_FOR_DIR,
             Parameter.UUID,
             Parameter.REPORT_FREE_SPACE,
             Parameter.STORAGE_LAYOUT,
             Parameter.IGNORE_CAPABILITIES,
+            Parameter.CAPABILITY_CACHE_SIZE,
             Parameter.FLEASE_DMAX_MS,
             Parameter.FLEASE_LEASE_TIMEOUT_MS,
             Parameter.FLEASE_MESSAGE_TO_MS,
             Parameter.FLEASE_RETRIES,
+            Parameter.RWR_FETCH_MIN_OBJECTS_IN_FLIGHT,
+            Parameter.RWR_FETCH_MAX_OBJECTS_IN_FLIGHT,
+            Parameter.RWR_FETCH_MAX_RATE,
+            Parameter.DELETION_THREADS,
+            Parameter.DELETION_MAX_RATE,
             Parameter.POLICY_DIR,
             Parameter.CAPABILITY_SECRET,
             Parameter.SOCKET_SEND_BUFFER_SIZE,
             Parameter.SOCKET_RECEIVE_BUFFER_SIZE,
+            Parameter.SOCKET_SELECTOR_THREADS,
+            Parameter.SOCKET_WRITE_COALESCING_MAX_MESSAGES,
+            Parameter.SOCKET_WRITE_COALESCING_MAX_BYTES,
             Parameter.USE_SNMP,
             Parameter.SNMP_ADDRESS,
             Parameter.SNMP_PORT,
@@ -79,6 +91,16 @@ public class OSDConfig extends ServiceConfig {
             Parameter.VIVALDI_MAX_REQUEST_TIMEOUT_IN_MS,
             Parameter.VIVALDI_TIMER_INTERVAL_IN_MS,
             Parameter.STORAGE_THREADS,
+            Parameter.FILE_HANDLE_CACHE_SIZE,
+            Parameter.METADATA_CACHE_SIZE,
+            Parameter.OBJECT_INDEX_ENABLED,
+            Parameter.MAPPED_READS,
+            Parameter.DURABILITY,
+            Parameter.VOLUME_DURABILITY,
+            Parameter.GROUP_COMMIT_WINDOW_US,
+            Parameter.BUFFER_POOL_SIZES,
+            Parameter.BUFFER_POOL_MAX_POOL_SIZES,
+            Parameter.BUFFER_POOL_MAX_SIZE,
             Parameter.USE_RENEWAL_SIGNAL,
             Parameter.USE_MULTIHOMING,
             Parameter.HEALTH_CHECK
@@ -161,6 +183,17 @@ public class OSDConfig extends ServiceConfig {
         return (Boolean) parameter.get(Parameter.CHECKSUM_ENABLED);
     }
 
+    /**
+     * @return the size in bytes of the blocks with a checksum of their own, 0 for one checksum per object
+     */
+    public int getChecksumBlockSize() {
+        return (Integer) parameter.get(Parameter.CHECKSUM_BLOCK_SIZE) * 1024;
+    }
+
+    public void setChecksumBlockSize(int blockSizeKB) {
+        parameter.put(Parameter.CHECKSUM_BLOCK_SIZE, blockSizeKB);
+    }
+
     public String getCapabilitySecret() {
         return (String) parameter.get(Parameter.CAPABILITY_SECRET);
     }
@@ -172,6 +205,13 @@ public class OSDConfig extends ServiceConfig {
         return (Boolean) parameter.get(Parameter.IGNORE_CAPABILITIES);
     }
 
+    /**
+     * @return the max. number of verified capabilities kept by the OSD, 0 if verified capabilities are not cached
+     */
+    public int getCapabilityCacheSize() {
+        return (Integer) parameter.get(Parameter.CAPABILITY_CACHE_SIZE);
+    }
+
     /**
      * @return the customParams
      */
@@ -214,6 +254,32 @@ public class OSDConfig extends ServiceConfig {
         return (Integer) parameter.get(Parameter.FLEASE_RETRIES);
     }
 
+    public int getRWRFetchMinObjectsInFlight() {
+        return (Integer) parameter.get(Parameter.RWR_FETCH_MIN_OBJECTS_IN_FLIGHT);
+    }
+
+    public int getRWRFetchMaxObjectsInFlight() {
+        return (Integer) parameter.get(Parameter.RWR_FETCH_MAX_OBJECTS_IN_FLIGHT);
+    }
+
+    /**
+     * @return the max. rate in MiB/s at which replica RESETs fetch objects, 0 if unlimited
+     */
+    public int getRWRFetchMaxRate() {
+        return (Integer) parameter.get(Parameter.RWR_FETCH_MAX_RATE);
+    }
+
+    public int getDeletionThreads() {
+        return (Integer) parameter.get(Parameter.DELETION_THREADS);
+    }
+
+    /**
+     * @return the max. number of object files deleted per second, 0 if unlimited
+     */
+    public int getDeletionMaxRate() {
+        return (Integer) parameter.get(Parameter.DELETION_MAX_RATE);
+    }
+
     /**
      * @param capabilitySecret
      *            the capabilitySecret to set
@@ -230,6 +296,18 @@ public class OSDConfig extends ServiceConfig {
         return (Integer) parameter.get(Parameter.SOCKET_RECEIVE_BUFFER_SIZE);
     }
 
+    public int getSocketSelectorThreads() {
+        return (Integer) parameter.get(Parameter.SOCKET_SELECTOR_THREADS);
+    }
+
+    public int getSocketWriteCoalescingMaxMessages() {
+        return (Integer) parameter.get(Parameter.SOCKET_WRITE_COALESCING_MAX_MESSAGES);
+    }
+
+    public int getSocketWriteCoalescingMaxBytes() {
+        return (Integer) parameter.get(Parameter.SOCKET_WRITE_COALESCING_MAX_BYTES);
+    }
+
     /**
      * Set default values according to the value in {@link Parameter} for all configuration parameter which
      * are null.
@@ -244,6 +322,46 @@ public class OSDConfig extends ServiceConfig {
     public void checkConfig() {
         super.checkConfig(osdParameter);
         checkMultihomingConfiguration();
+        try {
+            getDurabilityPolicy();
+            if (getSocketSelectorThreads() < 1)
+                throw new IllegalArgumentException(Parameter.SOCKET_SELECTOR_THREADS.getPropertyString()
+                    + " must be at least 1");
+            if (getSocketWriteCoalescingMaxMessages() < 1)
+                throw new IllegalArgumentException(
+                    Parameter.SOCKET_WRITE_COALESCING_MAX_MESSAGES.getPropertyString() + " must be at least 1");
+            if (getSocketWriteCoalescingMaxBytes() < 1)
+                throw new IllegalArgumentException(Parameter.SOCKET_WRITE_COALESCING_MAX_BYTES.getPropertyString()
+                    + " must be at least 1");
+            if (getRWRFetchMinObjectsInFlight() < 1)
+                throw new IllegalArgumentException(Parameter.RWR_FETCH_MIN_OBJECTS_IN_FLIGHT.getPropertyString()
+                    + " must be at least 1");
+            if (getRWRFetchMaxObjectsInFlight() < getRWRFetchMinObjectsInFlight())
+                throw new IllegalArgumentException(Parameter.RWR_FETCH_MAX_OBJECTS_IN_FLIGHT.getPropertyString()
+                    + " must not be smaller than " + Parameter.RWR_FETCH_MIN_OBJECTS_IN_FLIGHT.getPropertyString());
+            if (getRWRFetchMaxRate() < 0)
+                throw new IllegalArgumentException(Parameter.RWR_FETCH_MAX_RATE.getPropertyString()
+                    + " must not be negative");
+            if (getDeletionThreads() < 1)
+                throw new IllegalArgumentException(Parameter.DELETION_THREADS.getPropertyString()
+                    + " must be at least 1");
+            if (getDeletionMaxRate() < 0)
+                throw new IllegalArgumentException(Parameter.DELETION_MAX_RATE.getPropertyString()
+                    + " must not be negative");
+            if (getCapabilityCacheSize() < 0)
+                throw new IllegalArgumentException(Parameter.CAPABILITY_CACHE_SIZE.getPropertyString()
+                    + " must not be negative");
+            final int checksumBlockSize = (Integer) parameter.get(Parameter.CHECKSUM_BLOCK_SIZE);
+            if (checksumBlockSize < 0 || (checksumBlockSize & (checksumBlockSize - 1)) != 0)
+                throw new IllegalArgumentException(Parameter.CHECKSUM_BLOCK_SIZE.getPropertyString()
+                    + " must be 0 or a power of two");
+            if (getBufferPoolSizes().length != getBufferPoolMaxPoolSizes().length)
+                throw new IllegalArgumentException(Parameter.BUFFER_POOL_MAX_POOL_SIZES.getPropertyString()
+                    + " requires one entry for each of the buffer sizes in "
+                    + Parameter.BUFFER_POOL_SIZES.getPropertyString());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException(e.getMessage());
+        }
     }
 
     public int getMaxClientQ() {
@@ -288,6 +406,105 @@ public class OSDConfig extends ServiceConfig {
         return (Integer) parameter.get(Parameter.STORAGE_THREADS);
     }
     
+    public int getFileHandleCacheSize() {
+        return (Integer) parameter.get(Parameter.FILE_HANDLE_CACHE_SIZE);
+    }
+
+    public void setFileHandleCacheSize(int fileHandleCacheSize) {
+        parameter.put(Parameter.FILE_HANDLE_CACHE_SIZE, fileHandleCacheSize);
+    }
+
+    public int getMetadataCacheSize() {
+        return (Integer) parameter.get(Parameter.METADATA_CACHE_SIZE);
+    }
+
+    public boolean isUseObjectIndex() {
+        return (Boolean) parameter.get(Parameter.OBJECT_INDEX_ENABLED);
+    }
+
+    public void setUseObjectIndex(boolean useObjectIndex) {
+        parameter.put(Parameter.OBJECT_INDEX_ENABLED, useObjectIndex);
+    }
+
+    public boolean isUseMappedReads() {
+        return (Boolean) parameter.get(Parameter.MAPPED_READS);
+    }
+
+    public void setUseMappedReads(boolean useMappedReads) {
+        parameter.put(Parameter.MAPPED_READS, useMappedReads);
+    }
+
+    public String getDurability() {
+        return (String) parameter.get(Parameter.DURABILITY);
+    }
+
+    public String getVolumeDurability() {
+        return (String) parameter.get(Parameter.VOLUME_DURABILITY);
+    }
+
+    public void setVolumeDurability(String volumeDurability) {
+        parameter.put(Parameter.VOLUME_DURABILITY, volumeDurability);
+    }
+
+    /**
+     * @return the durability policy defined by the default and per-volume durability modes
+     * @throws IllegalArgumentException
+     *             if a mode is invalid
+     */
+    public DurabilityPolicy getDurabilityPolicy() {
+        return DurabilityPolicy.parse(getDurability(), getVolumeDurability());
+    }
+
+    public int getGroupCommitWindow() {
+        return (Integer) parameter.get(Parameter.GROUP_COMMIT_WINDOW_US);
+    }
+
+    public void setGroupCommitWindow(int groupCommitWindow) {
+        parameter.put(Parameter.GROUP_COMMIT_WINDOW_US, groupCommitWindow);
+    }
+
+    /**
+     * @return the buffer sizes of the buffer pool's size classes
+     */
+    public int[] getBufferPoolSizes() {
+        String sizes = (String) parameter.get(Parameter.BUFFER_POOL_SIZES);
+        return sizes == null || sizes.trim().isEmpty() ? BufferPool.BUFF_SIZES : parseIntList(
+            Parameter.BUFFER_POOL_SIZES, sizes);
+    }
+
+    /**
+     * @return the initial max. number of pooled buffers of each of the buffer pool's size classes
+     */
+    public int[] getBufferPoolMaxPoolSizes() {
+        String sizes = (String) parameter.get(Parameter.BUFFER_POOL_MAX_POOL_SIZES);
+        if (sizes == null || sizes.trim().isEmpty()) {
+            String classes = (String) parameter.get(Parameter.BUFFER_POOL_SIZES);
+            return classes == null || classes.trim().isEmpty() ? BufferPool.MAX_POOL_SIZES : new int[0];
+        }
+        return parseIntList(Parameter.BUFFER_POOL_MAX_POOL_SIZES, sizes);
+    }
+
+    /**
+     * @return the max. size of all pooled buffers in MiB, 0 if the pool sizes are fixed
+     */
+    public int getBufferPoolMaxSize() {
+        return (Integer) parameter.get(Parameter.BUFFER_POOL_MAX_SIZE);
+    }
+
+    private static int[] parseIntList(Parameter param, String list) throws IllegalArgumentException {
+        String[] entries = list.split(",");
+        int[] values = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            try {
+                values[i] = Integer.parseInt(entries[i].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid entry '" + entries[i].trim() + "' in "
+                    + param.getPropertyString());
+            }
+        }
+        return values;
+    }
+
     public String getHealthCheckScript() {
         return (String) parameter.get(Parameter.HEALTH_CHECK);
     }
@@ -45,6 +45,7 @@ import org.xtreemfs.foundation.SSLOptions;
 import org.xtreemfs.foundation.SSLOptions.TrustManager;
 import org.xtreemfs.foundation.TimeSync;
 import org.xtreemfs.foundation.VersionManagement;
+import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.checksums.ChecksumFactory;
 import org.xtreemfs.foundation.checksums.provider.JavaChecksumProvider;
 import org.xtreemfs.foundation.logging.Logging;
@@ -61,6 +62,7 @@ import org.xtreemfs.foundation.pbrpc.server.RPCServerRequest;
 import org.xtreemfs.foundation.pbrpc.server.RPCServerRequestListener;
 import org.xtreemfs.foundation.pbrpc.server.RPCUDPSocketServer;
 import org.xtreemfs.foundation.pbrpc.utils.ErrorUtils;
+import org.xtreemfs.foundation.pbrpc.utils.WriteCoalescing;
 import org.xtreemfs.foundation.util.FSUtils;
 import org.xtreemfs.osd.operations.CheckObjectOperation;
 import org.xtreemfs.osd.operations.CleanupGetResultsOperation;
@@ -161,6 +163,8 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
 
     protected final PreprocStage                        preprocStage;
 
+    protected final CapabilityCache                     capCache;
+
     protected final StorageStage                        stStage;
 
     protected final DeletionStage                       delStage;
@@ -226,6 +230,9 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
             }
         }
         
+        BufferPool.configure(config.getBufferPoolSizes(), config.getBufferPoolMaxPoolSizes(),
+            config.getBufferPoolMaxSize() * 1024L * 1024L);
+        
         numBytesTX = new AtomicLong();
         numBytesRX = new AtomicLong();
         numObjsTX = new AtomicLong();
@@ -281,8 +288,10 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
                 .isGRIDSSLmode(), config.getSSLProtocolString(), tm1) : null;
         
         rpcServer = new RPCNIOSocketServer(config.getPort(), config.getAddress(), this, serverSSLopts,
-                config.getSocketReceiveBufferSize(), config.getMaxClientQ());
+                config.getSocketReceiveBufferSize(), config.getMaxClientQ(), config.getSocketSelectorThreads());
         rpcServer.setLifeCycleListener(this);
+        rpcServer.setWriteCoalescing(new WriteCoalescing(config.getSocketWriteCoalescingMaxMessages(), config
+                .getSocketWriteCoalescingMaxBytes()));
         
         final SSLOptions clientSSLopts = config.isUsingSSL() ? new SSLOptions(new FileInputStream(config
                 .getServiceCredsFile()), config.getServiceCredsPassphrase(), config
@@ -299,6 +308,8 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         rpcClient = new RPCNIOSocketClient(clientSSLopts, RPC_TIMEOUT, CONNECTION_TIMEOUT,
                 config.getSocketSendBufferSize(), config.getSocketReceiveBufferSize(), bindPoint, "OSDRequestDispatcher");
         rpcClient.setLifeCycleListener(this);
+        rpcClient.setWriteCoalescing(new WriteCoalescing(config.getSocketWriteCoalescingMaxMessages(), config
+                .getSocketWriteCoalescingMaxBytes()));
         
         // replication uses its own RPCClient with a much higher timeout
         rpcClientForReplication = new RPCNIOSocketClient(clientSSLopts, 30000, 5 * 60 * 1000, "OSDRequestDispatcher (for replication)");
@@ -311,7 +322,7 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         // initialize internal stages
         // --------------------------
         
-        MetadataCache metadataCache = new MetadataCache();
+        MetadataCache metadataCache = new MetadataCache(config.getMetadataCacheSize() * 1024L * 1024L);
         StorageLayout storageLayout = null;
         if (config.getStorageLayout().equalsIgnoreCase(HashStorageLayout.class.getSimpleName())) {
             storageLayout = new HashStorageLayout(config, metadataCache);
@@ -328,13 +339,16 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         udpCom = new RPCUDPSocketServer(config.getPort(), this);
         udpCom.setLifeCycleListener(this);
         
+        capCache = new CapabilityCache(config.getCapabilityCacheSize());
+
         preprocStage = new PreprocStage(this, metadataCache, storageLayout, config.getMaxRequestsQueueLength());
         preprocStage.setLifeCycleListener(this);
         
         stStage = new StorageStage(this, metadataCache, storageLayout, config.getStorageThreads(), config.getMaxRequestsQueueLength());
         stStage.setLifeCycleListener(this);
         
-        delStage = new DeletionStage(this, metadataCache, storageLayout, config.getMaxRequestsQueueLength());
+        delStage = new DeletionStage(this, metadataCache, storageLayout, config.getDeletionThreads(),
+            config.getDeletionMaxRate(), config.getMaxRequestsQueueLength());
         delStage.setLifeCycleListener(this);
         
         replStage = new ReplicationStage(this, config.getMaxRequestsQueueLength());
@@ -796,6 +810,10 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         return rpcServer.getPendingRequests();
     }
 
+    public WriteCoalescing getWriteCoalescing() {
+        return rpcServer.getWriteCoalescing();
+    }
+
     private void initializeOperations() {
         // register all ops
         OSDOperation op = new ReadOperation(this);
@@ -929,6 +947,10 @@ public class OSDRequestDispatcher implements RPCServerRequestListener, LifeCycle
         return preprocStage;
     }
 
+    public CapabilityCache getCapabilityCache() {
+        return capCache;
+    }
+
     public ReplicationStage getReplicationStage() {
         return replStage;
     }
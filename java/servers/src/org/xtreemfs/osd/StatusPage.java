@@ -22,7 +22,13 @@ import org.xtreemfs.foundation.VersionManagement;
 import org.xtreemfs.foundation.buffer.BufferPool;
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.pbrpc.Schemes;
+import org.xtreemfs.foundation.pbrpc.utils.WriteCoalescing;
 import org.xtreemfs.foundation.util.OutputUtils;
+import org.xtreemfs.osd.stages.DeletionStage;
+import org.xtreemfs.osd.stages.StorageScheduler;
+import org.xtreemfs.osd.storage.GroupCommit;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.osd.storage.StorageLayout;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIR.ServiceType;
 import org.xtreemfs.pbrpc.generatedinterfaces.OSDServiceConstants;
 
@@ -48,8 +54,13 @@ class StatusPage extends StatusServerModule {
             PARSERQ("<!-- $PARSERQ -->"),
             AUTHQ("<!-- $AUTHQ -->"),
             STORAGEQ("<!-- $STORAGEQ -->"),
+            STTHREADS("<!-- $STTHREADS -->"),
             DELETIONQ("<!-- $DELETIONQ -->"),
+            DELTHREADS("<!-- $DELTHREADS -->"),
             OPENFILES("<!-- $OPENFILES -->"),
+            FHCACHE("<!-- $FHCACHE -->"),
+            MDCACHE("<!-- $MDCACHE -->"),
+            MDLOADS("<!-- $MDLOADS -->"),
             OBJWRITE("<!-- $OBJWRITE -->"),
             OBJREAD("<!-- $OBJREAD -->"),
             BYTETX("<!-- $BYTETX -->"),
@@ -165,9 +176,11 @@ class StatusPage extends StatusServerModule {
         values.put(
                 Vars.DEBUG,
                 Integer.toString(myDispatcher.getConfig().getDebugLevel()));
+        WriteCoalescing writeCoalescing = myDispatcher.getWriteCoalescing();
         values.put(
                 Vars.NUMCON,
-                Integer.toString(myDispatcher.getNumClientConnections()));
+                Integer.toString(myDispatcher.getNumClientConnections())
+                        + (writeCoalescing.isEnabled() ? " (responses: " + writeCoalescing + ")" : ""));
         values.put(
                 Vars.PINKYQ,
                 Long.toString(myDispatcher.getPendingRequests()));
@@ -177,12 +190,69 @@ class StatusPage extends StatusServerModule {
         values.put(
                 Vars.STORAGEQ,
                 Integer.toString(myDispatcher.getStorageStage().getQueueLength()));
+        StorageScheduler scheduler = myDispatcher.getStorageStage().getScheduler();
+        StringBuilder stThreads = new StringBuilder();
+        for (int i = 0; i < scheduler.getNumThreads(); i++) {
+            stThreads.append("#").append(i).append(": ").append(scheduler.getQueueDepth(i)).append(" queued, ")
+                    .append(scheduler.getNumTaken(i)).append(" requests (").append(scheduler.getNumStolen(i))
+                    .append(" files taken over), avg. wait ").append(scheduler.getAvgWaitNanos(i) / 1000)
+                    .append(" us, max. wait ").append(scheduler.getMaxWaitNanos(i) / 1000).append(" us");
+            GroupCommit groupCommit = myDispatcher.getStorageStage().getGroupCommit(i);
+            if (groupCommit != null) {
+                stThreads.append(", ").append(groupCommit.getNumWrites()).append(" sync writes in ")
+                        .append(groupCommit.getNumCommits()).append(" group commits (")
+                        .append(groupCommit.getNumFlushes()).append(" flushes)");
+            }
+            stThreads.append("<br>");
+        }
+        values.put(
+                Vars.STTHREADS,
+                stThreads.toString());
         values.put(
                 Vars.DELETIONQ,
                 Integer.toString(myDispatcher.getDeletionStage().getQueueLength()));
+        DeletionStage delStage = myDispatcher.getDeletionStage();
+        StringBuilder delThreads = new StringBuilder();
+        delThreads.append(delStage.getDeletionQueueLength()).append(" files queued (");
+        int[] delQueueLengths = delStage.getDeletionQueueLengths();
+        for (int i = 0; i < delQueueLengths.length; i++) {
+            delThreads.append(i == 0 ? "#" : ", #").append(i).append(": ").append(delQueueLengths[i]);
+        }
+        delThreads.append("), ").append(delStage.getNumObjectFilesDeleted()).append(" object files deleted (")
+                .append(OutputUtils.formatBytes(delStage.getNumBytesReclaimed())).append(" reclaimed), ")
+                .append(delStage.getDeletionRate()).append(" object files/s (max. ")
+                .append(delStage.getMaxDeletionRate() == 0 ? "unlimited" : delStage.getMaxDeletionRate() + "/s")
+                .append(")");
+        values.put(
+                Vars.DELTHREADS,
+                delThreads.toString());
         values.put(
                 Vars.OPENFILES,
                 Integer.toString(myDispatcher.getPreprocStage().getNumOpenFiles()));
+        StorageLayout layout = myDispatcher.getStorageStage().getStorageLayout();
+        long fhHits = layout.getFileHandleCacheHits();
+        long fhMisses = layout.getFileHandleCacheMisses();
+        long fhAccesses = fhHits + fhMisses;
+        values.put(
+                Vars.FHCACHE,
+                fhHits + " hits / " + fhMisses + " misses / " + layout.getFileHandleCacheEvictions()
+                + " evictions (" + (fhAccesses == 0 ? 0 : fhHits * 100 / fhAccesses) + "% hit rate)");
+        MetadataCache mdCache = layout.getMetadataCache();
+        long mdHits = mdCache.getHits();
+        long mdMisses = mdCache.getMisses();
+        long mdAccesses = mdHits + mdMisses;
+        values.put(
+                Vars.MDCACHE,
+                mdCache.getNumEntries() + " files ("
+                + OutputUtils.formatBytes(mdCache.getSize()) + " of "
+                + (mdCache.getMaxSize() == 0 ? "unlimited" : OutputUtils.formatBytes(mdCache.getMaxSize()))
+                + ", " + mdCache.getNumPinnedFiles() + " pinned), " + mdHits + " hits / " + mdMisses + " misses / "
+                + mdCache.getEvictions() + " evictions (" + (mdAccesses == 0 ? 0 : mdHits * 100 / mdAccesses)
+                + "% hit rate)");
+        long mdLoads = mdCache.getLoads();
+        values.put(
+                Vars.MDLOADS,
+                mdLoads + " (avg. " + (mdLoads == 0 ? 0 : mdCache.getLoadTimeNanos() / mdLoads / 1000) + " us)");
         values.put(
                 Vars.OBJWRITE,
                 Long.toString(myDispatcher.getObjectsReceived()));
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.rwre;
+
+/**
+ * Limits the objects a replica RESET fetches from other replicas at the same time, and the rate at which they are
+ * fetched.
+ * <p>
+ * The window adapts to the available bandwidth by observing the latency of the fetches. As long as the latency
+ * stays close to the lowest latency seen recently, more objects in flight yield more throughput: the window grows
+ * by one object per completed fetch until the first congestion, and by one object per window of completed fetches
+ * afterwards. If the latency exceeds twice the base latency, the requests queue up at the sources or in the network,
+ * and the window shrinks by a quarter, at most once per window of fetches. A failed fetch halves the window. The
+ * window never leaves the configured range.
+ * <p>
+ * Independently of the window, a token bucket caps the number of bytes fetched per second to protect the foreground
+ * I/O of the OSD.
+ * <p>
+ * Instances are not thread-safe, they are used by the thread of the {@link RWReplicationStage} only.
+ */
+public class ObjectFetchWindow {
+
+    /**
+     * Period after which the base latency is taken from the fetches of the last period only, so that it follows
+     * lasting changes of the network or the load of the sources.
+     */
+    static final long    BASE_LATENCY_PERIOD_NS = 30L * 1000 * 1000 * 1000;
+
+    private final int    minWindow;
+
+    private final int    maxWindow;
+
+    private final long   maxBytesPerSecond;
+
+    private double       window;
+
+    private boolean      slowStart;
+
+    private int          fetchesUntilNextDecrease;
+
+    private long         baseLatencyNs;
+
+    private long         periodMinLatencyNs;
+
+    private long         periodStartNs;
+
+    private double       tokens;
+
+    private long         lastRefillNs;
+
+    /**
+     * @param minWindow
+     *            initial and minimum number of objects in flight
+     * @param maxWindow
+     *            maximum number of objects in flight
+     * @param maxBytesPerSecond
+     *            maximum number of bytes fetched per second, 0 for no limit
+     * @param nowNs
+     *            current time as returned by {@link System#nanoTime()}
+     */
+    public ObjectFetchWindow(int minWindow, int maxWindow, long maxBytesPerSecond, long nowNs) {
+        if (minWindow < 1 || maxWindow < minWindow)
+            throw new IllegalArgumentException("invalid fetch window range: " + minWindow + "-" + maxWindow);
+
+        this.minWindow = minWindow;
+        this.maxWindow = maxWindow;
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.window = minWindow;
+        this.slowStart = true;
+        this.baseLatencyNs = Long.MAX_VALUE;
+        this.periodMinLatencyNs = Long.MAX_VALUE;
+        this.periodStartNs = nowNs;
+        this.tokens = maxBytesPerSecond;
+        this.lastRefillNs = nowNs;
+    }
+
+    /**
+     * @return the current number of objects that may be in flight
+     */
+    public int getWindow() {
+        return (int) window;
+    }
+
+    /**
+     * Reserves the bandwidth for fetching an object of the given size, if the rate cap allows to fetch it now.
+     *
+     * @return 0 if the object may be fetched now, otherwise the time in ms after which it should be retried
+     */
+    public long reserve(int bytes, long nowNs) {
+        if (maxBytesPerSecond <= 0)
+            return 0;
+
+        tokens = Math.min(maxBytesPerSecond, tokens + (nowNs - lastRefillNs) * (double) maxBytesPerSecond / 1e9);
+        lastRefillNs = nowNs;
+
+        // the bucket may go into debt by one object, so that objects larger than the rate can be fetched at all
+        if (tokens < 0)
+            return Math.max(1, (long) Math.ceil(-tokens * 1000 / maxBytesPerSecond));
+
+        tokens -= bytes;
+        return 0;
+    }
+
+    /**
+     * Adapts the window to the latency of a successful fetch.
+     */
+    public void fetchCompleted(long latencyNs, long nowNs) {
+        if (nowNs - periodStartNs > BASE_LATENCY_PERIOD_NS) {
+            baseLatencyNs = periodMinLatencyNs;
+            periodMinLatencyNs = Long.MAX_VALUE;
+            periodStartNs = nowNs;
+        }
+        periodMinLatencyNs = Math.min(periodMinLatencyNs, latencyNs);
+        final long base = Math.min(baseLatencyNs, periodMinLatencyNs);
+
+        if (fetchesUntilNextDecrease > 0)
+            fetchesUntilNextDecrease--;
+
+        if (latencyNs > 2 * base) {
+            slowStart = false;
+            if (fetchesUntilNextDecrease == 0)
+                decrease(0.75);
+        } else if (slowStart) {
+            window = Math.min(maxWindow, window + 1);
+        } else {
+            window = Math.min(maxWindow, window + 1 / window);
+        }
+    }
+
+    /**
+     * Shrinks the window after a failed fetch.
+     */
+    public void fetchFailed() {
+        slowStart = false;
+        decrease(0.5);
+    }
+
+    private void decrease(double factor) {
+        window = Math.max(minWindow, window * factor);
+        fetchesUntilNextDecrease = (int) window;
+    }
+}
@@ -16,6 +16,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.Timer;
+import java.util.TimerTask;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.xtreemfs.common.uuids.ServiceUUID;
@@ -47,6 +49,7 @@ import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
 import org.xtreemfs.foundation.pbrpc.utils.ErrorUtils;
 import org.xtreemfs.osd.InternalObjectData;
+import org.xtreemfs.osd.OSDConfig;
 import org.xtreemfs.osd.OSDRequest;
 import org.xtreemfs.osd.OSDRequestDispatcher;
 import org.xtreemfs.osd.operations.EventRWRStatus;
@@ -96,6 +99,8 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
     public static final int STAGEOP_INVALIDATEVIEW            = 22;
     public static final int STAGEOP_FETCHINVALIDATED          = 23;
 
+    public static final int STAGEOP_INTERNAL_FETCH_OBJECTS    = 24;
+
     public  static enum Operation {
         READ,
         WRITE,
@@ -124,7 +129,15 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
 
     private int                                    numObjsInFlight;
 
-    private static final int                       MAX_OBJS_IN_FLIGHT         = 10;
+    /** Number of objects currently fetched from each OSD, used to spread the fetches of a RESET. */
+    private final Map<String, Integer>             numObjsInFlightPerOSD;
+
+    private final ObjectFetchWindow                fetchWindow;
+
+    /** Resumes fetching when the fetch rate is capped, null if it is not. */
+    private final Timer                            fetchTimer;
+
+    private boolean                                fetchResumeScheduled;
 
     private static final int                       MAX_PENDING_PER_FILE       = 10;
 
@@ -147,11 +160,18 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         files = new HashMap<String, ReplicatedFileState>();
         cellToFileId = new HashMap<ASCIIString, String>();
         numObjsInFlight = 0;
+        numObjsInFlightPerOSD = new HashMap<String, Integer>();
         filesInReset = new LinkedList();
         externalRequestsInQueue = new AtomicInteger(0);
 
         localID = new ASCIIString(master.getConfig().getUUID().toString());
 
+        final OSDConfig config = master.getConfig();
+        final long maxFetchBytesPerSecond = config.getRWRFetchMaxRate() * 1024L * 1024L;
+        fetchWindow = new ObjectFetchWindow(config.getRWRFetchMinObjectsInFlight(),
+                config.getRWRFetchMaxObjectsInFlight(), maxFetchBytesPerSecond, System.nanoTime());
+        fetchTimer = (maxFetchBytesPerSecond > 0) ? new Timer("RWReplicationStage fetch timer", true) : null;
+
         masterEpochThread = new FleaseMasterEpochThread(master.getStorageStage().getStorageLayout(),
                 maxRequestsQueueLength);
 
@@ -199,6 +219,9 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         fleaseClient.shutdown();
         fstage.shutdown();
         masterEpochThread.shutdown();
+        if (fetchTimer != null) {
+            fetchTimer.cancel();
+        }
         super.shutdown();
     }
 
@@ -232,8 +255,10 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         this.enqueueOperation(STAGEOP_INTERNAL_DELETE_COMPLETE, new Object[] { fileId, error }, null, null);
     }
 
-    void eventObjectFetched(String fileId, ObjectVersionMapping object, InternalObjectData data, ErrorResponse error) {
-        this.enqueueOperation(STAGEOP_INTERNAL_OBJFETCHED, new Object[] { fileId, object, data, error }, null, null);
+    void eventObjectFetched(String fileId, ObjectVersionMapping object, String osdUuid, long startTimeNs,
+            InternalObjectData data, ErrorResponse error) {
+        this.enqueueOperation(STAGEOP_INTERNAL_OBJFETCHED, new Object[] { fileId, object, osdUuid, startTimeNs, data,
+                error }, null, null);
     }
 
     void eventSetAuthState(String fileId, AuthoritativeReplicaState authState, ReplicaStatus localState,
@@ -295,7 +320,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,
                         "(R:%s) replica RESET required updates for: %s", localID, state.getFileId());
             }
-            state.setObjectsToFetch(new LinkedList(missingObjects.values()));
+            state.startFetching(new LinkedList(missingObjects.values()));
             filesInReset.add(state);
             // Start by deleting the old objects.
             master.getStorageStage().deleteObjects(fileId, state.getsPolicy(), authState.getTruncateEpoch(),
@@ -477,6 +502,11 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                 }
                 if (error != null) {
                     failed(state, error, "processDeleteObjectsComplete");
+                } else if (state.getObjectsToFetch().isEmpty() && state.getNumObjectsPending() == 0) {
+                    // the RESET only had to delete or truncate objects
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,
+                            "(R:%s) RESET complete for file %s", localID, fileId);
+                    doOpen(state);
                 } else {
                     fetchObjects();
                 }
@@ -487,35 +517,99 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         }
     }
 
+    private void processFetchObjects(StageRequest method) {
+        fetchResumeScheduled = false;
+        fetchObjects();
+    }
+
     private void fetchObjects() {
 
-        while (numObjsInFlight < MAX_OBJS_IN_FLIGHT) {
+        while (numObjsInFlight < fetchWindow.getWindow()) {
 
-            ReplicatedFileState file = filesInReset.poll();
+            ReplicatedFileState file = filesInReset.peek();
             if (file == null)
                 break;
 
-            if (!file.getObjectsToFetch().isEmpty()) {
-                ObjectVersionMapping o = file.getObjectsToFetch().remove(0);
-                file.setNumObjectsPending(file.getNumObjectsPending() + 1);
-                numObjsInFlight++;
-                fetchObject(file.getFileId(), o);
+            // skip files which were closed or failed in the meantime
+            if ((files.get(file.getFileId()) != file) || file.getObjectsToFetch().isEmpty()) {
+                filesInReset.poll();
+                continue;
             }
 
+            ObjectVersionMapping o = file.getObjectsToFetch().get(0);
+            long delayMs = fetchWindow.reserve(file.getsPolicy().getStripeSizeForObject(o.getObjectNumber()),
+                    System.nanoTime());
+            if (delayMs > 0) {
+                scheduleFetchObjects(delayMs);
+                break;
+            }
+
+            filesInReset.poll();
+            file.getObjectsToFetch().remove(0);
+            file.setNumObjectsPending(file.getNumObjectsPending() + 1);
+            numObjsInFlight++;
+            fetchObject(file, o);
+
             if (!file.getObjectsToFetch().isEmpty()) {
                 filesInReset.add(file);
             }
         }
     }
 
-    private void fetchObject(final String fileId, final ObjectVersionMapping record) {
-        ReplicatedFileState state = files.get(fileId);
-        if (state == null) {
+    private void scheduleFetchObjects(long delayMs) {
+        if (fetchResumeScheduled) {
             return;
         }
+        fetchResumeScheduled = true;
+        fetchTimer.schedule(new TimerTask() {
+
+            @Override
+            public void run() {
+                enqueueOperation(STAGEOP_INTERNAL_FETCH_OBJECTS, new Object[] {}, null, null);
+            }
+        }, delayMs);
+    }
+
+    /**
+     * Selects the up-to-date replica with the fewest objects in flight. Ties are broken by the object number, so
+     * that consecutive objects are fetched from different replicas.
+     */
+    private String selectSourceOSD(ObjectVersionMapping record) {
+        final int numOSDs = record.getOsdUuidsCount();
+        final int first = (int) (record.getObjectNumber() % numOSDs);
+
+        String selected = null;
+        int selectedInFlight = Integer.MAX_VALUE;
+        for (int i = 0; i < numOSDs; i++) {
+            String osdUuid = record.getOsdUuids((first + i) % numOSDs);
+            Integer inFlight = numObjsInFlightPerOSD.get(osdUuid);
+            int n = (inFlight == null) ? 0 : inFlight;
+            if (n < selectedInFlight) {
+                selected = osdUuid;
+                selectedInFlight = n;
+            }
+        }
+
+        numObjsInFlightPerOSD.put(selected, selectedInFlight + 1);
+        return selected;
+    }
+
+    private void releaseSourceOSD(String osdUuid) {
+        Integer inFlight = numObjsInFlightPerOSD.get(osdUuid);
+        if (inFlight == null || inFlight <= 1) {
+            numObjsInFlightPerOSD.remove(osdUuid);
+        } else {
+            numObjsInFlightPerOSD.put(osdUuid, inFlight - 1);
+        }
+    }
+
+    private void fetchObject(final ReplicatedFileState state, final ObjectVersionMapping record) {
+        final String fileId = state.getFileId();
+        final String osdUuid = selectSourceOSD(record);
+        final long startTimeNs = System.nanoTime();
 
         try {
-            final ServiceUUID osd = new ServiceUUID(record.getOsdUuidsList().get(0));
+            final ServiceUUID osd = new ServiceUUID(osdUuid);
             // fetch that object
             if (Logging.isDebug())
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,
@@ -532,7 +626,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                     try {
                         ObjectData metadata = (ObjectData) r.get();
                         InternalObjectData data = new InternalObjectData(metadata, r.getData());
-                        eventObjectFetched(fileId, record, data, null);
+                        eventObjectFetched(fileId, record, osdUuid, startTimeNs, data, null);
                     } catch (PBRPCException ex) {
                         // Transform exception into correct ErrorResponse.
                         // TODO(mberlin): Generalize this functionality by returning "Throwable" instead of
@@ -541,11 +635,15 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                         //                invocation of failed().
                         eventObjectFetched(fileId,
                                            record,
+                                           osdUuid,
+                                           startTimeNs,
                                            null,
                                            ErrorUtils.getErrorResponse(ex.getErrorType(), ex.getPOSIXErrno(), ex.toString(), ex));
                     } catch (Exception ex) {
                         eventObjectFetched(fileId,
                                            record,
+                                           osdUuid,
+                                           startTimeNs,
                                            null,
                                            ErrorUtils.getErrorResponse(ErrorType.IO_ERROR, POSIXErrno.POSIX_ERROR_NONE, ex.toString(), ex));
                     } finally {
@@ -554,7 +652,8 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                 }
             });
         } catch (IOException ex) {
-            eventObjectFetched(fileId, record, null, ErrorUtils.getErrorResponse(ErrorType.ERRNO, POSIXErrno.POSIX_ERROR_EIO, ex.toString(), ex));
+            eventObjectFetched(fileId, record, osdUuid, startTimeNs, null,
+                    ErrorUtils.getErrorResponse(ErrorType.ERRNO, POSIXErrno.POSIX_ERROR_EIO, ex.toString(), ex));
         }
 
     }
@@ -563,61 +662,88 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         try {
             final String fileId = (String) method.getArgs()[0];
             final ObjectVersionMapping record = (ObjectVersionMapping) method.getArgs()[1];
-            final InternalObjectData data = (InternalObjectData) method.getArgs()[2];
-            final ErrorResponse error = (ErrorResponse) method.getArgs()[3];
+            final String osdUuid = (String) method.getArgs()[2];
+            final long startTimeNs = (Long) method.getArgs()[3];
+            final InternalObjectData data = (InternalObjectData) method.getArgs()[4];
+            final ErrorResponse error = (ErrorResponse) method.getArgs()[5];
+
+            // the slot is released even if the file was closed in the meantime
+            numObjsInFlight--;
+            releaseSourceOSD(osdUuid);
 
             ReplicatedFileState state = files.get(fileId);
-            if (state != null) {
+            if (state == null) {
+                fetchObjects();
+                return;
+            }
 
-                if (error != null) {
-                    numObjsInFlight--;
-                    fetchObjects();
+            if (error != null) {
+                fetchWindow.fetchFailed();
+                state.setNumObjectsPending(state.getNumObjectsPending() - 1);
 
-                    failed(state, error, "processObjectFetched");
-                } else if (data.getData() == null) {
-                    // data is null if object was deleted meanwhile.
-                    numObjsInFlight--;
+                if (record.getOsdUuidsCount() > 1) {
+                    // retry the object on the remaining up-to-date replicas
+                    Logging.logMessage(Logging.LEVEL_WARN, Category.replication, this,
+                            "(R:%s) cannot fetch object %d of file %s from %s, trying other replicas: %s", localID,
+                            record.getObjectNumber(), fileId, osdUuid, ErrorUtils.formatError(error));
+                    List<String> osdUuids = new ArrayList<String>(record.getOsdUuidsList());
+                    osdUuids.remove(osdUuid);
+                    state.getObjectsToFetch().add(0,
+                            record.toBuilder().clearOsdUuids().addAllOsdUuids(osdUuids).build());
+                    if (!filesInReset.contains(state)) {
+                        filesInReset.add(state);
+                    }
                     fetchObjects();
-
-                    ErrorResponse generatedError = ErrorResponse
-                            .newBuilder()
-                            .setErrorType(RPC.ErrorType.INTERNAL_SERVER_ERROR)
-                            .setErrorMessage("Fetching a missing object failed because no data was returned. The object was probably deleted meanwhile.")
-                            .build();
-                    failed(state, generatedError, "processObjectFetched");
                 } else {
-                    final int bytes = data.getData().remaining();
-                    master.getStorageStage().writeObjectWithoutGMax(fileId, record.getObjectNumber(),
-                            state.getsPolicy(), 0, data.getData(), CowPolicy.PolicyNoCow, null, false,
-                            record.getObjectVersion(), null, new WriteObjectCallback() {
-
-                                @Override
-                                public void writeComplete(OSDWriteResponse result, ErrorResponse error) {
-                                    if (error != null) {
-                                        Logging.logMessage(Logging.LEVEL_ERROR, Category.replication, this,
-                                                "cannot write object locally: %s", ErrorUtils.formatError(error));
-                                    }
-                                }
-                            });
-                    master.getPreprocStage().pingFile(fileId);
-                    master.objectReplicated();
-                    master.replicatedDataReceived(bytes);
-
-                    numObjsInFlight--;
-                    final int numPendingFile = state.getNumObjectsPending() - 1;
-                    state.setNumObjectsPending(numPendingFile);
-                    state.getPolicy().objectFetched(record.getObjectVersion());
-                    if (Logging.isDebug())
-                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,
-                                "(R:%s) fetched object for replica, file %s, remaining %d", localID, fileId,
-                                numPendingFile);
                     fetchObjects();
-                    if (numPendingFile == 0) {
-                        // reset complete!
-                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,
-                                "(R:%s) RESET complete for file %s", localID, fileId);
-                        doOpen(state);
-                    }
+                    failed(state, error, "processObjectFetched");
+                }
+            } else if (data.getData() == null) {
+                // data is null if object was deleted meanwhile.
+                fetchObjects();
+
+                ErrorResponse generatedError = ErrorResponse
+                        .newBuilder()
+                        .setErrorType(RPC.ErrorType.INTERNAL_SERVER_ERROR)
+                        .setErrorMessage("Fetching a missing object failed because no data was returned. The object was probably deleted meanwhile.")
+                        .build();
+                failed(state, generatedError, "processObjectFetched");
+            } else {
+                final long now = System.nanoTime();
+                fetchWindow.fetchCompleted(now - startTimeNs, now);
+
+                final int bytes = data.getData().remaining();
+                master.getStorageStage().writeObjectWithoutGMax(fileId, record.getObjectNumber(),
+                        state.getsPolicy(), 0, data.getData(), CowPolicy.PolicyNoCow, null, false,
+                        record.getObjectVersion(), null, new WriteObjectCallback() {
+
+                            @Override
+                            public void writeComplete(OSDWriteResponse result, ErrorResponse error) {
+                                if (error != null) {
+                                    Logging.logMessage(Logging.LEVEL_ERROR, Category.replication, this,
+                                            "cannot write object locally: %s", ErrorUtils.formatError(error));
+                                }
+                            }
+                        });
+                master.getPreprocStage().pingFile(fileId);
+                master.objectReplicated();
+                master.replicatedDataReceived(bytes);
+                state.objectFetched(bytes);
+
+                final int numPendingFile = state.getNumObjectsPending() - 1;
+                state.setNumObjectsPending(numPendingFile);
+                state.getPolicy().objectFetched(record.getObjectVersion());
+                if (Logging.isDebug())
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,
+                            "(R:%s) fetched object for replica, file %s, remaining %d", localID, fileId,
+                            numPendingFile + state.getObjectsToFetch().size());
+                fetchObjects();
+                // objects still waiting for a slot must be fetched as well
+                if (numPendingFile == 0 && state.getObjectsToFetch().isEmpty()) {
+                    // reset complete!
+                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.replication, this,
+                            "(R:%s) RESET complete for file %s", localID, fileId);
+                    doOpen(state);
                 }
             }
 
@@ -827,6 +953,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         file.setPrimaryReset(false);
         file.setState(ReplicaState.OPEN);
         file.setCellOpen(false);
+        file.setObjectsToFetch(new LinkedList<ObjectVersionMapping>());
         fstage.closeCell(file.getPolicy().getCellId(), false);
         file.clearPendingRequests(ex);
     }
@@ -971,6 +1098,7 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
         case STAGEOP_SETVIEW: processSetFleaseView(method); break;
         case STAGEOP_INVALIDATEVIEW: processInvalidateReplica(method); break;
         case STAGEOP_FETCHINVALIDATED: processFetchInvalidated(method); break;
+        case STAGEOP_INTERNAL_FETCH_OBJECTS: processFetchObjects(method); break;
         default : throw new IllegalArgumentException("no such stageop");
         }
     }
@@ -1307,6 +1435,17 @@ public class RWReplicationStage extends Stage implements FleaseMessageSenderInte
                     }
                 }
                 fStatus.put("role", primary);
+                if (fState.getState() == ReplicaState.RESET && fState.getNumObjectsToFetchTotal() > 0) {
+                    final int total = fState.getNumObjectsToFetchTotal();
+                    final int fetched = fState.getNumObjectsFetched();
+                    final long durationMs = Math.max(1, System.currentTimeMillis() - fState.getFetchStartTime());
+                    fStatus.put("reset progress", String.format("%d of %d objects (%d%%)", fetched, total,
+                            fetched * 100L / total));
+                    fStatus.put("reset throughput", String.format("%.2f MiB/s", fState.getBytesFetched() * 1000.0
+                            / durationMs / 1024 / 1024));
+                    fStatus.put("reset fetch window", String.format("%d objects (%d in flight on this OSD)",
+                            fetchWindow.getWindow(), numObjsInFlight));
+                }
                 status.put(fileId, fStatus);
             }
             callback.statusComplete(status);
@@ -71,6 +71,14 @@ public class ReplicatedFileState {
 
     private int                        numObjectsPending;
 
+    private int                        numObjectsToFetchTotal;
+
+    private int                        numObjectsFetched;
+
+    private long                       bytesFetched;
+
+    private long                       fetchStartTime;
+
     private boolean                    primaryReset;
 
     private boolean                    forceReset;
@@ -308,6 +316,53 @@ public class ReplicatedFileState {
         this.objectsToFetch = objectsToFetch;
     }
 
+    /**
+     * Sets the objects a RESET has to fetch from other replicas and starts tracking the progress of the RESET.
+     */
+    public void startFetching(List<ObjectVersionMapping> objectsToFetch) {
+        this.objectsToFetch = objectsToFetch;
+        this.numObjectsToFetchTotal = objectsToFetch.size();
+        this.numObjectsFetched = 0;
+        this.bytesFetched = 0;
+        this.fetchStartTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Records an object fetched by the current RESET.
+     */
+    public void objectFetched(int bytes) {
+        numObjectsFetched++;
+        bytesFetched += bytes;
+    }
+
+    /**
+     * @return the number of objects the current or last RESET had to fetch
+     */
+    public int getNumObjectsToFetchTotal() {
+        return numObjectsToFetchTotal;
+    }
+
+    /**
+     * @return the number of objects the current or last RESET has fetched
+     */
+    public int getNumObjectsFetched() {
+        return numObjectsFetched;
+    }
+
+    /**
+     * @return the number of bytes the current or last RESET has fetched
+     */
+    public long getBytesFetched() {
+        return bytesFetched;
+    }
+
+    /**
+     * @return the time in ms at which the current or last RESET started fetching objects
+     */
+    public long getFetchStartTime() {
+        return fetchStartTime;
+    }
+
     /**
      * @return the primary
      */
@@ -9,8 +9,8 @@
 package org.xtreemfs.osd.stages;
 
 import java.io.IOException;
-import java.util.Map.Entry;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.logging.Logging.Category;
@@ -19,23 +19,54 @@ import org.xtreemfs.osd.OSDRequest;
 import org.xtreemfs.osd.OSDRequestDispatcher;
 import org.xtreemfs.osd.storage.FileMetadata;
 import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.osd.storage.ObjectVersionMap;
 import org.xtreemfs.osd.storage.StorageLayout;
+import org.xtreemfs.osd.storage.StorageLayout.DeletionListener;
 
+/**
+ * Deletes the objects of deleted files. The stage only removes the files from the metadata cache and acknowledges
+ * the deletion; the objects are deleted in the background by a pool of delete threads. Each storage partition of
+ * the layout, i.e. each top-level hash directory, is assigned to one thread, so that the threads do not contend
+ * for the same directories and the requests for a file are processed in order. The number of object files deleted
+ * per second by all threads can be limited to protect the I/O of clients.
+ */
 public class DeletionStage extends Stage {
     
     public static final int      STAGEOP_DELETE_OBJECTS = 0;
     
+    /** min. interval in ms over which the deletion rate is averaged */
+    private static final long    RATE_INTERVAL_MS       = 10 * 1000;
+    
     private MetadataCache        cache;
     
     private StorageLayout        layout;
     
     private OSDRequestDispatcher master;
     
-    private DeleteThread         deletor;
+    private final DeleteThread[] deletors;
+    
+    private final Throttle       throttle;
     
     private long                 numFilesDeleted;
     
-    public DeletionStage(OSDRequestDispatcher master, MetadataCache cache, StorageLayout layout, int maxRequestsQueueLength) {
+    private final AtomicLong     numObjectFilesDeleted;
+    
+    private final AtomicLong     numBytesReclaimed;
+    
+    private long                 rateSampleTimeMs;
+    
+    private long                 rateSampleFiles;
+    
+    private int                  deletionRate;
+    
+    /**
+     * @param numThreads
+     *            number of threads deleting objects in the background
+     * @param maxObjectFilesPerSecond
+     *            max. number of object files deleted per second by all threads, 0 for no limit
+     */
+    public DeletionStage(OSDRequestDispatcher master, MetadataCache cache, StorageLayout layout, int numThreads,
+            int maxObjectFilesPerSecond, int maxRequestsQueueLength) {
         
         super("OSD DelSt", maxRequestsQueueLength);
         
@@ -43,18 +74,30 @@ public class DeletionStage extends Stage {
         this.cache = cache;
         this.layout = layout;
         
-        deletor = new DeleteThread(layout);
+        numObjectFilesDeleted = new AtomicLong();
+        numBytesReclaimed = new AtomicLong();
+        rateSampleTimeMs = System.currentTimeMillis();
+        
+        throttle = (maxObjectFilesPerSecond > 0) ? new Throttle(maxObjectFilesPerSecond) : null;
+        deletors = new DeleteThread[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            deletors[i] = new DeleteThread(i);
+        }
     }
     
     public void start() {
         super.start();
-        deletor.start();
-        deletor.setPriority(MIN_PRIORITY);
+        for (DeleteThread deletor : deletors) {
+            deletor.start();
+            deletor.setPriority(MIN_PRIORITY);
+        }
     }
     
     public void shutdown() {
         super.shutdown();
-        deletor.shutdown();
+        for (DeleteThread deletor : deletors) {
+            deletor.shutdown();
+        }
     }
     
     public void deleteObjects(String fileId, FileMetadata fi, boolean isCow, OSDRequest request,
@@ -70,6 +113,64 @@ public class DeletionStage extends Stage {
         return numFilesDeleted;
     }
     
+    /**
+     * @return the number of files whose objects wait for being deleted by the delete threads
+     */
+    public int getDeletionQueueLength() {
+        int length = 0;
+        for (DeleteThread deletor : deletors) {
+            length += deletor.getQueueLength();
+        }
+        return length;
+    }
+    
+    /**
+     * @return the number of files waiting for each delete thread
+     */
+    public int[] getDeletionQueueLengths() {
+        int[] lengths = new int[deletors.length];
+        for (int i = 0; i < deletors.length; i++) {
+            lengths[i] = deletors[i].getQueueLength();
+        }
+        return lengths;
+    }
+    
+    /**
+     * @return the number of object files deleted by the delete threads, including checksum and metadata files
+     */
+    public long getNumObjectFilesDeleted() {
+        return numObjectFilesDeleted.get();
+    }
+    
+    /**
+     * @return the size of the object files deleted by the delete threads in bytes
+     */
+    public long getNumBytesReclaimed() {
+        return numBytesReclaimed.get();
+    }
+    
+    /**
+     * Returns the number of object files deleted per second. The rate is averaged over the time since it was last
+     * calculated, but at least {@value #RATE_INTERVAL_MS} ms.
+     */
+    public synchronized int getDeletionRate() {
+        final long now = System.currentTimeMillis();
+        if (now - rateSampleTimeMs >= RATE_INTERVAL_MS) {
+            final long files = numObjectFilesDeleted.get();
+            deletionRate = (int) ((files - rateSampleFiles) * 1000 / (now - rateSampleTimeMs));
+            rateSampleFiles = files;
+            rateSampleTimeMs = now;
+        }
+        return deletionRate;
+    }
+    
+    /**
+     * @return the max. number of object files deleted per second, 0 if unlimited
+     */
+    public int getMaxDeletionRate() {
+        return (throttle == null) ? 0 : throttle.maxPerSecond;
+    }
+    
     public static interface DeleteObjectsCallback {
         
         public void deleteComplete(ErrorResponse error);
@@ -115,21 +216,70 @@ public class DeletionStage extends Stage {
         
         // remove all local objects
         if (layout.fileExists(fileId))
-            deletor.enqueueFileForDeletion(fileId, cow, fi, deleteMetadata);
+            deletors[layout.getStoragePartition(fileId) % deletors.length].enqueueFileForDeletion(fileId, cow,
+                fi, deleteMetadata);
         cback.deleteComplete(null);
     }
     
-    private final static class DeleteThread extends Thread {
+    /**
+     * Counts a deleted object file and waits until the throttle allows to delete the next one.
+     */
+    private void objectFileDeleted(long length) {
+        numObjectFilesDeleted.incrementAndGet();
+        numBytesReclaimed.addAndGet(length);
         
-        private transient boolean                   quit;
+        if (throttle != null) {
+            final long waitNanos = throttle.reserve(System.nanoTime());
+            if (waitNanos > 0) {
+                try {
+                    Thread.sleep(waitNanos / 1000000, (int) (waitNanos % 1000000));
+                } catch (InterruptedException e) {
+                    // the thread is shut down; the next take() on its queue ends the loop
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+    
+    /**
+     * Paces the deletions of all delete threads to a max. number per second. Time in which nothing was deleted is
+     * not saved up, so that the deletions following an idle period are paced as well.
+     */
+    private static final class Throttle {
+        
+        private final int  maxPerSecond;
         
-        private final StorageLayout                 layout;
+        private final long intervalNanos;
+        
+        private long       nextSlotNanos;
+        
+        Throttle(int maxPerSecond) {
+            this.maxPerSecond = maxPerSecond;
+            this.intervalNanos = 1000000000L / maxPerSecond;
+            this.nextSlotNanos = System.nanoTime();
+        }
+        
+        /**
+         * Reserves the next free slot.
+         * 
+         * @return the time in ns until the slot begins
+         */
+        synchronized long reserve(long nowNanos) {
+            final long slot = Math.max(nextSlotNanos, nowNanos);
+            nextSlotNanos = slot + intervalNanos;
+            return slot - nowNanos;
+        }
+    }
+    
+    private final class DeleteThread extends Thread implements DeletionListener {
+        
+        private transient boolean                   quit;
         
         private final LinkedBlockingQueue<Object[]> files;
         
-        public DeleteThread(StorageLayout layout) {
+        public DeleteThread(int id) {
+            super("OSD DelThr " + id);
             quit = false;
-            this.layout = layout;
             files = new LinkedBlockingQueue<Object[]>();
         }
         
@@ -144,13 +294,21 @@ public class DeletionStage extends Stage {
             files.add(new Object[] { fileID, cow, fi, deleteMetadata });
         }
         
+        public int getQueueLength() {
+            return files.size();
+        }
+        
+        @Override
+        public void fileDeleted(long length) {
+            objectFileDeleted(length);
+        }
+        
         public void run() {
+            if (Logging.isDebug())
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.lifecycle, this, "DeleteThread started");
+            
             try {
                 do {
-                    if (Logging.isDebug())
-                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.lifecycle, this,
-                            "DeleteThread started");
-                    
                     final Object[] file = files.take();
                     final String fileId = (String) file[0];
                     final boolean cow = (Boolean) file[1];
@@ -177,18 +335,22 @@ public class DeletionStage extends Stage {
                             // if no previous versions exist, delete the file
                             // including all its metadata if requested
                             if (fi.getVersionTable().getVersionCount() == 0)
-                                layout.deleteFile(fileId, deleteMetadata);
+                                layout.deleteFile(fileId, deleteMetadata, this);
                             
                             // if other versions exist, only delete those
                             // objects that make up the latest version of the
                             // file and are not part of former file versions
                             else {
                                 
-                                for (Entry<Long, Long> entry : fi.getLatestObjectVersions()) {
-                                    long objNo = entry.getKey();
-                                    long objVer = entry.getValue();
-                                    if (!fi.getVersionTable().isContained(objNo, objVer))
+                                ObjectVersionMap objVersions = fi.getLatestObjectVersions();
+                                for (int i = objVersions.nextSlot(-1); i != -1; i = objVersions.nextSlot(i)) {
+                                    long objNo = objVersions.keyAt(i);
+                                    long objVer = objVersions.valueAt(i);
+                                    if (!fi.getVersionTable().isContained(objNo, objVer)) {
                                         layout.deleteObject(fileId, fi, objNo, objVer);
+                                        // the size of the object is not known here
+                                        objectFileDeleted(0);
+                                    }
                                 }
                                 
                                 layout.updateCurrentVersionSize(fileId, 0);
@@ -198,7 +360,7 @@ public class DeletionStage extends Stage {
 
                         // otherwise ...
                         else
-                            layout.deleteFile(fileId, deleteMetadata);
+                            layout.deleteFile(fileId, deleteMetadata, this);
                         
                         yield();
                         
@@ -9,9 +9,7 @@
 package org.xtreemfs.osd.stages;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import org.xtreemfs.common.Capability;
@@ -32,6 +30,7 @@ import org.xtreemfs.foundation.pbrpc.utils.ErrorUtils;
 import org.xtreemfs.foundation.pbrpc.utils.ReusableBufferInputStream;
 import org.xtreemfs.foundation.util.OutputUtils;
 import org.xtreemfs.osd.AdvisoryLock;
+import org.xtreemfs.osd.CapabilityCache;
 import org.xtreemfs.osd.OSDRequest;
 import org.xtreemfs.osd.OSDRequestDispatcher;
 import org.xtreemfs.osd.OpenFileTable;
@@ -84,8 +83,6 @@ public class PreprocStage extends Stage {
     
     private final static long                               OFT_OPEN_EXTENSION         = 1000 * 30;
     
-    private final Map<String, LRUCache<String, Capability>> capCache;
-    
     private final OpenFileTable                             oft;
     
     // time left to next clean op
@@ -109,15 +106,12 @@ public class PreprocStage extends Stage {
     
     private final boolean                                   ignoreCaps;
     
-    private static final int                                MAX_CAP_CACHE              = 20;
-    
     /** Creates a new instance of AuthenticationStage */
     public PreprocStage(OSDRequestDispatcher master, MetadataCache metadataCache, StorageLayout layout,
             int maxRequestsQueueLength) {
         
         super("OSD PreProcSt", maxRequestsQueueLength);
         
-        capCache = new HashMap();
         oft = new OpenFileTable();
         xLocCache = new LRUCache<String, XLocations>(10000);
         this.master = master;
@@ -204,6 +198,7 @@ public class PreprocStage extends Stage {
                     cowPolicy = new CowPolicy(cowMode.COW_ONCE);
 
                 oft.openFile(fileId, TimeSync.getLocalSystemTime() + OFT_OPEN_EXTENSION, cowPolicy, write);
+                metadataCache.pin(fileId);
                 request.setFileOpen(true);
             }
             request.setCowPolicy(cowPolicy);
@@ -366,7 +361,7 @@ public class PreprocStage extends Stage {
         final CloseCallback callback = (CloseCallback) m.getCallback();
 
         OpenFileTableEntry entry = oft.close(fileId);
-        LRUCache<String, Capability> cachedCaps = capCache.remove(entry.getFileId());
+        metadataCache.unpin(fileId);
 
         callback.closeResult(entry, null);
     }
@@ -436,8 +431,8 @@ public class PreprocStage extends Stage {
                         "send internal close event for %s, deleteOnClose=%b", entry.getFileId(), entry
                                 .isDeleteOnClose());
                 
-                // Remove the cached capabilities.
-                capCache.remove(entry.getFileId());
+                // Allow the file's metadata to be evicted from the cache.
+                metadataCache.unpin(entry.getFileId());
                 
                 // Send close event (creates a new file version if necessary).
                 OSDOperation closeEvent = master.getInternalEvent(EventCloseFile.class);
@@ -460,6 +455,9 @@ public class PreprocStage extends Stage {
                 }
             }
 
+            // Drop the expired capabilities from the cache of verified capabilities.
+            master.getCapabilityCache().purgeExpired();
+
             timeToNextOFTclean = OFT_CLEAN_INTERVAL;
         }
         lastOFTcheck = TimeSync.getLocalSystemTime();
@@ -603,27 +601,20 @@ public class PreprocStage extends Stage {
         // check if the capability is valid
         boolean isValid = false;
         // look in capCache
-        LRUCache<String, Capability> cachedCaps = capCache.get(rqCap.getFileId());
-        if (cachedCaps != null) {
-            final Capability cap = cachedCaps.get(rqCap.getSignature());
-            if (cap != null) {
-                if (Logging.isDebug()) {
-                    Logging.logMessage(Logging.LEVEL_DEBUG, this, "using cached cap: %s %s", cap.getFileId(),
-                        cap.getSignature());
-                }
-                isValid = !cap.hasExpired();
+        final CapabilityCache capCache = master.getCapabilityCache();
+        if (capCache.isVerified(rqCap)) {
+            if (Logging.isDebug()) {
+                Logging.logMessage(Logging.LEVEL_DEBUG, this, "using cached cap: %s %s", rqCap.getFileId(),
+                    rqCap.getSignature());
             }
+            isValid = !rqCap.hasExpired();
         }
                 
         if (!isValid) {
             isValid = rqCap.isValid();
             if (isValid) {
                 // add to cache
-                if (cachedCaps == null) {
-                    cachedCaps = new LRUCache<String, Capability>(MAX_CAP_CACHE);
-                    capCache.put(rqCap.getFileId(), cachedCaps);
-                }
-                cachedCaps.put(rqCap.getSignature(), rqCap);
+                capCache.put(rqCap);
             }
         }
         
@@ -103,21 +103,34 @@ public abstract class Stage extends LifeCycleThread {
                     Logging.logError(Logging.LEVEL_DEBUG, this, e);
                 }
             } else {
-                // Make sure that the data buffer is returned to the pool if
-                // necessary, as some operations create view buffers on the
-                // data. Otherwise, a 'finalized but not freed before' warning
-                // may occur.
-                if (createdViewBuffer != null) {
-                    assert (createdViewBuffer.getRefCount() >= 2);
-                    BufferPool.free(createdViewBuffer);
-                }
-                Logging.logMessage(Logging.LEVEL_WARN, this, "stage is overloaded, request %d for %s dropped",
-                        request.getRequestId(), request.getFileId());
-                request.sendInternalServerError(new IllegalStateException("server overloaded, request dropped"));
+                dropRequest(request, createdViewBuffer);
             }
         }
     }
     
+    /**
+     * Rejects a request because the stage is overloaded.
+     * 
+     * @param request
+     *            the request
+     * @param createdViewBuffer
+     *            an optional additional view buffer to the data, which will be
+     *            freed
+     */
+    protected void dropRequest(OSDRequest request, ReusableBuffer createdViewBuffer) {
+        // Make sure that the data buffer is returned to the pool if
+        // necessary, as some operations create view buffers on the
+        // data. Otherwise, a 'finalized but not freed before' warning
+        // may occur.
+        if (createdViewBuffer != null) {
+            assert (createdViewBuffer.getRefCount() >= 2);
+            BufferPool.free(createdViewBuffer);
+        }
+        Logging.logMessage(Logging.LEVEL_WARN, this, "stage is overloaded, request %d for %s dropped",
+                request.getRequestId(), request.getFileId());
+        request.sendInternalServerError(new IllegalStateException("server overloaded, request dropped"));
+    }
+    
     /**
      * shut the stage thread down
      */
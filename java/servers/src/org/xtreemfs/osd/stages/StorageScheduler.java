@@ -0,0 +1,383 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.stages;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.xtreemfs.osd.stages.Stage.StageRequest;
+
+/**
+ * Distributes the requests of the storage stage among the storage threads.
+ * <p>
+ * Requests are queued per file, and the requests of a file are executed one after another in the order they were
+ * enqueued. A file with pending requests is assigned to a run queue of its home thread, which is determined by
+ * hashing the file ID, so that a file is usually processed by the same thread. A thread without runnable files
+ * steals the longest waiting file from the thread with the most pending requests, so that a hot file or a slow
+ * operation does not stall other files while threads are idle.
+ * <p>
+ * For each thread, the scheduler keeps track of its queue depth, i.e. the number of pending requests of the files
+ * assigned to it, and of the time requests spent waiting before being taken.
+ */
+public class StorageScheduler {
+
+    private final ReentrantLock                lock;
+
+    private final Condition[]                  workAvailable;
+
+    private final boolean[]                    idle;
+
+    private final ArrayDeque<FileQueue>[]      runQueues;
+
+    private final FileQueue[]                  running;
+
+    /** all files with pending or running requests */
+    private final Map<String, FileQueue>       files;
+
+    private final int                          capacity;
+
+    private int                                numPending;
+
+    // per-thread statistics, guarded by lock
+
+    private final int[]                        queueDepth;
+
+    private final long[]                       numTaken;
+
+    private final long[]                       numStolen;
+
+    private final long[]                       sumWaitNanos;
+
+    private final long[]                       maxWaitNanos;
+
+    /**
+     * @param numThreads
+     *            number of storage threads
+     * @param capacity
+     *            max. number of pending requests; further requests from clients are rejected
+     */
+    @SuppressWarnings("unchecked")
+    public StorageScheduler(int numThreads, int capacity) {
+        this.capacity = capacity;
+        lock = new ReentrantLock();
+        workAvailable = new Condition[numThreads];
+        idle = new boolean[numThreads];
+        runQueues = new ArrayDeque[numThreads];
+        running = new FileQueue[numThreads];
+        files = new HashMap<String, FileQueue>();
+        queueDepth = new int[numThreads];
+        numTaken = new long[numThreads];
+        numStolen = new long[numThreads];
+        sumWaitNanos = new long[numThreads];
+        maxWaitNanos = new long[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            workAvailable[i] = lock.newCondition();
+            runQueues[i] = new ArrayDeque<FileQueue>();
+        }
+    }
+
+    /**
+     * Enqueues a request for a file.
+     *
+     * @param fileId
+     *            the file the request refers to
+     * @param rq
+     *            the request
+     * @param bounded
+     *            if <code>true</code>, the request is rejected if the max. number of pending requests is reached
+     * @return <code>false</code> if the request was rejected
+     */
+    public boolean enqueue(String fileId, StageRequest rq, boolean bounded) {
+        assert (fileId != null);
+        lock.lock();
+        try {
+            if (bounded && numPending >= capacity) {
+                return false;
+            }
+
+            FileQueue fq = files.get(fileId);
+            if (fq == null) {
+                fq = new FileQueue(fileId, getHomeThread(fileId));
+                files.put(fileId, fq);
+            }
+
+            fq.requests.add(rq);
+            fq.enqueueNanos.add(System.nanoTime());
+            numPending++;
+
+            if (fq.thread != -1) {
+                // the file is already queued or running
+                queueDepth[fq.thread]++;
+            } else {
+                schedule(fq);
+            }
+            return true;
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes the next request to execute. The request must be completed with {@link #complete(int)} before the
+     * thread takes another one.
+     *
+     * @param thread
+     *            the index of the calling thread
+     * @return the request
+     * @throws InterruptedException
+     *             if the thread was interrupted while waiting for a request
+     */
+    public StageRequest take(int thread) throws InterruptedException {
+        return poll(thread, -1);
+    }
+
+    /**
+     * Takes the next request to execute, waiting at most the given time for a request to become runnable. The
+     * request must be completed with {@link #complete(int)} before the thread takes another one.
+     *
+     * @param thread
+     *            the index of the calling thread
+     * @param timeoutNanos
+     *            max. time to wait in nanoseconds; a negative value waits without a limit
+     * @return the request, or <code>null</code> if the timeout expired
+     * @throws InterruptedException
+     *             if the thread was interrupted while waiting for a request
+     */
+    public StageRequest poll(int thread, long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            assert (running[thread] == null);
+
+            FileQueue fq = runQueues[thread].poll();
+            while (fq == null) {
+                fq = steal(thread);
+                if (fq != null) {
+                    break;
+                }
+                if (timeoutNanos == 0) {
+                    return null;
+                }
+
+                idle[thread] = true;
+                try {
+                    if (timeoutNanos < 0) {
+                        workAvailable[thread].await();
+                    } else {
+                        timeoutNanos = Math.max(workAvailable[thread].awaitNanos(timeoutNanos), 0);
+                    }
+                } finally {
+                    idle[thread] = false;
+                }
+                fq = runQueues[thread].poll();
+            }
+
+            running[thread] = fq;
+            final long waitNanos = System.nanoTime() - fq.enqueueNanos.poll();
+            final StageRequest rq = fq.requests.poll();
+            numPending--;
+            queueDepth[thread]--;
+
+            numTaken[thread]++;
+            sumWaitNanos[thread] += waitNanos;
+            if (waitNanos > maxWaitNanos[thread]) {
+                maxWaitNanos[thread] = waitNanos;
+            }
+
+            return rq;
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Completes the request most recently taken by the given thread. Pending requests for the same file become
+     * runnable again.
+     */
+    public void complete(int thread) {
+        lock.lock();
+        try {
+            final FileQueue fq = running[thread];
+            assert (fq != null);
+            running[thread] = null;
+
+            if (fq.requests.isEmpty()) {
+                fq.thread = -1;
+                files.remove(fq.fileId);
+            } else {
+                queueDepth[thread] -= fq.requests.size();
+                schedule(fq);
+            }
+
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the total number of pending requests
+     */
+    public int getQueueLength() {
+        lock.lock();
+        try {
+            return numPending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getNumThreads() {
+        return runQueues.length;
+    }
+
+    /**
+     * @return the number of pending requests of the files assigned to the given thread
+     */
+    public int getQueueDepth(int thread) {
+        lock.lock();
+        try {
+            return queueDepth[thread];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of requests taken by the given thread
+     */
+    public long getNumTaken(int thread) {
+        lock.lock();
+        try {
+            return numTaken[thread];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of files the given thread took over from other threads
+     */
+    public long getNumStolen(int thread) {
+        lock.lock();
+        try {
+            return numStolen[thread];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the average time requests taken by the given thread were queued, in nanoseconds
+     */
+    public long getAvgWaitNanos(int thread) {
+        lock.lock();
+        try {
+            return numTaken[thread] == 0 ? 0 : sumWaitNanos[thread] / numTaken[thread];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the max. time a request taken by the given thread was queued, in nanoseconds
+     */
+    public long getMaxWaitNanos(int thread) {
+        lock.lock();
+        try {
+            return maxWaitNanos[thread];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends a file with pending requests to the run queue of its home thread, and wakes up the home thread or,
+     * if it is busy, another idle thread.
+     */
+    private void schedule(FileQueue fq) {
+        final int home = fq.home;
+        fq.thread = home;
+        runQueues[home].add(fq);
+        queueDepth[home] += fq.requests.size();
+
+        if (idle[home]) {
+            wakeUp(home);
+            return;
+        }
+        for (int i = 0; i < idle.length; i++) {
+            if (idle[i]) {
+                wakeUp(i);
+                return;
+            }
+        }
+    }
+
+    private void wakeUp(int thread) {
+        // reset the flag right away, so that the next runnable file wakes up another thread
+        idle[thread] = false;
+        workAvailable[thread].signal();
+    }
+
+    /**
+     * Takes over the longest waiting file from the thread with the most pending requests.
+     */
+    private FileQueue steal(int thread) {
+        int victim = -1;
+        for (int i = 0; i < runQueues.length; i++) {
+            if (i != thread && !runQueues[i].isEmpty() && (victim == -1 || queueDepth[i] > queueDepth[victim])) {
+                victim = i;
+            }
+        }
+        if (victim == -1) {
+            return null;
+        }
+
+        final FileQueue fq = runQueues[victim].poll();
+        final int size = fq.requests.size();
+        queueDepth[victim] -= size;
+        queueDepth[thread] += size;
+        fq.thread = thread;
+        numStolen[thread]++;
+        return fq;
+    }
+
+    private int getHomeThread(String fileId) {
+        int hash = fileId.hashCode();
+        if (hash == Integer.MIN_VALUE) {
+            return 0;
+        }
+        return Math.abs(hash) % runQueues.length;
+    }
+
+    private static final class FileQueue {
+
+        final String                   fileId;
+
+        final int                      home;
+
+        final ArrayDeque<StageRequest> requests;
+
+        final ArrayDeque<Long>         enqueueNanos;
+
+        /** the thread the file is queued at or running on, -1 if it has no pending requests */
+        int                            thread;
+
+        FileQueue(String fileId, int home) {
+            this.fileId = fileId;
+            this.home = home;
+            this.requests = new ArrayDeque<StageRequest>(4);
+            this.enqueueNanos = new ArrayDeque<Long>(4);
+            this.thread = -1;
+        }
+    }
+
+}
@@ -22,6 +22,7 @@ import org.xtreemfs.osd.OSDRequestDispatcher;
 import org.xtreemfs.osd.replication.ObjectSet;
 import org.xtreemfs.osd.storage.CowPolicy;
 import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.GroupCommit;
 import org.xtreemfs.osd.storage.MetadataCache;
 import org.xtreemfs.osd.storage.ObjectInformation;
 import org.xtreemfs.osd.storage.StorageLayout;
@@ -33,6 +34,7 @@ import org.xtreemfs.pbrpc.generatedinterfaces.OSD.ReplicaStatus;
 public class StorageStage extends Stage {
     
     private StorageThread[] storageThreads;
+    private final StorageScheduler scheduler;
     private final StorageLayout layout;
     
     /** Creates a new instance of MultithreadedStorageStage */
@@ -47,10 +49,11 @@ public class StorageStage extends Stage {
         if (numOfThreads > 0)
             numberOfThreads = numOfThreads;
         
+        // The stage accepts as many requests as the formerly separate queues of all storage threads did.
+        scheduler = new StorageScheduler(numberOfThreads, maxRequestsQueueLength * numberOfThreads);
         storageThreads = new StorageThread[numberOfThreads];
         for (int i = 0; i < numberOfThreads; i++) {
-            // Each storage thread gets the max. queue length as it is possible that one thread gets the whole load
-            storageThreads[i] = new StorageThread(i, master, cache, layout, maxRequestsQueueLength);
+            storageThreads[i] = new StorageThread(i, master, cache, layout, scheduler);
             storageThreads[i].setLifeCycleListener(master);
         }
     }
@@ -59,6 +62,21 @@ public class StorageStage extends Stage {
         return layout;
     }
 
+    /**
+     * @return the scheduler distributing requests among the storage threads, which also provides per-thread
+     *         statistics
+     */
+    public StorageScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * @return the group commit of the given storage thread, or <code>null</code> if group commits are disabled
+     */
+    public GroupCommit getGroupCommit(int thread) {
+        return storageThreads[thread].getGroupCommit();
+    }
+
     
     public void readObject(String fileId, long objNo, StripingPolicyImpl sp, int offset, int length,
         long versionTimestamp, OSDRequest request, ReadObjectCallback listener) {
@@ -222,15 +240,11 @@ public class StorageStage extends Stage {
             
             // rq.setEnqueueNanos(System.nanoTime());
             
-            // choose the thread the new request has to be
-            // assigned to, for its execution
-            int taskId = getTaskId(fileId);
-            
-            // add the new request to the storageTask,
-            // in order to start/schedule its execution
-            // concurrently with other threads assigned to other
-            // storageTasks
-            storageThreads[taskId].enqueueOperation(stageOp, args, request, createdViewBuffer, callback);
+            // queue the request for the file; requests of different files
+            // are executed concurrently by the storage threads, requests of
+            // the same file in the order they were enqueued
+            if (!scheduler.enqueue(fileId, new StageRequest(stageOp, args, request, callback), request != null))
+                dropRequest(request, createdViewBuffer);
         }
     
     public void run() {
@@ -254,26 +268,9 @@ public class StorageStage extends Stage {
         // wait for all storage threads to be shut down
         for (StorageThread th : storageThreads)
             th.waitForShutdown();
-    }
-    
-    private int getTaskId(String fileId) {
-        
-        // calculate a hash value from the file ID and return the responsible
-        // thread
-        assert (fileId != null);
-        int hash = fileId.hashCode();
-        if (hash == Integer.MIN_VALUE) {
-            return 0;
-        }
-        int key = Math.abs(hash);
-        int index = (key % storageThreads.length);
-        
-        // String objId = rq.getDetails().getFileId()
-        // + rq.getDetails().getObjectNumber();
-        // int key = Math.abs(objId.hashCode());
-        // int index = (key % storageThreads.length);
-        
-        return index;
+
+        // release resources that were held by the storage threads
+        layout.shutdown();
     }
     
     @Override
@@ -283,12 +280,7 @@ public class StorageStage extends Stage {
     
     @Override
     public int getQueueLength() {
-        
-        int len = 0;
-        for(StorageThread th: storageThreads)
-            len += th.getQueueLength();
-        
-        return len;
+        return scheduler.getQueueLength();
     }
     
 }
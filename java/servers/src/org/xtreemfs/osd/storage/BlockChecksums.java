@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+
+import org.xtreemfs.foundation.checksums.ChecksumAlgorithm;
+
+/**
+ * Checksums of the blocks of an object file of the {@link HashStorageLayout}, kept in a sidecar file next to the
+ * object file. Unlike a checksum of the whole object, they allow a partial write to re-hash only the blocks it
+ * touches, and a read to verify only the blocks it returns.
+ * <p>
+ * The sidecar of an object file is a hidden file named after the object file. It starts with the block size,
+ * followed by the checksum of each block of the object. The last block of an object may be shorter than the
+ * block size. A sidecar with another block size, e.g. after the block size was reconfigured, is replaced by the
+ * next write of the object.
+ */
+public class BlockChecksums {
+
+    /** suffix of the sidecar files */
+    public static final String FILE_SUFFIX = ".bcs";
+
+    private static final int   HEADER_SIZE = 4;
+
+    private static final int   ENTRY_SIZE  = 8;
+
+    /**
+     * @return the path of the sidecar of the given object file
+     */
+    public static String getSidecarPath(String objectPath) {
+        final int nameStart = objectPath.lastIndexOf('/') + 1;
+        return objectPath.substring(0, nameStart) + "." + objectPath.substring(nameStart) + FILE_SUFFIX;
+    }
+
+    /**
+     * @return <code>true</code> if the given file name is the name of a sidecar
+     */
+    public static boolean isSidecar(String fileName) {
+        return fileName.startsWith(".") && fileName.endsWith(FILE_SUFFIX);
+    }
+
+    /**
+     * @return the number of blocks of an object of the given length
+     */
+    public static int getNumBlocks(long length, int blockSize) {
+        return (int) ((length + blockSize - 1) / blockSize);
+    }
+
+    /**
+     * Calculates the checksums of the blocks of the given data, which has to start at a block boundary. The
+     * position of the buffer is not changed.
+     */
+    public static long[] calculate(ChecksumAlgorithm algorithm, ByteBuffer data, int blockSize) {
+        final ByteBuffer block = data.duplicate();
+        final int end = block.limit();
+        final long[] checksums = new long[getNumBlocks(block.remaining(), blockSize)];
+
+        // the blocks are hashed in place, as views of the buffer
+        for (int i = 0; i < checksums.length; i++) {
+            final int start = data.position() + i * blockSize;
+            block.limit(Math.min(end, start + blockSize));
+            block.position(start);
+            algorithm.reset();
+            algorithm.update(block);
+            checksums[i] = algorithm.getValue();
+        }
+        return checksums;
+    }
+
+    /**
+     * Reads the block size of a sidecar.
+     *
+     * @return the block size, or 0 if the sidecar does not exist
+     */
+    public static int readBlockSize(String sidecarPath) throws IOException {
+        RandomAccessFile raf;
+        try {
+            raf = new RandomAccessFile(sidecarPath, "r");
+        } catch (FileNotFoundException exc) {
+            return 0;
+        }
+        try {
+            return (raf.length() < HEADER_SIZE) ? 0 : raf.readInt();
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Reads the checksums of a range of blocks from a sidecar.
+     *
+     * @return the checksums, or <code>null</code> if the sidecar does not exist, has another block size or does
+     *         not cover all blocks of the range
+     */
+    public static long[] read(String sidecarPath, int blockSize, int firstBlock, int numBlocks)
+            throws IOException {
+        RandomAccessFile raf;
+        try {
+            raf = new RandomAccessFile(sidecarPath, "r");
+        } catch (FileNotFoundException exc) {
+            return null;
+        }
+        try {
+            if (raf.length() < HEADER_SIZE + (long) (firstBlock + numBlocks) * ENTRY_SIZE
+                    || raf.readInt() != blockSize) {
+                return null;
+            }
+
+            ByteBuffer entries = ByteBuffer.allocate(numBlocks * ENTRY_SIZE);
+            long position = HEADER_SIZE + (long) firstBlock * ENTRY_SIZE;
+            while (entries.hasRemaining()) {
+                position += raf.getChannel().read(entries, position);
+            }
+            entries.flip();
+
+            long[] checksums = new long[numBlocks];
+            for (int i = 0; i < numBlocks; i++) {
+                checksums[i] = entries.getLong();
+            }
+            return checksums;
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Writes the checksums of a range of blocks to a sidecar, and cuts it to the given number of blocks. The
+     * checksums of the blocks before the range have to be present already, unless the range starts at the first
+     * block, in which case the sidecar is created or replaced.
+     *
+     * @param totalBlocks
+     *            the number of blocks of the object
+     */
+    public static void write(String sidecarPath, int blockSize, int firstBlock, long[] checksums,
+            int totalBlocks, boolean sync) throws IOException {
+        final int numEntries = Math.min(checksums.length, totalBlocks - firstBlock);
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_SIZE + Math.max(0, numEntries) * ENTRY_SIZE);
+        if (firstBlock == 0) {
+            buf.putInt(blockSize);
+        } else {
+            buf.position(HEADER_SIZE);
+        }
+        for (int i = 0; i < numEntries; i++) {
+            buf.putLong(checksums[i]);
+        }
+        buf.flip();
+
+        long position = 0;
+        if (firstBlock > 0) {
+            buf.position(HEADER_SIZE);
+            position = HEADER_SIZE + (long) firstBlock * ENTRY_SIZE;
+        }
+
+        RandomAccessFile raf = new RandomAccessFile(sidecarPath, sync ? "rwd" : "rw");
+        try {
+            while (buf.hasRemaining()) {
+                position += raf.getChannel().write(buf, position);
+            }
+            final long length = HEADER_SIZE + (long) totalBlocks * ENTRY_SIZE;
+            if (raf.length() > length) {
+                raf.setLength(length);
+            }
+        } finally {
+            raf.close();
+        }
+    }
+}
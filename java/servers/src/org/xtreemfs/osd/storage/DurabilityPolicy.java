@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decides whether a write has to be on stable storage before it is acknowledged. By default, writes are
+ * synchronous if the client opened the file with O_SYNC. The default and the policy of individual volumes can
+ * be overridden, e.g. to make all writes to a volume holding VM images synchronous, or to acknowledge writes to a
+ * scratch volume right away even if the client asked for O_SYNC.
+ */
+public class DurabilityPolicy {
+
+    public static enum Mode {
+        /** writes are synchronous if requested by the client */
+        CLIENT,
+        /** writes are never synchronous */
+        ASYNC,
+        /** writes are always synchronous */
+        SYNC
+    }
+
+    private final Mode              defaultMode;
+
+    private final Map<String, Mode> volumeModes;
+
+    public DurabilityPolicy(Mode defaultMode, Map<String, Mode> volumeModes) {
+        this.defaultMode = defaultMode;
+        this.volumeModes = volumeModes;
+    }
+
+    /**
+     * Parses a durability policy.
+     *
+     * @param defaultMode
+     *            the mode of all volumes without a specific mode, one of "client", "async" and "sync"
+     * @param volumeModes
+     *            a comma-separated list of <code>&lt;volume UUID&gt;=&lt;mode&gt;</code> entries, may be
+     *            <code>null</code> or empty
+     * @return the policy
+     * @throws IllegalArgumentException
+     *             if a mode or an entry is invalid
+     */
+    public static DurabilityPolicy parse(String defaultMode, String volumeModes) throws IllegalArgumentException {
+
+        Map<String, Mode> modes = new HashMap<String, Mode>();
+        if (volumeModes != null) {
+            for (String entry : volumeModes.split(",")) {
+                entry = entry.trim();
+                if (entry.isEmpty())
+                    continue;
+
+                final int sep = entry.indexOf('=');
+                if (sep <= 0)
+                    throw new IllegalArgumentException("invalid volume durability entry '" + entry
+                        + "', expected <volume UUID>=<mode>");
+                modes.put(entry.substring(0, sep).trim(), parseMode(entry.substring(sep + 1)));
+            }
+        }
+
+        return new DurabilityPolicy(defaultMode == null ? Mode.CLIENT : parseMode(defaultMode), modes);
+    }
+
+    /**
+     * @param fileId
+     *            the file written to
+     * @param clientSync
+     *            <code>true</code> if the client requested a synchronous write
+     * @return <code>true</code> if the write has to be on stable storage before it is acknowledged
+     */
+    public boolean isSyncWrite(String fileId, boolean clientSync) {
+        Mode mode = defaultMode;
+        if (!volumeModes.isEmpty()) {
+            final int sep = fileId.indexOf(':');
+            if (sep > 0) {
+                Mode volumeMode = volumeModes.get(fileId.substring(0, sep));
+                if (volumeMode != null)
+                    mode = volumeMode;
+            }
+        }
+
+        switch (mode) {
+        case ASYNC:
+            return false;
+        case SYNC:
+            return true;
+        default:
+            return clientSync;
+        }
+    }
+
+    private static Mode parseMode(String mode) throws IllegalArgumentException {
+        try {
+            return Mode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException exc) {
+            throw new IllegalArgumentException("invalid durability mode '" + mode.trim()
+                + "', expected one of client, async, sync");
+        }
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+
+/**
+ * A bounded LRU cache of open object files, keyed by the absolute path of the object file on disk. Each storage
+ * thread owns one instance, so that repeated accesses to the same object do not have to pay for open, stat and
+ * close system calls.
+ * <p>
+ * Handles are only used by the owning thread, which has to {@link #release(RandomAccessFile)} a handle once it is
+ * done with it. Invalidation may be triggered from any thread (e.g. by the deletion stage), which is why all
+ * methods are synchronized. A handle that is in use when it is invalidated or evicted is not closed right away,
+ * as the owning thread may be in the middle of reading, writing or flushing it; it is removed from the cache and
+ * closed when it is released.
+ */
+public class FileHandleCache {
+
+    private final LinkedHashMap<String, Handle>             handles;
+
+    /** handles in use by the owning thread, including those removed from {@link #handles} meanwhile */
+    private final IdentityHashMap<RandomAccessFile, Handle> inUse;
+
+    private final int                                       maxSize;
+
+    private long                                            hits;
+
+    private long                                            misses;
+
+    private long                                            evictions;
+
+    public FileHandleCache(int maxSize) {
+        assert (maxSize > 0);
+        this.maxSize = maxSize;
+        this.handles = new LinkedHashMap<String, Handle>(maxSize, 0.75f, true);
+        this.inUse = new IdentityHashMap<RandomAccessFile, Handle>();
+    }
+
+    /**
+     * Returns an open handle for the object file at the given path. The handle has to be released with
+     * {@link #release(RandomAccessFile)}.
+     *
+     * @param path
+     *            absolute path of the object file
+     * @param create
+     *            if <code>true</code>, the file is created if it does not exist
+     * @return the handle, or <code>null</code> if the file does not exist and <code>create</code> is not set
+     * @throws IOException
+     *             if the file cannot be opened
+     */
+    public synchronized RandomAccessFile open(String path, boolean create) throws IOException {
+
+        Handle h = handles.get(path);
+        if (h != null) {
+            hits++;
+            acquire(h);
+            return h.file;
+        }
+
+        misses++;
+        File file = new File(path);
+        if (!create && !file.exists()) {
+            return null;
+        }
+
+        h = new Handle(path, new RandomAccessFile(file, "rw"));
+        handles.put(path, h);
+        acquire(h);
+
+        if (handles.size() > maxSize) {
+            Iterator<Handle> it = handles.values().iterator();
+            Handle eldest = it.next();
+            it.remove();
+            discard(eldest);
+            evictions++;
+        }
+
+        return h.file;
+    }
+
+    /**
+     * Releases a handle returned by {@link #open(String, boolean)}. A handle that was invalidated or evicted while
+     * it was in use is closed.
+     *
+     * @param f
+     *            the handle
+     */
+    public synchronized void release(RandomAccessFile f) {
+        Handle h = inUse.get(f);
+        assert (h != null) : "handle was not opened by this cache";
+        if (h == null) {
+            return;
+        }
+
+        if (--h.refCount == 0) {
+            inUse.remove(f);
+            if (h.invalid) {
+                close(h);
+            }
+        }
+    }
+
+    /**
+     * Removes the handle for the object file at the given path, if cached, and closes it unless it is in use.
+     * Must be called before an object file is deleted or renamed.
+     *
+     * @param path
+     *            absolute path of the object file
+     */
+    public synchronized void invalidate(String path) {
+        Handle h = handles.remove(path);
+        if (h != null) {
+            discard(h);
+        }
+    }
+
+    /**
+     * Removes all handles of object files whose paths start with the given prefix, e.g. all objects in the
+     * directory of a file, and closes those that are not in use.
+     *
+     * @param pathPrefix
+     *            path prefix of the object files to invalidate
+     */
+    public synchronized void invalidateAll(String pathPrefix) {
+        Iterator<Entry<String, Handle>> it = handles.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry<String, Handle> e = it.next();
+            if (e.getKey().startsWith(pathPrefix)) {
+                it.remove();
+                discard(e.getValue());
+            }
+        }
+    }
+
+    /**
+     * Closes all cached handles. Handles in use are closed when they are released.
+     */
+    public synchronized void clear() {
+        for (Handle h : handles.values()) {
+            discard(h);
+        }
+        handles.clear();
+    }
+
+    public synchronized int size() {
+        return handles.size();
+    }
+
+    /**
+     * @return the number of handles in use, including invalidated handles that were not released yet
+     */
+    public synchronized int getNumInUse() {
+        return inUse.size();
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    private void acquire(Handle h) {
+        if (h.refCount++ == 0) {
+            inUse.put(h.file, h);
+        }
+    }
+
+    /**
+     * Closes a handle that was removed from the cache, or marks it to be closed on its release if it is in use.
+     */
+    private void discard(Handle h) {
+        if (h.refCount > 0) {
+            h.invalid = true;
+        } else {
+            close(h);
+        }
+    }
+
+    private void close(Handle h) {
+        try {
+            h.file.close();
+        } catch (IOException ex) {
+            Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this, "could not close object file %s: %s",
+                    h.path, ex.toString());
+        }
+    }
+
+    private static final class Handle {
+
+        final String           path;
+
+        final RandomAccessFile file;
+
+        /** number of unreleased {@link FileHandleCache#open(String, boolean)} calls that returned the handle */
+        int                    refCount;
+
+        /** set if the handle was removed from the cache while in use */
+        boolean                invalid;
+
+        Handle(String path, RandomAccessFile file) {
+            this.path = path;
+            this.file = file;
+        }
+    }
+}
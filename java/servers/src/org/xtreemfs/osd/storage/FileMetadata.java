@@ -9,10 +9,6 @@
 package org.xtreemfs.osd.storage;
 
 import java.io.RandomAccessFile;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Set;
 
 import org.xtreemfs.common.xloc.StripingPolicyImpl;
 
@@ -22,11 +18,11 @@ import org.xtreemfs.common.xloc.StripingPolicyImpl;
  */
 public class FileMetadata {
     
-    private Map<Long, Long>            latestObjVersions;
+    private ObjectVersionMap           latestObjVersions;
     
-    private Map<Long, Long>            largestObjVersions;
+    private ObjectVersionMap           largestObjVersions;
     
-    private Map<Long, Map<Long, Long>> objChecksums;
+    private ObjectChecksumMap          objChecksums;
     
     private long                       filesize;
     
@@ -66,44 +62,43 @@ public class FileMetadata {
     }
     
     public long getLargestObjectVersion(long objId) {
-        Long v = largestObjVersions.get(objId);
-        return (v == null) ? 0 : v;
+        return largestObjVersions.get(objId);
     }
     
     public long getLatestObjectVersion(long objId) {
-        Long v = latestObjVersions.get(objId);
-        return (v == null) ? 0 : v;
+        return latestObjVersions.get(objId);
     }
     
     public Long getObjectChecksum(long objId, long objVer) {
-        
-        Map<Long, Long> checksums = objChecksums.get(objId);
-        if (checksums == null)
-            return 0L;
-        
-        Long c = checksums.get(objVer);
+        Long c = objChecksums.get(objId, objVer);
         return (c == null) ? 0 : c;
     }
     
-    public Set<Entry<Long, Long>> getLatestObjectVersions() {
-        return latestObjVersions.entrySet();
+    /**
+     * Returns the latest versions of all objects. The returned map must not be
+     * modified by the caller.
+     * 
+     * @return a map from object numbers to object versions
+     */
+    public ObjectVersionMap getLatestObjectVersions() {
+        return latestObjVersions;
     }
     
     public void clearLatestObjectVersions() {
         latestObjVersions.clear();
     }
     
-    public void initLargestObjectVersions(Map<Long, Long> largestObjVersions) {
+    public void initLargestObjectVersions(ObjectVersionMap largestObjVersions) {
         assert (this.largestObjVersions == null);
         this.largestObjVersions = largestObjVersions;
     }
     
-    public void initLatestObjectVersions(Map<Long, Long> latestObjVersions) {
+    public void initLatestObjectVersions(ObjectVersionMap latestObjVersions) {
         assert (this.latestObjVersions == null);
         this.latestObjVersions = latestObjVersions;
     }
     
-    public void initObjectChecksums(Map<Long, Map<Long, Long>> objChecksums) {
+    public void initObjectChecksums(ObjectChecksumMap objChecksums) {
         assert (this.objChecksums == null);
         this.objChecksums = objChecksums;
     }
@@ -123,19 +118,27 @@ public class FileMetadata {
     }
     
     public void updateObjectChecksum(long objId, long objVer, long newChecksum) {
-        
-        Map<Long, Long> checksums = objChecksums.get(objId);
-        if (checksums == null) {
-            checksums = new HashMap<Long, Long>();
-            objChecksums.put(objId, checksums);
-        }
-        
-        checksums.put(objVer, newChecksum);
+        objChecksums.put(objId, objVer, newChecksum);
     }
     
     public void discardObject(long objId, long objVer) {
         latestObjVersions.remove(objId);
-        objChecksums.remove(objId + "." + objVer);
+        objChecksums.remove(objId, objVer);
+    }
+    
+    /**
+     * @return the approximate number of bytes occupied by the object version
+     *         and checksum tables on the heap
+     */
+    public long getObjectTablesHeapSize() {
+        long size = 0;
+        if (latestObjVersions != null)
+            size += latestObjVersions.getHeapSize();
+        if (largestObjVersions != null && largestObjVersions != latestObjVersions)
+            size += largestObjVersions.getHeapSize();
+        if (objChecksums != null)
+            size += objChecksums.getHeapSize();
+        return size;
     }
     
     public String toString() {
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.ErrorType;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
+import org.xtreemfs.foundation.pbrpc.utils.ErrorUtils;
+import org.xtreemfs.osd.stages.StorageStage.WriteObjectCallback;
+import org.xtreemfs.osd.storage.StorageLayout.ObjectFileListener;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse;
+
+/**
+ * Makes the synchronous writes of a storage thread durable in groups. Instead of flushing each object right away,
+ * a synchronous write is written like an asynchronous one and its acknowledgment is deferred. Once the window
+ * started by the first deferred write has expired, all objects written in the meantime are flushed, each object
+ * only once, and the writes are acknowledged in the order they were executed. This way, concurrent synchronous
+ * writes share the cost of a device flush at the price of a slightly higher latency.
+ * <p>
+ * A group commit is registered as {@link ObjectFileListener} with the layout. Before object files of a file are
+ * renamed or deleted, e.g. by a write of a new object version, a truncate or a delete, possibly by another thread,
+ * the pending writes to these objects are flushed and acknowledged ahead of the window. Writes whose object files are
+ * missing when they are flushed fail with EIO.
+ * <p>
+ * Writes are added and the window is managed by a single storage thread; all methods are synchronized, as the
+ * pending writes of a file may be committed by any thread.
+ */
+public class GroupCommit implements ObjectFileListener {
+
+    private final StorageLayout      layout;
+
+    private final long               windowNanos;
+
+    private final List<PendingWrite> pending;
+
+    private long                     deadlineNanos;
+
+    private volatile long            numWrites;
+
+    private volatile long            numCommits;
+
+    private volatile long            numFlushes;
+
+    /**
+     * Creates a group commit and registers it with the layout.
+     *
+     * @param layout
+     *            the layout the writes are executed on
+     * @param windowNanos
+     *            the max. time a write is deferred, in nanoseconds
+     */
+    public GroupCommit(StorageLayout layout, long windowNanos) {
+        this.layout = layout;
+        this.windowNanos = windowNanos;
+        this.pending = new ArrayList<PendingWrite>();
+        layout.addObjectFileListener(this);
+    }
+
+    /**
+     * Defers the acknowledgment of a write that was executed without <code>sync</code>.
+     *
+     * @param fileId
+     *            the file written to
+     * @param md
+     *            the file's metadata
+     * @param objNo
+     *            the object written to
+     * @param version
+     *            the object version that was written
+     * @param checksum
+     *            the checksum of the object version that was written
+     * @param response
+     *            the response to send once the object was flushed
+     * @param callback
+     *            the callback of the write
+     */
+    public synchronized void add(String fileId, FileMetadata md, long objNo, long version, long checksum,
+        OSDWriteResponse response, WriteObjectCallback callback) {
+        if (pending.isEmpty()) {
+            deadlineNanos = System.nanoTime() + windowNanos;
+        }
+        pending.add(new PendingWrite(fileId, md, objNo, version, checksum, response, callback));
+    }
+
+    /**
+     * @return <code>true</code> if no writes are waiting to be flushed
+     */
+    public synchronized boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * @return the time until the pending writes have to be flushed in nanoseconds, 0 if they are due
+     */
+    public synchronized long getRemainingNanos() {
+        return Math.max(deadlineNanos - System.nanoTime(), 0);
+    }
+
+    /**
+     * @return <code>true</code> if there are pending writes whose window has expired
+     */
+    public synchronized boolean isDue() {
+        return !pending.isEmpty() && getRemainingNanos() == 0;
+    }
+
+    /**
+     * Flushes all objects written by the pending writes and acknowledges the writes. Writes whose object could
+     * not be flushed fail with EIO.
+     */
+    public void commit() {
+        acknowledge(flush(null, StorageLayout.ALL_OBJECTS));
+    }
+
+    /**
+     * Flushes the objects written by the pending writes to an object of a file and acknowledges these writes.
+     * Writes whose object could not be flushed fail with EIO.
+     *
+     * @param fileId
+     *            the file
+     * @param objNo
+     *            the object, or {@link StorageLayout#ALL_OBJECTS} for all objects of the file
+     */
+    public void commit(String fileId, long objNo) {
+        acknowledge(flush(fileId, objNo));
+    }
+
+    /**
+     * Commits the pending writes to the objects, as they refer to the object files by their current names.
+     */
+    @Override
+    public void objectFilesChanging(String fileId, long objNo) {
+        commit(fileId, objNo);
+    }
+
+    /**
+     * Removes the pending writes to the given object, or all pending writes if <code>fileId</code> is
+     * <code>null</code>, and flushes their objects. The objects are flushed while holding the lock, so that a
+     * thread about to rename or delete object files waits until they were flushed.
+     *
+     * @return the removed writes, with the errors of failed flushes
+     */
+    private synchronized List<PendingWrite> flush(String fileId, long objNo) {
+        if (pending.isEmpty()) {
+            return null;
+        }
+
+        List<PendingWrite> writes;
+        if (fileId == null) {
+            writes = new ArrayList<PendingWrite>(pending);
+            pending.clear();
+        } else {
+            writes = null;
+            Iterator<PendingWrite> it = pending.iterator();
+            while (it.hasNext()) {
+                PendingWrite w = it.next();
+                if (w.fileId.equals(fileId) && (objNo == StorageLayout.ALL_OBJECTS || w.objNo == objNo)) {
+                    if (writes == null) {
+                        writes = new ArrayList<PendingWrite>();
+                    }
+                    writes.add(w);
+                    it.remove();
+                }
+            }
+            if (writes == null) {
+                return null;
+            }
+        }
+
+        // flush each object version once; null marks a successful flush
+        Map<String, ErrorResponse> flushed = new HashMap<String, ErrorResponse>();
+        for (PendingWrite w : writes) {
+            final String key = w.fileId + ":" + w.objNo + ":" + w.version + ":" + w.checksum;
+            if (flushed.containsKey(key)) {
+                w.error = flushed.get(key);
+                continue;
+            }
+
+            ErrorResponse error = null;
+            try {
+                layout.syncObject(w.fileId, w.md, w.objNo, w.version, w.checksum);
+            } catch (IOException ex) {
+                Logging.logMessage(Logging.LEVEL_ERROR, Category.storage, this,
+                    "Failed to flush object %s-%d: %s", w.fileId, w.objNo, ex.toString());
+                error = ErrorUtils.getErrorResponse(ErrorType.ERRNO, POSIXErrno.POSIX_ERROR_EIO, ex.toString());
+            }
+            flushed.put(key, error);
+            w.error = error;
+        }
+
+        numWrites += writes.size();
+        numFlushes += flushed.size();
+        numCommits++;
+        return writes;
+    }
+
+    /**
+     * Acknowledges flushed writes, without holding the lock.
+     */
+    private static void acknowledge(List<PendingWrite> writes) {
+        if (writes == null) {
+            return;
+        }
+        for (PendingWrite w : writes) {
+            if (w.error == null) {
+                w.callback.writeComplete(w.response, null);
+            } else {
+                w.callback.writeComplete(null, w.error);
+            }
+        }
+    }
+
+    /**
+     * @return the number of writes made durable by group commits
+     */
+    public long getNumWrites() {
+        return numWrites;
+    }
+
+    /**
+     * @return the number of group commits
+     */
+    public long getNumCommits() {
+        return numCommits;
+    }
+
+    /**
+     * @return the number of object flushes issued by group commits
+     */
+    public long getNumFlushes() {
+        return numFlushes;
+    }
+
+    private static final class PendingWrite {
+
+        final String              fileId;
+
+        final FileMetadata        md;
+
+        final long                objNo;
+
+        final long                version;
+
+        final long                checksum;
+
+        final OSDWriteResponse    response;
+
+        final WriteObjectCallback callback;
+
+        /** the error of the flush, set once the write was flushed */
+        ErrorResponse             error;
+
+        PendingWrite(String fileId, FileMetadata md, long objNo, long version, long checksum,
+            OSDWriteResponse response, WriteObjectCallback callback) {
+            this.fileId = fileId;
+            this.md = md;
+            this.objNo = objNo;
+            this.version = version;
+            this.checksum = checksum;
+            this.response = response;
+            this.callback = callback;
+        }
+    }
+
+}
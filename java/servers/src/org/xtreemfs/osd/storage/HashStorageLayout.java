@@ -19,12 +19,16 @@ import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel.MapMode;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.EmptyStackException;
 import java.util.HashMap;
-import java.util.Map;
+import java.util.List;
 import java.util.Stack;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.xtreemfs.common.xloc.StripingPolicyImpl;
 import org.xtreemfs.foundation.LRUCache;
@@ -73,6 +77,11 @@ public class HashStorageLayout extends StorageLayout {
      */
     public static final String             XLOC_VERSION_STATE_FILENAME   = ".version_state";
 
+    /**
+     * file that stores the index of all object files, see {@link ObjectIndex}
+     */
+    public static final String             OBJECT_INDEX_FILENAME         = ".objindex";
+
     public static final int                SL_TAG                        = 0x00000002;
 
     /** 32bit algorithm */
@@ -103,12 +112,30 @@ public class HashStorageLayout extends StorageLayout {
 
     private int                            hashCutLength;
 
+    /** prototype of the checksum algorithm, the checksums are calculated with instances owned by each thread */
     private ChecksumAlgorithm              checksumAlgo;
 
     private long                           _stat_fileInfoLoads;
 
     private final boolean                  checksumsEnabled;
 
+    /** size of the blocks with a checksum of their own, 0 if a single checksum covers the whole object */
+    private final int                      checksumBlockSize;
+
+    private final boolean                  objectIndexEnabled;
+
+    /**
+     * send the object data of client reads from memory-mapped regions of the object files instead of reading it
+     * into buffers; object files are never shrunk in place then, as a mapped region may still be sent after its
+     * object was truncated
+     */
+    private final boolean                  mappedReads;
+
+    /**
+     * Smaller reads are always buffered, as mapping a region costs more than copying a few pages.
+     */
+    private static final int               MIN_MAPPED_READ_SIZE          = 64 * 1024;
+
     private final LRUCache<String, String> hashedPathCache;
 
     private static final boolean           USE_PATH_CACHE                = true;
@@ -123,6 +150,17 @@ public class HashStorageLayout extends StorageLayout {
 
     private final LRUCache<String, XLocSetVersionState> xLocSetVSCache;
 
+    /**
+     * Caches of open object files, one per thread accessing the layout. <code>null</code> if handle caching is
+     * disabled.
+     */
+    private final ThreadLocal<FileHandleCache>          fileHandleCache;
+
+    /**
+     * All caches handed out by {@link #fileHandleCache}, required for invalidation and statistics.
+     */
+    private final List<FileHandleCache>                 fileHandleCaches;
+
     /** Creates a new instance of HashStorageLayout */
     public HashStorageLayout(OSDConfig config, MetadataCache cache) throws IOException {
         this(config, cache, DEFAULT_HASH, DEFAULT_SUBDIRS, DEFAULT_MAX_DIR_DEPTH);
@@ -149,6 +187,7 @@ public class HashStorageLayout extends StorageLayout {
          */
 
         this.checksumsEnabled = config.isUseChecksums();
+        this.objectIndexEnabled = config.isUseObjectIndex();
         if (config.isUseChecksums()) {
 
             // get the algorithm from the factory
@@ -163,6 +202,10 @@ public class HashStorageLayout extends StorageLayout {
                         "OSD checksums will be switched off");
             }
         }
+        this.checksumBlockSize = (checksumAlgo != null) ? config.getChecksumBlockSize() : 0;
+        // with SSL, the data is encrypted by Java code, so mapping it would not save a copy; with block
+        // checksums, the blocks are read into buffers to verify them
+        this.mappedReads = config.isUseMappedReads() && !config.isUsingSSL() && checksumBlockSize == 0;
 
         if (maxSubdirsPerDir != 0) {
             this.prefixLength = Integer.toHexString(maxSubdirsPerDir).length();
@@ -177,8 +220,9 @@ public class HashStorageLayout extends StorageLayout {
         }
 
         if (Logging.isDebug()) {
-            Logging.logMessage(Logging.LEVEL_DEBUG, this, "initialized with checksums=%s prefixLen=%d",
-                    this.checksumsEnabled, this.prefixLength);
+            Logging.logMessage(Logging.LEVEL_DEBUG, this,
+                    "initialized with checksums=%s objectIndex=%s prefixLen=%d", this.checksumsEnabled,
+                    this.objectIndexEnabled, this.prefixLength);
         }
 
         _stat_fileInfoLoads = 0;
@@ -186,11 +230,41 @@ public class HashStorageLayout extends StorageLayout {
         hashedPathCache = new LRUCache<String, String>(2048);
 
         xLocSetVSCache = new LRUCache<String, XLocSetVersionState>(2048);
+
+        fileHandleCaches = new CopyOnWriteArrayList<FileHandleCache>();
+        final int fileHandleCacheSize = config.getFileHandleCacheSize();
+        if (fileHandleCacheSize > 0) {
+            fileHandleCache = new ThreadLocal<FileHandleCache>() {
+                @Override
+                protected FileHandleCache initialValue() {
+                    FileHandleCache c = new FileHandleCache(fileHandleCacheSize);
+                    fileHandleCaches.add(c);
+                    return c;
+                }
+            };
+        } else {
+            fileHandleCache = null;
+        }
     }
 
     @Override
     public ObjectInformation readObject(String fileId, FileMetadata md, long objNo, int offset, int length,
             long version) throws IOException {
+        return readObject(fileId, md, objNo, offset, length, version, false);
+    }
+
+    @Override
+    public ObjectInformation readObjectForTransfer(String fileId, FileMetadata md, long objNo, int offset,
+            int length, long version) throws IOException {
+        return readObject(fileId, md, objNo, offset, length, version, mappedReads);
+    }
+
+    /**
+     * Reads an object, and returns its data in a read-only region mapped from the object file if
+     * <code>mapped</code> is set and the range is large enough.
+     */
+    private ObjectInformation readObject(String fileId, FileMetadata md, long objNo, int offset, int length,
+            long version, boolean mapped) throws IOException {
 
         final int stripeSize = md.getStripingPolicy().getStripeSizeForObject(objNo);
         if (Logging.isDebug()) {
@@ -228,15 +302,14 @@ public class HashStorageLayout extends StorageLayout {
                     fileName);
         }
 
-        File file = new File(fileName);
+        final RandomAccessFile f = openObjectFile(fileName, false, false);
 
-        if (file.exists()) {
+        if (f != null) {
 
-            RandomAccessFile f = new RandomAccessFile(file, "r");
+            try {
 
-            final int flength = (int) f.length();
+                final int flength = (int) f.length();
 
-            try {
                 if (flength == 0) {
 
                     if (Logging.isDebug()) {
@@ -264,13 +337,31 @@ public class HashStorageLayout extends StorageLayout {
                     int lastoffset = offset + length;
                     assert (lastoffset <= stripeSize);
 
-                    if (lastoffset > flength) {
-                        assert (flength - offset > 0);
-                        bbuf = BufferPool.allocate(flength - offset);
-                    } else {
-                        bbuf = BufferPool.allocate(length);
+                    final int dataLength = Math.min(lastoffset, flength) - offset;
+                    if (mapped && !checkChecksum && dataLength >= MIN_MAPPED_READ_SIZE) {
+
+                        // the data is copied from the page cache to the socket when the response is sent; the
+                        // region stays valid after the handle was closed and is unmapped by the garbage collector,
+                        // and it cannot shrink, as deleted object files stay allocated while they are mapped, and
+                        // truncated ones are replaced by copies; writes in place until then are visible in it
+                        bbuf = new ReusableBuffer(f.getChannel().map(MapMode.READ_ONLY, offset, dataLength));
+                        if (Logging.isDebug()) {
+                            Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this,
+                                    "object %d is mapped at offset %d, %d bytes", objNo, offset, dataLength);
+                        }
+                        return new ObjectInformation(ObjectInformation.ObjectStatus.EXISTS, bbuf, stripeSize);
                     }
 
+                    // with block checksums, the blocks overlapping the range are read completely to verify them
+                    int readOffset = offset;
+                    int readLength = dataLength;
+                    if (checksumBlockSize > 0) {
+                        readOffset = offset - offset % checksumBlockSize;
+                        readLength = (int) Math.min(flength, ((long) offset + dataLength + checksumBlockSize - 1)
+                                / checksumBlockSize * checksumBlockSize) - readOffset;
+                    }
+                    bbuf = BufferPool.allocate(readLength);
+
                     for (int attempt = 0; attempt <= RETRIES_INCOMPLETE_READ; attempt++) {
                         if (attempt > 0) {
                             bbuf.position(0);
@@ -282,8 +373,7 @@ public class HashStorageLayout extends StorageLayout {
                                     attempt, RETRIES_INCOMPLETE_READ, fileName);
                         }
 
-                        f.getChannel().position(offset);
-                        f.getChannel().read(bbuf.getBuffer());
+                        f.getChannel().read(bbuf.getBuffer(), readOffset);
                         if (Logging.isDebug()) {
                             Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this,
                                     "object %d is read at offset %d, %d bytes read, attempt: %d", objNo,
@@ -313,18 +403,27 @@ public class HashStorageLayout extends StorageLayout {
                         }
                     }
 
-                    f.close();
-
                     bbuf.position(0);
+                    Boolean blocksValid = null;
+                    if (checksumBlockSize > 0) {
+                        blocksValid = verifyBlockChecksums(fileName, bbuf, readOffset / checksumBlockSize);
+                        if (readLength != dataLength) {
+                            bbuf.range(offset - readOffset, dataLength);
+                            bbuf.position(0);
+                        }
+                    }
                     ObjectInformation oInfo = new ObjectInformation(ObjectInformation.ObjectStatus.EXISTS,
                             bbuf, stripeSize);
 
-                    if (checkChecksum) {
-                        ReusableBuffer bbufCopy = bbuf.createViewBuffer();
-                        checksumAlgo.reset();
-                        checksumAlgo.update(bbufCopy.getBuffer());
-                        BufferPool.free(bbufCopy);
-                        long newChecksum = checksumAlgo.getValue();
+                    if (blocksValid != null) {
+                        if (!blocksValid) {
+                            Logging.logMessage(Logging.LEVEL_ERROR, Category.storage, this,
+                                    "invalid block checksum of object %d of file %s, path to the file on disk: %s",
+                                    objNo, fileId, fileName);
+                        }
+                        oInfo.setChecksumInvalidOnOSD(!blocksValid);
+                    } else if (checkChecksum) {
+                        long newChecksum = calculateChecksum(bbuf.getBuffer());
                         oInfo.setChecksumInvalidOnOSD(newChecksum != oldChecksum);
                     }
 
@@ -335,6 +434,9 @@ public class HashStorageLayout extends StorageLayout {
                     BufferPool.free(bbuf);
                 }
 
+                // do not keep a handle that may be broken
+                invalidateObjectFile(fileName);
+
                 if (e instanceof IOException) {
                     Logging.logMessage(Logging.LEVEL_ERROR, Category.storage, this,
                             "Failed to read object file from disk. Error: %s Path to the file on disk: %s",
@@ -344,7 +446,7 @@ public class HashStorageLayout extends StorageLayout {
                     throw new IOException(e);
                 }
             } finally {
-                f.close();
+                releaseObjectFile(f);
             }
 
         } else {
@@ -369,7 +471,7 @@ public class HashStorageLayout extends StorageLayout {
         }
 
         String relPath = generateRelativeFilePath(fileId);
-        new File(this.storageDir + relPath).mkdirs();
+        createFileDir(relPath);
 
         if (Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this,
@@ -381,7 +483,7 @@ public class HashStorageLayout extends StorageLayout {
             final boolean isRangeWrite = (offset > 0)
                     || (data.capacity() < md.getStripingPolicy().getStripeSizeForObject(objNo));
             if (isRangeWrite) {
-                if (cow || checksumsEnabled) {
+                if (cow || (checksumsEnabled && checksumBlockSize == 0)) {
                     partialWriteCOW(relPath, fileId, md, data, offset, objNo, newVersion, sync, !cow);
                 } else {
                     partialWriteNoCOW(relPath, fileId, md, data, objNo, offset, newVersion, sync);
@@ -408,42 +510,60 @@ public class HashStorageLayout extends StorageLayout {
         ReusableBuffer fullObj = cow(fileId, md, objNo, data, offset, oldVersion);
 
         long newChecksum = 0;
-        if (checksumsEnabled) {
-            checksumAlgo.reset();
-            checksumAlgo.update(fullObj.getBuffer());
-            newChecksum = checksumAlgo.getValue();
+        if (checksumsEnabled && checksumBlockSize == 0) {
+            newChecksum = calculateChecksum(fullObj.getBuffer());
         }
         final String newFilename = generateAbsoluteObjectPathFromRelPath(relativePath, objNo, newVersion,
                 newChecksum);
         if (Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, this, "writing to file (COW): %s", newFilename);
         }
-        File file = new File(newFilename);
-        String mode = sync ? "rwd" : "rw";
-        RandomAccessFile f = null;
+
+        ObjectIndex update = new ObjectIndex();
+        update.add(objNo, newVersion, newChecksum);
+        if (deleteOldVersion) {
+            update.remove(objNo, oldVersion, oldChecksum);
+        }
+        RandomAccessFile index = beginObjectIndexUpdate(relativePath, update, sync);
 
         try {
-            f = new RandomAccessFile(file, mode);
-            fullObj.position(0);
-            f.getChannel().write(fullObj.getBuffer());
-        } catch (IOException e) {
-            Logging.logMessage(Logging.LEVEL_ERROR, Category.storage, this,
-                    "Failed to write object file to disk. Error: %s Path to the file on disk: %s",
-                    e.getMessage(), newFilename);
-            throw e;
-        } finally {
-            if (f != null) {
-                f.close();
+            RandomAccessFile f = null;
+
+            try {
+                f = openObjectFile(newFilename, true, sync);
+                fullObj.position(0);
+                f.getChannel().write(fullObj.getBuffer(), 0);
+                syncObjectFile(f, sync);
+                if (checksumBlockSize > 0) {
+                    writeBlockChecksums(newFilename, fullObj, sync);
+                }
+            } catch (IOException e) {
+                invalidateObjectFile(newFilename);
+                Logging.logMessage(Logging.LEVEL_ERROR, Category.storage, this,
+                        "Failed to write object file to disk. Error: %s Path to the file on disk: %s",
+                        e.getMessage(), newFilename);
+                throw e;
+            } finally {
+                if (f != null) {
+                    releaseObjectFile(f);
+                }
+                BufferPool.free(fullObj);
             }
-            BufferPool.free(fullObj);
-        }
 
-        if (deleteOldVersion) {
-            String oldFilename = generateAbsoluteObjectPathFromRelPath(relativePath, objNo, oldVersion,
-                    oldChecksum);
-            File oldFile = new File(oldFilename);
-            oldFile.delete();
+            if (deleteOldVersion) {
+                notifyObjectFilesChanging(fileId, objNo);
+                String oldFilename = generateAbsoluteObjectPathFromRelPath(relativePath, objNo, oldVersion,
+                        oldChecksum);
+                invalidateObjectFile(oldFilename);
+                File oldFile = new File(oldFilename);
+                oldFile.delete();
+                deleteBlockChecksums(oldFilename);
+            }
+        } catch (IOException e) {
+            abortObjectIndexUpdate(relativePath, index);
+            throw e;
         }
+        commitObjectIndexUpdate(relativePath, index, update, sync);
 
         md.updateObjectVersion(objNo, newVersion);
         md.updateObjectChecksum(objNo, newVersion, newChecksum);
@@ -452,42 +572,79 @@ public class HashStorageLayout extends StorageLayout {
     private void partialWriteNoCOW(String relativePath, String fileId, FileMetadata md, ReusableBuffer data,
             long objNo, int offset, long newVersion, boolean sync) throws IOException {
         // write file
-        assert (!checksumsEnabled);
+        assert (!checksumsEnabled || checksumBlockSize > 0);
 
         final long oldVersion = md.getLatestObjectVersion(objNo);
-        final String filename = generateAbsoluteObjectPathFromRelPath(relativePath, objNo, oldVersion, 0l);
+        // an object written with a checksum of the whole object in its name is renamed, as the checksum is outdated
+        final long oldChecksum = md.getObjectChecksum(objNo, oldVersion);
+        final boolean rename = (newVersion != oldVersion) || (oldChecksum != 0);
+        final String filename = generateAbsoluteObjectPathFromRelPath(relativePath, objNo, oldVersion,
+                oldChecksum);
         if (Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, this, "writing to file: %s", filename);
         }
-        File file = new File(filename);
-        String mode = sync ? "rwd" : "rw";
-        RandomAccessFile f = null;
+
+        ObjectIndex update = new ObjectIndex();
+        if (rename) {
+            update.remove(objNo, oldVersion, oldChecksum);
+            update.add(objNo, newVersion, 0l);
+        }
+        RandomAccessFile index = beginObjectIndexUpdate(relativePath, update, sync);
 
         try {
-            f = new RandomAccessFile(file, mode);
-            data.position(0);
-            f.seek(offset);
-            f.getChannel().write(data.getBuffer());
+            RandomAccessFile f = null;
+
+            try {
+                f = openObjectFile(filename, true, sync);
+                final long oldLength = f.length();
+                data.position(0);
+                final int length = data.remaining();
+                f.getChannel().write(data.getBuffer(), offset);
+                syncObjectFile(f, sync);
+                if (checksumBlockSize > 0) {
+                    // only the blocks touched by the write, and the zeros padded in front of it, are re-hashed
+                    updateBlockChecksums(f, filename, (int) (Math.min(offset, oldLength) / checksumBlockSize),
+                            (offset + length - 1) / checksumBlockSize, sync);
+                }
+            } catch (IOException e) {
+                invalidateObjectFile(filename);
+                Logging.logMessage(Logging.LEVEL_ERROR, Category.storage, this,
+                        "Failed to write object file to disk. Error: %s Path to the file on disk: %s",
+                        e.getMessage(), filename);
+                throw e;
+            } finally {
+                if (f != null) {
+                    releaseObjectFile(f);
+                }
+                BufferPool.free(data);
+            }
+
+            if (rename) {
+                notifyObjectFilesChanging(fileId, objNo);
+                String newFilename = generateAbsoluteObjectPathFromRelPath(relativePath, objNo, newVersion, 0l);
+                // the rename replaces any file at the target path, so handles of both files become stale
+                invalidateObjectFile(filename);
+                invalidateObjectFile(newFilename);
+                new File(filename).renameTo(new File(newFilename));
+                if (checksumBlockSize > 0) {
+                    renameBlockChecksums(filename, newFilename);
+                }
+                if (Logging.isDebug()) {
+                    Logging.logMessage(Logging.LEVEL_DEBUG, this, "renamed to: %s", newFilename);
+                }
+            }
         } catch (IOException e) {
-            Logging.logMessage(Logging.LEVEL_ERROR, Category.storage, this,
-                    "Failed to write object file to disk. Error: %s Path to the file on disk: %s",
-                    e.getMessage(), filename);
+            abortObjectIndexUpdate(relativePath, index);
             throw e;
-        } finally {
-            if (f != null) {
-                f.close();
-            }
-            BufferPool.free(data);
         }
+        commitObjectIndexUpdate(relativePath, index, update, sync);
 
         if (newVersion != oldVersion) {
-            String newFilename = generateAbsoluteObjectPathFromRelPath(relativePath, objNo, newVersion, 0l);
-            file.renameTo(new File(newFilename));
-            if (Logging.isDebug()) {
-                Logging.logMessage(Logging.LEVEL_DEBUG, this, "renamed to: %s", newFilename);
-            }
             md.updateObjectVersion(objNo, newVersion);
         }
+        if (oldChecksum != 0) {
+            md.updateObjectChecksum(objNo, newVersion, 0l);
+        }
     }
 
     private void completeWrite(String relativePath, String fileId, FileMetadata md, ReusableBuffer data,
@@ -498,37 +655,59 @@ public class HashStorageLayout extends StorageLayout {
         final long oldChecksum = md.getObjectChecksum(objNo, oldVersion);
 
         long newChecksum = 0;
-        if (checksumsEnabled) {
-            checksumAlgo.reset();
-            checksumAlgo.update(data.getBuffer());
-            newChecksum = checksumAlgo.getValue();
+        if (checksumsEnabled && checksumBlockSize == 0) {
+            newChecksum = calculateChecksum(data.getBuffer());
         }
         final String newFilename = generateAbsoluteObjectPathFromRelPath(relativePath, objNo, newVersion,
                 newChecksum);
         if (Logging.isDebug()) {
             Logging.logMessage(Logging.LEVEL_DEBUG, this, "writing to file: %s", newFilename);
         }
-        File file = new File(newFilename);
-        String mode = sync ? "rwd" : "rw";
-        RandomAccessFile f = null;
+
+        final boolean deleteOldFile = ((oldVersion != newVersion) || (newChecksum != oldChecksum))
+                && (deleteOldVersion);
+        ObjectIndex update = new ObjectIndex();
+        update.add(objNo, newVersion, newChecksum);
+        if (deleteOldFile) {
+            update.remove(objNo, oldVersion, oldChecksum);
+        }
+        RandomAccessFile index = beginObjectIndexUpdate(relativePath, update, sync);
 
         try {
-            f = new RandomAccessFile(file, mode);
-            data.position(0);
-            f.getChannel().write(data.getBuffer());
-        } finally {
-            if (f != null) {
-                f.close();
+            RandomAccessFile f = null;
+
+            try {
+                f = openObjectFile(newFilename, true, sync);
+                data.position(0);
+                f.getChannel().write(data.getBuffer(), 0);
+                syncObjectFile(f, sync);
+                if (checksumBlockSize > 0) {
+                    writeBlockChecksums(newFilename, data, sync);
+                }
+            } catch (IOException e) {
+                invalidateObjectFile(newFilename);
+                throw e;
+            } finally {
+                if (f != null) {
+                    releaseObjectFile(f);
+                }
+                BufferPool.free(data);
             }
-            BufferPool.free(data);
-        }
 
-        if (((oldVersion != newVersion) || (newChecksum != oldChecksum)) && (deleteOldVersion)) {
-            String oldFilename = generateAbsoluteObjectPathFromRelPath(relativePath, objNo, oldVersion,
-                    oldChecksum);
-            File oldFile = new File(oldFilename);
-            oldFile.delete();
+            if (deleteOldFile) {
+                notifyObjectFilesChanging(fileId, objNo);
+                String oldFilename = generateAbsoluteObjectPathFromRelPath(relativePath, objNo, oldVersion,
+                        oldChecksum);
+                invalidateObjectFile(oldFilename);
+                File oldFile = new File(oldFilename);
+                oldFile.delete();
+                deleteBlockChecksums(oldFilename);
+            }
+        } catch (IOException e) {
+            abortObjectIndexUpdate(relativePath, index);
+            throw e;
         }
+        commitObjectIndexUpdate(relativePath, index, update, sync);
 
         md.updateObjectVersion(objNo, newVersion);
 
@@ -536,6 +715,22 @@ public class HashStorageLayout extends StorageLayout {
             md.updateObjectChecksum(objNo, newVersion, newChecksum);
     }
 
+    @Override
+    public void syncObject(String fileId, FileMetadata md, long objNo, long version, long checksum)
+            throws IOException {
+
+        final String relPath = generateRelativeFilePath(fileId);
+        final String objectPath = generateAbsoluteObjectPathFromRelPath(relPath, objNo, version, checksum);
+        syncFile(objectPath, true);
+        if (checksumBlockSize > 0) {
+            syncFile(BlockChecksums.getSidecarPath(objectPath), true);
+        }
+        if (objectIndexEnabled) {
+            // a missing index is rebuilt when the file's metadata is loaded again
+            syncFile(this.storageDir + relPath + OBJECT_INDEX_FILENAME, false);
+        }
+    }
+
     @Override
     public void updateCurrentObjVersion(String fileId, long objNo, long newVersion) throws IOException {
 
@@ -580,7 +775,8 @@ public class HashStorageLayout extends StorageLayout {
 
         assert (newLength <= md.getStripingPolicy().getStripeSizeForObject(objNo));
 
-        String oldFileName = generateAbsoluteObjectPathFromFileId(fileId, objNo, oldVersion, oldChecksum);
+        final String relPath = generateRelativeFilePath(fileId);
+        String oldFileName = generateAbsoluteObjectPathFromRelPath(relPath, objNo, oldVersion, oldChecksum);
         File oldFile = new File(oldFileName);
         final long currentLength = oldFile.length();
 
@@ -590,7 +786,10 @@ public class HashStorageLayout extends StorageLayout {
             return;
         }
 
-        if (cow || checksumsEnabled) {
+        notifyObjectFilesChanging(fileId, objNo);
+        invalidateObjectFile(oldFileName);
+
+        if (cow || (checksumsEnabled && checksumBlockSize == 0)) {
             ReusableBuffer oldData = unwrapObjectData(fileId, md, objNo, oldVersion);
 
             if (newLength < oldData.capacity()) {
@@ -607,31 +806,48 @@ public class HashStorageLayout extends StorageLayout {
             oldData.position(0);
 
             long newChecksum = 0l;
-            if (checksumsEnabled) {
+            if (checksumsEnabled && checksumBlockSize == 0) {
                 // calc checksum
-                checksumAlgo.update(oldData.getBuffer());
-                newChecksum = checksumAlgo.getValue();
+                newChecksum = calculateChecksum(oldData.getBuffer());
             }
 
+            ObjectIndex update = new ObjectIndex();
             if (!cow) {
-                oldFile.delete();
-                if (Logging.isDebug()) {
-                    Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this,
-                            "truncate object %d, delete old version %d: %s", objNo, oldVersion, oldFileName);
-                }
+                update.remove(objNo, oldVersion, oldChecksum);
             }
+            update.add(objNo, newVersion, newChecksum);
+            RandomAccessFile index = beginObjectIndexUpdate(relPath, update, false);
 
             String newFilename = generateAbsoluteObjectPathFromFileId(fileId, objNo, newVersion, newChecksum);
-            RandomAccessFile raf = null;
             try {
-                raf = new RandomAccessFile(newFilename, mode);
-                raf.getChannel().write(oldData.getBuffer());
-            } finally {
-                if (raf != null) {
-                    raf.close();
+                if (!cow) {
+                    invalidateObjectFile(oldFileName);
+                    oldFile.delete();
+                    deleteBlockChecksums(oldFileName);
+                    if (Logging.isDebug()) {
+                        Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this,
+                                "truncate object %d, delete old version %d: %s", objNo, oldVersion, oldFileName);
+                    }
                 }
-                BufferPool.free(oldData);
+
+                RandomAccessFile raf = null;
+                try {
+                    raf = new RandomAccessFile(newFilename, mode);
+                    raf.getChannel().write(oldData.getBuffer());
+                    if (checksumBlockSize > 0) {
+                        writeBlockChecksums(newFilename, oldData, false);
+                    }
+                } finally {
+                    if (raf != null) {
+                        raf.close();
+                    }
+                    BufferPool.free(oldData);
+                }
+            } catch (IOException e) {
+                abortObjectIndexUpdate(relPath, index);
+                throw e;
             }
+            commitObjectIndexUpdate(relPath, index, update, false);
 
             if (Logging.isDebug()) {
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this,
@@ -644,19 +860,43 @@ public class HashStorageLayout extends StorageLayout {
 
         } else {
             // just make the object shorter
-            RandomAccessFile raf = null;
-            try {
-                raf = new RandomAccessFile(oldFile, mode);
-                raf.setLength(newLength);
-            } finally {
-                if (raf != null) {
-                    raf.close();
+            if (mappedReads && newLength < currentLength) {
+                replaceWithPrefix(oldFile, newLength);
+            } else {
+                RandomAccessFile raf = null;
+                try {
+                    raf = new RandomAccessFile(oldFile, mode);
+                    raf.setLength(newLength);
+                    if (checksumBlockSize > 0) {
+                        // only the last block and the blocks padded with zeros are re-hashed
+                        updateBlockChecksums(raf, oldFileName,
+                                (int) (Math.min(currentLength, newLength) / checksumBlockSize),
+                                Integer.MAX_VALUE, false);
+                    }
+                } finally {
+                    if (raf != null) {
+                        raf.close();
+                    }
                 }
             }
-            if (newVersion != oldVersion) {
+            if (newVersion != oldVersion || oldChecksum != 0) {
                 String newFilename = generateAbsoluteObjectPathFromFileId(fileId, objNo, newVersion, 0l);
+
+                ObjectIndex update = new ObjectIndex();
+                update.remove(objNo, oldVersion, oldChecksum);
+                update.add(objNo, newVersion, 0l);
+                RandomAccessFile index = beginObjectIndexUpdate(relPath, update, false);
+
+                invalidateObjectFile(newFilename);
                 oldFile.renameTo(new File(newFilename));
+                if (checksumBlockSize > 0) {
+                    renameBlockChecksums(oldFileName, newFilename);
+                }
+                commitObjectIndexUpdate(relPath, index, update, false);
+
                 md.updateObjectVersion(objNo, newVersion);
+                if (checksumsEnabled)
+                    md.updateObjectChecksum(objNo, newVersion, 0l);
                 if (Logging.isDebug()) {
                     Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this,
                             "truncate object %d, renamed file for new version %d: %s", objNo, newVersion,
@@ -666,6 +906,42 @@ public class HashStorageLayout extends StorageLayout {
         }
     }
 
+    /**
+     * Shrinks an object file by replacing it with a copy of its first <code>length</code> bytes. Regions of the
+     * old file that were mapped by reads stay valid, whereas accessing them would raise SIGBUS if the file was
+     * shrunk in place.
+     */
+    private static void replaceWithPrefix(File file, int length) throws IOException {
+        // files starting with a dot are ignored when the objects of a file are listed
+        File tmpFile = new File(file.getParentFile(), "." + file.getName() + ".tmp");
+        RandomAccessFile in = new RandomAccessFile(file, "r");
+        RandomAccessFile out = null;
+        try {
+            out = new RandomAccessFile(tmpFile, "rw");
+            out.setLength(0);
+            long pos = 0;
+            while (pos < length) {
+                final long transferred = in.getChannel().transferTo(pos, length - pos, out.getChannel());
+                if (transferred <= 0) {
+                    throw new EOFException("unexpected end of " + file + " at offset " + pos);
+                }
+                pos += transferred;
+            }
+        } catch (IOException e) {
+            tmpFile.delete();
+            throw e;
+        } finally {
+            in.close();
+            if (out != null) {
+                out.close();
+            }
+        }
+        if (!tmpFile.renameTo(file)) {
+            tmpFile.delete();
+            throw new IOException("could not replace " + file + " with its truncated copy");
+        }
+    }
+
     @Override
     public void createPaddingObject(String fileId, FileMetadata md, long objNo, long version, int size)
             throws IOException {
@@ -673,27 +949,37 @@ public class HashStorageLayout extends StorageLayout {
         assert (size >= 0) : "size is " + size;
 
         String relPath = generateRelativeFilePath(fileId);
-        new File(this.storageDir + relPath).mkdirs();
+        createFileDir(relPath);
 
         // calculate the checksum for the padding object if necessary
         long checksum = 0;
-        if (checksumAlgo != null) {
+        if (checksumAlgo != null && checksumBlockSize == 0) {
             byte[] content = new byte[size];
-            checksumAlgo.update(ByteBuffer.wrap(content));
-            checksum = checksumAlgo.getValue();
+            checksum = calculateChecksum(ByteBuffer.wrap(content));
         }
 
+        ObjectIndex update = new ObjectIndex();
+        update.add(objNo, version, checksum);
+        RandomAccessFile index = beginObjectIndexUpdate(relPath, update, false);
+
         // write file
         String filename = generateAbsoluteObjectPathFromRelPath(relPath, objNo, version, checksum);
         RandomAccessFile raf = null;
         try {
             raf = new RandomAccessFile(filename, "rw");
             raf.setLength(size);
+            if (checksumBlockSize > 0) {
+                writeBlockChecksums(filename, ReusableBuffer.wrap(new byte[size]), false);
+            }
+        } catch (IOException e) {
+            abortObjectIndexUpdate(relPath, index);
+            throw e;
         } finally {
             if (raf != null) {
                 raf.close();
             }
         }
+        commitObjectIndexUpdate(relPath, index, update, false);
 
         md.updateObjectVersion(objNo, version);
 
@@ -703,14 +989,29 @@ public class HashStorageLayout extends StorageLayout {
 
     @Override
     public void deleteFile(String fileId, final boolean deleteMetadata) throws IOException {
-        File fileDir = new File(generateAbsoluteFilePath(fileId));
+        deleteFile(fileId, deleteMetadata, null);
+    }
+
+    @Override
+    public void deleteFile(String fileId, final boolean deleteMetadata, DeletionListener listener)
+            throws IOException {
+        notifyObjectFilesChanging(fileId, ALL_OBJECTS);
+        final String filePath = generateAbsoluteFilePath(fileId);
+        if (fileHandleCache != null) {
+            for (FileHandleCache c : fileHandleCaches) {
+                c.invalidateAll(filePath);
+            }
+        }
+
+        File fileDir = new File(filePath);
 
         // Filter metadata from the fileList, if deleteMetadata is not set.
         File[] fileList = fileDir.listFiles(new FileFilter() {
 
             @Override
             public boolean accept(File pathname) {
-                if (!deleteMetadata && pathname.getName().startsWith(".")) {
+                if (!deleteMetadata && pathname.getName().startsWith(".")
+                        && !BlockChecksums.isSidecar(pathname.getName())) {
                     return false;
                 }
 
@@ -723,9 +1024,19 @@ public class HashStorageLayout extends StorageLayout {
             return;
         }
 
+        // The object index is deleted first, so that it will be rebuilt if the OSD crashes in between.
+        new File(fileDir, OBJECT_INDEX_FILENAME).delete();
+
         // Delete the filtered files.
         for (File file : fileList) {
-            file.delete();
+            if (listener == null) {
+                file.delete();
+            } else {
+                final long length = file.length();
+                if (file.delete()) {
+                    listener.fileDeleted(length);
+                }
+            }
         }
 
         // Try to delete the data directory if it is empty.
@@ -745,8 +1056,10 @@ public class HashStorageLayout extends StorageLayout {
     @Override
     public void deleteObject(String fileId, FileMetadata md, final long objNo, long version)
             throws IOException {
+        notifyObjectFilesChanging(fileId, objNo);
         final long verToDel = (version == LATEST_VERSION) ? md.getLatestObjectVersion(objNo) : version;
-        File fileDir = new File(generateAbsoluteFilePath(fileId));
+        final String relPath = generateRelativeFilePath(fileId);
+        File fileDir = new File(this.storageDir + relPath);
         File[] objs = fileDir.listFiles(new FileFilter() {
 
             @Override
@@ -758,9 +1071,23 @@ public class HashStorageLayout extends StorageLayout {
                 return (ofd.objNo == objNo) && (ofd.objVersion == verToDel);
             }
         });
+        if (objs == null) {
+            return;
+        }
+
+        ObjectIndex update = new ObjectIndex();
         for (File obj : objs) {
+            ObjFileData ofd = parseFileName(obj.getName());
+            update.remove(ofd.objNo, ofd.objVersion, ofd.checksum);
+        }
+        RandomAccessFile index = beginObjectIndexUpdate(relPath, update, false);
+
+        for (File obj : objs) {
+            invalidateObjectFile(obj.getPath());
             obj.delete();
+            deleteBlockChecksums(obj.getPath());
         }
+        commitObjectIndexUpdate(relPath, index, update, false);
     }
 
     @Override
@@ -781,12 +1108,47 @@ public class HashStorageLayout extends StorageLayout {
         // file exists already ...
         if (fileDir.exists()) {
 
-            Map<Long, Long> largestObjVersions = new HashMap<Long, Long>();
-            Map<Long, Map<Long, Long>> objChecksums = new HashMap<Long, Map<Long, Long>>();
-            Map<Long, Long> latestObjVersions = null;
+            // retrieve the object files from the object index if possible, and from the directory otherwise
+            ObjFileData[] objFiles = null;
+            String[] objNames = null;
+            if (objectIndexEnabled) {
+                File indexFile = new File(fileDir, OBJECT_INDEX_FILENAME);
+                Collection<ObjFileData> indexed = ObjectIndex.read(indexFile, fileDir);
+                if (indexed != null) {
+                    objFiles = indexed.toArray(new ObjFileData[indexed.size()]);
+                    if (ObjectIndex.needsCompaction(indexFile, objFiles.length)) {
+                        writeObjectIndex(fileDir, indexed);
+                    }
+                }
+            }
+
+            if (objFiles == null) {
+                objNames = fileDir.list(new FilenameFilter() {
+                    @Override
+                    public boolean accept(File dir, String name) {
+                        return !name.startsWith("."); // ignore special files (metadata, .tepoch)
+                    }
+                });
+
+                boolean legacyNames = false;
+                objFiles = new ObjFileData[objNames.length];
+                for (int i = 0; i < objNames.length; i++) {
+                    objFiles[i] = parseFileName(objNames[i]);
+                    legacyNames |= objNames[i].length() == 32;
+                }
+
+                // files with object file names of the old layout are not indexed, as the names cannot be restored
+                if (objectIndexEnabled && !legacyNames) {
+                    writeObjectIndex(fileDir, Arrays.asList(objFiles));
+                }
+            }
+
+            ObjectVersionMap largestObjVersions = new ObjectVersionMap(objFiles.length);
+            ObjectChecksumMap objChecksums = new ObjectChecksumMap();
+            ObjectVersionMap latestObjVersions = null;
 
             long lastObjNum = -1;
-            String lastObject = null;
+            int lastObject = -1;
 
             File currVerFile = new File(fileDir, CURRENT_VER_FILENAME);
             boolean multiVersionSupport = currVerFile.exists();
@@ -796,7 +1158,7 @@ public class HashStorageLayout extends StorageLayout {
             // file
             if (multiVersionSupport) {
 
-                latestObjVersions = new HashMap<Long, Long>();
+                latestObjVersions = new ObjectVersionMap((int) (currVerFile.length() / 8));
 
                 RandomAccessFile rf = new RandomAccessFile(currVerFile, "r");
                 for (long l = 0;; l++) {
@@ -815,44 +1177,32 @@ public class HashStorageLayout extends StorageLayout {
             }
 
             // determine the largest object versions, as well as all checksums
-            String[] objs = fileDir.list();
-            for (String obj : objs) {
-
-                if (obj.startsWith(".")) {
-                    continue; // ignore special files (metadata, .tepoch)
-                }
+            for (int i = 0; i < objFiles.length; i++) {
 
-                ObjFileData ofd = parseFileName(obj);
+                ObjFileData ofd = objFiles[i];
 
                 // determine the checksum
                 if (ofd.checksum != 0) {
-
-                    Map<Long, Long> checksums = objChecksums.get(ofd.objNo);
-                    if (checksums == null) {
-                        checksums = new HashMap<Long, Long>();
-                        objChecksums.put(ofd.objNo, checksums);
-                    }
-
-                    checksums.put(ofd.objVersion, ofd.checksum);
+                    objChecksums.put(ofd.objNo, ofd.objVersion, ofd.checksum);
                 }
 
                 // determine the last object
                 if (multiVersionSupport) {
-                    Long latestObjVer = latestObjVersions.get(ofd.objNo);
-                    if (ofd.objNo == lastObjNum && latestObjVer != null && ofd.objVersion == latestObjVer)
-                        lastObject = obj;
+                    if (ofd.objNo == lastObjNum && latestObjVersions.containsKey(ofd.objNo)
+                            && ofd.objVersion == latestObjVersions.get(ofd.objNo))
+                        lastObject = i;
                 }
 
                 else {
                     if (ofd.objNo > lastObjNum) {
-                        lastObject = obj;
+                        lastObject = i;
                         lastObjNum = ofd.objNo;
                     }
                 }
 
                 // determine the largest object version
-                Long oldver = largestObjVersions.get(ofd.objNo);
-                if ((oldver == null) || (oldver < ofd.objVersion))
+                if (!largestObjVersions.containsKey(ofd.objNo)
+                        || largestObjVersions.get(ofd.objNo) < ofd.objVersion)
                     largestObjVersions.put(ofd.objNo, ofd.objVersion);
             }
 
@@ -877,8 +1227,13 @@ public class HashStorageLayout extends StorageLayout {
 
             // determine filesize from lastObjectNumber
             if (lastObjNum > -1) {
-                File lastObjFile = new File(fileDir.getAbsolutePath() + "/" + lastObject);
-                long lastObjSize = lastObjFile.length();
+                long lastObjSize = 0;
+                if (lastObject != -1) {
+                    ObjFileData ofd = objFiles[lastObject];
+                    String lastObjName = objNames != null ? objNames[lastObject] : createFileName(ofd.objNo,
+                            ofd.objVersion, ofd.checksum);
+                    lastObjSize = new File(fileDir, lastObjName).length();
+                }
                 // check for empty padding file
                 if (lastObjSize == 0) {
                     lastObjSize = sp.getStripeSizeForObject(lastObjSize);
@@ -924,9 +1279,9 @@ public class HashStorageLayout extends StorageLayout {
         else {
             info.setFilesize(0);
             info.setLastObjectNumber(-1);
-            info.initLatestObjectVersions(new HashMap<Long, Long>());
-            info.initLargestObjectVersions(new HashMap<Long, Long>());
-            info.initObjectChecksums(new HashMap<Long, Map<Long, Long>>());
+            info.initLatestObjectVersions(new ObjectVersionMap());
+            info.initLargestObjectVersions(new ObjectVersionMap());
+            info.initObjectChecksums(new ObjectChecksumMap());
             info.initVersionTable(new VersionTable(new File(fileDir, VTABLE_FILENAME)));
         }
 
@@ -983,6 +1338,295 @@ public class HashStorageLayout extends StorageLayout {
         return objectSet;
     }
 
+    /**
+     * Opens an object file, either through the file handle cache of the calling thread or directly. Handles must
+     * be returned through {@link #releaseObjectFile(RandomAccessFile)}.
+     *
+     * @param path
+     *            absolute path of the object file
+     * @param create
+     *            create the file if it does not exist
+     * @param sync
+     *            the file will be written synchronously
+     * @return the handle, or <code>null</code> if the file does not exist and <code>create</code> is not set
+     * @throws IOException
+     */
+    private RandomAccessFile openObjectFile(String path, boolean create, boolean sync) throws IOException {
+        if (fileHandleCache != null) {
+            return fileHandleCache.get().open(path, create);
+        }
+
+        File file = new File(path);
+        if (!create) {
+            return file.exists() ? new RandomAccessFile(file, "r") : null;
+        }
+        return new RandomAccessFile(file, sync ? "rwd" : "rw");
+    }
+
+    /**
+     * Flushes the data written to a cached handle if the write was synchronous. Uncached handles are opened in
+     * "rwd" mode instead.
+     */
+    private void syncObjectFile(RandomAccessFile f, boolean sync) throws IOException {
+        if (sync && fileHandleCache != null) {
+            f.getChannel().force(false);
+        }
+    }
+
+    /**
+     * Flushes a file written without <code>sync</code>. Object files are renamed or deleted only after the
+     * {@link ObjectFileListener}s had the chance to flush them, so a missing file means that the written data
+     * cannot be flushed anymore.
+     *
+     * @param required
+     *            if <code>false</code>, a missing file is skipped
+     * @throws IOException
+     *             if the file cannot be flushed or is missing and <code>required</code> is set
+     */
+    private void syncFile(String path, boolean required) throws IOException {
+        RandomAccessFile f;
+        try {
+            f = openObjectFile(path, false, false);
+        } catch (FileNotFoundException e) {
+            f = null;
+        }
+        if (f == null) {
+            if (required) {
+                throw new IOException("cannot flush " + path + ", the file does not exist anymore");
+            }
+            return;
+        }
+
+        try {
+            f.getChannel().force(false);
+        } finally {
+            releaseObjectFile(f);
+        }
+    }
+
+    /**
+     * Releases a handle returned by {@link #openObjectFile(String, boolean, boolean)}. Must be invoked by the
+     * thread that opened the handle.
+     */
+    private void releaseObjectFile(RandomAccessFile f) throws IOException {
+        if (fileHandleCache == null) {
+            f.close();
+        } else {
+            fileHandleCache.get().release(f);
+        }
+    }
+
+    /**
+     * Removes all cached handles of the given object file. Must be invoked before the file is deleted or renamed.
+     * Handles in use by other threads are closed once these threads release them.
+     */
+    private void invalidateObjectFile(String path) {
+        if (fileHandleCache != null) {
+            for (FileHandleCache c : fileHandleCaches) {
+                c.invalidate(path);
+            }
+        }
+    }
+
+    /**
+     * @return the instance of the checksum algorithm owned by the calling thread, as the layout is used by all
+     *         storage threads
+     */
+    private ChecksumAlgorithm getThreadChecksumAlgorithm() throws IOException {
+        try {
+            return ChecksumFactory.getInstance().getThreadAlgorithm(checksumAlgo.getName());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Calculates the checksum of a whole object from the start of the buffer up to its limit. The position of the
+     * buffer is not changed.
+     */
+    private long calculateChecksum(ByteBuffer data) throws IOException {
+        final ChecksumAlgorithm algorithm = getThreadChecksumAlgorithm();
+        final int position = data.position();
+        data.position(0);
+        try {
+            algorithm.update(data);
+        } finally {
+            data.position(position);
+        }
+        return algorithm.getValue();
+    }
+
+    /**
+     * Calculates the checksums of the blocks of an object.
+     */
+    private long[] calculateBlockChecksums(ByteBuffer data) throws IOException {
+        return BlockChecksums.calculate(getThreadChecksumAlgorithm(), data, checksumBlockSize);
+    }
+
+    /**
+     * Writes the checksums of all blocks of an object file whose content is given as a buffer.
+     */
+    private void writeBlockChecksums(String objectPath, ReusableBuffer data, boolean sync) throws IOException {
+        data.position(0);
+        BlockChecksums.write(BlockChecksums.getSidecarPath(objectPath), checksumBlockSize, 0,
+                calculateBlockChecksums(data.getBuffer()), BlockChecksums.getNumBlocks(data.limit(),
+                        checksumBlockSize), sync);
+    }
+
+    /**
+     * Re-calculates the checksums of a range of blocks of a modified object file. Only the blocks in the range
+     * are read from the file, unless its sidecar is missing or has another block size.
+     */
+    private void updateBlockChecksums(RandomAccessFile f, String objectPath, int firstBlock, int lastBlock,
+            boolean sync) throws IOException {
+        final String sidecarPath = BlockChecksums.getSidecarPath(objectPath);
+        if (BlockChecksums.readBlockSize(sidecarPath) != checksumBlockSize) {
+            firstBlock = 0;
+            lastBlock = Integer.MAX_VALUE;
+        }
+
+        final long length = f.length();
+        final int numBlocks = BlockChecksums.getNumBlocks(length, checksumBlockSize);
+        final long start = (long) firstBlock * checksumBlockSize;
+        final long end = Math.min(length, (Math.min((long) lastBlock, numBlocks - 1) + 1) * checksumBlockSize);
+
+        long[] checksums = new long[0];
+        if (end > start) {
+            ReusableBuffer blocks = BufferPool.allocate((int) (end - start));
+            try {
+                long position = start;
+                while (blocks.hasRemaining()) {
+                    int read = f.getChannel().read(blocks.getBuffer(), position);
+                    if (read < 0) {
+                        throw new IOException(ERROR_MESSAGE_INCOMPLETE_READ);
+                    }
+                    position += read;
+                }
+                blocks.flip();
+                checksums = calculateBlockChecksums(blocks.getBuffer());
+            } finally {
+                BufferPool.free(blocks);
+            }
+        }
+        BlockChecksums.write(sidecarPath, checksumBlockSize, firstBlock, checksums, numBlocks, sync);
+    }
+
+    /**
+     * Verifies blocks read from an object file against the checksums in its sidecar.
+     *
+     * @param blocks
+     *            the blocks, starting at a block boundary
+     * @return whether the checksums match, or <code>null</code> if the sidecar does not cover the blocks
+     */
+    private Boolean verifyBlockChecksums(String objectPath, ReusableBuffer blocks, int firstBlock)
+            throws IOException {
+        final long[] expected = BlockChecksums.read(BlockChecksums.getSidecarPath(objectPath), checksumBlockSize,
+                firstBlock, BlockChecksums.getNumBlocks(blocks.remaining(), checksumBlockSize));
+        if (expected == null) {
+            return null;
+        }
+        return Arrays.equals(expected, calculateBlockChecksums(blocks.getBuffer()));
+    }
+
+    private void renameBlockChecksums(String objectPath, String newObjectPath) {
+        new File(BlockChecksums.getSidecarPath(objectPath)).renameTo(new File(BlockChecksums
+                .getSidecarPath(newObjectPath)));
+    }
+
+    private void deleteBlockChecksums(String objectPath) {
+        new File(BlockChecksums.getSidecarPath(objectPath)).delete();
+    }
+
+    /**
+     * Creates the directory of a file if it does not exist. A new directory starts with an empty object index.
+     */
+    private void createFileDir(String relativePath) throws IOException {
+        File fileDir = new File(this.storageDir + relativePath);
+        if (fileDir.mkdirs() && objectIndexEnabled) {
+            writeObjectIndex(fileDir, new ArrayList<ObjFileData>(0));
+        }
+    }
+
+    /**
+     * Appends the records of a change of the object files to the object index of a file. The change has to be
+     * completed with {@link #commitObjectIndexUpdate(String, RandomAccessFile, ObjectIndex, boolean)} or, if
+     * it failed, {@link #abortObjectIndexUpdate(String, RandomAccessFile)}.
+     *
+     * @return the handle of the index, or <code>null</code> if there is no index to update
+     */
+    private RandomAccessFile beginObjectIndexUpdate(String relativePath, ObjectIndex update, boolean sync)
+            throws IOException {
+        if (!objectIndexEnabled || update.isEmpty()) {
+            return null;
+        }
+
+        final String indexPath = this.storageDir + relativePath + OBJECT_INDEX_FILENAME;
+        RandomAccessFile index = openObjectFile(indexPath, false, sync);
+        if (index == null) {
+            // the index does not exist and will be rebuilt when the file's metadata is loaded again
+            return null;
+        }
+
+        try {
+            update.append(index);
+        } catch (IOException e) {
+            abortObjectIndexUpdate(relativePath, index);
+            throw e;
+        }
+        return index;
+    }
+
+    private void commitObjectIndexUpdate(String relativePath, RandomAccessFile index, ObjectIndex update,
+            boolean sync) throws IOException {
+        if (index == null) {
+            return;
+        }
+
+        try {
+            update.commit(index, new File(this.storageDir + relativePath));
+            syncObjectFile(index, sync);
+        } catch (IOException e) {
+            abortObjectIndexUpdate(relativePath, index);
+            throw e;
+        }
+        releaseObjectFile(index);
+    }
+
+    /**
+     * Deletes the object index of a file after a failed change, as the object files may have been modified
+     * partially. The index will be rebuilt when the file's metadata is loaded again.
+     */
+    private void abortObjectIndexUpdate(String relativePath, RandomAccessFile index) {
+        if (index == null) {
+            return;
+        }
+
+        final String indexPath = this.storageDir + relativePath + OBJECT_INDEX_FILENAME;
+        try {
+            releaseObjectFile(index);
+        } catch (IOException e) {
+            // ignore, the index is discarded anyway
+        }
+        invalidateObjectFile(indexPath);
+        new File(indexPath).delete();
+    }
+
+    /**
+     * (Re)writes the object index of a file directory. Failures are logged, since the object files can still be
+     * found by listing the directory.
+     */
+    private void writeObjectIndex(File fileDir, Collection<ObjFileData> objFiles) {
+        File indexFile = new File(fileDir, OBJECT_INDEX_FILENAME);
+        invalidateObjectFile(indexFile.getPath());
+        try {
+            ObjectIndex.write(indexFile, fileDir, objFiles);
+        } catch (IOException e) {
+            Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this, "could not write object index %s: %s",
+                    indexFile, e.getMessage());
+            indexFile.delete();
+        }
+    }
+
     public String generateAbsoluteFilePath(String fileId) {
         return this.storageDir + generateRelativeFilePath(fileId);
     }
@@ -1003,7 +1647,10 @@ public class HashStorageLayout extends StorageLayout {
 
     private String generateRelativeFilePath(String fileId) {
         if (USE_PATH_CACHE) {
-            String cached = hashedPathCache.get(fileId);
+            String cached;
+            synchronized (hashedPathCache) {
+                cached = hashedPathCache.get(fileId);
+            }
             if (cached != null)
                 return cached;
         }
@@ -1013,11 +1660,23 @@ public class HashStorageLayout extends StorageLayout {
         path.append("/");
         final String pathStr = path.toString();
         if (USE_PATH_CACHE) {
-            hashedPathCache.put(fileId, pathStr);
+            synchronized (hashedPathCache) {
+                hashedPathCache.put(fileId, pathStr);
+            }
         }
         return pathStr;
     }
 
+    /**
+     * Files are partitioned by their top-level hash directory.
+     */
+    @Override
+    public int getStoragePartition(String fileId) {
+        String id = (WIN) ? fileId.replace(':', '_') : fileId;
+        String hash = hash(id);
+        return Integer.parseInt(hash.substring(0, Math.min(prefixLength, hash.length())), 16);
+    }
+
     /**
      * generates the path for the file with an "/" at the end
      * 
@@ -1069,6 +1728,40 @@ public class HashStorageLayout extends StorageLayout {
         return _stat_fileInfoLoads;
     }
 
+    @Override
+    public long getFileHandleCacheHits() {
+        long hits = 0;
+        for (FileHandleCache c : fileHandleCaches) {
+            hits += c.getHits();
+        }
+        return hits;
+    }
+
+    @Override
+    public long getFileHandleCacheMisses() {
+        long misses = 0;
+        for (FileHandleCache c : fileHandleCaches) {
+            misses += c.getMisses();
+        }
+        return misses;
+    }
+
+    @Override
+    public long getFileHandleCacheEvictions() {
+        long evictions = 0;
+        for (FileHandleCache c : fileHandleCaches) {
+            evictions += c.getEvictions();
+        }
+        return evictions;
+    }
+
+    @Override
+    public void shutdown() {
+        for (FileHandleCache c : fileHandleCaches) {
+            c.clear();
+        }
+    }
+
     /**
      * 
      * @param f
@@ -1146,6 +1839,22 @@ public class HashStorageLayout extends StorageLayout {
             this.objVersion = objVersion;
             this.checksum = checksum;
         }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof ObjFileData)) {
+                return false;
+            }
+            ObjFileData other = (ObjFileData) obj;
+            return objNo == other.objNo && objVersion == other.objVersion && checksum == other.checksum;
+        }
+
+        @Override
+        public int hashCode() {
+            long h = objNo * 31 + objVersion;
+            h = h * 31 + checksum;
+            return (int) (h ^ (h >>> 32));
+        }
     }
 
     @Override
@@ -9,31 +9,253 @@
 
 package org.xtreemfs.osd.storage;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
 
+/**
+ * Caches the {@link FileMetadata} of files on the OSD. The cache is bounded by the estimated heap size of its
+ * entries; when the bound is exceeded, entries are evicted according to the CLOCK (second chance) algorithm.
+ * Entries of files that are pinned, i.e. open in the {@link org.xtreemfs.osd.OpenFileTable}, are never evicted,
+ * as their metadata may contain state that cannot be restored from disk.
+ * <p>
+ * Lookups are lock-free. Insertions, removals and evictions are synchronized.
+ */
 public class MetadataCache {
 
-    private Map<String, FileMetadata> metadataMap;
+    /**
+     * Estimated heap size of a cache entry, the {@link FileMetadata} object and the map entry, excluding the
+     * object version and checksum tables.
+     */
+    private static final int                              ENTRY_OVERHEAD = 256;
+
+    private final ConcurrentHashMap<String, CacheEntry>   metadataMap;
+
+    private final ConcurrentHashMap<String, Boolean>      pinnedFiles;
+
+    /** the CLOCK; may contain removed entries, which are dropped when the hand passes them */
+    private final ArrayDeque<CacheEntry>                  clock;
+
+    private final long                                    maxSize;
+
+    private long                                          size;
+
+    private final AtomicLong                              hits;
+
+    private final AtomicLong                              misses;
+
+    private final AtomicLong                              loads;
+
+    private final AtomicLong                              loadTimeNanos;
+
+    private long                                          evictions;
+
+    private boolean                                       overLimitWarned;
 
     /** Creates a new instance of StorageCache */
     public MetadataCache() {
-        metadataMap = new ConcurrentSkipListMap<String, FileMetadata>();
+        this(0);
+    }
+
+    /**
+     * @param maxSize
+     *            max. estimated heap size of all cached entries in bytes; 0 means unbounded
+     */
+    public MetadataCache(long maxSize) {
+        this.maxSize = maxSize;
+        metadataMap = new ConcurrentHashMap<String, CacheEntry>();
+        pinnedFiles = new ConcurrentHashMap<String, Boolean>();
+        clock = new ArrayDeque<CacheEntry>();
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+        loads = new AtomicLong();
+        loadTimeNanos = new AtomicLong();
     }
 
     public FileMetadata getFileInfo(String fileId) {
         assert (fileId != null);
-        return metadataMap.get(fileId);
+        CacheEntry entry = metadataMap.get(fileId);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        entry.referenced = true;
+        return entry.metadata;
     }
 
-    public void setFileInfo(String fileId, FileMetadata info) {
+    public synchronized void setFileInfo(String fileId, FileMetadata info) {
         assert (info.getFilesize() != 0 || info.getLastObjectNumber() <= 0);
-        metadataMap.put(fileId, info);
+
+        CacheEntry entry = new CacheEntry(fileId, info);
+        CacheEntry old = metadataMap.put(fileId, entry);
+        if (old != null) {
+            old.removed = true;
+            size -= old.size;
+        }
+        size += entry.size;
+
+        if (maxSize > 0) {
+            clock.add(entry);
+            if (size > maxSize)
+                evict();
+            else if (clock.size() > 2 * metadataMap.size() + 64)
+                compactClock();
+        }
+    }
+
+    public synchronized FileMetadata removeFileInfo(String fileId) {
+        CacheEntry entry = metadataMap.remove(fileId);
+        if (entry == null)
+            return null;
+        entry.removed = true;
+        size -= entry.size;
+        return entry.metadata;
+    }
+
+    /**
+     * Prevents the metadata of the given file from being evicted until {@link #unpin(String)} is called. Files
+     * need to be pinned as long as they are open.
+     */
+    public void pin(String fileId) {
+        pinnedFiles.put(fileId, Boolean.TRUE);
+    }
+
+    public void unpin(String fileId) {
+        pinnedFiles.remove(fileId);
+    }
+
+    /**
+     * Records that file metadata was loaded from disk.
+     *
+     * @param nanos
+     *            the time it took to load the metadata
+     */
+    public void recordLoad(long nanos) {
+        loads.incrementAndGet();
+        loadTimeNanos.addAndGet(nanos);
+    }
+
+    public int getNumEntries() {
+        return metadataMap.size();
+    }
+
+    public int getNumPinnedFiles() {
+        return pinnedFiles.size();
+    }
+
+    /**
+     * @return the estimated heap size of all cached entries in bytes
+     */
+    public synchronized long getSize() {
+        return size;
     }
 
-    public FileMetadata removeFileInfo(String fileId) {
-        return metadataMap.remove(fileId);
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getLoads() {
+        return loads.get();
+    }
+
+    /**
+     * @return the accumulated time spent on loading file metadata from disk, in nanoseconds
+     */
+    public long getLoadTimeNanos() {
+        return loadTimeNanos.get();
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Evicts unreferenced, unpinned entries until the size bound is met again. Each entry passed by the clock
+     * hand gets its size re-estimated, since the metadata of a file grows as objects are written.
+     */
+    private void evict() {
+
+        // two rounds suffice to evict every unpinned entry
+        int steps = 2 * clock.size();
+        while (size > maxSize && steps-- > 0) {
+
+            CacheEntry entry = clock.poll();
+            if (entry.removed)
+                continue;
+
+            long newSize = entry.estimateSize();
+            size += newSize - entry.size;
+            entry.size = newSize;
+
+            if (entry.referenced || pinnedFiles.containsKey(entry.fileId)) {
+                entry.referenced = false;
+                clock.add(entry);
+                continue;
+            }
+
+            metadataMap.remove(entry.fileId, entry);
+            entry.removed = true;
+            size -= entry.size;
+            evictions++;
+
+            if (Logging.isDebug())
+                Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this,
+                        "evicted metadata of file %s from cache", entry.fileId);
+        }
+
+        if (size > maxSize && !overLimitWarned) {
+            Logging.logMessage(Logging.LEVEL_WARN, Category.storage, this,
+                    "metadata cache exceeds its size limit (%d > %d bytes) as too many files are open", size, maxSize);
+            overLimitWarned = true;
+        } else if (size <= maxSize) {
+            overLimitWarned = false;
+        }
+    }
+
+    private void compactClock() {
+        Iterator<CacheEntry> it = clock.iterator();
+        while (it.hasNext()) {
+            if (it.next().removed)
+                it.remove();
+        }
+    }
+
+    private static final class CacheEntry {
+
+        final String          fileId;
+
+        final FileMetadata    metadata;
+
+        /** set on each access, cleared when passed by the clock hand */
+        volatile boolean      referenced;
+
+        boolean               removed;
+
+        long                  size;
+
+        CacheEntry(String fileId, FileMetadata metadata) {
+            this.fileId = fileId;
+            this.metadata = metadata;
+            this.referenced = true;
+            this.size = estimateSize();
+        }
+
+        long estimateSize() {
+            return ENTRY_OVERHEAD + 2 * fileId.length() + metadata.getObjectTablesHeapSize();
+        }
     }
 
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.util.Arrays;
+
+/**
+ * A map from (object number, object version) pairs to object checksums, implemented as an open-addressing hash
+ * table on primitive arrays. It replaces a nested <code>Map&lt;Long, Map&lt;Long, Long&gt;&gt;</code>, which
+ * required an inner map per object and three boxed values per entry.
+ * <p>
+ * Object numbers and versions must not be negative. Instances are not thread-safe.
+ */
+public class ObjectChecksumMap {
+
+    private static final long FREE             = -1;
+
+    private static final int  DEFAULT_CAPACITY = 16;
+
+    private long[]            objNos;
+
+    private long[]            objVersions;
+
+    private long[]            checksums;
+
+    private int               size;
+
+    private int               mask;
+
+    private int               resizeThreshold;
+
+    public ObjectChecksumMap() {
+        this(DEFAULT_CAPACITY / 2);
+    }
+
+    /**
+     * @param expectedSize
+     *            number of checksums the map should be able to hold without being resized
+     */
+    public ObjectChecksumMap(int expectedSize) {
+        allocate(ObjectVersionMap.capacityFor(expectedSize));
+    }
+
+    /**
+     * @return the checksum of the given object version, or <code>null</code> if none is contained
+     */
+    public Long get(long objNo, long objVer) {
+        final int i = find(objNo, objVer);
+        return i == -1 ? null : checksums[i];
+    }
+
+    public void put(long objNo, long objVer, long checksum) {
+        assert (objNo >= 0 && objVer >= 0) : "negative object number or version " + objNo + ", " + objVer;
+        for (int i = slot(objNo, objVer);; i = (i + 1) & mask) {
+            final long k = objNos[i];
+            if (k == objNo && objVersions[i] == objVer) {
+                checksums[i] = checksum;
+                return;
+            }
+            if (k == FREE) {
+                objNos[i] = objNo;
+                objVersions[i] = objVer;
+                checksums[i] = checksum;
+                if (++size > resizeThreshold) {
+                    rehash(objNos.length * 2);
+                }
+                return;
+            }
+        }
+    }
+
+    public void remove(long objNo, long objVer) {
+        final int i = find(objNo, objVer);
+        if (i != -1) {
+            size--;
+            shiftBack(i);
+        }
+    }
+
+    /**
+     * Removes the checksums of all versions of the given object.
+     */
+    public void removeAll(long objNo) {
+        if (size == 0) {
+            return;
+        }
+        // backward shifting may move an entry that has not been inspected yet to the current slot, so the slot
+        // has to be inspected again after a removal
+        for (int i = 0; i < objNos.length;) {
+            if (objNos[i] == objNo) {
+                size--;
+                shiftBack(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(objNos, FREE);
+        size = 0;
+    }
+
+    /**
+     * @return the approximate number of bytes occupied by the map on the heap
+     */
+    public long getHeapSize() {
+        // object header and fields, three array headers, array contents
+        return 40 + 48 + 24L * objNos.length;
+    }
+
+    private int find(long objNo, long objVer) {
+        for (int i = slot(objNo, objVer);; i = (i + 1) & mask) {
+            final long k = objNos[i];
+            if (k == objNo && objVersions[i] == objVer) {
+                return i;
+            }
+            if (k == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    private int slot(long objNo, long objVer) {
+        return ObjectVersionMap.mix(objNo * 31 + objVer) & mask;
+    }
+
+    private void shiftBack(int free) {
+        int i = free;
+        for (;;) {
+            i = (i + 1) & mask;
+            final long k = objNos[i];
+            if (k == FREE) {
+                break;
+            }
+            final int home = slot(k, objVersions[i]);
+            // move the entry if its home slot does not lie cyclically in (free, i]
+            if (((i - home) & mask) >= ((i - free) & mask)) {
+                objNos[free] = k;
+                objVersions[free] = objVersions[i];
+                checksums[free] = checksums[i];
+                free = i;
+            }
+        }
+        objNos[free] = FREE;
+    }
+
+    private void rehash(int newCapacity) {
+        final long[] oldObjNos = objNos;
+        final long[] oldObjVersions = objVersions;
+        final long[] oldChecksums = checksums;
+        allocate(newCapacity);
+        for (int i = 0; i < oldObjNos.length; i++) {
+            final long k = oldObjNos[i];
+            if (k != FREE) {
+                int j = slot(k, oldObjVersions[i]);
+                while (objNos[j] != FREE) {
+                    j = (j + 1) & mask;
+                }
+                objNos[j] = k;
+                objVersions[j] = oldObjVersions[i];
+                checksums[j] = oldChecksums[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        objNos = new long[capacity];
+        objVersions = new long[capacity];
+        checksums = new long[capacity];
+        Arrays.fill(objNos, FREE);
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * 0.75f);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.xtreemfs.osd.storage.HashStorageLayout.ObjFileData;
+
+/**
+ * A persistent index of the object files in a file directory of the {@link HashStorageLayout}. It allows the
+ * layout to restore the object versions and checksums of a file without listing the directory and parsing the
+ * name of each object file.
+ * <p>
+ * The index is a log of object files that were added to or removed from the directory. A header holds the number
+ * of confirmed records and the modification time of the directory when the last record was confirmed. Each change
+ * of the directory is made in three steps: the records describing the change are appended (
+ * {@link #append(RandomAccessFile)}), the object files are created, renamed or deleted, and the records are
+ * confirmed ({@link #commit(RandomAccessFile, File)}). An index with unconfirmed records, e.g. after a crash, or
+ * whose directory was modified afterwards, e.g. by an OSD running without the index, is stale and has to be
+ * rebuilt from the directory.
+ * <p>
+ * Instances collect the records of a single change and are not thread-safe.
+ */
+public class ObjectIndex {
+
+    private static final int MAGIC       = 0x58494458;
+
+    private static final int HEADER_SIZE = 4 + 8 + 8;
+
+    private static final int RECORD_SIZE = 4 + 8 + 8 + 8;
+
+    private static final int ADD         = 1;
+
+    private static final int REMOVE      = 2;
+
+    private ByteBuffer       records;
+
+    private int              numRecords;
+
+    public ObjectIndex() {
+        records = ByteBuffer.allocate(2 * RECORD_SIZE);
+    }
+
+    /**
+     * Records that the given object file is created.
+     */
+    public void add(long objNo, long objVersion, long checksum) {
+        put(ADD, objNo, objVersion, checksum);
+    }
+
+    /**
+     * Records that the given object file is deleted.
+     */
+    public void remove(long objNo, long objVersion, long checksum) {
+        put(REMOVE, objNo, objVersion, checksum);
+    }
+
+    /**
+     * @return <code>true</code> if no records were collected
+     */
+    public boolean isEmpty() {
+        return numRecords == 0;
+    }
+
+    /**
+     * Appends the collected records behind the confirmed records of the index. Must be invoked before the object
+     * files are modified.
+     */
+    public void append(RandomAccessFile index) throws IOException {
+        records.flip();
+        long position = index.length();
+        while (records.hasRemaining()) {
+            position += index.getChannel().write(records, position);
+        }
+    }
+
+    /**
+     * Confirms the appended records. Must be invoked after the object files were modified.
+     *
+     * @param fileDir
+     *            the directory containing the object files
+     */
+    public void commit(RandomAccessFile index, File fileDir) throws IOException {
+        writeHeader(index, (index.length() - HEADER_SIZE) / RECORD_SIZE, fileDir.lastModified());
+    }
+
+    /**
+     * Reads the index of a file directory.
+     *
+     * @param indexFile
+     *            the index file
+     * @param fileDir
+     *            the directory containing the object files
+     * @return the object files in the directory, or <code>null</code> if the index does not exist or is stale
+     * @throws IOException
+     */
+    public static Set<ObjFileData> read(File indexFile, File fileDir) throws IOException {
+
+        final long dirMtime = fileDir.lastModified();
+
+        RandomAccessFile raf;
+        try {
+            raf = new RandomAccessFile(indexFile, "r");
+        } catch (FileNotFoundException exc) {
+            // the index does not exist
+            return null;
+        }
+
+        try {
+            final long length = raf.length();
+            if (length < HEADER_SIZE)
+                return null;
+
+            ByteBuffer buf = ByteBuffer.allocate((int) length);
+            while (buf.hasRemaining()) {
+                if (raf.getChannel().read(buf, buf.position()) < 0)
+                    return null;
+            }
+            buf.flip();
+
+            if (buf.getInt() != MAGIC)
+                return null;
+            final long numRecords = buf.getLong();
+            if (buf.getLong() != dirMtime || length != HEADER_SIZE + numRecords * RECORD_SIZE)
+                return null;
+
+            Set<ObjFileData> objFiles = new HashSet<ObjFileData>((int) numRecords);
+            for (long i = 0; i < numRecords; i++) {
+                final int type = buf.getInt();
+                final ObjFileData ofd = new ObjFileData(buf.getLong(), buf.getLong(), buf.getLong());
+                if (type == ADD)
+                    objFiles.add(ofd);
+                else if (type == REMOVE)
+                    objFiles.remove(ofd);
+                else
+                    return null;
+            }
+
+            return objFiles;
+
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * Replaces the index of a file directory by an index containing the given object files. The new index is
+     * written to a temporary file and renamed, so that a crash leaves either the old or the new index behind.
+     *
+     * @param indexFile
+     *            the index file
+     * @param fileDir
+     *            the directory containing the object files
+     * @param objFiles
+     *            the object files in the directory
+     * @throws IOException
+     */
+    public static void write(File indexFile, File fileDir, Collection<ObjFileData> objFiles) throws IOException {
+
+        ObjectIndex update = new ObjectIndex();
+        for (ObjFileData ofd : objFiles)
+            update.add(ofd.objNo, ofd.objVersion, ofd.checksum);
+
+        File tmpFile = new File(indexFile.getPath() + ".tmp");
+        RandomAccessFile raf = new RandomAccessFile(tmpFile, "rw");
+        try {
+            raf.setLength(0);
+            // the header is completed once the index is in place, which modifies the directory
+            writeHeader(raf, 0, 0);
+            update.append(raf);
+        } finally {
+            raf.close();
+        }
+
+        if (!tmpFile.renameTo(indexFile)) {
+            tmpFile.delete();
+            throw new IOException("could not create object index " + indexFile);
+        }
+
+        raf = new RandomAccessFile(indexFile, "rw");
+        try {
+            update.commit(raf, fileDir);
+        } finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the index contains many more records than object files and should be rewritten
+     */
+    public static boolean needsCompaction(File indexFile, int numObjFiles) {
+        return (indexFile.length() - HEADER_SIZE) / RECORD_SIZE > 2L * numObjFiles + 1024;
+    }
+
+    private void put(int type, long objNo, long objVersion, long checksum) {
+        if (records.remaining() < RECORD_SIZE) {
+            ByteBuffer tmp = ByteBuffer.allocate(records.capacity() * 2);
+            records.flip();
+            tmp.put(records);
+            records = tmp;
+        }
+        records.putInt(type);
+        records.putLong(objNo);
+        records.putLong(objVersion);
+        records.putLong(checksum);
+        numRecords++;
+    }
+
+    private static void writeHeader(RandomAccessFile index, long numRecords, long dirMtime) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.putLong(numRecords);
+        header.putLong(dirMtime);
+        header.flip();
+        index.getChannel().write(header, 0);
+    }
+
+}
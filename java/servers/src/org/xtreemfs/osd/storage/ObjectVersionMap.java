@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.osd.storage;
+
+import java.util.Arrays;
+
+/**
+ * A map from object numbers to object versions, implemented as an open-addressing hash table on primitive
+ * arrays. Compared to a <code>HashMap&lt;Long, Long&gt;</code>, it neither allocates an entry nor boxes key and
+ * value per object, which substantially reduces the heap footprint of files with many objects.
+ * <p>
+ * Object numbers must not be negative. Iteration is done via slots:
+ *
+ * <pre>
+ * for (int i = map.nextSlot(-1); i != -1; i = map.nextSlot(i)) {
+ *     long objNo = map.keyAt(i);
+ *     long objVer = map.valueAt(i);
+ * }
+ * </pre>
+ *
+ * The map must not be modified while iterating over it. Instances are not thread-safe.
+ */
+public class ObjectVersionMap {
+
+    private static final long FREE             = -1;
+
+    private static final int  DEFAULT_CAPACITY = 16;
+
+    private long[]            keys;
+
+    private long[]            values;
+
+    private int               size;
+
+    private int               mask;
+
+    private int               resizeThreshold;
+
+    public ObjectVersionMap() {
+        this(DEFAULT_CAPACITY / 2);
+    }
+
+    /**
+     * @param expectedSize
+     *            number of objects the map should be able to hold without being resized
+     */
+    public ObjectVersionMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @return the version of the given object, or 0 if the object is not contained
+     */
+    public long get(long objNo) {
+        assert (objNo >= 0) : "negative object number " + objNo;
+        for (int i = slot(objNo);; i = (i + 1) & mask) {
+            final long k = keys[i];
+            if (k == objNo) {
+                return values[i];
+            }
+            if (k == FREE) {
+                return 0;
+            }
+        }
+    }
+
+    public boolean containsKey(long objNo) {
+        assert (objNo >= 0) : "negative object number " + objNo;
+        for (int i = slot(objNo);; i = (i + 1) & mask) {
+            final long k = keys[i];
+            if (k == objNo) {
+                return true;
+            }
+            if (k == FREE) {
+                return false;
+            }
+        }
+    }
+
+    public void put(long objNo, long version) {
+        assert (objNo >= 0) : "negative object number " + objNo;
+        for (int i = slot(objNo);; i = (i + 1) & mask) {
+            final long k = keys[i];
+            if (k == objNo) {
+                values[i] = version;
+                return;
+            }
+            if (k == FREE) {
+                keys[i] = objNo;
+                values[i] = version;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length * 2);
+                }
+                return;
+            }
+        }
+    }
+
+    public void remove(long objNo) {
+        assert (objNo >= 0) : "negative object number " + objNo;
+        for (int i = slot(objNo);; i = (i + 1) & mask) {
+            final long k = keys[i];
+            if (k == FREE) {
+                return;
+            }
+            if (k == objNo) {
+                size--;
+                shiftBack(i);
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, FREE);
+        size = 0;
+    }
+
+    /**
+     * Returns the next occupied slot after the given one.
+     *
+     * @param slot
+     *            the current slot, or -1 to get the first slot
+     * @return the next slot, or -1 if there are no more entries
+     */
+    public int nextSlot(int slot) {
+        for (int i = slot + 1; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    public long valueAt(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * @return the approximate number of bytes occupied by the map on the heap
+     */
+    public long getHeapSize() {
+        // object header and fields, two array headers, array contents
+        return 40 + 32 + 16L * keys.length;
+    }
+
+    private int slot(long objNo) {
+        return mix(objNo) & mask;
+    }
+
+    /**
+     * Removes the entry at the given slot by moving subsequent entries of the same probe sequence back, which
+     * avoids tombstones.
+     */
+    private void shiftBack(int free) {
+        int i = free;
+        for (;;) {
+            i = (i + 1) & mask;
+            final long k = keys[i];
+            if (k == FREE) {
+                break;
+            }
+            final int home = slot(k);
+            // move the entry if its home slot does not lie cyclically in (free, i]
+            if (((i - home) & mask) >= ((i - free) & mask)) {
+                keys[free] = k;
+                values[free] = values[i];
+                free = i;
+            }
+        }
+        keys[free] = FREE;
+    }
+
+    private void rehash(int newCapacity) {
+        final long[] oldKeys = keys;
+        final long[] oldValues = values;
+        allocate(newCapacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            final long k = oldKeys[i];
+            if (k != FREE) {
+                int j = slot(k);
+                while (keys[j] != FREE) {
+                    j = (j + 1) & mask;
+                }
+                keys[j] = k;
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(keys, FREE);
+        mask = capacity - 1;
+        resizeThreshold = (int) (capacity * 0.75f);
+    }
+
+    static int capacityFor(int expectedSize) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * 0.75f < expectedSize) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    static int mix(long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -14,9 +14,6 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Stack;
 
 import org.xtreemfs.common.xloc.StripingPolicyImpl;
@@ -96,11 +93,11 @@ public class RealSingleFileStorageLayout extends StorageLayout {
     @Override
     protected FileMetadata loadFileMetadata(String fileId, StripingPolicyImpl sp) throws IOException {
         FileMetadata fi = new FileMetadata(sp);
-        Map<Long,Long> tmp = new HashMap();
+        ObjectVersionMap tmp = new ObjectVersionMap();
         fi.initLatestObjectVersions(tmp);
         fi.initLargestObjectVersions(tmp);
         if (checksumsEnabled)
-            fi.initObjectChecksums(new HashMap());
+            fi.initObjectChecksums(new ObjectChecksumMap());
 
         File f = new File(getFilePath(fileId)+DATA_SUFFIX);
         
@@ -122,7 +119,7 @@ public class RealSingleFileStorageLayout extends StorageLayout {
                 if (version == 0)
                     continue;
                 if (checksumsEnabled)
-                    fi.updateObjectChecksum(globalON, chkSum, version);
+                    fi.updateObjectChecksum(globalON, version, chkSum);
                 fi.updateObjectVersion(globalON, version);
             }
             fi.setLastObjectNumber(sp.getGloablObjectNumber(numObjs-1));
@@ -192,6 +189,7 @@ public class RealSingleFileStorageLayout extends StorageLayout {
                 ReusableBuffer data = BufferPool.allocate(stripeSize);
                 ofile.seek(sp.getRow(objNo)*stripeSize);
                 c.read(data.getBuffer());
+                data.position(0);
                 checksumAlgo.reset();
                 checksumAlgo.update(data.getBuffer());
                 BufferPool.free(data);
@@ -238,6 +236,7 @@ public class RealSingleFileStorageLayout extends StorageLayout {
                 ReusableBuffer csumData = BufferPool.allocate(stripeSize);
                 ofile.seek(objOffset);
                 c.read(csumData.getBuffer());
+                csumData.position(0);
                 checksumAlgo.update(csumData.getBuffer());
                 BufferPool.free(csumData);
             } else {
@@ -269,8 +268,25 @@ public class RealSingleFileStorageLayout extends StorageLayout {
 
     }*/
 
+    @Override
+    public void syncObject(String fileId, FileMetadata md, long objNo, long version, long checksum)
+        throws IOException {
+        // the handles kept in the metadata may be closed concurrently; flushing through a separate handle
+        // flushes the same file
+        File f = new File(getFilePath(fileId) + DATA_SUFFIX);
+        if (!f.exists())
+            throw new IOException("cannot flush " + f + ", the file does not exist anymore");
+        RandomAccessFile raf = new RandomAccessFile(f, "r");
+        try {
+            raf.getChannel().force(false);
+        } finally {
+            raf.close();
+        }
+    }
+
     @Override
     public void deleteFile(String fileId, boolean deleteMetadata) throws IOException {
+        notifyObjectFilesChanging(fileId, ALL_OBJECTS);
         File f = new File(getFilePath(fileId)+DATA_SUFFIX);
         f.delete();
         if (deleteMetadata) {
@@ -366,9 +382,10 @@ public class RealSingleFileStorageLayout extends StorageLayout {
     public ObjectSet getObjectSet(String fileId, FileMetadata md) {
         ObjectSet objectSet;
 
-        objectSet = new ObjectSet(md.getLatestObjectVersions().size());
-        for (Entry<Long,Long> e : md.getLatestObjectVersions()) {
-            objectSet.add(e.getKey());
+        ObjectVersionMap objVersions = md.getLatestObjectVersions();
+        objectSet = new ObjectSet(objVersions.size());
+        for (int i = objVersions.nextSlot(-1); i != -1; i = objVersions.nextSlot(i)) {
+            objectSet.add(objVersions.keyAt(i));
         }
 
         return objectSet;
@@ -414,6 +431,7 @@ public class RealSingleFileStorageLayout extends StorageLayout {
                 ReusableBuffer csumData = BufferPool.allocate(stripeSize);
                 ofile.seek(objOffset);
                 ofile.getChannel().read(csumData.getBuffer());
+                csumData.position(0);
                 checksumAlgo.update(csumData.getBuffer());
                 BufferPool.free(csumData);
 
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.xtreemfs.common.xloc.StripingPolicyImpl;
 import org.xtreemfs.foundation.buffer.BufferPool;
@@ -54,6 +55,11 @@ public abstract class StorageLayout {
     public final static boolean   WIN                = System.getProperty("os.name").toLowerCase().contains(
                                                          "win");
     
+    /**
+     * passed to {@link ObjectFileListener#objectFilesChanging(String, long)} if the files of all objects change
+     */
+    public static final long      ALL_OBJECTS        = -1;
+    
     /**
      * base directory in which to store files
      */
@@ -64,9 +70,12 @@ public abstract class StorageLayout {
      */
     protected final MetadataCache cache;
     
+    private final CopyOnWriteArrayList<ObjectFileListener> objectFileListeners;
+    
     protected StorageLayout(OSDConfig config, MetadataCache cache) throws IOException {
         
         this.cache = cache;
+        this.objectFileListeners = new CopyOnWriteArrayList<ObjectFileListener>();
         
         // initialize the storage directory
         String tmp = config.getObjDir();
@@ -118,7 +127,7 @@ public abstract class StorageLayout {
         if (fi == null) {
             
             // ... load metadata from disk
-            fi = loadFileMetadata(fileId, sp);
+            fi = loadAndRecordFileMetadata(fileId, sp);
             
             // ... cache metadata to speed up further accesses
             cache.setFileInfo(fileId, fi);
@@ -142,11 +151,19 @@ public abstract class StorageLayout {
         
         // if metadata is not cached, load it
         if (fi == null)
-            fi = loadFileMetadata(fileId, sp);
+            fi = loadAndRecordFileMetadata(fileId, sp);
         
         return fi;
     }
     
+    private FileMetadata loadAndRecordFileMetadata(final String fileId, final StripingPolicyImpl sp)
+        throws IOException {
+        long start = System.nanoTime();
+        FileMetadata fi = loadFileMetadata(fileId, sp);
+        cache.recordLoad(System.nanoTime() - start);
+        return fi;
+    }
+    
     /**
      * Loads all metadata associated with a file on the OSD from the storage
      * device. Amongst others, such metadata may comprise object version numbers
@@ -194,6 +211,33 @@ public abstract class StorageLayout {
     public abstract ObjectInformation readObject(String fileId, FileMetadata md, long objNo, int offset,
         int length, long version) throws IOException;
     
+    /**
+     * Reads an object whose data is only sent to a client. Unlike {@link #readObject}, which always returns
+     * writable buffers, a layout may return the data in a read-only region mapped from the object file. A mapped
+     * region is not a snapshot: writes that modify the object file in place before the response has been sent may
+     * show up in it.
+     * 
+     * @param fileId
+     *            fileId of the object
+     * @param md
+     *            file metadata
+     * @param objNo
+     *            object number
+     * @param offset
+     *            offset
+     * @param length
+     *            length
+     * @param version
+     *            version to be read
+     * @throws java.io.IOException
+     *             when the object cannot be read
+     * @return ObjectInformation
+     */
+    public ObjectInformation readObjectForTransfer(String fileId, FileMetadata md, long objNo, int offset,
+        int length, long version) throws IOException {
+        return readObject(fileId, md, objNo, offset, length, version);
+    }
+    
     /**
      * Writes a partial object to the storage device.
      * 
@@ -219,6 +263,27 @@ public abstract class StorageLayout {
     public abstract void writeObject(String fileId, FileMetadata md, ReusableBuffer data, long objNo,
         int offset, long newVersion, boolean sync, boolean cow) throws IOException;
     
+    /**
+     * Flushes an object that was written without <code>sync</code> to the storage device. This allows to
+     * make several writes durable at once. If the object version was replaced or deleted in the meantime,
+     * nothing needs to be flushed.
+     * 
+     * @param fileId
+     *            the file Id the object belongs to
+     * @param md
+     *            file metadata
+     * @param objNo
+     *            object number
+     * @param version
+     *            the object version that was written
+     * @param checksum
+     *            the checksum of the object version that was written
+     * @throws java.io.IOException
+     *             when the object cannot be flushed
+     */
+    public abstract void syncObject(String fileId, FileMetadata md, long objNo, long version, long checksum)
+        throws IOException;
+    
     /**
      * Truncates an object on the storage device.
      * 
@@ -246,6 +311,36 @@ public abstract class StorageLayout {
      */
     public abstract void deleteFile(String fileId, boolean deleteMetadata) throws IOException;
     
+    /**
+     * Deletes all versions of all objects of a file, like {@link #deleteFile(String, boolean)}, and reports each
+     * deleted file to the given listener. Layouts that do not keep the objects in separate files do not report
+     * anything.
+     * 
+     * @param fileId
+     *            the ID of the file
+     * @param deleteMetadata
+     *            delete metadata and empty directories.
+     * @param listener
+     *            the listener to report deleted files to
+     * @throws IOException
+     *             if an error occurred while deleting the objects
+     */
+    public void deleteFile(String fileId, boolean deleteMetadata, DeletionListener listener) throws IOException {
+        deleteFile(fileId, deleteMetadata);
+    }
+    
+    /**
+     * Returns the partition of the storage the given file is kept in, e.g. its top-level directory. Files in
+     * different partitions can be deleted concurrently without contending for the same directories.
+     * 
+     * @param fileId
+     *            the ID of the file
+     * @return a non-negative partition number
+     */
+    public int getStoragePartition(String fileId) {
+        return fileId.hashCode() & Integer.MAX_VALUE;
+    }
+    
     /**
      * Deletes a single version of a single object of a file.
      * 
@@ -415,6 +510,42 @@ public abstract class StorageLayout {
     public abstract void updateCurrentVersionSize(String fileId, long newLastObject) throws IOException;
     
     public abstract long getFileInfoLoadCount();
+
+    /**
+     * @return the cache holding the metadata of files accessed via this layout
+     */
+    public MetadataCache getMetadataCache() {
+        return cache;
+    }
+
+    /**
+     * @return number of object accesses served by an already open file handle
+     */
+    public long getFileHandleCacheHits() {
+        return 0;
+    }
+
+    /**
+     * @return number of object accesses that required the object file to be opened
+     */
+    public long getFileHandleCacheMisses() {
+        return 0;
+    }
+
+    /**
+     * @return number of open file handles closed to make room for others
+     */
+    public long getFileHandleCacheEvictions() {
+        return 0;
+    }
+
+    /**
+     * Releases all resources held by the layout, such as open file handles. Must only be called after all
+     * threads accessing the layout have been stopped.
+     */
+    public void shutdown() {
+        // do nothing
+    }
     
     /**
      * returns a list of all local saved objects of this file
@@ -471,6 +602,59 @@ public abstract class StorageLayout {
      */
     public abstract void setXLocSetVersionState(String fileId, XLocSetVersionState versionState) throws IOException;
 
+    /**
+     * Registers a listener that is notified before object files are renamed or deleted.
+     */
+    public void addObjectFileListener(ObjectFileListener listener) {
+        objectFileListeners.add(listener);
+    }
+    
+    public void removeObjectFileListener(ObjectFileListener listener) {
+        objectFileListeners.remove(listener);
+    }
+    
+    /**
+     * Notifies the listeners that the files of an object, or of all objects if <code>objNo</code> is
+     * {@link #ALL_OBJECTS}, are about to be renamed or deleted. Must be invoked by layouts that rename or delete
+     * the files of objects written earlier.
+     */
+    protected void notifyObjectFilesChanging(String fileId, long objNo) {
+        for (ObjectFileListener listener : objectFileListeners) {
+            listener.objectFilesChanging(fileId, objNo);
+        }
+    }
+    
+    /**
+     * Notified before object files are renamed or deleted, e.g. to flush writes that refer to the object files by
+     * their current names.
+     */
+    public static interface ObjectFileListener {
+        
+        /**
+         * Called before object files of the given file are renamed or deleted.
+         * 
+         * @param fileId
+         *            the ID of the file
+         * @param objNo
+         *            the object whose files change, or {@link StorageLayout#ALL_OBJECTS}
+         */
+        public void objectFilesChanging(String fileId, long objNo);
+    }
+    
+    /**
+     * Receives the files deleted by {@link StorageLayout#deleteFile(String, boolean, DeletionListener)}.
+     */
+    public static interface DeletionListener {
+        
+        /**
+         * Called after a file of an object or its metadata has been deleted.
+         * 
+         * @param length
+         *            the length of the deleted file in bytes
+         */
+        public void fileDeleted(long length);
+    }
+    
     public static final class FileList {
         // directories to scan
         final Stack<String>         status;
@@ -14,7 +14,6 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 
 import org.xtreemfs.common.uuids.ServiceUUID;
 import org.xtreemfs.common.xloc.Replica;
@@ -35,6 +34,7 @@ import org.xtreemfs.foundation.util.OutputUtils;
 import org.xtreemfs.osd.OSDRequestDispatcher;
 import org.xtreemfs.osd.replication.ObjectSet;
 import org.xtreemfs.osd.stages.Stage;
+import org.xtreemfs.osd.stages.StorageScheduler;
 import org.xtreemfs.osd.stages.StorageStage.CachesFlushedCallback;
 import org.xtreemfs.osd.stages.StorageStage.CreateFileVersionCallback;
 import org.xtreemfs.osd.stages.StorageStage.DeleteObjectsCallback;
@@ -95,15 +95,84 @@ public class StorageThread extends Stage {
     
     private final boolean        checksumsEnabled;
     
+    private final int            id;
+    
+    private final StorageScheduler scheduler;
+    
+    private final DurabilityPolicy durability;
+    
+    /** collects synchronous writes to flush them together, <code>null</code> if group commits are disabled */
+    private final GroupCommit    groupCommit;
+    
     public StorageThread(int id, OSDRequestDispatcher dispatcher, MetadataCache cache, StorageLayout layout,
-        int maxQueueLength) {
+        StorageScheduler scheduler) {
         
-        super("OSD StThr " + id, maxQueueLength);
+        super("OSD StThr " + id, 0);
         
+        this.id = id;
         this.cache = cache;
         this.layout = layout;
         this.master = dispatcher;
-        this.checksumsEnabled = master.getConfig().isUseChecksums();
+        this.scheduler = scheduler;
+        // block checksums are kept next to the object file, which can be written in place without a new version
+        this.checksumsEnabled = master.getConfig().isUseChecksums() && master.getConfig().getChecksumBlockSize() == 0;
+        this.durability = master.getConfig().getDurabilityPolicy();
+        
+        final int groupCommitWindow = master.getConfig().getGroupCommitWindow();
+        this.groupCommit = groupCommitWindow > 0 ? new GroupCommit(layout, groupCommitWindow * 1000L) : null;
+    }
+    
+    /**
+     * Executes requests handed out by the scheduler, which is shared by all storage threads. While synchronous
+     * writes wait for a group commit, the thread waits for further requests only until the writes are due.
+     */
+    @Override
+    public void run() {
+        
+        notifyStarted();
+        
+        while (!quit) {
+            try {
+                final StageRequest op = (groupCommit == null || groupCommit.isEmpty()) ? scheduler.take(id)
+                    : scheduler.poll(id, groupCommit.getRemainingNanos());
+                if (op != null) {
+                    try {
+                        processMethod(op);
+                    } finally {
+                        scheduler.complete(id);
+                    }
+                }
+                
+                if (groupCommit != null && groupCommit.isDue()) {
+                    groupCommit.commit();
+                }
+                
+            } catch (InterruptedException ex) {
+                break;
+            } catch (Throwable ex) {
+                this.notifyCrashed(ex);
+                break;
+            }
+        }
+        
+        // acknowledge writes still waiting for a group commit
+        if (groupCommit != null) {
+            groupCommit.commit();
+        }
+        
+        notifyStopped();
+    }
+    
+    @Override
+    public int getQueueLength() {
+        return scheduler.getQueueDepth(id);
+    }
+    
+    /**
+     * @return the group commit of the thread, or <code>null</code> if group commits are disabled
+     */
+    public GroupCommit getGroupCommit() {
+        return groupCommit;
     }
     
     @Override
@@ -328,12 +397,14 @@ public class StorageThread extends Stage {
             result.setTruncateEpoch(fi.getTruncateEpoch());
             
             long localMaxObjVer = 0;
-            for (Entry<Long, Long> e : fi.getLatestObjectVersions()) {
-                if (e.getValue() > remoteMaxObjVer) {
-                    result.addObjectVersions(ObjectVersion.newBuilder().setObjectNumber(e.getKey())
-                            .setObjectVersion(e.getValue()));
-                    if (e.getValue() > localMaxObjVer)
-                        localMaxObjVer = e.getValue();
+            ObjectVersionMap objVersions = fi.getLatestObjectVersions();
+            for (int i = objVersions.nextSlot(-1); i != -1; i = objVersions.nextSlot(i)) {
+                final long objVer = objVersions.valueAt(i);
+                if (objVer > remoteMaxObjVer) {
+                    result.addObjectVersions(ObjectVersion.newBuilder().setObjectNumber(objVersions.keyAt(i))
+                            .setObjectVersion(objVer));
+                    if (objVer > localMaxObjVer)
+                        localMaxObjVer = objVer;
                 }
             }
             result.setMaxObjVersion(localMaxObjVer);
@@ -385,7 +456,11 @@ public class StorageThread extends Stage {
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this, "checksum is %d", objChksm);
             }
             
-            ObjectInformation obj = layout.readObject(fileId, fi, objNo, offset, length, objVer);
+            // only the data of client reads is sent without being modified, and may be read from mapped regions
+            final boolean clientRead = rq.getRequest() != null && rq.getRequest().getOperation() != null
+                && rq.getRequest().getOperation().getProcedureId() == OSDServiceConstants.PROC_ID_READ;
+            ObjectInformation obj = clientRead ? layout.readObjectForTransfer(fileId, fi, objNo, offset, length,
+                objVer) : layout.readObject(fileId, fi, objNo, offset, length, objVer);
             
             if (versionTimestamp != 0) {
                 int lastObj = fi.getVersionTable().getLatestVersionBefore(versionTimestamp).getObjCount() - 1;
@@ -471,7 +546,8 @@ public class StorageThread extends Stage {
             final CowPolicy cow = (CowPolicy) rq.getArgs()[5];
             final XLocations xloc = (XLocations) rq.getArgs()[6];
             final boolean gMaxOff = (Boolean) rq.getArgs()[7];
-            final boolean syncWrite = (Boolean) rq.getArgs()[8];
+            // the volume's durability policy may override the client's request
+            final boolean syncWrite = durability.isSyncWrite(fileId, (Boolean) rq.getArgs()[8]);
             // use only if != null
             final Long newVersionArg = (Long) rq.getArgs()[9];
             
@@ -515,7 +591,9 @@ public class StorageThread extends Stage {
                 fi.setLastObjectNumber(objNo);
             }
             
-            layout.writeObject(fileId, fi, data, objNo, offset, newVersion, syncWrite, isCow);
+            // with group commits, the object is flushed later together with other synchronous writes
+            final boolean deferSync = syncWrite && groupCommit != null;
+            layout.writeObject(fileId, fi, data, objNo, offset, newVersion, syncWrite && !deferSync, isCow);
             
             // if a new version was created, update the "latest versions" file
             if (cow.cowEnabled() && (isCow || largestV == 0))
@@ -598,7 +676,13 @@ public class StorageThread extends Stage {
                 Logging.logMessage(Logging.LEVEL_DEBUG, Category.proc, this, "new last object=%d gmax=%d", fi
                         .getLastObjectNumber(), fi.getGlobalLastObjectNumber());
             // BufferPool.free(data);
-            cback.writeComplete(response.build(), null);
+            if (deferSync) {
+                final long writtenVersion = fi.getLatestObjectVersion(objNo);
+                groupCommit.add(fileId, fi, objNo, writtenVersion, fi.getObjectChecksum(objNo, writtenVersion),
+                    response.build(), cback);
+            } else {
+                cback.writeComplete(response.build(), null);
+            }
             
         } catch (IOException ex) {
             Logging.logMessage(Logging.LEVEL_DEBUG, Category.storage, this, "Failed to process write() request due to the following IOException:");
@@ -689,10 +773,11 @@ public class StorageThread extends Stage {
                     // version of the file and are not part of former file
                     // versions
                     
-                    for (Entry<Long, Long> entry : fi.getLatestObjectVersions()) {
+                    ObjectVersionMap objVersions = fi.getLatestObjectVersions();
+                    for (int i = objVersions.nextSlot(-1); i != -1; i = objVersions.nextSlot(i)) {
                         
-                        long objNo = entry.getKey();
-                        long objVer = entry.getValue();
+                        long objNo = objVersions.keyAt(i);
+                        long objVer = objVersions.valueAt(i);
                         
                         if (!fi.getVersionTable().isContained(objNo, objVer))
                             layout.deleteObject(fileId, fi, objNo, objVer);
@@ -787,16 +872,16 @@ public class StorageThread extends Stage {
             if (fi == null)
                 fi = layout.getFileMetadataNoCaching(null, fileId);
             
-            Set<Entry<Long, Long>> objVersions = fi.getLatestObjectVersions();
+            ObjectVersionMap objVersions = fi.getLatestObjectVersions();
             long fileSize = fi.getFilesize();
             
             // convert the set of object versions into an array
             
             // first, determine the last object
             long maxKey = -1;
-            for (Entry<Long, Long> ver : objVersions) {
-                if (ver.getKey() > maxKey)
-                    maxKey = ver.getKey();
+            for (int i = objVersions.nextSlot(-1); i != -1; i = objVersions.nextSlot(i)) {
+                if (objVersions.keyAt(i) > maxKey)
+                    maxKey = objVersions.keyAt(i);
             }
             
             // instantiate a sufficiently large array
@@ -804,8 +889,8 @@ public class StorageThread extends Stage {
             int[] versions = new int[(int) maxKey + 1];
             
             // set all object versions in the array
-            for (Entry<Long, Long> ver : objVersions)
-                versions[ver.getKey().intValue()] = ver.getValue().intValue();
+            for (int i = objVersions.nextSlot(-1); i != -1; i = objVersions.nextSlot(i))
+                versions[(int) objVersions.keyAt(i)] = (int) objVersions.valueAt(i);
             
             // create and save the new version
             fi.getVersionTable().addVersion(TimeSync.getGlobalTime(), versions, fileSize);
@@ -47758,6 +47758,5122 @@ public final class MRC {
     // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_get_file_credentialsRequest)
   }
 
+  public interface xtreemfs_create_filesRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string volume_name = 1;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    boolean hasVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getVolumeNameBytes();
+
+    // required string path = 2;
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    boolean hasPath();
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    java.lang.String getPath();
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPathBytes();
+
+    // repeated string names = 3;
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files to create
+     * </pre>
+     */
+    java.util.List<java.lang.String>
+    getNamesList();
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files to create
+     * </pre>
+     */
+    int getNamesCount();
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files to create
+     * </pre>
+     */
+    java.lang.String getNames(int index);
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files to create
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getNamesBytes(int index);
+
+    // required fixed32 mode = 4;
+    /**
+     * <code>required fixed32 mode = 4;</code>
+     *
+     * <pre>
+     * the initial access mode of the files
+     * </pre>
+     */
+    boolean hasMode();
+    /**
+     * <code>required fixed32 mode = 4;</code>
+     *
+     * <pre>
+     * the initial access mode of the files
+     * </pre>
+     */
+    int getMode();
+
+    // required fixed32 attributes = 5;
+    /**
+     * <code>required fixed32 attributes = 5;</code>
+     *
+     * <pre>
+     * the initial set of Win32-specific attributes
+     * </pre>
+     */
+    boolean hasAttributes();
+    /**
+     * <code>required fixed32 attributes = 5;</code>
+     *
+     * <pre>
+     * the initial set of Win32-specific attributes
+     * </pre>
+     */
+    int getAttributes();
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select the OSDs for the files
+     * </pre>
+     */
+    boolean hasCoordinates();
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select the OSDs for the files
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates();
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select the OSDs for the files
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_create_filesRequest}
+   *
+   * <pre>
+   * creates several files in the same directory
+   * </pre>
+   */
+  public static final class xtreemfs_create_filesRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_create_filesRequestOrBuilder {
+    // Use xtreemfs_create_filesRequest.newBuilder() to construct.
+    private xtreemfs_create_filesRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_create_filesRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_create_filesRequest defaultInstance;
+    public static xtreemfs_create_filesRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_create_filesRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_create_filesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              volumeName_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              path_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              if (!((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+                names_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              names_.add(input.readBytes());
+              break;
+            }
+            case 37: {
+              bitField0_ |= 0x00000004;
+              mode_ = input.readFixed32();
+              break;
+            }
+            case 45: {
+              bitField0_ |= 0x00000008;
+              attributes_ = input.readFixed32();
+              break;
+            }
+            case 50: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000010) == 0x00000010)) {
+                subBuilder = coordinates_.toBuilder();
+              }
+              coordinates_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(coordinates_);
+                coordinates_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000010;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) == 0x00000004)) {
+          names_ = new com.google.protobuf.UnmodifiableLazyStringList(names_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_create_filesRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_create_filesRequest>() {
+      public xtreemfs_create_filesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_create_filesRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_create_filesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string volume_name = 1;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object volumeName_;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public boolean hasVolumeName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeNameBytes() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volumeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // required string path = 2;
+    public static final int PATH_FIELD_NUMBER = 2;
+    private java.lang.Object path_;
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    public boolean hasPath() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    public java.lang.String getPath() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          path_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string path = 2;</code>
+     *
+     * <pre>
+     * the path to the directory, relative to the volume root
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPathBytes() {
+      java.lang.Object ref = path_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        path_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated string names = 3;
+    public static final int NAMES_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList names_;
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files to create
+     * </pre>
+     */
+    public java.util.List<java.lang.String>
+        getNamesList() {
+      return names_;
+    }
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files to create
+     * </pre>
+     */
+    public int getNamesCount() {
+      return names_.size();
+    }
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files to create
+     * </pre>
+     */
+    public java.lang.String getNames(int index) {
+      return names_.get(index);
+    }
+    /**
+     * <code>repeated string names = 3;</code>
+     *
+     * <pre>
+     * the names of the files to create
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getNamesBytes(int index) {
+      return names_.getByteString(index);
+    }
+
+    // required fixed32 mode = 4;
+    public static final int MODE_FIELD_NUMBER = 4;
+    private int mode_;
+    /**
+     * <code>required fixed32 mode = 4;</code>
+     *
+     * <pre>
+     * the initial access mode of the files
+     * </pre>
+     */
+    public boolean hasMode() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>required fixed32 mode = 4;</code>
+     *
+     * <pre>
+     * the initial access mode of the files
+     * </pre>
+     */
+    public int getMode() {
+      return mode_;
+    }
+
+    // required fixed32 attributes = 5;
+    public static final int ATTRIBUTES_FIELD_NUMBER = 5;
+    private int attributes_;
+    /**
+     * <code>required fixed32 attributes = 5;</code>
+     *
+     * <pre>
+     * the initial set of Win32-specific attributes
+     * </pre>
+     */
+    public boolean hasAttributes() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>required fixed32 attributes = 5;</code>
+     *
+     * <pre>
+     * the initial set of Win32-specific attributes
+     * </pre>
+     */
+    public int getAttributes() {
+      return attributes_;
+    }
+
+    // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;
+    public static final int COORDINATES_FIELD_NUMBER = 6;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates coordinates_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select the OSDs for the files
+     * </pre>
+     */
+    public boolean hasCoordinates() {
+      return ((bitField0_ & 0x00000010) == 0x00000010);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select the OSDs for the files
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates() {
+      return coordinates_;
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+     *
+     * <pre>
+     * optional set of Vivaldi cooridnates of the client, which can be
+     * used to select the OSDs for the files
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder() {
+      return coordinates_;
+    }
+
+    private void initFields() {
+      volumeName_ = "";
+      path_ = "";
+      names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      mode_ = 0;
+      attributes_ = 0;
+      coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasVolumeName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasPath()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasMode()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (!hasAttributes()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      if (hasCoordinates()) {
+        if (!getCoordinates().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getVolumeNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getPathBytes());
+      }
+      for (int i = 0; i < names_.size(); i++) {
+        output.writeBytes(3, names_.getByteString(i));
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeFixed32(4, mode_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeFixed32(5, attributes_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        output.writeMessage(6, coordinates_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getVolumeNameBytes());
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getPathBytes());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < names_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(names_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getNamesList().size();
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(4, mode_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(5, attributes_);
+      }
+      if (((bitField0_ & 0x00000010) == 0x00000010)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, coordinates_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_create_filesRequest}
+     *
+     * <pre>
+     * creates several files in the same directory
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getCoordinatesFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        volumeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        path_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        mode_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
+        attributes_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000010);
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+        } else {
+          coordinatesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.volumeName_ = volumeName_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.path_ = path_;
+        if (((bitField0_ & 0x00000004) == 0x00000004)) {
+          names_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              names_);
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.names_ = names_;
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.mode_ = mode_;
+        if (((from_bitField0_ & 0x00000010) == 0x00000010)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        result.attributes_ = attributes_;
+        if (((from_bitField0_ & 0x00000020) == 0x00000020)) {
+          to_bitField0_ |= 0x00000010;
+        }
+        if (coordinatesBuilder_ == null) {
+          result.coordinates_ = coordinates_;
+        } else {
+          result.coordinates_ = coordinatesBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest.getDefaultInstance()) return this;
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000001;
+          volumeName_ = other.volumeName_;
+          onChanged();
+        }
+        if (other.hasPath()) {
+          bitField0_ |= 0x00000002;
+          path_ = other.path_;
+          onChanged();
+        }
+        if (!other.names_.isEmpty()) {
+          if (names_.isEmpty()) {
+            names_ = other.names_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureNamesIsMutable();
+            names_.addAll(other.names_);
+          }
+          onChanged();
+        }
+        if (other.hasMode()) {
+          setMode(other.getMode());
+        }
+        if (other.hasAttributes()) {
+          setAttributes(other.getAttributes());
+        }
+        if (other.hasCoordinates()) {
+          mergeCoordinates(other.getCoordinates());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVolumeName()) {
+          
+          return false;
+        }
+        if (!hasPath()) {
+          
+          return false;
+        }
+        if (!hasMode()) {
+          
+          return false;
+        }
+        if (!hasAttributes()) {
+          
+          return false;
+        }
+        if (hasCoordinates()) {
+          if (!getCoordinates().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_create_filesRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string volume_name = 1;
+      private java.lang.Object volumeName_ = "";
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public boolean hasVolumeName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder clearVolumeName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // required string path = 2;
+      private java.lang.Object path_ = "";
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public boolean hasPath() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public java.lang.String getPath() {
+        java.lang.Object ref = path_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          path_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPathBytes() {
+        java.lang.Object ref = path_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          path_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public Builder setPath(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        path_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public Builder clearPath() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        path_ = getDefaultInstance().getPath();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string path = 2;</code>
+       *
+       * <pre>
+       * the path to the directory, relative to the volume root
+       * </pre>
+       */
+      public Builder setPathBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        path_ = value;
+        onChanged();
+        return this;
+      }
+
+      // repeated string names = 3;
+      private com.google.protobuf.LazyStringList names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureNamesIsMutable() {
+        if (!((bitField0_ & 0x00000004) == 0x00000004)) {
+          names_ = new com.google.protobuf.LazyStringArrayList(names_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files to create
+       * </pre>
+       */
+      public java.util.List<java.lang.String>
+          getNamesList() {
+        return java.util.Collections.unmodifiableList(names_);
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files to create
+       * </pre>
+       */
+      public int getNamesCount() {
+        return names_.size();
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files to create
+       * </pre>
+       */
+      public java.lang.String getNames(int index) {
+        return names_.get(index);
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files to create
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getNamesBytes(int index) {
+        return names_.getByteString(index);
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files to create
+       * </pre>
+       */
+      public Builder setNames(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNamesIsMutable();
+        names_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files to create
+       * </pre>
+       */
+      public Builder addNames(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNamesIsMutable();
+        names_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files to create
+       * </pre>
+       */
+      public Builder addAllNames(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureNamesIsMutable();
+        super.addAll(values, names_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files to create
+       * </pre>
+       */
+      public Builder clearNames() {
+        names_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string names = 3;</code>
+       *
+       * <pre>
+       * the names of the files to create
+       * </pre>
+       */
+      public Builder addNamesBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureNamesIsMutable();
+        names_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 mode = 4;
+      private int mode_ ;
+      /**
+       * <code>required fixed32 mode = 4;</code>
+       *
+       * <pre>
+       * the initial access mode of the files
+       * </pre>
+       */
+      public boolean hasMode() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>required fixed32 mode = 4;</code>
+       *
+       * <pre>
+       * the initial access mode of the files
+       * </pre>
+       */
+      public int getMode() {
+        return mode_;
+      }
+      /**
+       * <code>required fixed32 mode = 4;</code>
+       *
+       * <pre>
+       * the initial access mode of the files
+       * </pre>
+       */
+      public Builder setMode(int value) {
+        bitField0_ |= 0x00000008;
+        mode_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 mode = 4;</code>
+       *
+       * <pre>
+       * the initial access mode of the files
+       * </pre>
+       */
+      public Builder clearMode() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        mode_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // required fixed32 attributes = 5;
+      private int attributes_ ;
+      /**
+       * <code>required fixed32 attributes = 5;</code>
+       *
+       * <pre>
+       * the initial set of Win32-specific attributes
+       * </pre>
+       */
+      public boolean hasAttributes() {
+        return ((bitField0_ & 0x00000010) == 0x00000010);
+      }
+      /**
+       * <code>required fixed32 attributes = 5;</code>
+       *
+       * <pre>
+       * the initial set of Win32-specific attributes
+       * </pre>
+       */
+      public int getAttributes() {
+        return attributes_;
+      }
+      /**
+       * <code>required fixed32 attributes = 5;</code>
+       *
+       * <pre>
+       * the initial set of Win32-specific attributes
+       * </pre>
+       */
+      public Builder setAttributes(int value) {
+        bitField0_ |= 0x00000010;
+        attributes_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 attributes = 5;</code>
+       *
+       * <pre>
+       * the initial set of Win32-specific attributes
+       * </pre>
+       */
+      public Builder clearAttributes() {
+        bitField0_ = (bitField0_ & ~0x00000010);
+        attributes_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder> coordinatesBuilder_;
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select the OSDs for the files
+       * </pre>
+       */
+      public boolean hasCoordinates() {
+        return ((bitField0_ & 0x00000020) == 0x00000020);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select the OSDs for the files
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates getCoordinates() {
+        if (coordinatesBuilder_ == null) {
+          return coordinates_;
+        } else {
+          return coordinatesBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select the OSDs for the files
+       * </pre>
+       */
+      public Builder setCoordinates(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates value) {
+        if (coordinatesBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          coordinates_ = value;
+          onChanged();
+        } else {
+          coordinatesBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select the OSDs for the files
+       * </pre>
+       */
+      public Builder setCoordinates(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder builderForValue) {
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = builderForValue.build();
+          onChanged();
+        } else {
+          coordinatesBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select the OSDs for the files
+       * </pre>
+       */
+      public Builder mergeCoordinates(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates value) {
+        if (coordinatesBuilder_ == null) {
+          if (((bitField0_ & 0x00000020) == 0x00000020) &&
+              coordinates_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance()) {
+            coordinates_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.newBuilder(coordinates_).mergeFrom(value).buildPartial();
+          } else {
+            coordinates_ = value;
+          }
+          onChanged();
+        } else {
+          coordinatesBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000020;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select the OSDs for the files
+       * </pre>
+       */
+      public Builder clearCoordinates() {
+        if (coordinatesBuilder_ == null) {
+          coordinates_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.getDefaultInstance();
+          onChanged();
+        } else {
+          coordinatesBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000020);
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select the OSDs for the files
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder getCoordinatesBuilder() {
+        bitField0_ |= 0x00000020;
+        onChanged();
+        return getCoordinatesFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select the OSDs for the files
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder getCoordinatesOrBuilder() {
+        if (coordinatesBuilder_ != null) {
+          return coordinatesBuilder_.getMessageOrBuilder();
+        } else {
+          return coordinates_;
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.VivaldiCoordinates coordinates = 6;</code>
+       *
+       * <pre>
+       * optional set of Vivaldi cooridnates of the client, which can be
+       * used to select the OSDs for the files
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder> 
+          getCoordinatesFieldBuilder() {
+        if (coordinatesBuilder_ == null) {
+          coordinatesBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinates.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.VivaldiCoordinatesOrBuilder>(
+                  coordinates_,
+                  getParentForChildren(),
+                  isClean());
+          coordinates_ = null;
+        }
+        return coordinatesBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_create_filesRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_create_filesRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_create_filesRequest)
+  }
+
+  public interface xtreemfs_stat_filesRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string volume_name = 1;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    boolean hasVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getVolumeNameBytes();
+
+    // repeated string paths = 2;
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    java.util.List<java.lang.String>
+    getPathsList();
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    int getPathsCount();
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    java.lang.String getPaths(int index);
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPathsBytes(int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_stat_filesRequest}
+   *
+   * <pre>
+   * requests attributes of several files or directories
+   * </pre>
+   */
+  public static final class xtreemfs_stat_filesRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_stat_filesRequestOrBuilder {
+    // Use xtreemfs_stat_filesRequest.newBuilder() to construct.
+    private xtreemfs_stat_filesRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_stat_filesRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_stat_filesRequest defaultInstance;
+    public static xtreemfs_stat_filesRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_stat_filesRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_stat_filesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              volumeName_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                paths_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              paths_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.UnmodifiableLazyStringList(paths_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_stat_filesRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_stat_filesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_stat_filesRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_stat_filesRequest>() {
+      public xtreemfs_stat_filesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_stat_filesRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_stat_filesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string volume_name = 1;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object volumeName_;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public boolean hasVolumeName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeNameBytes() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volumeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated string paths = 2;
+    public static final int PATHS_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList paths_;
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    public java.util.List<java.lang.String>
+        getPathsList() {
+      return paths_;
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    public int getPathsCount() {
+      return paths_.size();
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    public java.lang.String getPaths(int index) {
+      return paths_.get(index);
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files or directories, relative to the volume root
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPathsBytes(int index) {
+      return paths_.getByteString(index);
+    }
+
+    private void initFields() {
+      volumeName_ = "";
+      paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasVolumeName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getVolumeNameBytes());
+      }
+      for (int i = 0; i < paths_.size(); i++) {
+        output.writeBytes(2, paths_.getByteString(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getVolumeNameBytes());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < paths_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(paths_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getPathsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_stat_filesRequest}
+     *
+     * <pre>
+     * requests attributes of several files or directories
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_stat_filesRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_stat_filesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        volumeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_stat_filesRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.volumeName_ = volumeName_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              paths_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.paths_ = paths_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest.getDefaultInstance()) return this;
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000001;
+          volumeName_ = other.volumeName_;
+          onChanged();
+        }
+        if (!other.paths_.isEmpty()) {
+          if (paths_.isEmpty()) {
+            paths_ = other.paths_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePathsIsMutable();
+            paths_.addAll(other.paths_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVolumeName()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_stat_filesRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string volume_name = 1;
+      private java.lang.Object volumeName_ = "";
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public boolean hasVolumeName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder clearVolumeName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // repeated string paths = 2;
+      private com.google.protobuf.LazyStringList paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePathsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.LazyStringArrayList(paths_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public java.util.List<java.lang.String>
+          getPathsList() {
+        return java.util.Collections.unmodifiableList(paths_);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public int getPathsCount() {
+        return paths_.size();
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public java.lang.String getPaths(int index) {
+        return paths_.get(index);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPathsBytes(int index) {
+        return paths_.getByteString(index);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public Builder setPaths(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public Builder addPaths(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public Builder addAllPaths(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePathsIsMutable();
+        super.addAll(values, paths_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public Builder clearPaths() {
+        paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files or directories, relative to the volume root
+       * </pre>
+       */
+      public Builder addPathsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_stat_filesRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_stat_filesRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_stat_filesRequest)
+  }
+
+  public interface xtreemfs_unlink_filesRequestOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // required string volume_name = 1;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    boolean hasVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    java.lang.String getVolumeName();
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getVolumeNameBytes();
+
+    // repeated string paths = 2;
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    java.util.List<java.lang.String>
+    getPathsList();
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    int getPathsCount();
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    java.lang.String getPaths(int index);
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getPathsBytes(int index);
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_unlink_filesRequest}
+   *
+   * <pre>
+   * removes several files
+   * </pre>
+   */
+  public static final class xtreemfs_unlink_filesRequest extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_unlink_filesRequestOrBuilder {
+    // Use xtreemfs_unlink_filesRequest.newBuilder() to construct.
+    private xtreemfs_unlink_filesRequest(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_unlink_filesRequest(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_unlink_filesRequest defaultInstance;
+    public static xtreemfs_unlink_filesRequest getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_unlink_filesRequest getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_unlink_filesRequest(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              bitField0_ |= 0x00000001;
+              volumeName_ = input.readBytes();
+              break;
+            }
+            case 18: {
+              if (!((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+                paths_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000002;
+              }
+              paths_.add(input.readBytes());
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.UnmodifiableLazyStringList(paths_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_unlink_filesRequest_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_unlink_filesRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_unlink_filesRequest> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_unlink_filesRequest>() {
+      public xtreemfs_unlink_filesRequest parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_unlink_filesRequest(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_unlink_filesRequest> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // required string volume_name = 1;
+    public static final int VOLUME_NAME_FIELD_NUMBER = 1;
+    private java.lang.Object volumeName_;
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public boolean hasVolumeName() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public java.lang.String getVolumeName() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          volumeName_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>required string volume_name = 1;</code>
+     *
+     * <pre>
+     * the volume name
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getVolumeNameBytes() {
+      java.lang.Object ref = volumeName_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        volumeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // repeated string paths = 2;
+    public static final int PATHS_FIELD_NUMBER = 2;
+    private com.google.protobuf.LazyStringList paths_;
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    public java.util.List<java.lang.String>
+        getPathsList() {
+      return paths_;
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    public int getPathsCount() {
+      return paths_.size();
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    public java.lang.String getPaths(int index) {
+      return paths_.get(index);
+    }
+    /**
+     * <code>repeated string paths = 2;</code>
+     *
+     * <pre>
+     * the paths to the files, relative to the volume root
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getPathsBytes(int index) {
+      return paths_.getByteString(index);
+    }
+
+    private void initFields() {
+      volumeName_ = "";
+      paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasVolumeName()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeBytes(1, getVolumeNameBytes());
+      }
+      for (int i = 0; i < paths_.size(); i++) {
+        output.writeBytes(2, paths_.getByteString(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(1, getVolumeNameBytes());
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < paths_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeBytesSizeNoTag(paths_.getByteString(i));
+        }
+        size += dataSize;
+        size += 1 * getPathsList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_unlink_filesRequest}
+     *
+     * <pre>
+     * removes several files
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequestOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_unlink_filesRequest_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_unlink_filesRequest_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        volumeName_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_unlink_filesRequest_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.volumeName_ = volumeName_;
+        if (((bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.UnmodifiableLazyStringList(
+              paths_);
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.paths_ = paths_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest.getDefaultInstance()) return this;
+        if (other.hasVolumeName()) {
+          bitField0_ |= 0x00000001;
+          volumeName_ = other.volumeName_;
+          onChanged();
+        }
+        if (!other.paths_.isEmpty()) {
+          if (paths_.isEmpty()) {
+            paths_ = other.paths_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensurePathsIsMutable();
+            paths_.addAll(other.paths_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasVolumeName()) {
+          
+          return false;
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_unlink_filesRequest) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // required string volume_name = 1;
+      private java.lang.Object volumeName_ = "";
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public boolean hasVolumeName() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public java.lang.String getVolumeName() {
+        java.lang.Object ref = volumeName_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          volumeName_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getVolumeNameBytes() {
+        java.lang.Object ref = volumeName_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          volumeName_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder clearVolumeName() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        volumeName_ = getDefaultInstance().getVolumeName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required string volume_name = 1;</code>
+       *
+       * <pre>
+       * the volume name
+       * </pre>
+       */
+      public Builder setVolumeNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        volumeName_ = value;
+        onChanged();
+        return this;
+      }
+
+      // repeated string paths = 2;
+      private com.google.protobuf.LazyStringList paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePathsIsMutable() {
+        if (!((bitField0_ & 0x00000002) == 0x00000002)) {
+          paths_ = new com.google.protobuf.LazyStringArrayList(paths_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public java.util.List<java.lang.String>
+          getPathsList() {
+        return java.util.Collections.unmodifiableList(paths_);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public int getPathsCount() {
+        return paths_.size();
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public java.lang.String getPaths(int index) {
+        return paths_.get(index);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getPathsBytes(int index) {
+        return paths_.getByteString(index);
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public Builder setPaths(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public Builder addPaths(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public Builder addAllPaths(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePathsIsMutable();
+        super.addAll(values, paths_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public Builder clearPaths() {
+        paths_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string paths = 2;</code>
+       *
+       * <pre>
+       * the paths to the files, relative to the volume root
+       * </pre>
+       */
+      public Builder addPathsBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePathsIsMutable();
+        paths_.add(value);
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_unlink_filesRequest)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_unlink_filesRequest(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_unlink_filesRequest)
+  }
+
+  public interface BatchResultOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // optional fixed32 posix_errno = 1;
+    /**
+     * <code>optional fixed32 posix_errno = 1;</code>
+     *
+     * <pre>
+     * the error that occurred, as a POSIXErrno value; not set if the
+     * operation succeeded for the entry
+     * </pre>
+     */
+    boolean hasPosixErrno();
+    /**
+     * <code>optional fixed32 posix_errno = 1;</code>
+     *
+     * <pre>
+     * the error that occurred, as a POSIXErrno value; not set if the
+     * operation succeeded for the entry
+     * </pre>
+     */
+    int getPosixErrno();
+
+    // optional string error_message = 2;
+    /**
+     * <code>optional string error_message = 2;</code>
+     *
+     * <pre>
+     * a description of the error
+     * </pre>
+     */
+    boolean hasErrorMessage();
+    /**
+     * <code>optional string error_message = 2;</code>
+     *
+     * <pre>
+     * a description of the error
+     * </pre>
+     */
+    java.lang.String getErrorMessage();
+    /**
+     * <code>optional string error_message = 2;</code>
+     *
+     * <pre>
+     * a description of the error
+     * </pre>
+     */
+    com.google.protobuf.ByteString
+        getErrorMessageBytes();
+
+    // optional .xtreemfs.pbrpc.Stat stbuf = 3;
+    /**
+     * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * the attributes of the file or directory ('xtreemfs_stat_files')
+     * </pre>
+     */
+    boolean hasStbuf();
+    /**
+     * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * the attributes of the file or directory ('xtreemfs_stat_files')
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat getStbuf();
+    /**
+     * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * the attributes of the file or directory ('xtreemfs_stat_files')
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder getStbufOrBuilder();
+
+    // optional .xtreemfs.pbrpc.FileCredentials creds = 4;
+    /**
+     * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+     *
+     * <pre>
+     * an optional set of file credentials that may contain a capability
+     * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+     * </pre>
+     */
+    boolean hasCreds();
+    /**
+     * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+     *
+     * <pre>
+     * an optional set of file credentials that may contain a capability
+     * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getCreds();
+    /**
+     * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+     *
+     * <pre>
+     * an optional set of file credentials that may contain a capability
+     * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+     * </pre>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getCredsOrBuilder();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.BatchResult}
+   *
+   * <pre>
+   * the result of a compound operation for a single entry
+   * </pre>
+   */
+  public static final class BatchResult extends
+      com.google.protobuf.GeneratedMessage
+      implements BatchResultOrBuilder {
+    // Use BatchResult.newBuilder() to construct.
+    private BatchResult(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private BatchResult(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final BatchResult defaultInstance;
+    public static BatchResult getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public BatchResult getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private BatchResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 13: {
+              bitField0_ |= 0x00000001;
+              posixErrno_ = input.readFixed32();
+              break;
+            }
+            case 18: {
+              bitField0_ |= 0x00000002;
+              errorMessage_ = input.readBytes();
+              break;
+            }
+            case 26: {
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000004) == 0x00000004)) {
+                subBuilder = stbuf_.toBuilder();
+              }
+              stbuf_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(stbuf_);
+                stbuf_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000004;
+              break;
+            }
+            case 34: {
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000008) == 0x00000008)) {
+                subBuilder = creds_.toBuilder();
+              }
+              creds_ = input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.PARSER, extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(creds_);
+                creds_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000008;
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_BatchResult_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_BatchResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<BatchResult> PARSER =
+        new com.google.protobuf.AbstractParser<BatchResult>() {
+      public BatchResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new BatchResult(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<BatchResult> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // optional fixed32 posix_errno = 1;
+    public static final int POSIX_ERRNO_FIELD_NUMBER = 1;
+    private int posixErrno_;
+    /**
+     * <code>optional fixed32 posix_errno = 1;</code>
+     *
+     * <pre>
+     * the error that occurred, as a POSIXErrno value; not set if the
+     * operation succeeded for the entry
+     * </pre>
+     */
+    public boolean hasPosixErrno() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>optional fixed32 posix_errno = 1;</code>
+     *
+     * <pre>
+     * the error that occurred, as a POSIXErrno value; not set if the
+     * operation succeeded for the entry
+     * </pre>
+     */
+    public int getPosixErrno() {
+      return posixErrno_;
+    }
+
+    // optional string error_message = 2;
+    public static final int ERROR_MESSAGE_FIELD_NUMBER = 2;
+    private java.lang.Object errorMessage_;
+    /**
+     * <code>optional string error_message = 2;</code>
+     *
+     * <pre>
+     * a description of the error
+     * </pre>
+     */
+    public boolean hasErrorMessage() {
+      return ((bitField0_ & 0x00000002) == 0x00000002);
+    }
+    /**
+     * <code>optional string error_message = 2;</code>
+     *
+     * <pre>
+     * a description of the error
+     * </pre>
+     */
+    public java.lang.String getErrorMessage() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (bs.isValidUtf8()) {
+          errorMessage_ = s;
+        }
+        return s;
+      }
+    }
+    /**
+     * <code>optional string error_message = 2;</code>
+     *
+     * <pre>
+     * a description of the error
+     * </pre>
+     */
+    public com.google.protobuf.ByteString
+        getErrorMessageBytes() {
+      java.lang.Object ref = errorMessage_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        errorMessage_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    // optional .xtreemfs.pbrpc.Stat stbuf = 3;
+    public static final int STBUF_FIELD_NUMBER = 3;
+    private org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat stbuf_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * the attributes of the file or directory ('xtreemfs_stat_files')
+     * </pre>
+     */
+    public boolean hasStbuf() {
+      return ((bitField0_ & 0x00000004) == 0x00000004);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * the attributes of the file or directory ('xtreemfs_stat_files')
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat getStbuf() {
+      return stbuf_;
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+     *
+     * <pre>
+     * the attributes of the file or directory ('xtreemfs_stat_files')
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder getStbufOrBuilder() {
+      return stbuf_;
+    }
+
+    // optional .xtreemfs.pbrpc.FileCredentials creds = 4;
+    public static final int CREDS_FIELD_NUMBER = 4;
+    private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials creds_;
+    /**
+     * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+     *
+     * <pre>
+     * an optional set of file credentials that may contain a capability
+     * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+     * </pre>
+     */
+    public boolean hasCreds() {
+      return ((bitField0_ & 0x00000008) == 0x00000008);
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+     *
+     * <pre>
+     * an optional set of file credentials that may contain a capability
+     * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getCreds() {
+      return creds_;
+    }
+    /**
+     * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+     *
+     * <pre>
+     * an optional set of file credentials that may contain a capability
+     * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+     * </pre>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getCredsOrBuilder() {
+      return creds_;
+    }
+
+    private void initFields() {
+      posixErrno_ = 0;
+      errorMessage_ = "";
+      stbuf_ = org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.getDefaultInstance();
+      creds_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (hasStbuf()) {
+        if (!getStbuf().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      if (hasCreds()) {
+        if (!getCreds().isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeFixed32(1, posixErrno_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        output.writeBytes(2, getErrorMessageBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        output.writeMessage(3, stbuf_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        output.writeMessage(4, creds_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(1, posixErrno_);
+      }
+      if (((bitField0_ & 0x00000002) == 0x00000002)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBytesSize(2, getErrorMessageBytes());
+      }
+      if (((bitField0_ & 0x00000004) == 0x00000004)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, stbuf_);
+      }
+      if (((bitField0_ & 0x00000008) == 0x00000008)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, creds_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.BatchResult}
+     *
+     * <pre>
+     * the result of a compound operation for a single entry
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_BatchResult_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_BatchResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getStbufFieldBuilder();
+          getCredsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        posixErrno_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        errorMessage_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        if (stbufBuilder_ == null) {
+          stbuf_ = org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.getDefaultInstance();
+        } else {
+          stbufBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        if (credsBuilder_ == null) {
+          creds_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+        } else {
+          credsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_BatchResult_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) == 0x00000001)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.posixErrno_ = posixErrno_;
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.errorMessage_ = errorMessage_;
+        if (((from_bitField0_ & 0x00000004) == 0x00000004)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        if (stbufBuilder_ == null) {
+          result.stbuf_ = stbuf_;
+        } else {
+          result.stbuf_ = stbufBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000008) == 0x00000008)) {
+          to_bitField0_ |= 0x00000008;
+        }
+        if (credsBuilder_ == null) {
+          result.creds_ = creds_;
+        } else {
+          result.creds_ = credsBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.getDefaultInstance()) return this;
+        if (other.hasPosixErrno()) {
+          setPosixErrno(other.getPosixErrno());
+        }
+        if (other.hasErrorMessage()) {
+          bitField0_ |= 0x00000002;
+          errorMessage_ = other.errorMessage_;
+          onChanged();
+        }
+        if (other.hasStbuf()) {
+          mergeStbuf(other.getStbuf());
+        }
+        if (other.hasCreds()) {
+          mergeCreds(other.getCreds());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (hasStbuf()) {
+          if (!getStbuf().isInitialized()) {
+            
+            return false;
+          }
+        }
+        if (hasCreds()) {
+          if (!getCreds().isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // optional fixed32 posix_errno = 1;
+      private int posixErrno_ ;
+      /**
+       * <code>optional fixed32 posix_errno = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, as a POSIXErrno value; not set if the
+       * operation succeeded for the entry
+       * </pre>
+       */
+      public boolean hasPosixErrno() {
+        return ((bitField0_ & 0x00000001) == 0x00000001);
+      }
+      /**
+       * <code>optional fixed32 posix_errno = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, as a POSIXErrno value; not set if the
+       * operation succeeded for the entry
+       * </pre>
+       */
+      public int getPosixErrno() {
+        return posixErrno_;
+      }
+      /**
+       * <code>optional fixed32 posix_errno = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, as a POSIXErrno value; not set if the
+       * operation succeeded for the entry
+       * </pre>
+       */
+      public Builder setPosixErrno(int value) {
+        bitField0_ |= 0x00000001;
+        posixErrno_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional fixed32 posix_errno = 1;</code>
+       *
+       * <pre>
+       * the error that occurred, as a POSIXErrno value; not set if the
+       * operation succeeded for the entry
+       * </pre>
+       */
+      public Builder clearPosixErrno() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        posixErrno_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // optional string error_message = 2;
+      private java.lang.Object errorMessage_ = "";
+      /**
+       * <code>optional string error_message = 2;</code>
+       *
+       * <pre>
+       * a description of the error
+       * </pre>
+       */
+      public boolean hasErrorMessage() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>optional string error_message = 2;</code>
+       *
+       * <pre>
+       * a description of the error
+       * </pre>
+       */
+      public java.lang.String getErrorMessage() {
+        java.lang.Object ref = errorMessage_;
+        if (!(ref instanceof java.lang.String)) {
+          java.lang.String s = ((com.google.protobuf.ByteString) ref)
+              .toStringUtf8();
+          errorMessage_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string error_message = 2;</code>
+       *
+       * <pre>
+       * a description of the error
+       * </pre>
+       */
+      public com.google.protobuf.ByteString
+          getErrorMessageBytes() {
+        java.lang.Object ref = errorMessage_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          errorMessage_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string error_message = 2;</code>
+       *
+       * <pre>
+       * a description of the error
+       * </pre>
+       */
+      public Builder setErrorMessage(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error_message = 2;</code>
+       *
+       * <pre>
+       * a description of the error
+       * </pre>
+       */
+      public Builder clearErrorMessage() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        errorMessage_ = getDefaultInstance().getErrorMessage();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string error_message = 2;</code>
+       *
+       * <pre>
+       * a description of the error
+       * </pre>
+       */
+      public Builder setErrorMessageBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        errorMessage_ = value;
+        onChanged();
+        return this;
+      }
+
+      // optional .xtreemfs.pbrpc.Stat stbuf = 3;
+      private org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat stbuf_ = org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat, org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder> stbufBuilder_;
+      /**
+       * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * the attributes of the file or directory ('xtreemfs_stat_files')
+       * </pre>
+       */
+      public boolean hasStbuf() {
+        return ((bitField0_ & 0x00000004) == 0x00000004);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * the attributes of the file or directory ('xtreemfs_stat_files')
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat getStbuf() {
+        if (stbufBuilder_ == null) {
+          return stbuf_;
+        } else {
+          return stbufBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * the attributes of the file or directory ('xtreemfs_stat_files')
+       * </pre>
+       */
+      public Builder setStbuf(org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat value) {
+        if (stbufBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          stbuf_ = value;
+          onChanged();
+        } else {
+          stbufBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * the attributes of the file or directory ('xtreemfs_stat_files')
+       * </pre>
+       */
+      public Builder setStbuf(
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder builderForValue) {
+        if (stbufBuilder_ == null) {
+          stbuf_ = builderForValue.build();
+          onChanged();
+        } else {
+          stbufBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * the attributes of the file or directory ('xtreemfs_stat_files')
+       * </pre>
+       */
+      public Builder mergeStbuf(org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat value) {
+        if (stbufBuilder_ == null) {
+          if (((bitField0_ & 0x00000004) == 0x00000004) &&
+              stbuf_ != org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.getDefaultInstance()) {
+            stbuf_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.newBuilder(stbuf_).mergeFrom(value).buildPartial();
+          } else {
+            stbuf_ = value;
+          }
+          onChanged();
+        } else {
+          stbufBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000004;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * the attributes of the file or directory ('xtreemfs_stat_files')
+       * </pre>
+       */
+      public Builder clearStbuf() {
+        if (stbufBuilder_ == null) {
+          stbuf_ = org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.getDefaultInstance();
+          onChanged();
+        } else {
+          stbufBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * the attributes of the file or directory ('xtreemfs_stat_files')
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder getStbufBuilder() {
+        bitField0_ |= 0x00000004;
+        onChanged();
+        return getStbufFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * the attributes of the file or directory ('xtreemfs_stat_files')
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder getStbufOrBuilder() {
+        if (stbufBuilder_ != null) {
+          return stbufBuilder_.getMessageOrBuilder();
+        } else {
+          return stbuf_;
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.Stat stbuf = 3;</code>
+       *
+       * <pre>
+       * the attributes of the file or directory ('xtreemfs_stat_files')
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat, org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder> 
+          getStbufFieldBuilder() {
+        if (stbufBuilder_ == null) {
+          stbufBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat, org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.StatOrBuilder>(
+                  stbuf_,
+                  getParentForChildren(),
+                  isClean());
+          stbuf_ = null;
+        }
+        return stbufBuilder_;
+      }
+
+      // optional .xtreemfs.pbrpc.FileCredentials creds = 4;
+      private org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials creds_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> credsBuilder_;
+      /**
+       * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+       *
+       * <pre>
+       * an optional set of file credentials that may contain a capability
+       * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+       * </pre>
+       */
+      public boolean hasCreds() {
+        return ((bitField0_ & 0x00000008) == 0x00000008);
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+       *
+       * <pre>
+       * an optional set of file credentials that may contain a capability
+       * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials getCreds() {
+        if (credsBuilder_ == null) {
+          return creds_;
+        } else {
+          return credsBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+       *
+       * <pre>
+       * an optional set of file credentials that may contain a capability
+       * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+       * </pre>
+       */
+      public Builder setCreds(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (credsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          creds_ = value;
+          onChanged();
+        } else {
+          credsBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+       *
+       * <pre>
+       * an optional set of file credentials that may contain a capability
+       * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+       * </pre>
+       */
+      public Builder setCreds(
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder builderForValue) {
+        if (credsBuilder_ == null) {
+          creds_ = builderForValue.build();
+          onChanged();
+        } else {
+          credsBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+       *
+       * <pre>
+       * an optional set of file credentials that may contain a capability
+       * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+       * </pre>
+       */
+      public Builder mergeCreds(org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials value) {
+        if (credsBuilder_ == null) {
+          if (((bitField0_ & 0x00000008) == 0x00000008) &&
+              creds_ != org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance()) {
+            creds_ =
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.newBuilder(creds_).mergeFrom(value).buildPartial();
+          } else {
+            creds_ = value;
+          }
+          onChanged();
+        } else {
+          credsBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000008;
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+       *
+       * <pre>
+       * an optional set of file credentials that may contain a capability
+       * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+       * </pre>
+       */
+      public Builder clearCreds() {
+        if (credsBuilder_ == null) {
+          creds_ = org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.getDefaultInstance();
+          onChanged();
+        } else {
+          credsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+       *
+       * <pre>
+       * an optional set of file credentials that may contain a capability
+       * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder getCredsBuilder() {
+        bitField0_ |= 0x00000008;
+        onChanged();
+        return getCredsFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+       *
+       * <pre>
+       * an optional set of file credentials that may contain a capability
+       * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+       * </pre>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder getCredsOrBuilder() {
+        if (credsBuilder_ != null) {
+          return credsBuilder_.getMessageOrBuilder();
+        } else {
+          return creds_;
+        }
+      }
+      /**
+       * <code>optional .xtreemfs.pbrpc.FileCredentials creds = 4;</code>
+       *
+       * <pre>
+       * an optional set of file credentials that may contain a capability
+       * for the deletion of the file on the OSDs ('xtreemfs_unlink_files')
+       * </pre>
+       */
+      private com.google.protobuf.SingleFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder> 
+          getCredsFieldBuilder() {
+        if (credsBuilder_ == null) {
+          credsBuilder_ = new com.google.protobuf.SingleFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentials.Builder, org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.FileCredentialsOrBuilder>(
+                  creds_,
+                  getParentForChildren(),
+                  isClean());
+          creds_ = null;
+        }
+        return credsBuilder_;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.BatchResult)
+    }
+
+    static {
+      defaultInstance = new BatchResult(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.BatchResult)
+  }
+
+  public interface xtreemfs_batchResponseOrBuilder
+      extends com.google.protobuf.MessageOrBuilder {
+
+    // repeated .xtreemfs.pbrpc.BatchResult results = 1;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+     */
+    java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult> 
+        getResultsList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult getResults(int index);
+    /**
+     * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+     */
+    int getResultsCount();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+     */
+    java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResultOrBuilder> 
+        getResultsOrBuilderList();
+    /**
+     * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+     */
+    org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResultOrBuilder getResultsOrBuilder(
+        int index);
+
+    // required fixed32 timestamp_s = 2;
+    /**
+     * <code>required fixed32 timestamp_s = 2;</code>
+     *
+     * <pre>
+     * the server timestamp in seconds since 1970 to which the file and
+     * directory timestamps were updated
+     * </pre>
+     */
+    boolean hasTimestampS();
+    /**
+     * <code>required fixed32 timestamp_s = 2;</code>
+     *
+     * <pre>
+     * the server timestamp in seconds since 1970 to which the file and
+     * directory timestamps were updated
+     * </pre>
+     */
+    int getTimestampS();
+  }
+  /**
+   * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_batchResponse}
+   *
+   * <pre>
+   * returns the results of a compound operation, one for each entry in the
+   * order of the request
+   * </pre>
+   */
+  public static final class xtreemfs_batchResponse extends
+      com.google.protobuf.GeneratedMessage
+      implements xtreemfs_batchResponseOrBuilder {
+    // Use xtreemfs_batchResponse.newBuilder() to construct.
+    private xtreemfs_batchResponse(com.google.protobuf.GeneratedMessage.Builder<?> builder) {
+      super(builder);
+      this.unknownFields = builder.getUnknownFields();
+    }
+    private xtreemfs_batchResponse(boolean noInit) { this.unknownFields = com.google.protobuf.UnknownFieldSet.getDefaultInstance(); }
+
+    private static final xtreemfs_batchResponse defaultInstance;
+    public static xtreemfs_batchResponse getDefaultInstance() {
+      return defaultInstance;
+    }
+
+    public xtreemfs_batchResponse getDefaultInstanceForType() {
+      return defaultInstance;
+    }
+
+    private final com.google.protobuf.UnknownFieldSet unknownFields;
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+        getUnknownFields() {
+      return this.unknownFields;
+    }
+    private xtreemfs_batchResponse(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      initFields();
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(input, unknownFields,
+                                     extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+                results_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              results_.add(input.readMessage(org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.PARSER, extensionRegistry));
+              break;
+            }
+            case 21: {
+              bitField0_ |= 0x00000001;
+              timestampS_ = input.readFixed32();
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e.getMessage()).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) == 0x00000001)) {
+          results_ = java.util.Collections.unmodifiableList(results_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_batchResponse_descriptor;
+    }
+
+    protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_batchResponse_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse.Builder.class);
+    }
+
+    public static com.google.protobuf.Parser<xtreemfs_batchResponse> PARSER =
+        new com.google.protobuf.AbstractParser<xtreemfs_batchResponse>() {
+      public xtreemfs_batchResponse parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new xtreemfs_batchResponse(input, extensionRegistry);
+      }
+    };
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<xtreemfs_batchResponse> getParserForType() {
+      return PARSER;
+    }
+
+    private int bitField0_;
+    // repeated .xtreemfs.pbrpc.BatchResult results = 1;
+    public static final int RESULTS_FIELD_NUMBER = 1;
+    private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult> results_;
+    /**
+     * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+     */
+    public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult> getResultsList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+     */
+    public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResultOrBuilder> 
+        getResultsOrBuilderList() {
+      return results_;
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+     */
+    public int getResultsCount() {
+      return results_.size();
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult getResults(int index) {
+      return results_.get(index);
+    }
+    /**
+     * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+     */
+    public org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResultOrBuilder getResultsOrBuilder(
+        int index) {
+      return results_.get(index);
+    }
+
+    // required fixed32 timestamp_s = 2;
+    public static final int TIMESTAMP_S_FIELD_NUMBER = 2;
+    private int timestampS_;
+    /**
+     * <code>required fixed32 timestamp_s = 2;</code>
+     *
+     * <pre>
+     * the server timestamp in seconds since 1970 to which the file and
+     * directory timestamps were updated
+     * </pre>
+     */
+    public boolean hasTimestampS() {
+      return ((bitField0_ & 0x00000001) == 0x00000001);
+    }
+    /**
+     * <code>required fixed32 timestamp_s = 2;</code>
+     *
+     * <pre>
+     * the server timestamp in seconds since 1970 to which the file and
+     * directory timestamps were updated
+     * </pre>
+     */
+    public int getTimestampS() {
+      return timestampS_;
+    }
+
+    private void initFields() {
+      results_ = java.util.Collections.emptyList();
+      timestampS_ = 0;
+    }
+    private byte memoizedIsInitialized = -1;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized != -1) return isInitialized == 1;
+
+      if (!hasTimestampS()) {
+        memoizedIsInitialized = 0;
+        return false;
+      }
+      for (int i = 0; i < getResultsCount(); i++) {
+        if (!getResults(i).isInitialized()) {
+          memoizedIsInitialized = 0;
+          return false;
+        }
+      }
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      for (int i = 0; i < results_.size(); i++) {
+        output.writeMessage(1, results_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        output.writeFixed32(2, timestampS_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    private int memoizedSerializedSize = -1;
+    public int getSerializedSize() {
+      int size = memoizedSerializedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < results_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, results_.get(i));
+      }
+      if (((bitField0_ & 0x00000001) == 0x00000001)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeFixed32Size(2, timestampS_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSerializedSize = size;
+      return size;
+    }
+
+    private static final long serialVersionUID = 0L;
+    @java.lang.Override
+    protected java.lang.Object writeReplace()
+        throws java.io.ObjectStreamException {
+      return super.writeReplace();
+    }
+
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseDelimitedFrom(input, extensionRegistry);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input);
+    }
+    public static org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return PARSER.parseFrom(input, extensionRegistry);
+    }
+
+    public static Builder newBuilder() { return Builder.create(); }
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse prototype) {
+      return newBuilder().mergeFrom(prototype);
+    }
+    public Builder toBuilder() { return newBuilder(this); }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code xtreemfs.pbrpc.xtreemfs_batchResponse}
+     *
+     * <pre>
+     * returns the results of a compound operation, one for each entry in the
+     * order of the request
+     * </pre>
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessage.Builder<Builder>
+       implements org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponseOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_batchResponse_descriptor;
+      }
+
+      protected com.google.protobuf.GeneratedMessage.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_batchResponse_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse.class, org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse.Builder.class);
+      }
+
+      // Construct using org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessage.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders) {
+          getResultsFieldBuilder();
+        }
+      }
+      private static Builder create() {
+        return new Builder();
+      }
+
+      public Builder clear() {
+        super.clear();
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          resultsBuilder_.clear();
+        }
+        timestampS_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      public Builder clone() {
+        return create().mergeFrom(buildPartial());
+      }
+
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.internal_static_xtreemfs_pbrpc_xtreemfs_batchResponse_descriptor;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse getDefaultInstanceForType() {
+        return org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse.getDefaultInstance();
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse build() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse buildPartial() {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse result = new org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (resultsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) == 0x00000001)) {
+            results_ = java.util.Collections.unmodifiableList(results_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.results_ = results_;
+        } else {
+          result.results_ = resultsBuilder_.build();
+        }
+        if (((from_bitField0_ & 0x00000002) == 0x00000002)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.timestampS_ = timestampS_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse) {
+          return mergeFrom((org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse other) {
+        if (other == org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse.getDefaultInstance()) return this;
+        if (resultsBuilder_ == null) {
+          if (!other.results_.isEmpty()) {
+            if (results_.isEmpty()) {
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureResultsIsMutable();
+              results_.addAll(other.results_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.results_.isEmpty()) {
+            if (resultsBuilder_.isEmpty()) {
+              resultsBuilder_.dispose();
+              resultsBuilder_ = null;
+              results_ = other.results_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              resultsBuilder_ = 
+                com.google.protobuf.GeneratedMessage.alwaysUseFieldBuilders ?
+                   getResultsFieldBuilder() : null;
+            } else {
+              resultsBuilder_.addAllMessages(other.results_);
+            }
+          }
+        }
+        if (other.hasTimestampS()) {
+          setTimestampS(other.getTimestampS());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        return this;
+      }
+
+      public final boolean isInitialized() {
+        if (!hasTimestampS()) {
+          
+          return false;
+        }
+        for (int i = 0; i < getResultsCount(); i++) {
+          if (!getResults(i).isInitialized()) {
+            
+            return false;
+          }
+        }
+        return true;
+      }
+
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse) e.getUnfinishedMessage();
+          throw e;
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      // repeated .xtreemfs.pbrpc.BatchResult results = 1;
+      private java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult> results_ =
+        java.util.Collections.emptyList();
+      private void ensureResultsIsMutable() {
+        if (!((bitField0_ & 0x00000001) == 0x00000001)) {
+          results_ = new java.util.ArrayList<org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult>(results_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResultOrBuilder> resultsBuilder_;
+
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult> getResultsList() {
+        if (resultsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(results_);
+        } else {
+          return resultsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public int getResultsCount() {
+        if (resultsBuilder_ == null) {
+          return results_.size();
+        } else {
+          return resultsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult getResults(int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);
+        } else {
+          return resultsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public Builder setResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.set(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public Builder setResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public Builder addResults(org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public Builder addResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult value) {
+        if (resultsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureResultsIsMutable();
+          results_.add(index, value);
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public Builder addResults(
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public Builder addResults(
+          int index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder builderForValue) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          resultsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public Builder addAllResults(
+          java.lang.Iterable<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult> values) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          super.addAll(values, results_);
+          onChanged();
+        } else {
+          resultsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public Builder clearResults() {
+        if (resultsBuilder_ == null) {
+          results_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          resultsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public Builder removeResults(int index) {
+        if (resultsBuilder_ == null) {
+          ensureResultsIsMutable();
+          results_.remove(index);
+          onChanged();
+        } else {
+          resultsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder getResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResultOrBuilder getResultsOrBuilder(
+          int index) {
+        if (resultsBuilder_ == null) {
+          return results_.get(index);  } else {
+          return resultsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public java.util.List<? extends org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResultOrBuilder> 
+           getResultsOrBuilderList() {
+        if (resultsBuilder_ != null) {
+          return resultsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(results_);
+        }
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder addResultsBuilder() {
+        return getResultsFieldBuilder().addBuilder(
+            org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder addResultsBuilder(
+          int index) {
+        return getResultsFieldBuilder().addBuilder(
+            index, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .xtreemfs.pbrpc.BatchResult results = 1;</code>
+       */
+      public java.util.List<org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder> 
+           getResultsBuilderList() {
+        return getResultsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilder<
+          org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResultOrBuilder> 
+          getResultsFieldBuilder() {
+        if (resultsBuilder_ == null) {
+          resultsBuilder_ = new com.google.protobuf.RepeatedFieldBuilder<
+              org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResult.Builder, org.xtreemfs.pbrpc.generatedinterfaces.MRC.BatchResultOrBuilder>(
+                  results_,
+                  ((bitField0_ & 0x00000001) == 0x00000001),
+                  getParentForChildren(),
+                  isClean());
+          results_ = null;
+        }
+        return resultsBuilder_;
+      }
+
+      // required fixed32 timestamp_s = 2;
+      private int timestampS_ ;
+      /**
+       * <code>required fixed32 timestamp_s = 2;</code>
+       *
+       * <pre>
+       * the server timestamp in seconds since 1970 to which the file and
+       * directory timestamps were updated
+       * </pre>
+       */
+      public boolean hasTimestampS() {
+        return ((bitField0_ & 0x00000002) == 0x00000002);
+      }
+      /**
+       * <code>required fixed32 timestamp_s = 2;</code>
+       *
+       * <pre>
+       * the server timestamp in seconds since 1970 to which the file and
+       * directory timestamps were updated
+       * </pre>
+       */
+      public int getTimestampS() {
+        return timestampS_;
+      }
+      /**
+       * <code>required fixed32 timestamp_s = 2;</code>
+       *
+       * <pre>
+       * the server timestamp in seconds since 1970 to which the file and
+       * directory timestamps were updated
+       * </pre>
+       */
+      public Builder setTimestampS(int value) {
+        bitField0_ |= 0x00000002;
+        timestampS_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>required fixed32 timestamp_s = 2;</code>
+       *
+       * <pre>
+       * the server timestamp in seconds since 1970 to which the file and
+       * directory timestamps were updated
+       * </pre>
+       */
+      public Builder clearTimestampS() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        timestampS_ = 0;
+        onChanged();
+        return this;
+      }
+
+      // @@protoc_insertion_point(builder_scope:xtreemfs.pbrpc.xtreemfs_batchResponse)
+    }
+
+    static {
+      defaultInstance = new xtreemfs_batchResponse(true);
+      defaultInstance.initFields();
+    }
+
+    // @@protoc_insertion_point(class_scope:xtreemfs.pbrpc.xtreemfs_batchResponse)
+  }
+
   private static com.google.protobuf.Descriptors.Descriptor
     internal_static_xtreemfs_pbrpc_Stat_descriptor;
   private static
@@ -48023,6 +53139,31 @@ public final class MRC {
   private static
     com.google.protobuf.GeneratedMessage.FieldAccessorTable
       internal_static_xtreemfs_pbrpc_xtreemfs_get_file_credentialsRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_stat_filesRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_stat_filesRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_unlink_filesRequest_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_unlink_filesRequest_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_BatchResult_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_BatchResult_fieldAccessorTable;
+  private static com.google.protobuf.Descriptors.Descriptor
+    internal_static_xtreemfs_pbrpc_xtreemfs_batchResponse_descriptor;
+  private static
+    com.google.protobuf.GeneratedMessage.FieldAccessorTable
+      internal_static_xtreemfs_pbrpc_xtreemfs_batchResponse_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -48159,119 +53300,142 @@ public final class MRC {
       "le_id\030\001 \002(\t\022\r\n\005value\030\002 \002(\010\"7\n$xtreemfs_s" +
       "et_read_only_xattrResponse\022\017\n\007was_set\030\001 " +
       "\002(\010\"7\n$xtreemfs_get_file_credentialsRequ" +
-      "est\022\017\n\007file_id\030\001 \002(\t*\242\001\n\010Setattrs\022\020\n\014SET" +
-      "ATTR_MODE\020\001\022\017\n\013SETATTR_UID\020\002\022\017\n\013SETATTR_" +
-      "GID\020\004\022\020\n\014SETATTR_SIZE\020\010\022\021\n\rSETATTR_ATIME",
-      "\020\020\022\021\n\rSETATTR_MTIME\020 \022\021\n\rSETATTR_CTIME\020@" +
-      "\022\027\n\022SETATTR_ATTRIBUTES\020\200\001*>\n\013XATTR_FLAGS" +
-      "\022\026\n\022XATTR_FLAGS_CREATE\020\001\022\027\n\023XATTR_FLAGS_" +
-      "REPLACE\020\002*j\n\014ACCESS_FLAGS\022\025\n\021ACCESS_FLAG" +
-      "S_F_OK\020\000\022\025\n\021ACCESS_FLAGS_X_OK\020\001\022\025\n\021ACCES" +
-      "S_FLAGS_W_OK\020\002\022\025\n\021ACCESS_FLAGS_R_OK\020\0042\203 " +
-      "\n\nMRCService\022S\n\010fsetattr\022\037.xtreemfs.pbrp" +
-      "c.fsetattrRequest\032\035.xtreemfs.pbrpc.empty" +
-      "Response\"\007\215\265\030\002\000\000\000\022@\n\tftruncate\022\024.xtreemf" +
-      "s.pbrpc.XCap\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030\003",
-      "\000\000\000\022S\n\007getattr\022\036.xtreemfs.pbrpc.getattrR" +
-      "equest\032\037.xtreemfs.pbrpc.getattrResponse\"" +
-      "\007\215\265\030\004\000\000\000\022V\n\010getxattr\022\037.xtreemfs.pbrpc.ge" +
-      "txattrRequest\032 .xtreemfs.pbrpc.getxattrR" +
-      "esponse\"\007\215\265\030\005\000\000\000\022O\n\004link\022\033.xtreemfs.pbrp" +
-      "c.linkRequest\032!.xtreemfs.pbrpc.timestamp" +
-      "Response\"\007\215\265\030\006\000\000\000\022Y\n\tlistxattr\022 .xtreemf" +
-      "s.pbrpc.listxattrRequest\032!.xtreemfs.pbrp" +
-      "c.listxattrResponse\"\007\215\265\030\007\000\000\000\022Q\n\005mkdir\022\034." +
-      "xtreemfs.pbrpc.mkdirRequest\032!.xtreemfs.p",
-      "brpc.timestampResponse\"\007\215\265\030\010\000\000\000\022J\n\004open\022" +
-      "\033.xtreemfs.pbrpc.openRequest\032\034.xtreemfs." +
-      "pbrpc.openResponse\"\007\215\265\030\t\000\000\000\022T\n\007readdir\022\036" +
-      ".xtreemfs.pbrpc.readdirRequest\032 .xtreemf" +
-      "s.pbrpc.DirectoryEntries\"\007\215\265\030\n\000\000\000\022V\n\010rea" +
-      "dlink\022\037.xtreemfs.pbrpc.readlinkRequest\032 " +
-      ".xtreemfs.pbrpc.readlinkResponse\"\007\215\265\030\013\000\000" +
-      "\000\022]\n\013removexattr\022\".xtreemfs.pbrpc.remove" +
-      "xattrRequest\032!.xtreemfs.pbrpc.timestampR" +
-      "esponse\"\007\215\265\030\014\000\000\000\022P\n\006rename\022\035.xtreemfs.pb",
-      "rpc.renameRequest\032\036.xtreemfs.pbrpc.renam" +
-      "eResponse\"\007\215\265\030\r\000\000\000\022Q\n\005rmdir\022\034.xtreemfs.p" +
-      "brpc.rmdirRequest\032!.xtreemfs.pbrpc.times" +
-      "tampResponse\"\007\215\265\030\016\000\000\000\022U\n\007setattr\022\036.xtree" +
-      "mfs.pbrpc.setattrRequest\032!.xtreemfs.pbrp" +
-      "c.timestampResponse\"\007\215\265\030\017\000\000\000\022W\n\010setxattr" +
-      "\022\037.xtreemfs.pbrpc.setxattrRequest\032!.xtre" +
-      "emfs.pbrpc.timestampResponse\"\007\215\265\030\020\000\000\000\022K\n" +
-      "\007statvfs\022\036.xtreemfs.pbrpc.statvfsRequest" +
-      "\032\027.xtreemfs.pbrpc.StatVFS\"\007\215\265\030\021\000\000\000\022U\n\007sy",
-      "mlink\022\036.xtreemfs.pbrpc.symlinkRequest\032!." +
-      "xtreemfs.pbrpc.timestampResponse\"\007\215\265\030\022\000\000" +
-      "\000\022P\n\006unlink\022\035.xtreemfs.pbrpc.unlinkReque" +
-      "st\032\036.xtreemfs.pbrpc.unlinkResponse\"\007\215\265\030\023" +
-      "\000\000\000\022O\n\006access\022\035.xtreemfs.pbrpc.accessReq" +
-      "uest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030" +
-      "\024\000\000\000\022[\n\023xtreemfs_checkpoint\022\034.xtreemfs.p" +
-      "brpc.emptyRequest\032\035.xtreemfs.pbrpc.empty" +
-      "Response\"\007\215\265\030\036\000\000\000\022\214\001\n\032xtreemfs_check_fil" +
-      "e_exists\0221.xtreemfs.pbrpc.xtreemfs_check",
-      "_file_existsRequest\0322.xtreemfs.pbrpc.xtr" +
-      "eemfs_check_file_existsResponse\"\007\215\265\030\037\000\000\000" +
-      "\022w\n\026xtreemfs_dump_database\0225.xtreemfs.pb" +
-      "rpc.xtreemfs_dump_restore_databaseReques" +
-      "t\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030 \000\000" +
-      "\000\022\214\001\n\032xtreemfs_get_suitable_osds\0221.xtree" +
-      "mfs.pbrpc.xtreemfs_get_suitable_osdsRequ" +
-      "est\0322.xtreemfs.pbrpc.xtreemfs_get_suitab" +
-      "le_osdsResponse\"\007\215\265\030!\000\000\000\022`\n\027xtreemfs_int" +
-      "ernal_debug\022\035.xtreemfs.pbrpc.stringMessa",
-      "ge\032\035.xtreemfs.pbrpc.stringMessage\"\007\215\265\030\"\000" +
-      "\000\000\022n\n\020xtreemfs_listdir\022\'.xtreemfs.pbrpc." +
-      "xtreemfs_listdirRequest\032(.xtreemfs.pbrpc" +
-      ".xtreemfs_listdirResponse\"\007\215\265\030#\000\000\000\022P\n\016xt" +
-      "reemfs_lsvol\022\034.xtreemfs.pbrpc.emptyReque" +
-      "st\032\027.xtreemfs.pbrpc.Volumes\"\007\215\265\030$\000\000\000\022P\n\016" +
-      "xtreemfs_mkvol\022\026.xtreemfs.pbrpc.Volume\032\035" +
-      ".xtreemfs.pbrpc.emptyResponse\"\007\215\265\030/\000\000\000\022P" +
-      "\n\031xtreemfs_renew_capability\022\024.xtreemfs.p" +
-      "brpc.XCap\032\024.xtreemfs.pbrpc.XCap\"\007\215\265\030%\000\000\000",
-      "\022f\n\036xtreemfs_replication_to_master\022\034.xtr" +
-      "eemfs.pbrpc.emptyRequest\032\035.xtreemfs.pbrp" +
-      "c.emptyResponse\"\007\215\265\030&\000\000\000\022k\n\024xtreemfs_rep" +
-      "lica_add\022+.xtreemfs.pbrpc.xtreemfs_repli" +
-      "ca_addRequest\032\035.xtreemfs.pbrpc.emptyResp" +
-      "onse\"\007\215\265\030\'\000\000\000\022h\n\025xtreemfs_replica_list\022," +
-      ".xtreemfs.pbrpc.xtreemfs_replica_listReq" +
-      "uest\032\030.xtreemfs.pbrpc.Replicas\"\007\215\265\030(\000\000\000\022" +
-      "s\n\027xtreemfs_replica_remove\022..xtreemfs.pb" +
-      "rpc.xtreemfs_replica_removeRequest\032\037.xtr",
-      "eemfs.pbrpc.FileCredentials\"\007\215\265\030)\000\000\000\022z\n\031" +
-      "xtreemfs_restore_database\0225.xtreemfs.pbr" +
-      "pc.xtreemfs_dump_restore_databaseRequest" +
-      "\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030*\000\000\000" +
-      "\022m\n\025xtreemfs_restore_file\022,.xtreemfs.pbr" +
-      "pc.xtreemfs_restore_fileRequest\032\035.xtreem" +
-      "fs.pbrpc.emptyResponse\"\007\215\265\030+\000\000\000\022_\n\016xtree" +
-      "mfs_rmvol\022%.xtreemfs.pbrpc.xtreemfs_rmvo" +
-      "lRequest\032\035.xtreemfs.pbrpc.emptyResponse\"" +
-      "\007\215\265\030,\000\000\000\022Y\n\021xtreemfs_shutdown\022\034.xtreemfs",
-      ".pbrpc.emptyRequest\032\035.xtreemfs.pbrpc.emp" +
-      "tyResponse\"\007\215\265\030-\000\000\000\022y\n\031xtreemfs_update_f" +
-      "ile_size\0220.xtreemfs.pbrpc.xtreemfs_updat" +
-      "e_file_sizeRequest\032!.xtreemfs.pbrpc.time" +
-      "stampResponse\"\007\215\265\030.\000\000\000\022\244\001\n\"xtreemfs_set_" +
-      "replica_update_policy\0229.xtreemfs.pbrpc.x" +
-      "treemfs_set_replica_update_policyRequest" +
-      "\032:.xtreemfs.pbrpc.xtreemfs_set_replica_u" +
-      "pdate_policyResponse\"\007\215\265\0300\000\000\000\022\222\001\n\034xtreem" +
-      "fs_set_read_only_xattr\0223.xtreemfs.pbrpc.",
-      "xtreemfs_set_read_only_xattrRequest\0324.xt" +
-      "reemfs.pbrpc.xtreemfs_set_read_only_xatt" +
-      "rResponse\"\007\215\265\0301\000\000\000\022\177\n\035xtreemfs_get_file_" +
-      "credentials\0224.xtreemfs.pbrpc.xtreemfs_ge" +
-      "t_file_credentialsRequest\032\037.xtreemfs.pbr" +
-      "pc.FileCredentials\"\007\215\265\0302\000\000\000\022e\n\024xtreemfs_" +
-      "get_xlocset\022+.xtreemfs.pbrpc.xtreemfs_ge" +
-      "t_xlocsetRequest\032\027.xtreemfs.pbrpc.XLocSe" +
-      "t\"\007\215\265\0303\000\000\000\032\007\225\265\030!N\000\000B(\n&org.xtreemfs.pbrp" +
-      "c.generatedinterfaces"
+      "est\022\017\n\007file_id\030\001 \002(\t\"\253\001\n\034xtreemfs_create" +
+      "_filesRequest\022\023\n\013volume_name\030\001 \002(\t\022\014\n\004pa" +
+      "th\030\002 \002(\t\022\r\n\005names\030\003 \003(\t\022\014\n\004mode\030\004 \002(\007\022\022\n",
+      "\nattributes\030\005 \002(\007\0227\n\013coordinates\030\006 \001(\0132\"" +
+      ".xtreemfs.pbrpc.VivaldiCoordinates\"@\n\032xt" +
+      "reemfs_stat_filesRequest\022\023\n\013volume_name\030" +
+      "\001 \002(\t\022\r\n\005paths\030\002 \003(\t\"B\n\034xtreemfs_unlink_" +
+      "filesRequest\022\023\n\013volume_name\030\001 \002(\t\022\r\n\005pat" +
+      "hs\030\002 \003(\t\"\216\001\n\013BatchResult\022\023\n\013posix_errno\030" +
+      "\001 \001(\007\022\025\n\rerror_message\030\002 \001(\t\022#\n\005stbuf\030\003 " +
+      "\001(\0132\024.xtreemfs.pbrpc.Stat\022.\n\005creds\030\004 \001(\013" +
+      "2\037.xtreemfs.pbrpc.FileCredentials\"[\n\026xtr" +
+      "eemfs_batchResponse\022,\n\007results\030\001 \003(\0132\033.x",
+      "treemfs.pbrpc.BatchResult\022\023\n\013timestamp_s" +
+      "\030\002 \002(\007*\242\001\n\010Setattrs\022\020\n\014SETATTR_MODE\020\001\022\017\n" +
+      "\013SETATTR_UID\020\002\022\017\n\013SETATTR_GID\020\004\022\020\n\014SETAT" +
+      "TR_SIZE\020\010\022\021\n\rSETATTR_ATIME\020\020\022\021\n\rSETATTR_" +
+      "MTIME\020 \022\021\n\rSETATTR_CTIME\020@\022\027\n\022SETATTR_AT" +
+      "TRIBUTES\020\200\001*>\n\013XATTR_FLAGS\022\026\n\022XATTR_FLAG" +
+      "S_CREATE\020\001\022\027\n\023XATTR_FLAGS_REPLACE\020\002*j\n\014A" +
+      "CCESS_FLAGS\022\025\n\021ACCESS_FLAGS_F_OK\020\000\022\025\n\021AC" +
+      "CESS_FLAGS_X_OK\020\001\022\025\n\021ACCESS_FLAGS_W_OK\020\002" +
+      "\022\025\n\021ACCESS_FLAGS_R_OK\020\0042\347\"\n\nMRCService\022S",
+      "\n\010fsetattr\022\037.xtreemfs.pbrpc.fsetattrRequ" +
+      "est\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\002" +
+      "\000\000\000\022@\n\tftruncate\022\024.xtreemfs.pbrpc.XCap\032\024" +
+      ".xtreemfs.pbrpc.XCap\"\007\215\265\030\003\000\000\000\022S\n\007getattr" +
+      "\022\036.xtreemfs.pbrpc.getattrRequest\032\037.xtree" +
+      "mfs.pbrpc.getattrResponse\"\007\215\265\030\004\000\000\000\022V\n\010ge" +
+      "txattr\022\037.xtreemfs.pbrpc.getxattrRequest\032" +
+      " .xtreemfs.pbrpc.getxattrResponse\"\007\215\265\030\005\000" +
+      "\000\000\022O\n\004link\022\033.xtreemfs.pbrpc.linkRequest\032" +
+      "!.xtreemfs.pbrpc.timestampResponse\"\007\215\265\030\006",
+      "\000\000\000\022Y\n\tlistxattr\022 .xtreemfs.pbrpc.listxa" +
+      "ttrRequest\032!.xtreemfs.pbrpc.listxattrRes" +
+      "ponse\"\007\215\265\030\007\000\000\000\022Q\n\005mkdir\022\034.xtreemfs.pbrpc" +
+      ".mkdirRequest\032!.xtreemfs.pbrpc.timestamp" +
+      "Response\"\007\215\265\030\010\000\000\000\022J\n\004open\022\033.xtreemfs.pbr" +
+      "pc.openRequest\032\034.xtreemfs.pbrpc.openResp" +
+      "onse\"\007\215\265\030\t\000\000\000\022T\n\007readdir\022\036.xtreemfs.pbrp" +
+      "c.readdirRequest\032 .xtreemfs.pbrpc.Direct" +
+      "oryEntries\"\007\215\265\030\n\000\000\000\022V\n\010readlink\022\037.xtreem" +
+      "fs.pbrpc.readlinkRequest\032 .xtreemfs.pbrp",
+      "c.readlinkResponse\"\007\215\265\030\013\000\000\000\022]\n\013removexat" +
+      "tr\022\".xtreemfs.pbrpc.removexattrRequest\032!" +
+      ".xtreemfs.pbrpc.timestampResponse\"\007\215\265\030\014\000" +
+      "\000\000\022P\n\006rename\022\035.xtreemfs.pbrpc.renameRequ" +
+      "est\032\036.xtreemfs.pbrpc.renameResponse\"\007\215\265\030" +
+      "\r\000\000\000\022Q\n\005rmdir\022\034.xtreemfs.pbrpc.rmdirRequ" +
+      "est\032!.xtreemfs.pbrpc.timestampResponse\"\007" +
+      "\215\265\030\016\000\000\000\022U\n\007setattr\022\036.xtreemfs.pbrpc.seta" +
+      "ttrRequest\032!.xtreemfs.pbrpc.timestampRes" +
+      "ponse\"\007\215\265\030\017\000\000\000\022W\n\010setxattr\022\037.xtreemfs.pb",
+      "rpc.setxattrRequest\032!.xtreemfs.pbrpc.tim" +
+      "estampResponse\"\007\215\265\030\020\000\000\000\022K\n\007statvfs\022\036.xtr" +
+      "eemfs.pbrpc.statvfsRequest\032\027.xtreemfs.pb" +
+      "rpc.StatVFS\"\007\215\265\030\021\000\000\000\022U\n\007symlink\022\036.xtreem" +
+      "fs.pbrpc.symlinkRequest\032!.xtreemfs.pbrpc" +
+      ".timestampResponse\"\007\215\265\030\022\000\000\000\022P\n\006unlink\022\035." +
+      "xtreemfs.pbrpc.unlinkRequest\032\036.xtreemfs." +
+      "pbrpc.unlinkResponse\"\007\215\265\030\023\000\000\000\022O\n\006access\022" +
+      "\035.xtreemfs.pbrpc.accessRequest\032\035.xtreemf" +
+      "s.pbrpc.emptyResponse\"\007\215\265\030\024\000\000\000\022[\n\023xtreem",
+      "fs_checkpoint\022\034.xtreemfs.pbrpc.emptyRequ" +
+      "est\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\036" +
+      "\000\000\000\022\214\001\n\032xtreemfs_check_file_exists\0221.xtr" +
+      "eemfs.pbrpc.xtreemfs_check_file_existsRe" +
+      "quest\0322.xtreemfs.pbrpc.xtreemfs_check_fi" +
+      "le_existsResponse\"\007\215\265\030\037\000\000\000\022w\n\026xtreemfs_d" +
+      "ump_database\0225.xtreemfs.pbrpc.xtreemfs_d" +
+      "ump_restore_databaseRequest\032\035.xtreemfs.p" +
+      "brpc.emptyResponse\"\007\215\265\030 \000\000\000\022\214\001\n\032xtreemfs" +
+      "_get_suitable_osds\0221.xtreemfs.pbrpc.xtre",
+      "emfs_get_suitable_osdsRequest\0322.xtreemfs" +
+      ".pbrpc.xtreemfs_get_suitable_osdsRespons" +
+      "e\"\007\215\265\030!\000\000\000\022`\n\027xtreemfs_internal_debug\022\035." +
+      "xtreemfs.pbrpc.stringMessage\032\035.xtreemfs." +
+      "pbrpc.stringMessage\"\007\215\265\030\"\000\000\000\022n\n\020xtreemfs" +
+      "_listdir\022\'.xtreemfs.pbrpc.xtreemfs_listd" +
+      "irRequest\032(.xtreemfs.pbrpc.xtreemfs_list" +
+      "dirResponse\"\007\215\265\030#\000\000\000\022P\n\016xtreemfs_lsvol\022\034" +
+      ".xtreemfs.pbrpc.emptyRequest\032\027.xtreemfs." +
+      "pbrpc.Volumes\"\007\215\265\030$\000\000\000\022P\n\016xtreemfs_mkvol",
+      "\022\026.xtreemfs.pbrpc.Volume\032\035.xtreemfs.pbrp" +
+      "c.emptyResponse\"\007\215\265\030/\000\000\000\022P\n\031xtreemfs_ren" +
+      "ew_capability\022\024.xtreemfs.pbrpc.XCap\032\024.xt" +
+      "reemfs.pbrpc.XCap\"\007\215\265\030%\000\000\000\022f\n\036xtreemfs_r" +
+      "eplication_to_master\022\034.xtreemfs.pbrpc.em" +
+      "ptyRequest\032\035.xtreemfs.pbrpc.emptyRespons" +
+      "e\"\007\215\265\030&\000\000\000\022k\n\024xtreemfs_replica_add\022+.xtr" +
+      "eemfs.pbrpc.xtreemfs_replica_addRequest\032" +
+      "\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265\030\'\000\000\000\022" +
+      "h\n\025xtreemfs_replica_list\022,.xtreemfs.pbrp",
+      "c.xtreemfs_replica_listRequest\032\030.xtreemf" +
+      "s.pbrpc.Replicas\"\007\215\265\030(\000\000\000\022s\n\027xtreemfs_re" +
+      "plica_remove\022..xtreemfs.pbrpc.xtreemfs_r" +
+      "eplica_removeRequest\032\037.xtreemfs.pbrpc.Fi" +
+      "leCredentials\"\007\215\265\030)\000\000\000\022z\n\031xtreemfs_resto" +
+      "re_database\0225.xtreemfs.pbrpc.xtreemfs_du" +
+      "mp_restore_databaseRequest\032\035.xtreemfs.pb" +
+      "rpc.emptyResponse\"\007\215\265\030*\000\000\000\022m\n\025xtreemfs_r" +
+      "estore_file\022,.xtreemfs.pbrpc.xtreemfs_re" +
+      "store_fileRequest\032\035.xtreemfs.pbrpc.empty",
+      "Response\"\007\215\265\030+\000\000\000\022_\n\016xtreemfs_rmvol\022%.xt" +
+      "reemfs.pbrpc.xtreemfs_rmvolRequest\032\035.xtr" +
+      "eemfs.pbrpc.emptyResponse\"\007\215\265\030,\000\000\000\022Y\n\021xt" +
+      "reemfs_shutdown\022\034.xtreemfs.pbrpc.emptyRe" +
+      "quest\032\035.xtreemfs.pbrpc.emptyResponse\"\007\215\265" +
+      "\030-\000\000\000\022y\n\031xtreemfs_update_file_size\0220.xtr" +
+      "eemfs.pbrpc.xtreemfs_update_file_sizeReq" +
+      "uest\032!.xtreemfs.pbrpc.timestampResponse\"" +
+      "\007\215\265\030.\000\000\000\022\244\001\n\"xtreemfs_set_replica_update" +
+      "_policy\0229.xtreemfs.pbrpc.xtreemfs_set_re",
+      "plica_update_policyRequest\032:.xtreemfs.pb" +
+      "rpc.xtreemfs_set_replica_update_policyRe" +
+      "sponse\"\007\215\265\0300\000\000\000\022\222\001\n\034xtreemfs_set_read_on" +
+      "ly_xattr\0223.xtreemfs.pbrpc.xtreemfs_set_r" +
+      "ead_only_xattrRequest\0324.xtreemfs.pbrpc.x" +
+      "treemfs_set_read_only_xattrResponse\"\007\215\265\030" +
+      "1\000\000\000\022\177\n\035xtreemfs_get_file_credentials\0224." +
+      "xtreemfs.pbrpc.xtreemfs_get_file_credent" +
+      "ialsRequest\032\037.xtreemfs.pbrpc.FileCredent" +
+      "ials\"\007\215\265\0302\000\000\000\022e\n\024xtreemfs_get_xlocset\022+.",
+      "xtreemfs.pbrpc.xtreemfs_get_xlocsetReque" +
+      "st\032\027.xtreemfs.pbrpc.XLocSet\"\007\215\265\0303\000\000\000\022v\n\025" +
+      "xtreemfs_create_files\022,.xtreemfs.pbrpc.x" +
+      "treemfs_create_filesRequest\032&.xtreemfs.p" +
+      "brpc.xtreemfs_batchResponse\"\007\215\265\0304\000\000\000\022r\n\023" +
+      "xtreemfs_stat_files\022*.xtreemfs.pbrpc.xtr" +
+      "eemfs_stat_filesRequest\032&.xtreemfs.pbrpc" +
+      ".xtreemfs_batchResponse\"\007\215\265\0305\000\000\000\022v\n\025xtre" +
+      "emfs_unlink_files\022,.xtreemfs.pbrpc.xtree" +
+      "mfs_unlink_filesRequest\032&.xtreemfs.pbrpc",
+      ".xtreemfs_batchResponse\"\007\215\265\0306\000\000\000\032\007\225\265\030!N\000" +
+      "\000B(\n&org.xtreemfs.pbrpc.generatedinterfa" +
+      "ces"
     };
     com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner assigner =
       new com.google.protobuf.Descriptors.FileDescriptor.InternalDescriptorAssigner() {
@@ -48596,6 +53760,36 @@ public final class MRC {
             com.google.protobuf.GeneratedMessage.FieldAccessorTable(
               internal_static_xtreemfs_pbrpc_xtreemfs_get_file_credentialsRequest_descriptor,
               new java.lang.String[] { "FileId", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor =
+            getDescriptor().getMessageTypes().get(53);
+          internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_create_filesRequest_descriptor,
+              new java.lang.String[] { "VolumeName", "Path", "Names", "Mode", "Attributes", "Coordinates", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_stat_filesRequest_descriptor =
+            getDescriptor().getMessageTypes().get(54);
+          internal_static_xtreemfs_pbrpc_xtreemfs_stat_filesRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_stat_filesRequest_descriptor,
+              new java.lang.String[] { "VolumeName", "Paths", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_unlink_filesRequest_descriptor =
+            getDescriptor().getMessageTypes().get(55);
+          internal_static_xtreemfs_pbrpc_xtreemfs_unlink_filesRequest_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_unlink_filesRequest_descriptor,
+              new java.lang.String[] { "VolumeName", "Paths", });
+          internal_static_xtreemfs_pbrpc_BatchResult_descriptor =
+            getDescriptor().getMessageTypes().get(56);
+          internal_static_xtreemfs_pbrpc_BatchResult_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_BatchResult_descriptor,
+              new java.lang.String[] { "PosixErrno", "ErrorMessage", "Stbuf", "Creds", });
+          internal_static_xtreemfs_pbrpc_xtreemfs_batchResponse_descriptor =
+            getDescriptor().getMessageTypes().get(57);
+          internal_static_xtreemfs_pbrpc_xtreemfs_batchResponse_fieldAccessorTable = new
+            com.google.protobuf.GeneratedMessage.FieldAccessorTable(
+              internal_static_xtreemfs_pbrpc_xtreemfs_batchResponse_descriptor,
+              new java.lang.String[] { "Results", "TimestampS", });
           com.google.protobuf.ExtensionRegistry registry =
             com.google.protobuf.ExtensionRegistry.newInstance();
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
@@ -48639,6 +53833,9 @@ public final class MRC {
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
+          registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.procId);
           registry.add(org.xtreemfs.foundation.pbrpc.generatedinterfaces.PBRPC.interfaceId);
           return registry;
         }
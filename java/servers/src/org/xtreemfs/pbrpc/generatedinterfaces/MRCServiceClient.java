@@ -557,6 +557,45 @@ public class MRCServiceClient {
          return xtreemfs_get_xlocset(server, authHeader, userCreds,msg);
     }
 
+    public RPCResponse<MRC.xtreemfs_batchResponse> xtreemfs_create_files(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_create_filesRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_batchResponse> response = new RPCResponse<MRC.xtreemfs_batchResponse>(MRC.xtreemfs_batchResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 52, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_batchResponse> xtreemfs_create_files(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, String volume_name, String path, List<String> names, int mode, int attributes, GlobalTypes.VivaldiCoordinates coordinates) throws IOException {
+         final MRC.xtreemfs_create_filesRequest msg = MRC.xtreemfs_create_filesRequest.newBuilder().setVolumeName(volume_name).setPath(path).addAllNames(names).setMode(mode).setAttributes(attributes).setCoordinates(coordinates).build();
+         return xtreemfs_create_files(server, authHeader, userCreds,msg);
+    }
+
+    public RPCResponse<MRC.xtreemfs_batchResponse> xtreemfs_stat_files(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_stat_filesRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_batchResponse> response = new RPCResponse<MRC.xtreemfs_batchResponse>(MRC.xtreemfs_batchResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 53, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_batchResponse> xtreemfs_stat_files(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, String volume_name, List<String> paths) throws IOException {
+         final MRC.xtreemfs_stat_filesRequest msg = MRC.xtreemfs_stat_filesRequest.newBuilder().setVolumeName(volume_name).addAllPaths(paths).build();
+         return xtreemfs_stat_files(server, authHeader, userCreds,msg);
+    }
+
+    public RPCResponse<MRC.xtreemfs_batchResponse> xtreemfs_unlink_files(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, MRC.xtreemfs_unlink_filesRequest input) throws IOException {
+         if (server == null) server = defaultServer;
+         if (server == null) throw new IllegalArgumentException("defaultServer must be set in constructor if you want to pass null as server in calls");
+         RPCResponse<MRC.xtreemfs_batchResponse> response = new RPCResponse<MRC.xtreemfs_batchResponse>(MRC.xtreemfs_batchResponse.getDefaultInstance());
+         client.sendRequest(server, authHeader, userCreds, 20001, 54, input, null, response, false);
+         return response;
+    }
+
+    public RPCResponse<MRC.xtreemfs_batchResponse> xtreemfs_unlink_files(InetSocketAddress server, Auth authHeader, UserCredentials userCreds, String volume_name, List<String> paths) throws IOException {
+         final MRC.xtreemfs_unlink_filesRequest msg = MRC.xtreemfs_unlink_filesRequest.newBuilder().setVolumeName(volume_name).addAllPaths(paths).build();
+         return xtreemfs_unlink_files(server, authHeader, userCreds,msg);
+    }
+
     public boolean clientIsAlive() {
         return client.isAlive();
     }
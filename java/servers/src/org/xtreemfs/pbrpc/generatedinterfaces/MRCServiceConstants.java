@@ -49,6 +49,9 @@ public class MRCServiceConstants {
     public static final int PROC_ID_XTREEMFS_SET_READ_ONLY_XATTR = 49;
     public static final int PROC_ID_XTREEMFS_GET_FILE_CREDENTIALS = 50;
     public static final int PROC_ID_XTREEMFS_GET_XLOCSET = 51;
+    public static final int PROC_ID_XTREEMFS_CREATE_FILES = 52;
+    public static final int PROC_ID_XTREEMFS_STAT_FILES = 53;
+    public static final int PROC_ID_XTREEMFS_UNLINK_FILES = 54;
 
     public static Message getRequestMessage(int procId) {
         switch (procId) {
@@ -93,6 +96,9 @@ public class MRCServiceConstants {
            case 49: return MRC.xtreemfs_set_read_only_xattrRequest.getDefaultInstance();
            case 50: return MRC.xtreemfs_get_file_credentialsRequest.getDefaultInstance();
            case 51: return MRC.xtreemfs_get_xlocsetRequest.getDefaultInstance();
+           case 52: return MRC.xtreemfs_create_filesRequest.getDefaultInstance();
+           case 53: return MRC.xtreemfs_stat_filesRequest.getDefaultInstance();
+           case 54: return MRC.xtreemfs_unlink_filesRequest.getDefaultInstance();
            default: throw new RuntimeException("unknown procedure id");
         }
     }
@@ -141,6 +147,9 @@ public class MRCServiceConstants {
            case 49: return MRC.xtreemfs_set_read_only_xattrResponse.getDefaultInstance();
            case 50: return GlobalTypes.FileCredentials.getDefaultInstance();
            case 51: return GlobalTypes.XLocSet.getDefaultInstance();
+           case 52: return MRC.xtreemfs_batchResponse.getDefaultInstance();
+           case 53: return MRC.xtreemfs_batchResponse.getDefaultInstance();
+           case 54: return MRC.xtreemfs_batchResponse.getDefaultInstance();
            default: throw new RuntimeException("unknown procedure id");
         }
     }
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.sandbox;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.xtreemfs.common.libxtreemfs.AsyncCallback;
+import org.xtreemfs.common.libxtreemfs.Client;
+import org.xtreemfs.common.libxtreemfs.ClientFactory;
+import org.xtreemfs.common.libxtreemfs.FileHandle;
+import org.xtreemfs.common.libxtreemfs.Options;
+import org.xtreemfs.common.libxtreemfs.Volume;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.AccessControlPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.KeyValuePair;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
+
+/**
+ * Compares the blocking and the asynchronous API of libxtreemfs. The same number of getattr, read and write
+ * operations is issued by a small pool of threads, once with each thread waiting for the completion of its
+ * operation and once with all operations being in flight at the same time. The metadata cache is disabled, so
+ * that each getattr is sent to the MRC.
+ * <p>
+ * Usage: BenchmarkAsyncOperations dirAddress [operations [threads]]
+ */
+public class BenchmarkAsyncOperations {
+
+    private static final int BLOCK_SIZE = 4096;
+
+    private static final int FILE_BLOCKS = 1024;
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("usage: BenchmarkAsyncOperations dirAddress [operations [threads]]");
+            System.exit(1);
+        }
+
+        Client client = null;
+        try {
+            String dirAddress = args[0];
+            int operations = (args.length > 1) ? Integer.valueOf(args[1]) : 10000;
+            int threads = (args.length > 2) ? Integer.valueOf(args[2]) : 4;
+            Logging.start(Logging.LEVEL_WARN);
+
+            final UserCredentials userCredentials = UserCredentials.newBuilder()
+                    .setUsername(System.getProperty("user.name")).addGroups("root").build();
+            Options options = new Options();
+            options.setMetadataCacheSize(0);
+            client = ClientFactory.createClient(dirAddress, userCredentials, null, options);
+            client.start();
+
+            final String volumeName = "benchmark_async_operations";
+            client.createVolume(RPCAuthentication.authNone, userCredentials, volumeName, 0777,
+                userCredentials.getUsername(), userCredentials.getGroups(0),
+                AccessControlPolicyType.ACCESS_CONTROL_POLICY_POSIX, StripingPolicyType.STRIPING_POLICY_RAID0, 128,
+                1, new ArrayList<KeyValuePair>());
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                Volume volume = client.openVolume(volumeName, null, options);
+                final FileHandle fileHandle = volume.openFile(userCredentials, "/data",
+                    SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                        | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(), 0644);
+                byte[] block = new byte[BLOCK_SIZE];
+                Arrays.fill(block, (byte) 'A');
+                for (int i = 0; i < FILE_BLOCKS; i++)
+                    fileHandle.write(userCredentials, block, block.length, (long) i * BLOCK_SIZE);
+                fileHandle.flush();
+
+                Operation[] ops = new Operation[] {
+
+                new Operation("getattr") {
+                    void runBlocking(int i) throws IOException {
+                        fileHandle.getAttr(userCredentials);
+                    }
+
+                    void runAsync(int i, Completion completion) {
+                        fileHandle.getAttrAsync(userCredentials, completion.<Stat> callback());
+                    }
+                },
+
+                new Operation("read") {
+                    void runBlocking(int i) throws IOException {
+                        fileHandle.read(userCredentials, new byte[BLOCK_SIZE], BLOCK_SIZE, offset(i));
+                    }
+
+                    void runAsync(int i, Completion completion) {
+                        fileHandle.readAsync(userCredentials, new byte[BLOCK_SIZE], 0, BLOCK_SIZE, offset(i),
+                            completion.<Integer> callback());
+                    }
+                },
+
+                new Operation("write") {
+                    void runBlocking(int i) throws IOException {
+                        fileHandle.write(userCredentials, new byte[BLOCK_SIZE], BLOCK_SIZE, offset(i));
+                        fileHandle.flush();
+                    }
+
+                    void runAsync(int i, Completion completion) {
+                        fileHandle.writeAsync(userCredentials, new byte[BLOCK_SIZE], 0, BLOCK_SIZE, offset(i),
+                            completion.<Integer> callback());
+                    }
+                } };
+
+                System.out.println(String.format("operations: %d, threads: %d", operations, threads));
+                for (Operation op : ops) {
+                    double blocking = runBlocking(executor, op, operations, threads);
+                    double async = runAsync(executor, op, operations, threads);
+                    System.out.println(String.format(
+                        "%-8s blocking %9.0f ops/s, asynchronous %9.0f ops/s, speedup %.2f", op.name + ":",
+                        blocking, async, async / blocking));
+                }
+
+                fileHandle.close();
+                volume.close();
+            } finally {
+                executor.shutdown();
+                client.deleteVolume(RPCAuthentication.authNone, userCredentials, volumeName);
+            }
+
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            System.exit(1);
+        } finally {
+            if (client != null)
+                client.shutdown();
+        }
+    }
+
+    private static long offset(int i) {
+        return (long) (i % FILE_BLOCKS) * BLOCK_SIZE;
+    }
+
+    /**
+     * Lets each thread execute its share of the operations one after another.
+     */
+    private static double runBlocking(ExecutorService executor, final Operation op, int operations, int threads)
+        throws Exception {
+        final CountDownLatch latch = new CountDownLatch(threads);
+        final AtomicInteger errors = new AtomicInteger();
+
+        long t0 = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            final int first = t * operations / threads;
+            final int last = (t + 1) * operations / threads;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = first; i < last; i++) {
+                        try {
+                            op.runBlocking(i);
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long t1 = System.nanoTime();
+
+        checkErrors(op, errors);
+        return operations * 1000000000.0 / (t1 - t0);
+    }
+
+    /**
+     * Lets each thread issue its share of the operations without waiting for their completion.
+     */
+    private static double runAsync(ExecutorService executor, final Operation op, int operations, int threads)
+        throws Exception {
+        final Completion completion = new Completion(operations);
+
+        long t0 = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            final int first = t * operations / threads;
+            final int last = (t + 1) * operations / threads;
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = first; i < last; i++)
+                        op.runAsync(i, completion);
+                }
+            });
+        }
+        if (!completion.latch.await(10, TimeUnit.MINUTES))
+            throw new IOException(op.name + ": operations did not complete in time");
+        long t1 = System.nanoTime();
+
+        checkErrors(op, completion.errors);
+        return operations * 1000000000.0 / (t1 - t0);
+    }
+
+    private static void checkErrors(Operation op, AtomicInteger errors) throws IOException {
+        if (errors.get() > 0)
+            throw new IOException(op.name + ": " + errors.get() + " operations failed");
+    }
+
+    private static abstract class Operation {
+
+        final String name;
+
+        Operation(String name) {
+            this.name = name;
+        }
+
+        abstract void runBlocking(int i) throws IOException;
+
+        abstract void runAsync(int i, Completion completion);
+    }
+
+    /**
+     * Counts the completed asynchronous operations of one run.
+     */
+    private static class Completion {
+
+        final CountDownLatch latch;
+
+        final AtomicInteger  errors = new AtomicInteger();
+
+        Completion(int operations) {
+            latch = new CountDownLatch(operations);
+        }
+
+        <T> AsyncCallback<T> callback() {
+            return new AsyncCallback<T>() {
+                @Override
+                public void completed(T result) {
+                    latch.countDown();
+                }
+
+                @Override
+                public void failed(IOException error) {
+                    errors.incrementAndGet();
+                    latch.countDown();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.sandbox;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import org.xtreemfs.foundation.checksums.ChecksumAlgorithm;
+import org.xtreemfs.foundation.checksums.ChecksumFactory;
+import org.xtreemfs.foundation.checksums.algorithms.CRC32C;
+import org.xtreemfs.foundation.checksums.provider.JavaChecksumProvider;
+
+/**
+ * Measures the throughput of the checksum algorithms over direct buffers of the sizes of OSD objects, as the OSD
+ * hashes them on writes and on verified reads. Each algorithm hashes the buffers in place, and, for comparison,
+ * after copying them to a new array first, as the algorithms did before they could hash direct buffers in place.
+ * Each measurement is preceded by a warm-up run of the same length.
+ * <p>
+ * Usage: BenchmarkChecksums [millisPerRun [algorithm ...]]
+ */
+public class BenchmarkChecksums {
+
+    private static final int[]    BUFFER_SIZES_KB = { 64, 128, 256, 512, 1024, 2048 };
+
+    private static final String[] ALGORITHMS      = { "Adler32", "CRC32", "CRC32C" };
+
+    public static void main(String[] args) throws Exception {
+        int millisPerRun = (args.length > 0) ? Integer.valueOf(args[0]) : 1000;
+        String[] algorithms = ALGORITHMS;
+        if (args.length > 1) {
+            algorithms = new String[args.length - 1];
+            System.arraycopy(args, 1, algorithms, 0, algorithms.length);
+        }
+
+        ChecksumFactory factory = ChecksumFactory.getInstance();
+        factory.addProvider(new JavaChecksumProvider());
+
+        System.out.println(String.format("ms per run: %d, CRC32C intrinsic: %b, java: %s", millisPerRun,
+                CRC32C.isIntrinsic(), System.getProperty("java.version")));
+
+        Random random = new Random(0);
+        for (String name : algorithms) {
+            ChecksumAlgorithm algorithm = factory.getThreadAlgorithm(name);
+            for (int sizeKB : BUFFER_SIZES_KB) {
+                byte[] bytes = new byte[sizeKB * 1024];
+                random.nextBytes(bytes);
+                ByteBuffer buf = ByteBuffer.allocateDirect(bytes.length);
+                buf.put(bytes);
+                buf.flip();
+
+                run(algorithm, buf, false, millisPerRun);
+                double inPlace = run(algorithm, buf, false, millisPerRun);
+                run(algorithm, buf, true, millisPerRun);
+                double copied = run(algorithm, buf, true, millisPerRun);
+                System.out.println(String.format("%-8s %5d KiB: in place %9.2f MB/s, copied %9.2f MB/s, speedup %.2f",
+                        name, sizeKB, inPlace, copied, inPlace / copied));
+            }
+        }
+    }
+
+    /**
+     * @return the throughput in MB/s
+     */
+    private static double run(ChecksumAlgorithm algorithm, ByteBuffer buf, boolean copy, int millis) {
+        long bytes = 0;
+        long checksum = 0;
+        final long t0 = System.nanoTime();
+        final long end = t0 + millis * 1000L * 1000;
+        long t1;
+        do {
+            if (copy) {
+                byte[] array = new byte[buf.capacity()];
+                buf.get(array);
+                buf.position(0);
+                algorithm.update(ByteBuffer.wrap(array));
+            } else {
+                algorithm.update(buf);
+            }
+            checksum ^= algorithm.getValue();
+            bytes += buf.remaining();
+            t1 = System.nanoTime();
+        } while (t1 < end);
+
+        // keeps the checksums from being optimized away
+        if (checksum == 42) {
+            System.out.print("");
+        }
+        return bytes * 1000.0 / (t1 - t0);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.sandbox;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.ObjectChecksumMap;
+import org.xtreemfs.osd.storage.ObjectVersionMap;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+
+/**
+ * Measures the heap footprint and lookup speed of the per-file object version and checksum tables kept in
+ * {@link FileMetadata}, compared to the boxed <code>HashMap</code> representation that was used before.
+ * <p>
+ * Usage: BenchmarkFileMetadata [numFiles [objsPerFile]]
+ * <p>
+ * Run with a fixed heap size (e.g. -Xms2g -Xmx2g) to get stable numbers.
+ */
+public class BenchmarkFileMetadata {
+
+    public static void main(String[] args) {
+        try {
+            int numFiles = (args.length > 0) ? Integer.valueOf(args[0]) : 1000;
+            int objsPerFile = (args.length > 1) ? Integer.valueOf(args[1]) : 1024;
+
+            Replica r = Replica.newBuilder().setReplicationFlags(0).setStripingPolicy(
+                    StripingPolicy.newBuilder().setType(StripingPolicyType.STRIPING_POLICY_RAID0).setWidth(1)
+                            .setStripeSize(128)).build();
+            StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+
+            System.out.println("files: " + numFiles + ", objects per file: " + objsPerFile);
+
+            // warm up both code paths
+            createBoxed(100, objsPerFile);
+            createPrimitive(sp, 100, objsPerFile);
+
+            long before = usedHeap();
+            long t0 = System.nanoTime();
+            Object[] boxed = createBoxed(numFiles, objsPerFile);
+            long t1 = System.nanoTime();
+            long boxedHeap = usedHeap() - before;
+            long boxedLookup = lookupBoxed(boxed, objsPerFile);
+            System.out.println(String.format("boxed HashMaps:     %10d bytes/file, load %6d ms, lookup %4d ns/obj",
+                    boxedHeap / numFiles, (t1 - t0) / 1000000, boxedLookup / ((long) numFiles * objsPerFile)));
+            boxed = null;
+
+            before = usedHeap();
+            t0 = System.nanoTime();
+            FileMetadata[] primitive = createPrimitive(sp, numFiles, objsPerFile);
+            t1 = System.nanoTime();
+            long primitiveHeap = usedHeap() - before;
+            long primitiveLookup = lookupPrimitive(primitive, objsPerFile);
+            System.out.println(String.format("primitive tables:   %10d bytes/file, load %6d ms, lookup %4d ns/obj",
+                    primitiveHeap / numFiles, (t1 - t0) / 1000000,
+                    primitiveLookup / ((long) numFiles * objsPerFile)));
+            System.out.println(String.format("estimated by FileMetadata: %d bytes/file",
+                    primitive[0].getObjectTablesHeapSize()));
+
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static Object[] createBoxed(int numFiles, int objsPerFile) {
+        Object[] files = new Object[numFiles];
+        for (int f = 0; f < numFiles; f++) {
+            Map<Long, Long> versions = new HashMap<Long, Long>();
+            Map<Long, Map<Long, Long>> checksums = new HashMap<Long, Map<Long, Long>>();
+            for (long o = 0; o < objsPerFile; o++) {
+                versions.put(o, o + 1);
+                Map<Long, Long> c = new HashMap<Long, Long>();
+                c.put(o + 1, o * 31);
+                checksums.put(o, c);
+            }
+            files[f] = new Object[] { versions, checksums };
+        }
+        return files;
+    }
+
+    private static FileMetadata[] createPrimitive(StripingPolicyImpl sp, int numFiles, int objsPerFile) {
+        FileMetadata[] files = new FileMetadata[numFiles];
+        for (int f = 0; f < numFiles; f++) {
+            FileMetadata md = new FileMetadata(sp);
+            ObjectVersionMap versions = new ObjectVersionMap();
+            md.initLatestObjectVersions(versions);
+            md.initLargestObjectVersions(versions);
+            md.initObjectChecksums(new ObjectChecksumMap());
+            for (long o = 0; o < objsPerFile; o++) {
+                md.updateObjectVersion(o, o + 1);
+                md.updateObjectChecksum(o, o + 1, o * 31);
+            }
+            files[f] = md;
+        }
+        return files;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long lookupBoxed(Object[] files, int objsPerFile) {
+        long sum = 0;
+        long t0 = System.nanoTime();
+        for (Object file : files) {
+            Map<Long, Long> versions = (Map<Long, Long>) ((Object[]) file)[0];
+            Map<Long, Map<Long, Long>> checksums = (Map<Long, Map<Long, Long>>) ((Object[]) file)[1];
+            for (long o = 0; o < objsPerFile; o++) {
+                long v = versions.get(o);
+                sum += v + checksums.get(o).get(v);
+            }
+        }
+        long t1 = System.nanoTime();
+        if (sum == 42)
+            System.out.println();
+        return t1 - t0;
+    }
+
+    private static long lookupPrimitive(FileMetadata[] files, int objsPerFile) {
+        long sum = 0;
+        long t0 = System.nanoTime();
+        for (FileMetadata md : files) {
+            for (long o = 0; o < objsPerFile; o++) {
+                long v = md.getLatestObjectVersion(o);
+                sum += v + md.getObjectChecksum(o, v);
+            }
+        }
+        long t1 = System.nanoTime();
+        if (sum == 42)
+            System.out.println();
+        return t1 - t0;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime rt = Runtime.getRuntime();
+        for (int i = 0; i < 4; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.sandbox;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.client.RPCNIOSocketClient;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.AccessControlPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.KeyValuePair;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceClient;
+
+/**
+ * Measures the metadata operation rate of an MRC for a growing number of concurrent clients. A volume with
+ * "numEntries" directories is created. Then, for some seconds, each client thread repeatedly either stats a
+ * random directory or, with a probability of "writePercent" percent, creates and removes a directory of its own.
+ * Run it against MRCs with different settings of "processing.read_threads" to compare the scalability.
+ * <p>
+ * Usage: BenchmarkMetadataOps mrcHost:port [maxThreads [seconds [writePercent [numEntries]]]]
+ */
+public class BenchmarkMetadataOps {
+
+    private static final String VOLUME_NAME = "benchmark_metadata_ops";
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("usage: BenchmarkMetadataOps mrcHost:port [maxThreads [seconds [writePercent "
+                + "[numEntries]]]]");
+            System.exit(1);
+        }
+
+        TimeSync timeSync = null;
+        RPCNIOSocketClient rpcClient = null;
+        try {
+            String[] mrcAddress = args[0].split(":");
+            final InetSocketAddress mrc = new InetSocketAddress(mrcAddress[0], Integer.valueOf(mrcAddress[1]));
+            int maxThreads = (args.length > 1) ? Integer.valueOf(args[1]) : 16;
+            int seconds = (args.length > 2) ? Integer.valueOf(args[2]) : 10;
+            int writePercent = (args.length > 3) ? Integer.valueOf(args[3]) : 10;
+            int numEntries = (args.length > 4) ? Integer.valueOf(args[4]) : 1000;
+            Logging.start(Logging.LEVEL_WARN);
+            timeSync = TimeSync.initializeLocal(50);
+
+            rpcClient = new RPCNIOSocketClient(null, 15000, 5 * 60 * 1000, "BenchmarkMetadataOps");
+            rpcClient.start();
+            rpcClient.waitForStartup();
+            MRCServiceClient client = new MRCServiceClient(rpcClient, mrc);
+            UserCredentials userCredentials = UserCredentials.newBuilder()
+                    .setUsername(System.getProperty("user.name")).addGroups("root").build();
+
+            invoke(client.xtreemfs_mkvol(null, RPCAuthentication.authNone, userCredentials,
+                AccessControlPolicyType.ACCESS_CONTROL_POLICY_POSIX, StripingPolicy.newBuilder()
+                        .setType(StripingPolicyType.STRIPING_POLICY_RAID0).setStripeSize(128).setWidth(1).build(),
+                "", 0777, VOLUME_NAME, "", "", new ArrayList<KeyValuePair>(), 0));
+            try {
+                for (int i = 0; i < numEntries; i++)
+                    invoke(client.mkdir(null, RPCAuthentication.authNone, userCredentials, VOLUME_NAME, "/d" + i,
+                        0777));
+
+                System.out.println(String.format("entries: %d, write operations: %d%%, duration: %d s",
+                    numEntries, writePercent, seconds));
+                for (int threads = 1; threads <= maxThreads; threads *= 2)
+                    run(client, userCredentials, threads, seconds, writePercent, numEntries);
+
+            } finally {
+                invoke(client.xtreemfs_rmvol(null, RPCAuthentication.authNone, userCredentials, VOLUME_NAME));
+            }
+
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            System.exit(1);
+        } finally {
+            if (rpcClient != null)
+                rpcClient.shutdown();
+            if (timeSync != null)
+                timeSync.close();
+        }
+    }
+
+    private static void run(final MRCServiceClient client, final UserCredentials userCredentials, int numThreads,
+        int seconds, final int writePercent, final int numEntries) throws Exception {
+
+        final AtomicLong reads = new AtomicLong();
+        final AtomicLong writes = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final long deadline = System.currentTimeMillis() + seconds * 1000L;
+
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < numThreads; i++) {
+            final String dirName = "/t" + numThreads + "_" + i;
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    Random random = new Random();
+                    try {
+                        while (System.currentTimeMillis() < deadline) {
+                            if (random.nextInt(100) < writePercent) {
+                                invoke(client.mkdir(null, RPCAuthentication.authNone, userCredentials,
+                                    VOLUME_NAME, dirName, 0777));
+                                invoke(client.rmdir(null, RPCAuthentication.authNone, userCredentials,
+                                    VOLUME_NAME, dirName));
+                                writes.addAndGet(2);
+                            } else {
+                                invoke(client.getattr(null, RPCAuthentication.authNone, userCredentials,
+                                    VOLUME_NAME, "/d" + random.nextInt(numEntries), 0));
+                                reads.incrementAndGet();
+                            }
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                        ex.printStackTrace();
+                    }
+                }
+            });
+        }
+
+        long t0 = System.nanoTime();
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        long t1 = System.nanoTime();
+
+        double secondsElapsed = (t1 - t0) / 1e9;
+        System.out.println(String.format("threads %2d: %9.0f ops/s (reads %9.0f/s, writes %8.0f/s)%s", numThreads,
+            (reads.get() + writes.get()) / secondsElapsed, reads.get() / secondsElapsed, writes.get()
+                / secondsElapsed, errors.get() > 0 ? ", " + errors.get() + " threads failed" : ""));
+    }
+
+    private static void invoke(RPCResponse<?> response) throws IOException, InterruptedException {
+        try {
+            response.get();
+        } finally {
+            response.freeBuffers();
+        }
+    }
+}
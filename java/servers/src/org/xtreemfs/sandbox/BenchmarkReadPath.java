@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.sandbox;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Properties;
+
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.HashStorageLayout;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.osd.storage.ObjectInformation;
+import org.xtreemfs.osd.storage.StorageLayout;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+
+/**
+ * Measures the throughput of the OSD's read path from an object file to a client connection, with buffered
+ * reads and with reads from memory-mapped object files (storage.mapped_reads). Objects are read through a
+ * {@link HashStorageLayout} and written to a local TCP connection whose receiver discards the data, like the
+ * OSD's RPC server sends read responses. The objects are read once before measuring, so that they are served
+ * from the page cache and the numbers reflect the cost of copying the data rather than the device speed.
+ * <p>
+ * Usage: BenchmarkReadPath [path [dataSizeMB [rounds]]]
+ */
+public class BenchmarkReadPath {
+
+    private static final int[] OBJECT_SIZES_KB = { 128, 256, 512, 1024, 2048 };
+
+    public static void main(String[] args) {
+        try {
+            String path = (args.length > 0) ? args[0] : "/tmp/bench_read";
+            int dataSizeMB = (args.length > 1) ? Integer.valueOf(args[1]) : 256;
+            int rounds = (args.length > 2) ? Integer.valueOf(args[2]) : 5;
+            Logging.start(Logging.LEVEL_ERROR, Category.all);
+
+            // a receiver that discards all data
+            final ServerSocketChannel server = ServerSocketChannel.open();
+            server.socket().bind(new InetSocketAddress("localhost", 0));
+            Thread receiver = new Thread() {
+                public void run() {
+                    try {
+                        SocketChannel con = server.accept();
+                        ByteBuffer buf = ByteBuffer.allocateDirect(1024 * 1024);
+                        while (con.read(buf) >= 0)
+                            buf.clear();
+                    } catch (Exception exc) {
+                        // connection closed
+                    }
+                }
+            };
+            receiver.setDaemon(true);
+            receiver.start();
+            SocketChannel client = SocketChannel.open(server.socket().getLocalSocketAddress());
+
+            System.out.println("data size: " + dataSizeMB + " MiB, rounds: " + rounds);
+            for (int objSizeKB : OBJECT_SIZES_KB) {
+                FSUtils.delTree(new java.io.File(path));
+                long buffered = run(path, false, objSizeKB, dataSizeMB, rounds, client);
+                long mapped = run(path, true, objSizeKB, dataSizeMB, rounds, client);
+                System.out.println(String.format("%5d KiB objects: buffered %6d MiB/s, mapped %6d MiB/s", objSizeKB,
+                    buffered, mapped));
+            }
+            client.close();
+
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static long run(String path, boolean mapped, int objSizeKB, int dataSizeMB, int rounds,
+        SocketChannel client) throws Exception {
+
+        OSDConfig config = new OSDConfig(createOSDProperties(path + "/"));
+        config.setDefaults();
+        config.setUseMappedReads(mapped);
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+
+        Replica r = Replica.newBuilder().setReplicationFlags(0).setStripingPolicy(
+            StripingPolicy.newBuilder().setType(StripingPolicyType.STRIPING_POLICY_RAID0).setWidth(1)
+                    .setStripeSize(objSizeKB)).build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+        final String fileId = "BENCH:" + objSizeKB;
+        final int numObjs = Math.max(dataSizeMB * 1024 / objSizeKB, 1);
+
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+        if (md.getLastObjectNumber() < numObjs - 1) {
+            ReusableBuffer buf = BufferPool.allocate(objSizeKB * 1024);
+            while (buf.hasRemaining())
+                buf.put((byte) 'A');
+            buf.flip();
+            for (int i = 0; i < numObjs; i++) {
+                layout.writeObject(fileId, md, buf.createViewBuffer(), i, 0, 1, false, false);
+            }
+            BufferPool.free(buf);
+        }
+
+        // warm up the page cache and the JIT
+        send(layout, md, fileId, numObjs, client);
+
+        long t0 = System.nanoTime();
+        long bytes = 0;
+        for (int i = 0; i < rounds; i++)
+            bytes += send(layout, md, fileId, numObjs, client);
+        long t1 = System.nanoTime();
+
+        return bytes * 1000000000L / (t1 - t0) / (1024 * 1024);
+    }
+
+    private static long send(StorageLayout layout, FileMetadata md, String fileId, int numObjs, SocketChannel client)
+        throws Exception {
+        long bytes = 0;
+        for (int i = 0; i < numObjs; i++) {
+            ObjectInformation oi = layout.readObjectForTransfer(fileId, md, i, 0, StorageLayout.FULL_OBJECT_LENGTH, md
+                    .getLatestObjectVersion(i));
+            ReusableBuffer data = oi.getData();
+            data.position(0);
+            while (data.hasRemaining())
+                bytes += client.write(data.getBuffer());
+            BufferPool.free(data);
+        }
+        return bytes;
+    }
+
+    private static Properties createOSDProperties(String dir) {
+        Properties props = new Properties();
+        props.setProperty("dir_service.host", "localhost");
+        props.setProperty("dir_service.port", "33638");
+        props.setProperty("object_dir", dir);
+        props.setProperty("debug.level", "" + 3);
+        props.setProperty("debug.categories", "all");
+        props.setProperty("listen.port", "3333");
+        props.setProperty("http_port", "3334");
+        props.setProperty("listen.address", "localhost");
+        props.setProperty("local_clock_renewal", "0");
+        props.setProperty("remote_time_sync", "60000");
+        props.setProperty("ssl.enabled", "false");
+        props.setProperty("report_free_space", "true");
+        props.setProperty("checksums.enabled", "false");
+        props.setProperty("capability_secret", "secretPassphrase");
+        props.setProperty("uuid", "bench");
+        return props;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.sandbox;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.client.RPCNIOSocketClient;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.Ping;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.Ping.PingResponse;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.PingServiceClient;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.foundation.pbrpc.server.RPCNIOSocketServer;
+import org.xtreemfs.foundation.pbrpc.server.RPCServerRequest;
+import org.xtreemfs.foundation.pbrpc.server.RPCServerRequestListener;
+import org.xtreemfs.foundation.pbrpc.utils.ReusableBufferInputStream;
+
+/**
+ * Measures the cost of tracking the timeouts of many outstanding requests in the PBRPC client. A client sends
+ * "numRequests" requests to a server that never answers. While they are outstanding, the CPU time of the client's
+ * selector thread and the latency of ping requests to a second server are measured for some seconds. Afterwards,
+ * the benchmark waits for all outstanding requests to time out and reports how late the last one failed.
+ * <p>
+ * Usage: BenchmarkRequestTimeouts [numRequests [requestTimeoutMs [seconds [port]]]]
+ */
+public class BenchmarkRequestTimeouts {
+
+    public static void main(String[] args) {
+        TimeSync timeSync = null;
+        try {
+            int numRequests = (args.length > 0) ? Integer.valueOf(args[0]) : 100000;
+            int requestTimeout = (args.length > 1) ? Integer.valueOf(args[1]) : 20000;
+            int seconds = (args.length > 2) ? Integer.valueOf(args[2]) : 10;
+            int port = (args.length > 3) ? Integer.valueOf(args[3]) : 32640;
+            Logging.start(Logging.LEVEL_WARN);
+            timeSync = TimeSync.initializeLocal(50);
+
+            run(numRequests, requestTimeout, seconds, port);
+
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            System.exit(1);
+        } finally {
+            if (timeSync != null)
+                timeSync.close();
+        }
+    }
+
+    private static void run(int numRequests, int requestTimeout, int seconds, int port) throws Exception {
+
+        // answers no request
+        RPCNIOSocketServer silentServer = new RPCNIOSocketServer(port, null, new RPCServerRequestListener() {
+            @Override
+            public void receiveRecord(RPCServerRequest rq) {
+                rq.freeBuffers();
+            }
+        }, null, -1, Integer.MAX_VALUE);
+        RPCNIOSocketServer echoServer = new RPCNIOSocketServer(port + 1, null, new RPCServerRequestListener() {
+            @Override
+            public void receiveRecord(RPCServerRequest rq) {
+                try {
+                    Ping.PingRequest pingRq = Ping.PingRequest.parseFrom(new ReusableBufferInputStream(rq
+                            .getMessage()));
+                    rq.sendResponse(Ping.PingResponse.newBuilder().setResult(
+                        Ping.PingResponse.PingResult.newBuilder().setText(pingRq.getText())).build(), null);
+                } catch (Exception ex) {
+                    rq.sendError(RPC.ErrorType.GARBAGE_ARGS, RPC.POSIXErrno.POSIX_ERROR_EINVAL, ex.toString());
+                }
+            }
+        }, null);
+        RPCNIOSocketClient client = new RPCNIOSocketClient(null, requestTimeout, requestTimeout + 5 * 60 * 1000,
+            "BenchmarkRequestTimeouts");
+
+        silentServer.start();
+        echoServer.start();
+        client.start();
+        silentServer.waitForStartup();
+        echoServer.waitForStartup();
+        client.waitForStartup();
+
+        try {
+            final UserCredentials userCredentials = UserCredentials.newBuilder().setUsername("benchmark")
+                    .addGroups("benchmark").build();
+            PingServiceClient silentClient = new PingServiceClient(client, new InetSocketAddress("localhost", port));
+            PingServiceClient echoClient = new PingServiceClient(client, new InetSocketAddress("localhost",
+                port + 1));
+
+            List<RPCResponse<PingResponse>> responses = new ArrayList<RPCResponse<PingResponse>>(numRequests);
+            for (int i = 0; i < numRequests; i++) {
+                responses.add(silentClient.doPing(null, RPCAuthentication.authNone, userCredentials, "ping", false,
+                    null));
+            }
+            final long deadline = System.currentTimeMillis() + requestTimeout;
+            while (silentServer.getPendingRequests() < numRequests && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            System.out.println(String.format("outstanding requests: %d, received by the server: %d", numRequests,
+                silentServer.getPendingRequests()));
+
+            ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            final long cpu0 = threadMXBean.getThreadCpuTime(client.getId());
+            final long t0 = System.nanoTime();
+            final long end = System.currentTimeMillis() + seconds * 1000L;
+            long numPings = 0;
+            long sumLatency = 0;
+            long maxLatency = 0;
+            while (System.currentTimeMillis() < end) {
+                final long start = System.nanoTime();
+                RPCResponse<PingResponse> response = echoClient.doPing(null, RPCAuthentication.authNone,
+                    userCredentials, "probe", false, null);
+                try {
+                    response.get();
+                } finally {
+                    response.freeBuffers();
+                }
+                final long latency = System.nanoTime() - start;
+                numPings++;
+                sumLatency += latency;
+                maxLatency = Math.max(maxLatency, latency);
+                Thread.sleep(1);
+            }
+            final long cpu1 = threadMXBean.getThreadCpuTime(client.getId());
+            final long t1 = System.nanoTime();
+            System.out.println(String.format(
+                "selector thread CPU: %.1f ms/s, probe latency: avg %.3f ms, max %.3f ms (%d probes)",
+                (cpu1 - cpu0) / 1e6 / ((t1 - t0) / 1e9), sumLatency / 1e6 / numPings, maxLatency / 1e6, numPings));
+
+            int numTimedOut = 0;
+            for (RPCResponse<PingResponse> response : responses) {
+                try {
+                    response.get();
+                    BufferPool.free(response.getData());
+                } catch (IOException ex) {
+                    numTimedOut++;
+                } finally {
+                    response.freeBuffers();
+                }
+            }
+            System.out.println(String.format("requests timed out: %d, last one %d ms after its deadline",
+                numTimedOut, System.currentTimeMillis() - deadline));
+
+        } finally {
+            client.shutdown();
+            client.waitForShutdown();
+            echoServer.shutdown();
+            echoServer.waitForShutdown();
+            silentServer.shutdown();
+            silentServer.waitForShutdown();
+        }
+    }
+}
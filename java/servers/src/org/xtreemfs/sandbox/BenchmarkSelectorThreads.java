@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.sandbox;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.xtreemfs.foundation.TimeSync;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.client.RPCNIOSocketClient;
+import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.Ping;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.Ping.PingResponse;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.PingServiceClient;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.foundation.pbrpc.server.RPCNIOSocketServer;
+import org.xtreemfs.foundation.pbrpc.server.RPCServerRequest;
+import org.xtreemfs.foundation.pbrpc.server.RPCServerRequestListener;
+import org.xtreemfs.foundation.pbrpc.utils.ReusableBufferInputStream;
+import org.xtreemfs.foundation.pbrpc.utils.WriteCoalescing;
+
+/**
+ * Measures the request rate and throughput of the PBRPC server for a growing number of selector threads. For
+ * each number of selector threads, a server that echoes the data of ping requests is started on the loopback
+ * interface, and a number of clients, each with its own connection, send requests with a fixed amount of data
+ * for some seconds, each keeping several requests in flight. Optionally, server and clients gather up to
+ * "maxMessagesPerWrite" queued messages into one write.
+ * <p>
+ * Usage: BenchmarkSelectorThreads [maxSelectorThreads [clients [requestSizeKB [requestsInFlight [seconds [port
+ * [maxMessagesPerWrite]]]]]]]
+ */
+public class BenchmarkSelectorThreads {
+
+    public static void main(String[] args) {
+        TimeSync timeSync = null;
+        try {
+            int maxSelectorThreads = (args.length > 0) ? Integer.valueOf(args[0]) : 8;
+            int numClients = (args.length > 1) ? Integer.valueOf(args[1]) : 16;
+            int requestSizeKB = (args.length > 2) ? Integer.valueOf(args[2]) : 4;
+            int requestsInFlight = (args.length > 3) ? Integer.valueOf(args[3]) : 8;
+            int seconds = (args.length > 4) ? Integer.valueOf(args[4]) : 10;
+            int port = (args.length > 5) ? Integer.valueOf(args[5]) : 32640;
+            int maxMessagesPerWrite = (args.length > 6) ? Integer.valueOf(args[6]) : 1;
+            Logging.start(Logging.LEVEL_WARN);
+            timeSync = TimeSync.initializeLocal(50);
+
+            System.out.println(String.format(
+                "clients: %d, request size: %d KiB, requests in flight per client: %d, duration: %d s, "
+                    + "messages per write: %d", numClients, requestSizeKB, requestsInFlight, seconds,
+                maxMessagesPerWrite));
+            for (int threads = 1; threads <= maxSelectorThreads; threads *= 2) {
+                run(port, threads, numClients, requestSizeKB * 1024, requestsInFlight, seconds, maxMessagesPerWrite);
+            }
+
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            System.exit(1);
+        } finally {
+            if (timeSync != null)
+                timeSync.close();
+        }
+    }
+
+    private static void run(int port, int numSelectorThreads, int numClients, final int requestSize,
+        final int requestsInFlight, int seconds, int maxMessagesPerWrite) throws Exception {
+
+        RPCNIOSocketServer server = new RPCNIOSocketServer(port, null, new RPCServerRequestListener() {
+            @Override
+            public void receiveRecord(RPCServerRequest rq) {
+                try {
+                    Ping.PingRequest pingRq = Ping.PingRequest.parseFrom(new ReusableBufferInputStream(rq
+                            .getMessage()));
+                    Ping.PingResponse resp = Ping.PingResponse.newBuilder().setResult(
+                        Ping.PingResponse.PingResult.newBuilder().setText(pingRq.getText())).build();
+
+                    ReusableBuffer data = null;
+                    if (rq.getData() != null) {
+                        data = rq.getData().createViewBuffer();
+                        data.position(data.limit());
+                    }
+                    rq.sendResponse(resp, data);
+                } catch (Exception ex) {
+                    rq.sendError(RPC.ErrorType.GARBAGE_ARGS, RPC.POSIXErrno.POSIX_ERROR_EINVAL, ex.toString());
+                }
+            }
+        }, null, -1, RPCNIOSocketServer.DEFAULT_MAX_CLIENT_Q_LENGTH, numSelectorThreads);
+        server.setWriteCoalescing(new WriteCoalescing(maxMessagesPerWrite, WriteCoalescing.DEFAULT_MAX_BYTES_PER_WRITE));
+        server.start();
+        server.waitForStartup();
+
+        final InetSocketAddress address = new InetSocketAddress("localhost", port);
+        final UserCredentials userCredentials = UserCredentials.newBuilder().setUsername("benchmark")
+                .addGroups("benchmark").build();
+        final AtomicLong requests = new AtomicLong();
+        final AtomicLong errors = new AtomicLong();
+        final long deadline = System.currentTimeMillis() + seconds * 1000L;
+
+        List<RPCNIOSocketClient> clients = new ArrayList<RPCNIOSocketClient>();
+        List<Thread> threads = new ArrayList<Thread>();
+        try {
+            for (int i = 0; i < numClients; i++) {
+                final RPCNIOSocketClient client = new RPCNIOSocketClient(null, 5000, 5 * 60 * 1000,
+                    "BenchmarkSelectorThreads" + i);
+                client.setWriteCoalescing(new WriteCoalescing(maxMessagesPerWrite,
+                    WriteCoalescing.DEFAULT_MAX_BYTES_PER_WRITE));
+                client.start();
+                client.waitForStartup();
+                clients.add(client);
+
+                threads.add(new Thread() {
+                    @Override
+                    public void run() {
+                        PingServiceClient pingClient = new PingServiceClient(client, address);
+                        byte[] data = new byte[requestSize];
+                        List<RPCResponse<PingResponse>> responses = new ArrayList<RPCResponse<PingResponse>>(
+                            requestsInFlight);
+                        try {
+                            while (System.currentTimeMillis() < deadline) {
+                                for (int j = 0; j < requestsInFlight; j++) {
+                                    responses.add(pingClient.doPing(null, RPCAuthentication.authNone,
+                                        userCredentials, "ping", false, ReusableBuffer.wrap(data)));
+                                }
+                                for (RPCResponse<PingResponse> response : responses) {
+                                    try {
+                                        response.get();
+                                        BufferPool.free(response.getData());
+                                        requests.incrementAndGet();
+                                    } finally {
+                                        response.freeBuffers();
+                                    }
+                                }
+                                responses.clear();
+                            }
+                        } catch (Exception ex) {
+                            errors.incrementAndGet();
+                            ex.printStackTrace();
+                        }
+                    }
+                });
+            }
+
+            long t0 = System.nanoTime();
+            for (Thread thread : threads) {
+                thread.start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            long t1 = System.nanoTime();
+
+            double secondsElapsed = (t1 - t0) / 1e9;
+            System.out.println(String.format(
+                "selector threads %2d: %9.0f requests/s, %8.1f MiB/s, responses: %s%s", numSelectorThreads,
+                requests.get() / secondsElapsed, requests.get() * 2.0 * requestSize / secondsElapsed / (1024 * 1024),
+                server.getWriteCoalescing(), errors.get() > 0 ? ", " + errors.get() + " clients failed" : ""));
+
+        } finally {
+            for (RPCNIOSocketClient client : clients) {
+                client.shutdown();
+                client.waitForShutdown();
+            }
+            server.shutdown();
+            server.waitForShutdown();
+        }
+    }
+}
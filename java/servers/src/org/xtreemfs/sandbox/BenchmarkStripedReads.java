@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.sandbox;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.xtreemfs.common.libxtreemfs.Client;
+import org.xtreemfs.common.libxtreemfs.ClientFactory;
+import org.xtreemfs.common.libxtreemfs.FileHandle;
+import org.xtreemfs.common.libxtreemfs.Options;
+import org.xtreemfs.common.libxtreemfs.Volume;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.AccessControlPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.KeyValuePair;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+
+/**
+ * Measures the throughput of large reads with libxtreemfs for growing stripe widths, once with the objects of
+ * a read request being read one after another and once with concurrent object reads. For each stripe width, a
+ * volume is created, a file is written and read several times with both settings, and the volume is deleted
+ * again. The stripe width is bounded by the number of OSDs registered at the DIR.
+ * <p>
+ * Usage: BenchmarkStripedReads dirAddress [maxWidth [fileSizeMB [stripeSizeKB [readSizeMB [rounds]]]]]
+ */
+public class BenchmarkStripedReads {
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("usage: BenchmarkStripedReads dirAddress [maxWidth [fileSizeMB [stripeSizeKB "
+                + "[readSizeMB [rounds]]]]]");
+            System.exit(1);
+        }
+
+        Client client = null;
+        try {
+            String dirAddress = args[0];
+            int maxWidth = (args.length > 1) ? Integer.valueOf(args[1]) : 8;
+            int fileSizeMB = (args.length > 2) ? Integer.valueOf(args[2]) : 256;
+            int stripeSizeKB = (args.length > 3) ? Integer.valueOf(args[3]) : 128;
+            int readSizeMB = (args.length > 4) ? Integer.valueOf(args[4]) : 16;
+            int rounds = (args.length > 5) ? Integer.valueOf(args[5]) : 3;
+            Logging.start(Logging.LEVEL_WARN);
+
+            UserCredentials userCredentials = UserCredentials.newBuilder()
+                    .setUsername(System.getProperty("user.name")).addGroups("root").build();
+            Options options = new Options();
+            client = ClientFactory.createClient(dirAddress, userCredentials, null, options);
+            client.start();
+
+            System.out.println(String.format("file size: %d MiB, stripe size: %d KiB, read size: %d MiB, rounds: %d",
+                fileSizeMB, stripeSizeKB, readSizeMB, rounds));
+            for (int width = 1; width <= maxWidth; width *= 2) {
+                final String volumeName = "benchmark_striped_reads_" + width;
+                client.createVolume(RPCAuthentication.authNone, userCredentials, volumeName, 0777,
+                    userCredentials.getUsername(), userCredentials.getGroups(0),
+                    AccessControlPolicyType.ACCESS_CONTROL_POLICY_POSIX, StripingPolicyType.STRIPING_POLICY_RAID0,
+                    stripeSizeKB, width, new ArrayList<KeyValuePair>());
+                try {
+                    write(client, userCredentials, volumeName, fileSizeMB);
+                    long sequential = read(client, userCredentials, volumeName, 1, fileSizeMB, readSizeMB, rounds);
+                    long concurrent = read(client, userCredentials, volumeName, options.getMaxReadRequestsInFlight(),
+                        fileSizeMB, readSizeMB, rounds);
+                    System.out.println(String.format(
+                        "width %2d: one object at a time %6d MiB/s, concurrent %6d MiB/s, speedup %.2f", width,
+                        sequential, concurrent, (double) concurrent / sequential));
+                } finally {
+                    client.deleteVolume(RPCAuthentication.authNone, userCredentials, volumeName);
+                }
+            }
+
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            System.exit(1);
+        } finally {
+            if (client != null)
+                client.shutdown();
+        }
+    }
+
+    private static void write(Client client, UserCredentials userCredentials, String volumeName, int fileSizeMB)
+        throws IOException {
+        Volume volume = client.openVolume(volumeName, null, new Options());
+        FileHandle fileHandle = volume.openFile(userCredentials, "/data",
+            SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber() | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber(),
+            0644);
+        byte[] data = new byte[1024 * 1024];
+        Arrays.fill(data, (byte) 'A');
+        for (int i = 0; i < fileSizeMB; i++)
+            fileHandle.write(userCredentials, data, data.length, (long) i * data.length);
+        fileHandle.close();
+        volume.close();
+    }
+
+    private static long read(Client client, UserCredentials userCredentials, String volumeName, int maxInFlight,
+        int fileSizeMB, int readSizeMB, int rounds) throws IOException {
+        Options options = new Options();
+        options.setMaxReadRequestsInFlight(maxInFlight);
+        Volume volume = client.openVolume(volumeName, null, options);
+        FileHandle fileHandle = volume.openFile(userCredentials, "/data",
+            SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDONLY.getNumber());
+        byte[] data = new byte[readSizeMB * 1024 * 1024];
+
+        long bytes = 0;
+        long t0 = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            for (long offset = 0; offset < fileSizeMB * 1024L * 1024L; offset += data.length) {
+                int read = fileHandle.read(userCredentials, data, data.length, offset);
+                if (read <= 0)
+                    throw new IOException("unexpected end of file at offset " + offset);
+                bytes += read;
+            }
+        }
+        long t1 = System.nanoTime();
+
+        fileHandle.close();
+        volume.close();
+        return bytes * 1000000000L / (t1 - t0) / (1024 * 1024);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.sandbox;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.logging.Logging.Category;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.stages.Stage.StageRequest;
+import org.xtreemfs.osd.stages.StorageScheduler;
+import org.xtreemfs.osd.stages.StorageStage.WriteObjectCallback;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.GroupCommit;
+import org.xtreemfs.osd.storage.HashStorageLayout;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+
+/**
+ * Compares the latency and throughput of writes to a {@link HashStorageLayout} in the durability modes of the
+ * OSD: asynchronous writes, synchronous writes that are flushed one by one, and synchronous writes flushed by
+ * group commits. Each client writes to its own file and waits for the acknowledgment of a write before issuing
+ * the next one, like an application writing with O_SYNC. The writes are executed by storage threads that take
+ * them from a {@link StorageScheduler}, like the OSD's storage stage does.
+ * <p>
+ * Usage: BenchmarkSyncWrites [path [numClients [writesPerClient [objSizeKB [windowUs [numThreads]]]]]]
+ * <p>
+ * The path should be located on the device to evaluate; results on tmpfs are meaningless.
+ */
+public class BenchmarkSyncWrites {
+
+    private static final int MODE_ASYNC = 0;
+
+    private static final int MODE_SYNC  = 1;
+
+    private static final int MODE_GROUP = 2;
+
+    public static void main(String[] args) {
+        try {
+            String path = (args.length > 0) ? args[0] : "/tmp/bench_sync";
+            int numClients = (args.length > 1) ? Integer.valueOf(args[1]) : 16;
+            int writesPerClient = (args.length > 2) ? Integer.valueOf(args[2]) : 200;
+            int objSize = (args.length > 3) ? Integer.valueOf(args[3]) : 4;
+            int windowUs = (args.length > 4) ? Integer.valueOf(args[4]) : 1000;
+            int numThreads = (args.length > 5) ? Integer.valueOf(args[5]) : 1;
+            Logging.start(Logging.LEVEL_ERROR, Category.all);
+
+            System.out.println("clients: " + numClients + ", writes per client: " + writesPerClient
+                + ", object size: " + objSize + " KiB, group commit window: " + windowUs + " us, storage threads: "
+                + numThreads);
+
+            String[] names = { "async", "sync", "group commit" };
+            for (int mode : new int[] { MODE_ASYNC, MODE_SYNC, MODE_GROUP }) {
+                OSDConfig config = new OSDConfig(createOSDProperties(path + "/" + mode + "/"));
+                config.setDefaults();
+                HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+                run(names[mode], layout, mode, numClients, writesPerClient, objSize, windowUs, numThreads);
+            }
+
+        } catch (Exception ex) {
+            ex.printStackTrace();
+            System.exit(1);
+        }
+    }
+
+    private static void run(String name, final HashStorageLayout layout, final int mode, int numClients,
+        final int writesPerClient, int objSize, final int windowUs, int numThreads) throws Exception {
+
+        Replica r = Replica.newBuilder().setReplicationFlags(0).setStripingPolicy(
+            StripingPolicy.newBuilder().setType(StripingPolicyType.STRIPING_POLICY_RAID0).setWidth(1)
+                    .setStripeSize(objSize)).build();
+        final StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+        final StorageScheduler scheduler = new StorageScheduler(numThreads, Integer.MAX_VALUE);
+
+        final ReusableBuffer buf = BufferPool.allocate(objSize * 1024);
+        while (buf.hasRemaining()) {
+            buf.put((byte) 'A');
+        }
+        buf.flip();
+
+        // storage threads
+        Thread[] workers = new Thread[numThreads];
+        final GroupCommit[] groupCommits = new GroupCommit[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            final int id = t;
+            groupCommits[t] = mode == MODE_GROUP ? new GroupCommit(layout, windowUs * 1000L) : null;
+            workers[t] = new Thread() {
+                public void run() {
+                    final GroupCommit groupCommit = groupCommits[id];
+                    try {
+                        while (true) {
+                            final StageRequest rq = (groupCommit == null || groupCommit.isEmpty()) ? scheduler
+                                    .take(id) : scheduler.poll(id, groupCommit.getRemainingNanos());
+                            if (rq != null) {
+                                try {
+                                    write(layout, sp, mode, groupCommit, rq, buf);
+                                } finally {
+                                    scheduler.complete(id);
+                                }
+                            }
+                            if (groupCommit != null && groupCommit.isDue())
+                                groupCommit.commit();
+                        }
+                    } catch (InterruptedException exc) {
+                        // shut down
+                    } catch (IOException exc) {
+                        exc.printStackTrace();
+                    }
+                }
+            };
+            workers[t].start();
+        }
+
+        // clients
+        final long[] latencies = new long[numClients * writesPerClient];
+        final CountDownLatch done = new CountDownLatch(numClients);
+        long t0 = System.nanoTime();
+        for (int c = 0; c < numClients; c++) {
+            final int client = c;
+            new Thread() {
+                public void run() {
+                    final Semaphore ack = new Semaphore(0);
+                    final WriteObjectCallback cback = new WriteObjectCallback() {
+                        @Override
+                        public void writeComplete(OSDWriteResponse result, ErrorResponse error) {
+                            if (error != null)
+                                System.err.println(error.getErrorMessage());
+                            ack.release();
+                        }
+                    };
+                    final String fileId = "BENCH:" + client;
+                    for (int i = 0; i < writesPerClient; i++) {
+                        long start = System.nanoTime();
+                        scheduler.enqueue(fileId, new StageRequest(0, new Object[] { fileId, (long) (i % 16) }, null,
+                            cback), false);
+                        ack.acquireUninterruptibly();
+                        latencies[client * writesPerClient + i] = System.nanoTime() - start;
+                    }
+                    done.countDown();
+                }
+            }.start();
+        }
+        done.await();
+        long t1 = System.nanoTime();
+
+        for (Thread worker : workers)
+            worker.interrupt();
+        BufferPool.free(buf);
+
+        Arrays.sort(latencies);
+        long sum = 0;
+        for (long l : latencies)
+            sum += l;
+        long numWrites = latencies.length;
+        System.out.println(String.format("%-13s %8d writes/s, latency avg %6d us, p50 %6d us, p99 %6d us", name + ":",
+            numWrites * 1000000000L / (t1 - t0), sum / numWrites / 1000, latencies[latencies.length / 2] / 1000,
+            latencies[(int) (latencies.length * 0.99)] / 1000));
+        if (mode == MODE_GROUP) {
+            long commits = 0, flushes = 0;
+            for (GroupCommit gc : groupCommits) {
+                commits += gc.getNumCommits();
+                flushes += gc.getNumFlushes();
+            }
+            System.out.println(String.format("%-13s %8.1f writes per group commit, %d flushes", "",
+                commits == 0 ? 0.0 : (double) numWrites / commits, flushes));
+        }
+    }
+
+    private static void write(HashStorageLayout layout, StripingPolicyImpl sp, int mode, GroupCommit groupCommit,
+        StageRequest rq, ReusableBuffer buf) throws IOException {
+        final String fileId = (String) rq.getArgs()[0];
+        final long objNo = (Long) rq.getArgs()[1];
+        final WriteObjectCallback cback = (WriteObjectCallback) rq.getCallback();
+
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+        layout.writeObject(fileId, md, buf.createViewBuffer(), objNo, 0, 1, mode == MODE_SYNC, false);
+
+        OSDWriteResponse response = OSDWriteResponse.newBuilder().build();
+        if (groupCommit != null) {
+            groupCommit.add(fileId, md, objNo, 1, 0, response, cback);
+        } else {
+            cback.writeComplete(response, null);
+        }
+    }
+
+    private static Properties createOSDProperties(String dir) {
+        Properties props = new Properties();
+        props.setProperty("dir_service.host", "localhost");
+        props.setProperty("dir_service.port", "33638");
+        props.setProperty("object_dir", dir);
+        props.setProperty("debug.level", "" + 3);
+        props.setProperty("debug.categories", "all");
+        props.setProperty("listen.port", "3333");
+        props.setProperty("http_port", "3334");
+        props.setProperty("listen.address", "localhost");
+        props.setProperty("local_clock_renewal", "0");
+        props.setProperty("remote_time_sync", "60000");
+        props.setProperty("ssl.enabled", "false");
+        props.setProperty("report_free_space", "true");
+        props.setProperty("checksums.enabled", "false");
+        props.setProperty("capability_secret", "secretPassphrase");
+        props.setProperty("uuid", "bench");
+        return props;
+    }
+}
@@ -8,10 +8,19 @@ package org.xtreemfs.common.libxtreemfs;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
 import org.junit.Before;
@@ -26,10 +35,14 @@ import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.pbrpc.client.RPCAuthentication;
 import org.xtreemfs.foundation.pbrpc.client.RPCResponse;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.Auth;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
 import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.UserCredentials;
 import org.xtreemfs.foundation.util.FSUtils;
 import org.xtreemfs.osd.storage.HashStorageLayout;
 import org.xtreemfs.osd.storage.MetadataCache;
+
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.AccessControlPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.KeyValuePair;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.REPL_FLAG;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SYSTEM_V_FCNTL;
@@ -545,6 +558,201 @@ public class FileHandleTest {
         client.shutdown();
     }
 
+    @Test
+    public void testReadStripedObjectsConcurrently() throws Exception {
+        final String volumeName = "testReadStripedObjectsConcurrently";
+        final int stripeSize = 4;
+
+        // Stripe the files across both OSDs.
+        client.createVolume(mrcAddress, auth, userCredentials, volumeName, 0, userCredentials.getUsername(),
+                userCredentials.getGroups(0), AccessControlPolicyType.ACCESS_CONTROL_POLICY_NULL,
+                StripingPolicyType.STRIPING_POLICY_RAID0, stripeSize, 2, new ArrayList<KeyValuePair>());
+        Volume volume = client.openVolume(volumeName, null, options);
+
+        FileHandle fileHandle = volume.openFile(
+                userCredentials,
+                "/striped",
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                        | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber());
+
+        // Write five objects, leave a gap of two objects and write another one and a half.
+        byte[] data = new byte[17 * stripeSize * 1024 / 2];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 251 + 1);
+        }
+        Arrays.fill(data, 5 * stripeSize * 1024, 7 * stripeSize * 1024, (byte) 0);
+        fileHandle.write(userCredentials, data, 5 * stripeSize * 1024, 0);
+        fileHandle.write(userCredentials, Arrays.copyOfRange(data, 7 * stripeSize * 1024, data.length),
+                data.length - 7 * stripeSize * 1024, 7 * stripeSize * 1024);
+
+        // Read the whole file, including the gap, and beyond its end.
+        byte[] readData = new byte[data.length + 1000];
+        assertEquals(data.length, fileHandle.read(userCredentials, readData, readData.length, 0));
+        assertTrue(Arrays.equals(data, Arrays.copyOf(readData, data.length)));
+
+        // Read unaligned ranges into the middle of the caller's buffer.
+        readData = new byte[data.length];
+        final int offset = stripeSize * 1024 - 100;
+        final int count = 6 * stripeSize * 1024 + 50;
+        assertEquals(count, fileHandle.read(userCredentials, readData, 10, count, offset));
+        for (int i = 0; i < count; i++) {
+            assertEquals(data[offset + i], readData[10 + i]);
+        }
+        assertEquals(0, readData[9]);
+        assertEquals(0, readData[10 + count]);
+
+        fileHandle.close();
+    }
+
+    @Test
+    public void testAsyncOperations() throws Exception {
+        final String volumeName = "testAsyncOperations";
+        final int stripeSize = 4;
+
+        // Stripe the files across both OSDs.
+        client.createVolume(mrcAddress, auth, userCredentials, volumeName, 0, userCredentials.getUsername(),
+                userCredentials.getGroups(0), AccessControlPolicyType.ACCESS_CONTROL_POLICY_NULL,
+                StripingPolicyType.STRIPING_POLICY_RAID0, stripeSize, 2, new ArrayList<KeyValuePair>());
+        Volume volume = client.openVolume(volumeName, null, options);
+
+        int flags = SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber();
+        FileHandle fileHandle = volume.openFileAsync(userCredentials, "/striped", flags, 0777, null).get();
+
+        // Write five objects and, after a gap of two objects, another one and a half.
+        byte[] data = new byte[17 * stripeSize * 1024 / 2];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 251 + 1);
+        }
+        Arrays.fill(data, 5 * stripeSize * 1024, 7 * stripeSize * 1024, (byte) 0);
+        Future<Integer> write1 = fileHandle.writeAsync(userCredentials, data, 0, 5 * stripeSize * 1024, 0, null);
+        Future<Integer> write2 = fileHandle.writeAsync(userCredentials, data, 7 * stripeSize * 1024, data.length - 7
+                * stripeSize * 1024, 7 * stripeSize * 1024, null);
+        assertEquals(5 * stripeSize * 1024, write1.get().intValue());
+        assertEquals(data.length - 7 * stripeSize * 1024, write2.get().intValue());
+        assertEquals(data.length, fileHandle.getAttrAsync(userCredentials, null).get().getSize());
+
+        // Read the whole file, including the gap, and beyond its end.
+        final byte[] readData = new byte[data.length + 1000];
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicInteger bytesRead = new AtomicInteger(-1);
+        fileHandle.readAsync(userCredentials, readData, 0, readData.length, 0, new AsyncCallback<Integer>() {
+            @Override
+            public void completed(Integer result) {
+                bytesRead.set(result);
+                latch.countDown();
+            }
+
+            @Override
+            public void failed(IOException error) {
+                latch.countDown();
+            }
+        });
+        latch.await();
+        assertEquals(data.length, bytesRead.get());
+        assertTrue(Arrays.equals(data, Arrays.copyOf(readData, data.length)));
+
+        // Read many unaligned ranges concurrently.
+        List<Future<Integer>> reads = new ArrayList<Future<Integer>>();
+        List<byte[]> buffers = new ArrayList<byte[]>();
+        for (int i = 0; i < 100; i++) {
+            byte[] buffer = new byte[stripeSize * 1024 + 10];
+            buffers.add(buffer);
+            reads.add(fileHandle.readAsync(userCredentials, buffer, 5, stripeSize * 1024, i * 100, null));
+        }
+        for (int i = 0; i < reads.size(); i++) {
+            assertEquals(stripeSize * 1024, reads.get(i).get().intValue());
+            assertTrue(Arrays.equals(Arrays.copyOfRange(data, i * 100, i * 100 + stripeSize * 1024),
+                    Arrays.copyOfRange(buffers.get(i), 5, 5 + stripeSize * 1024)));
+        }
+        fileHandle.close();
+
+        // Directory listings and errors.
+        volume.createDirectory(userCredentials, "/dir", 0777);
+        assertEquals(4, volume.readDirAsync(userCredentials, "/", 0, 0, true, null).get().getEntriesCount());
+        try {
+            volume.getAttrAsync(userCredentials, "/missing", null).get();
+            fail("attributes of a missing file");
+        } catch (ExecutionException e) {
+            assertEquals(POSIXErrno.POSIX_ERROR_ENOENT, ((PosixErrorException) e.getCause()).getPosixError());
+        }
+        try {
+            volume.openFileAsync(userCredentials, "/striped", SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_TRUNC.getNumber(),
+                    0, null).get();
+            fail("asynchronous open with O_TRUNC");
+        } catch (ExecutionException e) {
+            assertEquals(POSIXErrno.POSIX_ERROR_EINVAL, ((PosixErrorException) e.getCause()).getPosixError());
+        }
+
+        volume.close();
+    }
+
+    @Test
+    public void testObjectCacheAndReadAhead() throws Exception {
+        final String volumeName = "testObjectCacheAndReadAhead";
+        final int objectSize = 4 * 1024;
+
+        Options options = new Options();
+        options.setObjectCacheSize(1024 * 1024);
+        options.setReadAheadObjects(2);
+
+        client.createVolume(mrcAddress, auth, userCredentials, volumeName, 0, userCredentials.getUsername(),
+                userCredentials.getGroups(0), AccessControlPolicyType.ACCESS_CONTROL_POLICY_NULL,
+                StripingPolicyType.STRIPING_POLICY_RAID0, objectSize / 1024, 2, new ArrayList<KeyValuePair>());
+        VolumeImplementation volume = (VolumeImplementation) client.openVolume(volumeName, null, options);
+        ObjectCache cache = volume.getObjectCache();
+
+        FileHandle fileHandle = volume.openFile(
+                userCredentials,
+                "/cached",
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_CREAT.getNumber()
+                        | SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_RDWR.getNumber());
+
+        // Eight and a half objects.
+        byte[] data = new byte[17 * objectSize / 2];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i % 251 + 1);
+        }
+        fileHandle.write(userCredentials, data, data.length, 0);
+
+        // Read the file sequentially in chunks of half an object; the objects are read ahead.
+        byte[] readData = new byte[data.length];
+        for (int offset = 0; offset < data.length; offset += objectSize / 2) {
+            assertEquals(objectSize / 2, fileHandle.read(userCredentials, readData, offset, objectSize / 2, offset));
+        }
+        assertEquals(0, fileHandle.read(userCredentials, new byte[objectSize], objectSize, data.length));
+        assertTrue(Arrays.equals(data, readData));
+        assertTrue(cache.getNumEntries() >= 9);
+        assertTrue(cache.getHits() >= 9);
+
+        // Cached objects are served again, also to unaligned reads.
+        long hits = cache.getHits();
+        readData = new byte[3 * objectSize];
+        assertEquals(2 * objectSize, fileHandle.read(userCredentials, readData, 10, 2 * objectSize, 5 * objectSize
+                - 100));
+        for (int i = 0; i < 2 * objectSize; i++) {
+            assertEquals(data[5 * objectSize - 100 + i], readData[10 + i]);
+        }
+        assertEquals(hits + 3, cache.getHits());
+
+        // Local writes invalidate the cache.
+        byte[] newData = new byte[objectSize];
+        Arrays.fill(newData, (byte) 7);
+        fileHandle.write(userCredentials, newData, objectSize, 2 * objectSize + 10);
+        System.arraycopy(newData, 0, data, 2 * objectSize + 10, objectSize);
+        readData = new byte[data.length];
+        assertEquals(data.length, fileHandle.read(userCredentials, readData, data.length, 0));
+        assertTrue(Arrays.equals(data, readData));
+
+        // So do truncates.
+        fileHandle.truncate(userCredentials, 3 * objectSize);
+        assertEquals(3 * objectSize, fileHandle.read(userCredentials, readData, data.length, 0));
+        assertTrue(Arrays.equals(Arrays.copyOf(data, 3 * objectSize), Arrays.copyOf(readData, 3 * objectSize)));
+
+        fileHandle.close();
+        volume.close();
+    }
+
     @Test
     public void testReadBytePerByte() throws Exception {
         final String volumeName = "testReadBytePerByte";
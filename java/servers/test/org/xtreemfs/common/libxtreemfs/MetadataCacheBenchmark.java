@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
+
+/**
+ * Measures the throughput of a stat-heavy workload on the {@link MetadataCache} for a growing number of
+ * threads, compared to the single-lock cache that was used before, in which every lookup took the write lock.
+ * Each thread looks up random paths of a pre-filled cache; one percent of the operations update a stat and
+ * one per mille invalidates a directory subtree.
+ * <p>
+ * Usage: MetadataCacheBenchmark [maxThreads [paths [seconds]]]
+ * <p>
+ * Lives next to the tests as the cache is package-private; run it with the test classpath.
+ */
+public class MetadataCacheBenchmark {
+
+    private static final int FILES_PER_DIR = 16;
+
+    public static void main(String[] args) throws Exception {
+        int maxThreads = (args.length > 0) ? Integer.valueOf(args[0]) : 16;
+        int numPaths = (args.length > 1) ? Integer.valueOf(args[1]) : 50000;
+        int seconds = (args.length > 2) ? Integer.valueOf(args[2]) : 3;
+
+        String[] paths = new String[numPaths];
+        for (int i = 0; i < numPaths; i++) {
+            paths[i] = "/dir" + (i / FILES_PER_DIR) + "/file" + (i % FILES_PER_DIR);
+        }
+        Stat stat = Stat.newBuilder().setDev(0).setIno(0).setMode(0).setNlink(1).setUserId("").setGroupId("")
+                .setSize(0).setAtimeNs(0).setMtimeNs(0).setCtimeNs(0).setBlksize(0).setTruncateEpoch(0).build();
+
+        System.out.println(String.format("paths: %d, seconds per run: %d, available processors: %d", numPaths,
+                seconds, Runtime.getRuntime().availableProcessors()));
+
+        // warm up both implementations
+        run(new SingleLockCache(2 * numPaths, 3600), paths, stat, 2, 1);
+        run(new SegmentedCache(2 * numPaths, 3600), paths, stat, 2, 1);
+
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double single = run(new SingleLockCache(2 * numPaths, 3600), paths, stat, threads, seconds);
+            double segmented = run(new SegmentedCache(2 * numPaths, 3600), paths, stat, threads, seconds);
+            System.out.println(String.format(
+                    "%2d threads: single lock %8.2f Mops/s, segmented %8.2f Mops/s, speedup %.2f", threads, single,
+                    segmented, segmented / single));
+        }
+    }
+
+    private static double run(final Cache cache, final String[] paths, final Stat stat, int threads,
+            int seconds) throws Exception {
+        for (String path : paths) {
+            cache.updateStat(path, stat);
+        }
+
+        final AtomicBoolean stop = new AtomicBoolean();
+        final AtomicLong operations = new AtomicLong();
+        final CountDownLatch done = new CountDownLatch(threads);
+        List<Thread> workers = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            final Random random = new Random(t);
+            workers.add(new Thread() {
+                @Override
+                public void run() {
+                    long ops = 0;
+                    while (!stop.get()) {
+                        String path = paths[random.nextInt(paths.length)];
+                        int op = random.nextInt(1000);
+                        if (op == 0) {
+                            cache.invalidatePrefix(path.substring(0, path.lastIndexOf('/')));
+                        } else if (op < 10) {
+                            cache.updateStat(path, stat);
+                        } else if (cache.getStat(path) == null) {
+                            // re-fill entries removed by invalidations, like a client would after a miss
+                            cache.updateStat(path, stat);
+                        }
+                        ops++;
+                    }
+                    operations.addAndGet(ops);
+                    done.countDown();
+                }
+            });
+        }
+
+        long t0 = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        Thread.sleep(seconds * 1000L);
+        stop.set(true);
+        done.await();
+        long t1 = System.nanoTime();
+
+        return operations.get() * 1000.0 / (t1 - t0);
+    }
+
+    private interface Cache {
+
+        Stat getStat(String path);
+
+        void updateStat(String path, Stat stat);
+
+        void invalidatePrefix(String path);
+    }
+
+    private static class SegmentedCache implements Cache {
+
+        private final MetadataCache cache;
+
+        SegmentedCache(long maxNumberOfEntries, long ttlS) {
+            cache = new MetadataCache(maxNumberOfEntries, ttlS);
+        }
+
+        @Override
+        public Stat getStat(String path) {
+            return cache.getStat(path);
+        }
+
+        @Override
+        public void updateStat(String path, Stat stat) {
+            cache.updateStat(path, stat);
+        }
+
+        @Override
+        public void invalidatePrefix(String path) {
+            cache.invalidatePrefix(path);
+        }
+    }
+
+    /**
+     * The locking scheme and data structures of the previous {@link MetadataCache}: a single
+     * {@link LinkedHashMap} and path index behind one lock, whose write lock is also taken by lookups.
+     */
+    private static class SingleLockCache implements Cache {
+
+        private final long                                      maxNumberOfEntries;
+
+        private final long                                      ttlS;
+
+        private final LinkedHashMap<String, MetadataCacheEntry> cache;
+
+        private final SortedSet<String>                         pathIndex;
+
+        private final Lock                                      writeLock;
+
+        SingleLockCache(long maxNumberOfEntries, long ttlS) {
+            this.maxNumberOfEntries = maxNumberOfEntries;
+            this.ttlS = ttlS;
+
+            cache = new LinkedHashMap<String, MetadataCacheEntry>();
+            pathIndex = new TreeSet<String>();
+            writeLock = new ReentrantReadWriteLock().writeLock();
+        }
+
+        @Override
+        public Stat getStat(String path) {
+            writeLock.lock();
+            try {
+                MetadataCacheEntry entry = cache.get(path);
+                if (entry != null) {
+                    long currentTimeS = System.currentTimeMillis() / 1000;
+                    if (entry.getStatTimeoutS() >= currentTimeS) {
+                        return entry.getStat();
+                    } else if (entry.getTimeoutS() < currentTimeS) {
+                        cache.remove(path);
+                        pathIndex.remove(path);
+                    }
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            return null;
+        }
+
+        @Override
+        public void updateStat(String path, Stat stat) {
+            writeLock.lock();
+            try {
+                MetadataCacheEntry entry = cache.remove(path);
+                if (entry == null) {
+                    entry = new MetadataCacheEntry();
+                    pathIndex.add(path);
+                }
+                entry.setStat(stat);
+                entry.setStatTimeoutS(System.currentTimeMillis() / 1000 + ttlS);
+                entry.setTimeoutS(entry.getStatTimeoutS());
+
+                while (cache.size() > maxNumberOfEntries - 1) {
+                    String oldest = cache.keySet().iterator().next();
+                    cache.remove(oldest);
+                    pathIndex.remove(oldest);
+                }
+                cache.put(path, entry);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+
+        @Override
+        public void invalidatePrefix(String path) {
+            List<String> indicesToRemove = new ArrayList<String>();
+            writeLock.lock();
+            try {
+                cache.remove(path);
+                pathIndex.remove(path);
+                path = path + "/";
+                for (String deletePath : pathIndex.tailSet(path)) {
+                    if (!deletePath.startsWith(path)) {
+                        break;
+                    }
+                    cache.remove(deletePath);
+                    indicesToRemove.add(deletePath);
+                }
+                pathIndex.removeAll(indicesToRemove);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+}
@@ -401,6 +401,55 @@ public class MetadataCacheTest {
         assertEquals(3, statD.getIno());
     }
 
+    /**
+     * An entry which was looked up since it was added must not be evicted before an entry which was not.
+     */
+    @Test
+    public void testLookupGivesSecondChance() throws Exception {
+        metadataCache.updateStat("/a", getIntializedStatBuilder().setIno(0).build());
+        metadataCache.updateStat("/b", getIntializedStatBuilder().setIno(1).build());
+        // Cache is full now. "a" is the oldest entry, but it is looked up and thus gets a second chance.
+        assertNotNull(metadataCache.getStat("/a"));
+        metadataCache.updateStat("/c", getIntializedStatBuilder().setIno(2).build());
+
+        assertEquals(2l, metadataCache.size());
+        assertNull(metadataCache.getStat("/b"));
+        assertEquals(0, metadataCache.getStat("/a").getIno());
+        assertEquals(2, metadataCache.getStat("/c").getIno());
+    }
+
+    /**
+     * Subtrees which are spread over all segments of a large cache are invalidated and renamed completely.
+     */
+    @Test
+    public void testPrefixOperationsSpanAllSegments() throws Exception {
+        metadataCache = new MetadataCache(100000, 3600);
+
+        final int FILE_COUNT = 1000;
+        for (int i = 0; i < FILE_COUNT; i++) {
+            metadataCache.updateStat("/dir/sub/file" + i, getIntializedStatBuilder().setIno(i).build());
+            metadataCache.updateStat("/dir.file" + i, getIntializedStatBuilder().setIno(i).build());
+        }
+        metadataCache.updateStat("/dir/sub", getIntializedStatBuilder().build());
+        assertEquals(2 * FILE_COUNT + 1, metadataCache.size());
+
+        metadataCache.renamePrefix("/dir/sub", "/newDir");
+        assertEquals(2 * FILE_COUNT + 1, metadataCache.size());
+        assertNotNull(metadataCache.getStat("/newDir"));
+        for (int i = 0; i < FILE_COUNT; i++) {
+            assertNull(metadataCache.getStat("/dir/sub/file" + i));
+            assertEquals(i, metadataCache.getStat("/newDir/file" + i).getIno());
+        }
+
+        metadataCache.invalidatePrefix("/newDir");
+        assertEquals(FILE_COUNT, metadataCache.size());
+        assertNull(metadataCache.getStat("/newDir"));
+        for (int i = 0; i < FILE_COUNT; i++) {
+            assertNull(metadataCache.getStat("/newDir/file" + i));
+            assertEquals(i, metadataCache.getStat("/dir.file" + i).getIno());
+        }
+    }
+
     /**
      * Are large nanoseconds values correctly updated by UpdateStatAttributes?
      */
@@ -611,6 +660,7 @@ public class MetadataCacheTest {
         assertEquals(aStat, metadataCache.getStat("foobar"));
         Thread.sleep(2000);
         assertNull(metadataCache.getStat("foobar"));
+        assertEquals(0l, metadataCache.size());
     }
 
     @Test
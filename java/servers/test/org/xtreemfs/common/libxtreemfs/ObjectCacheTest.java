@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.common.libxtreemfs;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.test.TestHelper;
+
+public class ObjectCacheTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    @Test
+    public void testEvictionOfLeastRecentlyUsedObjects() throws Exception {
+        ObjectCache cache = new ObjectCache(3 * 1024);
+
+        for (int i = 0; i < 3; i++) {
+            cache.put(ObjectCache.getKey("f", 0, i), new byte[1024]);
+        }
+        assertEquals(3 * 1024, cache.getSize());
+
+        // touch object 0, so that object 1 is the least recently used one
+        assertEquals(1024, cache.get(ObjectCache.getKey("f", 0, 0), 0).length);
+        cache.put(ObjectCache.getKey("f", 0, 3), new byte[1024]);
+        assertEquals(3, cache.getNumEntries());
+        assertNull(cache.get(ObjectCache.getKey("f", 0, 1), 0));
+        assertEquals(1024, cache.get(ObjectCache.getKey("f", 0, 0), 0).length);
+
+        // objects of another generation are not found
+        assertNull(cache.get(ObjectCache.getKey("f", 1, 0), 0));
+
+        // empty objects and objects exceeding the budget are not cached
+        cache.put(ObjectCache.getKey("f", 0, 4), new byte[0]);
+        cache.put(ObjectCache.getKey("f", 0, 5), new byte[4 * 1024]);
+        assertNull(cache.get(ObjectCache.getKey("f", 0, 4), 0));
+        assertNull(cache.get(ObjectCache.getKey("f", 0, 5), 0));
+        assertEquals(3 * 1024, cache.getSize());
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getNumEntries());
+    }
+
+    @Test
+    public void testReservedObjects() throws Exception {
+        final ObjectCache cache = new ObjectCache(2 * 1024);
+        final String key = ObjectCache.getKey("f", 0, 0);
+        final byte[] data = new byte[] { 1, 2, 3 };
+
+        assertTrue(cache.reserve(key, 1024));
+        assertFalse(cache.reserve(key, 1024));
+        assertTrue(cache.reserve(ObjectCache.getKey("f", 0, 1), 1024));
+
+        // reserved entries are not evicted
+        assertFalse(cache.reserve(ObjectCache.getKey("f", 0, 2), 1024));
+        assertNull(cache.get(key, 10));
+
+        // a reader waits for the data of a reserved object
+        Thread producer = new Thread() {
+            public void run() {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                cache.put(key, data);
+            }
+        };
+        producer.start();
+        assertArrayEquals(data, cache.get(key, 10000));
+        producer.join();
+        assertEquals(1024 + data.length, cache.getSize());
+
+        cache.abort(ObjectCache.getKey("f", 0, 1));
+        assertEquals(data.length, cache.getSize());
+        assertNull(cache.get(ObjectCache.getKey("f", 0, 1), 0));
+
+        // aborting an object with data has no effect
+        cache.abort(key);
+        assertArrayEquals(data, cache.get(key, 0));
+    }
+}
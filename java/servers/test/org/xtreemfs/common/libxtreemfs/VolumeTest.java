@@ -283,6 +283,64 @@ public class VolumeTest {
         assertEquals(3, entrySet.getEntriesCount());
     }
 
+    @Test
+    public void testCompoundCreateStatUnlink() throws Exception {
+        VOLUME_NAME = "testCompoundCreateStatUnlink";
+        final String DIR = "/testdir";
+
+        client.createVolume(mrcAddress, auth, userCredentials, VOLUME_NAME, 0, userCredentials.getUsername(),
+                userCredentials.getGroups(0), AccessControlPolicyType.ACCESS_CONTROL_POLICY_NULL,
+                StripingPolicyType.STRIPING_POLICY_RAID0, defaultStripingPolicy.getStripeSize(),
+                defaultStripingPolicy.getWidth(), new ArrayList<KeyValuePair>());
+
+        Volume volume = client.openVolume(VOLUME_NAME, null, options);
+        volume.createDirectory(userCredentials, DIR, 0755);
+
+        // fill the cache of the directory entries
+        assertEquals(2, volume.readDir(userCredentials, DIR, 0, 1000, false).getEntriesCount());
+
+        List<String> names = new ArrayList<String>();
+        List<String> paths = new ArrayList<String>();
+        for (int i = 0; i < 10; i++) {
+            names.add("file" + i);
+            paths.add(DIR + "/file" + i);
+        }
+        List<BatchResult> results = volume.createFiles(userCredentials, DIR, names, 0644);
+        assertEquals(names.size(), results.size());
+        for (BatchResult result : results) {
+            assertFalse(result.hasPosixErrno());
+        }
+        assertEquals(12, volume.readDir(userCredentials, DIR, 0, 1000, false).getEntriesCount());
+
+        // the created files can be written without O_CREAT
+        FileHandle fileHandle = volume.openFile(userCredentials, paths.get(1),
+                SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_O_WRONLY.getNumber());
+        fileHandle.write(userCredentials, "data".getBytes(), 4, 0);
+        fileHandle.close();
+
+        paths.add(DIR + "/missing");
+        results = volume.getAttrs(userCredentials, paths);
+        assertEquals(paths.size(), results.size());
+        assertEquals(0, results.get(0).getStbuf().getSize());
+        assertEquals(4, results.get(1).getStbuf().getSize());
+        assertEquals(POSIXErrno.POSIX_ERROR_ENOENT.getNumber(), results.get(10).getPosixErrno());
+
+        results = volume.unlinkFiles(userCredentials, paths);
+        assertEquals(paths.size(), results.size());
+        for (int i = 0; i < 10; i++) {
+            assertFalse(results.get(i).hasPosixErrno());
+        }
+        assertEquals(POSIXErrno.POSIX_ERROR_ENOENT.getNumber(), results.get(10).getPosixErrno());
+        assertEquals(2, volume.readDir(userCredentials, DIR, 0, 1000, false).getEntriesCount());
+
+        try {
+            volume.getAttr(userCredentials, paths.get(1));
+            fail("file has not been removed");
+        } catch (PosixErrorException exc) {
+            assertEquals(POSIXErrno.POSIX_ERROR_ENOENT, exc.getPosixError());
+        }
+    }
+
     @Test
     public void testCreateDirWithEmptyPathComponents() throws Exception {
         VOLUME_NAME = "testCreateDirWithEmptyPathComponents";
@@ -18,6 +18,7 @@ import java.util.Random;
 
 import org.xtreemfs.babudb.config.BabuDBConfig;
 import org.xtreemfs.babudb.log.DiskLogger.SyncMode;
+import org.xtreemfs.common.Capability;
 import org.xtreemfs.common.uuids.ServiceUUID;
 import org.xtreemfs.common.uuids.UUIDResolver;
 import org.xtreemfs.dir.DIRConfig;
@@ -33,6 +34,7 @@ import org.xtreemfs.osd.OSDConfig;
 import org.xtreemfs.pbrpc.generatedinterfaces.DIRServiceClient;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicy;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.StripingPolicyType;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap;
 
 /**
  * 
@@ -48,6 +50,8 @@ public class SetupUtils {
     
     public static boolean          CHECKSUMS_ON     = false;
     
+    public static int              MRC_READ_THREADS = 0;
+    
     public static final int        DEBUG_LEVEL      = Logging.LEVEL_WARN;
     
     public static final Category[] DEBUG_CATEGORIES = new Category[] { Category.all };
@@ -202,6 +206,7 @@ public class SetupUtils {
         props.setProperty("http_port", new Integer(30636 + PORT_RANGE_OFFSET).toString());
         props.setProperty("listen.address", "localhost");
         props.setProperty("no_atime", "true");
+        props.setProperty("processing.read_threads", "" + MRC_READ_THREADS);
         props.setProperty("local_clock_renewal", "0");
         props.setProperty("remote_time_sync", "60000");
         props.setProperty("ssl.enabled", "" + SSL_ON);
@@ -455,4 +460,14 @@ public class SetupUtils {
                 .setWidth(width).build();
     }
     
+    /**
+     * Returns a copy of a capability with another truncate epoch, signed again, like the MRC issues it after a
+     * truncate.
+     */
+    public static XCap setTruncateEpoch(XCap xcap, int truncateEpoch, String capSecret) {
+        return new Capability(xcap.getFileId(), xcap.getAccessMode(), xcap.getExpireTimeoutS(),
+                xcap.getExpireTimeS(), xcap.getClientIdentity(), truncateEpoch, xcap.getReplicateOnClose(),
+                xcap.getSnapConfig(), xcap.getSnapTimestamp(), capSecret).getXCap();
+    }
+    
 }
@@ -12,6 +12,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.security.MessageDigest;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -19,6 +21,7 @@ import org.junit.Test;
 import org.junit.rules.TestRule;
 import org.xtreemfs.common.Capability;
 import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.util.OutputUtils;
 import org.xtreemfs.osd.storage.HashStorageLayout;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SnapConfig;
 import org.xtreemfs.test.SetupUtils;
@@ -65,4 +68,60 @@ public class CapabilityTest {
         assertFalse(cap4.isValid());
 
     }
+
+    @Test
+    public void testMD5Signature() throws Exception {
+        long expires = System.currentTimeMillis() / 1000 + 100;
+        Capability cap = new Capability("vol:17", 2, 60, expires, "", 3, false,
+                SnapConfig.SNAP_CONFIG_ACCESS_CURRENT, 42, SECRET);
+
+        // the signature has to be compatible with the OSDs of previous releases
+        MessageDigest md5 = MessageDigest.getInstance("MD5");
+        md5.update(("vol:17" + 2 + expires + 3 + SnapConfig.SNAP_CONFIG_ACCESS_CURRENT.getNumber() + 42 + SECRET)
+                .getBytes());
+        assertEquals(OutputUtils.byteArrayToHexString(md5.digest()), cap.getSignature());
+        assertTrue(cap.isValid());
+
+        // non-ASCII file IDs and secrets
+        Capability cap2 = new Capability("vol:\u00e4\u4e2d", 2, 60, expires, "", 3, false,
+                SnapConfig.SNAP_CONFIG_ACCESS_CURRENT, 42, "s\u00e9cret");
+        assertTrue(cap2.isValid());
+        assertFalse(new Capability(cap2.getXCap(), SECRET).isValid());
+    }
+
+    @Test
+    public void testHMACSignature() throws Exception {
+        long expires = System.currentTimeMillis() / 1000 + 100;
+        Capability cap = new Capability("vol:17", 2, 60, expires, "", 3, false,
+                SnapConfig.SNAP_CONFIG_ACCESS_CURRENT, 42, SECRET, Capability.SIGNATURE_HMAC_SHA256);
+        assertTrue(cap.getSignature().startsWith("HS256:"));
+        assertEquals(6 + 64, cap.getSignature().length());
+        assertTrue(cap.isValid());
+
+        // capabilities are verified with the scheme they were signed with
+        assertTrue(new Capability(cap.getXCap(), SECRET).hasValidSignature());
+        assertFalse(new Capability(cap.getXCap(), "other").hasValidSignature());
+
+        // each signed field is covered by the signature
+        assertFalse(new Capability(cap.getXCap().toBuilder().setAccessMode(3).build(), SECRET).hasValidSignature());
+        assertFalse(new Capability(cap.getXCap().toBuilder().setExpireTimeS(expires + 1).build(), SECRET)
+                .hasValidSignature());
+        assertFalse(new Capability(cap.getXCap().toBuilder().setTruncateEpoch(4).build(), SECRET)
+                .hasValidSignature());
+        assertFalse(new Capability(cap.getXCap().toBuilder().setFileId("vol:18").build(), SECRET)
+                .hasValidSignature());
+        assertFalse(new Capability(cap.getXCap().toBuilder().setSnapTimestamp(43).build(), SECRET)
+                .hasValidSignature());
+
+        // a forged scheme prefix or a truncated signature is rejected
+        String md5Sig = new Capability("vol:17", 2, 60, expires, "", 3, false,
+                SnapConfig.SNAP_CONFIG_ACCESS_CURRENT, 42, SECRET).getSignature();
+        assertFalse(new Capability(cap.getXCap().toBuilder().setServerSignature("HS256:" + md5Sig).build(), SECRET)
+                .hasValidSignature());
+        assertFalse(new Capability(cap.getXCap().toBuilder()
+                .setServerSignature(cap.getSignature().substring(0, 40)).build(), SECRET).hasValidSignature());
+
+        assertTrue(Capability.isSupportedSignatureScheme("hmac-sha256"));
+        assertFalse(Capability.isSupportedSignatureScheme("SHA1"));
+    }
 }
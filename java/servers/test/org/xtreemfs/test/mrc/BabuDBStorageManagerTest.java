@@ -10,6 +10,7 @@ package org.xtreemfs.test.mrc;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -34,6 +35,7 @@ import org.xtreemfs.mrc.database.AtomicDBUpdate;
 import org.xtreemfs.mrc.database.DBAccessResultListener;
 import org.xtreemfs.mrc.database.DatabaseResultSet;
 import org.xtreemfs.mrc.database.babudb.BabuDBStorageManager;
+import org.xtreemfs.mrc.database.babudb.MetadataCache;
 import org.xtreemfs.mrc.metadata.FileMetadata;
 import org.xtreemfs.mrc.utils.Path;
 import org.xtreemfs.test.SetupUtils;
@@ -337,6 +339,52 @@ public class BabuDBStorageManagerTest {
         assertTrue(tmp.contains("comp2"));
     }
 
+    @Test
+    public void testMetadataCache() throws Exception {
+        
+        BabuDBStorageManager cachedMngr = new BabuDBStorageManager(database.getDatabaseManager(), database
+                .getSnapshotManager(), database.getDatabaseManager().getDatabase("volId"), 100);
+        MetadataCache cache = cachedMngr.getMetadataCache();
+        
+        AtomicDBUpdate update = cachedMngr.createAtomicDBUpdate(listener, null);
+        long dirId = cachedMngr.createDir(2, 1, "dir", 0, 0, 0, "me", "myGrp", 511, 0, update).getId();
+        long fileId = cachedMngr.createFile(3, dirId, "file.txt", 0, 0, 0, "me", "myGrp", 511, 0, 0, false, 0,
+            0, update).getId();
+        update.execute();
+        waitForResponse();
+        
+        // resolving the path a second time should be served from the cache
+        assertEquals(fileId, cachedMngr.resolvePath(new Path("volume/dir/file.txt"))[2].getId());
+        long hits = cache.getHits();
+        assertEquals(fileId, cachedMngr.resolvePath(new Path("volume/dir/file.txt"))[2].getId());
+        assertEquals(hits + 3, cache.getHits());
+        
+        // modifying a cached object must not modify the cache
+        FileMetadata file = cachedMngr.getMetadata(dirId, "file.txt");
+        file.setPerms(0700);
+        assertEquals(511, cachedMngr.getMetadata(dirId, "file.txt").getPerms());
+        
+        // updates must invalidate the cached metadata
+        update = cachedMngr.createAtomicDBUpdate(listener, null);
+        cachedMngr.setMetadata(file, FileMetadata.RC_METADATA, update);
+        update.execute();
+        waitForResponse();
+        assertEquals(0700, cachedMngr.getMetadata(dirId, "file.txt").getPerms());
+        assertEquals(0700, cachedMngr.getMetadata(fileId).getPerms());
+        hits = cache.getHits();
+        assertEquals(0700, cachedMngr.getMetadata(fileId).getPerms());
+        assertEquals(hits + 2, cache.getHits());
+        
+        // deleting the file must remove it from the cache
+        update = cachedMngr.createAtomicDBUpdate(listener, null);
+        cachedMngr.delete(dirId, "file.txt", update);
+        update.execute();
+        waitForResponse();
+        assertNull(cachedMngr.getMetadata(dirId, "file.txt"));
+        assertNull(cachedMngr.getMetadata(fileId));
+        assertNull(cachedMngr.resolvePath(new Path("volume/dir/file.txt"))[2]);
+    }
+    
     @Test
     public void testPartialReaddir() throws Exception {
         
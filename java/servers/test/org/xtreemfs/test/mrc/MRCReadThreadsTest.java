@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.mrc;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.xtreemfs.test.SetupUtils;
+
+/**
+ * Runs the MRC tests against an MRC that executes read-only operations on a pool of read threads.
+ */
+public class MRCReadThreadsTest extends MRCTest {
+
+    @BeforeClass
+    public static void setUpReadThreads() {
+        SetupUtils.MRC_READ_THREADS = 4;
+    }
+
+    @AfterClass
+    public static void tearDownReadThreads() {
+        SetupUtils.MRC_READ_THREADS = 0;
+    }
+}
@@ -9,6 +9,7 @@
 package org.xtreemfs.test.mrc;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -49,10 +50,12 @@ import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XCap;
 import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.XLocSet;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.ACCESS_FLAGS;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntries;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.DirectoryEntry;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Setattrs;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Stat;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.Volumes;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.XAttr;
+import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_batchResponse;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRC.xtreemfs_update_file_sizeRequest;
 import org.xtreemfs.pbrpc.generatedinterfaces.MRCServiceClient;
 import org.xtreemfs.test.SetupUtils;
@@ -315,6 +318,133 @@ public class MRCTest {
             false, 0));
     }
     
+    @Test
+    public void testReaddirInChunks() throws Exception {
+        
+        final String uid = "userXY";
+        final List<String> gids = createGIDs("groupZ");
+        final String volumeName = "testVolume";
+        final UserCredentials uc = createUserCredentials(uid, gids);
+        
+        invokeSync(client.xtreemfs_mkvol(mrcAddress, RPCAuthentication.authNone, uc,
+            AccessControlPolicyType.ACCESS_CONTROL_POLICY_NULL, getDefaultStripingPolicy(), "", 0,
+            volumeName, "", "", getKVList(), 0));
+        invokeSync(client.mkdir(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "dir", 0));
+        
+        // include names that are prefixes of other names, and non-ASCII names
+        for (int i = 0; i < 40; i++)
+            invokeSync(client.open(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "dir/f" + i,
+                FileAccessManager.O_CREAT, 0775, 0, getDefaultCoordinates()));
+        invokeSync(client.mkdir(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "dir/\u00e4\u00f6\u00fc", 0));
+        invokeSync(client.mkdir(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "dir/f", 0));
+        
+        List<String> expected = getNames(invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc,
+            volumeName, "dir", -1, 1000, true, 0)));
+        assertEquals(44, expected.size());
+        
+        // list the directory in chunks of different sizes
+        for (int chunkSize = 1; chunkSize <= 7; chunkSize++) {
+            List<String> names = new LinkedList<String>();
+            for (;;) {
+                DirectoryEntries chunk = invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc,
+                    volumeName, "dir", -1, chunkSize, true, names.size()));
+                names.addAll(getNames(chunk));
+                if (chunk.getEntriesCount() < chunkSize)
+                    break;
+            }
+            assertEquals(expected, names);
+        }
+        
+        // a retried chunk has to return the same entries
+        DirectoryEntries chunk1 = invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc,
+            volumeName, "dir", -1, 5, true, 0));
+        DirectoryEntries chunk2 = invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc,
+            volumeName, "dir", -1, 5, true, 5));
+        assertEquals(chunk2, invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc, volumeName,
+            "dir", -1, 5, true, 5)));
+        assertEquals(expected.subList(0, 5), getNames(chunk1));
+        assertEquals(expected.subList(5, 10), getNames(chunk2));
+    }
+    
+    @Test
+    public void testCompoundOperations() throws Exception {
+        
+        final String uid = "userXY";
+        final List<String> gids = createGIDs("groupZ");
+        final String volumeName = "testVolume";
+        final UserCredentials uc = createUserCredentials(uid, gids);
+        
+        invokeSync(client.xtreemfs_mkvol(mrcAddress, RPCAuthentication.authNone, uc,
+            AccessControlPolicyType.ACCESS_CONTROL_POLICY_NULL, getDefaultStripingPolicy(), "", 0,
+            volumeName, "", "", getKVList(), 0));
+        invokeSync(client.mkdir(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "dir", 0));
+        invokeSync(client.open(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "dir/x",
+            FileAccessManager.O_CREAT, 0775, 0, getDefaultCoordinates()));
+        
+        // create files, including duplicate, existing and invalid names
+        xtreemfs_batchResponse created = invokeSync(client.xtreemfs_create_files(mrcAddress,
+            RPCAuthentication.authNone, uc, volumeName, "dir", createNames("a", "b", "a", "x", "", "c"), 0775, 0,
+            getDefaultCoordinates()));
+        assertEquals(6, created.getResultsCount());
+        assertFalse(created.getResults(0).hasPosixErrno());
+        assertFalse(created.getResults(1).hasPosixErrno());
+        assertEquals(POSIXErrno.POSIX_ERROR_EEXIST.getNumber(), created.getResults(2).getPosixErrno());
+        assertEquals(POSIXErrno.POSIX_ERROR_EEXIST.getNumber(), created.getResults(3).getPosixErrno());
+        assertEquals(POSIXErrno.POSIX_ERROR_EINVAL.getNumber(), created.getResults(4).getPosixErrno());
+        assertFalse(created.getResults(5).hasPosixErrno());
+        assertEquals("4", invokeSync(client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "/",
+            "xtreemfs.num_files")).getValue());
+        
+        try {
+            invokeSync(client.xtreemfs_create_files(mrcAddress, RPCAuthentication.authNone, uc, volumeName,
+                "nodir", createNames("a"), 0775, 0, getDefaultCoordinates()));
+            fail("file creation in missing directory");
+        } catch (PBRPCException exc) {
+            assertEquals(POSIXErrno.POSIX_ERROR_ENOENT, exc.getPOSIXErrno());
+        }
+        
+        // the new files have distinct IDs and have been assigned replicas
+        xtreemfs_batchResponse stats = invokeSync(client.xtreemfs_stat_files(mrcAddress,
+            RPCAuthentication.authNone, uc, volumeName, createNames("dir/a", "dir/b", "dir/c", "dir/d", "dir")));
+        assertEquals(5, stats.getResultsCount());
+        Set<Long> inos = new HashSet<Long>();
+        for (int i = 0; i < 3; i++) {
+            Stat stat = stats.getResults(i).getStbuf();
+            assertEquals(SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFREG.getNumber(), stat.getMode()
+                & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFREG.getNumber());
+            assertTrue(stat.getBlksize() > 0);
+            inos.add(stat.getIno());
+        }
+        assertEquals(3, inos.size());
+        assertFalse(stats.getResults(3).hasStbuf());
+        assertEquals(POSIXErrno.POSIX_ERROR_ENOENT.getNumber(), stats.getResults(3).getPosixErrno());
+        assertEquals(SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFDIR.getNumber(), stats.getResults(4).getStbuf().getMode()
+            & SYSTEM_V_FCNTL.SYSTEM_V_FCNTL_H_S_IFDIR.getNumber());
+        
+        // a file created afterwards gets a new ID
+        invokeSync(client.open(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "dir/y",
+            FileAccessManager.O_CREAT, 0775, 0, getDefaultCoordinates()));
+        assertFalse(inos.contains(invokeSync(
+            client.getattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "dir/y", -1)).getStbuf()
+                .getIno()));
+        
+        // remove files, including duplicate and missing ones and directories
+        xtreemfs_batchResponse deleted = invokeSync(client.xtreemfs_unlink_files(mrcAddress,
+            RPCAuthentication.authNone, uc, volumeName, createNames("dir/a", "dir/a", "dir", "dir/b", "dir/d")));
+        assertEquals(5, deleted.getResultsCount());
+        assertTrue(deleted.getResults(0).hasCreds());
+        assertEquals(POSIXErrno.POSIX_ERROR_ENOENT.getNumber(), deleted.getResults(1).getPosixErrno());
+        assertEquals(POSIXErrno.POSIX_ERROR_EISDIR.getNumber(), deleted.getResults(2).getPosixErrno());
+        assertTrue(deleted.getResults(3).hasCreds());
+        assertEquals(POSIXErrno.POSIX_ERROR_ENOENT.getNumber(), deleted.getResults(4).getPosixErrno());
+        
+        assertEquals("3", invokeSync(client.getxattr(mrcAddress, RPCAuthentication.authNone, uc, volumeName, "/",
+            "xtreemfs.num_files")).getValue());
+        List<String> names = getNames(invokeSync(client.readdir(mrcAddress, RPCAuthentication.authNone, uc,
+            volumeName, "dir", -1, 1000, true, 0)));
+        assertEquals(createNames("..", ".", "c", "x", "y"), names);
+    }
+    
     @Test
     public void testXAttrs() throws Exception {
         
@@ -1414,6 +1544,13 @@ public class MRCTest {
         }
     }
     
+    private static List<String> getNames(DirectoryEntries entries) {
+        List<String> list = new LinkedList<String>();
+        for (DirectoryEntry entry : entries.getEntriesList())
+            list.add(entry.getName());
+        return list;
+    }
+    
     private static List<String> createGIDs(String gid) {
         List<String> list = new LinkedList<String>();
         list.add(gid);
@@ -1457,6 +1594,13 @@ public class MRCTest {
                 .setTruncateEpoch(0).setUserId("");
     }
     
+    private static List<String> createNames(String... names) {
+        List<String> list = new LinkedList<String>();
+        for (String name : names)
+            list.add(name);
+        return list;
+    }
+    
     private static VivaldiCoordinates getDefaultCoordinates() {
         return VivaldiCoordinates.newBuilder().setXCoordinate(0).setYCoordinate(0).setLocalError(0).build();
     }
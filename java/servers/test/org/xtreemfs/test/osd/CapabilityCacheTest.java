@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.Capability;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.osd.CapabilityCache;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.SnapConfig;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestEnvironment;
+import org.xtreemfs.test.TestHelper;
+
+public class CapabilityCacheTest {
+    @Rule
+    public final TestRule       testLog = TestHelper.testLog;
+
+    private static final String SECRET  = "secret";
+
+    private TestEnvironment     te;
+
+    @Before
+    public void setUp() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL, SetupUtils.DEBUG_CATEGORIES);
+
+        te = new TestEnvironment(TestEnvironment.Services.TIME_SYNC);
+        te.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        te.shutdown();
+    }
+
+    private static Capability createCap(String fileId, long expires) {
+        return new Capability(fileId, 2, 60, expires, "", 0, false, SnapConfig.SNAP_CONFIG_SNAPS_DISABLED, 0,
+                SECRET, Capability.SIGNATURE_HMAC_SHA256);
+    }
+
+    @Test
+    public void testVerifiedCaps() throws Exception {
+        final long expires = System.currentTimeMillis() / 1000 + 100;
+        CapabilityCache cache = new CapabilityCache(10);
+
+        Capability cap = createCap("vol:1", expires);
+        assertFalse(cache.isVerified(cap));
+        cache.put(cap);
+        assertTrue(cache.isVerified(cap));
+        assertTrue(cache.isVerified(new Capability(cap.getXCap(), SECRET)));
+
+        // a copied signature does not make another capability verified
+        Capability forged = new Capability(cap.getXCap().toBuilder().setAccessMode(66).build(), SECRET);
+        assertFalse(cache.isVerified(forged));
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        final long now = System.currentTimeMillis() / 1000;
+        CapabilityCache cache = new CapabilityCache(10);
+
+        for (int i = 0; i < 5; i++) {
+            cache.put(createCap("vol:expired" + i, now - 10));
+        }
+        for (int i = 0; i < 5; i++) {
+            cache.put(createCap("vol:" + i, now + 100));
+        }
+        assertEquals(10, cache.getSize());
+
+        // the expired capabilities make room first
+        Capability cap = createCap("vol:new", now + 100);
+        cache.put(cap);
+        assertEquals(6, cache.getSize());
+        assertTrue(cache.isVerified(cap));
+        assertTrue(cache.isVerified(createCap("vol:0", now + 100)));
+
+        // a cache full of valid capabilities drops arbitrary ones
+        for (int i = 0; i < 10; i++) {
+            cache.put(createCap("vol:more" + i, now + 100));
+        }
+        assertTrue(cache.getSize() <= 10);
+        assertTrue(cache.isVerified(createCap("vol:more9", now + 100)));
+
+        cache.purgeExpired();
+        assertTrue(cache.getSize() > 0);
+
+        CapabilityCache disabled = new CapabilityCache(0);
+        disabled.put(cap);
+        assertFalse(disabled.isVerified(cap));
+    }
+}
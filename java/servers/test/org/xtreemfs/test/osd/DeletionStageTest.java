@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.stages.DeletionStage;
+import org.xtreemfs.osd.stages.DeletionStage.DeleteObjectsCallback;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.HashStorageLayout;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestHelper;
+
+public class DeletionStageTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    private static final int OBJECT_SIZE = 64 * 1024;
+
+    static OSDConfig         config;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+        config = SetupUtils.createOSD1Config();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        FSUtils.delTree(new File(config.getObjDir()));
+    }
+
+    @Test
+    public void testStoragePartitions() throws Exception {
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+
+        Set<Integer> partitions = new HashSet<Integer>();
+        for (int i = 0; i < 1000; i++) {
+            final String fileId = "ABCDEF:" + i;
+            final int partition = layout.getStoragePartition(fileId);
+            assertTrue(partition >= 0 && partition <= HashStorageLayout.SUBDIRS_256);
+            assertEquals(partition, layout.getStoragePartition(fileId));
+
+            // the partition is the top-level hash directory of the file
+            String relPath = layout.generateAbsoluteFilePath(fileId).substring(config.getObjDir().length());
+            if (relPath.startsWith("/"))
+                relPath = relPath.substring(1);
+            assertEquals(partition, Integer.parseInt(relPath.substring(0, relPath.indexOf('/')), 16));
+            partitions.add(partition);
+        }
+        // the files are spread across many directories
+        assertTrue(partitions.size() > 100);
+    }
+
+    @Test
+    public void testParallelDeletion() throws Exception {
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+        final int numFiles = 40;
+        final int numObjects = 3;
+        for (int i = 0; i < numFiles; i++) {
+            writeFile(layout, "ABCDEF:" + i, numObjects);
+        }
+
+        DeletionStage stage = new DeletionStage(null, layout.getMetadataCache(), layout, 4, 0, 1000);
+        stage.start();
+        try {
+            for (int i = 0; i < numFiles; i++) {
+                deleteFile(stage, "ABCDEF:" + i);
+            }
+            for (int i = 0; i < numFiles; i++) {
+                waitForDeletion(layout, "ABCDEF:" + i, 10000);
+            }
+
+            assertEquals(numFiles, stage.getNumFilesDeleted());
+            assertTrue(stage.getNumObjectFilesDeleted() >= numFiles * numObjects);
+            assertTrue(stage.getNumBytesReclaimed() >= (long) numFiles * numObjects * OBJECT_SIZE);
+            assertEquals(0, stage.getMaxDeletionRate());
+            assertEquals(4, stage.getDeletionQueueLengths().length);
+        } finally {
+            stage.shutdown();
+        }
+    }
+
+    @Test
+    public void testThrottle() throws Exception {
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+        final String fileId = "ABCDEF:1";
+        writeFile(layout, fileId, 30);
+
+        // 100 object files per second: deleting 30 objects takes at least 0.29 seconds
+        DeletionStage stage = new DeletionStage(null, layout.getMetadataCache(), layout, 2, 100, 1000);
+        stage.start();
+        try {
+            final long start = System.currentTimeMillis();
+            deleteFile(stage, fileId);
+            waitForDeletion(layout, fileId, 10000);
+            final long duration = System.currentTimeMillis() - start;
+
+            assertTrue(stage.getNumObjectFilesDeleted() >= 30);
+            assertTrue("deletion took " + duration + " ms", duration >= 280);
+            assertEquals(100, stage.getMaxDeletionRate());
+        } finally {
+            stage.shutdown();
+        }
+    }
+
+    private static void writeFile(HashStorageLayout layout, String fileId, int numObjects) throws Exception {
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, OBJECT_SIZE / 1024))
+                .setReplicationFlags(0).build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+        for (int i = 0; i < numObjects; i++) {
+            layout.writeObject(fileId, md, createData(i), i, 0, 1, false, false);
+        }
+        layout.getMetadataCache().removeFileInfo(fileId);
+    }
+
+    private static void deleteFile(DeletionStage stage, String fileId) {
+        stage.deleteObjects(fileId, null, false, null, true, new DeleteObjectsCallback() {
+            @Override
+            public void deleteComplete(ErrorResponse error) {
+                assertNull(error);
+            }
+        });
+    }
+
+    private static void waitForDeletion(HashStorageLayout layout, String fileId, long timeoutMs)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMs;
+        while (layout.fileExists(fileId)) {
+            if (System.currentTimeMillis() > deadline)
+                fail("objects of " + fileId + " were not deleted");
+            Thread.sleep(10);
+        }
+        assertFalse(layout.fileExists(fileId));
+    }
+
+    private static ReusableBuffer createData(int value) {
+        ReusableBuffer buf = BufferPool.allocate(OBJECT_SIZE);
+        while (buf.hasRemaining())
+            buf.put((byte) value);
+        buf.flip();
+        return buf;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.storage.FileHandleCache;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestHelper;
+
+public class FileHandleCacheTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    private static File dir;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+        dir = new File(SetupUtils.TEST_DIR, "fhcache");
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        FSUtils.delTree(dir);
+        dir.mkdirs();
+    }
+
+    @Test
+    public void testReuse() throws Exception {
+        FileHandleCache cache = new FileHandleCache(4);
+        final String path = new File(dir, "obj").getPath();
+
+        assertNull(cache.open(path, false));
+        RandomAccessFile f = cache.open(path, true);
+        cache.release(f);
+        assertSame(f, cache.open(path, false));
+        cache.release(f);
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getNumInUse());
+
+        // a released handle is closed right away when it is invalidated
+        cache.invalidate(path);
+        assertFalse(f.getChannel().isOpen());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testInvalidateInUse() throws Exception {
+        final FileHandleCache cache = new FileHandleCache(4);
+        final String path = new File(dir, "obj").getPath();
+        RandomAccessFile f = cache.open(path, true);
+
+        // another thread invalidates the handle while the owner is using it
+        Thread t = new Thread() {
+            @Override
+            public void run() {
+                cache.invalidateAll(dir.getPath());
+            }
+        };
+        t.start();
+        t.join();
+
+        assertEquals(0, cache.size());
+        assertTrue(f.getChannel().isOpen());
+        f.getChannel().write(ByteBuffer.wrap(new byte[16]), 0);
+        f.getChannel().force(false);
+
+        // the handle is closed on release, and the next open returns a new one
+        cache.release(f);
+        assertFalse(f.getChannel().isOpen());
+        assertEquals(0, cache.getNumInUse());
+        RandomAccessFile f2 = cache.open(path, false);
+        assertNotSame(f, f2);
+        assertEquals(16, f2.length());
+        cache.release(f2);
+        cache.clear();
+        assertFalse(f2.getChannel().isOpen());
+    }
+
+    @Test
+    public void testEvictInUse() throws Exception {
+        FileHandleCache cache = new FileHandleCache(1);
+        RandomAccessFile f1 = cache.open(new File(dir, "obj1").getPath(), true);
+        RandomAccessFile f2 = cache.open(new File(dir, "obj2").getPath(), true);
+        assertEquals(1, cache.getEvictions());
+        assertEquals(1, cache.size());
+
+        // the evicted handle is still in use
+        assertTrue(f1.getChannel().isOpen());
+        cache.release(f1);
+        assertFalse(f1.getChannel().isOpen());
+
+        cache.release(f2);
+        assertTrue(f2.getChannel().isOpen());
+        cache.clear();
+        assertFalse(f2.getChannel().isOpen());
+    }
+}
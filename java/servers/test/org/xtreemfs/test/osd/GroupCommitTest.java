@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.common.xloc.StripingPolicyImpl;
+import org.xtreemfs.foundation.buffer.BufferPool;
+import org.xtreemfs.foundation.buffer.ReusableBuffer;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.POSIXErrno;
+import org.xtreemfs.foundation.pbrpc.generatedinterfaces.RPC.RPCHeader.ErrorResponse;
+import org.xtreemfs.foundation.util.FSUtils;
+import org.xtreemfs.osd.OSDConfig;
+import org.xtreemfs.osd.stages.StorageStage.WriteObjectCallback;
+import org.xtreemfs.osd.storage.DurabilityPolicy;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.GroupCommit;
+import org.xtreemfs.osd.storage.HashStorageLayout;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.osd.storage.ObjectInformation;
+import org.xtreemfs.osd.storage.StorageLayout;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.OSDWriteResponse;
+import org.xtreemfs.pbrpc.generatedinterfaces.GlobalTypes.Replica;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestHelper;
+
+public class GroupCommitTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    static OSDConfig config;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+        config = SetupUtils.createOSD1Config();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        FSUtils.delTree(new File(config.getObjDir()));
+    }
+
+    @Test
+    public void testGroupCommit() throws Exception {
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 64)).setReplicationFlags(0)
+                .build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+
+        final String fileId = "ABCDEF:1";
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+
+        final List<Integer> acks = new ArrayList<Integer>();
+        GroupCommit groupCommit = new GroupCommit(layout, 3600 * 1000000000L);
+        assertTrue(groupCommit.isEmpty());
+        assertFalse(groupCommit.isDue());
+
+        // three writes to two objects
+        for (int i = 0; i < 3; i++) {
+            final int seqNo = i;
+            final long objNo = i % 2;
+            layout.writeObject(fileId, md, createData(i), objNo, 0, 1, false, false);
+            groupCommit.add(fileId, md, objNo, md.getLatestObjectVersion(objNo), 0,
+                OSDWriteResponse.newBuilder().build(), new WriteObjectCallback() {
+                    @Override
+                    public void writeComplete(OSDWriteResponse result, ErrorResponse error) {
+                        assertNull(error);
+                        acks.add(seqNo);
+                    }
+                });
+        }
+
+        // nothing is acknowledged before the window expires
+        assertFalse(groupCommit.isEmpty());
+        assertFalse(groupCommit.isDue());
+        assertTrue(groupCommit.getRemainingNanos() > 0);
+        assertTrue(acks.isEmpty());
+
+        groupCommit.commit();
+        assertEquals(3, acks.size());
+        for (int i = 0; i < 3; i++)
+            assertEquals(i, (int) acks.get(i));
+        assertTrue(groupCommit.isEmpty());
+        assertEquals(3, groupCommit.getNumWrites());
+        assertEquals(1, groupCommit.getNumCommits());
+        assertEquals(2, groupCommit.getNumFlushes());
+
+        ObjectInformation oi = layout.readObject(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH,
+            md.getLatestObjectVersion(0));
+        assertEquals((byte) 2, oi.getData().get(0));
+        BufferPool.free(oi.getData());
+    }
+
+    @Test
+    public void testWindow() throws Exception {
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 64)).setReplicationFlags(0)
+                .build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+
+        final String fileId = "ABCDEF:2";
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+        GroupCommit groupCommit = new GroupCommit(layout, 10 * 1000000L);
+
+        final OSDWriteResponse response = OSDWriteResponse.newBuilder().build();
+        final List<OSDWriteResponse> acks = new ArrayList<OSDWriteResponse>();
+        layout.writeObject(fileId, md, createData(0), 0, 0, 1, false, false);
+        groupCommit.add(fileId, md, 0, 1, 0, response, new WriteObjectCallback() {
+            @Override
+            public void writeComplete(OSDWriteResponse result, ErrorResponse error) {
+                assertNull(error);
+                acks.add(result);
+            }
+        });
+
+        Thread.sleep(20);
+        assertTrue(groupCommit.isDue());
+        assertEquals(0, groupCommit.getRemainingNanos());
+        groupCommit.commit();
+        assertEquals(1, acks.size());
+        assertSame(response, acks.get(0));
+
+        // the pending write of a file that is deleted is committed before the delete
+        layout.writeObject(fileId, md, createData(1), 1, 0, 1, false, false);
+        groupCommit.add(fileId, md, 1, 1, 0, response, new WriteObjectCallback() {
+            @Override
+            public void writeComplete(OSDWriteResponse result, ErrorResponse error) {
+                assertNull(error);
+                acks.add(result);
+            }
+        });
+        layout.deleteFile(fileId, true);
+        groupCommit.commit();
+        assertEquals(2, acks.size());
+    }
+
+    @Test
+    public void testRename() throws Exception {
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 64)).setReplicationFlags(0)
+                .build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+
+        final String fileId = "ABCDEF:3";
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+        GroupCommit groupCommit = new GroupCommit(layout, 3600 * 1000000000L);
+
+        final List<ErrorResponse> errors = new ArrayList<ErrorResponse>();
+        final List<OSDWriteResponse> acks = new ArrayList<OSDWriteResponse>();
+        layout.writeObject(fileId, md, createData(0), 0, 0, 1, false, false);
+        groupCommit.add(fileId, md, 0, 1, 0, OSDWriteResponse.newBuilder().build(), new WriteObjectCallback() {
+            @Override
+            public void writeComplete(OSDWriteResponse result, ErrorResponse error) {
+                acks.add(result);
+                errors.add(error);
+            }
+        });
+
+        // a partial write of a new version renames the object file, so the pending write is committed first
+        ReusableBuffer data = BufferPool.allocate(4096);
+        while (data.hasRemaining())
+            data.put((byte) 1);
+        data.flip();
+        layout.writeObject(fileId, md, data, 0, 0, 2, false, false);
+        assertEquals(1, acks.size());
+        assertNotNull(acks.get(0));
+        assertNull(errors.get(0));
+        assertTrue(groupCommit.isEmpty());
+
+        groupCommit.commit();
+        assertEquals(1, acks.size());
+        assertEquals(1, groupCommit.getNumCommits());
+
+        // an object version that does not exist anymore cannot be flushed
+        try {
+            layout.syncObject(fileId, md, 0, 1, 0);
+            fail("flushed a missing object");
+        } catch (IOException exc) {
+            // expected
+        }
+        layout.syncObject(fileId, md, 0, 2, 0);
+
+        // a write whose object is missing when it is committed fails with EIO
+        groupCommit.add(fileId, md, 0, 1, 0, OSDWriteResponse.newBuilder().build(), new WriteObjectCallback() {
+            @Override
+            public void writeComplete(OSDWriteResponse result, ErrorResponse error) {
+                acks.add(result);
+                errors.add(error);
+            }
+        });
+        groupCommit.commit();
+        assertEquals(2, acks.size());
+        assertNull(acks.get(1));
+        assertEquals(POSIXErrno.POSIX_ERROR_EIO, errors.get(1).getPosixErrno());
+    }
+
+    @Test
+    public void testDurabilityPolicy() throws Exception {
+        DurabilityPolicy policy = DurabilityPolicy.parse("client", null);
+        assertTrue(policy.isSyncWrite("VOL1:1", true));
+        assertFalse(policy.isSyncWrite("VOL1:1", false));
+
+        policy = DurabilityPolicy.parse("client", " VOL1=sync, VOL2 = ASYNC ,");
+        assertTrue(policy.isSyncWrite("VOL1:1", false));
+        assertFalse(policy.isSyncWrite("VOL2:1", true));
+        assertTrue(policy.isSyncWrite("VOL3:1", true));
+        assertFalse(policy.isSyncWrite("VOL3:1", false));
+
+        policy = DurabilityPolicy.parse("sync", "VOL2=client");
+        assertTrue(policy.isSyncWrite("VOL1:1", false));
+        assertFalse(policy.isSyncWrite("VOL2:1", false));
+
+        for (String[] invalid : new String[][] { { "always", "" }, { "client", "VOL1" },
+                { "client", "VOL1=never" } }) {
+            try {
+                DurabilityPolicy.parse(invalid[0], invalid[1]);
+                fail("accepted " + invalid[0] + " / " + invalid[1]);
+            } catch (IllegalArgumentException exc) {
+                // expected
+            }
+        }
+    }
+
+    private static ReusableBuffer createData(int value) {
+        ReusableBuffer buf = BufferPool.allocate(64 * 1024);
+        while (buf.hasRemaining())
+            buf.put((byte) value);
+        buf.flip();
+        return buf;
+    }
+}
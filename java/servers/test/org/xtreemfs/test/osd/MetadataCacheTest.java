@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.foundation.logging.Logging;
+import org.xtreemfs.osd.storage.FileMetadata;
+import org.xtreemfs.osd.storage.MetadataCache;
+import org.xtreemfs.osd.storage.ObjectChecksumMap;
+import org.xtreemfs.osd.storage.ObjectVersionMap;
+import org.xtreemfs.test.SetupUtils;
+import org.xtreemfs.test.TestHelper;
+
+public class MetadataCacheTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    @BeforeClass
+    public static void initializeTest() throws Exception {
+        Logging.start(SetupUtils.DEBUG_LEVEL);
+    }
+
+    @Test
+    public void testUnbounded() throws Exception {
+        MetadataCache cache = new MetadataCache();
+        for (int i = 0; i < 1000; i++)
+            cache.setFileInfo("file" + i, createMetadata(100));
+
+        assertEquals(1000, cache.getNumEntries());
+        assertEquals(0, cache.getEvictions());
+        assertNotNull(cache.getFileInfo("file0"));
+        assertNull(cache.getFileInfo("unknown"));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        long size = cache.getSize();
+        assertNotNull(cache.removeFileInfo("file0"));
+        assertTrue(cache.getSize() < size);
+        assertNull(cache.removeFileInfo("file0"));
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        MetadataCache cache = new MetadataCache(64 * 1024);
+        for (int i = 0; i < 1000; i++)
+            cache.setFileInfo("file" + i, createMetadata(100));
+
+        assertTrue(cache.getEvictions() > 0);
+        assertTrue(cache.getSize() <= cache.getMaxSize());
+        assertEquals(1000 - cache.getEvictions(), cache.getNumEntries());
+
+        // the most recently inserted entry must still be cached
+        assertNotNull(cache.getFileInfo("file999"));
+    }
+
+    @Test
+    public void testPinnedEntriesAreNotEvicted() throws Exception {
+        MetadataCache cache = new MetadataCache(64 * 1024);
+        for (int i = 0; i < 10; i++) {
+            cache.pin("open" + i);
+            cache.setFileInfo("open" + i, createMetadata(100));
+        }
+        for (int i = 0; i < 1000; i++)
+            cache.setFileInfo("file" + i, createMetadata(100));
+
+        for (int i = 0; i < 10; i++)
+            assertNotNull(cache.getFileInfo("open" + i));
+        assertEquals(10, cache.getNumPinnedFiles());
+
+        // once unpinned, entries may be evicted again
+        for (int i = 0; i < 10; i++)
+            cache.unpin("open" + i);
+        for (int i = 1000; i < 2000; i++)
+            cache.setFileInfo("file" + i, createMetadata(100));
+        for (int i = 0; i < 10; i++)
+            assertNull(cache.getFileInfo("open" + i));
+    }
+
+    @Test
+    public void testAllPinned() throws Exception {
+        MetadataCache cache = new MetadataCache(1024);
+        for (int i = 0; i < 10; i++) {
+            cache.pin("open" + i);
+            cache.setFileInfo("open" + i, createMetadata(100));
+        }
+
+        // the bound may be exceeded, but open files must be retained
+        assertEquals(10, cache.getNumEntries());
+        assertEquals(0, cache.getEvictions());
+        assertTrue(cache.getSize() > cache.getMaxSize());
+    }
+
+    private static FileMetadata createMetadata(int numObjs) {
+        FileMetadata md = new FileMetadata(null);
+        ObjectVersionMap versions = new ObjectVersionMap();
+        md.initLatestObjectVersions(versions);
+        md.initLargestObjectVersions(versions);
+        md.initObjectChecksums(new ObjectChecksumMap());
+        for (int i = 0; i < numObjs; i++)
+            md.updateObjectVersion(i, 1);
+        md.setLastObjectNumber(numObjs - 1);
+        md.setFilesize(numObjs);
+        return md;
+    }
+}
@@ -159,7 +159,7 @@ public class OSDTruncateTest {
         assertTrue(resp.hasSizeInBytes());
         assertEquals(3 * 2048 + 1024, resp.getSizeInBytes());
 
-        XCap newCap = fcred.getXcap().toBuilder().setTruncateEpoch(1).build();
+        XCap newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 1, osdConfig.getCapabilitySecret());
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         // truncate shrink to 3 object, 3rd object half
@@ -206,7 +206,7 @@ public class OSDTruncateTest {
         assertTrue(resp.hasSizeInBytes());
         assertEquals(6 * 2048 + 1024, resp.getSizeInBytes());
 
-        XCap newCap = fcred.getXcap().toBuilder().setTruncateEpoch(1).build();
+        XCap newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 1, osdConfig.getCapabilitySecret());
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         // truncate shrink to 3 object, 3rd object half
@@ -243,7 +243,7 @@ public class OSDTruncateTest {
         assertTrue(resp.hasSizeInBytes());
         assertEquals(1024, resp.getSizeInBytes());
 
-        XCap newCap = fcred.getXcap().toBuilder().setTruncateEpoch(1).build();
+        XCap newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 1, osdConfig.getCapabilitySecret());
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         // truncate shrink to 512
@@ -285,7 +285,7 @@ public class OSDTruncateTest {
         assertTrue(resp.hasSizeInBytes());
         assertEquals(1024, resp.getSizeInBytes());
 
-        XCap newCap = fcred.getXcap().toBuilder().setTruncateEpoch(1).build();
+        XCap newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 1, osdConfig.getCapabilitySecret());
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         // wirte first 512 bytes to object 0
@@ -300,7 +300,7 @@ public class OSDTruncateTest {
         r2.freeBuffers();
         assertFalse(resp2.hasSizeInBytes());
 
-        newCap = fcred.getXcap().toBuilder().setTruncateEpoch(1).build();
+        newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 1, osdConfig.getCapabilitySecret());
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         // truncate shrink to 512
@@ -342,7 +342,7 @@ public class OSDTruncateTest {
         assertTrue(resp.hasSizeInBytes());
         assertEquals(1024, resp.getSizeInBytes());
 
-        XCap newCap = fcred.getXcap().toBuilder().setTruncateEpoch(1).build();
+        XCap newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 1, osdConfig.getCapabilitySecret());
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         // truncate extend to 2047
@@ -386,7 +386,7 @@ public class OSDTruncateTest {
         assertTrue(resp.hasSizeInBytes());
         assertEquals(1024, resp.getSizeInBytes());
 
-        XCap newCap = fcred.getXcap().toBuilder().setTruncateEpoch(1).build();
+        XCap newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 1, osdConfig.getCapabilitySecret());
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         // truncate extend to 4 objects
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.osd.storage.ObjectChecksumMap;
+import org.xtreemfs.osd.storage.ObjectVersionMap;
+import org.xtreemfs.test.TestHelper;
+
+public class ObjectVersionMapTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    @Test
+    public void testVersionMapBasics() throws Exception {
+        ObjectVersionMap m = new ObjectVersionMap();
+        assertTrue(m.isEmpty());
+        assertEquals(0, m.get(5));
+        assertFalse(m.containsKey(5));
+
+        m.put(5, 1);
+        m.put(0, 3);
+        assertEquals(2, m.size());
+        assertEquals(1, m.get(5));
+        assertEquals(3, m.get(0));
+
+        m.put(5, 7);
+        assertEquals(2, m.size());
+        assertEquals(7, m.get(5));
+
+        m.remove(5);
+        assertEquals(1, m.size());
+        assertFalse(m.containsKey(5));
+        assertEquals(0, m.get(5));
+
+        m.clear();
+        assertTrue(m.isEmpty());
+        assertEquals(-1, m.nextSlot(-1));
+    }
+
+    @Test
+    public void testVersionMapRandomized() throws Exception {
+        ObjectVersionMap m = new ObjectVersionMap();
+        Map<Long, Long> ref = new HashMap<Long, Long>();
+        Random rnd = new Random(42);
+
+        for (int i = 0; i < 100000; i++) {
+            long objNo = rnd.nextInt(5000);
+            if (rnd.nextInt(3) == 0) {
+                m.remove(objNo);
+                ref.remove(objNo);
+            } else {
+                long v = rnd.nextInt(100) + 1;
+                m.put(objNo, v);
+                ref.put(objNo, v);
+            }
+        }
+
+        assertEquals(ref.size(), m.size());
+        for (Map.Entry<Long, Long> e : ref.entrySet())
+            assertEquals(e.getValue().longValue(), m.get(e.getKey()));
+
+        int count = 0;
+        for (int i = m.nextSlot(-1); i != -1; i = m.nextSlot(i)) {
+            assertEquals(ref.get(m.keyAt(i)).longValue(), m.valueAt(i));
+            count++;
+        }
+        assertEquals(ref.size(), count);
+    }
+
+    @Test
+    public void testChecksumMap() throws Exception {
+        ObjectChecksumMap m = new ObjectChecksumMap();
+        assertNull(m.get(1, 1));
+
+        for (long objNo = 0; objNo < 1000; objNo++)
+            for (long objVer = 1; objVer <= 3; objVer++)
+                m.put(objNo, objVer, objNo * 10 + objVer);
+        assertEquals(3000, m.size());
+        assertEquals(Long.valueOf(4242), m.get(424, 2));
+
+        m.remove(424, 2);
+        assertNull(m.get(424, 2));
+        assertEquals(Long.valueOf(4241), m.get(424, 1));
+
+        m.removeAll(7);
+        assertNull(m.get(7, 1));
+        assertNull(m.get(7, 3));
+        assertEquals(2996, m.size());
+        for (long objNo = 0; objNo < 1000; objNo++) {
+            if (objNo == 7)
+                continue;
+            assertEquals(Long.valueOf(objNo * 10 + 3), m.get(objNo, 3));
+        }
+    }
+}
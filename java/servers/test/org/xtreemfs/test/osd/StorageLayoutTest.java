@@ -15,6 +15,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.util.ArrayList;
 
 import org.junit.After;
@@ -32,6 +33,7 @@ import org.xtreemfs.foundation.logging.Logging;
 import org.xtreemfs.foundation.util.FSUtils;
 import org.xtreemfs.osd.OSDConfig;
 import org.xtreemfs.osd.replication.ObjectSet;
+import org.xtreemfs.osd.storage.BlockChecksums;
 import org.xtreemfs.osd.storage.FileMetadata;
 import org.xtreemfs.osd.storage.HashStorageLayout;
 import org.xtreemfs.osd.storage.MetadataCache;
@@ -86,6 +88,347 @@ public class StorageLayoutTest {
         basicTests(layout);
     }
 
+    @Test
+    public void testHashStorageLayoutWithBlockChecksumsBasics() throws Exception {
+
+        ChecksumFactory.getInstance().addProvider(new JavaChecksumProvider());
+        SetupUtils.CHECKSUMS_ON = true;
+        OSDConfig configCSUM = SetupUtils.createOSD1Config();
+        SetupUtils.CHECKSUMS_ON = false;
+        configCSUM.setChecksumBlockSize(1);
+        HashStorageLayout layout = new HashStorageLayout(configCSUM, new MetadataCache());
+        basicTests(layout);
+    }
+
+    @Test
+    public void testHashStorageLayoutBlockChecksums() throws Exception {
+
+        ChecksumFactory.getInstance().addProvider(new JavaChecksumProvider());
+        SetupUtils.CHECKSUMS_ON = true;
+        OSDConfig configCSUM = SetupUtils.createOSD1Config();
+        SetupUtils.CHECKSUMS_ON = false;
+        configCSUM.setChecksumBlockSize(4);
+        HashStorageLayout layout = new HashStorageLayout(configCSUM, new MetadataCache());
+        final String fileId = "ABCDEFG:0005";
+
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 128)).setReplicationFlags(0)
+                .build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+
+        ReusableBuffer data = BufferPool.allocate(128 * 1024);
+        for (int i = 0; data.hasRemaining(); i++)
+            data.put((byte) i);
+        layout.writeObject(fileId, md, data, 0, 0, 1, false, false);
+
+        // the object is written in place, its name does not contain a checksum
+        String objectPath = layout.generateAbsoluteFilePath(fileId) + HashStorageLayout.createFileName(0, 1, 0);
+        File sidecar = new File(BlockChecksums.getSidecarPath(objectPath));
+        assertTrue(new File(objectPath).exists());
+        assertTrue(sidecar.exists());
+        assertEquals(4 + 32 * 8, sidecar.length());
+
+        // a partial write across a block boundary
+        data = BufferPool.allocate(100);
+        for (int i = 0; data.hasRemaining(); i++)
+            data.put((byte) 7);
+        layout.writeObject(fileId, md, data, 0, 8 * 1024 - 50, 1, false, false);
+
+        ObjectInformation oi = layout.readObject(fileId, md, 0, 8 * 1024 - 60, 120, 1);
+        assertFalse(oi.isChecksumInvalidOnOSD());
+        assertEquals(120, oi.getData().remaining());
+        assertEquals((byte) (8 * 1024 - 60), oi.getData().get(0));
+        assertEquals((byte) 7, oi.getData().get(10));
+        assertEquals((byte) 7, oi.getData().get(109));
+        assertEquals((byte) (8 * 1024 + 50), oi.getData().get(110));
+        BufferPool.free(oi.getData());
+
+        oi = layout.readObject(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 1);
+        assertFalse(oi.isChecksumInvalidOnOSD());
+        BufferPool.free(oi.getData());
+
+        // a corrupted block is only detected by the reads that return it
+        RandomAccessFile raf = new RandomAccessFile(objectPath, "rw");
+        raf.seek(20 * 1024 + 5);
+        raf.write(0xFF);
+        raf.close();
+
+        oi = layout.readObject(fileId, md, 0, 0, 20 * 1024, 1);
+        assertFalse(oi.isChecksumInvalidOnOSD());
+        BufferPool.free(oi.getData());
+        oi = layout.readObject(fileId, md, 0, 24 * 1024 - 1, 10, 1);
+        assertTrue(oi.isChecksumInvalidOnOSD());
+        assertEquals(10, oi.getData().remaining());
+        BufferPool.free(oi.getData());
+        oi = layout.readObject(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 1);
+        assertTrue(oi.isChecksumInvalidOnOSD());
+        BufferPool.free(oi.getData());
+
+        // truncates re-hash the last block, and drop the checksums of removed blocks
+        layout.truncateObject(fileId, md, 0, 10 * 1024, 2, false);
+        objectPath = layout.generateAbsoluteFilePath(fileId) + HashStorageLayout.createFileName(0, 2, 0);
+        sidecar = new File(BlockChecksums.getSidecarPath(objectPath));
+        assertTrue(sidecar.exists());
+        assertEquals(4 + 3 * 8, sidecar.length());
+        oi = layout.readObject(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 2);
+        assertFalse(oi.isChecksumInvalidOnOSD());
+        assertEquals(10 * 1024, oi.getData().remaining());
+        BufferPool.free(oi.getData());
+
+        layout.truncateObject(fileId, md, 0, 30 * 1024, 3, false);
+        oi = layout.readObject(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 3);
+        assertFalse(oi.isChecksumInvalidOnOSD());
+        assertEquals(30 * 1024, oi.getData().remaining());
+        assertEquals((byte) 0, oi.getData().get(20 * 1024));
+        BufferPool.free(oi.getData());
+
+        // deleting the object deletes its sidecar
+        layout.deleteObject(fileId, md, 0, 3);
+        objectPath = layout.generateAbsoluteFilePath(fileId) + HashStorageLayout.createFileName(0, 3, 0);
+        assertFalse(new File(objectPath).exists());
+        assertFalse(new File(BlockChecksums.getSidecarPath(objectPath)).exists());
+
+        layout.shutdown();
+    }
+
+    @Test
+    public void testHashStorageLayoutWithoutFileHandleCacheBasics() throws Exception {
+
+        OSDConfig configNoCache = SetupUtils.createOSD1Config();
+        configNoCache.setFileHandleCacheSize(0);
+        HashStorageLayout layout = new HashStorageLayout(configNoCache, new MetadataCache());
+        basicTests(layout);
+    }
+
+    @Test
+    public void testHashStorageLayoutFileHandleCache() throws Exception {
+
+        HashStorageLayout layout = new HashStorageLayout(config, new MetadataCache());
+        final String fileId = "ABCDEFG:0002";
+
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 64)).setReplicationFlags(0)
+                .build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+
+        ReusableBuffer data = BufferPool.allocate(64);
+        data.put(new byte[64]);
+        data.flip();
+        layout.writeObject(fileId, md, data, 0l, 0, 1l, false, false);
+        assertEquals(1, layout.getFileHandleCacheMisses());
+
+        // the object file was renamed to the new version, so the first read has to open it again; subsequent
+        // reads and writes of the same object reuse the open handle
+        for (int i = 0; i < 3; i++) {
+            ObjectInformation oinfo = layout.readObject(fileId, md, 0l, 0, 32, 1l);
+            assertEquals(32, oinfo.getData().capacity());
+            BufferPool.free(oinfo.getData());
+        }
+        data = BufferPool.allocate(16);
+        data.put(new byte[16]);
+        data.flip();
+        layout.writeObject(fileId, md, data, 0l, 16, 1l, true, false);
+        assertEquals(3, layout.getFileHandleCacheHits());
+        assertEquals(2, layout.getFileHandleCacheMisses());
+
+        // deleting the file must drop the handle, so that subsequent reads do not see the old data
+        layout.deleteFile(fileId, true);
+        ObjectInformation oinfo = layout.readObject(fileId, md, 0l, 0, 32, 1l);
+        assertEquals(ObjectInformation.ObjectStatus.DOES_NOT_EXIST, oinfo.getStatus());
+
+        layout.shutdown();
+    }
+
+    @Test
+    public void testHashStorageLayoutWithObjectIndexBasics() throws Exception {
+
+        OSDConfig configIndex = SetupUtils.createOSD1Config();
+        configIndex.setUseObjectIndex(true);
+        HashStorageLayout layout = new HashStorageLayout(configIndex, new MetadataCache());
+        basicTests(layout);
+    }
+
+    @Test
+    public void testHashStorageLayoutWithMappedReadsBasics() throws Exception {
+
+        OSDConfig configMapped = SetupUtils.createOSD1Config();
+        configMapped.setUseMappedReads(true);
+        HashStorageLayout layout = new HashStorageLayout(configMapped, new MetadataCache());
+        basicTests(layout);
+    }
+
+    @Test
+    public void testHashStorageLayoutMappedReads() throws Exception {
+
+        OSDConfig configMapped = SetupUtils.createOSD1Config();
+        configMapped.setUseMappedReads(true);
+        HashStorageLayout layout = new HashStorageLayout(configMapped, new MetadataCache());
+        final String fileId = "ABCDEFG:0004";
+
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 128)).setReplicationFlags(0)
+                .build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+
+        ReusableBuffer data = BufferPool.allocate(128 * 1024);
+        for (int i = 0; data.hasRemaining(); i++)
+            data.put((byte) i);
+        layout.writeObject(fileId, md, data, 0, 0, 1, false, false);
+
+        // large reads are mapped
+        ObjectInformation oi = layout.readObjectForTransfer(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 1);
+        assertFalse(oi.getData().isReusable());
+        assertEquals(128 * 1024, oi.getData().remaining());
+        assertEquals((byte) 100, oi.getData().get(100));
+        BufferPool.free(oi.getData());
+
+        oi = layout.readObjectForTransfer(fileId, md, 0, 64 * 1024, 64 * 1024, 1);
+        assertFalse(oi.getData().isReusable());
+        assertEquals(64 * 1024, oi.getData().remaining());
+        assertEquals((byte) (64 * 1024 + 1), oi.getData().get(1));
+        BufferPool.free(oi.getData());
+
+        // other reads are always buffered, as their data may be modified
+        oi = layout.readObject(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 1);
+        assertTrue(oi.getData().isReusable());
+        assertEquals(128 * 1024, oi.getData().remaining());
+        BufferPool.free(oi.getData());
+
+        // small reads are buffered
+        oi = layout.readObjectForTransfer(fileId, md, 0, 1000, 1000, 1);
+        assertTrue(oi.getData().isReusable());
+        assertEquals((byte) 1001, oi.getData().get(1));
+        BufferPool.free(oi.getData());
+
+        // a mapped region stays readable after its object was truncated and deleted
+        oi = layout.readObjectForTransfer(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 1);
+        assertFalse(oi.getData().isReusable());
+        layout.truncateObject(fileId, md, 0, 1000, 1, false);
+        assertEquals((byte) (128 * 1024 - 1), oi.getData().get(128 * 1024 - 1));
+        ObjectInformation truncated = layout.readObject(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 1);
+        assertEquals(1000, truncated.getData().remaining());
+        assertEquals((byte) 999, truncated.getData().get(999));
+        BufferPool.free(truncated.getData());
+        layout.deleteFile(fileId, true);
+        assertEquals((byte) 100, oi.getData().get(100));
+        BufferPool.free(oi.getData());
+    }
+
+    @Test
+    public void testHashStorageLayoutMappedReadsCOW() throws Exception {
+
+        OSDConfig configMapped = SetupUtils.createOSD1Config();
+        configMapped.setUseMappedReads(true);
+        HashStorageLayout layout = new HashStorageLayout(configMapped, new MetadataCache());
+        final String fileId = "ABCDEFG:0005";
+
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 128)).setReplicationFlags(0)
+                .build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+
+        ReusableBuffer data = BufferPool.allocate(128 * 1024);
+        for (int i = 0; data.hasRemaining(); i++)
+            data.put((byte) i);
+        layout.writeObject(fileId, md, data, 0, 0, 1, false, false);
+
+        // a COW partial write copies the old version into a writable buffer
+        data = BufferPool.allocate(1000);
+        while (data.hasRemaining())
+            data.put((byte) -1);
+        data.flip();
+        layout.writeObject(fileId, md, data, 0, 100, 2, false, true);
+        assertEquals(2, md.getLatestObjectVersion(0));
+
+        ObjectInformation oi = layout.readObjectForTransfer(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 2);
+        assertEquals(128 * 1024, oi.getData().remaining());
+        assertEquals((byte) 99, oi.getData().get(99));
+        assertEquals((byte) -1, oi.getData().get(100));
+        assertEquals((byte) -1, oi.getData().get(1099));
+        assertEquals((byte) 1100, oi.getData().get(1100));
+        BufferPool.free(oi.getData());
+
+        // the old version is unchanged
+        oi = layout.readObjectForTransfer(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 1);
+        assertEquals((byte) 100, oi.getData().get(100));
+        BufferPool.free(oi.getData());
+
+        // a COW truncate copies the old version as well
+        layout.truncateObject(fileId, md, 0, 1000, 3, true);
+        oi = layout.readObjectForTransfer(fileId, md, 0, 0, StorageLayout.FULL_OBJECT_LENGTH, 3);
+        assertEquals(1000, oi.getData().remaining());
+        assertEquals((byte) -1, oi.getData().get(999));
+        BufferPool.free(oi.getData());
+    }
+
+    @Test
+    public void testHashStorageLayoutObjectIndex() throws Exception {
+
+        OSDConfig configIndex = SetupUtils.createOSD1Config();
+        configIndex.setUseObjectIndex(true);
+        HashStorageLayout layout = new HashStorageLayout(configIndex, new MetadataCache());
+        final String fileId = "ABCDEFG:0003";
+
+        Replica r = Replica.newBuilder().setStripingPolicy(SetupUtils.getStripingPolicy(1, 64)).setReplicationFlags(0)
+                .build();
+        StripingPolicyImpl sp = StripingPolicyImpl.getPolicy(r, 0);
+        FileMetadata md = layout.getFileMetadata(sp, fileId);
+
+        // full, partial and COW writes, a truncate and a deletion change the set of object files
+        for (long objNo = 0; objNo < 8; objNo++) {
+            ReusableBuffer data = BufferPool.allocate(64);
+            data.put(new byte[64]);
+            data.flip();
+            layout.writeObject(fileId, md, data, objNo, 0, 1l, false, false);
+        }
+        ReusableBuffer data = BufferPool.allocate(16);
+        data.put(new byte[16]);
+        data.flip();
+        layout.writeObject(fileId, md, data, 2l, 8, 2l, false, false);
+        data = BufferPool.allocate(16);
+        data.put(new byte[16]);
+        data.flip();
+        layout.writeObject(fileId, md, data, 3l, 8, 2l, false, true);
+        layout.truncateObject(fileId, md, 7l, 32, 2l, false);
+        layout.deleteObject(fileId, md, 5l, 1l);
+
+        File indexFile = new File(layout.generateAbsoluteFilePath(fileId), HashStorageLayout.OBJECT_INDEX_FILENAME);
+        assertTrue(indexFile.exists());
+        long indexLength = indexFile.length();
+
+        // the index has to yield the same metadata as a directory scan
+        HashStorageLayout indexLayout = new HashStorageLayout(configIndex, new MetadataCache());
+        HashStorageLayout scanLayout = new HashStorageLayout(config, new MetadataCache());
+        FileMetadata indexed = indexLayout.getFileMetadataNoCaching(sp, fileId);
+        FileMetadata scanned = scanLayout.getFileMetadataNoCaching(sp, fileId);
+        assertEquals(indexLength, indexFile.length());
+        assertEquals(scanned.getFilesize(), indexed.getFilesize());
+        assertEquals(scanned.getLastObjectNumber(), indexed.getLastObjectNumber());
+        for (long objNo = 0; objNo < 8; objNo++) {
+            assertEquals(scanned.getLatestObjectVersion(objNo), indexed.getLatestObjectVersion(objNo));
+            assertEquals(scanned.getLargestObjectVersion(objNo), indexed.getLargestObjectVersion(objNo));
+        }
+        assertEquals(2, indexed.getLatestObjectVersion(3l));
+        assertEquals(0, indexed.getLatestObjectVersion(5l));
+        assertEquals(sp.getObjectEndOffset(6) + 1 + 32, indexed.getFilesize());
+
+        // modifications bypassing the index make it stale, so that it is rebuilt
+        File obj = new File(layout.generateAbsoluteFilePath(fileId), HashStorageLayout.createFileName(9l, 1l, 0l));
+        Thread.sleep(10);
+        assertTrue(obj.createNewFile());
+        indexed = indexLayout.getFileMetadataNoCaching(sp, fileId);
+        assertEquals(9, indexed.getLastObjectNumber());
+        assertEquals(1, indexed.getLatestObjectVersion(9l));
+
+        // deleting the objects removes the index
+        layout.deleteFile(fileId, false);
+        assertFalse(indexFile.exists());
+
+        layout.shutdown();
+        indexLayout.shutdown();
+        scanLayout.shutdown();
+    }
+
     @Test
     public void testSingleFileLayout() throws Exception {
         SingleFileStorageLayout layout = new SingleFileStorageLayout(config, new MetadataCache());
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+
+package org.xtreemfs.test.osd;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.osd.stages.Stage.StageRequest;
+import org.xtreemfs.osd.stages.StorageScheduler;
+import org.xtreemfs.test.TestHelper;
+
+public class StorageSchedulerTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    @Test
+    public void testPerFileOrder() throws Exception {
+        final StorageScheduler scheduler = new StorageScheduler(4, 100000);
+        final int numFiles = 16;
+        final int numRequests = 1000;
+
+        // each request carries its sequence number; a file's requests have to be executed in this order, and
+        // never concurrently
+        final int[] lastSeqNo = new int[numFiles];
+        final AtomicInteger[] active = new AtomicInteger[numFiles];
+        final List<String> errors = Collections.synchronizedList(new ArrayList<String>());
+        final CountDownLatch done = new CountDownLatch(numFiles * numRequests);
+        for (int i = 0; i < numFiles; i++) {
+            lastSeqNo[i] = -1;
+            active[i] = new AtomicInteger();
+        }
+
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < scheduler.getNumThreads(); t++) {
+            final int id = t;
+            Thread th = new Thread() {
+                public void run() {
+                    try {
+                        while (true) {
+                            StageRequest rq = scheduler.take(id);
+                            int file = rq.getStageMethod();
+                            int seqNo = (Integer) rq.getArgs()[0];
+                            if (active[file].incrementAndGet() != 1)
+                                errors.add("concurrent execution for file " + file);
+                            if (lastSeqNo[file] != seqNo - 1)
+                                errors.add("file " + file + ": " + seqNo + " after " + lastSeqNo[file]);
+                            lastSeqNo[file] = seqNo;
+                            active[file].decrementAndGet();
+                            scheduler.complete(id);
+                            done.countDown();
+                        }
+                    } catch (InterruptedException exc) {
+                        // shut down
+                    }
+                }
+            };
+            th.start();
+            threads.add(th);
+        }
+
+        for (int seqNo = 0; seqNo < numRequests; seqNo++)
+            for (int file = 0; file < numFiles; file++)
+                assertTrue(scheduler.enqueue("file" + file, new StageRequest(file, new Object[] { seqNo }, null,
+                        null), true));
+
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        for (Thread th : threads)
+            th.interrupt();
+
+        assertEquals(Collections.emptyList(), errors);
+        assertEquals(0, scheduler.getQueueLength());
+        long taken = 0;
+        for (int t = 0; t < scheduler.getNumThreads(); t++) {
+            assertEquals(0, scheduler.getQueueDepth(t));
+            taken += scheduler.getNumTaken(t);
+        }
+        assertEquals(numFiles * numRequests, taken);
+    }
+
+    @Test
+    public void testWorkStealing() throws Exception {
+        final StorageScheduler scheduler = new StorageScheduler(2, 100);
+
+        // find two files with the same home thread
+        StageRequest rq1 = new StageRequest(1, null, null, null);
+        StageRequest rq2 = new StageRequest(2, null, null, null);
+        scheduler.enqueue("A", rq1, true);
+        int home = -1;
+        for (int t = 0; t < 2; t++)
+            if (scheduler.getQueueDepth(t) == 1)
+                home = t;
+        for (int i = 0;; i++) {
+            scheduler.enqueue("B" + i, rq2, true);
+            if (scheduler.getQueueDepth(home) == 2)
+                break;
+            assertSame(rq2, scheduler.take(1 - home));
+            scheduler.complete(1 - home);
+        }
+
+        // while the home thread is busy with the first file, the other thread takes over the second one
+        assertSame(rq1, scheduler.take(home));
+        assertSame(rq2, scheduler.take(1 - home));
+        assertEquals(1, scheduler.getNumStolen(1 - home));
+        scheduler.complete(1 - home);
+        scheduler.complete(home);
+        assertEquals(0, scheduler.getQueueLength());
+    }
+
+    @Test
+    public void testPoll() throws Exception {
+        StorageScheduler scheduler = new StorageScheduler(1, 100);
+        assertNull(scheduler.poll(0, 0));
+        long t0 = System.nanoTime();
+        assertNull(scheduler.poll(0, TimeUnit.MILLISECONDS.toNanos(20)));
+        assertTrue(System.nanoTime() - t0 >= TimeUnit.MILLISECONDS.toNanos(20));
+
+        StageRequest rq = new StageRequest(0, null, null, null);
+        scheduler.enqueue("A", rq, true);
+        assertSame(rq, scheduler.poll(0, 0));
+        scheduler.complete(0);
+        assertEquals(0, scheduler.getQueueLength());
+    }
+
+    @Test
+    public void testCapacity() throws Exception {
+        StorageScheduler scheduler = new StorageScheduler(1, 2);
+        StageRequest rq = new StageRequest(0, null, null, null);
+        assertTrue(scheduler.enqueue("A", rq, true));
+        assertTrue(scheduler.enqueue("B", rq, true));
+        assertFalse(scheduler.enqueue("C", rq, true));
+
+        // internal requests are never rejected
+        assertTrue(scheduler.enqueue("C", rq, false));
+        assertEquals(3, scheduler.getQueueLength());
+    }
+}
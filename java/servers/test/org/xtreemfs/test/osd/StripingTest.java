@@ -364,7 +364,7 @@ public class StripingTest {
         // shrink the file to a length of one full object
         // ----------------------------------------------
 
-        XCap newCap = fcred.getXcap().toBuilder().setTruncateEpoch(1).build();
+        XCap newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 1, capSecret);
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         RPCResponse<OSDWriteResponse> rt = client.truncate(osdIDs.get(0).getAddress(), RPCAuthentication.authNone,
@@ -396,7 +396,7 @@ public class StripingTest {
         // -------------------------------------------------
         // extend the file to a length of eight full objects
         // -------------------------------------------------
-        newCap = fcred.getXcap().toBuilder().setTruncateEpoch(2).build();
+        newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 2, capSecret);
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         rt = client.truncate(osdIDs.get(0).getAddress(), RPCAuthentication.authNone, RPCAuthentication.userService,
@@ -434,7 +434,7 @@ public class StripingTest {
         // ------------------------------------------
         // shrink the file to a length of 3.5 objects
         // ------------------------------------------
-        newCap = fcred.getXcap().toBuilder().setTruncateEpoch(3).build();
+        newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 3, capSecret);
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         final long size3p5 = (long) (SIZE * 3.5f);
@@ -477,7 +477,7 @@ public class StripingTest {
         // --------------------------------------------------
         // truncate the file to the same length it had before
         // --------------------------------------------------
-        newCap = fcred.getXcap().toBuilder().setTruncateEpoch(4).build();
+        newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 4, capSecret);
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         rt = client.truncate(osdIDs.get(0).getAddress(), RPCAuthentication.authNone, RPCAuthentication.userService,
@@ -519,7 +519,7 @@ public class StripingTest {
         // --------------------------------
         // truncate the file to zero length
         // --------------------------------
-        newCap = fcred.getXcap().toBuilder().setTruncateEpoch(5).build();
+        newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 5, capSecret);
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         rt = client.truncate(osdIDs.get(0).getAddress(), RPCAuthentication.authNone, RPCAuthentication.userService,
@@ -561,7 +561,7 @@ public class StripingTest {
         // ----------------------------------------------
         // extend the file to a length of one full object
         // ----------------------------------------------
-        newCap = fcred.getXcap().toBuilder().setTruncateEpoch(6).build();
+        newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 6, capSecret);
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         rt = client.truncate(osdIDs.get(0).getAddress(), RPCAuthentication.authNone, RPCAuthentication.userService,
@@ -587,7 +587,7 @@ public class StripingTest {
         // ---------------------------------------------
         // shrink the file to a length of half an object
         // ---------------------------------------------
-        newCap = fcred.getXcap().toBuilder().setTruncateEpoch(7).build();
+        newCap = SetupUtils.setTruncateEpoch(fcred.getXcap(), 7, capSecret);
         fcred = fcred.toBuilder().setXcap(newCap).build();
 
         rt = client.truncate(osdIDs.get(0).getAddress(), RPCAuthentication.authNone, RPCAuthentication.userService,
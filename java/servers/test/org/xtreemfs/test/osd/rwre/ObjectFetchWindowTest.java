@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2016 by Zuse Institute Berlin
+ *
+ * Licensed under the BSD License, see LICENSE file for details.
+ *
+ */
+package org.xtreemfs.test.osd.rwre;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.xtreemfs.osd.rwre.ObjectFetchWindow;
+import org.xtreemfs.test.TestHelper;
+
+public class ObjectFetchWindowTest {
+    @Rule
+    public final TestRule testLog = TestHelper.testLog;
+
+    private static final long MS = 1000L * 1000;
+
+    @Test
+    public void testGrowsUpToMaximum() {
+        ObjectFetchWindow window = new ObjectFetchWindow(4, 16, 0, 0);
+        assertEquals(4, window.getWindow());
+
+        // constant latency: the window grows by one per fetch during slow start
+        for (int i = 0; i < 5; i++) {
+            window.fetchCompleted(10 * MS, i * MS);
+        }
+        assertEquals(9, window.getWindow());
+
+        for (int i = 0; i < 100; i++) {
+            window.fetchCompleted(10 * MS, i * MS);
+        }
+        assertEquals(16, window.getWindow());
+    }
+
+    @Test
+    public void testShrinksOnCongestion() {
+        ObjectFetchWindow window = new ObjectFetchWindow(2, 64, 0, 0);
+        for (int i = 0; i < 30; i++) {
+            window.fetchCompleted(10 * MS, i * MS);
+        }
+        assertEquals(32, window.getWindow());
+
+        // latency above twice the base latency shrinks the window once per window of fetches
+        window.fetchCompleted(50 * MS, 31 * MS);
+        assertEquals(24, window.getWindow());
+        window.fetchCompleted(50 * MS, 32 * MS);
+        assertEquals(24, window.getWindow());
+        for (int i = 0; i < 23; i++) {
+            window.fetchCompleted(50 * MS, 33 * MS);
+        }
+        assertEquals(18, window.getWindow());
+
+        // after slow start, the window grows by one per window of fetches
+        for (int i = 0; i < 19; i++) {
+            window.fetchCompleted(10 * MS, 34 * MS);
+        }
+        assertEquals(19, window.getWindow());
+
+        // failures halve the window, but never below the minimum
+        window.fetchFailed();
+        assertEquals(9, window.getWindow());
+        for (int i = 0; i < 10; i++) {
+            window.fetchFailed();
+        }
+        assertEquals(2, window.getWindow());
+    }
+
+    @Test
+    public void testRateCap() {
+        final int objectSize = 128 * 1024;
+        // 1 MiB/s allows 8 objects per second
+        ObjectFetchWindow window = new ObjectFetchWindow(1, 64, 1024 * 1024, 0);
+
+        int fetched = 0;
+        long delayMs = 0;
+        while ((delayMs = window.reserve(objectSize, 0)) == 0) {
+            fetched++;
+        }
+        // the full bucket and a debt of one object
+        assertEquals(9, fetched);
+        assertTrue(delayMs > 0 && delayMs <= 125);
+
+        assertEquals(0, window.reserve(objectSize, delayMs * MS));
+        assertTrue(window.reserve(objectSize, delayMs * MS) > 0);
+
+        // objects larger than the rate can still be fetched
+        ObjectFetchWindow slow = new ObjectFetchWindow(1, 64, 1024, 0);
+        assertEquals(0, slow.reserve(objectSize, 0));
+        assertEquals((objectSize - 1024) * 1000 / 1024, slow.reserve(objectSize, 0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRange() {
+        new ObjectFetchWindow(8, 4, 0, 0);
+    }
+}
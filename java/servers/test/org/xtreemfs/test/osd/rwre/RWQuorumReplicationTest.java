@@ -189,7 +189,7 @@ public class RWQuorumReplicationTest {
         assertEquals(rb.get(1), (byte) 'a');
         r2.freeBuffers();
 
-        XCap newCap = fc.getXcap().toBuilder().setTruncateEpoch(1).build();
+        XCap newCap = SetupUtils.setTruncateEpoch(fc.getXcap(), 1, configs[0].getCapabilitySecret());
         fc = fc.toBuilder().setXcap(newCap).build();
 
         RPCResponse r3 = client.truncate(osd1, RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileId,
@@ -285,7 +285,7 @@ public class RWQuorumReplicationTest {
         assertEquals(rb.get(1), (byte) 'a');
         r2.freeBuffers();
 
-        XCap newCap = fc.getXcap().toBuilder().setTruncateEpoch(1).build();
+        XCap newCap = SetupUtils.setTruncateEpoch(fc.getXcap(), 1, configs[0].getCapabilitySecret());
         fc = fc.toBuilder().setXcap(newCap).build();
 
         RPCResponse r3 = client.truncate(osd1, RPCAuthentication.authNone, RPCAuthentication.userService, fc, fileId,
@@ -222,7 +222,7 @@ public class RWReplicationTest {
         assertEquals(r2.getData().get(1),(byte)'a');
         r2.freeBuffers();
 
-        XCap newCap = fc.getXcap().toBuilder().setTruncateEpoch(1).build();
+        XCap newCap = SetupUtils.setTruncateEpoch(fc.getXcap(), 1, configs[0].getCapabilitySecret());
         fc = fc.toBuilder().setXcap(newCap).build();
 
         RPCResponse r3 = client.truncate(osd1, RPCAuthentication.authNone, RPCAuthentication.userService,